@@ -1,5 +0,0 @@
-package com.example.tradingplatform.apps.streaming;
-
-public final class StreamingApplicationMarker {
-  private StreamingApplicationMarker() {}
-}
@@ -0,0 +1,13 @@
+package com.tradingplatform.streaming;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.kafka.annotation.EnableKafka;
+
+@SpringBootApplication
+@EnableKafka
+public class StreamingApplication {
+  public static void main(String[] args) {
+    SpringApplication.run(StreamingApplication.class, args);
+  }
+}
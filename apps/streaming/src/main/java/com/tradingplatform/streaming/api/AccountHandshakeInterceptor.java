@@ -0,0 +1,39 @@
+package com.tradingplatform.streaming.api;
+
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriComponentsBuilder;
+
+public class AccountHandshakeInterceptor implements HandshakeInterceptor {
+  @Override
+  public boolean beforeHandshake(
+      ServerHttpRequest request,
+      ServerHttpResponse response,
+      WebSocketHandler wsHandler,
+      Map<String, Object> attributes) {
+    String accountId =
+        UriComponentsBuilder.fromUri(request.getURI())
+            .build()
+            .getQueryParams()
+            .getFirst("accountId");
+    try {
+      attributes.put(StreamWebSocketHandler.ACCOUNT_ID_ATTRIBUTE, UUID.fromString(accountId));
+      return true;
+    } catch (IllegalArgumentException | NullPointerException ex) {
+      response.setStatusCode(HttpStatus.BAD_REQUEST);
+      return false;
+    }
+  }
+
+  @Override
+  public void afterHandshake(
+      ServerHttpRequest request,
+      ServerHttpResponse response,
+      WebSocketHandler wsHandler,
+      Exception exception) {}
+}
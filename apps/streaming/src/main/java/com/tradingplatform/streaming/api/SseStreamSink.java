@@ -0,0 +1,29 @@
+package com.tradingplatform.streaming.api;
+
+import com.tradingplatform.streaming.subscription.StreamSink;
+import java.io.IOException;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class SseStreamSink implements StreamSink {
+  private final SseEmitter emitter;
+
+  SseStreamSink(SseEmitter emitter) {
+    this.emitter = emitter;
+  }
+
+  @Override
+  public void send(String type, String json) throws IOException {
+    emitter.send(SseEmitter.event().name(type).data(json, MediaType.APPLICATION_JSON));
+  }
+
+  @Override
+  public void close(String reason) {
+    try {
+      emitter.send(SseEmitter.event().name("close").data(reason));
+    } catch (IOException | IllegalStateException ignored) {
+      // The client is already gone; completing the emitter below is all that is left.
+    }
+    emitter.complete();
+  }
+}
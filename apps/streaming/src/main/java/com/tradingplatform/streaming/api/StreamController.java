@@ -0,0 +1,38 @@
+package com.tradingplatform.streaming.api;
+
+import com.tradingplatform.streaming.subscription.StreamSubscription;
+import com.tradingplatform.streaming.subscription.StreamingProperties;
+import com.tradingplatform.streaming.subscription.SubscriptionRegistry;
+import java.util.UUID;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/v1/stream")
+public class StreamController {
+  private final SubscriptionRegistry subscriptionRegistry;
+  private final StreamingProperties properties;
+
+  public StreamController(
+      SubscriptionRegistry subscriptionRegistry, StreamingProperties properties) {
+    this.subscriptionRegistry = subscriptionRegistry;
+    this.properties = properties;
+  }
+
+  @GetMapping(path = "/sse", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  @PreAuthorize("hasRole('TRADER')")
+  public SseEmitter subscribe(@RequestParam("accountId") UUID accountId) {
+    SseEmitter emitter = new SseEmitter(properties.getSseTimeoutMs());
+    StreamSubscription subscription =
+        subscriptionRegistry.subscribe(accountId, new SseStreamSink(emitter));
+    emitter.onCompletion(() -> subscriptionRegistry.unsubscribe(subscription));
+    emitter.onTimeout(() -> subscriptionRegistry.unsubscribe(subscription));
+    emitter.onError(ex -> subscriptionRegistry.unsubscribe(subscription));
+    return emitter;
+  }
+}
@@ -0,0 +1,43 @@
+package com.tradingplatform.streaming.api;
+
+import com.tradingplatform.streaming.subscription.StreamSubscription;
+import com.tradingplatform.streaming.subscription.SubscriptionRegistry;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+@Component
+public class StreamWebSocketHandler extends TextWebSocketHandler {
+  static final String ACCOUNT_ID_ATTRIBUTE = "streaming.accountId";
+  private static final String SUBSCRIPTION_ATTRIBUTE = "streaming.subscription";
+
+  private final SubscriptionRegistry subscriptionRegistry;
+
+  public StreamWebSocketHandler(SubscriptionRegistry subscriptionRegistry) {
+    this.subscriptionRegistry = subscriptionRegistry;
+  }
+
+  @Override
+  public void afterConnectionEstablished(WebSocketSession session) {
+    UUID accountId = (UUID) session.getAttributes().get(ACCOUNT_ID_ATTRIBUTE);
+    StreamSubscription subscription =
+        subscriptionRegistry.subscribe(accountId, new WebSocketStreamSink(session));
+    session.getAttributes().put(SUBSCRIPTION_ATTRIBUTE, subscription);
+  }
+
+  @Override
+  protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+    // The stream is server-push only; inbound frames are ignored.
+  }
+
+  @Override
+  public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+    Object subscription = session.getAttributes().get(SUBSCRIPTION_ATTRIBUTE);
+    if (subscription instanceof StreamSubscription streamSubscription) {
+      subscriptionRegistry.unsubscribe(streamSubscription);
+    }
+  }
+}
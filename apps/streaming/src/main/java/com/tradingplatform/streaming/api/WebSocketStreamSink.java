@@ -0,0 +1,29 @@
+package com.tradingplatform.streaming.api;
+
+import com.tradingplatform.streaming.subscription.StreamSink;
+import java.io.IOException;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+class WebSocketStreamSink implements StreamSink {
+  private final WebSocketSession session;
+
+  WebSocketStreamSink(WebSocketSession session) {
+    this.session = session;
+  }
+
+  @Override
+  public void send(String type, String json) throws IOException {
+    session.sendMessage(new TextMessage(json));
+  }
+
+  @Override
+  public void close(String reason) {
+    try {
+      session.close(CloseStatus.POLICY_VIOLATION.withReason(reason));
+    } catch (IOException ignored) {
+      // Session is already closed by the peer.
+    }
+  }
+}
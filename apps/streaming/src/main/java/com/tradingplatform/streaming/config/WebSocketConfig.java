@@ -0,0 +1,30 @@
+package com.tradingplatform.streaming.config;
+
+import com.tradingplatform.streaming.api.AccountHandshakeInterceptor;
+import com.tradingplatform.streaming.api.StreamWebSocketHandler;
+import com.tradingplatform.streaming.subscription.StreamingProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+@Configuration
+@EnableWebSocket
+public class WebSocketConfig implements WebSocketConfigurer {
+  private final StreamWebSocketHandler streamWebSocketHandler;
+  private final StreamingProperties properties;
+
+  public WebSocketConfig(
+      StreamWebSocketHandler streamWebSocketHandler, StreamingProperties properties) {
+    this.streamWebSocketHandler = streamWebSocketHandler;
+    this.properties = properties;
+  }
+
+  @Override
+  public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+    registry
+        .addHandler(streamWebSocketHandler, "/v1/stream/ws")
+        .addInterceptors(new AccountHandshakeInterceptor())
+        .setAllowedOriginPatterns(properties.getAllowedOriginPatterns().toArray(String[]::new));
+  }
+}
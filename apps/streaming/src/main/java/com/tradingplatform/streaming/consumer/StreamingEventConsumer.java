@@ -0,0 +1,102 @@
+package com.tradingplatform.streaming.consumer;
+
+import com.tradingplatform.infra.kafka.consumer.EventConsumerAdapter;
+import com.tradingplatform.infra.kafka.contract.EventEnvelope;
+import com.tradingplatform.infra.kafka.contract.EventTypes;
+import com.tradingplatform.infra.kafka.contract.payload.BalanceUpdatedV1;
+import com.tradingplatform.infra.kafka.contract.payload.ExecutionRecordedV1;
+import com.tradingplatform.infra.kafka.contract.payload.OrderUpdatedV2;
+import com.tradingplatform.infra.kafka.errors.DeadLetterPublisher;
+import com.tradingplatform.infra.kafka.errors.RetryPolicy;
+import com.tradingplatform.infra.kafka.observability.KafkaTelemetry;
+import com.tradingplatform.infra.kafka.serde.EventEnvelopeCodecs;
+import com.tradingplatform.infra.kafka.topics.TopicNames;
+import com.tradingplatform.streaming.subscription.StreamMessage;
+import com.tradingplatform.streaming.subscription.SubscriptionRegistry;
+import java.util.UUID;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+// Subscriptions live in memory on each instance, so every instance needs every event: the group
+// id is unique per process and consumption starts at the latest offset. Clients recover missed
+// history from the snapshot sent on (re)subscribe.
+@Component
+public class StreamingEventConsumer {
+  private final SubscriptionRegistry subscriptionRegistry;
+  private final EventConsumerAdapter<OrderUpdatedV2> orderAdapter;
+  private final EventConsumerAdapter<ExecutionRecordedV1> executionAdapter;
+  private final EventConsumerAdapter<BalanceUpdatedV1> balanceAdapter;
+
+  public StreamingEventConsumer(
+      EventEnvelopeCodecs codecs,
+      DeadLetterPublisher deadLetterPublisher,
+      RetryPolicy retryPolicy,
+      KafkaTelemetry telemetry,
+      SubscriptionRegistry subscriptionRegistry) {
+    this.subscriptionRegistry = subscriptionRegistry;
+    this.orderAdapter =
+        new EventConsumerAdapter<>(
+            OrderUpdatedV2.class,
+            EventTypes.ORDER_UPDATED,
+            2,
+            codecs,
+            envelope -> publish(StreamMessage.ORDER, envelope, envelope.payload().accountId()),
+            deadLetterPublisher,
+            retryPolicy,
+            telemetry);
+    this.executionAdapter =
+        new EventConsumerAdapter<>(
+            ExecutionRecordedV1.class,
+            EventTypes.EXECUTION_RECORDED,
+            1,
+            codecs,
+            envelope -> publish(StreamMessage.EXECUTION, envelope, envelope.payload().accountId()),
+            deadLetterPublisher,
+            retryPolicy,
+            telemetry);
+    this.balanceAdapter =
+        new EventConsumerAdapter<>(
+            BalanceUpdatedV1.class,
+            EventTypes.BALANCE_UPDATED,
+            1,
+            codecs,
+            envelope -> publish(StreamMessage.BALANCE, envelope, envelope.payload().accountId()),
+            deadLetterPublisher,
+            retryPolicy,
+            telemetry);
+  }
+
+  @KafkaListener(
+      topics = {
+        TopicNames.ORDERS_UPDATED_V2,
+        TopicNames.EXECUTIONS_RECORDED_V1,
+        TopicNames.BALANCES_UPDATED_V1
+      },
+      groupId = "${streaming.consumer.group-id:cg-streaming-${random.uuid}}",
+      containerFactory = "infraKafkaListenerContainerFactory",
+      properties = "auto.offset.reset=latest")
+  public void onMessage(ConsumerRecord<String, byte[]> record, Acknowledgment ack) {
+    switch (record.topic()) {
+      case TopicNames.ORDERS_UPDATED_V2 -> orderAdapter.process(record, 1);
+      case TopicNames.EXECUTIONS_RECORDED_V1 -> executionAdapter.process(record, 1);
+      case TopicNames.BALANCES_UPDATED_V1 -> balanceAdapter.process(record, 1);
+      default -> throw new IllegalStateException("Unexpected topic: " + record.topic());
+    }
+    ack.acknowledge();
+  }
+
+  private void publish(String type, EventEnvelope<?> envelope, String accountId) {
+    if (accountId == null || accountId.isBlank()) {
+      throw new IllegalArgumentException("Event payload is missing accountId");
+    }
+    subscriptionRegistry.publish(
+        new StreamMessage(
+            type,
+            UUID.fromString(accountId),
+            envelope.eventId().toString(),
+            envelope.occurredAt(),
+            envelope.payload()));
+  }
+}
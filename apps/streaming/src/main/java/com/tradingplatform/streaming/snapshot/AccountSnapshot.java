@@ -0,0 +1,30 @@
+package com.tradingplatform.streaming.snapshot;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public record AccountSnapshot(
+    UUID accountId,
+    List<Balance> balances,
+    List<Position> positions,
+    List<OpenOrder> openOrders,
+    Instant asOf) {
+
+  public record Balance(String asset, BigDecimal available, BigDecimal reserved) {}
+
+  public record Position(
+      String symbol, BigDecimal netQty, BigDecimal avgEntryPrice, BigDecimal realizedPnl) {}
+
+  public record OpenOrder(
+      UUID orderId,
+      String instrument,
+      String side,
+      String type,
+      String status,
+      BigDecimal qty,
+      BigDecimal price,
+      BigDecimal filledQty,
+      Instant updatedAt) {}
+}
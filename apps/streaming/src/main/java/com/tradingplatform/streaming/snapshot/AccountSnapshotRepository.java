@@ -0,0 +1,7 @@
+package com.tradingplatform.streaming.snapshot;
+
+import java.util.UUID;
+
+public interface AccountSnapshotRepository {
+  AccountSnapshot load(UUID accountId, int openOrdersLimit);
+}
@@ -0,0 +1,84 @@
+package com.tradingplatform.streaming.snapshot;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class JdbcAccountSnapshotRepository implements AccountSnapshotRepository {
+  private final JdbcTemplate jdbcTemplate;
+
+  public JdbcAccountSnapshotRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public AccountSnapshot load(UUID accountId, int openOrdersLimit) {
+    Instant asOf = Instant.now();
+    List<AccountSnapshot.Balance> balances =
+        jdbcTemplate.query(
+            """
+            SELECT asset, available, reserved
+            FROM wallet_balances_consolidated
+            WHERE account_id = ?
+            ORDER BY asset ASC
+            """,
+            (rs, rowNum) ->
+                new AccountSnapshot.Balance(
+                    rs.getString("asset"),
+                    rs.getBigDecimal("available"),
+                    rs.getBigDecimal("reserved")),
+            accountId);
+    List<AccountSnapshot.Position> positions =
+        jdbcTemplate.query(
+            """
+            SELECT instrument, net_qty, avg_entry_price, realized_pnl
+            FROM account_positions
+            WHERE account_id = ?
+              AND net_qty <> 0
+            ORDER BY instrument ASC
+            """,
+            (rs, rowNum) ->
+                new AccountSnapshot.Position(
+                    rs.getString("instrument"),
+                    rs.getBigDecimal("net_qty"),
+                    rs.getBigDecimal("avg_entry_price"),
+                    rs.getBigDecimal("realized_pnl")),
+            accountId);
+    List<AccountSnapshot.OpenOrder> openOrders =
+        jdbcTemplate.query(
+            """
+            SELECT id, instrument, side, type, status, qty, price, filled_qty, updated_at
+            FROM orders
+            WHERE account_id = ?
+              AND status IN ('NEW', 'ACK', 'PARTIALLY_FILLED')
+            ORDER BY created_at DESC, id DESC
+            LIMIT ?
+            """,
+            this::mapOpenOrder,
+            accountId,
+            Math.max(openOrdersLimit, 0));
+    return new AccountSnapshot(accountId, balances, positions, openOrders, asOf);
+  }
+
+  private AccountSnapshot.OpenOrder mapOpenOrder(ResultSet rs, int rowNum) throws SQLException {
+    Timestamp updatedAt = rs.getTimestamp("updated_at");
+    return new AccountSnapshot.OpenOrder(
+        rs.getObject("id", UUID.class),
+        rs.getString("instrument"),
+        rs.getString("side"),
+        rs.getString("type"),
+        rs.getString("status"),
+        rs.getBigDecimal("qty"),
+        rs.getBigDecimal("price"),
+        rs.getBigDecimal("filled_qty"),
+        updatedAt == null ? null : updatedAt.toInstant());
+  }
+}
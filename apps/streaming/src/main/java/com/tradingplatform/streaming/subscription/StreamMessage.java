@@ -0,0 +1,12 @@
+package com.tradingplatform.streaming.subscription;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record StreamMessage(
+    String type, UUID accountId, String eventId, Instant occurredAt, Object data) {
+  public static final String SNAPSHOT = "snapshot";
+  public static final String ORDER = "order";
+  public static final String EXECUTION = "execution";
+  public static final String BALANCE = "balance";
+}
@@ -0,0 +1,33 @@
+package com.tradingplatform.streaming.subscription;
+
+import com.tradingplatform.infra.kafka.conflation.ConflationPolicies;
+import com.tradingplatform.infra.kafka.conflation.ConflationPolicy;
+import com.tradingplatform.infra.kafka.contract.payload.BalanceUpdatedV1;
+import com.tradingplatform.infra.kafka.contract.payload.OrderUpdatedV2;
+import java.util.List;
+
+// Orders conflate per order id and balances per asset; executions are facts rather than state,
+// so they have no key and are always delivered one by one.
+final class StreamMessageConflation {
+  private static final ConflationPolicy<OrderUpdatedV2> ORDERS =
+      ConflationPolicies.orderUpdatedV2();
+  private static final ConflationPolicy<BalanceUpdatedV1> BALANCES =
+      ConflationPolicies.balanceUpdatedV1();
+
+  static final ConflationPolicy<StreamMessage> POLICY =
+      ConflationPolicy.of(StreamMessageConflation::key, StreamMessageConflation::isTerminal);
+
+  private StreamMessageConflation() {}
+
+  private static Object key(StreamMessage message) {
+    return switch (message.data()) {
+      case OrderUpdatedV2 update -> List.of(StreamMessage.ORDER, ORDERS.key(update));
+      case BalanceUpdatedV1 update -> List.of(StreamMessage.BALANCE, BALANCES.key(update));
+      default -> null;
+    };
+  }
+
+  private static boolean isTerminal(StreamMessage message) {
+    return message.data() instanceof OrderUpdatedV2 update && ORDERS.isTerminal(update);
+  }
+}
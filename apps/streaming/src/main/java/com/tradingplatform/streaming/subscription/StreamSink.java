@@ -0,0 +1,9 @@
+package com.tradingplatform.streaming.subscription;
+
+import java.io.IOException;
+
+public interface StreamSink {
+  void send(String type, String json) throws IOException;
+
+  void close(String reason);
+}
@@ -0,0 +1,60 @@
+package com.tradingplatform.streaming.subscription;
+
+import com.tradingplatform.infra.kafka.conflation.ConflationQueue;
+import com.tradingplatform.infra.kafka.conflation.OfferResult;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public final class StreamSubscription {
+  private final UUID id = UUID.randomUUID();
+  private final UUID accountId;
+  private final StreamSink sink;
+  private final ConflationQueue<StreamMessage> queue;
+  private final AtomicBoolean closed = new AtomicBoolean();
+
+  StreamSubscription(UUID accountId, StreamSink sink, int queueCapacity) {
+    if (queueCapacity <= 0) {
+      throw new IllegalArgumentException("queueCapacity must be positive");
+    }
+    this.accountId = accountId;
+    this.sink = sink;
+    this.queue = new ConflationQueue<>(StreamMessageConflation.POLICY, queueCapacity);
+  }
+
+  public UUID id() {
+    return id;
+  }
+
+  public UUID accountId() {
+    return accountId;
+  }
+
+  StreamSink sink() {
+    return sink;
+  }
+
+  OfferResult offer(StreamMessage message) {
+    return closed.get() ? OfferResult.REJECTED : queue.offer(message);
+  }
+
+  StreamMessage poll(long timeoutMs) throws InterruptedException {
+    return queue.poll(timeoutMs, TimeUnit.MILLISECONDS);
+  }
+
+  StreamMessage poll() {
+    return queue.poll();
+  }
+
+  boolean isClosed() {
+    return closed.get();
+  }
+
+  boolean markClosed() {
+    if (closed.compareAndSet(false, true)) {
+      queue.clear();
+      return true;
+    }
+    return false;
+  }
+}
@@ -0,0 +1,55 @@
+package com.tradingplatform.streaming.subscription;
+
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "streaming")
+public class StreamingProperties {
+  private int queueCapacity = 256;
+  private long sseTimeoutMs = 1_800_000L;
+  private int snapshotOpenOrdersLimit = 200;
+  private long conflationWindowMs = 0L;
+  private List<String> allowedOriginPatterns = List.of("*");
+
+  public int getQueueCapacity() {
+    return queueCapacity;
+  }
+
+  public void setQueueCapacity(int queueCapacity) {
+    this.queueCapacity = queueCapacity;
+  }
+
+  public long getSseTimeoutMs() {
+    return sseTimeoutMs;
+  }
+
+  public void setSseTimeoutMs(long sseTimeoutMs) {
+    this.sseTimeoutMs = sseTimeoutMs;
+  }
+
+  public int getSnapshotOpenOrdersLimit() {
+    return snapshotOpenOrdersLimit;
+  }
+
+  public void setSnapshotOpenOrdersLimit(int snapshotOpenOrdersLimit) {
+    this.snapshotOpenOrdersLimit = snapshotOpenOrdersLimit;
+  }
+
+  public long getConflationWindowMs() {
+    return conflationWindowMs;
+  }
+
+  public void setConflationWindowMs(long conflationWindowMs) {
+    this.conflationWindowMs = conflationWindowMs;
+  }
+
+  public List<String> getAllowedOriginPatterns() {
+    return allowedOriginPatterns;
+  }
+
+  public void setAllowedOriginPatterns(List<String> allowedOriginPatterns) {
+    this.allowedOriginPatterns = allowedOriginPatterns;
+  }
+}
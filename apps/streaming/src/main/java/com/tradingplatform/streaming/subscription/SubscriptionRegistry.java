@@ -0,0 +1,184 @@
+package com.tradingplatform.streaming.subscription;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tradingplatform.infra.kafka.conflation.OfferResult;
+import com.tradingplatform.streaming.snapshot.AccountSnapshot;
+import com.tradingplatform.streaming.snapshot.AccountSnapshotRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SubscriptionRegistry {
+  static final String SLOW_CONSUMER = "slow consumer";
+
+  private static final Logger log = LoggerFactory.getLogger(SubscriptionRegistry.class);
+  private static final long POLL_TIMEOUT_MS = 500L;
+
+  private final Map<UUID, Set<StreamSubscription>> subscriptionsByAccount =
+      new ConcurrentHashMap<>();
+  private final AtomicInteger activeSubscriptions = new AtomicInteger();
+  private final AccountSnapshotRepository snapshotRepository;
+  private final StreamingProperties properties;
+  private final ObjectMapper objectMapper;
+  private final ExecutorService deliveryExecutor;
+  private final Counter evictedCounter;
+  private final Counter deliveredCounter;
+  private final Counter conflatedCounter;
+
+  @Autowired
+  public SubscriptionRegistry(
+      AccountSnapshotRepository snapshotRepository,
+      StreamingProperties properties,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry) {
+    this(
+        snapshotRepository,
+        properties,
+        objectMapper,
+        meterRegistry,
+        Executors.newVirtualThreadPerTaskExecutor());
+  }
+
+  SubscriptionRegistry(
+      AccountSnapshotRepository snapshotRepository,
+      StreamingProperties properties,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      ExecutorService deliveryExecutor) {
+    this.snapshotRepository = snapshotRepository;
+    this.properties = properties;
+    this.objectMapper = objectMapper;
+    this.deliveryExecutor = deliveryExecutor;
+    this.evictedCounter = meterRegistry.counter("streaming.subscriptions.evicted");
+    this.deliveredCounter = meterRegistry.counter("streaming.messages.delivered");
+    this.conflatedCounter = meterRegistry.counter("streaming.messages.conflated");
+    Gauge.builder("streaming.subscriptions.active", activeSubscriptions, AtomicInteger::get)
+        .register(meterRegistry);
+  }
+
+  public StreamSubscription subscribe(UUID accountId, StreamSink sink) {
+    StreamSubscription subscription =
+        new StreamSubscription(accountId, sink, properties.getQueueCapacity());
+    // Register before loading the snapshot so no delta published in between is lost; deltas
+    // that overlap the snapshot are harmless because every event carries absolute state.
+    subscriptionsByAccount.compute(
+        accountId,
+        (key, existing) -> {
+          Set<StreamSubscription> subscriptions =
+              existing == null ? ConcurrentHashMap.newKeySet() : existing;
+          subscriptions.add(subscription);
+          return subscriptions;
+        });
+    activeSubscriptions.incrementAndGet();
+    deliveryExecutor.execute(() -> deliver(subscription));
+    return subscription;
+  }
+
+  public void publish(StreamMessage message) {
+    Set<StreamSubscription> subscriptions = subscriptionsByAccount.get(message.accountId());
+    if (subscriptions == null) {
+      return;
+    }
+    for (StreamSubscription subscription : subscriptions) {
+      OfferResult result = subscription.offer(message);
+      if (result == OfferResult.CONFLATED) {
+        conflatedCounter.increment();
+      } else if (result == OfferResult.REJECTED) {
+        remove(subscription, SLOW_CONSUMER);
+      }
+    }
+  }
+
+  public void unsubscribe(StreamSubscription subscription) {
+    remove(subscription, null);
+  }
+
+  public int activeSubscriptions() {
+    return activeSubscriptions.get();
+  }
+
+  @PreDestroy
+  void shutdown() {
+    subscriptionsByAccount.values().stream()
+        .flatMap(Set::stream)
+        .toList()
+        .forEach(subscription -> remove(subscription, "server shutdown"));
+    deliveryExecutor.shutdownNow();
+  }
+
+  private void deliver(StreamSubscription subscription) {
+    try {
+      AccountSnapshot snapshot =
+          snapshotRepository.load(
+              subscription.accountId(), properties.getSnapshotOpenOrdersLimit());
+      send(
+          subscription,
+          new StreamMessage(
+              StreamMessage.SNAPSHOT, subscription.accountId(), null, snapshot.asOf(), snapshot));
+      long conflationWindowMs = properties.getConflationWindowMs();
+      while (!subscription.isClosed()) {
+        StreamMessage message = subscription.poll(POLL_TIMEOUT_MS);
+        while (message != null) {
+          send(subscription, message);
+          message = subscription.poll();
+        }
+        if (conflationWindowMs > 0L) {
+          // Updates landing while we wait collapse to their latest state per key.
+          Thread.sleep(conflationWindowMs);
+        }
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      remove(subscription, "interrupted");
+    } catch (IOException | RuntimeException ex) {
+      log.info(
+          "Stream delivery stopped subscriptionId={} accountId={} reason={}",
+          subscription.id(),
+          subscription.accountId(),
+          ex.getMessage());
+      remove(subscription, "delivery failed");
+    }
+  }
+
+  private void send(StreamSubscription subscription, StreamMessage message) throws IOException {
+    subscription.sink().send(message.type(), objectMapper.writeValueAsString(message));
+    deliveredCounter.increment();
+  }
+
+  private void remove(StreamSubscription subscription, String reason) {
+    if (!subscription.markClosed()) {
+      return;
+    }
+    subscriptionsByAccount.computeIfPresent(
+        subscription.accountId(),
+        (key, subscriptions) -> {
+          subscriptions.remove(subscription);
+          return subscriptions.isEmpty() ? null : subscriptions;
+        });
+    activeSubscriptions.decrementAndGet();
+    if (SLOW_CONSUMER.equals(reason)) {
+      evictedCounter.increment();
+      log.warn(
+          "Evicted slow stream consumer subscriptionId={} accountId={}",
+          subscription.id(),
+          subscription.accountId());
+    }
+    if (reason != null) {
+      subscription.sink().close(reason);
+    }
+  }
+}
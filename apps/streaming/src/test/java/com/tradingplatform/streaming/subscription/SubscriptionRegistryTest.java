@@ -0,0 +1,161 @@
+package com.tradingplatform.streaming.subscription;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tradingplatform.infra.kafka.contract.payload.OrderUpdatedV2;
+import com.tradingplatform.streaming.snapshot.AccountSnapshot;
+import com.tradingplatform.streaming.snapshot.AccountSnapshotRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SubscriptionRegistryTest {
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private StreamingProperties properties;
+  private SubscriptionRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    AccountSnapshotRepository snapshotRepository = mock(AccountSnapshotRepository.class);
+    when(snapshotRepository.load(any(UUID.class), anyInt()))
+        .thenAnswer(
+            invocation ->
+                new AccountSnapshot(
+                    invocation.getArgument(0), List.of(), List.of(), List.of(), Instant.now()));
+    properties = new StreamingProperties();
+    properties.setQueueCapacity(2);
+    registry =
+        new SubscriptionRegistry(
+            snapshotRepository,
+            properties,
+            new ObjectMapper().findAndRegisterModules(),
+            meterRegistry,
+            Executors.newVirtualThreadPerTaskExecutor());
+  }
+
+  @AfterEach
+  void tearDown() {
+    registry.shutdown();
+  }
+
+  @Test
+  void shouldSendSnapshotBeforeDeltasAndOnlyForSubscribedAccount() throws Exception {
+    UUID accountId = UUID.randomUUID();
+    RecordingSink sink = new RecordingSink(2);
+    registry.subscribe(accountId, sink);
+
+    registry.publish(message(UUID.randomUUID()));
+    registry.publish(message(accountId));
+
+    assertTrue(sink.received.await(5, TimeUnit.SECONDS));
+    assertEquals(List.of(StreamMessage.SNAPSHOT, StreamMessage.ORDER), sink.types);
+  }
+
+  @Test
+  void shouldEvictSubscriptionWhoseQueueOverflows() throws Exception {
+    UUID accountId = UUID.randomUUID();
+    CountDownLatch release = new CountDownLatch(1);
+    RecordingSink sink = new RecordingSink(1, release);
+    registry.subscribe(accountId, sink);
+    assertTrue(sink.received.await(5, TimeUnit.SECONDS));
+
+    for (int i = 0; i <= properties.getQueueCapacity(); i++) {
+      registry.publish(message(accountId));
+    }
+    release.countDown();
+
+    assertEquals(SubscriptionRegistry.SLOW_CONSUMER, sink.closeReason);
+    assertEquals(0, registry.activeSubscriptions());
+    assertEquals(1.0, meterRegistry.counter("streaming.subscriptions.evicted").count());
+  }
+
+  @Test
+  void shouldConflateOrderUpdatesWhileSubscriberIsBusy() throws Exception {
+    UUID accountId = UUID.randomUUID();
+    CountDownLatch release = new CountDownLatch(1);
+    RecordingSink sink = new RecordingSink(2, release);
+    registry.subscribe(accountId, sink);
+
+    registry.publish(orderUpdate(accountId, "PARTIALLY_FILLED"));
+    registry.publish(orderUpdate(accountId, "PARTIALLY_FILLED"));
+    registry.publish(orderUpdate(accountId, "FILLED"));
+    release.countDown();
+
+    assertTrue(sink.received.await(5, TimeUnit.SECONDS));
+    assertEquals(2, sink.types.size());
+    assertEquals(2.0, meterRegistry.counter("streaming.messages.conflated").count());
+    assertTrue(sink.payloads.get(1).contains("\"FILLED\""));
+  }
+
+  private static StreamMessage orderUpdate(UUID accountId, String status) {
+    return new StreamMessage(
+        StreamMessage.ORDER,
+        accountId,
+        UUID.randomUUID().toString(),
+        Instant.now(),
+        new OrderUpdatedV2(
+            "order-1",
+            accountId.toString(),
+            status,
+            BigDecimal.ONE,
+            BigDecimal.ZERO,
+            "BINANCE",
+            null,
+            null,
+            Instant.now()));
+  }
+
+  private static StreamMessage message(UUID accountId) {
+    return new StreamMessage(
+        StreamMessage.ORDER, accountId, UUID.randomUUID().toString(), Instant.now(), "payload");
+  }
+
+  private static final class RecordingSink implements StreamSink {
+    private final List<String> types = new CopyOnWriteArrayList<>();
+    private final List<String> payloads = new CopyOnWriteArrayList<>();
+    private final CountDownLatch received;
+    private final CountDownLatch release;
+    private volatile String closeReason;
+
+    private RecordingSink(int expected) {
+      this(expected, new CountDownLatch(0));
+    }
+
+    private RecordingSink(int expected, CountDownLatch release) {
+      this.received = new CountDownLatch(expected);
+      this.release = release;
+    }
+
+    @Override
+    public void send(String type, String json) {
+      types.add(type);
+      payloads.add(json);
+      received.countDown();
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    @Override
+    public void close(String reason) {
+      closeReason = reason;
+    }
+  }
+}
@@ -57,15 +57,26 @@ public class FundingAdjustmentService {
       if (current == null) {
         throw new InsufficientBalanceException(accountId, normalizedAsset, amount, BigDecimal.ZERO);
       }
-      if (current.available().compareTo(amount) < 0) {
-        throw new InsufficientBalanceException(
-            accountId, normalizedAsset, amount, current.available());
+      BigDecimal available = current.available();
+      if (available.compareTo(amount) < 0) {
+        available = available.add(walletRepository.drainStripes(accountId, normalizedAsset));
       }
-      newAvailable = current.available().subtract(amount);
+      if (available.compareTo(amount) < 0) {
+        throw new InsufficientBalanceException(accountId, normalizedAsset, amount, available);
+      }
+      newAvailable = available.subtract(amount);
       newReserved = current.reserved();
       walletRepository.updateBalance(accountId, normalizedAsset, newAvailable, newReserved);
     }
 
+    // Striped wallets report the sum over all stripes, not just the row adjusted here.
+    WalletBalance consolidated =
+        walletRepository.findConsolidatedBalance(accountId, normalizedAsset).orElse(null);
+    if (consolidated != null) {
+      newAvailable = consolidated.available();
+      newReserved = consolidated.reserved();
+    }
+
     BalanceUpdatedV1 eventPayload =
         new BalanceUpdatedV1(
             accountId.toString(),
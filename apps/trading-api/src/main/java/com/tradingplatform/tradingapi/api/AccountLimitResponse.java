@@ -6,12 +6,24 @@ import java.time.Instant;
 import java.util.UUID;
 
 public record AccountLimitResponse(
-    UUID accountId, BigDecimal maxOrderNotional, int priceBandBps, String updatedBy, Instant updatedAt) {
+    UUID accountId,
+    BigDecimal maxOrderNotional,
+    int priceBandBps,
+    Integer maxOpenOrders,
+    BigDecimal maxPosition,
+    BigDecimal maxOpenNotional,
+    Integer maxOrdersPerSecond,
+    String updatedBy,
+    Instant updatedAt) {
   public static AccountLimitResponse from(AccountLimitConfig config) {
     return new AccountLimitResponse(
         config.accountId(),
         config.maxOrderNotional(),
         config.priceBandBps(),
+        config.exposureLimits().maxOpenOrders(),
+        config.exposureLimits().maxPosition(),
+        config.exposureLimits().maxOpenNotional(),
+        config.exposureLimits().maxOrdersPerSecond(),
         config.updatedBy(),
         config.updatedAt());
   }
@@ -0,0 +1,52 @@
+package com.tradingplatform.tradingapi.api;
+
+import com.tradingplatform.tradingapi.latency.OrderLatencyQueryService;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/v1/admin/orders/latency")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminOrderLatencyController {
+  private static final int MAX_LIMIT = 200;
+  private static final long MAX_WINDOW_MINUTES = 7L * 24L * 60L;
+
+  private final OrderLatencyQueryService orderLatencyQueryService;
+  private final Clock clock;
+
+  @Autowired
+  public AdminOrderLatencyController(OrderLatencyQueryService orderLatencyQueryService) {
+    this(orderLatencyQueryService, Clock.systemUTC());
+  }
+
+  AdminOrderLatencyController(OrderLatencyQueryService orderLatencyQueryService, Clock clock) {
+    this.orderLatencyQueryService = orderLatencyQueryService;
+    this.clock = clock;
+  }
+
+  @GetMapping("/slowest")
+  public SlowOrdersResponse slowest(
+      @RequestParam(name = "windowMinutes", defaultValue = "60") long windowMinutes,
+      @RequestParam(name = "limit", defaultValue = "20") int limit) {
+    if (windowMinutes < 1 || windowMinutes > MAX_WINDOW_MINUTES) {
+      throw new IllegalArgumentException(
+          "windowMinutes must be between 1 and " + MAX_WINDOW_MINUTES);
+    }
+    if (limit < 1 || limit > MAX_LIMIT) {
+      throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+    }
+    Instant since = clock.instant().minus(Duration.ofMinutes(windowMinutes));
+    return new SlowOrdersResponse(
+        since,
+        orderLatencyQueryService.findSlowest(since, limit).stream()
+            .map(SlowOrderResponse::from)
+            .toList());
+  }
+}
@@ -3,6 +3,7 @@ package com.tradingplatform.tradingapi.api;
 import com.tradingplatform.tradingapi.ledger.AdminFundingService;
 import com.tradingplatform.tradingapi.ledger.FundingDirection;
 import com.tradingplatform.tradingapi.risk.AccountLimitService;
+import com.tradingplatform.tradingapi.risk.ExposureLimits;
 import com.tradingplatform.tradingapi.risk.TradingControlService;
 import jakarta.validation.Valid;
 import java.util.UUID;
@@ -47,7 +48,15 @@ public class AdminSampleController {
       Authentication authentication) {
     return AccountLimitResponse.from(
         accountLimitService.upsert(
-            accountId, request.maxOrderNotional(), request.priceBandBps(), actor(authentication)));
+            accountId,
+            request.maxOrderNotional(),
+            request.priceBandBps(),
+            new ExposureLimits(
+                request.maxOpenOrders(),
+                request.maxPosition(),
+                request.maxOpenNotional(),
+                request.maxOrdersPerSecond()),
+            actor(authentication)));
   }
 
   @PutMapping("/trading/freeze")
@@ -27,14 +27,27 @@ public class ExecutionController {
       @RequestParam("accountId") UUID accountId,
       @RequestParam(name = "orderId", required = false) UUID orderId,
       @RequestParam(name = "symbol", required = false) String symbol,
-      @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+      @RequestParam(name = "from", required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
           Instant from,
-      @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+      @RequestParam(name = "to", required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
           Instant to,
       @RequestParam(name = "page", defaultValue = "0") int page,
-      @RequestParam(name = "size", defaultValue = "20") int size) {
+      @RequestParam(name = "size", defaultValue = "20") int size,
+      @RequestParam(name = "cursor", required = false) String cursor,
+      @RequestParam(name = "includeTotal", required = false) Boolean includeTotal) {
     ExecutionQueryService.ExecutionPage executionPage =
-        executionQueryService.listExecutions(accountId, orderId, symbol, from, to, page, size);
+        executionQueryService.listExecutions(
+            accountId,
+            orderId,
+            symbol,
+            from,
+            to,
+            page,
+            size,
+            cursor,
+            includeTotal != null ? includeTotal : cursor == null);
     List<ExecutionResponse> responses =
         executionPage.executions().stream().map(ExecutionResponse::from).toList();
     return ResponseEntity.ok(
@@ -43,6 +56,7 @@ public class ExecutionController {
             executionPage.page(),
             executionPage.size(),
             executionPage.totalElements(),
-            executionPage.totalPages()));
+            executionPage.totalPages(),
+            executionPage.nextCursor()));
   }
 }
@@ -3,4 +3,9 @@ package com.tradingplatform.tradingapi.api;
 import java.util.List;
 
 public record ExecutionsPageResponse(
-    List<ExecutionResponse> executions, int page, int size, long totalElements, int totalPages) {}
+    List<ExecutionResponse> executions,
+    Integer page,
+    int size,
+    Long totalElements,
+    Integer totalPages,
+    String nextCursor) {}
@@ -0,0 +1,23 @@
+package com.tradingplatform.tradingapi.api;
+
+import com.tradingplatform.domain.instruments.marketdata.TopOfBookCache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/v1")
+public class MarketDataController {
+  private final TopOfBookCache topOfBookCache;
+
+  public MarketDataController(TopOfBookCache topOfBookCache) {
+    this.topOfBookCache = topOfBookCache;
+  }
+
+  @GetMapping("/instruments/{symbol}/quote")
+  public ResponseEntity<QuoteResponse> getQuote(@PathVariable("symbol") String symbol) {
+    return ResponseEntity.of(topOfBookCache.find(symbol).map(QuoteResponse::from));
+  }
+}
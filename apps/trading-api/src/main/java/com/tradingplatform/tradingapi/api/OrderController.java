@@ -1,10 +1,14 @@
 package com.tradingplatform.tradingapi.api;
 
 import com.tradingplatform.domain.orders.Order;
+import com.tradingplatform.infra.kafka.contract.OrderStages;
+import com.tradingplatform.infra.kafka.observability.StageLatencyRecorder;
+import com.tradingplatform.infra.kafka.observability.StageTrace;
 import com.tradingplatform.tradingapi.orders.CancelOrderCommand;
 import com.tradingplatform.tradingapi.orders.CreateOrderCommand;
 import com.tradingplatform.tradingapi.orders.OrderApplicationService;
 import com.tradingplatform.tradingapi.orders.OrderCreateUseCase;
+import com.tradingplatform.tradingapi.pagination.SeekCursor;
 import jakarta.validation.Valid;
 import java.time.Instant;
 import java.util.List;
@@ -24,11 +28,15 @@ import org.springframework.web.bind.annotation.RestController;
 public class OrderController {
   private final OrderCreateUseCase orderCreateUseCase;
   private final OrderApplicationService orderApplicationService;
+  private final StageLatencyRecorder stageLatencyRecorder;
 
   public OrderController(
-      OrderCreateUseCase orderCreateUseCase, OrderApplicationService orderApplicationService) {
+      OrderCreateUseCase orderCreateUseCase,
+      OrderApplicationService orderApplicationService,
+      StageLatencyRecorder stageLatencyRecorder) {
     this.orderCreateUseCase = orderCreateUseCase;
     this.orderApplicationService = orderApplicationService;
+    this.stageLatencyRecorder = stageLatencyRecorder;
   }
 
   @PostMapping
@@ -37,6 +45,7 @@ public class OrderController {
       @Valid @RequestBody CreateOrderRequest request) {
     UUID orderId = UUID.randomUUID();
     Instant now = Instant.now();
+    StageTrace stageTrace = StageTrace.start(OrderStages.API_RECEIVED, now);
     String clientOrderId =
         request.clientOrderId() == null || request.clientOrderId().isBlank()
             ? orderId.toString()
@@ -54,7 +63,13 @@ public class OrderController {
             request.marketNotionalCap(),
             clientOrderId,
             orderId.toString(),
-            now));
+            now,
+            stageTrace));
+    stageLatencyRecorder.recordHops(
+        stageTrace,
+        OrderStages.RISK_CHECKED,
+        OrderStages.ORDER_PERSISTED,
+        OrderStages.DB_COMMITTED);
 
     return ResponseEntity.accepted().body(new CreateOrderResponse(orderId));
   }
@@ -88,17 +103,42 @@ public class OrderController {
       @RequestParam(name = "status", required = false) String status,
       @RequestParam(name = "symbol", required = false) String symbol,
       @RequestParam(name = "page", defaultValue = "0") int page,
-      @RequestParam(name = "size", defaultValue = "20") int size) {
+      @RequestParam(name = "size", defaultValue = "20") int size,
+      @RequestParam(name = "cursor", required = false) String cursor,
+      @RequestParam(name = "includeTotal", required = false) Boolean includeTotal) {
     int clampedSize = Math.min(Math.max(size, 1), 100);
-    int offset = page * clampedSize;
 
-    List<Order> orders =
-        orderApplicationService.findByAccountId(accountId, status, symbol, offset, clampedSize);
-    long totalElements = orderApplicationService.countByAccountId(accountId, status, symbol);
-    int totalPages = (int) Math.ceil((double) totalElements / clampedSize);
+    Integer currentPage;
+    List<Order> orders;
+    if (cursor != null) {
+      SeekCursor after = SeekCursor.decode(cursor);
+      currentPage = null;
+      orders =
+          orderApplicationService.findByAccountIdAfter(
+              accountId, status, symbol, after, clampedSize);
+    } else {
+      currentPage = page;
+      orders =
+          orderApplicationService.findByAccountId(
+              accountId, status, symbol, page * clampedSize, clampedSize);
+    }
+
+    Long totalElements = null;
+    Integer totalPages = null;
+    if (includeTotal != null ? includeTotal : cursor == null) {
+      totalElements = orderApplicationService.countByAccountId(accountId, status, symbol);
+      totalPages = (int) Math.ceil((double) totalElements / clampedSize);
+    }
+
+    String nextCursor = null;
+    if (orders.size() == clampedSize) {
+      Order last = orders.getLast();
+      nextCursor = new SeekCursor(last.createdAt(), last.id()).encode();
+    }
 
     List<OrderResponse> orderResponses = orders.stream().map(OrderResponse::from).toList();
     return ResponseEntity.ok(
-        new OrdersPageResponse(orderResponses, page, clampedSize, totalElements, totalPages));
+        new OrdersPageResponse(
+            orderResponses, currentPage, clampedSize, totalElements, totalPages, nextCursor));
   }
 }
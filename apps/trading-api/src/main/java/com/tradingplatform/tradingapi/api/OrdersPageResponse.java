@@ -3,4 +3,9 @@ package com.tradingplatform.tradingapi.api;
 import java.util.List;
 
 public record OrdersPageResponse(
-    List<OrderResponse> orders, int page, int size, long totalElements, int totalPages) {}
+    List<OrderResponse> orders,
+    Integer page,
+    int size,
+    Long totalElements,
+    Integer totalPages,
+    String nextCursor) {}
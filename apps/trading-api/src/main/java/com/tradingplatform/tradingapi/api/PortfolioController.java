@@ -1,6 +1,7 @@
 package com.tradingplatform.tradingapi.api;
 
 import com.tradingplatform.tradingapi.portfolio.PortfolioQueryService;
+import com.tradingplatform.tradingapi.portfolio.PortfolioSnapshotCache;
 import java.util.UUID;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -13,9 +14,12 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/v1")
 public class PortfolioController {
   private final PortfolioQueryService portfolioQueryService;
+  private final PortfolioSnapshotCache portfolioSnapshotCache;
 
-  public PortfolioController(PortfolioQueryService portfolioQueryService) {
+  public PortfolioController(
+      PortfolioQueryService portfolioQueryService, PortfolioSnapshotCache portfolioSnapshotCache) {
     this.portfolioQueryService = portfolioQueryService;
+    this.portfolioSnapshotCache = portfolioSnapshotCache;
   }
 
   @GetMapping("/balances")
@@ -27,6 +31,6 @@ public class PortfolioController {
   @GetMapping("/portfolio")
   @PreAuthorize("hasRole('TRADER')")
   public ResponseEntity<PortfolioResponse> getPortfolio(@RequestParam("accountId") UUID accountId) {
-    return ResponseEntity.ok(portfolioQueryService.getPortfolio(accountId));
+    return ResponseEntity.ok(portfolioSnapshotCache.get(accountId));
   }
 }
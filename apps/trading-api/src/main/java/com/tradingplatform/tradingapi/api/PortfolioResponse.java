@@ -8,4 +8,10 @@ public record PortfolioResponse(
     UUID accountId,
     List<BalanceItemResponse> balances,
     List<PositionResponse> positions,
-    Instant asOf) {}
+    Instant asOf,
+    long version) {
+
+  public PortfolioResponse withVersion(long nextVersion) {
+    return new PortfolioResponse(accountId, balances, positions, asOf, nextVersion);
+  }
+}
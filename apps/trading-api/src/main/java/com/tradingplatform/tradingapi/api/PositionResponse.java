@@ -2,4 +2,5 @@ package com.tradingplatform.tradingapi.api;
 
 import java.math.BigDecimal;
 
-public record PositionResponse(String symbol, BigDecimal netQty) {}
+public record PositionResponse(
+    String symbol, BigDecimal netQty, BigDecimal avgEntryPrice, BigDecimal realizedPnl) {}
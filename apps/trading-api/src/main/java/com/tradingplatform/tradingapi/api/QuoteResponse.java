@@ -0,0 +1,27 @@
+package com.tradingplatform.tradingapi.api;
+
+import com.tradingplatform.domain.instruments.marketdata.TopOfBook;
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public record QuoteResponse(
+    String symbol,
+    BigDecimal bidPrice,
+    BigDecimal bidQty,
+    BigDecimal askPrice,
+    BigDecimal askQty,
+    Instant quoteUpdatedAt,
+    BigDecimal lastPrice,
+    Instant lastTradeAt) {
+  public static QuoteResponse from(TopOfBook book) {
+    return new QuoteResponse(
+        book.symbol(),
+        book.bidPrice(),
+        book.bidQty(),
+        book.askPrice(),
+        book.askQty(),
+        book.quoteUpdatedAt(),
+        book.lastPrice(),
+        book.lastTradeAt());
+  }
+}
@@ -0,0 +1,37 @@
+package com.tradingplatform.tradingapi.api;
+
+import com.tradingplatform.infra.kafka.observability.StageTrace;
+import com.tradingplatform.tradingapi.latency.OrderLatencyTraceView;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public record SlowOrderResponse(
+    UUID orderId, double totalMs, Instant recordedAt, List<StageTimingResponse> stages) {
+  public static SlowOrderResponse from(OrderLatencyTraceView view) {
+    List<StageTimingResponse> stages = new ArrayList<>();
+    Long start = null;
+    Long previous = null;
+    for (Map.Entry<String, Long> entry : StageTrace.parse(view.stageTrace()).stages().entrySet()) {
+      long at = entry.getValue();
+      if (start == null) {
+        start = at;
+      }
+      stages.add(
+          new StageTimingResponse(
+              entry.getKey(),
+              StageTrace.fromEpochMicros(at),
+              toMillis(at - start),
+              previous == null ? 0.0d : toMillis(at - previous)));
+      previous = at;
+    }
+    return new SlowOrderResponse(
+        view.orderId(), toMillis(view.totalMicros()), view.recordedAt(), List.copyOf(stages));
+  }
+
+  private static double toMillis(long micros) {
+    return micros / 1_000.0d;
+  }
+}
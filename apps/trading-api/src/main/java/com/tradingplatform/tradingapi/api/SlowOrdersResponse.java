@@ -0,0 +1,6 @@
+package com.tradingplatform.tradingapi.api;
+
+import java.time.Instant;
+import java.util.List;
+
+public record SlowOrdersResponse(Instant since, List<SlowOrderResponse> orders) {}
@@ -0,0 +1,5 @@
+package com.tradingplatform.tradingapi.api;
+
+import java.time.Instant;
+
+public record StageTimingResponse(String stage, Instant at, double sinceStartMs, double hopMs) {}
@@ -2,8 +2,14 @@ package com.tradingplatform.tradingapi.api;
 
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import java.math.BigDecimal;
 
 public record UpsertAccountLimitRequest(
-    @NotNull @DecimalMin(value = "0.000000000000000001", inclusive = true) BigDecimal maxOrderNotional,
-    Integer priceBandBps) {}
+    @NotNull @DecimalMin(value = "0.000000000000000001", inclusive = true)
+        BigDecimal maxOrderNotional,
+    Integer priceBandBps,
+    @Positive Integer maxOpenOrders,
+    @DecimalMin(value = "0.000000000000000001", inclusive = true) BigDecimal maxPosition,
+    @DecimalMin(value = "0.000000000000000001", inclusive = true) BigDecimal maxOpenNotional,
+    @Positive Integer maxOrdersPerSecond) {}
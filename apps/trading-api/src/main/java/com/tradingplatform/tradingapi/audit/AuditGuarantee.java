@@ -0,0 +1,8 @@
+package com.tradingplatform.tradingapi.audit;
+
+public enum AuditGuarantee {
+  /** Written on the caller's thread before it returns; failures propagate. */
+  SYNC,
+  /** Queued and written in batches by the background writer. */
+  ASYNC
+}
@@ -1,5 +1,7 @@
 package com.tradingplatform.tradingapi.audit;
 
+import java.time.Instant;
+
 public record AuditLogEntry(
     String actorUserId,
     String action,
@@ -10,4 +12,5 @@ public record AuditLogEntry(
     AuditResult result,
     String errorCode,
     String errorMessage,
-    String metadataJson) {}
+    String metadataJson,
+    Instant occurredAt) {}
@@ -0,0 +1,75 @@
+package com.tradingplatform.tradingapi.audit;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "audit.log")
+public class AuditLogProperties {
+  /** Guarantee for actions not listed in {@link #guarantees}. */
+  private AuditGuarantee defaultGuarantee = AuditGuarantee.SYNC;
+
+  private Map<String, AuditGuarantee> guarantees =
+      new LinkedHashMap<>(Map.of("ORDER_SUBMIT", AuditGuarantee.ASYNC));
+
+  private int queueCapacity = 10_000;
+  private int batchSize = 500;
+  private long flushIntervalMs = 5L;
+
+  /** JSON-lines file that takes entries the queue or database cannot; blank drops them. */
+  private String spillPath;
+
+  public AuditGuarantee guaranteeFor(String action) {
+    return guarantees.getOrDefault(action, defaultGuarantee);
+  }
+
+  public AuditGuarantee getDefaultGuarantee() {
+    return defaultGuarantee;
+  }
+
+  public void setDefaultGuarantee(AuditGuarantee defaultGuarantee) {
+    this.defaultGuarantee = defaultGuarantee;
+  }
+
+  public Map<String, AuditGuarantee> getGuarantees() {
+    return guarantees;
+  }
+
+  public void setGuarantees(Map<String, AuditGuarantee> guarantees) {
+    this.guarantees = guarantees;
+  }
+
+  public int getQueueCapacity() {
+    return queueCapacity;
+  }
+
+  public void setQueueCapacity(int queueCapacity) {
+    this.queueCapacity = queueCapacity;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public void setBatchSize(int batchSize) {
+    this.batchSize = batchSize;
+  }
+
+  public long getFlushIntervalMs() {
+    return flushIntervalMs;
+  }
+
+  public void setFlushIntervalMs(long flushIntervalMs) {
+    this.flushIntervalMs = flushIntervalMs;
+  }
+
+  public String getSpillPath() {
+    return spillPath;
+  }
+
+  public void setSpillPath(String spillPath) {
+    this.spillPath = spillPath;
+  }
+}
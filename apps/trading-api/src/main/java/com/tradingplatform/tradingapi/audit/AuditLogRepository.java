@@ -1,5 +1,9 @@
 package com.tradingplatform.tradingapi.audit;
 
+import java.util.List;
+
 public interface AuditLogRepository {
   void append(AuditLogEntry entry);
+
+  void appendAll(List<AuditLogEntry> entries);
 }
@@ -0,0 +1,234 @@
+package com.tradingplatform.tradingapi.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes audit entries with the guarantee configured for their action.
+ *
+ * <p>{@link AuditGuarantee#ASYNC} entries go into a bounded queue that a single background thread
+ * drains into multi-row batches. Entries that do not fit in the queue, or whose batch the database
+ * rejects, are appended to the spill file and replayed once the writer is idle; without a spill
+ * file they are dropped and counted. A replayed batch that fails an integrity check is retried one
+ * entry at a time and the entries the database rejects are quarantined, so one bad entry does not
+ * hold back the rest of the file.
+ */
+@Component
+public class AuditLogWriter {
+  private static final Logger log = LoggerFactory.getLogger(AuditLogWriter.class);
+  private static final long REPLAY_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private final AuditLogRepository repository;
+  private final AuditLogProperties properties;
+  private final AuditSpillFile spillFile;
+  private final BlockingQueue<AuditLogEntry> queue;
+  private final Counter writtenCounter;
+  private final Counter spilledCounter;
+  private final Counter droppedCounter;
+  private final Counter quarantinedCounter;
+  private volatile boolean running;
+  private volatile long replayNotBeforeNanos = System.nanoTime();
+  private Thread writerThread;
+
+  public AuditLogWriter(
+      AuditLogRepository repository,
+      AuditLogProperties properties,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry) {
+    if (properties.getQueueCapacity() < 1) {
+      throw new IllegalArgumentException("audit.log.queue-capacity must be >= 1");
+    }
+    if (properties.getBatchSize() < 1) {
+      throw new IllegalArgumentException("audit.log.batch-size must be >= 1");
+    }
+    this.repository = repository;
+    this.properties = properties;
+    String spillPath = properties.getSpillPath();
+    this.spillFile =
+        spillPath == null || spillPath.isBlank()
+            ? null
+            : new AuditSpillFile(Path.of(spillPath), objectMapper);
+    this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+    Gauge.builder("audit.log.queue.depth", queue, BlockingQueue::size).register(meterRegistry);
+    this.writtenCounter = Counter.builder("audit.log.written").register(meterRegistry);
+    this.spilledCounter = Counter.builder("audit.log.spilled").register(meterRegistry);
+    this.droppedCounter = Counter.builder("audit.log.dropped").register(meterRegistry);
+    this.quarantinedCounter = Counter.builder("audit.log.quarantined").register(meterRegistry);
+  }
+
+  public void write(AuditLogEntry entry) {
+    if (properties.guaranteeFor(entry.action()) == AuditGuarantee.SYNC) {
+      repository.append(entry);
+      return;
+    }
+    if (!queue.offer(entry)) {
+      overflow(List.of(entry));
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public synchronized void start() {
+    if (running) {
+      return;
+    }
+    running = true;
+    writerThread = new Thread(this::runLoop, "audit-log-writer");
+    writerThread.setDaemon(true);
+    writerThread.start();
+  }
+
+  /** Writes everything queued so far on the caller's thread. */
+  public void flush() {
+    List<AuditLogEntry> batch = new ArrayList<>(properties.getBatchSize());
+    while (queue.drainTo(batch, properties.getBatchSize()) > 0) {
+      writeBatch(batch);
+      batch.clear();
+    }
+  }
+
+  @PreDestroy
+  public void stop() {
+    Thread thread;
+    synchronized (this) {
+      running = false;
+      thread = writerThread;
+      writerThread = null;
+    }
+    if (thread != null) {
+      thread.interrupt();
+      try {
+        thread.join(TimeUnit.SECONDS.toMillis(5));
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    flush();
+  }
+
+  int queueDepth() {
+    return queue.size();
+  }
+
+  private void runLoop() {
+    List<AuditLogEntry> batch = new ArrayList<>(properties.getBatchSize());
+    while (running) {
+      try {
+        AuditLogEntry first = queue.poll(properties.getFlushIntervalMs(), TimeUnit.MILLISECONDS);
+        if (first == null) {
+          replaySpill();
+          continue;
+        }
+        batch.add(first);
+        queue.drainTo(batch, properties.getBatchSize() - 1);
+        writeBatch(batch);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (RuntimeException ex) {
+        log.warn("Audit log writer iteration failed error={}", ex.getMessage(), ex);
+      } finally {
+        batch.clear();
+      }
+    }
+  }
+
+  private boolean writeBatch(List<AuditLogEntry> pending) {
+    List<AuditLogEntry> batch = List.copyOf(pending);
+    try {
+      repository.appendAll(batch);
+      writtenCounter.increment(batch.size());
+      return true;
+    } catch (RuntimeException ex) {
+      log.warn("Audit log batch write failed entries={} error={}", batch.size(), ex.getMessage());
+      replayNotBeforeNanos = System.nanoTime() + REPLAY_BACKOFF_NANOS;
+      overflow(batch);
+      return false;
+    }
+  }
+
+  private void replaySpill() {
+    if (spillFile == null
+        || System.nanoTime() - replayNotBeforeNanos < 0
+        || !spillFile.hasEntries()) {
+      return;
+    }
+    List<AuditLogEntry> spilled = spillFile.startReplay();
+    int from = 0;
+    while (from < spilled.size()) {
+      List<AuditLogEntry> chunk =
+          spilled.subList(from, Math.min(spilled.size(), from + properties.getBatchSize()));
+      int done = replayChunk(chunk);
+      from += done;
+      if (done < chunk.size()) {
+        replayNotBeforeNanos = System.nanoTime() + REPLAY_BACKOFF_NANOS;
+        spillFile.retainForReplay(spilled.subList(from, spilled.size()));
+        return;
+      }
+    }
+    spillFile.finishReplay();
+  }
+
+  // Returns how many entries of the chunk were written or quarantined; fewer than all means the
+  // database failed for another reason and the replay should stop.
+  private int replayChunk(List<AuditLogEntry> chunk) {
+    try {
+      repository.appendAll(List.copyOf(chunk));
+      writtenCounter.increment(chunk.size());
+      return chunk.size();
+    } catch (DataIntegrityViolationException ex) {
+      log.warn(
+          "Audit log replay batch rejected entries={} error={}", chunk.size(), ex.getMessage());
+    } catch (RuntimeException ex) {
+      log.warn("Audit log replay failed entries={} error={}", chunk.size(), ex.getMessage());
+      return 0;
+    }
+    int done = 0;
+    for (AuditLogEntry entry : chunk) {
+      try {
+        repository.appendAll(List.of(entry));
+        writtenCounter.increment();
+      } catch (DataIntegrityViolationException ex) {
+        spillFile.quarantine(entry);
+        quarantinedCounter.increment();
+        log.warn(
+            "Audit log entry quarantined action={} entityId={} error={}",
+            entry.action(),
+            entry.entityId(),
+            ex.getMessage());
+      } catch (RuntimeException ex) {
+        log.warn("Audit log replay failed entries={} error={}", chunk.size(), ex.getMessage());
+        return done;
+      }
+      done++;
+    }
+    return done;
+  }
+
+  private void overflow(List<AuditLogEntry> entries) {
+    if (spillFile != null) {
+      try {
+        spillFile.append(entries);
+        spilledCounter.increment(entries.size());
+        return;
+      } catch (RuntimeException ex) {
+        log.warn("Audit log spill failed entries={} error={}", entries.size(), ex.getMessage());
+      }
+    }
+    droppedCounter.increment(entries.size());
+  }
+}
@@ -0,0 +1,146 @@
+package com.tradingplatform.tradingapi.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only JSON-lines file holding audit entries until the database takes them.
+ *
+ * <p>A replay first renames the file to {@code <path>.replaying}, so new spills start a fresh file,
+ * and the renamed file is deleted only once its entries are written. A replay interrupted by a
+ * crash or an outage resumes from that file. Entries the database rejects, and lines that no longer
+ * parse, go to {@code <path>.quarantine} for an operator instead of being replayed forever.
+ */
+class AuditSpillFile {
+  private final Path path;
+  private final Path replayingPath;
+  private final Path quarantinePath;
+  private final ObjectMapper objectMapper;
+
+  AuditSpillFile(Path path, ObjectMapper objectMapper) {
+    this.path = path;
+    this.replayingPath = path.resolveSibling(path.getFileName() + ".replaying");
+    this.quarantinePath = path.resolveSibling(path.getFileName() + ".quarantine");
+    this.objectMapper = objectMapper;
+  }
+
+  synchronized void append(List<AuditLogEntry> entries) {
+    try {
+      appendLines(path, toLines(entries));
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Failed to spill audit entries to " + path, ex);
+    }
+  }
+
+  synchronized boolean hasEntries() {
+    try {
+      return Files.exists(replayingPath) || (Files.exists(path) && Files.size(path) > 0);
+    } catch (IOException ex) {
+      return false;
+    }
+  }
+
+  /**
+   * Returns the entries to replay: the unfinished replay file if there is one, otherwise the spill
+   * file after renaming it. Nothing is deleted until {@link #finishReplay}.
+   */
+  synchronized List<AuditLogEntry> startReplay() {
+    try {
+      if (!Files.exists(replayingPath)) {
+        if (!Files.exists(path)) {
+          return List.of();
+        }
+        Files.move(path, replayingPath, StandardCopyOption.ATOMIC_MOVE);
+      }
+      List<AuditLogEntry> entries = new ArrayList<>();
+      StringBuilder unreadable = new StringBuilder();
+      try (BufferedReader reader = Files.newBufferedReader(replayingPath, StandardCharsets.UTF_8)) {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          if (line.isBlank()) {
+            continue;
+          }
+          try {
+            entries.add(objectMapper.readValue(line, AuditLogEntry.class));
+          } catch (JsonProcessingException ex) {
+            unreadable.append(line).append('\n');
+          }
+        }
+      }
+      if (!unreadable.isEmpty()) {
+        appendLines(quarantinePath, unreadable.toString());
+      }
+      return entries;
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Failed to read spilled audit entries from " + path, ex);
+    }
+  }
+
+  /** Replaces the replay file with the entries still to write, after a replay stopped early. */
+  synchronized void retainForReplay(List<AuditLogEntry> remaining) {
+    Path tmp = replayingPath.resolveSibling(replayingPath.getFileName() + ".tmp");
+    try {
+      Files.deleteIfExists(tmp);
+      appendLines(tmp, toLines(remaining));
+      Files.move(
+          tmp, replayingPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Failed to keep audit entries in " + replayingPath, ex);
+    }
+  }
+
+  synchronized void finishReplay() {
+    try {
+      Files.deleteIfExists(replayingPath);
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Failed to delete " + replayingPath, ex);
+    }
+  }
+
+  synchronized void quarantine(AuditLogEntry entry) {
+    try {
+      appendLines(quarantinePath, toLines(List.of(entry)));
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Failed to quarantine audit entry to " + quarantinePath, ex);
+    }
+  }
+
+  private String toLines(List<AuditLogEntry> entries) throws IOException {
+    StringBuilder lines = new StringBuilder();
+    for (AuditLogEntry entry : entries) {
+      lines.append(objectMapper.writeValueAsString(entry)).append('\n');
+    }
+    return lines.toString();
+  }
+
+  private static void appendLines(Path target, String lines) throws IOException {
+    Path parent = target.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    try (FileChannel channel =
+        FileChannel.open(
+            target,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.APPEND)) {
+      ByteBuffer buffer = ByteBuffer.wrap(lines.getBytes(StandardCharsets.UTF_8));
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      channel.force(false);
+    }
+  }
+}
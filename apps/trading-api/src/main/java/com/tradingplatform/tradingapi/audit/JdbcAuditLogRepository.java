@@ -1,11 +1,35 @@
 package com.tradingplatform.tradingapi.audit;
 
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public class JdbcAuditLogRepository implements AuditLogRepository {
+  private static final String INSERT_SQL =
+      """
+      INSERT INTO audit_log (
+          id,
+          actor_user_id,
+          action,
+          entity_type,
+          entity_id,
+          before_json,
+          after_json,
+          result,
+          error_code,
+          error_message,
+          metadata_json,
+          created_at
+      ) VALUES (
+          ?, ?, ?, ?, ?, CAST(? AS JSONB), CAST(? AS JSONB), ?, ?, ?, CAST(? AS JSONB),
+          COALESCE(?, NOW())
+      )
+      """;
+
   private final JdbcTemplate jdbcTemplate;
 
   public JdbcAuditLogRepository(JdbcTemplate jdbcTemplate) {
@@ -14,35 +38,35 @@ public class JdbcAuditLogRepository implements AuditLogRepository {
 
   @Override
   public void append(AuditLogEntry entry) {
-    String sql =
-        """
-        INSERT INTO audit_log (
-            id,
-            actor_user_id,
-            action,
-            entity_type,
-            entity_id,
-            before_json,
-            after_json,
-            result,
-            error_code,
-            error_message,
-            metadata_json,
-            created_at
-        ) VALUES (?, ?, ?, ?, ?, CAST(? AS JSONB), CAST(? AS JSONB), ?, ?, ?, CAST(? AS JSONB), NOW())
-        """;
-    jdbcTemplate.update(
-        sql,
-        UUID.randomUUID(),
-        entry.actorUserId(),
-        entry.action(),
-        entry.entityType(),
-        entry.entityId(),
-        entry.beforeJson(),
-        entry.afterJson(),
-        entry.result().name(),
-        entry.errorCode(),
-        entry.errorMessage(),
-        entry.metadataJson());
+    jdbcTemplate.update(INSERT_SQL, toArgs(entry));
+  }
+
+  @Override
+  public void appendAll(List<AuditLogEntry> entries) {
+    if (entries.isEmpty()) {
+      return;
+    }
+    List<Object[]> batch = new ArrayList<>(entries.size());
+    for (AuditLogEntry entry : entries) {
+      batch.add(toArgs(entry));
+    }
+    jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+  }
+
+  private static Object[] toArgs(AuditLogEntry entry) {
+    return new Object[] {
+      UUID.randomUUID(),
+      entry.actorUserId(),
+      entry.action(),
+      entry.entityType(),
+      entry.entityId(),
+      entry.beforeJson(),
+      entry.afterJson(),
+      entry.result().name(),
+      entry.errorCode(),
+      entry.errorMessage(),
+      entry.metadataJson(),
+      entry.occurredAt() == null ? null : Timestamp.from(entry.occurredAt())
+    };
   }
 }
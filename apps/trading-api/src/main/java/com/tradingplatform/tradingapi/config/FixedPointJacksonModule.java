@@ -0,0 +1,54 @@
+package com.tradingplatform.tradingapi.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.tradingplatform.domain.instruments.fixedpoint.Price;
+import com.tradingplatform.domain.instruments.fixedpoint.Quantity;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+
+/** Writes {@link Quantity} and {@link Price} as plain JSON numbers and reads them back exactly. */
+@Component
+public class FixedPointJacksonModule extends SimpleModule {
+  public FixedPointJacksonModule() {
+    super("fixed-point");
+    addSerializer(Quantity.class, new DecimalSerializer<>(Quantity::toBigDecimal));
+    addSerializer(Price.class, new DecimalSerializer<>(Price::toBigDecimal));
+    addDeserializer(Quantity.class, new DecimalDeserializer<>(Quantity::of));
+    addDeserializer(Price.class, new DecimalDeserializer<>(Price::of));
+  }
+
+  private static final class DecimalSerializer<T> extends JsonSerializer<T> {
+    private final Function<T, BigDecimal> toDecimal;
+
+    private DecimalSerializer(Function<T, BigDecimal> toDecimal) {
+      this.toDecimal = toDecimal;
+    }
+
+    @Override
+    public void serialize(T value, JsonGenerator generator, SerializerProvider serializers)
+        throws IOException {
+      generator.writeNumber(toDecimal.apply(value));
+    }
+  }
+
+  private static final class DecimalDeserializer<T> extends JsonDeserializer<T> {
+    private final Function<BigDecimal, T> fromDecimal;
+
+    private DecimalDeserializer(Function<BigDecimal, T> fromDecimal) {
+      this.fromDecimal = fromDecimal;
+    }
+
+    @Override
+    public T deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+      return fromDecimal.apply(context.readValue(parser, BigDecimal.class));
+    }
+  }
+}
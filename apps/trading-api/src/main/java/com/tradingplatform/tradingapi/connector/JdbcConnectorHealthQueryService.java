@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Optional;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class JdbcConnectorHealthQueryService implements ConnectorHealthQueryService {
@@ -17,6 +18,7 @@ public class JdbcConnectorHealthQueryService implements ConnectorHealthQueryServ
   }
 
   @Override
+  @Transactional(readOnly = true)
   public Optional<ConnectorHealthSnapshot> findByConnectorName(String connectorName) {
     String sql =
         """
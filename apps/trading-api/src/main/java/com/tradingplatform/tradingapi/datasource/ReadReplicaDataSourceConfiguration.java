@@ -0,0 +1,91 @@
+package com.tradingplatform.tradingapi.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+@Configuration
+@ConditionalOnProperty(
+    prefix = "datasource.replica",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = false)
+public class ReadReplicaDataSourceConfiguration {
+
+  @Bean
+  @ConfigurationProperties(prefix = "spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+    HikariDataSource dataSource =
+        dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    dataSource.setPoolName("primary");
+    return dataSource;
+  }
+
+  @Bean
+  public HikariDataSource replicaDataSource(
+      DataSourceProperties dataSourceProperties, ReadReplicaProperties properties) {
+    if (properties.getUrl() == null || properties.getUrl().isBlank()) {
+      throw new IllegalStateException("datasource.replica.url is required when enabled");
+    }
+    HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setPoolName("replica");
+    dataSource.setJdbcUrl(properties.getUrl());
+    dataSource.setUsername(
+        properties.getUsername() != null
+            ? properties.getUsername()
+            : dataSourceProperties.determineUsername());
+    dataSource.setPassword(
+        properties.getPassword() != null
+            ? properties.getPassword()
+            : dataSourceProperties.determinePassword());
+    dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+    dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+    dataSource.setReadOnly(true);
+    return dataSource;
+  }
+
+  @Bean
+  public ReplicaLagMonitor replicaLagMonitor(
+      @Qualifier("replicaDataSource") DataSource replicaDataSource, MeterRegistry meterRegistry) {
+    return new ReplicaLagMonitor(new JdbcTemplate(replicaDataSource), meterRegistry);
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(
+      @Qualifier("primaryDataSource") DataSource primaryDataSource,
+      @Qualifier("replicaDataSource") DataSource replicaDataSource,
+      ReplicaLagMonitor replicaLagMonitor,
+      ReadReplicaProperties properties,
+      MeterRegistry meterRegistry) {
+    // Lazy proxy defers connection checkout until the first statement, by which time the
+    // transaction's read-only flag is bound and the routing key can be resolved.
+    return new LazyConnectionDataSourceProxy(
+        new ReadReplicaRoutingDataSource(
+            primaryDataSource,
+            replicaDataSource,
+            replicaLagMonitor,
+            properties.getMaxLagMs(),
+            meterRegistry));
+  }
+
+  @Bean
+  public FilterRegistrationBean<ReplicaStalenessFilter> replicaStalenessFilter(
+      ReadReplicaProperties properties) {
+    FilterRegistrationBean<ReplicaStalenessFilter> registration =
+        new FilterRegistrationBean<>(new ReplicaStalenessFilter(properties));
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+    return registration;
+  }
+}
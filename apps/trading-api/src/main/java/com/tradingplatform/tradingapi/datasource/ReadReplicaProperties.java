@@ -0,0 +1,90 @@
+package com.tradingplatform.tradingapi.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "datasource.replica")
+public class ReadReplicaProperties {
+  private boolean enabled = false;
+  private String url;
+  private String username;
+  private String password;
+  private int maximumPoolSize = 10;
+  private long maxLagMs = 1000L;
+  private long maxRequestStalenessMs = 30000L;
+  private long lagCheckIntervalMs = 1000L;
+  private String stalenessHeader = "X-Max-Staleness-Ms";
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public String getUrl() {
+    return url;
+  }
+
+  public void setUrl(String url) {
+    this.url = url;
+  }
+
+  public String getUsername() {
+    return username;
+  }
+
+  public void setUsername(String username) {
+    this.username = username;
+  }
+
+  public String getPassword() {
+    return password;
+  }
+
+  public void setPassword(String password) {
+    this.password = password;
+  }
+
+  public int getMaximumPoolSize() {
+    return maximumPoolSize;
+  }
+
+  public void setMaximumPoolSize(int maximumPoolSize) {
+    this.maximumPoolSize = maximumPoolSize;
+  }
+
+  public long getMaxLagMs() {
+    return maxLagMs;
+  }
+
+  public void setMaxLagMs(long maxLagMs) {
+    this.maxLagMs = maxLagMs;
+  }
+
+  public long getMaxRequestStalenessMs() {
+    return maxRequestStalenessMs;
+  }
+
+  public void setMaxRequestStalenessMs(long maxRequestStalenessMs) {
+    this.maxRequestStalenessMs = maxRequestStalenessMs;
+  }
+
+  public long getLagCheckIntervalMs() {
+    return lagCheckIntervalMs;
+  }
+
+  public void setLagCheckIntervalMs(long lagCheckIntervalMs) {
+    this.lagCheckIntervalMs = lagCheckIntervalMs;
+  }
+
+  public String getStalenessHeader() {
+    return stalenessHeader;
+  }
+
+  public void setStalenessHeader(String stalenessHeader) {
+    this.stalenessHeader = stalenessHeader;
+  }
+}
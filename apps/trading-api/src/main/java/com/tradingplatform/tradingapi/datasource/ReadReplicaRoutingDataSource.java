@@ -0,0 +1,49 @@
+package com.tradingplatform.tradingapi.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+  static final String PRIMARY = "primary";
+  static final String REPLICA = "replica";
+  private static final String ROUTE_TOTAL_METRIC = "tradingapi.datasource.route.total";
+
+  private final ReplicaLagMonitor lagMonitor;
+  private final long defaultBudgetMs;
+  private final Counter primaryReads;
+  private final Counter replicaReads;
+
+  public ReadReplicaRoutingDataSource(
+      DataSource primary,
+      DataSource replica,
+      ReplicaLagMonitor lagMonitor,
+      long defaultBudgetMs,
+      MeterRegistry meterRegistry) {
+    this.lagMonitor = lagMonitor;
+    this.defaultBudgetMs = defaultBudgetMs;
+    this.primaryReads = meterRegistry.counter(ROUTE_TOTAL_METRIC, "target", PRIMARY);
+    this.replicaReads = meterRegistry.counter(ROUTE_TOTAL_METRIC, "target", REPLICA);
+    setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+    setDefaultTargetDataSource(primary);
+    afterPropertiesSet();
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      return PRIMARY;
+    }
+    Long requested = StalenessBudget.current();
+    long budgetMs = requested != null ? requested : defaultBudgetMs;
+    if (budgetMs > 0 && lagMonitor.isWithin(budgetMs)) {
+      replicaReads.increment();
+      return REPLICA;
+    }
+    primaryReads.increment();
+    return PRIMARY;
+  }
+}
@@ -0,0 +1,67 @@
+package com.tradingplatform.tradingapi.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+public class ReplicaLagMonitor {
+  private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+  static final long UNAVAILABLE = Long.MAX_VALUE;
+
+  // NULL, and so unavailable, unless the WAL receiver is streaming: a disconnected or stalled
+  // replica has nothing left to replay and would otherwise report zero lag forever. While
+  // streaming, zero when everything received is replayed, so an idle primary does not look like
+  // lag. Reading the receiver status needs pg_monitor (or pg_read_all_stats) on the replica user;
+  // without it the status reads as NULL and reads stay on the primary.
+  private static final String LAG_SQL =
+      """
+      SELECT CASE
+               WHEN NOT pg_is_in_recovery() THEN 0
+               WHEN NOT EXISTS (
+                   SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming') THEN NULL
+               WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+               ELSE CAST(
+                   EXTRACT(EPOCH FROM (NOW() - pg_last_xact_replay_timestamp())) * 1000 AS BIGINT)
+             END
+      """;
+
+  private final JdbcTemplate replicaJdbcTemplate;
+  private final AtomicLong lagMs = new AtomicLong(UNAVAILABLE);
+
+  public ReplicaLagMonitor(JdbcTemplate replicaJdbcTemplate, MeterRegistry meterRegistry) {
+    this.replicaJdbcTemplate = replicaJdbcTemplate;
+    Gauge.builder("tradingapi.datasource.replica.lag", lagMs, value -> (double) value.get())
+        .baseUnit("milliseconds")
+        .register(meterRegistry);
+  }
+
+  @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:1000}")
+  public void refresh() {
+    try {
+      Long measured = replicaJdbcTemplate.queryForObject(LAG_SQL, Long.class);
+      if (measured == null) {
+        if (lagMs.getAndSet(UNAVAILABLE) != UNAVAILABLE) {
+          log.warn("Replica WAL receiver is not streaming; routing reads to primary");
+        }
+        return;
+      }
+      lagMs.set(Math.max(measured, 0L));
+    } catch (RuntimeException ex) {
+      if (lagMs.getAndSet(UNAVAILABLE) != UNAVAILABLE) {
+        log.warn("Replica lag probe failed; routing reads to primary", ex);
+      }
+    }
+  }
+
+  public boolean isWithin(long budgetMs) {
+    return lagMs.get() <= budgetMs;
+  }
+
+  public long currentLagMs() {
+    return lagMs.get();
+  }
+}
@@ -0,0 +1,41 @@
+package com.tradingplatform.tradingapi.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+public class ReplicaStalenessFilter extends OncePerRequestFilter {
+  private final ReadReplicaProperties properties;
+
+  public ReplicaStalenessFilter(ReadReplicaProperties properties) {
+    this.properties = properties;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    String header = request.getHeader(properties.getStalenessHeader());
+    if (header == null || header.isBlank()) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+    try {
+      long requested = Long.parseLong(header.trim());
+      StalenessBudget.set(Math.min(requested, properties.getMaxRequestStalenessMs()));
+    } catch (NumberFormatException ex) {
+      response.sendError(
+          HttpServletResponse.SC_BAD_REQUEST,
+          properties.getStalenessHeader() + " must be a number of milliseconds");
+      return;
+    }
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      StalenessBudget.clear();
+    }
+  }
+}
@@ -0,0 +1,19 @@
+package com.tradingplatform.tradingapi.datasource;
+
+public final class StalenessBudget {
+  private static final ThreadLocal<Long> CURRENT_MS = new ThreadLocal<>();
+
+  private StalenessBudget() {}
+
+  public static void set(long budgetMs) {
+    CURRENT_MS.set(Math.max(budgetMs, 0L));
+  }
+
+  public static Long current() {
+    return CURRENT_MS.get();
+  }
+
+  public static void clear() {
+    CURRENT_MS.remove();
+  }
+}
@@ -1,5 +1,6 @@
 package com.tradingplatform.tradingapi.executions;
 
+import com.tradingplatform.tradingapi.pagination.SeekCursor;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
@@ -17,6 +18,20 @@ public class ExecutionQueryService {
   @Transactional(readOnly = true)
   public ExecutionPage listExecutions(
       UUID accountId, UUID orderId, String symbol, Instant from, Instant to, int page, int size) {
+    return listExecutions(accountId, orderId, symbol, from, to, page, size, null, true);
+  }
+
+  @Transactional(readOnly = true)
+  public ExecutionPage listExecutions(
+      UUID accountId,
+      UUID orderId,
+      String symbol,
+      Instant from,
+      Instant to,
+      int page,
+      int size,
+      String cursor,
+      boolean includeTotal) {
     if (from != null && to != null && from.isAfter(to)) {
       throw new IllegalArgumentException("from must be before or equal to to");
     }
@@ -24,18 +39,46 @@ public class ExecutionQueryService {
       throw new IllegalArgumentException("Account not found: " + accountId);
     }
 
-    int safePage = Math.max(page, 0);
     int clampedSize = Math.min(Math.max(size, 1), 100);
-    int offset = safePage * clampedSize;
     String normalizedSymbol = normalizeSymbol(symbol);
+    Integer currentPage;
+    List<ExecutionView> executions;
+    if (cursor != null) {
+      SeekCursor after = SeekCursor.decode(cursor);
+      currentPage = null;
+      executions =
+          executionReadRepository.findByAccountIdAfter(
+              accountId, orderId, normalizedSymbol, from, to, after, clampedSize);
+    } else {
+      int safePage = Math.max(page, 0);
+      currentPage = safePage;
+      executions =
+          executionReadRepository.findByAccountId(
+              accountId, orderId, normalizedSymbol, from, to, safePage * clampedSize, clampedSize);
+    }
+
+    Long totalElements = null;
+    Integer totalPages = null;
+    if (includeTotal) {
+      totalElements =
+          executionReadRepository.countByAccountId(accountId, orderId, normalizedSymbol, from, to);
+      totalPages = (int) Math.ceil((double) totalElements / clampedSize);
+    }
+    return new ExecutionPage(
+        executions,
+        currentPage,
+        clampedSize,
+        totalElements,
+        totalPages,
+        nextCursor(executions, clampedSize));
+  }
 
-    List<ExecutionView> executions =
-        executionReadRepository.findByAccountId(
-            accountId, orderId, normalizedSymbol, from, to, offset, clampedSize);
-    long totalElements =
-        executionReadRepository.countByAccountId(accountId, orderId, normalizedSymbol, from, to);
-    int totalPages = (int) Math.ceil((double) totalElements / clampedSize);
-    return new ExecutionPage(executions, safePage, clampedSize, totalElements, totalPages);
+  private static String nextCursor(List<ExecutionView> executions, int size) {
+    if (executions.size() < size) {
+      return null;
+    }
+    ExecutionView last = executions.getLast();
+    return new SeekCursor(last.executedAt(), last.id()).encode();
   }
 
   private static String normalizeSymbol(String symbol) {
@@ -46,5 +89,15 @@ public class ExecutionQueryService {
   }
 
   public record ExecutionPage(
-      List<ExecutionView> executions, int page, int size, long totalElements, int totalPages) {}
+      List<ExecutionView> executions,
+      Integer page,
+      int size,
+      Long totalElements,
+      Integer totalPages,
+      String nextCursor) {
+    public ExecutionPage(
+        List<ExecutionView> executions, int page, int size, long totalElements, int totalPages) {
+      this(executions, page, size, totalElements, totalPages, null);
+    }
+  }
 }
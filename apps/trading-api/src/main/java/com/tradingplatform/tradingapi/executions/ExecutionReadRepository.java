@@ -1,5 +1,6 @@
 package com.tradingplatform.tradingapi.executions;
 
+import com.tradingplatform.tradingapi.pagination.SeekCursor;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
@@ -8,12 +9,15 @@ public interface ExecutionReadRepository {
   boolean accountExists(UUID accountId);
 
   List<ExecutionView> findByAccountId(
+      UUID accountId, UUID orderId, String symbol, Instant from, Instant to, int offset, int limit);
+
+  List<ExecutionView> findByAccountIdAfter(
       UUID accountId,
       UUID orderId,
       String symbol,
       Instant from,
       Instant to,
-      int offset,
+      SeekCursor after,
       int limit);
 
   long countByAccountId(UUID accountId, UUID orderId, String symbol, Instant from, Instant to);
@@ -1,5 +1,6 @@
 package com.tradingplatform.tradingapi.executions;
 
+import com.tradingplatform.tradingapi.pagination.SeekCursor;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
@@ -12,6 +13,25 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 public class JdbcExecutionReadRepository implements ExecutionReadRepository {
+  private static final String SELECT_BY_ACCOUNT =
+      """
+      SELECT id,
+             order_id,
+             account_id,
+             instrument,
+             side,
+             trade_id,
+             exchange_name,
+             exchange_order_id,
+             qty,
+             price,
+             fee_asset,
+             fee_amount,
+             executed_at
+      FROM executions
+      WHERE account_id = ?
+      """;
+
   private final JdbcTemplate jdbcTemplate;
 
   public JdbcExecutionReadRepository(JdbcTemplate jdbcTemplate) {
@@ -34,25 +54,7 @@ public class JdbcExecutionReadRepository implements ExecutionReadRepository {
       Instant to,
       int offset,
       int limit) {
-    StringBuilder sql =
-        new StringBuilder(
-            """
-            SELECT id,
-                   order_id,
-                   account_id,
-                   instrument,
-                   side,
-                   trade_id,
-                   exchange_name,
-                   exchange_order_id,
-                   qty,
-                   price,
-                   fee_asset,
-                   fee_amount,
-                   executed_at
-            FROM executions
-            WHERE account_id = ?
-            """);
+    StringBuilder sql = new StringBuilder(SELECT_BY_ACCOUNT);
     List<Object> params = new ArrayList<>();
     params.add(accountId);
     appendFilters(sql, params, orderId, symbol, from, to);
@@ -63,7 +65,31 @@ public class JdbcExecutionReadRepository implements ExecutionReadRepository {
   }
 
   @Override
-  public long countByAccountId(UUID accountId, UUID orderId, String symbol, Instant from, Instant to) {
+  public List<ExecutionView> findByAccountIdAfter(
+      UUID accountId,
+      UUID orderId,
+      String symbol,
+      Instant from,
+      Instant to,
+      SeekCursor after,
+      int limit) {
+    StringBuilder sql = new StringBuilder(SELECT_BY_ACCOUNT);
+    List<Object> params = new ArrayList<>();
+    params.add(accountId);
+    appendFilters(sql, params, orderId, symbol, from, to);
+    Timestamp executedAt = Timestamp.from(after.position());
+    sql.append(" AND executed_at <= ? AND (executed_at < ? OR id < ?)");
+    params.add(executedAt);
+    params.add(executedAt);
+    params.add(after.id());
+    sql.append(" ORDER BY executed_at DESC, id DESC LIMIT ?");
+    params.add(limit);
+    return jdbcTemplate.query(sql.toString(), this::mapRow, params.toArray());
+  }
+
+  @Override
+  public long countByAccountId(
+      UUID accountId, UUID orderId, String symbol, Instant from, Instant to) {
     StringBuilder sql = new StringBuilder("SELECT COUNT(*) FROM executions WHERE account_id = ?");
     List<Object> params = new ArrayList<>();
     params.add(accountId);
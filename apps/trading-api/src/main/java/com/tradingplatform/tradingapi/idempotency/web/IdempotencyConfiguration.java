@@ -0,0 +1,13 @@
+package com.tradingplatform.tradingapi.idempotency.web;
+
+import com.tradingplatform.infra.web.idempotency.RequestHashCalculator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdempotencyConfiguration {
+  @Bean
+  public RequestHashCalculator requestHashCalculator() {
+    return new RequestHashCalculator();
+  }
+}
@@ -1,7 +1,7 @@
 package com.tradingplatform.tradingapi.idempotency.web;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.tradingplatform.tradingapi.idempotency.hash.RequestHashCalculator;
+import com.tradingplatform.infra.web.idempotency.RequestHashCalculator;
 import com.tradingplatform.tradingapi.idempotency.persistence.IdempotencyPersistenceApi;
 import com.tradingplatform.tradingapi.idempotency.persistence.IdempotencyRecord;
 import com.tradingplatform.tradingapi.idempotency.persistence.IdempotencyStatus;
@@ -1,5 +1,7 @@
 package com.tradingplatform.tradingapi.instruments;
 
+import com.tradingplatform.tradingapi.risk.RiskRuleCacheProperties;
+import com.tradingplatform.tradingapi.risk.RiskRuleSetCache;
 import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -9,20 +11,30 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class JdbcInstrumentConfigService implements InstrumentConfigService {
   private static final Set<String> ALLOWED_STATUSES = Set.of("ACTIVE", "HALTED", "DISABLED");
 
   private final JdbcTemplate jdbcTemplate;
+  private final RiskRuleSetCache riskRuleSetCache;
 
   public JdbcInstrumentConfigService(JdbcTemplate jdbcTemplate) {
+    this(jdbcTemplate, new RiskRuleSetCache(jdbcTemplate, new RiskRuleCacheProperties()));
+  }
+
+  @Autowired
+  public JdbcInstrumentConfigService(JdbcTemplate jdbcTemplate, RiskRuleSetCache riskRuleSetCache) {
     this.jdbcTemplate = jdbcTemplate;
+    this.riskRuleSetCache = riskRuleSetCache;
   }
 
   @Override
+  @Transactional(readOnly = true)
   public List<InstrumentConfigView> list(String status) {
     if (status == null || status.isBlank()) {
       String sql =
@@ -45,6 +57,7 @@ public class JdbcInstrumentConfigService implements InstrumentConfigService {
   }
 
   @Override
+  @Transactional(readOnly = true)
   public InstrumentConfigView findBySymbol(String symbol) {
     String normalizedSymbol = normalizeSymbol(symbol);
     return findBySymbolOptional(normalizedSymbol)
@@ -82,6 +95,7 @@ public class JdbcInstrumentConfigService implements InstrumentConfigService {
           Timestamp.from(now),
           Timestamp.from(now));
     }
+    riskRuleSetCache.invalidateInstrument(normalizedSymbol);
 
     return findBySymbol(normalizedSymbol);
   }
@@ -100,6 +114,7 @@ public class JdbcInstrumentConfigService implements InstrumentConfigService {
     if (updated == 0) {
       throw new InstrumentNotFoundException(normalizedSymbol);
     }
+    riskRuleSetCache.invalidateInstrument(normalizedSymbol);
     return findBySymbol(normalizedSymbol);
   }
 
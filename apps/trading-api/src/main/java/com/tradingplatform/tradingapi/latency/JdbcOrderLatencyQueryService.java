@@ -0,0 +1,42 @@
+package com.tradingplatform.tradingapi.latency;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class JdbcOrderLatencyQueryService implements OrderLatencyQueryService {
+  private final JdbcTemplate jdbcTemplate;
+
+  public JdbcOrderLatencyQueryService(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<OrderLatencyTraceView> findSlowest(Instant since, int limit) {
+    String sql =
+        """
+        SELECT order_id, total_micros, stage_trace, recorded_at
+        FROM order_latency_traces
+        WHERE recorded_at >= ?
+        ORDER BY total_micros DESC
+        LIMIT ?
+        """;
+    return jdbcTemplate.query(sql, this::mapRow, Timestamp.from(since), limit);
+  }
+
+  private OrderLatencyTraceView mapRow(ResultSet rs, int rowNum) throws SQLException {
+    return new OrderLatencyTraceView(
+        rs.getObject("order_id", UUID.class),
+        rs.getLong("total_micros"),
+        rs.getString("stage_trace"),
+        rs.getTimestamp("recorded_at").toInstant());
+  }
+}
@@ -0,0 +1,8 @@
+package com.tradingplatform.tradingapi.latency;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface OrderLatencyQueryService {
+  List<OrderLatencyTraceView> findSlowest(Instant since, int limit);
+}
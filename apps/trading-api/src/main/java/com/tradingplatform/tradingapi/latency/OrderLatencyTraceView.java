@@ -0,0 +1,7 @@
+package com.tradingplatform.tradingapi.latency;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record OrderLatencyTraceView(
+    UUID orderId, long totalMicros, String stageTrace, Instant recordedAt) {}
@@ -1,6 +1,7 @@
 package com.tradingplatform.tradingapi.ledger;
 
 import com.tradingplatform.domain.wallet.InsufficientBalanceException;
+import com.tradingplatform.tradingapi.wallet.WalletRepository;
 import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -14,10 +15,15 @@ import org.springframework.transaction.annotation.Transactional;
 public class AdminFundingService {
   private final JdbcTemplate jdbcTemplate;
   private final LedgerRepository ledgerRepository;
+  private final WalletRepository walletRepository;
 
-  public AdminFundingService(JdbcTemplate jdbcTemplate, LedgerRepository ledgerRepository) {
+  public AdminFundingService(
+      JdbcTemplate jdbcTemplate,
+      LedgerRepository ledgerRepository,
+      WalletRepository walletRepository) {
     this.jdbcTemplate = jdbcTemplate;
     this.ledgerRepository = ledgerRepository;
+    this.walletRepository = walletRepository;
   }
 
   @Transactional
@@ -29,14 +35,16 @@ public class AdminFundingService {
       FundingDirection direction,
       String actor) {
     BalanceRow balance = findOrCreateBalance(accountId, asset, amount, direction);
-    if (direction == FundingDirection.DEBIT && balance.available().compareTo(amount) < 0) {
-      throw new InsufficientBalanceException(accountId, asset, amount, balance.available());
+    BigDecimal available = balance.available();
+    if (direction == FundingDirection.DEBIT && available.compareTo(amount) < 0) {
+      available = available.add(walletRepository.drainStripes(accountId, asset));
+    }
+    if (direction == FundingDirection.DEBIT && available.compareTo(amount) < 0) {
+      throw new InsufficientBalanceException(accountId, asset, amount, available);
     }
 
     BigDecimal nextAvailable =
-        direction == FundingDirection.CREDIT
-            ? balance.available().add(amount)
-            : balance.available().subtract(amount);
+        direction == FundingDirection.CREDIT ? available.add(amount) : available.subtract(amount);
     jdbcTemplate.update(
         """
         UPDATE wallet_balances
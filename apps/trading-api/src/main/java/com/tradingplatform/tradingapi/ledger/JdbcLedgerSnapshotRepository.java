@@ -0,0 +1,289 @@
+package com.tradingplatform.tradingapi.ledger;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class JdbcLedgerSnapshotRepository implements LedgerSnapshotRepository {
+  private static final long CHECKPOINT_LOCK_KEY = 0x4c45444745525350L;
+
+  // Offset legs are posted on the same account to keep each transaction balanced; they do not
+  // move the wallet and are left out of its running balance.
+  private static final String BALANCE_ENTRY_FILTER =
+      "ref_type NOT IN ('EXECUTION_OFFSET', 'PLATFORM_OFFSET')";
+  private static final String SIGNED_AMOUNT =
+      "CASE WHEN direction = 'CREDIT' THEN amount ELSE -amount END";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public JdbcLedgerSnapshotRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  public boolean tryLockCheckpoint() {
+    Boolean locked =
+        jdbcTemplate.queryForObject(
+            "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, CHECKPOINT_LOCK_KEY);
+    return Boolean.TRUE.equals(locked);
+  }
+
+  @Override
+  public long findLatestCheckpoint() {
+    Long seq =
+        jdbcTemplate.queryForObject(
+            "SELECT COALESCE(MAX(ledger_seq), 0) FROM ledger_balance_snapshots", Long.class);
+    return seq == null ? 0L : seq;
+  }
+
+  // Ledger writers insert ledger_transactions before their entries, so they hold a transaction id
+  // before drawing a ledger_seq. Reading the sequence first and the snapshot xmax in a later
+  // statement therefore puts every holder of a seq at or below the mark under nextXid.
+  @Override
+  public LedgerSeqMark markAllocatedSeq() {
+    Long seq =
+        jdbcTemplate.queryForObject(
+            "SELECT COALESCE(pg_sequence_last_value('ledger_entry_seq'::regclass), 0)", Long.class);
+    Long nextXid =
+        jdbcTemplate.queryForObject(
+            "SELECT pg_snapshot_xmax(pg_current_snapshot())::text::bigint", Long.class);
+    return new LedgerSeqMark(seq == null ? 0L : seq, nextXid == null ? 0L : nextXid);
+  }
+
+  @Override
+  public boolean isSettled(LedgerSeqMark mark) {
+    Boolean settled =
+        jdbcTemplate.queryForObject(
+            "SELECT pg_snapshot_xmin(pg_current_snapshot())::text::bigint >= ?",
+            Boolean.class,
+            mark.nextXid());
+    return Boolean.TRUE.equals(settled);
+  }
+
+  @Override
+  public int writeSnapshots(long fromSeq, long toSeq) {
+    String sql =
+        """
+        WITH delta AS (
+            SELECT account_id, asset, SUM(%s) AS net, COUNT(*) AS entries
+            FROM ledger_entries
+            WHERE ledger_seq > ? AND ledger_seq <= ? AND %s
+            GROUP BY account_id, asset
+        )
+        INSERT INTO ledger_balance_snapshots (
+            account_id, asset, ledger_seq, balance, entry_count, created_at
+        )
+        SELECT d.account_id,
+               d.asset,
+               ?,
+               COALESCE(prev.balance, 0) + d.net,
+               COALESCE(prev.entry_count, 0) + d.entries,
+               NOW()
+        FROM delta d
+        LEFT JOIN LATERAL (
+            SELECT s.balance, s.entry_count
+            FROM ledger_balance_snapshots s
+            WHERE s.account_id = d.account_id AND s.asset = d.asset AND s.ledger_seq <= ?
+            ORDER BY s.ledger_seq DESC
+            LIMIT 1
+        ) prev ON TRUE
+        ON CONFLICT (account_id, asset, ledger_seq) DO NOTHING
+        """
+            .formatted(SIGNED_AMOUNT, BALANCE_ENTRY_FILTER);
+    return jdbcTemplate.update(sql, fromSeq, toSeq, toSeq, fromSeq);
+  }
+
+  @Override
+  public Optional<LedgerBalanceSnapshot> findLatestSnapshot(
+      UUID accountId, String asset, long atOrBefore) {
+    String sql =
+        """
+        SELECT account_id, asset, ledger_seq, balance, entry_count
+        FROM ledger_balance_snapshots
+        WHERE account_id = ? AND asset = ? AND ledger_seq <= ?
+        ORDER BY ledger_seq DESC
+        LIMIT 1
+        """;
+    return jdbcTemplate.query(sql, this::mapSnapshot, accountId, asset, atOrBefore).stream()
+        .findFirst();
+  }
+
+  @Override
+  public BigDecimal sumEntries(UUID accountId, String asset, long fromSeq, long toSeq) {
+    String sql =
+        """
+        SELECT COALESCE(SUM(%s), 0)
+        FROM ledger_entries
+        WHERE account_id = ? AND asset = ? AND ledger_seq > ? AND ledger_seq <= ? AND %s
+        """
+            .formatted(SIGNED_AMOUNT, BALANCE_ENTRY_FILTER);
+    return jdbcTemplate.queryForObject(sql, BigDecimal.class, accountId, asset, fromSeq, toSeq);
+  }
+
+  @Override
+  public List<LedgerBalanceMismatch> findMismatches() {
+    String sql =
+        """
+        SELECT w.account_id,
+               w.asset,
+               w.available + w.reserved AS wallet_total,
+               COALESCE(snap.balance, 0) + COALESCE(tail.net, 0) AS ledger_balance
+        FROM wallet_balances_consolidated w
+        LEFT JOIN LATERAL (
+            SELECT s.ledger_seq, s.balance
+            FROM ledger_balance_snapshots s
+            WHERE s.account_id = w.account_id AND s.asset = w.asset
+            ORDER BY s.ledger_seq DESC
+            LIMIT 1
+        ) snap ON TRUE
+        LEFT JOIN LATERAL (
+            SELECT SUM(%s) AS net
+            FROM ledger_entries e
+            WHERE e.account_id = w.account_id
+              AND e.asset = w.asset
+              AND e.ledger_seq > COALESCE(snap.ledger_seq, 0)
+              AND %s
+        ) tail ON TRUE
+        WHERE w.available + w.reserved <> COALESCE(snap.balance, 0) + COALESCE(tail.net, 0)
+        ORDER BY w.account_id, w.asset
+        """
+            .formatted(SIGNED_AMOUNT, BALANCE_ENTRY_FILTER);
+    return jdbcTemplate.query(sql, this::mapMismatch);
+  }
+
+  @Override
+  public LedgerMismatchPage findMismatches(
+      String asset, UUID afterAccountId, UUID throughAccountId, int limit) {
+    List<Object> args = new ArrayList<>();
+    args.add(asset);
+    StringBuilder range = new StringBuilder();
+    if (afterAccountId != null) {
+      range.append(" AND account_id > ?");
+      args.add(afterAccountId);
+    }
+    if (throughAccountId != null) {
+      range.append(" AND account_id <= ?");
+      args.add(throughAccountId);
+    }
+    args.add(limit);
+    String sql =
+        """
+        WITH page AS (
+            SELECT account_id, asset, available + reserved AS wallet_total
+            FROM wallet_balances_consolidated
+            WHERE asset = ?%s
+            ORDER BY account_id
+            LIMIT ?
+        ),
+        cursor AS (
+            SELECT (SELECT account_id FROM page ORDER BY account_id DESC LIMIT 1) AS last_account_id,
+                   (SELECT COUNT(*) FROM page) AS scanned
+        ),
+        checked AS (
+            SELECT p.account_id,
+                   p.asset,
+                   p.wallet_total,
+                   COALESCE(snap.balance, 0) + COALESCE(tail.net, 0) AS ledger_balance
+            FROM page p
+            LEFT JOIN LATERAL (
+                SELECT s.ledger_seq, s.balance
+                FROM ledger_balance_snapshots s
+                WHERE s.account_id = p.account_id AND s.asset = p.asset
+                ORDER BY s.ledger_seq DESC
+                LIMIT 1
+            ) snap ON TRUE
+            LEFT JOIN LATERAL (
+                SELECT SUM(%s) AS net
+                FROM ledger_entries e
+                WHERE e.account_id = p.account_id
+                  AND e.asset = p.asset
+                  AND e.ledger_seq > COALESCE(snap.ledger_seq, 0)
+                  AND %s
+            ) tail ON TRUE
+        )
+        SELECT c.last_account_id, c.scanned, m.account_id, m.asset, m.wallet_total, m.ledger_balance
+        FROM cursor c
+        LEFT JOIN checked m ON m.wallet_total <> m.ledger_balance
+        ORDER BY m.account_id
+        """
+            .formatted(range, SIGNED_AMOUNT, BALANCE_ENTRY_FILTER);
+    List<LedgerBalanceMismatch> mismatches = new ArrayList<>();
+    UUID[] lastAccountId = new UUID[1];
+    jdbcTemplate.query(
+        sql,
+        rs -> {
+          if (rs.getLong("scanned") == limit) {
+            lastAccountId[0] = rs.getObject("last_account_id", UUID.class);
+          }
+          if (rs.getObject("account_id") != null) {
+            mismatches.add(mapMismatch(rs, mismatches.size()));
+          }
+        },
+        args.toArray());
+    return new LedgerMismatchPage(List.copyOf(mismatches), lastAccountId[0]);
+  }
+
+  @Override
+  public Map<String, BigDecimal> findLedgerTotalsByAsset() {
+    // Every wallet's latest snapshot is current as of the newest checkpoint, so only entries after
+    // that checkpoint need replaying.
+    String sql =
+        """
+        WITH checkpoint AS (
+            SELECT COALESCE(MAX(ledger_seq), 0) AS ledger_seq FROM ledger_balance_snapshots
+        ),
+        latest AS (
+            SELECT DISTINCT ON (account_id, asset) asset, balance
+            FROM ledger_balance_snapshots
+            ORDER BY account_id, asset, ledger_seq DESC
+        ),
+        tail AS (
+            SELECT asset, %s AS amount
+            FROM ledger_entries
+            WHERE ledger_seq > (SELECT ledger_seq FROM checkpoint) AND %s
+        )
+        SELECT asset, SUM(amount) AS total
+        FROM (
+            SELECT asset, balance AS amount FROM latest
+            UNION ALL
+            SELECT asset, amount FROM tail
+        ) totals
+        GROUP BY asset
+        ORDER BY asset
+        """
+            .formatted(SIGNED_AMOUNT, BALANCE_ENTRY_FILTER);
+    Map<String, BigDecimal> totals = new LinkedHashMap<>();
+    jdbcTemplate.query(
+        sql,
+        rs -> {
+          totals.put(rs.getString("asset"), rs.getBigDecimal("total"));
+        });
+    return totals;
+  }
+
+  private LedgerBalanceSnapshot mapSnapshot(ResultSet rs, int rowNum) throws SQLException {
+    return new LedgerBalanceSnapshot(
+        rs.getObject("account_id", UUID.class),
+        rs.getString("asset"),
+        rs.getLong("ledger_seq"),
+        rs.getBigDecimal("balance"),
+        rs.getLong("entry_count"));
+  }
+
+  private LedgerBalanceMismatch mapMismatch(ResultSet rs, int rowNum) throws SQLException {
+    return new LedgerBalanceMismatch(
+        rs.getObject("account_id", UUID.class),
+        rs.getString("asset"),
+        rs.getBigDecimal("wallet_total"),
+        rs.getBigDecimal("ledger_balance"));
+  }
+}
@@ -0,0 +1,12 @@
+package com.tradingplatform.tradingapi.ledger;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record LedgerBalanceMismatch(
+    UUID accountId, String asset, BigDecimal walletTotal, BigDecimal ledgerBalance) {
+
+  public BigDecimal drift() {
+    return walletTotal.subtract(ledgerBalance);
+  }
+}
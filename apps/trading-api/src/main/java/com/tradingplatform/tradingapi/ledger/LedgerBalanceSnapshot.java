@@ -0,0 +1,7 @@
+package com.tradingplatform.tradingapi.ledger;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record LedgerBalanceSnapshot(
+    UUID accountId, String asset, long ledgerSeq, BigDecimal balance, long entryCount) {}
@@ -0,0 +1,10 @@
+package com.tradingplatform.tradingapi.ledger;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One keyset page of a wallet scan: the mismatches found in it and the last account scanned, or
+ * {@code null} once the range is exhausted.
+ */
+public record LedgerMismatchPage(List<LedgerBalanceMismatch> mismatches, UUID lastAccountId) {}
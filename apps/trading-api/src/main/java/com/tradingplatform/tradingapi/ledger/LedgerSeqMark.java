@@ -0,0 +1,8 @@
+package com.tradingplatform.tradingapi.ledger;
+
+/**
+ * The last ledger_seq handed out, with the first transaction id not yet assigned when it was read.
+ * Once every transaction below {@code nextXid} has finished, no entry at or below {@code ledgerSeq}
+ * can still commit.
+ */
+public record LedgerSeqMark(long ledgerSeq, long nextXid) {}
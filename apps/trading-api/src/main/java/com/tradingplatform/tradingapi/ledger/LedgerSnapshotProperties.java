@@ -0,0 +1,27 @@
+package com.tradingplatform.tradingapi.ledger;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "ledger.snapshots")
+public class LedgerSnapshotProperties {
+  private boolean enabled = false;
+  private long fixedDelayMs = 60_000L;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public long getFixedDelayMs() {
+    return fixedDelayMs;
+  }
+
+  public void setFixedDelayMs(long fixedDelayMs) {
+    this.fixedDelayMs = fixedDelayMs;
+  }
+}
@@ -0,0 +1,40 @@
+package com.tradingplatform.tradingapi.ledger;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface LedgerSnapshotRepository {
+  /** Takes the transaction-scoped checkpoint lock, returning false if another writer holds it. */
+  boolean tryLockCheckpoint();
+
+  long findLatestCheckpoint();
+
+  /** Reads the sequence's high-water mark; see {@link LedgerSeqMark}. */
+  LedgerSeqMark markAllocatedSeq();
+
+  /** True once no transaction that was running when {@code mark} was taken is still open. */
+  boolean isSettled(LedgerSeqMark mark);
+
+  /** Rolls entries in {@code (fromSeq, toSeq]} onto the previous snapshots, one row per wallet. */
+  int writeSnapshots(long fromSeq, long toSeq);
+
+  Optional<LedgerBalanceSnapshot> findLatestSnapshot(UUID accountId, String asset, long atOrBefore);
+
+  BigDecimal sumEntries(UUID accountId, String asset, long fromSeq, long toSeq);
+
+  /** Wallets whose total disagrees with their latest snapshot plus the entries after it. */
+  List<LedgerBalanceMismatch> findMismatches();
+
+  /**
+   * Scans up to {@code limit} wallets of one asset with account ids in {@code (afterAccountId,
+   * throughAccountId]}; either bound may be {@code null} for an open end.
+   */
+  LedgerMismatchPage findMismatches(
+      String asset, UUID afterAccountId, UUID throughAccountId, int limit);
+
+  /** Ledger balance per asset summed over all wallets. */
+  Map<String, BigDecimal> findLedgerTotalsByAsset();
+}
@@ -0,0 +1,49 @@
+package com.tradingplatform.tradingapi.ledger;
+
+import java.util.List;
+import java.util.OptionalLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(
+    prefix = "ledger.snapshots",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = false)
+public class LedgerSnapshotScheduler {
+  private static final Logger log = LoggerFactory.getLogger(LedgerSnapshotScheduler.class);
+  private static final int LOGGED_MISMATCHES = 10;
+
+  private final LedgerSnapshotService ledgerSnapshotService;
+
+  public LedgerSnapshotScheduler(LedgerSnapshotService ledgerSnapshotService) {
+    this.ledgerSnapshotService = ledgerSnapshotService;
+  }
+
+  @Scheduled(fixedDelayString = "${ledger.snapshots.fixed-delay-ms:60000}")
+  public void runScheduled() {
+    OptionalLong checkpoint = ledgerSnapshotService.writeCheckpoint();
+    List<LedgerBalanceMismatch> mismatches = ledgerSnapshotService.verify();
+    if (mismatches.isEmpty()) {
+      log.info(
+          "Ledger balance verification passed checkpoint={}",
+          checkpoint.isPresent() ? checkpoint.getAsLong() : "unchanged");
+      return;
+    }
+    log.warn("Ledger balance verification found {} mismatched wallets", mismatches.size());
+    for (LedgerBalanceMismatch mismatch :
+        mismatches.subList(0, Math.min(LOGGED_MISMATCHES, mismatches.size()))) {
+      log.warn(
+          "Ledger balance mismatch account_id={} asset={} wallet_total={} ledger_balance={} drift={}",
+          mismatch.accountId(),
+          mismatch.asset(),
+          mismatch.walletTotal(),
+          mismatch.ledgerBalance(),
+          mismatch.drift());
+    }
+  }
+}
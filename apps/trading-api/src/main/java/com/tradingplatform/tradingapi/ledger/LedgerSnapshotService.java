@@ -0,0 +1,69 @@
+package com.tradingplatform.tradingapi.ledger;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Maintains per-wallet running balances at ledger checkpoints so balance queries and verification
+ * only replay the entries written since the latest snapshot.
+ *
+ * <p>ledger_seq is drawn before commit, so a lower seq can become visible after a higher one. Each
+ * run marks the highest seq handed out so far and checkpoints up to the previous run's mark once
+ * every transaction open at that time has finished.
+ */
+@Service
+public class LedgerSnapshotService {
+  private final LedgerSnapshotRepository repository;
+  private volatile LedgerSeqMark pendingMark;
+
+  public LedgerSnapshotService(LedgerSnapshotRepository repository) {
+    this.repository = repository;
+  }
+
+  /** Returns the new checkpoint, or empty if nothing settled or another instance holds the lock. */
+  @Transactional
+  public OptionalLong writeCheckpoint() {
+    if (!repository.tryLockCheckpoint()) {
+      return OptionalLong.empty();
+    }
+    LedgerSeqMark mark = pendingMark;
+    if (mark != null && !repository.isSettled(mark)) {
+      return OptionalLong.empty();
+    }
+    pendingMark = repository.markAllocatedSeq();
+    if (mark == null) {
+      return OptionalLong.empty();
+    }
+    long previous = repository.findLatestCheckpoint();
+    if (mark.ledgerSeq() <= previous) {
+      return OptionalLong.empty();
+    }
+    repository.writeSnapshots(previous, mark.ledgerSeq());
+    return OptionalLong.of(mark.ledgerSeq());
+  }
+
+  @Transactional(readOnly = true)
+  public BigDecimal balanceAt(UUID accountId, String asset, long ledgerSeq) {
+    return repository
+        .findLatestSnapshot(accountId, asset, ledgerSeq)
+        .map(
+            snapshot ->
+                snapshot
+                    .balance()
+                    .add(repository.sumEntries(accountId, asset, snapshot.ledgerSeq(), ledgerSeq)))
+        .orElseGet(() -> repository.sumEntries(accountId, asset, 0L, ledgerSeq));
+  }
+
+  public BigDecimal currentBalance(UUID accountId, String asset) {
+    return balanceAt(accountId, asset, Long.MAX_VALUE);
+  }
+
+  @Transactional(readOnly = true)
+  public List<LedgerBalanceMismatch> verify() {
+    return repository.findMismatches();
+  }
+}
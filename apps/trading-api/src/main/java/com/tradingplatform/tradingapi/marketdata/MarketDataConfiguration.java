@@ -0,0 +1,51 @@
+package com.tradingplatform.tradingapi.marketdata;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tradingplatform.domain.instruments.marketdata.TopOfBookCache;
+import com.tradingplatform.integration.binance.BinanceMarketDataFeed;
+import com.tradingplatform.integration.binance.BinanceMarketDataParser;
+import com.tradingplatform.integration.binance.BinanceMarketDataReplayFeed;
+import com.tradingplatform.integration.binance.BinanceMarketDataStreamConfig;
+import com.tradingplatform.integration.binance.HttpBinanceMarketDataStreamClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MarketDataConfiguration {
+  @Bean
+  public TopOfBookCache topOfBookCache() {
+    return new TopOfBookCache(Clock.systemUTC());
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "market-data", name = "enabled", havingValue = "true")
+  public BinanceMarketDataFeed binanceMarketDataFeed(
+      MarketDataProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+    BinanceMarketDataParser parser = new BinanceMarketDataParser(objectMapper, Clock.systemUTC());
+    if ("replay".equalsIgnoreCase(properties.getMode())) {
+      if (properties.getReplayFile() == null || properties.getReplayFile().isBlank()) {
+        throw new IllegalStateException("market-data.replay-file is required in replay mode");
+      }
+      return new BinanceMarketDataReplayFeed(Path.of(properties.getReplayFile()), parser);
+    }
+    if (!"live".equalsIgnoreCase(properties.getMode())) {
+      throw new IllegalStateException("Unsupported market-data.mode: " + properties.getMode());
+    }
+    BinanceMarketDataStreamConfig config =
+        new BinanceMarketDataStreamConfig(
+            URI.create(properties.getWsBaseUrl()),
+            properties.getSymbols(),
+            Duration.ofMillis(properties.getConnectTimeoutMs()),
+            Duration.ofMillis(properties.getReconnectBaseBackoffMs()),
+            Duration.ofMillis(properties.getReconnectMaxBackoffMs()));
+    return new HttpBinanceMarketDataStreamClient(
+        HttpClient.newHttpClient(), parser, config, meterRegistry);
+  }
+}
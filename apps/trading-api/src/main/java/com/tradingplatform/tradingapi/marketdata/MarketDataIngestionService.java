@@ -0,0 +1,38 @@
+package com.tradingplatform.tradingapi.marketdata;
+
+import com.tradingplatform.domain.instruments.marketdata.TopOfBookCache;
+import com.tradingplatform.integration.binance.BinanceMarketDataFeed;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+@Service
+@ConditionalOnProperty(prefix = "market-data", name = "enabled", havingValue = "true")
+public class MarketDataIngestionService {
+  private final BinanceMarketDataFeed feed;
+  private final TopOfBookCache topOfBookCache;
+
+  public MarketDataIngestionService(
+      BinanceMarketDataFeed feed, TopOfBookCache topOfBookCache, MeterRegistry meterRegistry) {
+    this.feed = feed;
+    this.topOfBookCache = topOfBookCache;
+    Gauge.builder("marketdata.feed.connected", feed, f -> f.isConnected() ? 1 : 0)
+        .register(meterRegistry);
+    Gauge.builder("marketdata.symbols", topOfBookCache, TopOfBookCache::size)
+        .register(meterRegistry);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    feed.start(topOfBookCache);
+  }
+
+  @PreDestroy
+  public void stop() {
+    feed.stop();
+  }
+}
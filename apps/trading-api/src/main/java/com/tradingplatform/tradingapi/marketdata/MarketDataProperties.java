@@ -0,0 +1,92 @@
+package com.tradingplatform.tradingapi.marketdata;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "market-data")
+public class MarketDataProperties {
+  private boolean enabled = false;
+  private String mode = "live";
+  private List<String> symbols = new ArrayList<>();
+  private String wsBaseUrl = "wss://stream.binance.com:9443";
+  private String replayFile;
+  private long maxPriceAgeMs = 5000L;
+  private long connectTimeoutMs = 5000L;
+  private long reconnectBaseBackoffMs = 250L;
+  private long reconnectMaxBackoffMs = 30000L;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public String getMode() {
+    return mode;
+  }
+
+  public void setMode(String mode) {
+    this.mode = mode;
+  }
+
+  public List<String> getSymbols() {
+    return symbols;
+  }
+
+  public void setSymbols(List<String> symbols) {
+    this.symbols = symbols;
+  }
+
+  public String getWsBaseUrl() {
+    return wsBaseUrl;
+  }
+
+  public void setWsBaseUrl(String wsBaseUrl) {
+    this.wsBaseUrl = wsBaseUrl;
+  }
+
+  public String getReplayFile() {
+    return replayFile;
+  }
+
+  public void setReplayFile(String replayFile) {
+    this.replayFile = replayFile;
+  }
+
+  public long getMaxPriceAgeMs() {
+    return maxPriceAgeMs;
+  }
+
+  public void setMaxPriceAgeMs(long maxPriceAgeMs) {
+    this.maxPriceAgeMs = maxPriceAgeMs;
+  }
+
+  public long getConnectTimeoutMs() {
+    return connectTimeoutMs;
+  }
+
+  public void setConnectTimeoutMs(long connectTimeoutMs) {
+    this.connectTimeoutMs = connectTimeoutMs;
+  }
+
+  public long getReconnectBaseBackoffMs() {
+    return reconnectBaseBackoffMs;
+  }
+
+  public void setReconnectBaseBackoffMs(long reconnectBaseBackoffMs) {
+    this.reconnectBaseBackoffMs = reconnectBaseBackoffMs;
+  }
+
+  public long getReconnectMaxBackoffMs() {
+    return reconnectMaxBackoffMs;
+  }
+
+  public void setReconnectMaxBackoffMs(long reconnectMaxBackoffMs) {
+    this.reconnectMaxBackoffMs = reconnectMaxBackoffMs;
+  }
+}
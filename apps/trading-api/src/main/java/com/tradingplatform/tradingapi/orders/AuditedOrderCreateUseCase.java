@@ -4,7 +4,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tradingplatform.domain.orders.Order;
 import com.tradingplatform.tradingapi.audit.AuditLogEntry;
-import com.tradingplatform.tradingapi.audit.AuditLogRepository;
+import com.tradingplatform.tradingapi.audit.AuditLogWriter;
 import com.tradingplatform.tradingapi.audit.AuditResult;
 import com.tradingplatform.tradingapi.risk.RiskViolationException;
 import java.time.Instant;
@@ -21,15 +21,15 @@ import org.springframework.stereotype.Component;
 @Primary
 public class AuditedOrderCreateUseCase implements OrderCreateUseCase {
   private final OrderCreateUseCase delegate;
-  private final AuditLogRepository auditLogRepository;
+  private final AuditLogWriter auditLogWriter;
   private final ObjectMapper objectMapper;
 
   public AuditedOrderCreateUseCase(
       @Qualifier("riskValidatedOrderCreateUseCase") OrderCreateUseCase delegate,
-      AuditLogRepository auditLogRepository,
+      AuditLogWriter auditLogWriter,
       ObjectMapper objectMapper) {
     this.delegate = delegate;
-    this.auditLogRepository = auditLogRepository;
+    this.auditLogWriter = auditLogWriter;
     this.objectMapper = objectMapper;
   }
 
@@ -37,10 +37,11 @@ public class AuditedOrderCreateUseCase implements OrderCreateUseCase {
   public Order create(CreateOrderCommand command) {
     String actorUserId = resolveActorUserId();
     String entityId = command.orderId() != null ? command.orderId().toString() : "unknown";
-    String metadataJson = toJson(createMetadata(command, Instant.now()));
+    Instant now = Instant.now();
+    String metadataJson = toJson(createMetadata(command, now));
     try {
       Order created = delegate.create(command);
-      auditLogRepository.append(
+      auditLogWriter.write(
           new AuditLogEntry(
               actorUserId,
               "ORDER_SUBMIT",
@@ -51,10 +52,11 @@ public class AuditedOrderCreateUseCase implements OrderCreateUseCase {
               AuditResult.SUCCESS,
               null,
               null,
-              metadataJson));
+              metadataJson,
+              now));
       return created;
     } catch (RiskViolationException ex) {
-      auditLogRepository.append(
+      auditLogWriter.write(
           new AuditLogEntry(
               actorUserId,
               "ORDER_SUBMIT",
@@ -65,10 +67,11 @@ public class AuditedOrderCreateUseCase implements OrderCreateUseCase {
               AuditResult.REJECTED,
               ex.code(),
               ex.getMessage(),
-              metadataJson));
+              metadataJson,
+              now));
       throw ex;
     } catch (RuntimeException ex) {
-      auditLogRepository.append(
+      auditLogWriter.write(
           new AuditLogEntry(
               actorUserId,
               "ORDER_SUBMIT",
@@ -79,7 +82,8 @@ public class AuditedOrderCreateUseCase implements OrderCreateUseCase {
               AuditResult.FAILED,
               "UNEXPECTED_ERROR",
               ex.getMessage(),
-              metadataJson));
+              metadataJson,
+              now));
       throw ex;
     }
   }
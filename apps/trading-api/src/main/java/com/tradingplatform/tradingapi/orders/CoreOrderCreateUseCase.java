@@ -1,6 +1,7 @@
 package com.tradingplatform.tradingapi.orders;
 
 import com.tradingplatform.domain.orders.Order;
+import com.tradingplatform.infra.kafka.contract.OrderStages;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
@@ -15,6 +16,10 @@ public class CoreOrderCreateUseCase implements OrderCreateUseCase {
 
   @Override
   public Order create(CreateOrderCommand command) {
-    return orderApplicationService.createOrder(command);
+    Order created = orderApplicationService.createOrder(command);
+    if (command.stageTrace() != null) {
+      command.stageTrace().mark(OrderStages.DB_COMMITTED);
+    }
+    return created;
   }
 }
@@ -2,6 +2,7 @@ package com.tradingplatform.tradingapi.orders;
 
 import com.tradingplatform.domain.orders.OrderSide;
 import com.tradingplatform.domain.orders.OrderType;
+import com.tradingplatform.infra.kafka.observability.StageTrace;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.UUID;
@@ -17,7 +18,35 @@ public record CreateOrderCommand(
     BigDecimal marketNotionalCap,
     String clientOrderId,
     String correlationId,
-    Instant occurredAt) {
+    Instant occurredAt,
+    StageTrace stageTrace) {
+  public CreateOrderCommand(
+      UUID orderId,
+      UUID accountId,
+      String instrument,
+      OrderSide side,
+      OrderType type,
+      BigDecimal qty,
+      BigDecimal price,
+      BigDecimal marketNotionalCap,
+      String clientOrderId,
+      String correlationId,
+      Instant occurredAt) {
+    this(
+        orderId,
+        accountId,
+        instrument,
+        side,
+        type,
+        qty,
+        price,
+        marketNotionalCap,
+        clientOrderId,
+        correlationId,
+        occurredAt,
+        null);
+  }
+
   public CreateOrderCommand(
       UUID orderId,
       UUID accountId,
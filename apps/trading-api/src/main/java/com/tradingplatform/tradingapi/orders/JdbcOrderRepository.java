@@ -4,8 +4,10 @@ import com.tradingplatform.domain.orders.Order;
 import com.tradingplatform.domain.orders.OrderSide;
 import com.tradingplatform.domain.orders.OrderStatus;
 import com.tradingplatform.domain.orders.OrderType;
+import com.tradingplatform.tradingapi.pagination.SeekCursor;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -15,6 +17,15 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 public class JdbcOrderRepository implements OrderRepository {
+  private static final String SELECT_BY_ACCOUNT =
+      """
+      SELECT id, account_id, instrument, side, type, qty, price, status,
+             filled_qty, client_order_id, exchange_name, exchange_order_id,
+             exchange_client_order_id, created_at, updated_at
+      FROM orders
+      WHERE account_id = ?
+      """;
+
   private final JdbcTemplate jdbcTemplate;
 
   public JdbcOrderRepository(JdbcTemplate jdbcTemplate) {
@@ -118,36 +129,45 @@ public class JdbcOrderRepository implements OrderRepository {
   @Override
   public List<Order> findByAccountId(
       UUID accountId, String status, String instrument, int offset, int limit) {
-    StringBuilder sql =
-        new StringBuilder(
-            """
-            SELECT id, account_id, instrument, side, type, qty, price, status,
-                   filled_qty, client_order_id, exchange_name, exchange_order_id,
-                   exchange_client_order_id, created_at, updated_at
-            FROM orders
-            WHERE account_id = ?
-            """);
+    StringBuilder sql = new StringBuilder(SELECT_BY_ACCOUNT);
     List<Object> params = new ArrayList<>();
     params.add(accountId);
-    if (status != null) {
-      sql.append(" AND status = ?");
-      params.add(status);
-    }
-    if (instrument != null) {
-      sql.append(" AND instrument = ?");
-      params.add(instrument);
-    }
-    sql.append(" ORDER BY created_at DESC LIMIT ? OFFSET ?");
+    appendFilters(sql, params, status, instrument);
+    sql.append(" ORDER BY created_at DESC, id DESC LIMIT ? OFFSET ?");
     params.add(limit);
     params.add(offset);
     return jdbcTemplate.query(sql.toString(), this::mapRow, params.toArray());
   }
 
+  @Override
+  public List<Order> findByAccountIdAfter(
+      UUID accountId, String status, String instrument, SeekCursor after, int limit) {
+    StringBuilder sql = new StringBuilder(SELECT_BY_ACCOUNT);
+    List<Object> params = new ArrayList<>();
+    params.add(accountId);
+    appendFilters(sql, params, status, instrument);
+    Timestamp createdAt = Timestamp.from(after.position());
+    sql.append(" AND created_at <= ? AND (created_at < ? OR id < ?)");
+    params.add(createdAt);
+    params.add(createdAt);
+    params.add(after.id());
+    sql.append(" ORDER BY created_at DESC, id DESC LIMIT ?");
+    params.add(limit);
+    return jdbcTemplate.query(sql.toString(), this::mapRow, params.toArray());
+  }
+
   @Override
   public long countByAccountId(UUID accountId, String status, String instrument) {
     StringBuilder sql = new StringBuilder("SELECT COUNT(*) FROM orders WHERE account_id = ?");
     List<Object> params = new ArrayList<>();
     params.add(accountId);
+    appendFilters(sql, params, status, instrument);
+    Long count = jdbcTemplate.queryForObject(sql.toString(), Long.class, params.toArray());
+    return count != null ? count : 0L;
+  }
+
+  private static void appendFilters(
+      StringBuilder sql, List<Object> params, String status, String instrument) {
     if (status != null) {
       sql.append(" AND status = ?");
       params.add(status);
@@ -156,8 +176,6 @@ public class JdbcOrderRepository implements OrderRepository {
       sql.append(" AND instrument = ?");
       params.add(instrument);
     }
-    Long count = jdbcTemplate.queryForObject(sql.toString(), Long.class, params.toArray());
-    return count != null ? count : 0L;
   }
 
   private Order mapRow(ResultSet rs, int rowNum) throws SQLException {
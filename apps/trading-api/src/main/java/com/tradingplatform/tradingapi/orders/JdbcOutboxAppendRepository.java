@@ -10,6 +10,7 @@ import com.tradingplatform.infra.kafka.contract.payload.OrderSubmittedV1;
 import com.tradingplatform.infra.kafka.contract.payload.OrderSubmittedV2;
 import com.tradingplatform.infra.kafka.contract.payload.OrderUpdatedV1;
 import com.tradingplatform.infra.kafka.contract.payload.OrderUpdatedV2;
+import com.tradingplatform.infra.kafka.observability.StageTrace;
 import com.tradingplatform.infra.kafka.topics.TopicNames;
 import java.time.Instant;
 import java.util.UUID;
@@ -29,7 +30,8 @@ public class JdbcOutboxAppendRepository implements OutboxAppendRepository {
   }
 
   @Override
-  public void appendOrderSubmitted(Order order, String correlationId, Instant occurredAt) {
+  public void appendOrderSubmitted(
+      Order order, String correlationId, Instant occurredAt, StageTrace stageTrace) {
     OrderSubmittedV1 payloadV1 =
         new OrderSubmittedV1(
             order.id().toString(),
@@ -58,12 +60,14 @@ public class JdbcOutboxAppendRepository implements OutboxAppendRepository {
             order.price(),
             order.clientOrderId(),
             occurredAt);
+    // Only the v2 row carries the trace: it is the one the execution worker consumes.
     append(
         ORDER_AGGREGATE_TYPE,
         order.id(),
         EventTypes.ORDER_SUBMITTED,
         payloadV2,
-        TopicNames.ORDERS_SUBMITTED_V2);
+        TopicNames.ORDERS_SUBMITTED_V2,
+        stageTrace == null || stageTrace.isEmpty() ? null : stageTrace.encode());
   }
 
   @Override
@@ -116,6 +120,16 @@ public class JdbcOutboxAppendRepository implements OutboxAppendRepository {
 
   private void append(
       String aggregateType, UUID aggregateId, String eventType, Object payload, String topic) {
+    append(aggregateType, aggregateId, eventType, payload, topic, null);
+  }
+
+  private void append(
+      String aggregateType,
+      UUID aggregateId,
+      String eventType,
+      Object payload,
+      String topic,
+      String stageTrace) {
     String payloadJson = toJson(payload);
     String sql =
         """
@@ -129,12 +143,21 @@ public class JdbcOutboxAppendRepository implements OutboxAppendRepository {
             event_key,
             status,
             attempt_count,
+            stage_trace,
             created_at
-        ) VALUES (?, ?, ?, ?, CAST(? AS JSONB), ?, ?, 'NEW', 0, NOW())
+        ) VALUES (?, ?, ?, ?, CAST(? AS JSONB), ?, ?, 'NEW', 0, ?, NOW())
         """;
     String key = aggregateId.toString();
     jdbcTemplate.update(
-        sql, UUID.randomUUID(), aggregateType, key, eventType, payloadJson, topic, key);
+        sql,
+        UUID.randomUUID(),
+        aggregateType,
+        key,
+        eventType,
+        payloadJson,
+        topic,
+        key,
+        stageTrace);
   }
 
   private String toJson(Object payload) {
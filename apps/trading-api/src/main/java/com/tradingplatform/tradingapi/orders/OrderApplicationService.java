@@ -6,6 +6,8 @@ import com.tradingplatform.domain.orders.Order;
 import com.tradingplatform.domain.orders.OrderDomainException;
 import com.tradingplatform.domain.orders.OrderStatus;
 import com.tradingplatform.domain.orders.OrderType;
+import com.tradingplatform.infra.kafka.contract.OrderStages;
+import com.tradingplatform.tradingapi.pagination.SeekCursor;
 import com.tradingplatform.tradingapi.risk.AccountLimitConfig;
 import com.tradingplatform.tradingapi.risk.AccountLimitService;
 import com.tradingplatform.tradingapi.risk.RiskViolationException;
@@ -69,7 +71,11 @@ public class OrderApplicationService {
     orderEventRepository.append(
         new OrderEventAppend(
             order.id(), "ORDER_CREATED", null, order.status(), toJson(createPayload(command, occurredAt))));
-    outboxAppendRepository.appendOrderSubmitted(order, command.correlationId(), occurredAt);
+    if (command.stageTrace() != null) {
+      command.stageTrace().mark(OrderStages.ORDER_PERSISTED);
+    }
+    outboxAppendRepository.appendOrderSubmitted(
+        order, command.correlationId(), occurredAt, command.stageTrace());
     return order;
   }
 
@@ -145,6 +151,12 @@ public class OrderApplicationService {
     return orderRepository.findByAccountId(accountId, status, instrument, offset, limit);
   }
 
+  @Transactional(readOnly = true)
+  public List<Order> findByAccountIdAfter(
+      UUID accountId, String status, String instrument, SeekCursor after, int limit) {
+    return orderRepository.findByAccountIdAfter(accountId, status, instrument, after, limit);
+  }
+
   @Transactional(readOnly = true)
   public long countByAccountId(UUID accountId, String status, String instrument) {
     return orderRepository.countByAccountId(accountId, status, instrument);
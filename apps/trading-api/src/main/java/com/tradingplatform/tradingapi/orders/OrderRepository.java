@@ -1,6 +1,7 @@
 package com.tradingplatform.tradingapi.orders;
 
 import com.tradingplatform.domain.orders.Order;
+import com.tradingplatform.tradingapi.pagination.SeekCursor;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,5 +16,8 @@ public interface OrderRepository {
   List<Order> findByAccountId(
       UUID accountId, String status, String instrument, int offset, int limit);
 
+  List<Order> findByAccountIdAfter(
+      UUID accountId, String status, String instrument, SeekCursor after, int limit);
+
   long countByAccountId(UUID accountId, String status, String instrument);
 }
@@ -3,11 +3,17 @@ package com.tradingplatform.tradingapi.orders;
 import com.tradingplatform.domain.orders.Order;
 import com.tradingplatform.domain.orders.OrderStatus;
 import com.tradingplatform.infra.kafka.contract.payload.BalanceUpdatedV1;
+import com.tradingplatform.infra.kafka.observability.StageTrace;
 import java.time.Instant;
 import java.util.UUID;
 
 public interface OutboxAppendRepository {
-  void appendOrderSubmitted(Order order, String correlationId, Instant occurredAt);
+  default void appendOrderSubmitted(Order order, String correlationId, Instant occurredAt) {
+    appendOrderSubmitted(order, correlationId, occurredAt, null);
+  }
+
+  void appendOrderSubmitted(
+      Order order, String correlationId, Instant occurredAt, StageTrace stageTrace);
 
   void appendOrderUpdated(
       Order order, OrderStatus fromStatus, String correlationId, Instant occurredAt);
@@ -1,6 +1,7 @@
 package com.tradingplatform.tradingapi.orders;
 
 import com.tradingplatform.domain.orders.Order;
+import com.tradingplatform.infra.kafka.contract.OrderStages;
 import com.tradingplatform.tradingapi.risk.RiskCheckService;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
@@ -21,6 +22,11 @@ public class RiskValidatedOrderCreateUseCase implements OrderCreateUseCase {
   @Override
   public Order create(CreateOrderCommand command) {
     riskCheckService.validateOrder(command);
-    return delegate.create(command);
+    if (command.stageTrace() != null) {
+      command.stageTrace().mark(OrderStages.RISK_CHECKED);
+    }
+    Order order = delegate.create(command);
+    riskCheckService.recordAccepted(order);
+    return order;
   }
 }
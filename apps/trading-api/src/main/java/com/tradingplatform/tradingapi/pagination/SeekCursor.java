@@ -0,0 +1,46 @@
+package com.tradingplatform.tradingapi.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+public record SeekCursor(Instant position, UUID id) {
+  private static final String SEPARATOR = "|";
+
+  public SeekCursor {
+    if (position == null) {
+      throw new IllegalArgumentException("position must not be null");
+    }
+    if (id == null) {
+      throw new IllegalArgumentException("id must not be null");
+    }
+  }
+
+  public String encode() {
+    String raw = position.getEpochSecond() + "." + position.getNano() + SEPARATOR + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static SeekCursor decode(String token) {
+    if (token == null || token.isBlank()) {
+      throw new IllegalArgumentException("cursor must not be blank");
+    }
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+      int separatorIndex = raw.indexOf(SEPARATOR);
+      int dotIndex = raw.indexOf('.');
+      if (separatorIndex < 0 || dotIndex < 0 || dotIndex > separatorIndex) {
+        throw new IllegalArgumentException("Invalid cursor");
+      }
+      long epochSecond = Long.parseLong(raw.substring(0, dotIndex));
+      int nano = Integer.parseInt(raw.substring(dotIndex + 1, separatorIndex));
+      UUID id = UUID.fromString(raw.substring(separatorIndex + 1));
+      return new SeekCursor(Instant.ofEpochSecond(epochSecond, nano), id);
+    } catch (RuntimeException ex) {
+      throw new IllegalArgumentException("Invalid cursor", ex);
+    }
+  }
+}
@@ -0,0 +1,162 @@
+package com.tradingplatform.tradingapi.partitioning;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class JdbcPartitionRepository implements PartitionRepository {
+  private static final Pattern PARTITION_SUFFIX = Pattern.compile("\\d{6}");
+  private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public JdbcPartitionRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  public String ensureMonthlyPartition(String parentTable, YearMonth month) {
+    return jdbcTemplate.queryForObject(
+        "SELECT ensure_monthly_partition(?, ?)",
+        String.class,
+        requirePartitionedTable(parentTable),
+        Date.valueOf(month.atDay(1)));
+  }
+
+  @Override
+  public List<MonthlyPartition> findMonthlyPartitions(String parentTable) {
+    // Read from pg_class rather than pg_inherits so detached month tables are still found.
+    String sql =
+        """
+        SELECT c.relname AS partition_name, c.relispartition AS attached
+        FROM pg_class c
+        WHERE c.relnamespace = current_schema()::regnamespace
+          AND c.relkind = 'r'
+          AND c.relname LIKE ?
+        ORDER BY c.relname
+        """;
+    List<Map.Entry<String, Boolean>> tables =
+        jdbcTemplate.query(
+            sql,
+            (rs, rowNum) -> Map.entry(rs.getString("partition_name"), rs.getBoolean("attached")),
+            requirePartitionedTable(parentTable) + "_p%");
+    List<MonthlyPartition> partitions = new ArrayList<>();
+    String prefix = parentTable + "_p";
+    for (Map.Entry<String, Boolean> table : tables) {
+      String name = table.getKey();
+      if (!name.startsWith(prefix)) {
+        continue;
+      }
+      String suffix = name.substring(prefix.length());
+      if (PARTITION_SUFFIX.matcher(suffix).matches()) {
+        partitions.add(
+            new MonthlyPartition(
+                parentTable, name, YearMonth.parse(suffix, SUFFIX_FORMAT), table.getValue()));
+      }
+    }
+    return partitions;
+  }
+
+  @Override
+  public void detachPartition(MonthlyPartition partition) {
+    jdbcTemplate.execute(
+        "ALTER TABLE " + quotedParent(partition) + " DETACH PARTITION " + quotedName(partition));
+  }
+
+  @Override
+  public void attachPartition(MonthlyPartition partition) {
+    LocalDate from = partition.month().atDay(1);
+    LocalDate to = partition.month().plusMonths(1).atDay(1);
+    jdbcTemplate.execute(
+        "ALTER TABLE "
+            + quotedParent(partition)
+            + " ATTACH PARTITION "
+            + quotedName(partition)
+            + " FOR VALUES FROM ('"
+            + from
+            + " 00:00:00+00') TO ('"
+            + to
+            + " 00:00:00+00')");
+  }
+
+  @Override
+  public long exportPartition(MonthlyPartition partition, Path target) {
+    String copy = "COPY " + quotedName(partition) + " TO STDOUT (FORMAT csv, HEADER)";
+    return jdbcTemplate.execute(
+        (ConnectionCallback<Long>)
+            connection -> {
+              Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+              try {
+                Files.createDirectories(target.toAbsolutePath().getParent());
+                long rows;
+                try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(tmp))) {
+                  rows = connection.unwrap(PGConnection.class).getCopyAPI().copyOut(copy, out);
+                }
+                Files.move(
+                    tmp,
+                    target,
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+                return rows;
+              } catch (IOException ex) {
+                throw new UncheckedIOException("Failed to export " + partition.name(), ex);
+              }
+            });
+  }
+
+  @Override
+  public void dropPartition(MonthlyPartition partition) {
+    jdbcTemplate.execute("DROP TABLE " + quotedName(partition));
+  }
+
+  @Override
+  public long findMaxLedgerSeq(MonthlyPartition partition) {
+    if (!"ledger_entries".equals(partition.parentTable())) {
+      throw new IllegalArgumentException("Not a ledger_entries partition: " + partition.name());
+    }
+    Long seq =
+        jdbcTemplate.queryForObject(
+            "SELECT COALESCE(MAX(ledger_seq), 0) FROM " + quotedName(partition), Long.class);
+    return seq == null ? 0L : seq;
+  }
+
+  private static String requirePartitionedTable(String table) {
+    if (!PARTITIONED_TABLES.contains(table)) {
+      throw new IllegalArgumentException("Not a partitioned table: " + table);
+    }
+    return table;
+  }
+
+  private static String quotedParent(MonthlyPartition partition) {
+    return "\"" + requirePartitionedTable(partition.parentTable()) + "\"";
+  }
+
+  // Partition names are derived from a known parent and a month, never taken from input.
+  private static String quotedName(MonthlyPartition partition) {
+    String expected =
+        requirePartitionedTable(partition.parentTable())
+            + "_p"
+            + partition.month().format(SUFFIX_FORMAT);
+    if (!expected.equals(partition.name())) {
+      throw new IllegalArgumentException("Unexpected partition name: " + partition.name());
+    }
+    return "\"" + expected + "\"";
+  }
+}
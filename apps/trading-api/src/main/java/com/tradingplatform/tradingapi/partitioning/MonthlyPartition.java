@@ -0,0 +1,13 @@
+package com.tradingplatform.tradingapi.partitioning;
+
+import java.time.YearMonth;
+
+/**
+ * One {@code <parent>_pYYYYMM} partition covering a UTC calendar month. {@code attached} is {@code
+ * false} for a month table an interrupted archive left detached.
+ */
+public record MonthlyPartition(String parentTable, String name, YearMonth month, boolean attached) {
+  public MonthlyPartition(String parentTable, String name, YearMonth month) {
+    this(parentTable, name, month, true);
+  }
+}
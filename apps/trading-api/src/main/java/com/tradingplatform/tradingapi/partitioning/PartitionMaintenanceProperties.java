@@ -0,0 +1,65 @@
+package com.tradingplatform.tradingapi.partitioning;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "partitions.maintenance")
+public class PartitionMaintenanceProperties {
+  private boolean enabled = false;
+  private long fixedDelayMs = 3_600_000L;
+  private int monthsAhead = 2;
+  private String archiveDirectory = "";
+
+  /**
+   * Months kept online per partitioned table, counting the current month. Tables that are missing
+   * or set to 0 are never archived.
+   */
+  private Map<String, Integer> retentionMonths = new LinkedHashMap<>();
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public long getFixedDelayMs() {
+    return fixedDelayMs;
+  }
+
+  public void setFixedDelayMs(long fixedDelayMs) {
+    this.fixedDelayMs = fixedDelayMs;
+  }
+
+  public int getMonthsAhead() {
+    return monthsAhead;
+  }
+
+  public void setMonthsAhead(int monthsAhead) {
+    this.monthsAhead = monthsAhead;
+  }
+
+  public String getArchiveDirectory() {
+    return archiveDirectory;
+  }
+
+  public void setArchiveDirectory(String archiveDirectory) {
+    this.archiveDirectory = archiveDirectory;
+  }
+
+  public Map<String, Integer> getRetentionMonths() {
+    return retentionMonths;
+  }
+
+  public void setRetentionMonths(Map<String, Integer> retentionMonths) {
+    this.retentionMonths = retentionMonths;
+  }
+
+  public int retentionMonthsFor(String table) {
+    return retentionMonths.getOrDefault(table, 0);
+  }
+}
@@ -0,0 +1,6 @@
+package com.tradingplatform.tradingapi.partitioning;
+
+import java.util.List;
+
+public record PartitionMaintenanceResult(
+    List<String> ensured, List<String> archived, List<String> skipped) {}
@@ -0,0 +1,33 @@
+package com.tradingplatform.tradingapi.partitioning;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(
+    prefix = "partitions.maintenance",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = false)
+public class PartitionMaintenanceScheduler {
+  private static final Logger log = LoggerFactory.getLogger(PartitionMaintenanceScheduler.class);
+
+  private final PartitionMaintenanceService partitionMaintenanceService;
+
+  public PartitionMaintenanceScheduler(PartitionMaintenanceService partitionMaintenanceService) {
+    this.partitionMaintenanceService = partitionMaintenanceService;
+  }
+
+  @Scheduled(fixedDelayString = "${partitions.maintenance.fixed-delay-ms:3600000}")
+  public void runScheduled() {
+    PartitionMaintenanceResult result = partitionMaintenanceService.runOnce();
+    log.info(
+        "Partition maintenance completed ensured={} archived={} skipped={}",
+        result.ensured().size(),
+        result.archived(),
+        result.skipped());
+  }
+}
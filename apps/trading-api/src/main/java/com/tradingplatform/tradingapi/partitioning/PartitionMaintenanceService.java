@@ -0,0 +1,124 @@
+package com.tradingplatform.tradingapi.partitioning;
+
+import com.tradingplatform.tradingapi.ledger.LedgerSnapshotRepository;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps monthly partitions created ahead of time and moves months past their retention out of the
+ * database: detach, export to {@code <archive-directory>/<table>/<partition>.csv.gz}, then drop.
+ * The steps are not one transaction; month tables are listed from the catalog whether attached or
+ * not, so a run interrupted after the detach is finished by the next one.
+ */
+@Service
+public class PartitionMaintenanceService {
+  private static final Logger log = LoggerFactory.getLogger(PartitionMaintenanceService.class);
+
+  private final PartitionRepository partitionRepository;
+  private final LedgerSnapshotRepository ledgerSnapshotRepository;
+  private final PartitionMaintenanceProperties properties;
+  private final Clock clock;
+
+  @Autowired
+  public PartitionMaintenanceService(
+      PartitionRepository partitionRepository,
+      LedgerSnapshotRepository ledgerSnapshotRepository,
+      PartitionMaintenanceProperties properties) {
+    this(partitionRepository, ledgerSnapshotRepository, properties, Clock.systemUTC());
+  }
+
+  PartitionMaintenanceService(
+      PartitionRepository partitionRepository,
+      LedgerSnapshotRepository ledgerSnapshotRepository,
+      PartitionMaintenanceProperties properties,
+      Clock clock) {
+    this.partitionRepository = partitionRepository;
+    this.ledgerSnapshotRepository = ledgerSnapshotRepository;
+    this.properties = properties;
+    this.clock = clock;
+  }
+
+  public PartitionMaintenanceResult runOnce() {
+    YearMonth current = YearMonth.now(clock.withZone(ZoneOffset.UTC));
+    List<String> ensured = new ArrayList<>();
+    List<String> archived = new ArrayList<>();
+    List<String> skipped = new ArrayList<>();
+    for (String table : PartitionRepository.PARTITIONED_TABLES) {
+      for (int ahead = 0; ahead <= properties.getMonthsAhead(); ahead++) {
+        ensured.add(partitionRepository.ensureMonthlyPartition(table, current.plusMonths(ahead)));
+      }
+      archiveExpired(table, current, archived, skipped);
+    }
+    return new PartitionMaintenanceResult(List.copyOf(ensured), archived, skipped);
+  }
+
+  private void archiveExpired(
+      String table, YearMonth current, List<String> archived, List<String> skipped) {
+    int retentionMonths = properties.retentionMonthsFor(table);
+    String archiveDirectory = properties.getArchiveDirectory();
+    if (retentionMonths <= 0 || archiveDirectory == null || archiveDirectory.isBlank()) {
+      return;
+    }
+    YearMonth oldestKept = current.minusMonths(retentionMonths - 1L);
+    for (MonthlyPartition partition : partitionRepository.findMonthlyPartitions(table)) {
+      if (!partition.month().isBefore(oldestKept)) {
+        continue;
+      }
+      if (!isSettled(partition)) {
+        skipped.add(partition.name());
+        continue;
+      }
+      try {
+        archive(partition, Path.of(archiveDirectory));
+        archived.add(partition.name());
+      } catch (RuntimeException ex) {
+        log.warn("Partition archive failed partition={}", partition.name(), ex);
+        skipped.add(partition.name());
+      }
+    }
+  }
+
+  // Ledger balances are rebuilt from the latest snapshot plus later entries, so a ledger month can
+  // only leave the database once a checkpoint covers all of it.
+  private boolean isSettled(MonthlyPartition partition) {
+    if (!"ledger_entries".equals(partition.parentTable())) {
+      return true;
+    }
+    long maxSeq = partitionRepository.findMaxLedgerSeq(partition);
+    long checkpoint = ledgerSnapshotRepository.findLatestCheckpoint();
+    if (maxSeq > checkpoint) {
+      log.warn(
+          "Partition archive deferred partition={} max_ledger_seq={} checkpoint={}",
+          partition.name(),
+          maxSeq,
+          checkpoint);
+      return false;
+    }
+    return true;
+  }
+
+  private void archive(MonthlyPartition partition, Path archiveDirectory) {
+    Path target =
+        archiveDirectory.resolve(partition.parentTable()).resolve(partition.name() + ".csv.gz");
+    if (partition.attached()) {
+      partitionRepository.detachPartition(partition);
+    }
+    long rows;
+    try {
+      rows = partitionRepository.exportPartition(partition, target);
+    } catch (RuntimeException ex) {
+      partitionRepository.attachPartition(partition);
+      throw ex;
+    }
+    partitionRepository.dropPartition(partition);
+    log.info("Partition archived partition={} rows={} file={}", partition.name(), rows, target);
+  }
+}
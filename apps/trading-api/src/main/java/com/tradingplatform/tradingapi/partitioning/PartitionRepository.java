@@ -0,0 +1,31 @@
+package com.tradingplatform.tradingapi.partitioning;
+
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.List;
+
+public interface PartitionRepository {
+  List<String> PARTITIONED_TABLES =
+      List.of("order_events", "executions", "ledger_entries", "audit_log");
+
+  /** Creates the partition for {@code month} unless it already exists and returns its name. */
+  String ensureMonthlyPartition(String parentTable, YearMonth month);
+
+  /**
+   * Month tables of {@code parentTable}, oldest first, including detached ones an interrupted
+   * archive left behind.
+   */
+  List<MonthlyPartition> findMonthlyPartitions(String parentTable);
+
+  void detachPartition(MonthlyPartition partition);
+
+  void attachPartition(MonthlyPartition partition);
+
+  /** Writes the detached partition to {@code target} as gzipped CSV and returns the row count. */
+  long exportPartition(MonthlyPartition partition, Path target);
+
+  void dropPartition(MonthlyPartition partition);
+
+  /** Highest ledger_seq in a ledger_entries partition, or 0 when it is empty. */
+  long findMaxLedgerSeq(MonthlyPartition partition);
+}
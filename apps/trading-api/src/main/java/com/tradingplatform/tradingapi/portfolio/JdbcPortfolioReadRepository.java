@@ -27,7 +27,7 @@ public class JdbcPortfolioReadRepository implements PortfolioReadRepository {
     String sql =
         """
         SELECT account_id, asset, available, reserved, updated_at
-        FROM wallet_balances
+        FROM wallet_balances_consolidated
         WHERE account_id = ?
         ORDER BY asset ASC
         """;
@@ -38,12 +38,10 @@ public class JdbcPortfolioReadRepository implements PortfolioReadRepository {
   public List<PositionView> findPositionsByAccountId(UUID accountId) {
     String sql =
         """
-        SELECT instrument, COALESCE(SUM(CASE WHEN side = 'BUY' THEN filled_qty ELSE -filled_qty END), 0) AS net_qty
-        FROM orders
+        SELECT instrument, net_qty, avg_entry_price, realized_pnl, updated_at
+        FROM account_positions
         WHERE account_id = ?
-          AND filled_qty > 0
-        GROUP BY instrument
-        HAVING COALESCE(SUM(CASE WHEN side = 'BUY' THEN filled_qty ELSE -filled_qty END), 0) <> 0
+          AND net_qty <> 0
         ORDER BY instrument ASC
         """;
     return jdbcTemplate.query(sql, this::mapPosition, accountId);
@@ -59,6 +57,11 @@ public class JdbcPortfolioReadRepository implements PortfolioReadRepository {
   }
 
   private PositionView mapPosition(ResultSet rs, int rowNum) throws SQLException {
-    return new PositionView(rs.getString("instrument"), rs.getBigDecimal("net_qty"));
+    return new PositionView(
+        rs.getString("instrument"),
+        rs.getBigDecimal("net_qty"),
+        rs.getBigDecimal("avg_entry_price"),
+        rs.getBigDecimal("realized_pnl"),
+        rs.getTimestamp("updated_at").toInstant());
   }
 }
@@ -0,0 +1,110 @@
+package com.tradingplatform.tradingapi.portfolio;
+
+import com.tradingplatform.infra.kafka.consumer.EventConsumerAdapter;
+import com.tradingplatform.infra.kafka.contract.EventTypes;
+import com.tradingplatform.infra.kafka.contract.payload.BalanceUpdatedV1;
+import com.tradingplatform.infra.kafka.contract.payload.ExecutionRecordedV1;
+import com.tradingplatform.infra.kafka.contract.payload.OrderUpdatedV2;
+import com.tradingplatform.infra.kafka.errors.DeadLetterPublisher;
+import com.tradingplatform.infra.kafka.errors.RetryPolicy;
+import com.tradingplatform.infra.kafka.observability.KafkaTelemetry;
+import com.tradingplatform.infra.kafka.serde.EventEnvelopeCodecs;
+import com.tradingplatform.infra.kafka.topics.TopicNames;
+import java.util.UUID;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+// Every instance holds its own local tier, so each one joins with a unique group id and
+// starts from the latest offset: missed history is covered by the snapshot TTL.
+@Component
+@ConditionalOnProperty(
+    prefix = "portfolio.cache",
+    name = "invalidation-enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class PortfolioCacheInvalidationConsumer {
+  private static final String GROUP_ID =
+      "${portfolio.cache.consumer-group-id:trading-api-portfolio-cache-${random.uuid}}";
+
+  private final EventConsumerAdapter<BalanceUpdatedV1> balanceAdapter;
+  private final EventConsumerAdapter<OrderUpdatedV2> orderAdapter;
+  private final EventConsumerAdapter<ExecutionRecordedV1> executionAdapter;
+
+  public PortfolioCacheInvalidationConsumer(
+      EventEnvelopeCodecs codecs,
+      DeadLetterPublisher deadLetterPublisher,
+      RetryPolicy retryPolicy,
+      KafkaTelemetry telemetry,
+      PortfolioSnapshotCache portfolioSnapshotCache) {
+    this.balanceAdapter =
+        new EventConsumerAdapter<>(
+            BalanceUpdatedV1.class,
+            EventTypes.BALANCE_UPDATED,
+            1,
+            codecs,
+            envelope -> invalidate(portfolioSnapshotCache, envelope.payload().accountId()),
+            deadLetterPublisher,
+            retryPolicy,
+            telemetry);
+    this.orderAdapter =
+        new EventConsumerAdapter<>(
+            OrderUpdatedV2.class,
+            EventTypes.ORDER_UPDATED,
+            2,
+            codecs,
+            envelope -> invalidate(portfolioSnapshotCache, envelope.payload().accountId()),
+            deadLetterPublisher,
+            retryPolicy,
+            telemetry);
+    this.executionAdapter =
+        new EventConsumerAdapter<>(
+            ExecutionRecordedV1.class,
+            EventTypes.EXECUTION_RECORDED,
+            1,
+            codecs,
+            envelope -> invalidate(portfolioSnapshotCache, envelope.payload().accountId()),
+            deadLetterPublisher,
+            retryPolicy,
+            telemetry);
+  }
+
+  @KafkaListener(
+      topics = TopicNames.BALANCES_UPDATED_V1,
+      groupId = GROUP_ID,
+      containerFactory = "infraKafkaListenerContainerFactory",
+      properties = "auto.offset.reset=latest")
+  public void onBalanceUpdated(ConsumerRecord<String, byte[]> record, Acknowledgment ack) {
+    balanceAdapter.process(record, 1);
+    ack.acknowledge();
+  }
+
+  @KafkaListener(
+      topics = TopicNames.ORDERS_UPDATED_V2,
+      groupId = GROUP_ID,
+      containerFactory = "infraKafkaListenerContainerFactory",
+      properties = "auto.offset.reset=latest")
+  public void onOrderUpdated(ConsumerRecord<String, byte[]> record, Acknowledgment ack) {
+    orderAdapter.process(record, 1);
+    ack.acknowledge();
+  }
+
+  @KafkaListener(
+      topics = TopicNames.EXECUTIONS_RECORDED_V1,
+      groupId = GROUP_ID,
+      containerFactory = "infraKafkaListenerContainerFactory",
+      properties = "auto.offset.reset=latest")
+  public void onExecutionRecorded(ConsumerRecord<String, byte[]> record, Acknowledgment ack) {
+    executionAdapter.process(record, 1);
+    ack.acknowledge();
+  }
+
+  private static void invalidate(PortfolioSnapshotCache cache, String accountId) {
+    if (accountId == null || accountId.isBlank()) {
+      throw new IllegalArgumentException("Event payload is missing accountId");
+    }
+    cache.invalidate(UUID.fromString(accountId));
+  }
+}
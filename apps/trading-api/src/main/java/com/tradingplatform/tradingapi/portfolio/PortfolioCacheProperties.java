@@ -0,0 +1,63 @@
+package com.tradingplatform.tradingapi.portfolio;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "portfolio.cache")
+public class PortfolioCacheProperties {
+  private boolean enabled = true;
+  private long maximumSize = 10000L;
+  private long maxStalenessMs = 2000L;
+  private boolean redisEnabled = false;
+  private String redisKeyPrefix = "portfolio:snapshot";
+  private boolean invalidationEnabled = true;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public long getMaximumSize() {
+    return maximumSize;
+  }
+
+  public void setMaximumSize(long maximumSize) {
+    this.maximumSize = maximumSize;
+  }
+
+  public long getMaxStalenessMs() {
+    return maxStalenessMs;
+  }
+
+  public void setMaxStalenessMs(long maxStalenessMs) {
+    this.maxStalenessMs = maxStalenessMs;
+  }
+
+  public boolean isRedisEnabled() {
+    return redisEnabled;
+  }
+
+  public void setRedisEnabled(boolean redisEnabled) {
+    this.redisEnabled = redisEnabled;
+  }
+
+  public String getRedisKeyPrefix() {
+    return redisKeyPrefix;
+  }
+
+  public void setRedisKeyPrefix(String redisKeyPrefix) {
+    this.redisKeyPrefix = redisKeyPrefix;
+  }
+
+  public boolean isInvalidationEnabled() {
+    return invalidationEnabled;
+  }
+
+  public void setInvalidationEnabled(boolean invalidationEnabled) {
+    this.invalidationEnabled = invalidationEnabled;
+  }
+}
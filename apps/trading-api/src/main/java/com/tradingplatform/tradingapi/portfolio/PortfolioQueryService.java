@@ -34,9 +34,15 @@ public class PortfolioQueryService {
     BalancesResponse balances = getBalances(accountId);
     List<PositionResponse> positions =
         portfolioReadRepository.findPositionsByAccountId(accountId).stream()
-            .map(position -> new PositionResponse(position.symbol(), position.netQty()))
+            .map(
+                position ->
+                    new PositionResponse(
+                        position.symbol(),
+                        position.netQty(),
+                        position.avgEntryPrice(),
+                        position.realizedPnl()))
             .toList();
-    return new PortfolioResponse(accountId, balances.balances(), positions, Instant.now());
+    return new PortfolioResponse(accountId, balances.balances(), positions, Instant.now(), 0L);
   }
 
   private void ensureAccountExists(UUID accountId) {
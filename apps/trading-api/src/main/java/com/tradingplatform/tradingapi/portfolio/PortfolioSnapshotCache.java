@@ -0,0 +1,117 @@
+package com.tradingplatform.tradingapi.portfolio;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tradingplatform.tradingapi.api.PortfolioResponse;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+@Service
+public class PortfolioSnapshotCache {
+  private static final Logger log = LoggerFactory.getLogger(PortfolioSnapshotCache.class);
+
+  private final PortfolioQueryService portfolioQueryService;
+  private final PortfolioCacheProperties properties;
+  private final ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+  private final ObjectMapper objectMapper;
+  private final Cache<UUID, PortfolioResponse> localCache;
+  private final AtomicLong localVersion = new AtomicLong();
+
+  public PortfolioSnapshotCache(
+      PortfolioQueryService portfolioQueryService,
+      PortfolioCacheProperties properties,
+      ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+      ObjectMapper objectMapper) {
+    this.portfolioQueryService = portfolioQueryService;
+    this.properties = properties;
+    this.redisTemplateProvider = redisTemplateProvider;
+    this.objectMapper = objectMapper;
+    this.localCache =
+        Caffeine.newBuilder()
+            .maximumSize(Math.max(properties.getMaximumSize(), 1L))
+            .expireAfterWrite(Duration.ofMillis(Math.max(properties.getMaxStalenessMs(), 1L)))
+            .build();
+  }
+
+  public PortfolioResponse get(UUID accountId) {
+    if (!properties.isEnabled()) {
+      return portfolioQueryService.getPortfolio(accountId);
+    }
+    return localCache.get(accountId, this::load);
+  }
+
+  public void invalidate(UUID accountId) {
+    localCache.invalidate(accountId);
+    StringRedisTemplate redis = sharedTier();
+    if (redis == null) {
+      return;
+    }
+    try {
+      redis.delete(snapshotKey(accountId));
+    } catch (RuntimeException ex) {
+      log.warn("Failed to invalidate shared portfolio snapshot accountId={}", accountId, ex);
+    }
+  }
+
+  private PortfolioResponse load(UUID accountId) {
+    StringRedisTemplate redis = sharedTier();
+    if (redis != null) {
+      try {
+        return loadShared(redis, accountId);
+      } catch (RuntimeException ex) {
+        log.warn("Shared portfolio snapshot tier unavailable accountId={}", accountId, ex);
+      }
+    }
+    return portfolioQueryService
+        .getPortfolio(accountId)
+        .withVersion(localVersion.incrementAndGet());
+  }
+
+  private PortfolioResponse loadShared(StringRedisTemplate redis, UUID accountId) {
+    String key = snapshotKey(accountId);
+    String cached = redis.opsForValue().get(key);
+    if (cached != null) {
+      return fromJson(cached);
+    }
+    PortfolioResponse fresh = portfolioQueryService.getPortfolio(accountId);
+    Long version = redis.opsForValue().increment(properties.getRedisKeyPrefix() + ":version");
+    PortfolioResponse snapshot = fresh.withVersion(version == null ? 0L : version);
+    redis
+        .opsForValue()
+        .set(
+            key, toJson(snapshot), Duration.ofMillis(Math.max(properties.getMaxStalenessMs(), 1L)));
+    return snapshot;
+  }
+
+  private StringRedisTemplate sharedTier() {
+    return properties.isRedisEnabled() ? redisTemplateProvider.getIfAvailable() : null;
+  }
+
+  private String snapshotKey(UUID accountId) {
+    return properties.getRedisKeyPrefix() + ":" + accountId;
+  }
+
+  private String toJson(PortfolioResponse snapshot) {
+    try {
+      return objectMapper.writeValueAsString(snapshot);
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("Failed to serialize portfolio snapshot", ex);
+    }
+  }
+
+  private PortfolioResponse fromJson(String json) {
+    try {
+      return objectMapper.readValue(json, PortfolioResponse.class);
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("Failed to deserialize portfolio snapshot", ex);
+    }
+  }
+}
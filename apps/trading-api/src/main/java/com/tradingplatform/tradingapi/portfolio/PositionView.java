@@ -1,5 +1,11 @@
 package com.tradingplatform.tradingapi.portfolio;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 
-public record PositionView(String symbol, BigDecimal netQty) {}
+public record PositionView(
+    String symbol,
+    BigDecimal netQty,
+    BigDecimal avgEntryPrice,
+    BigDecimal realizedPnl,
+    Instant updatedAt) {}
@@ -2,7 +2,9 @@ package com.tradingplatform.tradingapi.reconciliation;
 
 import java.math.BigDecimal;
 import java.util.Map;
+import java.util.Optional;
 
 public interface BalanceReconciliationGateway {
-  Map<String, BigDecimal> fetchExternalBalances();
+  /** Exchange balances per asset, or empty when no exchange account is configured. */
+  Optional<Map<String, BigDecimal>> fetchExternalBalances();
 }
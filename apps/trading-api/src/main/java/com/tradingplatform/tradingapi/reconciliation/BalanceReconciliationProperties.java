@@ -0,0 +1,129 @@
+package com.tradingplatform.tradingapi.reconciliation;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "reconciliation.balance")
+public class BalanceReconciliationProperties {
+  private boolean enabled = false;
+  private long fixedDelayMs = 300_000L;
+  private long fullScanFixedDelayMs = 3_600_000L;
+
+  /** {@code stub} skips the exchange comparison; {@code binance} reads the spot account. */
+  private String gateway = "stub";
+
+  private int parallelism = 4;
+  private int pageSize = 5_000;
+  private int maxRecordedMismatches = 1_000;
+  private final Binance binance = new Binance();
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public long getFixedDelayMs() {
+    return fixedDelayMs;
+  }
+
+  public void setFixedDelayMs(long fixedDelayMs) {
+    this.fixedDelayMs = fixedDelayMs;
+  }
+
+  public long getFullScanFixedDelayMs() {
+    return fullScanFixedDelayMs;
+  }
+
+  public void setFullScanFixedDelayMs(long fullScanFixedDelayMs) {
+    this.fullScanFixedDelayMs = fullScanFixedDelayMs;
+  }
+
+  public String getGateway() {
+    return gateway;
+  }
+
+  public void setGateway(String gateway) {
+    this.gateway = gateway;
+  }
+
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  public void setParallelism(int parallelism) {
+    this.parallelism = parallelism;
+  }
+
+  public int getPageSize() {
+    return pageSize;
+  }
+
+  public void setPageSize(int pageSize) {
+    this.pageSize = pageSize;
+  }
+
+  public int getMaxRecordedMismatches() {
+    return maxRecordedMismatches;
+  }
+
+  public void setMaxRecordedMismatches(int maxRecordedMismatches) {
+    this.maxRecordedMismatches = maxRecordedMismatches;
+  }
+
+  public Binance getBinance() {
+    return binance;
+  }
+
+  public static class Binance {
+    private String baseUrl = "https://api.binance.com";
+    private String apiKey;
+    private String apiSecret;
+    private long recvWindowMs = 5_000L;
+    private Duration timeout = Duration.ofSeconds(5);
+
+    public String getBaseUrl() {
+      return baseUrl;
+    }
+
+    public void setBaseUrl(String baseUrl) {
+      this.baseUrl = baseUrl;
+    }
+
+    public String getApiKey() {
+      return apiKey;
+    }
+
+    public void setApiKey(String apiKey) {
+      this.apiKey = apiKey;
+    }
+
+    public String getApiSecret() {
+      return apiSecret;
+    }
+
+    public void setApiSecret(String apiSecret) {
+      this.apiSecret = apiSecret;
+    }
+
+    public long getRecvWindowMs() {
+      return recvWindowMs;
+    }
+
+    public void setRecvWindowMs(long recvWindowMs) {
+      this.recvWindowMs = recvWindowMs;
+    }
+
+    public Duration getTimeout() {
+      return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+      this.timeout = timeout;
+    }
+  }
+}
@@ -1,5 +1,7 @@
 package com.tradingplatform.tradingapi.reconciliation;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -11,6 +13,8 @@ import org.springframework.stereotype.Component;
     havingValue = "true",
     matchIfMissing = false)
 public class BalanceReconciliationScheduler {
+  private static final Logger log = LoggerFactory.getLogger(BalanceReconciliationScheduler.class);
+
   private final BalanceReconciliationService balanceReconciliationService;
 
   public BalanceReconciliationScheduler(BalanceReconciliationService balanceReconciliationService) {
@@ -19,6 +23,17 @@ public class BalanceReconciliationScheduler {
 
   @Scheduled(fixedDelayString = "${reconciliation.balance.fixed-delay-ms:300000}")
   public void runScheduled() {
-    balanceReconciliationService.runOnce();
+    if (!balanceReconciliationService.trigger()) {
+      log.info("Balance reconciliation still running, skipping scheduled trigger");
+    }
+  }
+
+  @Scheduled(
+      fixedDelayString = "${reconciliation.balance.full-scan-fixed-delay-ms:3600000}",
+      initialDelayString = "${reconciliation.balance.full-scan-fixed-delay-ms:3600000}")
+  public void runFullScan() {
+    if (!balanceReconciliationService.triggerFullScan()) {
+      log.info("Balance reconciliation still running, full scan deferred to the next run");
+    }
   }
 }
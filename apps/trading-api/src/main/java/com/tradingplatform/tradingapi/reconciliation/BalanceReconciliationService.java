@@ -1,42 +1,274 @@
 package com.tradingplatform.tradingapi.reconciliation;
 
+import com.tradingplatform.tradingapi.ledger.LedgerBalanceMismatch;
+import com.tradingplatform.tradingapi.ledger.LedgerMismatchPage;
+import com.tradingplatform.tradingapi.ledger.LedgerSnapshotRepository;
+import jakarta.annotation.PreDestroy;
 import java.math.BigDecimal;
+import java.time.Clock;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+/**
+ * Compares wallet totals against the exchange account and the ledger per asset, then scans the
+ * wallets of every asset that disagrees with the ledger to find the accounts responsible. A full
+ * scan compares the wallets of every asset, catching per-account drift that cancels out in the
+ * totals.
+ *
+ * <p>The exchange balances are fetched while wallet and ledger totals are read from one database
+ * snapshot, and each scanned asset is split into {@code parallelism} account-id ranges, each walked
+ * in keyset pages. Runs execute on a dedicated thread so the scheduler only triggers them.
+ */
 @Service
 public class BalanceReconciliationService {
+  private static final Logger log = LoggerFactory.getLogger(BalanceReconciliationService.class);
+
   private final BalanceReconciliationGateway gateway;
-  private final InternalBalanceSnapshotProvider internalSnapshotProvider;
+  private final ReconciliationTotalsReader totalsReader;
+  private final LedgerSnapshotRepository ledgerSnapshotRepository;
+  private final ReconciliationRunRepository runRepository;
   private final ReconciliationReporter reporter;
+  private final BalanceReconciliationProperties properties;
+  private final Clock clock;
+  private final ExecutorService coordinator;
+  private final ExecutorService workers;
+  private final AtomicBoolean running = new AtomicBoolean();
+  private final AtomicBoolean fullScanPending = new AtomicBoolean();
 
+  @Autowired
   public BalanceReconciliationService(
       BalanceReconciliationGateway gateway,
-      InternalBalanceSnapshotProvider internalSnapshotProvider,
-      ReconciliationReporter reporter) {
+      ReconciliationTotalsReader totalsReader,
+      LedgerSnapshotRepository ledgerSnapshotRepository,
+      ReconciliationRunRepository runRepository,
+      ReconciliationReporter reporter,
+      BalanceReconciliationProperties properties) {
+    this(
+        gateway,
+        totalsReader,
+        ledgerSnapshotRepository,
+        runRepository,
+        reporter,
+        properties,
+        Clock.systemUTC());
+  }
+
+  BalanceReconciliationService(
+      BalanceReconciliationGateway gateway,
+      ReconciliationTotalsReader totalsReader,
+      LedgerSnapshotRepository ledgerSnapshotRepository,
+      ReconciliationRunRepository runRepository,
+      ReconciliationReporter reporter,
+      BalanceReconciliationProperties properties,
+      Clock clock) {
+    if (properties.getParallelism() < 1) {
+      throw new IllegalArgumentException("reconciliation.balance.parallelism must be >= 1");
+    }
+    if (properties.getPageSize() < 1) {
+      throw new IllegalArgumentException("reconciliation.balance.page-size must be >= 1");
+    }
     this.gateway = gateway;
-    this.internalSnapshotProvider = internalSnapshotProvider;
+    this.totalsReader = totalsReader;
+    this.ledgerSnapshotRepository = ledgerSnapshotRepository;
+    this.runRepository = runRepository;
     this.reporter = reporter;
+    this.properties = properties;
+    this.clock = clock;
+    this.coordinator = Executors.newSingleThreadExecutor(daemonThreads("reconciliation-run"));
+    this.workers =
+        Executors.newFixedThreadPool(
+            properties.getParallelism(), daemonThreads("reconciliation-worker"));
+  }
+
+  /** Starts a run in the background; returns false if the previous run is still going. */
+  public boolean trigger() {
+    if (!running.compareAndSet(false, true)) {
+      return false;
+    }
+    coordinator.execute(
+        () -> {
+          try {
+            runOnce(fullScanPending.getAndSet(false));
+          } catch (RuntimeException ex) {
+            log.warn("Balance reconciliation run failed error={}", ex.getMessage(), ex);
+          } finally {
+            running.set(false);
+          }
+        });
+    return true;
+  }
+
+  /**
+   * Makes the next run compare every wallet regardless of the totals, starting it now unless one is
+   * already going.
+   */
+  public boolean triggerFullScan() {
+    fullScanPending.set(true);
+    return trigger();
   }
 
   public ReconciliationResult runOnce() {
-    Instant startedAt = Instant.now();
-    Map<String, BigDecimal> external = gateway.fetchExternalBalances();
-    Map<String, BigDecimal> internal = internalSnapshotProvider.computeInternalTotals();
-    Map<String, BigDecimal> driftByAsset = computeDrift(internal, external);
+    return runOnce(false);
+  }
+
+  public ReconciliationResult runOnce(boolean fullScan) {
+    UUID runId = UUID.randomUUID();
+    Instant startedAt = clock.instant();
+    long startedNanos = System.nanoTime();
+    long totalsMs = 0L;
+    long drilldownMs = 0L;
+    Map<String, BigDecimal> driftByAsset = Map.of();
+    Map<String, BigDecimal> ledgerDriftByAsset = Map.of();
+    List<LedgerBalanceMismatch> mismatches = List.of();
+    ReconciliationStatus status;
+    String notes;
+    try {
+      CompletableFuture<Optional<Map<String, BigDecimal>>> external =
+          CompletableFuture.supplyAsync(gateway::fetchExternalBalances, workers);
+      CompletableFuture<ReconciliationTotalsReader.Totals> internal =
+          CompletableFuture.supplyAsync(totalsReader::read, workers);
+      CompletableFuture.allOf(external, internal).join();
+      totalsMs = elapsedMs(startedNanos);
+
+      Optional<Map<String, BigDecimal>> externalTotals = external.join();
+      Map<String, BigDecimal> wallets = internal.join().wallets();
+      driftByAsset = externalTotals.map(totals -> computeDrift(wallets, totals)).orElse(Map.of());
+      ledgerDriftByAsset = computeDrift(wallets, internal.join().ledger());
+
+      long drilldownStartedNanos = System.nanoTime();
+      DrilldownResult drilldown = drillDown(ledgerDriftByAsset, fullScan);
+      mismatches = drilldown.mismatches();
+      drilldownMs = elapsedMs(drilldownStartedNanos);
+
+      boolean drifting =
+          hasDrift(driftByAsset) || hasDrift(ledgerDriftByAsset) || !mismatches.isEmpty();
+      status = drifting ? ReconciliationStatus.DRIFT_DETECTED : ReconciliationStatus.SUCCESS;
+      notes = notes(externalTotals.isPresent(), fullScan, drilldown.truncated());
+    } catch (CompletionException ex) {
+      Throwable cause = ex.getCause() == null ? ex : ex.getCause();
+      status = ReconciliationStatus.FAILED;
+      notes = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+    } catch (RuntimeException ex) {
+      status = ReconciliationStatus.FAILED;
+      notes = ex.getClass().getSimpleName() + ": " + ex.getMessage();
+    }
+
     ReconciliationResult result =
         new ReconciliationResult(
+            runId,
             startedAt,
-            Instant.now(),
-            ReconciliationStatus.NOT_IMPLEMENTED,
+            clock.instant(),
+            status,
             driftByAsset,
-            "Scaffold only: external integration/remediation not implemented yet");
+            ledgerDriftByAsset,
+            mismatches,
+            totalsMs,
+            drilldownMs,
+            notes);
+    try {
+      runRepository.save(result);
+    } catch (RuntimeException ex) {
+      log.warn("Failed to persist reconciliation run run_id={} error={}", runId, ex.getMessage());
+    }
     reporter.report(result);
     return result;
   }
 
+  @PreDestroy
+  void shutdown() {
+    coordinator.shutdownNow();
+    workers.shutdownNow();
+    try {
+      workers.awaitTermination(5, TimeUnit.SECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private DrilldownResult drillDown(Map<String, BigDecimal> ledgerDriftByAsset, boolean fullScan) {
+    ConcurrentLinkedQueue<LedgerBalanceMismatch> found = new ConcurrentLinkedQueue<>();
+    AtomicInteger remaining = new AtomicInteger(properties.getMaxRecordedMismatches());
+    AtomicBoolean truncated = new AtomicBoolean();
+    List<UUID> bounds = rangeBounds(properties.getParallelism());
+    List<CompletableFuture<Void>> scans = new ArrayList<>();
+    for (Map.Entry<String, BigDecimal> drift : ledgerDriftByAsset.entrySet()) {
+      if (!fullScan && drift.getValue().signum() == 0) {
+        continue;
+      }
+      for (int range = 0; range < bounds.size() + 1; range++) {
+        UUID after = range == 0 ? null : bounds.get(range - 1);
+        UUID through = range == bounds.size() ? null : bounds.get(range);
+        scans.add(
+            CompletableFuture.runAsync(
+                () -> scanRange(drift.getKey(), after, through, found, remaining, truncated),
+                workers));
+      }
+    }
+    CompletableFuture.allOf(scans.toArray(CompletableFuture[]::new)).join();
+    List<LedgerBalanceMismatch> mismatches = new ArrayList<>(found);
+    mismatches.sort(
+        Comparator.comparing(LedgerBalanceMismatch::asset)
+            .thenComparing(mismatch -> mismatch.accountId().toString()));
+    return new DrilldownResult(List.copyOf(mismatches), truncated.get());
+  }
+
+  private void scanRange(
+      String asset,
+      UUID after,
+      UUID through,
+      ConcurrentLinkedQueue<LedgerBalanceMismatch> found,
+      AtomicInteger remaining,
+      AtomicBoolean truncated) {
+    UUID cursor = after;
+    do {
+      if (remaining.get() <= 0) {
+        return;
+      }
+      LedgerMismatchPage page =
+          ledgerSnapshotRepository.findMismatches(asset, cursor, through, properties.getPageSize());
+      for (LedgerBalanceMismatch mismatch : page.mismatches()) {
+        if (remaining.getAndDecrement() > 0) {
+          found.add(mismatch);
+        } else {
+          truncated.set(true);
+        }
+      }
+      cursor = page.lastAccountId();
+    } while (cursor != null);
+  }
+
+  /**
+   * Splits the account-id space into {@code parallelism} ranges on the leading 64 bits, which is
+   * how Postgres orders UUIDs (unsigned, byte by byte).
+   */
+  static List<UUID> rangeBounds(int parallelism) {
+    List<UUID> bounds = new ArrayList<>();
+    long step = Long.divideUnsigned(-1L, parallelism);
+    for (int i = 1; i < parallelism; i++) {
+      bounds.add(new UUID(step * i, -1L));
+    }
+    return bounds;
+  }
+
   private static Map<String, BigDecimal> computeDrift(
       Map<String, BigDecimal> internal, Map<String, BigDecimal> external) {
     Map<String, BigDecimal> drift = new LinkedHashMap<>();
@@ -52,4 +284,43 @@ public class BalanceReconciliationService {
     }
     return drift;
   }
+
+  private static boolean hasDrift(Map<String, BigDecimal> driftByAsset) {
+    return driftByAsset.values().stream().anyMatch(drift -> drift.signum() != 0);
+  }
+
+  private static String notes(boolean externalChecked, boolean fullScan, boolean truncated) {
+    StringBuilder notes = new StringBuilder();
+    if (!externalChecked) {
+      notes.append("No exchange gateway configured; exchange comparison skipped");
+    }
+    if (fullScan) {
+      if (!notes.isEmpty()) {
+        notes.append("; ");
+      }
+      notes.append("Full account scan");
+    }
+    if (truncated) {
+      if (!notes.isEmpty()) {
+        notes.append("; ");
+      }
+      notes.append("Mismatch list truncated");
+    }
+    return notes.isEmpty() ? null : notes.toString();
+  }
+
+  private static long elapsedMs(long startedNanos) {
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
+  }
+
+  private static ThreadFactory daemonThreads(String prefix) {
+    AtomicInteger sequence = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  private record DrilldownResult(List<LedgerBalanceMismatch> mismatches, boolean truncated) {}
 }
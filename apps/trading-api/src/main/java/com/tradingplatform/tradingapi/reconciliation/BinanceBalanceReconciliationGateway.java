@@ -0,0 +1,29 @@
+package com.tradingplatform.tradingapi.reconciliation;
+
+import com.tradingplatform.integration.binance.BinanceAccountBalance;
+import com.tradingplatform.integration.binance.BinanceRestClient;
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+public class BinanceBalanceReconciliationGateway implements BalanceReconciliationGateway {
+  private final BinanceRestClient restClient;
+
+  public BinanceBalanceReconciliationGateway(BinanceRestClient restClient) {
+    this.restClient = restClient;
+  }
+
+  @Override
+  public Optional<Map<String, BigDecimal>> fetchExternalBalances() {
+    Map<String, BigDecimal> balances = new TreeMap<>();
+    for (BinanceAccountBalance balance : restClient.getAccountInfo().balances()) {
+      BigDecimal total = balance.free().add(balance.locked());
+      if (total.signum() != 0) {
+        balances.merge(balance.asset().toUpperCase(Locale.ROOT), total, BigDecimal::add);
+      }
+    }
+    return Optional.of(balances);
+  }
+}
@@ -0,0 +1,35 @@
+package com.tradingplatform.tradingapi.reconciliation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tradingplatform.integration.binance.BinanceApiConfig;
+import com.tradingplatform.integration.binance.BinanceRequestSigner;
+import com.tradingplatform.integration.binance.HttpBinanceRestClient;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Clock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "reconciliation.balance", name = "gateway", havingValue = "binance")
+public class BinanceReconciliationConfiguration {
+  @Bean
+  BalanceReconciliationGateway binanceBalanceReconciliationGateway(
+      BalanceReconciliationProperties properties, ObjectMapper objectMapper) {
+    BalanceReconciliationProperties.Binance binance = properties.getBinance();
+    BinanceApiConfig config =
+        new BinanceApiConfig(
+            URI.create(binance.getBaseUrl()),
+            binance.getApiKey(),
+            binance.getApiSecret(),
+            binance.getRecvWindowMs(),
+            binance.getTimeout(),
+            Clock.systemUTC());
+    HttpClient httpClient = HttpClient.newBuilder().connectTimeout(config.timeout()).build();
+    BinanceRequestSigner signer =
+        new BinanceRequestSigner(config.apiSecret(), config.recvWindowMs(), config.clock());
+    return new BinanceBalanceReconciliationGateway(
+        new HttpBinanceRestClient(httpClient, objectMapper, config, signer));
+  }
+}
@@ -22,7 +22,7 @@ public class JdbcInternalBalanceSnapshotProvider implements InternalBalanceSnaps
     String sql =
         """
         SELECT asset, SUM(available + reserved) AS total
-        FROM wallet_balances
+        FROM wallet_balances_consolidated
         GROUP BY asset
         ORDER BY asset
         """;
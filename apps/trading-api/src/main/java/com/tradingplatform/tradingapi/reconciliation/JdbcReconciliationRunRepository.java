@@ -0,0 +1,109 @@
+package com.tradingplatform.tradingapi.reconciliation;
+
+import com.tradingplatform.tradingapi.ledger.LedgerBalanceMismatch;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class JdbcReconciliationRunRepository implements ReconciliationRunRepository {
+  private final JdbcTemplate jdbcTemplate;
+
+  public JdbcReconciliationRunRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  @Transactional
+  public void save(ReconciliationResult result) {
+    jdbcTemplate.update(
+        """
+        INSERT INTO reconciliation_runs (
+            id,
+            status,
+            started_at,
+            finished_at,
+            totals_ms,
+            drilldown_ms,
+            drift_assets,
+            mismatched_accounts,
+            notes
+        ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """,
+        result.runId(),
+        result.status().name(),
+        Timestamp.from(result.startedAt()),
+        Timestamp.from(result.finishedAt()),
+        result.totalsMs(),
+        result.drilldownMs(),
+        countDriftingAssets(result),
+        result.mismatches().size(),
+        result.notes());
+
+    List<Object[]> drifts = new ArrayList<>();
+    addDrifts(drifts, result, "EXTERNAL", result.driftByAsset());
+    addDrifts(drifts, result, "LEDGER", result.ledgerDriftByAsset());
+    if (!drifts.isEmpty()) {
+      jdbcTemplate.batchUpdate(
+          """
+          INSERT INTO reconciliation_run_drifts (run_id, asset, source, drift)
+          VALUES (?, ?, ?, ?)
+          """,
+          drifts);
+    }
+
+    List<Object[]> mismatches = new ArrayList<>();
+    for (LedgerBalanceMismatch mismatch : result.mismatches()) {
+      mismatches.add(
+          new Object[] {
+            result.runId(),
+            mismatch.accountId(),
+            mismatch.asset(),
+            mismatch.walletTotal(),
+            mismatch.ledgerBalance()
+          });
+    }
+    if (!mismatches.isEmpty()) {
+      jdbcTemplate.batchUpdate(
+          """
+          INSERT INTO reconciliation_run_mismatches (
+              run_id, account_id, asset, wallet_total, ledger_balance
+          ) VALUES (?, ?, ?, ?, ?)
+          """,
+          mismatches);
+    }
+  }
+
+  private static void addDrifts(
+      List<Object[]> rows,
+      ReconciliationResult result,
+      String source,
+      Map<String, BigDecimal> driftByAsset) {
+    for (Map.Entry<String, BigDecimal> drift : driftByAsset.entrySet()) {
+      if (drift.getValue().signum() != 0) {
+        rows.add(new Object[] {result.runId(), drift.getKey(), source, drift.getValue()});
+      }
+    }
+  }
+
+  private static int countDriftingAssets(ReconciliationResult result) {
+    Set<String> assets = new HashSet<>();
+    for (Map<String, BigDecimal> driftByAsset :
+        List.of(result.driftByAsset(), result.ledgerDriftByAsset())) {
+      driftByAsset.forEach(
+          (asset, drift) -> {
+            if (drift.signum() != 0) {
+              assets.add(asset);
+            }
+          });
+    }
+    return assets.size();
+  }
+}
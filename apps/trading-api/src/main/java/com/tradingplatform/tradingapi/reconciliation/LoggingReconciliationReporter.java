@@ -1,5 +1,7 @@
 package com.tradingplatform.tradingapi.reconciliation;
 
+import java.math.BigDecimal;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -11,9 +13,18 @@ public class LoggingReconciliationReporter implements ReconciliationReporter {
   @Override
   public void report(ReconciliationResult result) {
     log.info(
-        "Balance reconciliation status={} drift_assets={} notes={}",
+        "Balance reconciliation run_id={} status={} drift_assets={} ledger_drift_assets={} mismatched_accounts={} totals_ms={} drilldown_ms={} notes={}",
+        result.runId(),
         result.status(),
-        result.driftByAsset().size(),
+        countDrifting(result.driftByAsset()),
+        countDrifting(result.ledgerDriftByAsset()),
+        result.mismatches().size(),
+        result.totalsMs(),
+        result.drilldownMs(),
         result.notes());
   }
+
+  private static long countDrifting(Map<String, BigDecimal> driftByAsset) {
+    return driftByAsset.values().stream().filter(drift -> drift.signum() != 0).count();
+  }
 }
@@ -1,12 +1,26 @@
 package com.tradingplatform.tradingapi.reconciliation;
 
+import com.tradingplatform.tradingapi.ledger.LedgerBalanceMismatch;
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
+/**
+ * Outcome of one reconciliation run.
+ *
+ * <p>{@code driftByAsset} is wallet total minus exchange balance and stays empty when no exchange
+ * gateway is configured; {@code ledgerDriftByAsset} is wallet total minus ledger balance.
+ */
 public record ReconciliationResult(
+    UUID runId,
     Instant startedAt,
     Instant finishedAt,
     ReconciliationStatus status,
     Map<String, BigDecimal> driftByAsset,
+    Map<String, BigDecimal> ledgerDriftByAsset,
+    List<LedgerBalanceMismatch> mismatches,
+    long totalsMs,
+    long drilldownMs,
     String notes) {}
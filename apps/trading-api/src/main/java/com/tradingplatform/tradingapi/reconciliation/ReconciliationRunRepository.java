@@ -0,0 +1,5 @@
+package com.tradingplatform.tradingapi.reconciliation;
+
+public interface ReconciliationRunRepository {
+  void save(ReconciliationResult result);
+}
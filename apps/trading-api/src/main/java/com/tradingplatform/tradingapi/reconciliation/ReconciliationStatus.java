@@ -1,7 +1,7 @@
 package com.tradingplatform.tradingapi.reconciliation;
 
 public enum ReconciliationStatus {
-  NOT_IMPLEMENTED,
   SUCCESS,
+  DRIFT_DETECTED,
   FAILED
 }
@@ -0,0 +1,34 @@
+package com.tradingplatform.tradingapi.reconciliation;
+
+import com.tradingplatform.tradingapi.ledger.LedgerSnapshotRepository;
+import java.math.BigDecimal;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Reads wallet and ledger totals per asset from one snapshot, so a fill committing between the two
+ * queries does not show up as drift.
+ */
+@Component
+public class ReconciliationTotalsReader {
+  private final InternalBalanceSnapshotProvider internalSnapshotProvider;
+  private final LedgerSnapshotRepository ledgerSnapshotRepository;
+
+  public ReconciliationTotalsReader(
+      InternalBalanceSnapshotProvider internalSnapshotProvider,
+      LedgerSnapshotRepository ledgerSnapshotRepository) {
+    this.internalSnapshotProvider = internalSnapshotProvider;
+    this.ledgerSnapshotRepository = ledgerSnapshotRepository;
+  }
+
+  @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+  public Totals read() {
+    return new Totals(
+        internalSnapshotProvider.computeInternalTotals(),
+        ledgerSnapshotRepository.findLedgerTotalsByAsset());
+  }
+
+  public record Totals(Map<String, BigDecimal> wallets, Map<String, BigDecimal> ledger) {}
+}
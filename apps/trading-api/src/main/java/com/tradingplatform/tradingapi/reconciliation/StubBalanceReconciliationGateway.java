@@ -2,12 +2,19 @@ package com.tradingplatform.tradingapi.reconciliation;
 
 import java.math.BigDecimal;
 import java.util.Map;
+import java.util.Optional;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 @Component
+@ConditionalOnProperty(
+    prefix = "reconciliation.balance",
+    name = "gateway",
+    havingValue = "stub",
+    matchIfMissing = true)
 public class StubBalanceReconciliationGateway implements BalanceReconciliationGateway {
   @Override
-  public Map<String, BigDecimal> fetchExternalBalances() {
-    return Map.of();
+  public Optional<Map<String, BigDecimal>> fetchExternalBalances() {
+    return Optional.empty();
   }
 }
@@ -0,0 +1,103 @@
+package com.tradingplatform.tradingapi.risk;
+
+import com.tradingplatform.domain.orders.Order;
+import com.tradingplatform.domain.orders.OrderSide;
+import com.tradingplatform.domain.orders.OrderStatus;
+import com.tradingplatform.domain.orders.OrderType;
+import com.tradingplatform.infra.kafka.consumer.EventConsumerAdapter;
+import com.tradingplatform.infra.kafka.contract.EventTypes;
+import com.tradingplatform.infra.kafka.contract.payload.OrderSubmittedV2;
+import com.tradingplatform.infra.kafka.contract.payload.OrderUpdatedV2;
+import com.tradingplatform.infra.kafka.errors.DeadLetterPublisher;
+import com.tradingplatform.infra.kafka.errors.RetryPolicy;
+import com.tradingplatform.infra.kafka.observability.KafkaTelemetry;
+import com.tradingplatform.infra.kafka.serde.EventEnvelopeCodecs;
+import com.tradingplatform.infra.kafka.topics.TopicNames;
+import java.util.UUID;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+// Every instance tracks exposure for all accounts, so each one joins with a unique group id and
+// starts from the latest offset: anything earlier is covered by the startup resync.
+@Component
+@ConditionalOnProperty(
+    prefix = "risk.exposure",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class AccountExposureConsumer {
+  private static final String GROUP_ID =
+      "${risk.exposure.consumer-group-id:trading-api-exposure-${random.uuid}}";
+
+  private final EventConsumerAdapter<OrderSubmittedV2> submittedAdapter;
+  private final EventConsumerAdapter<OrderUpdatedV2> updatedAdapter;
+
+  public AccountExposureConsumer(
+      EventEnvelopeCodecs codecs,
+      DeadLetterPublisher deadLetterPublisher,
+      RetryPolicy retryPolicy,
+      KafkaTelemetry telemetry,
+      RiskCheckService riskCheckService,
+      AccountExposureService accountExposureService) {
+    this.submittedAdapter =
+        new EventConsumerAdapter<>(
+            OrderSubmittedV2.class,
+            EventTypes.ORDER_SUBMITTED,
+            2,
+            codecs,
+            envelope -> riskCheckService.recordAccepted(toOrder(envelope.payload())),
+            deadLetterPublisher,
+            retryPolicy,
+            telemetry);
+    this.updatedAdapter =
+        new EventConsumerAdapter<>(
+            OrderUpdatedV2.class,
+            EventTypes.ORDER_UPDATED,
+            2,
+            codecs,
+            envelope ->
+                accountExposureService.orderUpdated(
+                    UUID.fromString(envelope.payload().orderId()),
+                    envelope.payload().filledQty(),
+                    OrderStatus.valueOf(envelope.payload().status())),
+            deadLetterPublisher,
+            retryPolicy,
+            telemetry);
+  }
+
+  @KafkaListener(
+      topics = TopicNames.ORDERS_SUBMITTED_V2,
+      groupId = GROUP_ID,
+      containerFactory = "infraKafkaListenerContainerFactory",
+      properties = "auto.offset.reset=latest")
+  public void onOrderSubmitted(ConsumerRecord<String, byte[]> record, Acknowledgment ack) {
+    submittedAdapter.process(record, 1);
+    ack.acknowledge();
+  }
+
+  @KafkaListener(
+      topics = TopicNames.ORDERS_UPDATED_V2,
+      groupId = GROUP_ID,
+      containerFactory = "infraKafkaListenerContainerFactory",
+      properties = "auto.offset.reset=latest")
+  public void onOrderUpdated(ConsumerRecord<String, byte[]> record, Acknowledgment ack) {
+    updatedAdapter.process(record, 1);
+    ack.acknowledge();
+  }
+
+  private static Order toOrder(OrderSubmittedV2 payload) {
+    return Order.createNew(
+        UUID.fromString(payload.orderId()),
+        UUID.fromString(payload.accountId()),
+        payload.instrument(),
+        OrderSide.valueOf(payload.side()),
+        OrderType.valueOf(payload.type()),
+        payload.qty(),
+        payload.price(),
+        payload.clientOrderId(),
+        payload.submittedAt());
+  }
+}
@@ -0,0 +1,49 @@
+package com.tradingplatform.tradingapi.risk;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "risk.exposure")
+public class AccountExposureProperties {
+  private boolean enabled = true;
+  private long snapshotFixedDelayMs = 10_000L;
+
+  /** How often the tracked state is rebuilt from orders and positions to repair missed events. */
+  private long resyncFixedDelayMs = 60_000L;
+
+  /** How many recently closed order ids are remembered so late opens for them are ignored. */
+  private int closedOrderCapacity = 100_000;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public long getSnapshotFixedDelayMs() {
+    return snapshotFixedDelayMs;
+  }
+
+  public void setSnapshotFixedDelayMs(long snapshotFixedDelayMs) {
+    this.snapshotFixedDelayMs = snapshotFixedDelayMs;
+  }
+
+  public long getResyncFixedDelayMs() {
+    return resyncFixedDelayMs;
+  }
+
+  public void setResyncFixedDelayMs(long resyncFixedDelayMs) {
+    this.resyncFixedDelayMs = resyncFixedDelayMs;
+  }
+
+  public int getClosedOrderCapacity() {
+    return closedOrderCapacity;
+  }
+
+  public void setClosedOrderCapacity(int closedOrderCapacity) {
+    this.closedOrderCapacity = closedOrderCapacity;
+  }
+}
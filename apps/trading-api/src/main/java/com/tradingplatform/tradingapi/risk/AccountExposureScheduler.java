@@ -0,0 +1,48 @@
+package com.tradingplatform.tradingapi.risk;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(
+    prefix = "risk.exposure",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class AccountExposureScheduler {
+  private static final Logger log = LoggerFactory.getLogger(AccountExposureScheduler.class);
+
+  private final AccountExposureService accountExposureService;
+
+  public AccountExposureScheduler(AccountExposureService accountExposureService) {
+    this.accountExposureService = accountExposureService;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadOnStartup() {
+    int openOrders = accountExposureService.resync();
+    log.info("Account exposure loaded open_orders={}", openOrders);
+  }
+
+  @Scheduled(
+      fixedDelayString = "${risk.exposure.resync-fixed-delay-ms:60000}",
+      initialDelayString = "${risk.exposure.resync-fixed-delay-ms:60000}")
+  public void resyncScheduled() {
+    int openOrders = accountExposureService.resync();
+    log.debug("Account exposure resynced open_orders={}", openOrders);
+  }
+
+  @Scheduled(fixedDelayString = "${risk.exposure.snapshot-fixed-delay-ms:10000}")
+  public void snapshotScheduled() {
+    accountExposureService
+        .writeSnapshot()
+        .ifPresentOrElse(
+            rows -> log.debug("Account exposure snapshot written rows={}", rows),
+            () -> log.debug("Account exposure snapshot skipped, another instance is writing"));
+  }
+}
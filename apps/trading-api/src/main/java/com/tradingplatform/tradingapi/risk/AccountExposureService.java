@@ -0,0 +1,174 @@
+package com.tradingplatform.tradingapi.risk;
+
+import com.tradingplatform.domain.orders.Order;
+import com.tradingplatform.domain.orders.OrderSide;
+import com.tradingplatform.domain.orders.OrderStatus;
+import com.tradingplatform.domain.risk.ExposureTracker;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Keeps the in-memory {@link ExposureTracker} behind the exposure limits. Orders accepted on this
+ * instance are counted as soon as they commit; fills, cancels and orders from other instances
+ * arrive through {@link AccountExposureConsumer}. The state is rebuilt from {@code orders} and
+ * {@code account_positions} at startup and on {@code risk.exposure.resync-fixed-delay-ms}, and
+ * copied to {@code account_exposure_snapshots} for operators.
+ *
+ * <p>Every instance tracks the same events, so one instance at a time replaces the whole snapshot
+ * table under an advisory lock; the others skip that round.
+ */
+@Service
+public class AccountExposureService {
+  private static final long SNAPSHOT_LOCK_KEY = 0x4558504f53555245L;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final AccountExposureProperties properties;
+  private final ExposureTracker tracker;
+
+  @Autowired
+  public AccountExposureService(JdbcTemplate jdbcTemplate, AccountExposureProperties properties) {
+    this(
+        jdbcTemplate,
+        properties,
+        new ExposureTracker(Clock.systemUTC(), properties.getClosedOrderCapacity()));
+  }
+
+  AccountExposureService(
+      JdbcTemplate jdbcTemplate, AccountExposureProperties properties, ExposureTracker tracker) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.properties = properties;
+    this.tracker = tracker;
+  }
+
+  public ExposureTracker.Exposure exposure(
+      UUID accountId, String instrument, String notionalAsset) {
+    return tracker.exposure(accountId, instrument, notionalAsset);
+  }
+
+  public void orderOpened(Order order, BigDecimal notionalPrice, String notionalAsset) {
+    if (!properties.isEnabled() || order.status().isTerminal()) {
+      return;
+    }
+    tracker.onOrderOpened(
+        new ExposureTracker.OpenOrder(
+            order.id(),
+            order.accountId(),
+            order.instrument(),
+            notionalAsset,
+            order.side(),
+            order.qty(),
+            order.filledQty(),
+            notionalPrice,
+            order.createdAt()));
+  }
+
+  public void orderUpdated(UUID orderId, BigDecimal filledQty, OrderStatus status) {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    tracker.onOrderUpdated(orderId, filledQty, status.isTerminal());
+  }
+
+  // Repeatable read so the open orders and the positions come from the same snapshot. Buffering
+  // starts before the snapshot is taken, so events it misses are replayed onto the new state.
+  @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+  public int resync() {
+    tracker.beginReset();
+    try {
+      List<ExposureTracker.OpenOrder> openOrders =
+          jdbcTemplate.query(
+              """
+              SELECT o.id, o.account_id, o.instrument, o.side, o.qty, o.filled_qty,
+                     COALESCE(o.price, i.reference_price) AS notional_price,
+                     COALESCE(i.quote_asset, o.instrument) AS notional_asset, o.created_at
+              FROM orders o
+              LEFT JOIN instruments i ON i.symbol = o.instrument
+              WHERE o.status IN ('NEW', 'ACK', 'PARTIALLY_FILLED')
+              """,
+              this::mapOpenOrder);
+      List<ExposureTracker.Position> positions =
+          jdbcTemplate.query(
+              """
+              SELECT account_id, instrument, net_qty
+              FROM account_positions
+              WHERE net_qty <> 0
+              """,
+              this::mapPosition);
+      tracker.reset(openOrders, positions);
+      return openOrders.size();
+    } catch (RuntimeException ex) {
+      tracker.cancelReset();
+      throw ex;
+    }
+  }
+
+  /**
+   * Replaces the snapshot table with this instance's state; empty when another instance is writing.
+   * Rows are stamped with the database transaction time so stale rows are found without comparing
+   * instance clocks.
+   */
+  @Transactional
+  public OptionalInt writeSnapshot() {
+    Boolean locked =
+        jdbcTemplate.queryForObject(
+            "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, SNAPSHOT_LOCK_KEY);
+    if (!Boolean.TRUE.equals(locked)) {
+      return OptionalInt.empty();
+    }
+    List<ExposureTracker.Row> rows = tracker.snapshot();
+    List<Object[]> batch = new ArrayList<>(rows.size());
+    for (ExposureTracker.Row row : rows) {
+      batch.add(
+          new Object[] {
+            row.accountId(), row.instrument(), row.openOrders(), row.openNotional(), row.netQty()
+          });
+    }
+    if (!batch.isEmpty()) {
+      jdbcTemplate.batchUpdate(
+          """
+          INSERT INTO account_exposure_snapshots (
+              account_id, instrument, open_orders, open_notional, net_qty, snapshot_at
+          ) VALUES (?, ?, ?, ?, ?, NOW())
+          ON CONFLICT (account_id, instrument) DO UPDATE
+          SET open_orders = EXCLUDED.open_orders,
+              open_notional = EXCLUDED.open_notional,
+              net_qty = EXCLUDED.net_qty,
+              snapshot_at = EXCLUDED.snapshot_at
+          """,
+          batch);
+    }
+    jdbcTemplate.update("DELETE FROM account_exposure_snapshots WHERE snapshot_at < NOW()");
+    return OptionalInt.of(rows.size());
+  }
+
+  private ExposureTracker.OpenOrder mapOpenOrder(ResultSet rs, int rowNum) throws SQLException {
+    return new ExposureTracker.OpenOrder(
+        rs.getObject("id", UUID.class),
+        rs.getObject("account_id", UUID.class),
+        rs.getString("instrument"),
+        rs.getString("notional_asset"),
+        OrderSide.valueOf(rs.getString("side")),
+        rs.getBigDecimal("qty"),
+        rs.getBigDecimal("filled_qty"),
+        rs.getBigDecimal("notional_price"),
+        rs.getTimestamp("created_at").toInstant());
+  }
+
+  private ExposureTracker.Position mapPosition(ResultSet rs, int rowNum) throws SQLException {
+    return new ExposureTracker.Position(
+        rs.getObject("account_id", UUID.class),
+        rs.getString("instrument"),
+        rs.getBigDecimal("net_qty"));
+  }
+}
@@ -5,4 +5,22 @@ import java.time.Instant;
 import java.util.UUID;
 
 public record AccountLimitConfig(
-    UUID accountId, BigDecimal maxOrderNotional, int priceBandBps, String updatedBy, Instant updatedAt) {}
+    UUID accountId,
+    BigDecimal maxOrderNotional,
+    int priceBandBps,
+    ExposureLimits exposureLimits,
+    String updatedBy,
+    Instant updatedAt) {
+  public AccountLimitConfig {
+    exposureLimits = exposureLimits == null ? ExposureLimits.NONE : exposureLimits;
+  }
+
+  public AccountLimitConfig(
+      UUID accountId,
+      BigDecimal maxOrderNotional,
+      int priceBandBps,
+      String updatedBy,
+      Instant updatedAt) {
+    this(accountId, maxOrderNotional, priceBandBps, ExposureLimits.NONE, updatedBy, updatedAt);
+  }
+}
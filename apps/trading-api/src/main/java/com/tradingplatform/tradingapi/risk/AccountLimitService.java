@@ -6,6 +6,7 @@ import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,14 +16,33 @@ public class AccountLimitService {
   public static final int DEFAULT_PRICE_BAND_BPS = 10_000;
 
   private final JdbcTemplate jdbcTemplate;
+  private final RiskRuleSetCache riskRuleSetCache;
 
   public AccountLimitService(JdbcTemplate jdbcTemplate) {
+    this(jdbcTemplate, new RiskRuleSetCache(jdbcTemplate, new RiskRuleCacheProperties()));
+  }
+
+  @Autowired
+  public AccountLimitService(JdbcTemplate jdbcTemplate, RiskRuleSetCache riskRuleSetCache) {
     this.jdbcTemplate = jdbcTemplate;
+    this.riskRuleSetCache = riskRuleSetCache;
   }
 
   @Transactional
   public AccountLimitConfig upsert(
       UUID accountId, BigDecimal maxOrderNotional, Integer priceBandBps, String actor) {
+    return upsert(accountId, maxOrderNotional, priceBandBps, ExposureLimits.NONE, actor);
+  }
+
+  @Transactional
+  public AccountLimitConfig upsert(
+      UUID accountId,
+      BigDecimal maxOrderNotional,
+      Integer priceBandBps,
+      ExposureLimits exposureLimits,
+      String actor) {
+    ExposureLimits safeExposureLimits =
+        exposureLimits == null ? ExposureLimits.NONE : exposureLimits;
     int safePriceBand = normalizePriceBand(priceBandBps);
     String safeActor = normalizeActor(actor);
 
@@ -32,20 +52,33 @@ public class AccountLimitService {
             account_id,
             max_order_notional,
             price_band_bps,
+            max_open_orders,
+            max_position,
+            max_open_notional,
+            max_orders_per_second,
             created_at,
             updated_at,
             updated_by
-        ) VALUES (?, ?, ?, NOW(), NOW(), ?)
+        ) VALUES (?, ?, ?, ?, ?, ?, ?, NOW(), NOW(), ?)
         ON CONFLICT (account_id) DO UPDATE
         SET max_order_notional = EXCLUDED.max_order_notional,
             price_band_bps = EXCLUDED.price_band_bps,
+            max_open_orders = EXCLUDED.max_open_orders,
+            max_position = EXCLUDED.max_position,
+            max_open_notional = EXCLUDED.max_open_notional,
+            max_orders_per_second = EXCLUDED.max_orders_per_second,
             updated_by = EXCLUDED.updated_by,
             updated_at = NOW()
         """,
         accountId,
         maxOrderNotional,
         safePriceBand,
+        safeExposureLimits.maxOpenOrders(),
+        safeExposureLimits.maxPosition(),
+        safeExposureLimits.maxOpenNotional(),
+        safeExposureLimits.maxOrdersPerSecond(),
         safeActor);
+    riskRuleSetCache.invalidateAccount(accountId);
 
     return findByAccountId(accountId)
         .orElseThrow(() -> new IllegalStateException("Failed to read account limits after upsert"));
@@ -56,7 +89,8 @@ public class AccountLimitService {
     List<AccountLimitConfig> rows =
         jdbcTemplate.query(
             """
-            SELECT account_id, max_order_notional, price_band_bps, updated_by, updated_at
+            SELECT account_id, max_order_notional, price_band_bps, max_open_orders, max_position,
+                   max_open_notional, max_orders_per_second, updated_by, updated_at
             FROM account_limits
             WHERE account_id = ?
             """,
@@ -73,6 +107,7 @@ public class AccountLimitService {
         rs.getObject("account_id", UUID.class),
         rs.getBigDecimal("max_order_notional"),
         rs.getInt("price_band_bps"),
+        ExposureLimits.map(rs),
         rs.getString("updated_by"),
         rs.getTimestamp("updated_at").toInstant());
   }
@@ -3,4 +3,13 @@ package com.tradingplatform.tradingapi.risk;
 import java.math.BigDecimal;
 import java.util.UUID;
 
-public record AccountLimitView(UUID accountId, BigDecimal maxOrderNotional, int priceBandBps) {}
+public record AccountLimitView(
+    UUID accountId, BigDecimal maxOrderNotional, int priceBandBps, ExposureLimits exposureLimits) {
+  public AccountLimitView {
+    exposureLimits = exposureLimits == null ? ExposureLimits.NONE : exposureLimits;
+  }
+
+  public AccountLimitView(UUID accountId, BigDecimal maxOrderNotional, int priceBandBps) {
+    this(accountId, maxOrderNotional, priceBandBps, ExposureLimits.NONE);
+  }
+}
@@ -0,0 +1,22 @@
+package com.tradingplatform.tradingapi.risk;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/** Optional account limits checked against tracked exposure; a {@code null} limit is off. */
+public record ExposureLimits(
+    Integer maxOpenOrders,
+    BigDecimal maxPosition,
+    BigDecimal maxOpenNotional,
+    Integer maxOrdersPerSecond) {
+  public static final ExposureLimits NONE = new ExposureLimits(null, null, null, null);
+
+  static ExposureLimits map(ResultSet rs) throws SQLException {
+    return new ExposureLimits(
+        rs.getObject("max_open_orders", Integer.class),
+        rs.getBigDecimal("max_position"),
+        rs.getBigDecimal("max_open_notional"),
+        rs.getObject("max_orders_per_second", Integer.class));
+  }
+}
@@ -12,8 +12,27 @@ public record InstrumentRiskView(
     BigDecimal stepSize,
     BigDecimal minQty,
     BigDecimal maxQty,
-    BigDecimal minNotional) {
+    BigDecimal minNotional,
+    String quoteAsset) {
+  public InstrumentRiskView(
+      UUID id,
+      String symbol,
+      String status,
+      BigDecimal referencePrice,
+      BigDecimal tickSize,
+      BigDecimal stepSize,
+      BigDecimal minQty,
+      BigDecimal maxQty,
+      BigDecimal minNotional) {
+    this(id, symbol, status, referencePrice, tickSize, stepSize, minQty, maxQty, minNotional, null);
+  }
+
   public boolean isActive() {
     return "ACTIVE".equals(status);
   }
+
+  /** The asset order notional is counted in; the symbol itself when no quote asset is set. */
+  public String notionalAsset() {
+    return quoteAsset == null ? symbol : quoteAsset;
+  }
 }
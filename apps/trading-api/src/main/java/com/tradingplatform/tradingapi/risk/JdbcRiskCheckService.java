@@ -1,189 +1,295 @@
 package com.tradingplatform.tradingapi.risk;
 
+import com.tradingplatform.domain.instruments.marketdata.TopOfBookCache;
+import com.tradingplatform.domain.orders.Order;
+import com.tradingplatform.domain.orders.OrderSide;
 import com.tradingplatform.domain.orders.OrderType;
+import com.tradingplatform.domain.risk.ExposureTracker;
+import com.tradingplatform.domain.risk.RiskOrder;
+import com.tradingplatform.domain.risk.RiskRejection;
+import com.tradingplatform.domain.risk.RiskRuleSet;
+import com.tradingplatform.tradingapi.marketdata.MarketDataProperties;
 import com.tradingplatform.tradingapi.orders.CreateOrderCommand;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.sql.ResultSet;
-import java.sql.SQLException;
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
-import org.springframework.jdbc.core.JdbcTemplate;
+import java.time.Duration;
 import org.springframework.stereotype.Service;
 
 @Service
 public class JdbcRiskCheckService implements RiskCheckService {
   private static final BigDecimal ONE_BPS = new BigDecimal("10000");
 
-  private final JdbcTemplate jdbcTemplate;
+  private final RiskRuleSetCache ruleSetCache;
+  private final AccountExposureService exposureService;
+  private final TopOfBookCache topOfBookCache;
+  private final MarketDataProperties marketDataProperties;
 
-  public JdbcRiskCheckService(JdbcTemplate jdbcTemplate) {
-    this.jdbcTemplate = jdbcTemplate;
+  public JdbcRiskCheckService(
+      RiskRuleSetCache ruleSetCache,
+      AccountExposureService exposureService,
+      TopOfBookCache topOfBookCache,
+      MarketDataProperties marketDataProperties) {
+    this.ruleSetCache = ruleSetCache;
+    this.exposureService = exposureService;
+    this.topOfBookCache = topOfBookCache;
+    this.marketDataProperties = marketDataProperties;
   }
 
   @Override
   public void validateOrder(CreateOrderCommand command) {
-    InstrumentRiskView instrument =
-        findInstrument(command.instrument())
-            .orElseThrow(
-                () ->
-                    new RiskViolationException(
-                        "INSTRUMENT_NOT_FOUND", "Instrument not found: " + command.instrument()));
-    if (!instrument.isActive()) {
-      throw new RiskViolationException(
-          "INSTRUMENT_NOT_TRADABLE",
-          "Instrument is not tradable: " + instrument.symbol() + " status=" + instrument.status());
+    RiskProfile profile = ruleSetCache.get(command.instrument(), command.accountId());
+    BigDecimal referencePrice = referencePrice(profile.instrument());
+    ExposureTracker.Exposure exposure =
+        exposureService.exposure(
+            command.accountId(), command.instrument(), profile.instrument().notionalAsset());
+    RiskRuleSet rules = profile.rules();
+    if (rules != null) {
+      try {
+        RiskOrder order =
+            rules.order(
+                command.side(), command.type(), command.qty(), command.price(), referencePrice);
+        RiskRejection rejection = rules.evaluate(order, rules.exposure(exposure));
+        if (rejection != null) {
+          throw new RiskViolationException(rejection.code(), rejection.message());
+        }
+        return;
+      } catch (ArithmeticException ex) {
+        // Finer than the instrument scale or beyond the long range; the decimal checks are exact.
+      }
     }
+    BigDecimal notionalPrice =
+        command.type() == OrderType.MARKET ? referencePrice : command.price();
+    validateDecimal(
+        command,
+        profile.instrument(),
+        profile.accountLimit(),
+        exposure,
+        referencePrice,
+        notionalPrice);
+  }
 
-    AccountLimitView accountLimit =
-        findAccountLimits(command.accountId())
-            .orElseThrow(
-                () ->
-                    new RiskViolationException(
-                        "ACCOUNT_LIMITS_NOT_FOUND",
-                        "Account limits are not configured for account " + command.accountId()));
+  // The order is already stored; if its instrument has since disappeared a market order only loses
+  // its notional, and the notional is counted under the symbol.
+  @Override
+  public void recordAccepted(Order order) {
+    InstrumentRiskView instrument;
+    try {
+      instrument = ruleSetCache.get(order.instrument(), order.accountId()).instrument();
+    } catch (RiskViolationException ex) {
+      instrument = null;
+    }
+    BigDecimal notionalPrice =
+        order.type() != OrderType.MARKET
+            ? order.price()
+            : instrument == null ? BigDecimal.ZERO : referencePrice(instrument);
+    exposureService.orderOpened(
+        order, notionalPrice, instrument == null ? order.instrument() : instrument.notionalAsset());
+  }
+
+  // Live top-of-book when the feed has a fresh quote or trade; the static column otherwise.
+  private BigDecimal referencePrice(InstrumentRiskView instrument) {
+    return topOfBookCache
+        .referencePrice(
+            instrument.symbol(), Duration.ofMillis(marketDataProperties.getMaxPriceAgeMs()))
+        .orElse(instrument.referencePrice());
+  }
 
-    BigDecimal referencePrice = instrument.referencePrice();
-    BigDecimal notionalPrice = command.type() == OrderType.MARKET ? referencePrice : command.price();
+  private void validateDecimal(
+      CreateOrderCommand command,
+      InstrumentRiskView instrument,
+      AccountLimitView accountLimit,
+      ExposureTracker.Exposure exposure,
+      BigDecimal referencePrice,
+      BigDecimal notionalPrice) {
     BigDecimal orderNotional = command.qty().multiply(notionalPrice);
     if (orderNotional.compareTo(accountLimit.maxOrderNotional()) > 0) {
-      throw new RiskViolationException(
-          "MAX_NOTIONAL_EXCEEDED",
-          "Order notional "
-              + orderNotional
-                + " exceeds max_order_notional "
-                + accountLimit.maxOrderNotional());
+      throw maxNotionalExceeded(orderNotional, accountLimit);
     }
 
-    validateExchangeFilters(command, instrument, notionalPrice);
+    if (instrument.stepSize() != null && !isMultipleOf(command.qty(), instrument.stepSize())) {
+      throw qtyStepMismatch(command, instrument);
+    }
+    if (command.type() == OrderType.LIMIT
+        && instrument.tickSize() != null
+        && !isMultipleOf(command.price(), instrument.tickSize())) {
+      throw priceTickMismatch(command, instrument);
+    }
+    if (instrument.minQty() != null && command.qty().compareTo(instrument.minQty()) < 0) {
+      throw qtyBelowMin(command, instrument);
+    }
+    if (instrument.maxQty() != null && command.qty().compareTo(instrument.maxQty()) > 0) {
+      throw qtyAboveMax(command, instrument);
+    }
+    if (instrument.minNotional() != null && orderNotional.compareTo(instrument.minNotional()) < 0) {
+      throw minNotionalNotMet(orderNotional, instrument);
+    }
 
     if (command.type() == OrderType.LIMIT) {
-      BigDecimal absoluteDiff = command.price().subtract(referencePrice).abs();
-      BigDecimal deviationBps =
-          absoluteDiff.multiply(ONE_BPS).divide(referencePrice, 8, RoundingMode.HALF_UP);
+      BigDecimal deviationBps = deviationBps(command.price(), referencePrice);
       if (deviationBps.compareTo(BigDecimal.valueOf(accountLimit.priceBandBps())) > 0) {
-        throw new RiskViolationException(
-            "PRICE_BAND_EXCEEDED",
-            "Price deviation "
-                + deviationBps
-                + " bps exceeds allowed "
-                + accountLimit.priceBandBps()
-                + " bps");
+        throw priceBandExceeded(deviationBps, accountLimit);
       }
     }
-  }
 
-  private Optional<InstrumentRiskView> findInstrument(String symbol) {
-    String sql =
-        """
-        SELECT id, symbol, status, reference_price, tick_size, step_size, min_qty, max_qty, min_notional
-        FROM instruments
-        WHERE symbol = ?
-        """;
-    List<InstrumentRiskView> rows = jdbcTemplate.query(sql, this::mapInstrument, symbol);
-    if (rows.isEmpty()) {
-      return Optional.empty();
+    ExposureLimits limits = accountLimit.exposureLimits();
+    if (limits.maxOpenOrders() != null && exposure.openOrders() >= limits.maxOpenOrders()) {
+      throw maxOpenOrdersExceeded(exposure, limits);
     }
-    return Optional.of(rows.get(0));
-  }
-
-  private Optional<AccountLimitView> findAccountLimits(UUID accountId) {
-    String sql =
-        """
-        SELECT account_id, max_order_notional, price_band_bps
-        FROM account_limits
-        WHERE account_id = ?
-        """;
-    List<AccountLimitView> rows = jdbcTemplate.query(sql, this::mapAccountLimit, accountId);
-    if (rows.isEmpty()) {
-      return Optional.empty();
+    if (limits.maxPosition() != null) {
+      BigDecimal current = exposure.netPosition();
+      BigDecimal projected =
+          command.side() == OrderSide.BUY
+              ? current.add(command.qty())
+              : current.subtract(command.qty());
+      if (projected.abs().compareTo(limits.maxPosition()) > 0
+          && projected.abs().compareTo(current.abs()) > 0) {
+        throw maxPositionExceeded(projected, limits, command);
+      }
+    }
+    if (limits.maxOpenNotional() != null) {
+      BigDecimal projected = exposure.openNotional().add(orderNotional);
+      if (projected.compareTo(limits.maxOpenNotional()) > 0) {
+        throw maxOpenNotionalExceeded(projected, limits);
+      }
+    }
+    if (limits.maxOrdersPerSecond() != null
+        && exposure.ordersInLastSecond() >= limits.maxOrdersPerSecond()) {
+      throw orderRateExceeded(exposure, limits);
     }
-    return Optional.of(rows.get(0));
   }
 
-  private InstrumentRiskView mapInstrument(ResultSet rs, int rowNum) throws SQLException {
-    return new InstrumentRiskView(
-        rs.getObject("id", UUID.class),
-        rs.getString("symbol"),
-        rs.getString("status"),
-        rs.getBigDecimal("reference_price"),
-        rs.getBigDecimal("tick_size"),
-        rs.getBigDecimal("step_size"),
-        rs.getBigDecimal("min_qty"),
-        rs.getBigDecimal("max_qty"),
-        rs.getBigDecimal("min_notional"));
+  private static BigDecimal deviationBps(BigDecimal price, BigDecimal referencePrice) {
+    return price
+        .subtract(referencePrice)
+        .abs()
+        .multiply(ONE_BPS)
+        .divide(referencePrice, 8, RoundingMode.HALF_UP);
   }
 
-  private AccountLimitView mapAccountLimit(ResultSet rs, int rowNum) throws SQLException {
-    return new AccountLimitView(
-        rs.getObject("account_id", UUID.class),
-        rs.getBigDecimal("max_order_notional"),
-        rs.getInt("price_band_bps"));
+  private static boolean isMultipleOf(BigDecimal value, BigDecimal increment) {
+    return value.remainder(increment).compareTo(BigDecimal.ZERO) == 0;
   }
 
-  private void validateExchangeFilters(
-      CreateOrderCommand command, InstrumentRiskView instrument, BigDecimal notionalPrice) {
-    if (instrument.stepSize() != null && !isMultipleOf(command.qty(), instrument.stepSize())) {
-      throw new RiskViolationException(
-          "QTY_STEP_MISMATCH",
-          "Quantity "
-              + command.qty()
-              + " is not aligned to step_size "
-              + instrument.stepSize()
-              + " for instrument "
-              + instrument.symbol());
-    }
+  private static RiskViolationException maxNotionalExceeded(
+      BigDecimal orderNotional, AccountLimitView accountLimit) {
+    return new RiskViolationException(
+        "MAX_NOTIONAL_EXCEEDED",
+        "Order notional "
+            + orderNotional
+            + " exceeds max_order_notional "
+            + accountLimit.maxOrderNotional());
+  }
 
-    if (command.type() == OrderType.LIMIT
-        && instrument.tickSize() != null
-        && !isMultipleOf(command.price(), instrument.tickSize())) {
-      throw new RiskViolationException(
-          "PRICE_TICK_MISMATCH",
-          "Price "
-              + command.price()
-              + " is not aligned to tick_size "
-              + instrument.tickSize()
-              + " for instrument "
-              + instrument.symbol());
-    }
+  private static RiskViolationException qtyStepMismatch(
+      CreateOrderCommand command, InstrumentRiskView instrument) {
+    return new RiskViolationException(
+        "QTY_STEP_MISMATCH",
+        "Quantity "
+            + command.qty()
+            + " is not aligned to step_size "
+            + instrument.stepSize()
+            + " for instrument "
+            + instrument.symbol());
+  }
 
-    if (instrument.minQty() != null && command.qty().compareTo(instrument.minQty()) < 0) {
-      throw new RiskViolationException(
-          "QTY_OUT_OF_RANGE",
-          "Quantity "
-              + command.qty()
-              + " is below min_qty "
-              + instrument.minQty()
-              + " for instrument "
-              + instrument.symbol());
-    }
+  private static RiskViolationException priceTickMismatch(
+      CreateOrderCommand command, InstrumentRiskView instrument) {
+    return new RiskViolationException(
+        "PRICE_TICK_MISMATCH",
+        "Price "
+            + command.price()
+            + " is not aligned to tick_size "
+            + instrument.tickSize()
+            + " for instrument "
+            + instrument.symbol());
+  }
 
-    if (instrument.maxQty() != null && command.qty().compareTo(instrument.maxQty()) > 0) {
-      throw new RiskViolationException(
-          "QTY_OUT_OF_RANGE",
-          "Quantity "
-              + command.qty()
-              + " exceeds max_qty "
-              + instrument.maxQty()
-              + " for instrument "
-              + instrument.symbol());
-    }
+  private static RiskViolationException qtyBelowMin(
+      CreateOrderCommand command, InstrumentRiskView instrument) {
+    return new RiskViolationException(
+        "QTY_OUT_OF_RANGE",
+        "Quantity "
+            + command.qty()
+            + " is below min_qty "
+            + instrument.minQty()
+            + " for instrument "
+            + instrument.symbol());
+  }
 
-    if (instrument.minNotional() != null
-        && command.qty().multiply(notionalPrice).compareTo(instrument.minNotional()) < 0) {
-      throw new RiskViolationException(
-          "MIN_NOTIONAL_NOT_MET",
-          "Order notional "
-              + command.qty().multiply(notionalPrice)
-              + " is below min_notional "
-              + instrument.minNotional()
-              + " for instrument "
-              + instrument.symbol());
-    }
+  private static RiskViolationException qtyAboveMax(
+      CreateOrderCommand command, InstrumentRiskView instrument) {
+    return new RiskViolationException(
+        "QTY_OUT_OF_RANGE",
+        "Quantity "
+            + command.qty()
+            + " exceeds max_qty "
+            + instrument.maxQty()
+            + " for instrument "
+            + instrument.symbol());
   }
 
-  private static boolean isMultipleOf(BigDecimal value, BigDecimal increment) {
-    return value.remainder(increment).compareTo(BigDecimal.ZERO) == 0;
+  private static RiskViolationException minNotionalNotMet(
+      BigDecimal orderNotional, InstrumentRiskView instrument) {
+    return new RiskViolationException(
+        "MIN_NOTIONAL_NOT_MET",
+        "Order notional "
+            + orderNotional
+            + " is below min_notional "
+            + instrument.minNotional()
+            + " for instrument "
+            + instrument.symbol());
+  }
+
+  private static RiskViolationException priceBandExceeded(
+      BigDecimal deviationBps, AccountLimitView accountLimit) {
+    return new RiskViolationException(
+        "PRICE_BAND_EXCEEDED",
+        "Price deviation "
+            + deviationBps
+            + " bps exceeds allowed "
+            + accountLimit.priceBandBps()
+            + " bps");
+  }
+
+  private static RiskViolationException maxOpenOrdersExceeded(
+      ExposureTracker.Exposure exposure, ExposureLimits limits) {
+    return new RiskViolationException(
+        "MAX_OPEN_ORDERS_EXCEEDED",
+        "Account has "
+            + exposure.openOrders()
+            + " open orders, max_open_orders is "
+            + limits.maxOpenOrders());
+  }
+
+  private static RiskViolationException maxPositionExceeded(
+      BigDecimal projected, ExposureLimits limits, CreateOrderCommand command) {
+    return new RiskViolationException(
+        "MAX_POSITION_EXCEEDED",
+        "Projected position "
+            + projected
+            + " exceeds max_position "
+            + limits.maxPosition()
+            + " for instrument "
+            + command.instrument());
+  }
+
+  private static RiskViolationException maxOpenNotionalExceeded(
+      BigDecimal projected, ExposureLimits limits) {
+    return new RiskViolationException(
+        "MAX_OPEN_NOTIONAL_EXCEEDED",
+        "Open notional including this order "
+            + projected
+            + " exceeds max_open_notional "
+            + limits.maxOpenNotional());
+  }
+
+  private static RiskViolationException orderRateExceeded(
+      ExposureTracker.Exposure exposure, ExposureLimits limits) {
+    return new RiskViolationException(
+        "ORDER_RATE_EXCEEDED",
+        "Account submitted "
+            + exposure.ordersInLastSecond()
+            + " orders in the last second, max_orders_per_second is "
+            + limits.maxOrdersPerSecond());
   }
 }
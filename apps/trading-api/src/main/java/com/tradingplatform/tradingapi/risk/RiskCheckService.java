@@ -1,7 +1,11 @@
 package com.tradingplatform.tradingapi.risk;
 
+import com.tradingplatform.domain.orders.Order;
 import com.tradingplatform.tradingapi.orders.CreateOrderCommand;
 
 public interface RiskCheckService {
   void validateOrder(CreateOrderCommand command);
+
+  /** Counts a stored order towards its account's exposure so the next validation sees it. */
+  default void recordAccepted(Order order) {}
 }
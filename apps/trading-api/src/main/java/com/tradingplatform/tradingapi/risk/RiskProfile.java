@@ -0,0 +1,10 @@
+package com.tradingplatform.tradingapi.risk;
+
+import com.tradingplatform.domain.risk.RiskRuleSet;
+
+/**
+ * Reference data and compiled rules for one instrument/account pair. {@code rules} is {@code null}
+ * when a filter cannot be expressed at a fixed-point scale; such pairs use the decimal checks.
+ */
+public record RiskProfile(
+    InstrumentRiskView instrument, AccountLimitView accountLimit, RiskRuleSet rules) {}
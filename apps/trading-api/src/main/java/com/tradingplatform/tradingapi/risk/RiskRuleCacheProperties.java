@@ -0,0 +1,36 @@
+package com.tradingplatform.tradingapi.risk;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "risk.rules")
+public class RiskRuleCacheProperties {
+  private boolean cacheEnabled = true;
+  private long maximumSize = 10000L;
+  private long maxStalenessMs = 1000L;
+
+  public boolean isCacheEnabled() {
+    return cacheEnabled;
+  }
+
+  public void setCacheEnabled(boolean cacheEnabled) {
+    this.cacheEnabled = cacheEnabled;
+  }
+
+  public long getMaximumSize() {
+    return maximumSize;
+  }
+
+  public void setMaximumSize(long maximumSize) {
+    this.maximumSize = maximumSize;
+  }
+
+  public long getMaxStalenessMs() {
+    return maxStalenessMs;
+  }
+
+  public void setMaxStalenessMs(long maxStalenessMs) {
+    this.maxStalenessMs = maxStalenessMs;
+  }
+}
@@ -0,0 +1,159 @@
+package com.tradingplatform.tradingapi.risk;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tradingplatform.domain.risk.AccountRiskLimits;
+import com.tradingplatform.domain.risk.InstrumentRiskLimits;
+import com.tradingplatform.domain.risk.RiskRuleSet;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Loads instrument filters and account limits once per instrument/account pair and keeps the
+ * compiled {@link RiskRuleSet} in memory. Local admin writes invalidate entries directly; writes
+ * from other instances are picked up after {@code risk.rules.max-staleness-ms}.
+ *
+ * <p>Lookups that reject the order (unknown instrument, not tradable, no limits) are not cached.
+ */
+@Service
+public class RiskRuleSetCache {
+  private final JdbcTemplate jdbcTemplate;
+  private final RiskRuleCacheProperties properties;
+  private final Cache<Key, RiskProfile> profiles;
+
+  private record Key(String symbol, UUID accountId) {}
+
+  public RiskRuleSetCache(JdbcTemplate jdbcTemplate, RiskRuleCacheProperties properties) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.properties = properties;
+    this.profiles =
+        Caffeine.newBuilder()
+            .maximumSize(Math.max(properties.getMaximumSize(), 1L))
+            .expireAfterWrite(Duration.ofMillis(Math.max(properties.getMaxStalenessMs(), 1L)))
+            .build();
+  }
+
+  public RiskProfile get(String symbol, UUID accountId) {
+    if (!properties.isCacheEnabled()) {
+      return load(symbol, accountId);
+    }
+    return profiles.get(new Key(symbol, accountId), key -> load(key.symbol(), key.accountId()));
+  }
+
+  public void invalidateInstrument(String symbol) {
+    invalidateNowAndAfterCommit(key -> key.symbol().equals(symbol));
+  }
+
+  public void invalidateAccount(UUID accountId) {
+    invalidateNowAndAfterCommit(key -> key.accountId().equals(accountId));
+  }
+
+  // A lookup racing the writer's transaction can re-cache the old row, so drop it again on commit.
+  private void invalidateNowAndAfterCommit(Predicate<Key> matches) {
+    profiles.asMap().keySet().removeIf(matches);
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            profiles.asMap().keySet().removeIf(matches);
+          }
+        });
+  }
+
+  private RiskProfile load(String symbol, UUID accountId) {
+    InstrumentRiskView instrument = findInstrument(symbol);
+    if (!instrument.isActive()) {
+      throw new RiskViolationException(
+          "INSTRUMENT_NOT_TRADABLE",
+          "Instrument is not tradable: " + instrument.symbol() + " status=" + instrument.status());
+    }
+    AccountLimitView accountLimit = findAccountLimits(accountId);
+    return new RiskProfile(instrument, accountLimit, compile(instrument, accountLimit));
+  }
+
+  private static RiskRuleSet compile(InstrumentRiskView instrument, AccountLimitView accountLimit) {
+    try {
+      return RiskRuleSet.compile(
+          new InstrumentRiskLimits(
+              instrument.symbol(),
+              instrument.tickSize(),
+              instrument.stepSize(),
+              instrument.minQty(),
+              instrument.maxQty(),
+              instrument.minNotional()),
+          new AccountRiskLimits(
+              accountLimit.maxOrderNotional(),
+              accountLimit.priceBandBps(),
+              accountLimit.exposureLimits().maxOpenOrders(),
+              accountLimit.exposureLimits().maxPosition(),
+              accountLimit.exposureLimits().maxOpenNotional(),
+              accountLimit.exposureLimits().maxOrdersPerSecond()));
+    } catch (ArithmeticException ex) {
+      return null;
+    }
+  }
+
+  private InstrumentRiskView findInstrument(String symbol) {
+    String sql =
+        """
+        SELECT id, symbol, status, reference_price, tick_size, step_size, min_qty, max_qty,
+               min_notional, quote_asset
+        FROM instruments
+        WHERE symbol = ?
+        """;
+    List<InstrumentRiskView> rows = jdbcTemplate.query(sql, this::mapInstrument, symbol);
+    if (rows.isEmpty()) {
+      throw new RiskViolationException("INSTRUMENT_NOT_FOUND", "Instrument not found: " + symbol);
+    }
+    return rows.get(0);
+  }
+
+  private AccountLimitView findAccountLimits(UUID accountId) {
+    String sql =
+        """
+        SELECT account_id, max_order_notional, price_band_bps, max_open_orders, max_position,
+               max_open_notional, max_orders_per_second
+        FROM account_limits
+        WHERE account_id = ?
+        """;
+    List<AccountLimitView> rows = jdbcTemplate.query(sql, this::mapAccountLimit, accountId);
+    if (rows.isEmpty()) {
+      throw new RiskViolationException(
+          "ACCOUNT_LIMITS_NOT_FOUND", "Account limits are not configured for account " + accountId);
+    }
+    return rows.get(0);
+  }
+
+  private InstrumentRiskView mapInstrument(ResultSet rs, int rowNum) throws SQLException {
+    return new InstrumentRiskView(
+        rs.getObject("id", UUID.class),
+        rs.getString("symbol"),
+        rs.getString("status"),
+        rs.getBigDecimal("reference_price"),
+        rs.getBigDecimal("tick_size"),
+        rs.getBigDecimal("step_size"),
+        rs.getBigDecimal("min_qty"),
+        rs.getBigDecimal("max_qty"),
+        rs.getBigDecimal("min_notional"),
+        rs.getString("quote_asset"));
+  }
+
+  private AccountLimitView mapAccountLimit(ResultSet rs, int rowNum) throws SQLException {
+    return new AccountLimitView(
+        rs.getObject("account_id", UUID.class),
+        rs.getBigDecimal("max_order_notional"),
+        rs.getInt("price_band_bps"),
+        ExposureLimits.map(rs));
+  }
+}
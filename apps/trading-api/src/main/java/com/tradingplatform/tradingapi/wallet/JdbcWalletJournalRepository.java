@@ -0,0 +1,236 @@
+package com.tradingplatform.tradingapi.wallet;
+
+import com.tradingplatform.domain.wallet.ReservationStatus;
+import com.tradingplatform.domain.wallet.WalletBalance;
+import com.tradingplatform.domain.wallet.WalletReservation;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class JdbcWalletJournalRepository implements WalletJournalRepository {
+  private final JdbcTemplate jdbcTemplate;
+
+  public JdbcWalletJournalRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  public Optional<WalletBalance> findBalance(UUID accountId, String asset) {
+    String sql =
+        """
+        SELECT account_id, asset, available, reserved, updated_at
+        FROM wallet_balances
+        WHERE account_id = ? AND asset = ?
+        """;
+    List<WalletBalance> rows = jdbcTemplate.query(sql, this::mapBalance, accountId, asset);
+    return rows.isEmpty() ? Optional.empty() : Optional.of(rows.getFirst());
+  }
+
+  @Override
+  public List<WalletReservation> findActiveReservations(UUID accountId, String asset) {
+    String sql =
+        """
+        SELECT id, account_id, asset, amount, order_id, status, created_at
+        FROM wallet_reservations
+        WHERE account_id = ? AND asset = ? AND status = 'ACTIVE'
+        """;
+    return jdbcTemplate.query(sql, this::mapReservation, accountId, asset);
+  }
+
+  @Override
+  public List<UUID> findOrphanedReservations(long olderThanMs, int limit) {
+    String sql =
+        """
+        SELECT r.order_id
+        FROM wallet_reservations r
+        WHERE r.status = 'ACTIVE'
+          AND r.created_at < NOW() - (? * INTERVAL '1 millisecond')
+          AND NOT EXISTS (
+              SELECT 1
+              FROM orders o
+              WHERE o.id = r.order_id
+                AND o.status NOT IN ('CANCELED', 'REJECTED', 'EXPIRED')
+          )
+        ORDER BY r.created_at
+        LIMIT ?
+        """;
+    return jdbcTemplate.query(
+        sql, (rs, rowNum) -> rs.getObject("order_id", UUID.class), olderThanMs, limit);
+  }
+
+  @Override
+  @Transactional
+  public AppendResult append(List<WalletJournalEntry> entries) {
+    // A reservation opened and closed within one batch is inserted once with its final status.
+    Map<UUID, WalletJournalEntry> opened = new LinkedHashMap<>();
+    List<WalletJournalEntry> closes = new ArrayList<>();
+    for (WalletJournalEntry entry : entries) {
+      UUID reservationId = entry.reservation().id();
+      if (entry.type() == WalletJournalEntry.Type.RESERVE || opened.containsKey(reservationId)) {
+        opened.put(reservationId, entry);
+      } else {
+        closes.add(entry);
+      }
+    }
+
+    // Closes only ever return funds, so running them first keeps every statement within the
+    // non-negative balance constraints whenever the in-memory sequence was.
+    AppendResult result = closeReservations(closes);
+    insertReservations(opened.values());
+    applyBalanceDeltas(opened.values());
+    return result;
+  }
+
+  private AppendResult closeReservations(List<WalletJournalEntry> closes) {
+    if (closes.isEmpty()) {
+      return new AppendResult(Set.of(), Map.of());
+    }
+    // Both deltas come from the stored amount: fills lower it after the engine cached the
+    // reservation, and settling the cached amount would over-release or drive reserved negative.
+    String sql =
+        """
+        WITH closed AS (
+            UPDATE wallet_reservations
+            SET status = ?, released_at = NOW()
+            WHERE id = ? AND status = 'ACTIVE'
+            RETURNING account_id, asset, amount
+        )
+        UPDATE wallet_balances b
+        SET available = b.available + CASE WHEN ? THEN closed.amount ELSE 0 END,
+            reserved = b.reserved - closed.amount,
+            updated_at = NOW()
+        FROM closed
+        WHERE b.account_id = closed.account_id AND b.asset = closed.asset
+        RETURNING closed.amount
+        """;
+    Set<UUID> skipped = new HashSet<>();
+    Map<UUID, BigDecimal> closedAmounts = new HashMap<>();
+    for (WalletJournalEntry entry : closes) {
+      UUID reservationId = entry.reservation().id();
+      List<BigDecimal> amounts =
+          jdbcTemplate.query(
+              sql,
+              (rs, rowNum) -> rs.getBigDecimal("amount"),
+              entry.type().resultingStatus().name(),
+              reservationId,
+              entry.type() == WalletJournalEntry.Type.RELEASE);
+      if (amounts.isEmpty()) {
+        skipped.add(reservationId);
+      } else {
+        closedAmounts.put(reservationId, amounts.getFirst());
+      }
+    }
+    return new AppendResult(skipped, closedAmounts);
+  }
+
+  private void insertReservations(Collection<WalletJournalEntry> opened) {
+    if (opened.isEmpty()) {
+      return;
+    }
+    String sql =
+        """
+        INSERT INTO wallet_reservations
+            (id, account_id, asset, amount, order_id, status, created_at, released_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+    Timestamp now = Timestamp.from(Instant.now());
+    List<Object[]> args = new ArrayList<>(opened.size());
+    for (WalletJournalEntry entry : opened) {
+      WalletReservation reservation = entry.reservation();
+      ReservationStatus status = entry.type().resultingStatus();
+      args.add(
+          new Object[] {
+            reservation.id(),
+            reservation.accountId(),
+            reservation.asset(),
+            reservation.amount(),
+            reservation.orderId(),
+            status.name(),
+            Timestamp.from(reservation.createdAt()),
+            status.isTerminal() ? now : null
+          });
+    }
+    jdbcTemplate.batchUpdate(sql, args);
+  }
+
+  private void applyBalanceDeltas(Collection<WalletJournalEntry> opened) {
+    Map<BalanceKey, BigDecimal[]> deltas = new LinkedHashMap<>();
+    for (WalletJournalEntry entry : opened) {
+      WalletReservation reservation = entry.reservation();
+      BigDecimal[] delta =
+          deltas.computeIfAbsent(
+              new BalanceKey(reservation.accountId(), reservation.asset()),
+              ignored -> new BigDecimal[] {BigDecimal.ZERO, BigDecimal.ZERO});
+      // Net effect of the reserve plus whatever closed it inside the batch.
+      delta[0] = delta[0].subtract(reservation.amount());
+      delta[1] = delta[1].add(reservation.amount());
+      if (entry.type() != WalletJournalEntry.Type.RESERVE) {
+        delta[0] = delta[0].add(entry.availableDelta());
+        delta[1] = delta[1].add(entry.reservedDelta());
+      }
+    }
+    String sql =
+        """
+        UPDATE wallet_balances
+        SET available = available + ?,
+            reserved = reserved + ?,
+            updated_at = NOW()
+        WHERE account_id = ? AND asset = ?
+        """;
+    List<Object[]> args = new ArrayList<>(deltas.size());
+    for (Map.Entry<BalanceKey, BigDecimal[]> delta : deltas.entrySet()) {
+      if (delta.getValue()[0].signum() == 0 && delta.getValue()[1].signum() == 0) {
+        continue;
+      }
+      args.add(
+          new Object[] {
+            delta.getValue()[0],
+            delta.getValue()[1],
+            delta.getKey().accountId(),
+            delta.getKey().asset()
+          });
+    }
+    if (!args.isEmpty()) {
+      jdbcTemplate.batchUpdate(sql, args);
+    }
+  }
+
+  private WalletBalance mapBalance(ResultSet rs, int rowNum) throws SQLException {
+    return new WalletBalance(
+        rs.getObject("account_id", UUID.class),
+        rs.getString("asset"),
+        rs.getBigDecimal("available"),
+        rs.getBigDecimal("reserved"),
+        rs.getTimestamp("updated_at").toInstant());
+  }
+
+  private WalletReservation mapReservation(ResultSet rs, int rowNum) throws SQLException {
+    return new WalletReservation(
+        rs.getObject("id", UUID.class),
+        rs.getObject("account_id", UUID.class),
+        rs.getString("asset"),
+        rs.getBigDecimal("amount"),
+        rs.getObject("order_id", UUID.class),
+        ReservationStatus.valueOf(rs.getString("status")),
+        rs.getTimestamp("created_at").toInstant(),
+        null);
+  }
+
+  private record BalanceKey(UUID accountId, String asset) {}
+}
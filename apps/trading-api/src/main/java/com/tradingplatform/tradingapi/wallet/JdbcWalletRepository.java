@@ -41,6 +41,18 @@ public class JdbcWalletRepository implements WalletRepository {
     return rows.isEmpty() ? Optional.empty() : Optional.of(rows.getFirst());
   }
 
+  @Override
+  public Optional<WalletBalance> findConsolidatedBalance(UUID accountId, String asset) {
+    String sql =
+        """
+        SELECT account_id, asset, available, reserved, updated_at
+        FROM wallet_balances_consolidated
+        WHERE account_id = ? AND asset = ?
+        """;
+    List<WalletBalance> rows = jdbcTemplate.query(sql, this::mapBalance, accountId, asset);
+    return rows.isEmpty() ? Optional.empty() : Optional.of(rows.getFirst());
+  }
+
   @Override
   public void insertBalance(
       UUID accountId, String asset, BigDecimal available, BigDecimal reserved) {
@@ -66,10 +78,15 @@ public class JdbcWalletRepository implements WalletRepository {
 
   @Override
   public void insertReservation(WalletReservation reservation) {
+    insertReservation(reservation, 0);
+  }
+
+  @Override
+  public void insertReservation(WalletReservation reservation, int stripe) {
     String sql =
         """
-        INSERT INTO wallet_reservations (id, account_id, asset, amount, order_id, status, created_at)
-        VALUES (?, ?, ?, ?, ?, ?, ?)
+        INSERT INTO wallet_reservations (id, account_id, asset, amount, order_id, status, created_at, stripe)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
         """;
     jdbcTemplate.update(
         sql,
@@ -79,7 +96,8 @@ public class JdbcWalletRepository implements WalletRepository {
         reservation.amount(),
         reservation.orderId(),
         reservation.status().name(),
-        Timestamp.from(reservation.createdAt()));
+        Timestamp.from(reservation.createdAt()),
+        stripe);
   }
 
   @Override
@@ -106,6 +124,85 @@ public class JdbcWalletRepository implements WalletRepository {
     jdbcTemplate.update(sql, status.name(), status.name(), reservationId);
   }
 
+  @Override
+  public int findReservationStripe(UUID reservationId) {
+    String sql = "SELECT stripe FROM wallet_reservations WHERE id = ?";
+    List<Integer> rows = jdbcTemplate.queryForList(sql, Integer.class, reservationId);
+    return rows.isEmpty() ? 0 : rows.getFirst();
+  }
+
+  @Override
+  public Optional<WalletBalanceStripe> lockStripeWithAvailable(
+      UUID accountId, String asset, BigDecimal amount) {
+    String sql =
+        """
+        SELECT stripe, available, reserved
+        FROM wallet_balance_stripes
+        WHERE account_id = ? AND asset = ? AND available >= ?
+        ORDER BY random()
+        LIMIT 1
+        FOR UPDATE SKIP LOCKED
+        """;
+    List<WalletBalanceStripe> rows =
+        jdbcTemplate.query(sql, this::mapStripe, accountId, asset, amount);
+    return rows.isEmpty() ? Optional.empty() : Optional.of(rows.getFirst());
+  }
+
+  @Override
+  public Optional<WalletBalanceStripe> findStripeForUpdate(
+      UUID accountId, String asset, int stripe) {
+    String sql =
+        """
+        SELECT stripe, available, reserved
+        FROM wallet_balance_stripes
+        WHERE account_id = ? AND asset = ? AND stripe = ?
+        FOR UPDATE
+        """;
+    List<WalletBalanceStripe> rows =
+        jdbcTemplate.query(sql, this::mapStripe, accountId, asset, stripe);
+    return rows.isEmpty() ? Optional.empty() : Optional.of(rows.getFirst());
+  }
+
+  @Override
+  public void updateStripe(
+      UUID accountId, String asset, int stripe, BigDecimal available, BigDecimal reserved) {
+    String sql =
+        """
+        UPDATE wallet_balance_stripes
+        SET available = ?, reserved = ?, updated_at = NOW()
+        WHERE account_id = ? AND asset = ? AND stripe = ?
+        """;
+    jdbcTemplate.update(sql, available, reserved, accountId, asset, stripe);
+  }
+
+  @Override
+  public BigDecimal drainStripes(UUID accountId, String asset) {
+    String sql =
+        """
+        WITH locked AS (
+            SELECT stripe, available
+            FROM wallet_balance_stripes
+            WHERE account_id = ? AND asset = ? AND available > 0
+            ORDER BY stripe
+            FOR UPDATE
+        ),
+        drained AS (
+            UPDATE wallet_balance_stripes s
+            SET available = 0, updated_at = NOW()
+            FROM locked
+            WHERE s.account_id = ? AND s.asset = ? AND s.stripe = locked.stripe
+            RETURNING locked.available
+        )
+        SELECT COALESCE(SUM(available), 0) FROM drained
+        """;
+    return jdbcTemplate.queryForObject(sql, BigDecimal.class, accountId, asset, accountId, asset);
+  }
+
+  private WalletBalanceStripe mapStripe(ResultSet rs, int rowNum) throws SQLException {
+    return new WalletBalanceStripe(
+        rs.getInt("stripe"), rs.getBigDecimal("available"), rs.getBigDecimal("reserved"));
+  }
+
   private WalletBalance mapBalance(ResultSet rs, int rowNum) throws SQLException {
     return new WalletBalance(
         rs.getObject("account_id", UUID.class),
@@ -0,0 +1,124 @@
+package com.tradingplatform.tradingapi.wallet;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class JdbcWalletStripeRepository implements WalletStripeRepository {
+  private static final int BALANCE_SCALE = 18;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public JdbcWalletStripeRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  public List<WalletKey> findStripedWallets() {
+    String sql =
+        """
+        SELECT DISTINCT account_id, asset
+        FROM wallet_balance_stripes
+        """;
+    return jdbcTemplate.query(
+        sql,
+        (rs, rowNum) ->
+            new WalletKey(rs.getObject("account_id", UUID.class), rs.getString("asset")));
+  }
+
+  @Override
+  @Transactional
+  public void rebalance(UUID accountId, String asset, int stripeCount) {
+    // Same lock order as reservations that fall back to the main row: main row first, then stripes.
+    List<BigDecimal> main =
+        jdbcTemplate.queryForList(
+            """
+            SELECT available
+            FROM wallet_balances
+            WHERE account_id = ? AND asset = ?
+            FOR UPDATE
+            """,
+            BigDecimal.class,
+            accountId,
+            asset);
+    if (main.isEmpty()) {
+      return;
+    }
+    if (stripeCount > 0) {
+      jdbcTemplate.update(
+          """
+          INSERT INTO wallet_balance_stripes (account_id, asset, stripe)
+          SELECT ?, ?, stripe
+          FROM generate_series(1, ?) AS stripe
+          ON CONFLICT (account_id, asset, stripe) DO NOTHING
+          """,
+          accountId,
+          asset,
+          stripeCount);
+    }
+    List<StripeRow> stripes =
+        jdbcTemplate.query(
+            """
+            SELECT stripe, available
+            FROM wallet_balance_stripes
+            WHERE account_id = ? AND asset = ?
+            ORDER BY stripe
+            FOR UPDATE
+            """,
+            (rs, rowNum) -> new StripeRow(rs.getInt("stripe"), rs.getBigDecimal("available")),
+            accountId,
+            asset);
+
+    BigDecimal total = main.getFirst();
+    for (StripeRow stripe : stripes) {
+      total = total.add(stripe.available());
+    }
+    BigDecimal share =
+        total.divide(BigDecimal.valueOf(stripeCount + 1L), BALANCE_SCALE, RoundingMode.DOWN);
+    BigDecimal mainShare = total.subtract(share.multiply(BigDecimal.valueOf(stripeCount)));
+
+    List<Object[]> updates = new ArrayList<>(stripes.size());
+    for (StripeRow stripe : stripes) {
+      BigDecimal target = stripe.stripe() <= stripeCount ? share : BigDecimal.ZERO;
+      if (stripe.available().compareTo(target) != 0) {
+        updates.add(new Object[] {target, accountId, asset, stripe.stripe()});
+      }
+    }
+    if (!updates.isEmpty()) {
+      jdbcTemplate.batchUpdate(
+          """
+          UPDATE wallet_balance_stripes
+          SET available = ?, updated_at = NOW()
+          WHERE account_id = ? AND asset = ? AND stripe = ?
+          """,
+          updates);
+    }
+    if (mainShare.compareTo(main.getFirst()) != 0) {
+      jdbcTemplate.update(
+          """
+          UPDATE wallet_balances
+          SET available = ?, updated_at = NOW()
+          WHERE account_id = ? AND asset = ?
+          """,
+          mainShare,
+          accountId,
+          asset);
+    }
+    jdbcTemplate.update(
+        """
+        DELETE FROM wallet_balance_stripes
+        WHERE account_id = ? AND asset = ? AND stripe > ? AND available = 0 AND reserved = 0
+        """,
+        accountId,
+        asset,
+        stripeCount);
+  }
+
+  private record StripeRow(int stripe, BigDecimal available) {}
+}
@@ -0,0 +1,432 @@
+package com.tradingplatform.tradingapi.wallet;
+
+import com.tradingplatform.domain.wallet.InsufficientBalanceException;
+import com.tradingplatform.domain.wallet.ReservationStatus;
+import com.tradingplatform.domain.wallet.WalletBalance;
+import com.tradingplatform.domain.wallet.WalletDomainException;
+import com.tradingplatform.domain.wallet.WalletReservation;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps wallet balances and active reservations in memory, partitioned by account into shards that
+ * each apply commands from a single thread. A shard drains whatever queued up, decides every
+ * command against its in-memory state and flushes the resulting journal entries to Postgres in one
+ * transaction before answering the callers, so a burst on one account costs one short write instead
+ * of one row lock per order.
+ *
+ * <p>Postgres stays the recovery snapshot: state is loaded lazily per account and asset, reloaded
+ * once older than {@code wallet.engine.max-staleness-ms} to pick up fills and funding written
+ * elsewhere, and evicted whenever a flush fails, finds a reservation already closed or closes one
+ * whose stored amount a fill has since lowered. A failed batch is retried one account per
+ * transaction, so only the callers of the failing account see the error.
+ */
+@Component
+@ConditionalOnProperty(prefix = "wallet.engine", name = "enabled", havingValue = "true")
+public class WalletBalanceEngine implements AutoCloseable {
+  private static final Logger log = LoggerFactory.getLogger(WalletBalanceEngine.class);
+  private static final long IDLE_POLL_MS = 100L;
+
+  private final WalletRepository walletRepository;
+  private final WalletJournalRepository journalRepository;
+  private final long maxStalenessNanos;
+  private final long requestTimeoutMs;
+  private final int maxBatchSize;
+  private final Shard[] shards;
+  private final ConcurrentHashMap<UUID, UUID> accountByOrderId = new ConcurrentHashMap<>();
+
+  public WalletBalanceEngine(
+      WalletRepository walletRepository,
+      WalletJournalRepository journalRepository,
+      WalletEngineProperties properties) {
+    if (properties.getShards() < 1) {
+      throw new IllegalArgumentException("wallet.engine.shards must be >= 1");
+    }
+    if (properties.getMaxBatchSize() < 1) {
+      throw new IllegalArgumentException("wallet.engine.max-batch-size must be >= 1");
+    }
+    this.walletRepository = walletRepository;
+    this.journalRepository = journalRepository;
+    this.maxStalenessNanos = TimeUnit.MILLISECONDS.toNanos(properties.getMaxStalenessMs());
+    this.requestTimeoutMs = properties.getRequestTimeoutMs();
+    this.maxBatchSize = properties.getMaxBatchSize();
+    this.shards = new Shard[properties.getShards()];
+    for (int i = 0; i < shards.length; i++) {
+      shards[i] = new Shard(i);
+    }
+  }
+
+  public WalletReservation reserve(UUID accountId, String asset, BigDecimal amount, UUID orderId) {
+    return await(
+        shardFor(accountId).submit(shard -> shard.reserve(accountId, asset, amount, orderId)));
+  }
+
+  public void release(UUID orderId) {
+    close(orderId, WalletJournalEntry.Type.RELEASE);
+  }
+
+  public void consume(UUID orderId) {
+    close(orderId, WalletJournalEntry.Type.CONSUME);
+  }
+
+  @Override
+  @PreDestroy
+  public void close() {
+    for (Shard shard : shards) {
+      shard.stop();
+    }
+  }
+
+  private void close(UUID orderId, WalletJournalEntry.Type type) {
+    UUID accountId = accountByOrderId.get(orderId);
+    WalletReservation persisted = null;
+    if (accountId == null) {
+      // Reserved before this instance loaded the account; route by the stored row.
+      persisted = walletRepository.findActiveReservationByOrderId(orderId).orElse(null);
+      if (persisted == null) {
+        return;
+      }
+      accountId = persisted.accountId();
+    }
+    WalletReservation hint = persisted;
+    await(shardFor(accountId).submit(shard -> shard.close(orderId, hint, type)));
+  }
+
+  private Shard shardFor(UUID accountId) {
+    return shards[Math.floorMod(accountId.hashCode(), shards.length)];
+  }
+
+  private <T> T await(CompletableFuture<T> future) {
+    try {
+      return future.get(requestTimeoutMs, TimeUnit.MILLISECONDS);
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException runtime) {
+        throw runtime;
+      }
+      throw new IllegalStateException("Wallet engine command failed", ex.getCause());
+    } catch (TimeoutException ex) {
+      throw new WalletDomainException(
+          "Wallet engine did not respond within " + requestTimeoutMs + "ms");
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new WalletDomainException("Interrupted while waiting for wallet engine");
+    }
+  }
+
+  private static BalanceKey keyOf(WalletReservation reservation) {
+    return new BalanceKey(reservation.accountId(), reservation.asset());
+  }
+
+  private record BalanceKey(UUID accountId, String asset) {}
+
+  private static final class Slot {
+    private BigDecimal available;
+    private BigDecimal reserved;
+    private final long loadedAtNanos;
+    private final Map<UUID, WalletReservation> reservationsByOrderId = new HashMap<>();
+
+    private Slot(BigDecimal available, BigDecimal reserved, long loadedAtNanos) {
+      this.available = available;
+      this.reserved = reserved;
+      this.loadedAtNanos = loadedAtNanos;
+    }
+  }
+
+  private static final class Command {
+    private final Function<Shard, Object> action;
+    private final CompletableFuture<Object> future = new CompletableFuture<>();
+    private Object result;
+    private UUID journaledAccountId;
+
+    private Command(Function<Shard, Object> action) {
+      this.action = action;
+    }
+  }
+
+  private final class Shard {
+    private final LinkedBlockingQueue<Command> queue = new LinkedBlockingQueue<>();
+    private final ExecutorService executor;
+    private final Map<BalanceKey, Slot> slots = new HashMap<>();
+    private final Map<UUID, BalanceKey> keyByOrderId = new HashMap<>();
+    private final List<WalletJournalEntry> entries = new ArrayList<>();
+    private final Set<BalanceKey> dirty = new HashSet<>();
+    private Command current;
+    private volatile boolean running = true;
+
+    private Shard(int index) {
+      this.executor =
+          Executors.newSingleThreadExecutor(
+              runnable -> {
+                Thread thread = new Thread(runnable, "wallet-engine-" + index);
+                thread.setDaemon(true);
+                return thread;
+              });
+      executor.execute(this::run);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> submit(Function<Shard, T> action) {
+      Command command = new Command((Function<Shard, Object>) action);
+      if (!running) {
+        command.future.completeExceptionally(new IllegalStateException("Wallet engine is stopped"));
+      } else {
+        queue.add(command);
+      }
+      return (CompletableFuture<T>) command.future;
+    }
+
+    private void stop() {
+      running = false;
+      executor.shutdown();
+      try {
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+          executor.shutdownNow();
+        }
+      } catch (InterruptedException ex) {
+        executor.shutdownNow();
+        Thread.currentThread().interrupt();
+      }
+      Command pending;
+      while ((pending = queue.poll()) != null) {
+        pending.future.completeExceptionally(new IllegalStateException("Wallet engine stopped"));
+      }
+    }
+
+    private void run() {
+      List<Command> batch = new ArrayList<>(maxBatchSize);
+      while (running) {
+        try {
+          Command first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+          if (first == null) {
+            continue;
+          }
+          batch.add(first);
+          queue.drainTo(batch, maxBatchSize - 1);
+          process(batch);
+        } catch (InterruptedException ex) {
+          Thread.currentThread().interrupt();
+          return;
+        } finally {
+          batch.clear();
+        }
+      }
+    }
+
+    private void process(List<Command> batch) {
+      List<Command> applied = new ArrayList<>(batch.size());
+      for (Command command : batch) {
+        current = command;
+        try {
+          command.result = command.action.apply(this);
+          applied.add(command);
+        } catch (RuntimeException ex) {
+          command.future.completeExceptionally(ex);
+        } finally {
+          current = null;
+        }
+      }
+      Map<UUID, RuntimeException> failures;
+      try {
+        failures = flush();
+      } finally {
+        entries.clear();
+        dirty.clear();
+      }
+      for (Command command : applied) {
+        RuntimeException failure =
+            command.journaledAccountId == null ? null : failures.get(command.journaledAccountId);
+        if (failure == null) {
+          command.future.complete(command.result);
+        } else {
+          command.future.completeExceptionally(failure);
+        }
+      }
+    }
+
+    // Returns the failure per account whose entries could not be written.
+    private Map<UUID, RuntimeException> flush() {
+      if (entries.isEmpty()) {
+        return Map.of();
+      }
+      try {
+        append(entries);
+        return Map.of();
+      } catch (RuntimeException ex) {
+        log.warn(
+            "Wallet journal flush failed entries={} error={}", entries.size(), ex.getMessage());
+        Map<UUID, List<WalletJournalEntry>> byAccount = new LinkedHashMap<>();
+        for (WalletJournalEntry entry : entries) {
+          byAccount
+              .computeIfAbsent(entry.reservation().accountId(), ignored -> new ArrayList<>())
+              .add(entry);
+        }
+        Map<UUID, RuntimeException> failures = new HashMap<>();
+        if (byAccount.size() == 1) {
+          failures.put(byAccount.keySet().iterator().next(), ex);
+        } else {
+          byAccount.forEach(
+              (accountId, accountEntries) -> {
+                try {
+                  append(accountEntries);
+                } catch (RuntimeException accountEx) {
+                  log.warn(
+                      "Wallet journal flush failed accountId={} entries={} error={}",
+                      accountId,
+                      accountEntries.size(),
+                      accountEx.getMessage());
+                  failures.put(accountId, accountEx);
+                }
+              });
+        }
+        dirty.stream()
+            .filter(key -> failures.containsKey(key.accountId()))
+            .toList()
+            .forEach(this::evict);
+        return failures;
+      }
+    }
+
+    private void append(List<WalletJournalEntry> pending) {
+      WalletJournalRepository.AppendResult result = journalRepository.append(List.copyOf(pending));
+      for (WalletJournalEntry entry : pending) {
+        UUID reservationId = entry.reservation().id();
+        BigDecimal closedAmount = result.closedAmounts().get(reservationId);
+        // A closed amount that differs from the cached one means a fill settled part of the
+        // reservation since the slot was loaded, so the slot is reloaded rather than corrected.
+        if (result.skipped().contains(reservationId)
+            || (closedAmount != null
+                && closedAmount.compareTo(entry.reservation().amount()) != 0)) {
+          evict(keyOf(entry.reservation()));
+        }
+      }
+    }
+
+    private WalletReservation reserve(
+        UUID accountId, String asset, BigDecimal amount, UUID orderId) {
+      WalletReservation reservation =
+          new WalletReservation(
+              UUID.randomUUID(),
+              accountId,
+              asset,
+              amount,
+              orderId,
+              ReservationStatus.ACTIVE,
+              Instant.now(),
+              null);
+      BalanceKey key = new BalanceKey(accountId, asset);
+      Slot slot = slot(key);
+      if (slot == null) {
+        throw new WalletDomainException(
+            "No wallet balance found for account " + accountId + " asset " + asset);
+      }
+      if (slot.available.compareTo(amount) < 0) {
+        throw new InsufficientBalanceException(accountId, asset, amount, slot.available);
+      }
+      slot.available = slot.available.subtract(amount);
+      slot.reserved = slot.reserved.add(amount);
+      slot.reservationsByOrderId.put(orderId, reservation);
+      keyByOrderId.put(orderId, key);
+      accountByOrderId.put(orderId, accountId);
+      journal(key, new WalletJournalEntry(WalletJournalEntry.Type.RESERVE, reservation));
+      return reservation;
+    }
+
+    private Void close(UUID orderId, WalletReservation persisted, WalletJournalEntry.Type type) {
+      BalanceKey key = keyByOrderId.get(orderId);
+      if (key == null && persisted != null) {
+        key = keyOf(persisted);
+      }
+      if (key == null) {
+        return null;
+      }
+      Slot slot = slot(key);
+      if (slot != null
+          && persisted != null
+          && !slot.reservationsByOrderId.containsKey(orderId)
+          && !dirty.contains(key)) {
+        slot = load(key);
+      }
+      WalletReservation reservation =
+          slot == null ? null : slot.reservationsByOrderId.remove(orderId);
+      keyByOrderId.remove(orderId);
+      accountByOrderId.remove(orderId);
+      if (reservation == null) {
+        return null;
+      }
+      if (type == WalletJournalEntry.Type.RELEASE) {
+        slot.available = slot.available.add(reservation.amount());
+      }
+      slot.reserved = slot.reserved.subtract(reservation.amount());
+      journal(key, new WalletJournalEntry(type, reservation));
+      return null;
+    }
+
+    private void journal(BalanceKey key, WalletJournalEntry entry) {
+      entries.add(entry);
+      dirty.add(key);
+      if (current != null) {
+        current.journaledAccountId = key.accountId();
+      }
+    }
+
+    private Slot slot(BalanceKey key) {
+      Slot slot = slots.get(key);
+      if (slot != null
+          && (dirty.contains(key) || System.nanoTime() - slot.loadedAtNanos < maxStalenessNanos)) {
+        return slot;
+      }
+      return load(key);
+    }
+
+    private Slot load(BalanceKey key) {
+      evict(key);
+      WalletBalance balance =
+          journalRepository.findBalance(key.accountId(), key.asset()).orElse(null);
+      if (balance == null) {
+        return null;
+      }
+      Slot slot = new Slot(balance.available(), balance.reserved(), System.nanoTime());
+      for (WalletReservation reservation :
+          journalRepository.findActiveReservations(key.accountId(), key.asset())) {
+        slot.reservationsByOrderId.put(reservation.orderId(), reservation);
+        keyByOrderId.put(reservation.orderId(), key);
+        accountByOrderId.put(reservation.orderId(), key.accountId());
+      }
+      slots.put(key, slot);
+      return slot;
+    }
+
+    private void evict(BalanceKey key) {
+      Slot slot = slots.remove(key);
+      if (slot == null) {
+        return;
+      }
+      for (UUID orderId : slot.reservationsByOrderId.keySet()) {
+        keyByOrderId.remove(orderId);
+        accountByOrderId.remove(orderId);
+      }
+    }
+  }
+}
@@ -0,0 +1,6 @@
+package com.tradingplatform.tradingapi.wallet;
+
+import java.math.BigDecimal;
+
+/** One sub-row of a striped wallet; stripe {@code 0} is the {@code wallet_balances} row itself. */
+public record WalletBalanceStripe(int stripe, BigDecimal available, BigDecimal reserved) {}
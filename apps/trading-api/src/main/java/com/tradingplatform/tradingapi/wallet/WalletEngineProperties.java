@@ -0,0 +1,72 @@
+package com.tradingplatform.tradingapi.wallet;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "wallet.engine")
+public class WalletEngineProperties {
+  private boolean enabled = false;
+  private int shards = 8;
+  private int maxBatchSize = 256;
+  private long maxStalenessMs = 1_000L;
+  private long requestTimeoutMs = 5_000L;
+  private long orphanGraceMs = 60_000L;
+  private int orphanBatchSize = 500;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getShards() {
+    return shards;
+  }
+
+  public void setShards(int shards) {
+    this.shards = shards;
+  }
+
+  public int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  public void setMaxBatchSize(int maxBatchSize) {
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  public long getMaxStalenessMs() {
+    return maxStalenessMs;
+  }
+
+  public void setMaxStalenessMs(long maxStalenessMs) {
+    this.maxStalenessMs = maxStalenessMs;
+  }
+
+  public long getRequestTimeoutMs() {
+    return requestTimeoutMs;
+  }
+
+  public void setRequestTimeoutMs(long requestTimeoutMs) {
+    this.requestTimeoutMs = requestTimeoutMs;
+  }
+
+  public long getOrphanGraceMs() {
+    return orphanGraceMs;
+  }
+
+  public void setOrphanGraceMs(long orphanGraceMs) {
+    this.orphanGraceMs = orphanGraceMs;
+  }
+
+  public int getOrphanBatchSize() {
+    return orphanBatchSize;
+  }
+
+  public void setOrphanBatchSize(int orphanBatchSize) {
+    this.orphanBatchSize = orphanBatchSize;
+  }
+}
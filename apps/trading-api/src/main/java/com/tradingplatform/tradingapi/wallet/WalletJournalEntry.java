@@ -0,0 +1,42 @@
+package com.tradingplatform.tradingapi.wallet;
+
+import com.tradingplatform.domain.wallet.ReservationStatus;
+import com.tradingplatform.domain.wallet.WalletReservation;
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/** One reservation state change decided by {@link WalletBalanceEngine}, waiting to be flushed. */
+public record WalletJournalEntry(Type type, WalletReservation reservation) {
+  public enum Type {
+    RESERVE(ReservationStatus.ACTIVE),
+    RELEASE(ReservationStatus.CANCELLED),
+    CONSUME(ReservationStatus.CONSUMED);
+
+    private final ReservationStatus resultingStatus;
+
+    Type(ReservationStatus resultingStatus) {
+      this.resultingStatus = resultingStatus;
+    }
+
+    public ReservationStatus resultingStatus() {
+      return resultingStatus;
+    }
+  }
+
+  public WalletJournalEntry {
+    Objects.requireNonNull(type, "type must not be null");
+    Objects.requireNonNull(reservation, "reservation must not be null");
+  }
+
+  public BigDecimal availableDelta() {
+    return switch (type) {
+      case RESERVE -> reservation.amount().negate();
+      case RELEASE -> reservation.amount();
+      case CONSUME -> BigDecimal.ZERO;
+    };
+  }
+
+  public BigDecimal reservedDelta() {
+    return type == Type.RESERVE ? reservation.amount() : reservation.amount().negate();
+  }
+}
@@ -0,0 +1,42 @@
+package com.tradingplatform.tradingapi.wallet;
+
+import com.tradingplatform.domain.wallet.WalletBalance;
+import com.tradingplatform.domain.wallet.WalletReservation;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+public interface WalletJournalRepository {
+  Optional<WalletBalance> findBalance(UUID accountId, String asset);
+
+  List<WalletReservation> findActiveReservations(UUID accountId, String asset);
+
+  /**
+   * Order ids of active reservations older than {@code olderThanMs} whose order was never
+   * committed, e.g. because the instance crashed between the flush and the caller's commit, or
+   * ended without filling while its after-commit release failed.
+   */
+  List<UUID> findOrphanedReservations(long olderThanMs, int limit);
+
+  /**
+   * Persists the entries in one transaction, applying balance changes as deltas so writers outside
+   * the engine are never overwritten. Releases and consumes settle the amount stored on the
+   * reservation row, which fills may have lowered since the engine loaded it.
+   */
+  AppendResult append(List<WalletJournalEntry> entries);
+
+  /**
+   * @param skipped ids of reservations that were already closed in the database; their release or
+   *     consume was skipped
+   * @param closedAmounts amount each closed reservation held in the database when it was closed
+   */
+  record AppendResult(Set<UUID> skipped, Map<UUID, BigDecimal> closedAmounts) {
+    public AppendResult {
+      skipped = Set.copyOf(skipped);
+      closedAmounts = Map.copyOf(closedAmounts);
+    }
+  }
+}
@@ -12,13 +12,36 @@ public interface WalletRepository {
 
   Optional<WalletBalance> findBalanceForUpdate(UUID accountId, String asset);
 
+  Optional<WalletBalance> findConsolidatedBalance(UUID accountId, String asset);
+
   void insertBalance(UUID accountId, String asset, BigDecimal available, BigDecimal reserved);
 
   void updateBalance(UUID accountId, String asset, BigDecimal available, BigDecimal reserved);
 
   void insertReservation(WalletReservation reservation);
 
+  void insertReservation(WalletReservation reservation, int stripe);
+
   Optional<WalletReservation> findActiveReservationByOrderId(UUID orderId);
 
   void updateReservationStatus(UUID reservationId, ReservationStatus status);
+
+  int findReservationStripe(UUID reservationId);
+
+  /**
+   * Locks a stripe (never stripe 0) that can cover {@code amount}, skipping stripes held by others.
+   */
+  Optional<WalletBalanceStripe> lockStripeWithAvailable(
+      UUID accountId, String asset, BigDecimal amount);
+
+  Optional<WalletBalanceStripe> findStripeForUpdate(UUID accountId, String asset, int stripe);
+
+  void updateStripe(
+      UUID accountId, String asset, int stripe, BigDecimal available, BigDecimal reserved);
+
+  /**
+   * Zeroes the available amount of every stripe above 0 and returns the sum, which the caller must
+   * add back to the locked {@code wallet_balances} row.
+   */
+  BigDecimal drainStripes(UUID accountId, String asset);
 }
@@ -0,0 +1,61 @@
+package com.tradingplatform.tradingapi.wallet;
+
+import java.util.List;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Releases engine reservations whose order never committed or was canceled, rejected or expired
+ * while the reservation stayed active. The engine makes a reservation durable before the caller's
+ * transaction commits and releases it only after the order's own commit, so a crash or a failed
+ * flush in between leaves it behind.
+ */
+@Component
+@ConditionalOnProperty(prefix = "wallet.engine", name = "enabled", havingValue = "true")
+public class WalletReservationReaper {
+  private static final Logger log = LoggerFactory.getLogger(WalletReservationReaper.class);
+
+  private final WalletJournalRepository journalRepository;
+  private final WalletBalanceEngine balanceEngine;
+  private final WalletEngineProperties properties;
+
+  public WalletReservationReaper(
+      WalletJournalRepository journalRepository,
+      WalletBalanceEngine balanceEngine,
+      WalletEngineProperties properties) {
+    if (properties.getOrphanGraceMs() < properties.getRequestTimeoutMs()) {
+      throw new IllegalArgumentException(
+          "wallet.engine.orphan-grace-ms must be >= wallet.engine.request-timeout-ms");
+    }
+    this.journalRepository = journalRepository;
+    this.balanceEngine = balanceEngine;
+    this.properties = properties;
+  }
+
+  @Scheduled(fixedDelayString = "${wallet.engine.orphan-reap-interval-ms:60000}")
+  public int reap() {
+    List<UUID> orderIds =
+        journalRepository.findOrphanedReservations(
+            properties.getOrphanGraceMs(), properties.getOrphanBatchSize());
+    int released = 0;
+    for (UUID orderId : orderIds) {
+      try {
+        balanceEngine.release(orderId);
+        released++;
+      } catch (RuntimeException ex) {
+        log.warn(
+            "Orphaned wallet reservation release failed order_id={} error={}",
+            orderId,
+            ex.getMessage());
+      }
+    }
+    if (released > 0) {
+      log.info("Released orphaned wallet reservations count={}", released);
+    }
+    return released;
+  }
+}
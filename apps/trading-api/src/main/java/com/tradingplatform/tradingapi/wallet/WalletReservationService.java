@@ -9,19 +9,70 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 public class WalletReservationService {
+  private static final Logger log = LoggerFactory.getLogger(WalletReservationService.class);
+
   private final WalletRepository walletRepository;
+  private final WalletBalanceEngine balanceEngine;
+
+  @Autowired
+  public WalletReservationService(
+      WalletRepository walletRepository, ObjectProvider<WalletBalanceEngine> balanceEngine) {
+    this.walletRepository = walletRepository;
+    this.balanceEngine = balanceEngine.getIfAvailable();
+  }
 
   public WalletReservationService(WalletRepository walletRepository) {
     this.walletRepository = walletRepository;
+    this.balanceEngine = null;
   }
 
+  /**
+   * With the in-memory engine enabled the reservation is durable before the caller's transaction
+   * commits, so it is released again if that transaction rolls back.
+   */
   @Transactional
   public WalletReservation reserve(UUID accountId, String asset, BigDecimal amount, UUID orderId) {
+    if (balanceEngine != null) {
+      WalletReservation reservation = balanceEngine.reserve(accountId, asset, amount, orderId);
+      afterCompletion(false, () -> balanceEngine.release(orderId));
+      return reservation;
+    }
+    WalletReservation reservation =
+        new WalletReservation(
+            UUID.randomUUID(),
+            accountId,
+            asset,
+            amount,
+            orderId,
+            ReservationStatus.ACTIVE,
+            Instant.now(),
+            null);
+
+    Optional<WalletBalanceStripe> stripe =
+        walletRepository.lockStripeWithAvailable(accountId, asset, amount);
+    if (stripe.isPresent()) {
+      WalletBalanceStripe locked = stripe.get();
+      walletRepository.updateStripe(
+          accountId,
+          asset,
+          locked.stripe(),
+          locked.available().subtract(amount),
+          locked.reserved().add(amount));
+      walletRepository.insertReservation(reservation, locked.stripe());
+      return reservation;
+    }
+
     WalletBalance balance =
         walletRepository
             .findBalanceForUpdate(accountId, asset)
@@ -30,30 +81,28 @@ public class WalletReservationService {
                     new WalletDomainException(
                         "No wallet balance found for account " + accountId + " asset " + asset));
 
-    if (balance.available().compareTo(amount) < 0) {
-      throw new InsufficientBalanceException(accountId, asset, amount, balance.available());
+    BigDecimal available = balance.available();
+    if (available.compareTo(amount) < 0) {
+      // Stripes too small to cover the order on their own still count towards the balance.
+      available = available.add(walletRepository.drainStripes(accountId, asset));
+    }
+    if (available.compareTo(amount) < 0) {
+      throw new InsufficientBalanceException(accountId, asset, amount, available);
     }
 
-    BigDecimal newAvailable = balance.available().subtract(amount);
+    BigDecimal newAvailable = available.subtract(amount);
     BigDecimal newReserved = balance.reserved().add(amount);
     walletRepository.updateBalance(accountId, asset, newAvailable, newReserved);
-
-    WalletReservation reservation =
-        new WalletReservation(
-            UUID.randomUUID(),
-            accountId,
-            asset,
-            amount,
-            orderId,
-            ReservationStatus.ACTIVE,
-            Instant.now(),
-            null);
     walletRepository.insertReservation(reservation);
     return reservation;
   }
 
   @Transactional
   public void release(UUID orderId) {
+    if (balanceEngine != null) {
+      afterCompletion(true, () -> balanceEngine.release(orderId));
+      return;
+    }
     Optional<WalletReservation> maybeReservation =
         walletRepository.findActiveReservationByOrderId(orderId);
     if (maybeReservation.isEmpty()) {
@@ -61,20 +110,16 @@ public class WalletReservationService {
     }
     WalletReservation reservation = maybeReservation.get();
 
-    WalletBalance balance =
-        walletRepository
-            .findBalanceForUpdate(reservation.accountId(), reservation.asset())
-            .orElseThrow(() -> new WalletDomainException("Balance row not found"));
-
-    BigDecimal newAvailable = balance.available().add(reservation.amount());
-    BigDecimal newReserved = balance.reserved().subtract(reservation.amount());
-    walletRepository.updateBalance(
-        reservation.accountId(), reservation.asset(), newAvailable, newReserved);
+    applyToReservationStripe(reservation, reservation.amount(), reservation.amount().negate());
     walletRepository.updateReservationStatus(reservation.id(), ReservationStatus.CANCELLED);
   }
 
   @Transactional
   public void consume(UUID orderId) {
+    if (balanceEngine != null) {
+      afterCompletion(true, () -> balanceEngine.consume(orderId));
+      return;
+    }
     Optional<WalletReservation> maybeReservation =
         walletRepository.findActiveReservationByOrderId(orderId);
     if (maybeReservation.isEmpty()) {
@@ -82,14 +127,59 @@ public class WalletReservationService {
     }
     WalletReservation reservation = maybeReservation.get();
 
-    WalletBalance balance =
+    applyToReservationStripe(reservation, BigDecimal.ZERO, reservation.amount().negate());
+    walletRepository.updateReservationStatus(reservation.id(), ReservationStatus.CONSUMED);
+  }
+
+  private void applyToReservationStripe(
+      WalletReservation reservation, BigDecimal availableDelta, BigDecimal reservedDelta) {
+    UUID accountId = reservation.accountId();
+    String asset = reservation.asset();
+    int stripe = walletRepository.findReservationStripe(reservation.id());
+    if (stripe == 0) {
+      WalletBalance balance =
+          walletRepository
+              .findBalanceForUpdate(accountId, asset)
+              .orElseThrow(() -> new WalletDomainException("Balance row not found"));
+      walletRepository.updateBalance(
+          accountId,
+          asset,
+          balance.available().add(availableDelta),
+          balance.reserved().add(reservedDelta));
+      return;
+    }
+    WalletBalanceStripe balance =
         walletRepository
-            .findBalanceForUpdate(reservation.accountId(), reservation.asset())
-            .orElseThrow(() -> new WalletDomainException("Balance row not found"));
+            .findStripeForUpdate(accountId, asset, stripe)
+            .orElseThrow(() -> new WalletDomainException("Balance stripe not found: " + stripe));
+    walletRepository.updateStripe(
+        accountId,
+        asset,
+        stripe,
+        balance.available().add(availableDelta),
+        balance.reserved().add(reservedDelta));
+  }
 
-    BigDecimal newReserved = balance.reserved().subtract(reservation.amount());
-    walletRepository.updateBalance(
-        reservation.accountId(), reservation.asset(), balance.available(), newReserved);
-    walletRepository.updateReservationStatus(reservation.id(), ReservationStatus.CONSUMED);
+  private static void afterCompletion(boolean onCommit, Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      if (onCommit) {
+        action.run();
+      }
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCompletion(int status) {
+            if ((status == STATUS_COMMITTED) != onCommit) {
+              return;
+            }
+            try {
+              action.run();
+            } catch (RuntimeException ex) {
+              log.error("Wallet engine follow-up failed after transaction completion", ex);
+            }
+          }
+        });
   }
 }
@@ -0,0 +1,83 @@
+package com.tradingplatform.tradingapi.wallet;
+
+import com.tradingplatform.tradingapi.wallet.WalletStripeRepository.WalletKey;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps configured hot wallets split into stripes so concurrent reservations lock different rows,
+ * and folds wallets that are no longer configured back into their {@code wallet_balances} row.
+ */
+@Component
+@ConditionalOnProperty(prefix = "wallet.stripes", name = "enabled", havingValue = "true")
+public class WalletStripeCompactor {
+  private static final Logger log = LoggerFactory.getLogger(WalletStripeCompactor.class);
+
+  private final WalletStripeRepository stripeRepository;
+  private final int stripeCount;
+  private final Set<WalletKey> hotWallets;
+
+  public WalletStripeCompactor(
+      WalletStripeRepository stripeRepository,
+      WalletStripeProperties properties,
+      WalletEngineProperties engineProperties) {
+    if (engineProperties.isEnabled()) {
+      throw new IllegalArgumentException(
+          "wallet.stripes and wallet.engine cannot be enabled together");
+    }
+    if (properties.getStripeCount() < 1) {
+      throw new IllegalArgumentException("wallet.stripes.stripe-count must be >= 1");
+    }
+    this.stripeRepository = stripeRepository;
+    this.stripeCount = properties.getStripeCount();
+    this.hotWallets = parseWallets(properties);
+  }
+
+  @Scheduled(fixedDelayString = "${wallet.stripes.compact-interval-ms:5000}")
+  public void compact() {
+    for (WalletKey wallet : hotWallets) {
+      rebalance(wallet, stripeCount);
+    }
+    for (WalletKey wallet : stripeRepository.findStripedWallets()) {
+      if (!hotWallets.contains(wallet)) {
+        rebalance(wallet, 0);
+      }
+    }
+  }
+
+  private void rebalance(WalletKey wallet, int stripes) {
+    try {
+      stripeRepository.rebalance(wallet.accountId(), wallet.asset(), stripes);
+    } catch (RuntimeException ex) {
+      log.warn(
+          "Wallet stripe rebalance failed account_id={} asset={} stripes={} error={}",
+          wallet.accountId(),
+          wallet.asset(),
+          stripes,
+          ex.getMessage());
+    }
+  }
+
+  private static Set<WalletKey> parseWallets(WalletStripeProperties properties) {
+    Set<WalletKey> wallets = new LinkedHashSet<>();
+    for (String value : properties.getHotWallets()) {
+      int separator = value == null ? -1 : value.indexOf(':');
+      if (separator <= 0 || separator == value.length() - 1) {
+        throw new IllegalArgumentException(
+            "wallet.stripes.hot-wallets entries must be <accountId>:<asset>, got " + value);
+      }
+      wallets.add(
+          new WalletKey(
+              UUID.fromString(value.substring(0, separator).trim()),
+              value.substring(separator + 1).trim().toUpperCase(Locale.ROOT)));
+    }
+    return wallets;
+  }
+}
@@ -0,0 +1,49 @@
+package com.tradingplatform.tradingapi.wallet;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "wallet.stripes")
+public class WalletStripeProperties {
+  private boolean enabled = false;
+  private int stripeCount = 4;
+  private long compactIntervalMs = 5_000L;
+
+  /** Wallets to stripe, as {@code <accountId>:<asset>}. */
+  private List<String> hotWallets = new ArrayList<>();
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getStripeCount() {
+    return stripeCount;
+  }
+
+  public void setStripeCount(int stripeCount) {
+    this.stripeCount = stripeCount;
+  }
+
+  public long getCompactIntervalMs() {
+    return compactIntervalMs;
+  }
+
+  public void setCompactIntervalMs(long compactIntervalMs) {
+    this.compactIntervalMs = compactIntervalMs;
+  }
+
+  public List<String> getHotWallets() {
+    return hotWallets;
+  }
+
+  public void setHotWallets(List<String> hotWallets) {
+    this.hotWallets = hotWallets;
+  }
+}
@@ -0,0 +1,17 @@
+package com.tradingplatform.tradingapi.wallet;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface WalletStripeRepository {
+  List<WalletKey> findStripedWallets();
+
+  /**
+   * Spreads the wallet's total available balance evenly over the {@code wallet_balances} row and
+   * {@code stripeCount} stripes. A count of {@code 0} folds everything back into the main row and
+   * deletes stripes that no longer hold reserved funds.
+   */
+  void rebalance(UUID accountId, String asset, int stripeCount);
+
+  record WalletKey(UUID accountId, String asset) {}
+}
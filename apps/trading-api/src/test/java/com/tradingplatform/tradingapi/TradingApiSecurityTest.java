@@ -1,5 +1,7 @@
 package com.tradingplatform.tradingapi;
 
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -29,9 +31,11 @@ import com.tradingplatform.tradingapi.instruments.InstrumentConfigView;
 import com.tradingplatform.tradingapi.ledger.AdminFundingService;
 import com.tradingplatform.tradingapi.orders.OrderApplicationService;
 import com.tradingplatform.tradingapi.orders.OrderCreateUseCase;
+import com.tradingplatform.tradingapi.pagination.SeekCursor;
 import com.tradingplatform.tradingapi.portfolio.PortfolioQueryService;
 import com.tradingplatform.tradingapi.risk.AccountLimitConfig;
 import com.tradingplatform.tradingapi.risk.AccountLimitService;
+import com.tradingplatform.tradingapi.risk.ExposureLimits;
 import com.tradingplatform.tradingapi.risk.TradingControlService;
 import com.tradingplatform.tradingapi.risk.TradingControlState;
 import com.tradingplatform.tradingapi.wallet.WalletReservationService;
@@ -146,12 +150,14 @@ class TradingApiSecurityTest {
             org.mockito.ArgumentMatchers.eq(accountId),
             org.mockito.ArgumentMatchers.eq(new BigDecimal("25000")),
             org.mockito.ArgumentMatchers.eq(1200),
+            org.mockito.ArgumentMatchers.eq(new ExposureLimits(50, null, null, null)),
             org.mockito.ArgumentMatchers.anyString()))
         .thenReturn(
             new AccountLimitConfig(
                 accountId,
                 new BigDecimal("25000"),
                 1200,
+                new ExposureLimits(50, null, null, null),
                 "admin-user",
                 Instant.parse("2026-02-24T12:00:00Z")));
 
@@ -164,7 +170,8 @@ class TradingApiSecurityTest {
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.accountId").value(accountId.toString()))
         .andExpect(jsonPath("$.maxOrderNotional").value(25000))
-        .andExpect(jsonPath("$.priceBandBps").value(1200));
+        .andExpect(jsonPath("$.priceBandBps").value(1200))
+        .andExpect(jsonPath("$.maxOpenOrders").value(50));
   }
 
   @Test
@@ -583,6 +590,49 @@ class TradingApiSecurityTest {
         .andExpect(jsonPath("$.totalElements").value(0));
   }
 
+  @Test
+  void listOrdersWithCursorShouldSkipCount() throws Exception {
+    UUID accountId = UUID.fromString("11111111-1111-1111-1111-111111111111");
+    SeekCursor cursor =
+        new SeekCursor(
+            Instant.parse("2026-02-25T12:00:00Z"),
+            UUID.fromString("44444444-4444-4444-4444-444444444444"));
+    when(orderApplicationService.findByAccountIdAfter(
+            org.mockito.ArgumentMatchers.eq(accountId),
+            org.mockito.ArgumentMatchers.isNull(),
+            org.mockito.ArgumentMatchers.isNull(),
+            org.mockito.ArgumentMatchers.eq(cursor),
+            org.mockito.ArgumentMatchers.eq(20)))
+        .thenReturn(Collections.emptyList());
+
+    mockMvc
+        .perform(
+            get("/v1/orders")
+                .param("accountId", accountId.toString())
+                .param("cursor", cursor.encode())
+                .with(traderJwt()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.orders").isArray())
+        .andExpect(jsonPath("$.totalElements").doesNotExist())
+        .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    verify(orderApplicationService, never())
+        .countByAccountId(
+            org.mockito.ArgumentMatchers.any(),
+            org.mockito.ArgumentMatchers.any(),
+            org.mockito.ArgumentMatchers.any());
+  }
+
+  @Test
+  void listOrdersShouldRejectMalformedCursor() throws Exception {
+    mockMvc
+        .perform(
+            get("/v1/orders")
+                .param("accountId", UUID.randomUUID().toString())
+                .param("cursor", "garbage")
+                .with(traderJwt()))
+        .andExpect(status().isBadRequest());
+  }
+
   @Test
   void executionsShouldReturnUnauthorizedWithoutToken() throws Exception {
     mockMvc
@@ -602,7 +652,9 @@ class TradingApiSecurityTest {
                 org.mockito.ArgumentMatchers.isNull(),
                 org.mockito.ArgumentMatchers.isNull(),
                 org.mockito.ArgumentMatchers.eq(0),
-                org.mockito.ArgumentMatchers.eq(20)))
+                org.mockito.ArgumentMatchers.eq(20),
+                org.mockito.ArgumentMatchers.isNull(),
+                org.mockito.ArgumentMatchers.eq(true)))
         .thenReturn(
             new ExecutionQueryService.ExecutionPage(
                 List.of(
@@ -742,7 +794,8 @@ class TradingApiSecurityTest {
     return """
         {
           "maxOrderNotional":25000,
-          "priceBandBps":1200
+          "priceBandBps":1200,
+          "maxOpenOrders":50
         }
         """;
   }
@@ -0,0 +1,178 @@
+package com.tradingplatform.tradingapi.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+class AuditLogWriterTest {
+  private final AuditLogRepository repository = mock(AuditLogRepository.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+  private AuditLogWriter writer;
+
+  @TempDir Path tempDir;
+
+  @AfterEach
+  void tearDown() {
+    if (writer != null) {
+      writer.stop();
+    }
+  }
+
+  @Test
+  void shouldWriteAdminActionsSynchronously() {
+    writer = writer(new AuditLogProperties());
+    AuditLogEntry entry = entry("ADMIN_FUNDING_ADJUSTMENT");
+
+    writer.write(entry);
+
+    verify(repository).append(entry);
+    assertEquals(0, writer.queueDepth());
+  }
+
+  @Test
+  void shouldQueueOrderSubmitsAndFlushInOneBatch() {
+    writer = writer(new AuditLogProperties());
+    AuditLogEntry first = entry("ORDER_SUBMIT");
+    AuditLogEntry second = entry("ORDER_SUBMIT");
+
+    writer.write(first);
+    writer.write(second);
+    assertEquals(2, writer.queueDepth());
+    assertEquals(2.0, meterRegistry.get("audit.log.queue.depth").gauge().value());
+
+    writer.flush();
+
+    verify(repository).appendAll(List.of(first, second));
+    verify(repository, never()).append(first);
+    assertEquals(2.0, meterRegistry.get("audit.log.written").counter().count());
+  }
+
+  @Test
+  void shouldSpillOverflowAndReplayItOnceIdle() throws Exception {
+    AuditLogProperties properties = new AuditLogProperties();
+    properties.setQueueCapacity(1);
+    Path spill = tempDir.resolve("audit-spill.jsonl");
+    properties.setSpillPath(spill.toString());
+    writer = writer(properties);
+    AuditLogEntry queued = entry("ORDER_SUBMIT", "order-1");
+    AuditLogEntry overflowed = entry("ORDER_SUBMIT", "order-2");
+
+    writer.write(queued);
+    writer.write(overflowed);
+
+    assertTrue(Files.readString(spill).contains("\"ORDER_SUBMIT\""));
+    assertEquals(1.0, meterRegistry.get("audit.log.spilled").counter().count());
+
+    writer.start();
+
+    verify(repository, timeout(2_000)).appendAll(List.of(queued));
+    verify(repository, timeout(2_000)).appendAll(List.of(overflowed));
+  }
+
+  @Test
+  void shouldResumeInterruptedReplayBeforeNewSpills() throws Exception {
+    AuditLogProperties properties = new AuditLogProperties();
+    Path spill = tempDir.resolve("audit-spill.jsonl");
+    properties.setSpillPath(spill.toString());
+    AuditSpillFile spillFile = new AuditSpillFile(spill, objectMapper);
+    AuditLogEntry interrupted = entry("ORDER_SUBMIT", "order-1");
+    AuditLogEntry spilledLater = entry("ORDER_SUBMIT", "order-2");
+    spillFile.append(List.of(interrupted));
+    assertEquals(List.of(interrupted), spillFile.startReplay());
+    spillFile.append(List.of(spilledLater));
+    writer = writer(properties);
+
+    writer.start();
+
+    verify(repository, timeout(2_000)).appendAll(List.of(interrupted));
+    verify(repository, timeout(2_000)).appendAll(List.of(spilledLater));
+    writer.stop();
+    assertFalse(Files.exists(spill));
+    assertFalse(Files.exists(tempDir.resolve("audit-spill.jsonl.replaying")));
+  }
+
+  @Test
+  void shouldQuarantineEntriesTheDatabaseRejects() throws Exception {
+    AuditLogProperties properties = new AuditLogProperties();
+    Path spill = tempDir.resolve("audit-spill.jsonl");
+    properties.setSpillPath(spill.toString());
+    AuditLogEntry first = entry("ORDER_SUBMIT", "order-1");
+    AuditLogEntry poison = entry("ORDER_SUBMIT", "order-poison");
+    AuditLogEntry last = entry("ORDER_SUBMIT", "order-3");
+    new AuditSpillFile(spill, objectMapper).append(List.of(first, poison, last));
+    doThrow(new DataIntegrityViolationException("value too long"))
+        .when(repository)
+        .appendAll(argThat(entries -> entries.contains(poison)));
+    writer = writer(properties);
+
+    writer.start();
+
+    verify(repository, timeout(2_000)).appendAll(List.of(last));
+    writer.stop();
+    verify(repository).appendAll(List.of(first));
+    assertTrue(
+        Files.readString(tempDir.resolve("audit-spill.jsonl.quarantine")).contains("order-poison"));
+    assertEquals(1.0, meterRegistry.get("audit.log.quarantined").counter().count());
+    assertEquals(2.0, meterRegistry.get("audit.log.written").counter().count());
+  }
+
+  @Test
+  void shouldCountDropsWithoutSpillFile() {
+    AuditLogProperties properties = new AuditLogProperties();
+    properties.setQueueCapacity(1);
+    writer = writer(properties);
+    doThrow(new DataAccessResourceFailureException("db down"))
+        .when(repository)
+        .appendAll(anyList());
+
+    writer.write(entry("ORDER_SUBMIT"));
+    writer.write(entry("ORDER_SUBMIT"));
+    writer.flush();
+
+    assertEquals(2.0, meterRegistry.get("audit.log.dropped").counter().count());
+  }
+
+  private AuditLogWriter writer(AuditLogProperties properties) {
+    return new AuditLogWriter(repository, properties, objectMapper, meterRegistry);
+  }
+
+  private static AuditLogEntry entry(String action) {
+    return entry(action, "order-1");
+  }
+
+  private static AuditLogEntry entry(String action, String entityId) {
+    return new AuditLogEntry(
+        "user-1",
+        action,
+        "ORDER",
+        entityId,
+        null,
+        null,
+        AuditResult.SUCCESS,
+        null,
+        null,
+        "{\"source\":\"test\"}",
+        Instant.parse("2026-03-01T12:00:00Z"));
+  }
+}
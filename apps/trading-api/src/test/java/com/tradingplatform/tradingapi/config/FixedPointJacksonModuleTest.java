@@ -0,0 +1,33 @@
+package com.tradingplatform.tradingapi.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tradingplatform.domain.instruments.fixedpoint.Price;
+import com.tradingplatform.domain.instruments.fixedpoint.Quantity;
+import org.junit.jupiter.api.Test;
+
+class FixedPointJacksonModuleTest {
+  private final ObjectMapper objectMapper =
+      new ObjectMapper().registerModule(new FixedPointJacksonModule());
+
+  record Leg(Quantity qty, Price price) {}
+
+  @Test
+  void shouldRoundTripAsPlainNumbers() throws Exception {
+    Leg leg = new Leg(new Quantity(2500, 4), new Price(500101, 1));
+
+    String json = objectMapper.writeValueAsString(leg);
+
+    assertEquals("{\"qty\":0.2500,\"price\":50010.1}", json);
+    assertEquals(leg, objectMapper.readValue(json, Leg.class));
+  }
+
+  @Test
+  void shouldReadStringEncodedDecimals() throws Exception {
+    Leg leg = objectMapper.readValue("{\"qty\":\"0.25\",\"price\":\"50010.10\"}", Leg.class);
+
+    assertEquals(new Quantity(25, 2), leg.qty());
+    assertEquals(new Price(5001010, 2), leg.price());
+  }
+}
@@ -0,0 +1,107 @@
+package com.tradingplatform.tradingapi.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ReadReplicaRoutingDataSourceTest {
+  private JdbcTemplate replicaJdbcTemplate;
+  private ReplicaLagMonitor lagMonitor;
+  private ReadReplicaRoutingDataSource routingDataSource;
+
+  @BeforeEach
+  void setUp() {
+    replicaJdbcTemplate = mock(JdbcTemplate.class);
+    lagMonitor = new ReplicaLagMonitor(replicaJdbcTemplate, new SimpleMeterRegistry());
+    routingDataSource =
+        new ReadReplicaRoutingDataSource(
+            mock(DataSource.class),
+            mock(DataSource.class),
+            lagMonitor,
+            1000L,
+            new SimpleMeterRegistry());
+  }
+
+  @AfterEach
+  void tearDown() {
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    StalenessBudget.clear();
+  }
+
+  @Test
+  void shouldRouteWritesToPrimary() {
+    reportLag(0L);
+
+    assertEquals(
+        ReadReplicaRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+  }
+
+  @Test
+  void shouldRouteReadOnlyToReplicaWithinBudget() {
+    reportLag(200L);
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+    assertEquals(
+        ReadReplicaRoutingDataSource.REPLICA, routingDataSource.determineCurrentLookupKey());
+  }
+
+  @Test
+  void shouldFallBackToPrimaryWhenLagExceedsBudget() {
+    reportLag(5000L);
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+    assertEquals(
+        ReadReplicaRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+
+    StalenessBudget.set(10000L);
+    assertEquals(
+        ReadReplicaRoutingDataSource.REPLICA, routingDataSource.determineCurrentLookupKey());
+  }
+
+  @Test
+  void shouldHonourZeroBudgetAndUnavailableReplica() {
+    reportLag(0L);
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    StalenessBudget.set(0L);
+
+    assertEquals(
+        ReadReplicaRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+
+    StalenessBudget.clear();
+    when(replicaJdbcTemplate.queryForObject(
+            org.mockito.ArgumentMatchers.anyString(), org.mockito.ArgumentMatchers.eq(Long.class)))
+        .thenThrow(new IllegalStateException("replica down"));
+    lagMonitor.refresh();
+    assertEquals(
+        ReadReplicaRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+  }
+
+  @Test
+  void shouldRouteToPrimaryWhenReplicaIsNotStreaming() {
+    reportLag(0L);
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    assertEquals(
+        ReadReplicaRoutingDataSource.REPLICA, routingDataSource.determineCurrentLookupKey());
+
+    reportLag(null);
+
+    assertEquals(ReplicaLagMonitor.UNAVAILABLE, lagMonitor.currentLagMs());
+    assertEquals(
+        ReadReplicaRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+  }
+
+  private void reportLag(Long lagMs) {
+    when(replicaJdbcTemplate.queryForObject(
+            org.mockito.ArgumentMatchers.anyString(), org.mockito.ArgumentMatchers.eq(Long.class)))
+        .thenReturn(lagMs);
+    lagMonitor.refresh();
+  }
+}
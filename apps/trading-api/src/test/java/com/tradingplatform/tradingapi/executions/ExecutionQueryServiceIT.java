@@ -1,9 +1,14 @@
 package com.tradingplatform.tradingapi.executions;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.UUID;
 import org.flywaydb.core.Flyway;
 import org.junit.jupiter.api.BeforeEach;
@@ -95,6 +100,45 @@ class ExecutionQueryServiceIT {
     assertEquals(1, page.totalPages());
   }
 
+  @Test
+  void shouldWalkExecutionsWithSeekCursorWithoutCounting() {
+    UUID accountId = createAccount("exec-cursor-it@example.com");
+    UUID orderId = insertOrder(accountId, "BTCUSDT", "BUY", "binance-ord-21");
+    Instant sameInstant = Instant.parse("2026-02-25T12:00:00Z");
+    for (int i = 0; i < 5; i++) {
+      insertExecution(
+          orderId,
+          accountId,
+          "BTCUSDT",
+          "BUY",
+          "trade-20" + i,
+          "binance-ord-21",
+          new BigDecimal("0.10"),
+          new BigDecimal("42000"),
+          "USDT",
+          new BigDecimal("0.1"),
+          i < 3 ? sameInstant : sameInstant.minusSeconds(i));
+    }
+
+    ExecutionQueryService.ExecutionPage first =
+        queryService.listExecutions(accountId, null, null, null, null, 0, 2, null, false);
+    assertEquals(2, first.executions().size());
+    assertNull(first.totalElements());
+    assertNotNull(first.nextCursor());
+
+    Set<UUID> seen = new HashSet<>();
+    first.executions().forEach(execution -> seen.add(execution.id()));
+    String cursor = first.nextCursor();
+    while (cursor != null) {
+      ExecutionQueryService.ExecutionPage next =
+          queryService.listExecutions(accountId, null, null, null, null, 0, 2, cursor, false);
+      assertNull(next.page());
+      next.executions().forEach(execution -> assertTrue(seen.add(execution.id())));
+      cursor = next.nextCursor();
+    }
+    assertEquals(5, seen.size());
+  }
+
   private UUID createAccount(String email) {
     UUID userId = UUID.randomUUID();
     UUID accountId = UUID.randomUUID();
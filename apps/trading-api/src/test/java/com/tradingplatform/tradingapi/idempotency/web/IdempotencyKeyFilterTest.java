@@ -11,7 +11,7 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.tradingplatform.tradingapi.idempotency.hash.RequestHashCalculator;
+import com.tradingplatform.infra.web.idempotency.RequestHashCalculator;
 import com.tradingplatform.tradingapi.idempotency.persistence.IdempotencyPersistenceApi;
 import com.tradingplatform.tradingapi.idempotency.persistence.IdempotencyRecord;
 import com.tradingplatform.tradingapi.idempotency.persistence.IdempotencyStatus;
@@ -1,8 +1,12 @@
 package com.tradingplatform.tradingapi.ledger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.util.List;
 import java.util.UUID;
 import org.flywaydb.core.Flyway;
@@ -23,13 +27,14 @@ class JdbcLedgerRepositoryIntegrationTest {
           .withUsername("trading")
           .withPassword("trading");
 
+  private DriverManagerDataSource dataSource;
   private JdbcTemplate jdbcTemplate;
   private JdbcLedgerRepository repository;
   private UUID accountId;
 
   @BeforeEach
   void setUp() {
-    DriverManagerDataSource dataSource = new DriverManagerDataSource();
+    dataSource = new DriverManagerDataSource();
     dataSource.setDriverClassName(POSTGRES.getDriverClassName());
     dataSource.setUrl(POSTGRES.getJdbcUrl());
     dataSource.setUsername(POSTGRES.getUsername());
@@ -80,6 +85,112 @@ class JdbcLedgerRepositoryIntegrationTest {
     assertEquals(EntryDirection.CREDIT, entries.get(1).direction());
   }
 
+  @Test
+  void shouldReplayOnlyEntriesAfterLatestSnapshot() {
+    LedgerSnapshotService snapshots = snapshotService();
+    postAdjustment(EntryDirection.CREDIT, "100");
+    postAdjustment(EntryDirection.DEBIT, "30");
+
+    assertTrue(snapshots.writeCheckpoint().isEmpty());
+    long checkpoint = snapshots.writeCheckpoint().orElseThrow();
+    postAdjustment(EntryDirection.CREDIT, "5");
+
+    assertEquals(
+        0, new BigDecimal("70").compareTo(snapshots.balanceAt(accountId, "USDT", checkpoint)));
+    assertEquals(0, new BigDecimal("75").compareTo(snapshots.currentBalance(accountId, "USDT")));
+    assertTrue(snapshots.writeCheckpoint().isEmpty());
+    assertTrue(snapshots.writeCheckpoint().isPresent());
+    assertTrue(snapshots.writeCheckpoint().isEmpty());
+  }
+
+  @Test
+  void shouldHoldCheckpointUntilLowerSeqCommits() throws SQLException {
+    LedgerSnapshotService snapshots = snapshotService();
+    UUID txId = UUID.randomUUID();
+    try (Connection slow = dataSource.getConnection()) {
+      slow.setAutoCommit(false);
+      try (PreparedStatement insertTx =
+              slow.prepareStatement(
+                  "INSERT INTO ledger_transactions (id, correlation_id, type, created_at)"
+                      + " VALUES (?, ?, 'ADMIN_CREDIT', NOW())");
+          PreparedStatement insertEntry =
+              slow.prepareStatement(
+                  """
+                  INSERT INTO ledger_entries (
+                      id, tx_id, account_id, asset, direction, amount, ref_type, ref_id, created_at
+                  ) VALUES (?, ?, ?, 'USDT', 'CREDIT', 7, 'ADMIN_ADJUSTMENT', ?, NOW())
+                  """)) {
+        insertTx.setObject(1, txId);
+        insertTx.setString(2, txId.toString());
+        insertTx.executeUpdate();
+        insertEntry.setObject(1, UUID.randomUUID());
+        insertEntry.setObject(2, txId);
+        insertEntry.setObject(3, accountId);
+        insertEntry.setString(4, txId.toString());
+        insertEntry.executeUpdate();
+      }
+      postAdjustment(EntryDirection.CREDIT, "100");
+
+      assertTrue(snapshots.writeCheckpoint().isEmpty());
+      assertTrue(snapshots.writeCheckpoint().isEmpty());
+      slow.commit();
+    }
+
+    long checkpoint = snapshots.writeCheckpoint().orElseThrow();
+
+    assertEquals(
+        0, new BigDecimal("107").compareTo(snapshots.balanceAt(accountId, "USDT", checkpoint)));
+  }
+
+  @Test
+  void shouldReportWalletsThatDisagreeWithLedger() {
+    LedgerSnapshotService snapshots = snapshotService();
+    postAdjustment(EntryDirection.CREDIT, "100");
+    snapshots.writeCheckpoint();
+    jdbcTemplate.update(
+        """
+        INSERT INTO wallet_balances (account_id, asset, available, reserved, updated_at)
+        VALUES (?, 'USDT', 60, 40, NOW()), (?, 'BTC', 1, 0, NOW())
+        """,
+        accountId,
+        accountId);
+
+    List<LedgerBalanceMismatch> mismatches = snapshots.verify();
+
+    assertEquals(1, mismatches.size());
+    assertEquals("BTC", mismatches.get(0).asset());
+    assertEquals(0, BigDecimal.ONE.compareTo(mismatches.get(0).drift()));
+  }
+
+  private LedgerSnapshotService snapshotService() {
+    return new LedgerSnapshotService(new JdbcLedgerSnapshotRepository(jdbcTemplate));
+  }
+
+  private void postAdjustment(EntryDirection direction, String amount) {
+    UUID txId = UUID.randomUUID();
+    repository.createTransaction(txId, txId.toString(), "ADMIN_" + direction.name());
+    repository.appendEntry(
+        new LedgerEntry(
+            UUID.randomUUID(),
+            txId,
+            accountId,
+            "USDT",
+            direction,
+            new BigDecimal(amount),
+            "ADMIN_ADJUSTMENT",
+            txId.toString()));
+    repository.appendEntry(
+        new LedgerEntry(
+            UUID.randomUUID(),
+            txId,
+            accountId,
+            "USDT",
+            direction == EntryDirection.CREDIT ? EntryDirection.DEBIT : EntryDirection.CREDIT,
+            new BigDecimal(amount),
+            "PLATFORM_OFFSET",
+            txId.toString()));
+  }
+
   private UUID createAccount() {
     UUID userId = UUID.randomUUID();
     UUID createdAccountId = UUID.randomUUID();
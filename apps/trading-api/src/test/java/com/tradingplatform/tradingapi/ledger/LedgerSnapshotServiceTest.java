@@ -0,0 +1,74 @@
+package com.tradingplatform.tradingapi.ledger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class LedgerSnapshotServiceTest {
+  private final LedgerSnapshotRepository repository = mock(LedgerSnapshotRepository.class);
+  private final LedgerSnapshotService service = new LedgerSnapshotService(repository);
+
+  @Test
+  void shouldCheckpointPreviousMarkOnceItSettles() {
+    LedgerSeqMark first = new LedgerSeqMark(57L, 900L);
+    LedgerSeqMark second = new LedgerSeqMark(63L, 940L);
+    when(repository.tryLockCheckpoint()).thenReturn(true);
+    when(repository.findLatestCheckpoint()).thenReturn(40L);
+    when(repository.markAllocatedSeq()).thenReturn(first, second);
+    when(repository.isSettled(first)).thenReturn(false, true);
+
+    assertTrue(service.writeCheckpoint().isEmpty());
+    assertTrue(service.writeCheckpoint().isEmpty());
+    assertEquals(57L, service.writeCheckpoint().getAsLong());
+
+    verify(repository).writeSnapshots(40L, 57L);
+    verify(repository, times(2)).markAllocatedSeq();
+  }
+
+  @Test
+  void shouldSkipWhenNothingNewOrLockHeld() {
+    LedgerSeqMark mark = new LedgerSeqMark(40L, 900L);
+    when(repository.tryLockCheckpoint()).thenReturn(true, true, false);
+    when(repository.findLatestCheckpoint()).thenReturn(40L);
+    when(repository.markAllocatedSeq()).thenReturn(mark);
+    when(repository.isSettled(mark)).thenReturn(true);
+
+    assertTrue(service.writeCheckpoint().isEmpty());
+    assertTrue(service.writeCheckpoint().isEmpty());
+    assertTrue(service.writeCheckpoint().isEmpty());
+    verify(repository, never()).writeSnapshots(anyLong(), anyLong());
+  }
+
+  @Test
+  void shouldAddTailToLatestSnapshot() {
+    UUID accountId = UUID.randomUUID();
+    when(repository.findLatestSnapshot(accountId, "USDT", 90L))
+        .thenReturn(
+            Optional.of(
+                new LedgerBalanceSnapshot(accountId, "USDT", 57L, new BigDecimal("120.5"), 12L)));
+    when(repository.sumEntries(accountId, "USDT", 57L, 90L)).thenReturn(new BigDecimal("-20.5"));
+
+    assertEquals(new BigDecimal("100.0"), service.balanceAt(accountId, "USDT", 90L));
+  }
+
+  @Test
+  void shouldReplayFromStartWithoutSnapshot() {
+    UUID accountId = UUID.randomUUID();
+    when(repository.findLatestSnapshot(accountId, "BTC", Long.MAX_VALUE))
+        .thenReturn(Optional.empty());
+    when(repository.sumEntries(accountId, "BTC", 0L, Long.MAX_VALUE))
+        .thenReturn(new BigDecimal("0.25"));
+
+    assertEquals(new BigDecimal("0.25"), service.currentBalance(accountId, "BTC"));
+  }
+}
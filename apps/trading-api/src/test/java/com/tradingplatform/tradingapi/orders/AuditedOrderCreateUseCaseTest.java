@@ -2,7 +2,6 @@ package com.tradingplatform.tradingapi.orders;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -12,7 +11,7 @@ import com.tradingplatform.domain.orders.Order;
 import com.tradingplatform.domain.orders.OrderSide;
 import com.tradingplatform.domain.orders.OrderType;
 import com.tradingplatform.tradingapi.audit.AuditLogEntry;
-import com.tradingplatform.tradingapi.audit.AuditLogRepository;
+import com.tradingplatform.tradingapi.audit.AuditLogWriter;
 import com.tradingplatform.tradingapi.audit.AuditResult;
 import com.tradingplatform.tradingapi.risk.RiskViolationException;
 import java.math.BigDecimal;
@@ -27,16 +26,16 @@ import org.springframework.security.oauth2.jwt.Jwt;
 
 class AuditedOrderCreateUseCaseTest {
   private OrderCreateUseCase delegate;
-  private AuditLogRepository auditLogRepository;
+  private AuditLogWriter auditLogWriter;
   private AuditedOrderCreateUseCase useCase;
 
   @BeforeEach
   void setUp() {
     delegate = org.mockito.Mockito.mock(OrderCreateUseCase.class);
-    auditLogRepository = org.mockito.Mockito.mock(AuditLogRepository.class);
+    auditLogWriter = org.mockito.Mockito.mock(AuditLogWriter.class);
     useCase =
         new AuditedOrderCreateUseCase(
-            delegate, auditLogRepository, new ObjectMapper().registerModule(new JavaTimeModule()));
+            delegate, auditLogWriter, new ObjectMapper().registerModule(new JavaTimeModule()));
     SecurityContextHolder.clearContext();
   }
 
@@ -61,7 +60,7 @@ class AuditedOrderCreateUseCaseTest {
 
     assertEquals(created.id(), result.id());
     ArgumentCaptor<AuditLogEntry> captor = ArgumentCaptor.forClass(AuditLogEntry.class);
-    verify(auditLogRepository).append(captor.capture());
+    verify(auditLogWriter).write(captor.capture());
     AuditLogEntry entry = captor.getValue();
     assertEquals("user-123", entry.actorUserId());
     assertEquals(AuditResult.SUCCESS, entry.result());
@@ -79,7 +78,7 @@ class AuditedOrderCreateUseCaseTest {
     assertEquals("MAX_NOTIONAL_EXCEEDED", ex.code());
 
     ArgumentCaptor<AuditLogEntry> captor = ArgumentCaptor.forClass(AuditLogEntry.class);
-    verify(auditLogRepository).append(captor.capture());
+    verify(auditLogWriter).write(captor.capture());
     assertEquals(AuditResult.REJECTED, captor.getValue().result());
     assertEquals("MAX_NOTIONAL_EXCEEDED", captor.getValue().errorCode());
   }
@@ -91,7 +90,7 @@ class AuditedOrderCreateUseCaseTest {
 
     assertThrows(IllegalStateException.class, () -> useCase.create(command));
     ArgumentCaptor<AuditLogEntry> captor = ArgumentCaptor.forClass(AuditLogEntry.class);
-    verify(auditLogRepository).append(captor.capture());
+    verify(auditLogWriter).write(captor.capture());
     assertEquals(AuditResult.FAILED, captor.getValue().result());
   }
 
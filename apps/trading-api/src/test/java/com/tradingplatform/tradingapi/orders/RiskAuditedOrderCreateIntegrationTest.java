@@ -5,15 +5,24 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tradingplatform.domain.instruments.marketdata.TopOfBookCache;
 import com.tradingplatform.domain.orders.OrderSide;
 import com.tradingplatform.domain.orders.OrderType;
+import com.tradingplatform.tradingapi.audit.AuditLogProperties;
+import com.tradingplatform.tradingapi.audit.AuditLogWriter;
 import com.tradingplatform.tradingapi.audit.JdbcAuditLogRepository;
+import com.tradingplatform.tradingapi.marketdata.MarketDataProperties;
+import com.tradingplatform.tradingapi.risk.AccountExposureProperties;
+import com.tradingplatform.tradingapi.risk.AccountExposureService;
 import com.tradingplatform.tradingapi.risk.AccountLimitService;
 import com.tradingplatform.tradingapi.risk.JdbcRiskCheckService;
+import com.tradingplatform.tradingapi.risk.RiskRuleCacheProperties;
+import com.tradingplatform.tradingapi.risk.RiskRuleSetCache;
 import com.tradingplatform.tradingapi.risk.RiskViolationException;
 import com.tradingplatform.tradingapi.risk.TradingControlService;
 import com.tradingplatform.tradingapi.wallet.JdbcWalletRepository;
 import com.tradingplatform.tradingapi.wallet.WalletReservationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.Map;
@@ -37,6 +46,7 @@ class RiskAuditedOrderCreateIntegrationTest {
           .withPassword("trading");
 
   private JdbcTemplate jdbcTemplate;
+  private AuditLogWriter auditLogWriter;
   private OrderCreateUseCase auditedUseCase;
   private UUID accountId;
 
@@ -71,8 +81,20 @@ class RiskAuditedOrderCreateIntegrationTest {
             objectMapper);
     OrderCreateUseCase coreUseCase = new CoreOrderCreateUseCase(orderApplicationService);
     OrderCreateUseCase riskUseCase =
-        new RiskValidatedOrderCreateUseCase(coreUseCase, new JdbcRiskCheckService(jdbcTemplate));
-    auditedUseCase = new AuditedOrderCreateUseCase(riskUseCase, new JdbcAuditLogRepository(jdbcTemplate), objectMapper);
+        new RiskValidatedOrderCreateUseCase(
+            coreUseCase,
+            new JdbcRiskCheckService(
+                new RiskRuleSetCache(jdbcTemplate, new RiskRuleCacheProperties()),
+                new AccountExposureService(jdbcTemplate, new AccountExposureProperties()),
+                new TopOfBookCache(),
+                new MarketDataProperties()));
+    auditLogWriter =
+        new AuditLogWriter(
+            new JdbcAuditLogRepository(jdbcTemplate),
+            new AuditLogProperties(),
+            objectMapper,
+            new SimpleMeterRegistry());
+    auditedUseCase = new AuditedOrderCreateUseCase(riskUseCase, auditLogWriter, objectMapper);
 
     accountId = createAccount();
     seedInstrumentAndLimits();
@@ -92,10 +114,12 @@ class RiskAuditedOrderCreateIntegrationTest {
             "client-ok",
             "corr-ok",
             Instant.now()));
+    auditLogWriter.flush();
 
     assertEquals(1, count("SELECT COUNT(*) FROM orders"));
     Map<String, Object> row =
-        jdbcTemplate.queryForMap("SELECT result, action FROM audit_log ORDER BY created_at DESC LIMIT 1");
+        jdbcTemplate.queryForMap(
+            "SELECT result, action FROM audit_log ORDER BY created_at DESC LIMIT 1");
     assertEquals("SUCCESS", row.get("result"));
     assertEquals("ORDER_SUBMIT", row.get("action"));
   }
@@ -117,6 +141,7 @@ class RiskAuditedOrderCreateIntegrationTest {
                     "client-bad",
                     "corr-bad",
                     Instant.now())));
+    auditLogWriter.flush();
 
     assertEquals(0, count("SELECT COUNT(*) FROM orders"));
     Map<String, Object> row =
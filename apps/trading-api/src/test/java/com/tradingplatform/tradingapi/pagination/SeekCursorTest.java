@@ -0,0 +1,35 @@
+package com.tradingplatform.tradingapi.pagination;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class SeekCursorTest {
+  @Test
+  void shouldRoundTripPositionAndId() {
+    SeekCursor cursor =
+        new SeekCursor(Instant.parse("2026-02-25T10:15:30.123456Z"), UUID.randomUUID());
+
+    String token = cursor.encode();
+
+    assertFalse(token.contains("="));
+    assertEquals(cursor, SeekCursor.decode(token));
+  }
+
+  @Test
+  void shouldRejectMalformedToken() {
+    assertThrows(IllegalArgumentException.class, () -> SeekCursor.decode("not-a-cursor"));
+    assertThrows(IllegalArgumentException.class, () -> SeekCursor.decode(" "));
+    String missingId =
+        Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString("1700000000.0|".getBytes(StandardCharsets.UTF_8));
+    assertThrows(IllegalArgumentException.class, () -> SeekCursor.decode(missingId));
+  }
+}
@@ -0,0 +1,132 @@
+package com.tradingplatform.tradingapi.partitioning;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.tradingplatform.tradingapi.ledger.LedgerSnapshotRepository;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+class PartitionMaintenanceServiceTest {
+  private static final Instant NOW = Instant.parse("2026-03-15T12:00:00Z");
+
+  private final PartitionRepository partitionRepository = mock(PartitionRepository.class);
+  private final LedgerSnapshotRepository ledgerSnapshotRepository =
+      mock(LedgerSnapshotRepository.class);
+  private final PartitionMaintenanceProperties properties = new PartitionMaintenanceProperties();
+  private final PartitionMaintenanceService service =
+      new PartitionMaintenanceService(
+          partitionRepository,
+          ledgerSnapshotRepository,
+          properties,
+          Clock.fixed(NOW, ZoneOffset.UTC));
+
+  @BeforeEach
+  void setUp() {
+    when(partitionRepository.ensureMonthlyPartition(anyString(), any()))
+        .thenAnswer(
+            invocation -> partition(invocation.getArgument(0), invocation.getArgument(1)).name());
+    properties.setArchiveDirectory("/var/archive");
+  }
+
+  @Test
+  void shouldEnsureCurrentAndUpcomingMonthsWithoutArchivingByDefault() {
+    PartitionMaintenanceResult result = service.runOnce();
+
+    assertEquals(12, result.ensured().size());
+    assertTrue(result.ensured().contains("audit_log_p202605"));
+    verify(partitionRepository).ensureMonthlyPartition("audit_log", YearMonth.of(2026, 5));
+    assertTrue(result.archived().isEmpty());
+    verify(partitionRepository, never()).findMonthlyPartitions(anyString());
+  }
+
+  @Test
+  void shouldDetachExportAndDropMonthsPastRetention() {
+    properties.setRetentionMonths(Map.of("audit_log", 3));
+    MonthlyPartition december = partition("audit_log", YearMonth.of(2025, 12));
+    MonthlyPartition january = partition("audit_log", YearMonth.of(2026, 1));
+    when(partitionRepository.findMonthlyPartitions("audit_log"))
+        .thenReturn(List.of(december, january, partition("audit_log", YearMonth.of(2026, 3))));
+
+    PartitionMaintenanceResult result = service.runOnce();
+
+    assertEquals(List.of("audit_log_p202512"), result.archived());
+    InOrder order = inOrder(partitionRepository);
+    order.verify(partitionRepository).detachPartition(december);
+    order
+        .verify(partitionRepository)
+        .exportPartition(december, Path.of("/var/archive/audit_log/audit_log_p202512.csv.gz"));
+    order.verify(partitionRepository).dropPartition(december);
+    verify(partitionRepository, never()).detachPartition(january);
+  }
+
+  @Test
+  void shouldReattachPartitionWhenExportFails() {
+    properties.setRetentionMonths(Map.of("order_events", 1));
+    MonthlyPartition february = partition("order_events", YearMonth.of(2026, 2));
+    when(partitionRepository.findMonthlyPartitions("order_events")).thenReturn(List.of(february));
+    when(partitionRepository.exportPartition(any(), any()))
+        .thenThrow(new IllegalStateException("disk full"));
+
+    PartitionMaintenanceResult result = service.runOnce();
+
+    assertEquals(List.of("order_events_p202602"), result.skipped());
+    verify(partitionRepository).attachPartition(february);
+    verify(partitionRepository, never()).dropPartition(february);
+  }
+
+  @Test
+  void shouldFinishArchiveOfPartitionLeftDetached() {
+    properties.setRetentionMonths(Map.of("executions", 2));
+    MonthlyPartition january =
+        new MonthlyPartition("executions", "executions_p202601", YearMonth.of(2026, 1), false);
+    when(partitionRepository.findMonthlyPartitions("executions")).thenReturn(List.of(january));
+
+    PartitionMaintenanceResult result = service.runOnce();
+
+    assertEquals(List.of("executions_p202601"), result.archived());
+    verify(partitionRepository, never()).detachPartition(any());
+    InOrder order = inOrder(partitionRepository);
+    order
+        .verify(partitionRepository)
+        .exportPartition(january, Path.of("/var/archive/executions/executions_p202601.csv.gz"));
+    order.verify(partitionRepository).dropPartition(january);
+  }
+
+  @Test
+  void shouldKeepLedgerMonthsNotCoveredByCheckpoint() {
+    properties.setRetentionMonths(Map.of("ledger_entries", 1));
+    MonthlyPartition january = partition("ledger_entries", YearMonth.of(2026, 1));
+    MonthlyPartition february = partition("ledger_entries", YearMonth.of(2026, 2));
+    when(partitionRepository.findMonthlyPartitions("ledger_entries"))
+        .thenReturn(List.of(january, february));
+    when(partitionRepository.findMaxLedgerSeq(january)).thenReturn(500L);
+    when(partitionRepository.findMaxLedgerSeq(february)).thenReturn(900L);
+    when(ledgerSnapshotRepository.findLatestCheckpoint()).thenReturn(750L);
+
+    PartitionMaintenanceResult result = service.runOnce();
+
+    assertEquals(List.of("ledger_entries_p202601"), result.archived());
+    assertEquals(List.of("ledger_entries_p202602"), result.skipped());
+    verify(partitionRepository, never()).detachPartition(february);
+  }
+
+  private static MonthlyPartition partition(String table, YearMonth month) {
+    return new MonthlyPartition(table, table + "_p" + month.toString().replace("-", ""), month);
+  }
+}
@@ -52,8 +52,18 @@ class PortfolioQueryServiceTest {
     when(portfolioReadRepository.findPositionsByAccountId(accountId))
         .thenReturn(
             List.of(
-                new PositionView("BTCUSDT", new BigDecimal("0.25")),
-                new PositionView("ETHUSDT", new BigDecimal("-1.5"))));
+                new PositionView(
+                    "BTCUSDT",
+                    new BigDecimal("0.25"),
+                    new BigDecimal("42000"),
+                    BigDecimal.ZERO,
+                    Instant.parse("2026-02-25T12:00:00Z")),
+                new PositionView(
+                    "ETHUSDT",
+                    new BigDecimal("-1.5"),
+                    new BigDecimal("2300"),
+                    new BigDecimal("12.5"),
+                    Instant.parse("2026-02-25T12:00:00Z"))));
 
     PortfolioResponse response = service.getPortfolio(accountId);
 
@@ -61,6 +71,8 @@ class PortfolioQueryServiceTest {
     assertEquals(2, response.positions().size());
     assertEquals("BTCUSDT", response.positions().get(0).symbol());
     assertEquals(new BigDecimal("-1.5"), response.positions().get(1).netQty());
+    assertEquals(new BigDecimal("42000"), response.positions().get(0).avgEntryPrice());
+    assertEquals(new BigDecimal("12.5"), response.positions().get(1).realizedPnl());
   }
 
   @Test
@@ -0,0 +1,83 @@
+package com.tradingplatform.tradingapi.portfolio;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tradingplatform.tradingapi.api.PortfolioResponse;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+class PortfolioSnapshotCacheTest {
+  private PortfolioQueryService portfolioQueryService;
+  private PortfolioCacheProperties properties;
+  private ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    portfolioQueryService = mock(PortfolioQueryService.class);
+    properties = new PortfolioCacheProperties();
+    redisTemplateProvider = mock(ObjectProvider.class);
+  }
+
+  @Test
+  void shouldServeRepeatedReadsFromCache() {
+    UUID accountId = UUID.randomUUID();
+    when(portfolioQueryService.getPortfolio(accountId)).thenReturn(snapshot(accountId));
+    PortfolioSnapshotCache cache = newCache();
+
+    PortfolioResponse first = cache.get(accountId);
+    PortfolioResponse second = cache.get(accountId);
+
+    assertSame(first, second);
+    verify(portfolioQueryService, times(1)).getPortfolio(accountId);
+  }
+
+  @Test
+  void shouldReloadWithNewerVersionAfterInvalidation() {
+    UUID accountId = UUID.randomUUID();
+    when(portfolioQueryService.getPortfolio(accountId)).thenReturn(snapshot(accountId));
+    PortfolioSnapshotCache cache = newCache();
+
+    PortfolioResponse before = cache.get(accountId);
+    cache.invalidate(accountId);
+    PortfolioResponse after = cache.get(accountId);
+
+    assertTrue(after.version() > before.version());
+    verify(portfolioQueryService, times(2)).getPortfolio(accountId);
+  }
+
+  @Test
+  void shouldBypassCacheWhenDisabled() {
+    UUID accountId = UUID.randomUUID();
+    when(portfolioQueryService.getPortfolio(accountId)).thenReturn(snapshot(accountId));
+    properties.setEnabled(false);
+    PortfolioSnapshotCache cache = newCache();
+
+    cache.get(accountId);
+    PortfolioResponse response = cache.get(accountId);
+
+    assertEquals(0L, response.version());
+    verify(portfolioQueryService, times(2)).getPortfolio(accountId);
+  }
+
+  private PortfolioSnapshotCache newCache() {
+    return new PortfolioSnapshotCache(
+        portfolioQueryService, properties, redisTemplateProvider, new ObjectMapper());
+  }
+
+  private static PortfolioResponse snapshot(UUID accountId) {
+    return new PortfolioResponse(accountId, List.of(), List.of(), Instant.now(), 0L);
+  }
+}
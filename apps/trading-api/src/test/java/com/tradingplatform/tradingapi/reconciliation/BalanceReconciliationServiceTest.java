@@ -1,17 +1,33 @@
 package com.tradingplatform.tradingapi.reconciliation;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.tradingplatform.tradingapi.ledger.LedgerBalanceMismatch;
+import com.tradingplatform.tradingapi.ledger.LedgerMismatchPage;
+import com.tradingplatform.tradingapi.ledger.LedgerSnapshotRepository;
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 class BalanceReconciliationServiceTest {
   private BalanceReconciliationGateway gateway;
   private InternalBalanceSnapshotProvider snapshotProvider;
+  private LedgerSnapshotRepository ledgerSnapshotRepository;
+  private ReconciliationRunRepository runRepository;
   private ReconciliationReporter reporter;
   private BalanceReconciliationService service;
 
@@ -19,23 +35,128 @@ class BalanceReconciliationServiceTest {
   void setUp() {
     gateway = org.mockito.Mockito.mock(BalanceReconciliationGateway.class);
     snapshotProvider = org.mockito.Mockito.mock(InternalBalanceSnapshotProvider.class);
+    ledgerSnapshotRepository = org.mockito.Mockito.mock(LedgerSnapshotRepository.class);
+    runRepository = org.mockito.Mockito.mock(ReconciliationRunRepository.class);
     reporter = org.mockito.Mockito.mock(ReconciliationReporter.class);
-    service = new BalanceReconciliationService(gateway, snapshotProvider, reporter);
+    BalanceReconciliationProperties properties = new BalanceReconciliationProperties();
+    properties.setParallelism(1);
+    service =
+        new BalanceReconciliationService(
+            gateway,
+            new ReconciliationTotalsReader(snapshotProvider, ledgerSnapshotRepository),
+            ledgerSnapshotRepository,
+            runRepository,
+            reporter,
+            properties);
+  }
+
+  @AfterEach
+  void tearDown() {
+    service.shutdown();
   }
 
   @Test
-  void shouldReturnNotImplementedWithComputedDrift() {
+  void shouldComputeExternalDriftAndPersistRun() {
     when(snapshotProvider.computeInternalTotals())
         .thenReturn(Map.of("USDT", new BigDecimal("120"), "BTC", new BigDecimal("2")));
+    when(ledgerSnapshotRepository.findLedgerTotalsByAsset())
+        .thenReturn(Map.of("USDT", new BigDecimal("120"), "BTC", new BigDecimal("2")));
     when(gateway.fetchExternalBalances())
-        .thenReturn(Map.of("USDT", new BigDecimal("100"), "ETH", new BigDecimal("1")));
+        .thenReturn(Optional.of(Map.of("USDT", new BigDecimal("100"), "ETH", new BigDecimal("1"))));
 
     ReconciliationResult result = service.runOnce();
 
-    assertEquals(ReconciliationStatus.NOT_IMPLEMENTED, result.status());
+    assertEquals(ReconciliationStatus.DRIFT_DETECTED, result.status());
     assertEquals(new BigDecimal("20"), result.driftByAsset().get("USDT"));
     assertEquals(new BigDecimal("2"), result.driftByAsset().get("BTC"));
     assertEquals(new BigDecimal("-1"), result.driftByAsset().get("ETH"));
+    assertTrue(result.mismatches().isEmpty());
+    verify(ledgerSnapshotRepository, never()).findMismatches(any(), any(), any(), anyInt());
+    verify(runRepository).save(result);
     verify(reporter).report(result);
   }
+
+  @Test
+  void shouldDrillIntoAssetsThatDisagreeWithLedger() {
+    UUID first = UUID.fromString("10000000-0000-0000-0000-000000000001");
+    UUID second = UUID.fromString("20000000-0000-0000-0000-000000000002");
+    when(snapshotProvider.computeInternalTotals())
+        .thenReturn(Map.of("USDT", new BigDecimal("100"), "BTC", new BigDecimal("1")));
+    when(ledgerSnapshotRepository.findLedgerTotalsByAsset())
+        .thenReturn(Map.of("USDT", new BigDecimal("93"), "BTC", new BigDecimal("1")));
+    when(gateway.fetchExternalBalances()).thenReturn(Optional.empty());
+    when(ledgerSnapshotRepository.findMismatches(eq("USDT"), isNull(), isNull(), anyInt()))
+        .thenReturn(
+            new LedgerMismatchPage(
+                List.of(
+                    new LedgerBalanceMismatch(
+                        first, "USDT", new BigDecimal("10"), new BigDecimal("5"))),
+                first));
+    when(ledgerSnapshotRepository.findMismatches(eq("USDT"), eq(first), isNull(), anyInt()))
+        .thenReturn(
+            new LedgerMismatchPage(
+                List.of(
+                    new LedgerBalanceMismatch(
+                        second, "USDT", new BigDecimal("4"), new BigDecimal("2"))),
+                null));
+
+    ReconciliationResult result = service.runOnce();
+
+    assertEquals(ReconciliationStatus.DRIFT_DETECTED, result.status());
+    assertTrue(result.driftByAsset().isEmpty());
+    assertEquals(new BigDecimal("7"), result.ledgerDriftByAsset().get("USDT"));
+    assertEquals(2, result.mismatches().size());
+    assertEquals(first, result.mismatches().get(0).accountId());
+    verify(ledgerSnapshotRepository, times(2))
+        .findMismatches(eq("USDT"), any(), isNull(), anyInt());
+    verify(ledgerSnapshotRepository, never()).findMismatches(eq("BTC"), any(), any(), anyInt());
+  }
+
+  @Test
+  void shouldScanEveryAssetOnFullScan() {
+    UUID over = UUID.fromString("10000000-0000-0000-0000-000000000001");
+    UUID under = UUID.fromString("20000000-0000-0000-0000-000000000002");
+    when(snapshotProvider.computeInternalTotals()).thenReturn(Map.of("BTC", new BigDecimal("2")));
+    when(ledgerSnapshotRepository.findLedgerTotalsByAsset())
+        .thenReturn(Map.of("BTC", new BigDecimal("2")));
+    when(gateway.fetchExternalBalances()).thenReturn(Optional.empty());
+    when(ledgerSnapshotRepository.findMismatches(eq("BTC"), isNull(), isNull(), anyInt()))
+        .thenReturn(
+            new LedgerMismatchPage(
+                List.of(
+                    new LedgerBalanceMismatch(over, "BTC", new BigDecimal("2"), BigDecimal.ONE),
+                    new LedgerBalanceMismatch(under, "BTC", BigDecimal.ZERO, BigDecimal.ONE)),
+                null));
+
+    ReconciliationResult result = service.runOnce(true);
+
+    assertEquals(ReconciliationStatus.DRIFT_DETECTED, result.status());
+    assertEquals(0, result.ledgerDriftByAsset().get("BTC").signum());
+    assertEquals(
+        List.of(over, under), result.mismatches().stream().map(m -> m.accountId()).toList());
+    assertTrue(result.notes().contains("Full account scan"));
+  }
+
+  @Test
+  void shouldReportFailureWhenGatewayThrows() {
+    when(snapshotProvider.computeInternalTotals()).thenReturn(Map.of());
+    when(ledgerSnapshotRepository.findLedgerTotalsByAsset()).thenReturn(Map.of());
+    when(gateway.fetchExternalBalances()).thenThrow(new IllegalStateException("exchange down"));
+
+    ReconciliationResult result = service.runOnce();
+
+    assertEquals(ReconciliationStatus.FAILED, result.status());
+    assertEquals("IllegalStateException: exchange down", result.notes());
+    verify(runRepository).save(result);
+  }
+
+  @Test
+  void shouldSplitAccountSpaceIntoOrderedRanges() {
+    List<UUID> bounds = BalanceReconciliationService.rangeBounds(4);
+
+    assertEquals(3, bounds.size());
+    assertEquals(UUID.fromString("3fffffff-ffff-ffff-ffff-ffffffffffff"), bounds.get(0));
+    assertEquals(UUID.fromString("7fffffff-ffff-fffe-ffff-ffffffffffff"), bounds.get(1));
+    assertTrue(BalanceReconciliationService.rangeBounds(1).isEmpty());
+  }
 }
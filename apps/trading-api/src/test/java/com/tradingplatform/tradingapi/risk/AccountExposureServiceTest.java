@@ -0,0 +1,64 @@
+package com.tradingplatform.tradingapi.risk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.tradingplatform.domain.orders.OrderSide;
+import com.tradingplatform.domain.risk.ExposureTracker;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class AccountExposureServiceTest {
+  private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+  private final ExposureTracker tracker = new ExposureTracker();
+  private final AccountExposureService service =
+      new AccountExposureService(jdbcTemplate, new AccountExposureProperties(), tracker);
+
+  @Test
+  void shouldSkipSnapshotWhileAnotherInstanceHoldsTheLock() {
+    when(jdbcTemplate.queryForObject(
+            startsWith("SELECT pg_try_advisory_xact_lock"), eq(Boolean.class), anyLong()))
+        .thenReturn(false);
+
+    assertTrue(service.writeSnapshot().isEmpty());
+    verify(jdbcTemplate, never()).update(anyString());
+    verify(jdbcTemplate, never()).batchUpdate(anyString(), any(List.class));
+  }
+
+  @Test
+  void shouldReplaceSnapshotRowsUnderTheLock() {
+    when(jdbcTemplate.queryForObject(
+            startsWith("SELECT pg_try_advisory_xact_lock"), eq(Boolean.class), anyLong()))
+        .thenReturn(true);
+    tracker.onOrderOpened(
+        new ExposureTracker.OpenOrder(
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            "BTCUSDT",
+            "USDT",
+            OrderSide.BUY,
+            BigDecimal.ONE,
+            BigDecimal.ZERO,
+            new BigDecimal("100"),
+            Instant.now()));
+
+    assertEquals(OptionalInt.of(1), service.writeSnapshot());
+    verify(jdbcTemplate)
+        .batchUpdate(startsWith("INSERT INTO account_exposure_snapshots"), any(List.class));
+    verify(jdbcTemplate).update("DELETE FROM account_exposure_snapshots WHERE snapshot_at < NOW()");
+  }
+}
@@ -5,10 +5,16 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.tradingplatform.domain.instruments.marketdata.TopOfBookCache;
+import com.tradingplatform.domain.orders.Order;
 import com.tradingplatform.domain.orders.OrderSide;
+import com.tradingplatform.domain.orders.OrderStatus;
 import com.tradingplatform.domain.orders.OrderType;
+import com.tradingplatform.tradingapi.marketdata.MarketDataProperties;
 import com.tradingplatform.tradingapi.orders.CreateOrderCommand;
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -21,12 +27,19 @@ import org.springframework.jdbc.core.RowMapper;
 
 class JdbcRiskCheckServiceTest {
   private JdbcTemplate jdbcTemplate;
+  private TopOfBookCache topOfBookCache;
   private JdbcRiskCheckService service;
 
   @BeforeEach
   void setUp() {
     jdbcTemplate = org.mockito.Mockito.mock(JdbcTemplate.class);
-    service = new JdbcRiskCheckService(jdbcTemplate);
+    topOfBookCache = new TopOfBookCache();
+    service =
+        new JdbcRiskCheckService(
+            new RiskRuleSetCache(jdbcTemplate, new RiskRuleCacheProperties()),
+            new AccountExposureService(jdbcTemplate, new AccountExposureProperties()),
+            topOfBookCache,
+            new MarketDataProperties());
   }
 
   @Test
@@ -90,6 +103,24 @@ class JdbcRiskCheckServiceTest {
     assertEquals("PRICE_BAND_EXCEEDED", ex.code());
   }
 
+  @Test
+  void shouldUseLiveTopOfBookForPriceBand() {
+    stubInstrument(activeInstrument());
+    stubLimits(new AccountLimitView(UUID.randomUUID(), new BigDecimal("1000000"), 100));
+    topOfBookCache.onQuote(
+        "BTCUSDT",
+        new BigDecimal("55990"),
+        BigDecimal.ONE,
+        new BigDecimal("56010"),
+        BigDecimal.ONE,
+        Instant.now());
+
+    assertDoesNotThrow(
+        () ->
+            service.validateOrder(
+                command(OrderType.LIMIT, new BigDecimal("1"), new BigDecimal("56000"))));
+  }
+
   @Test
   void shouldRejectQtyStepMismatch() {
     stubInstrument(activeInstrument());
@@ -132,29 +163,145 @@ class JdbcRiskCheckServiceTest {
     assertEquals("MIN_NOTIONAL_NOT_MET", ex.code());
   }
 
+  @Test
+  void shouldReuseCompiledRulesUntilInvalidated() {
+    RiskRuleSetCache cache = new RiskRuleSetCache(jdbcTemplate, new RiskRuleCacheProperties());
+    JdbcRiskCheckService cachedService =
+        new JdbcRiskCheckService(
+            cache,
+            new AccountExposureService(jdbcTemplate, new AccountExposureProperties()),
+            topOfBookCache,
+            new MarketDataProperties());
+    stubInstrument(activeInstrument());
+    stubLimits(new AccountLimitView(UUID.randomUUID(), new BigDecimal("100000"), 500));
+    CreateOrderCommand order =
+        command(OrderType.LIMIT, new BigDecimal("1"), new BigDecimal("51000"));
+
+    cachedService.validateOrder(order);
+    cachedService.validateOrder(order);
+    verify(jdbcTemplate, times(1)).query(instrumentQuery(), any(RowMapper.class), any());
+
+    cache.invalidateAccount(order.accountId());
+    cachedService.validateOrder(order);
+    verify(jdbcTemplate, times(2)).query(instrumentQuery(), any(RowMapper.class), any());
+  }
+
+  @Test
+  void shouldCheckTrackedExposureUntilOrderIsCanceled() {
+    AccountExposureService exposureService =
+        new AccountExposureService(jdbcTemplate, new AccountExposureProperties());
+    JdbcRiskCheckService trackingService =
+        new JdbcRiskCheckService(
+            new RiskRuleSetCache(jdbcTemplate, new RiskRuleCacheProperties()),
+            exposureService,
+            topOfBookCache,
+            new MarketDataProperties());
+    stubInstrument(activeInstrument());
+    stubLimits(
+        new AccountLimitView(
+            UUID.randomUUID(),
+            new BigDecimal("100000"),
+            500,
+            new ExposureLimits(null, null, new BigDecimal("100000"), null)));
+    CreateOrderCommand order =
+        command(OrderType.LIMIT, new BigDecimal("1"), new BigDecimal("51000"));
+    Order accepted =
+        Order.createNew(
+            order.orderId(),
+            order.accountId(),
+            order.instrument(),
+            order.side(),
+            order.type(),
+            order.qty(),
+            order.price(),
+            order.clientOrderId(),
+            Instant.now());
+
+    trackingService.validateOrder(order);
+    trackingService.recordAccepted(accepted);
+    RiskViolationException ex =
+        assertThrows(RiskViolationException.class, () -> trackingService.validateOrder(order));
+    assertEquals("MAX_OPEN_NOTIONAL_EXCEEDED", ex.code());
+
+    exposureService.orderUpdated(accepted.id(), BigDecimal.ZERO, OrderStatus.CANCELED);
+    assertDoesNotThrow(() -> trackingService.validateOrder(order));
+  }
+
+  @Test
+  void shouldLimitOpenNotionalPerQuoteAsset() {
+    AccountExposureService exposureService =
+        new AccountExposureService(jdbcTemplate, new AccountExposureProperties());
+    JdbcRiskCheckService trackingService =
+        new JdbcRiskCheckService(
+            new RiskRuleSetCache(jdbcTemplate, new RiskRuleCacheProperties()),
+            exposureService,
+            topOfBookCache,
+            new MarketDataProperties());
+    stubLimits(
+        new AccountLimitView(
+            UUID.randomUUID(),
+            new BigDecimal("100000"),
+            500,
+            new ExposureLimits(null, null, new BigDecimal("100000"), null)));
+    UUID accountId = UUID.randomUUID();
+    CreateOrderCommand usdtOrder =
+        command(
+            accountId, "BTCUSDT", OrderType.LIMIT, new BigDecimal("1"), new BigDecimal("51000"));
+    CreateOrderCommand eurOrder =
+        command(accountId, "BTCEUR", OrderType.LIMIT, new BigDecimal("1"), new BigDecimal("51000"));
+
+    stubInstrument(activeInstrument("BTCUSDT", "USDT"));
+    trackingService.validateOrder(usdtOrder);
+    trackingService.recordAccepted(
+        Order.createNew(
+            usdtOrder.orderId(),
+            accountId,
+            usdtOrder.instrument(),
+            usdtOrder.side(),
+            usdtOrder.type(),
+            usdtOrder.qty(),
+            usdtOrder.price(),
+            usdtOrder.clientOrderId(),
+            Instant.now()));
+    stubInstrument(activeInstrument("BTCEUR", "EUR"));
+
+    assertDoesNotThrow(() -> trackingService.validateOrder(eurOrder));
+    assertEquals(
+        0,
+        new BigDecimal("51000")
+            .compareTo(exposureService.exposure(accountId, "BTCUSDT", "USDT").openNotional()));
+  }
+
+  private static String instrumentQuery() {
+    return argThat(sql -> sql != null && sql.contains("FROM instruments"));
+  }
+
   private void stubInstrument(InstrumentRiskView instrument) {
-    when(
-            jdbcTemplate.query(
-                argThat(sql -> sql != null && sql.contains("FROM instruments")),
-                any(RowMapper.class),
-                any()))
+    when(jdbcTemplate.query(
+            argThat(sql -> sql != null && sql.contains("FROM instruments")),
+            any(RowMapper.class),
+            any()))
         .thenReturn(List.of(instrument));
   }
 
   private void stubLimits(AccountLimitView accountLimit) {
-    when(
-            jdbcTemplate.query(
-                argThat(sql -> sql != null && sql.contains("FROM account_limits")),
-                any(RowMapper.class),
-                any()))
+    when(jdbcTemplate.query(
+            argThat(sql -> sql != null && sql.contains("FROM account_limits")),
+            any(RowMapper.class),
+            any()))
         .thenReturn(List.of(accountLimit));
   }
 
   private static CreateOrderCommand command(OrderType type, BigDecimal qty, BigDecimal price) {
+    return command(UUID.randomUUID(), "BTCUSDT", type, qty, price);
+  }
+
+  private static CreateOrderCommand command(
+      UUID accountId, String instrument, OrderType type, BigDecimal qty, BigDecimal price) {
     return new CreateOrderCommand(
         UUID.randomUUID(),
-        UUID.randomUUID(),
-        "BTCUSDT",
+        accountId,
+        instrument,
         OrderSide.BUY,
         type,
         qty,
@@ -165,15 +312,20 @@ class JdbcRiskCheckServiceTest {
   }
 
   private static InstrumentRiskView activeInstrument() {
+    return activeInstrument("BTCUSDT", null);
+  }
+
+  private static InstrumentRiskView activeInstrument(String symbol, String quoteAsset) {
     return new InstrumentRiskView(
         UUID.randomUUID(),
-        "BTCUSDT",
+        symbol,
         "ACTIVE",
         new BigDecimal("50000"),
         new BigDecimal("0.10"),
         new BigDecimal("0.01"),
         new BigDecimal("0.01"),
         new BigDecimal("100"),
-        new BigDecimal("10"));
+        new BigDecimal("10"),
+        quoteAsset);
   }
 }
@@ -0,0 +1,343 @@
+package com.tradingplatform.tradingapi.wallet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.tradingplatform.domain.wallet.InsufficientBalanceException;
+import com.tradingplatform.domain.wallet.ReservationStatus;
+import com.tradingplatform.domain.wallet.WalletBalance;
+import com.tradingplatform.domain.wallet.WalletDomainException;
+import com.tradingplatform.domain.wallet.WalletReservation;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class WalletBalanceEngineTest {
+  private static final UUID ACCOUNT_ID = UUID.fromString("9f8d52a2-1a1e-4c5e-9a4e-0c3c7d1c2b10");
+
+  private final FakeJournalRepository journal = new FakeJournalRepository();
+  private final WalletRepository walletRepository = mock(WalletRepository.class);
+  private final Map<Thread, RuntimeException> callerErrors = new ConcurrentHashMap<>();
+  private WalletBalanceEngine engine;
+
+  @BeforeEach
+  void setUp() {
+    WalletEngineProperties properties = new WalletEngineProperties();
+    properties.setShards(2);
+    properties.setMaxStalenessMs(60_000L);
+    engine = new WalletBalanceEngine(walletRepository, journal, properties);
+  }
+
+  @AfterEach
+  void tearDown() {
+    engine.close();
+  }
+
+  @Test
+  void shouldReserveAndReleaseAgainstInMemoryBalance() {
+    journal.balance = balance("100");
+    UUID orderId = UUID.randomUUID();
+
+    WalletReservation reservation =
+        engine.reserve(ACCOUNT_ID, "USDT", new BigDecimal("60"), orderId);
+    InsufficientBalanceException rejected =
+        assertThrows(
+            InsufficientBalanceException.class,
+            () -> engine.reserve(ACCOUNT_ID, "USDT", new BigDecimal("41"), UUID.randomUUID()));
+    engine.release(orderId);
+    engine.reserve(ACCOUNT_ID, "USDT", new BigDecimal("100"), UUID.randomUUID());
+
+    assertEquals(ReservationStatus.ACTIVE, reservation.status());
+    assertEquals(new BigDecimal("40"), rejected.available());
+    assertEquals(
+        List.of(
+            WalletJournalEntry.Type.RESERVE,
+            WalletJournalEntry.Type.RELEASE,
+            WalletJournalEntry.Type.RESERVE),
+        journal.entries().stream().map(WalletJournalEntry::type).toList());
+    assertEquals(1, journal.balanceLoads.get());
+  }
+
+  @Test
+  void shouldNeverOversubscribeUnderConcurrentReserves() throws Exception {
+    journal.balance = balance("50");
+    ExecutorService callers = Executors.newFixedThreadPool(16);
+    List<Future<Boolean>> results = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      results.add(
+          callers.submit(
+              () -> {
+                try {
+                  engine.reserve(ACCOUNT_ID, "USDT", BigDecimal.ONE, UUID.randomUUID());
+                  return true;
+                } catch (InsufficientBalanceException ex) {
+                  return false;
+                }
+              }));
+    }
+    int accepted = 0;
+    for (Future<Boolean> result : results) {
+      accepted += result.get() ? 1 : 0;
+    }
+    callers.shutdown();
+
+    assertEquals(50, accepted);
+    assertEquals(50, journal.entries().size());
+    assertTrue(journal.batches.size() <= 50);
+  }
+
+  @Test
+  void shouldConsumeReservationPersistedBeforeEngineLoadedAccount() {
+    UUID orderId = UUID.randomUUID();
+    WalletReservation persisted =
+        new WalletReservation(
+            UUID.randomUUID(),
+            ACCOUNT_ID,
+            "USDT",
+            new BigDecimal("25"),
+            orderId,
+            ReservationStatus.ACTIVE,
+            Instant.parse("2026-02-24T12:00:00Z"),
+            null);
+    journal.balance =
+        new WalletBalance(
+            ACCOUNT_ID, "USDT", new BigDecimal("75"), new BigDecimal("25"), Instant.now());
+    journal.activeReservations = List.of(persisted);
+    when(walletRepository.findActiveReservationByOrderId(orderId))
+        .thenReturn(Optional.of(persisted), Optional.empty());
+
+    engine.consume(orderId);
+    engine.consume(orderId);
+
+    assertEquals(1, journal.entries().size());
+    assertEquals(WalletJournalEntry.Type.CONSUME, journal.entries().getFirst().type());
+    assertEquals(persisted.id(), journal.entries().getFirst().reservation().id());
+  }
+
+  @Test
+  void shouldFailCallersAndReloadAfterFlushFailure() {
+    journal.balance = balance("100");
+    journal.failNextAppend = true;
+
+    assertThrows(
+        IllegalStateException.class,
+        () -> engine.reserve(ACCOUNT_ID, "USDT", new BigDecimal("80"), UUID.randomUUID()));
+    engine.reserve(ACCOUNT_ID, "USDT", new BigDecimal("80"), UUID.randomUUID());
+
+    assertEquals(2, journal.balanceLoads.get());
+    assertEquals(1, journal.entries().size());
+  }
+
+  @Test
+  void shouldFailOnlyTheAccountWhoseEntriesCannotBeWritten() throws Exception {
+    WalletEngineProperties properties = new WalletEngineProperties();
+    properties.setShards(1);
+    properties.setMaxStalenessMs(60_000L);
+    WalletBalanceEngine singleShard =
+        new WalletBalanceEngine(walletRepository, journal, properties);
+    UUID failing = UUID.randomUUID();
+    UUID healthy = UUID.randomUUID();
+    journal.balance = balance("100");
+    journal.appendGate = new CountDownLatch(1);
+    try {
+      CompletableFuture<WalletReservation> first =
+          CompletableFuture.supplyAsync(
+              () -> singleShard.reserve(ACCOUNT_ID, "USDT", BigDecimal.ONE, UUID.randomUUID()));
+      assertTrue(journal.appendEntered.await(5, TimeUnit.SECONDS));
+      // Both reserves queue up behind the blocked flush and land in the same batch.
+      Thread failingCaller =
+          caller(() -> singleShard.reserve(failing, "USDT", BigDecimal.TEN, UUID.randomUUID()));
+      Thread healthyCaller =
+          caller(() -> singleShard.reserve(healthy, "USDT", BigDecimal.TEN, UUID.randomUUID()));
+      awaitWaiting(failingCaller);
+      awaitWaiting(healthyCaller);
+      journal.failingAccountId = failing;
+      journal.appendGate.countDown();
+      first.get(5, TimeUnit.SECONDS);
+      failingCaller.join(5_000L);
+      healthyCaller.join(5_000L);
+
+      assertTrue(callerErrors.get(failingCaller) instanceof IllegalStateException);
+      assertFalse(callerErrors.containsKey(healthyCaller));
+      assertEquals(
+          List.of(ACCOUNT_ID, healthy),
+          journal.entries().stream().map(entry -> entry.reservation().accountId()).toList());
+    } finally {
+      journal.appendGate.countDown();
+      singleShard.close();
+    }
+  }
+
+  @Test
+  void shouldReleaseOrphanedReservationsThroughTheEngine() {
+    journal.balance = balance("100");
+    UUID orderId = UUID.randomUUID();
+    engine.reserve(ACCOUNT_ID, "USDT", new BigDecimal("60"), orderId);
+    journal.orphanedOrderIds = List.of(orderId);
+    WalletEngineProperties properties = new WalletEngineProperties();
+
+    int released = new WalletReservationReaper(journal, engine, properties).reap();
+    engine.reserve(ACCOUNT_ID, "USDT", new BigDecimal("100"), UUID.randomUUID());
+
+    assertEquals(1, released);
+    assertEquals(
+        List.of(
+            WalletJournalEntry.Type.RESERVE,
+            WalletJournalEntry.Type.RELEASE,
+            WalletJournalEntry.Type.RESERVE),
+        journal.entries().stream().map(WalletJournalEntry::type).toList());
+  }
+
+  @Test
+  void shouldReloadBalanceWhenReleaseSettlesPartiallyFilledReservation() {
+    journal.balance = balance("100");
+    UUID orderId = UUID.randomUUID();
+    WalletReservation reservation =
+        engine.reserve(ACCOUNT_ID, "USDT", new BigDecimal("60"), orderId);
+    // A fill spent 20 of the reservation in the database; the release then returns the other 40.
+    journal.storedAmounts.put(reservation.id(), new BigDecimal("40"));
+    journal.balance =
+        new WalletBalance(ACCOUNT_ID, "USDT", new BigDecimal("80"), BigDecimal.ZERO, Instant.now());
+
+    engine.release(orderId);
+    InsufficientBalanceException rejected =
+        assertThrows(
+            InsufficientBalanceException.class,
+            () -> engine.reserve(ACCOUNT_ID, "USDT", new BigDecimal("90"), UUID.randomUUID()));
+
+    assertEquals(new BigDecimal("80"), rejected.available());
+    assertEquals(2, journal.balanceLoads.get());
+  }
+
+  @Test
+  void shouldRejectReserveWithoutBalanceRow() {
+    assertThrows(
+        WalletDomainException.class,
+        () -> engine.reserve(ACCOUNT_ID, "BTC", BigDecimal.ONE, UUID.randomUUID()));
+  }
+
+  private Thread caller(Runnable action) {
+    Thread thread =
+        new Thread(
+            () -> {
+              try {
+                action.run();
+              } catch (RuntimeException ex) {
+                callerErrors.put(Thread.currentThread(), ex);
+              }
+            });
+    thread.start();
+    return thread;
+  }
+
+  private static void awaitWaiting(Thread thread) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (thread.getState() != Thread.State.TIMED_WAITING && System.nanoTime() < deadline) {
+      Thread.sleep(5L);
+    }
+  }
+
+  private static WalletBalance balance(String available) {
+    return new WalletBalance(
+        ACCOUNT_ID, "USDT", new BigDecimal(available), BigDecimal.ZERO, Instant.now());
+  }
+
+  private static final class FakeJournalRepository implements WalletJournalRepository {
+    private volatile WalletBalance balance;
+    private volatile List<WalletReservation> activeReservations = List.of();
+    private volatile boolean failNextAppend;
+    private volatile UUID failingAccountId;
+    private volatile CountDownLatch appendGate;
+    private volatile List<UUID> orphanedOrderIds = List.of();
+    private final Map<UUID, BigDecimal> storedAmounts = new ConcurrentHashMap<>();
+    private final CountDownLatch appendEntered = new CountDownLatch(1);
+    private final AtomicInteger balanceLoads = new AtomicInteger();
+    private final List<List<WalletJournalEntry>> batches = new CopyOnWriteArrayList<>();
+
+    @Override
+    public Optional<WalletBalance> findBalance(UUID accountId, String asset) {
+      balanceLoads.incrementAndGet();
+      if (balance == null || !balance.asset().equals(asset)) {
+        return Optional.empty();
+      }
+      return Optional.of(
+          new WalletBalance(
+              accountId, asset, balance.available(), balance.reserved(), balance.updatedAt()));
+    }
+
+    @Override
+    public List<WalletReservation> findActiveReservations(UUID accountId, String asset) {
+      return activeReservations;
+    }
+
+    @Override
+    public List<UUID> findOrphanedReservations(long olderThanMs, int limit) {
+      return orphanedOrderIds;
+    }
+
+    @Override
+    public AppendResult append(List<WalletJournalEntry> entries) {
+      CountDownLatch gate = appendGate;
+      if (gate != null && appendEntered.getCount() > 0) {
+        appendEntered.countDown();
+        awaitGate(gate);
+      }
+      if (failNextAppend) {
+        failNextAppend = false;
+        throw new IllegalStateException("database unavailable");
+      }
+      if (entries.stream()
+          .anyMatch(entry -> entry.reservation().accountId().equals(failingAccountId))) {
+        throw new IllegalStateException("check constraint violated");
+      }
+      batches.add(entries);
+      Map<UUID, BigDecimal> closed = new HashMap<>();
+      for (WalletJournalEntry entry : entries) {
+        WalletReservation reservation = entry.reservation();
+        if (entry.type() != WalletJournalEntry.Type.RESERVE) {
+          closed.put(
+              reservation.id(), storedAmounts.getOrDefault(reservation.id(), reservation.amount()));
+        }
+      }
+      activeReservations =
+          activeReservations.stream()
+              .filter(reservation -> !closed.containsKey(reservation.id()))
+              .toList();
+      return new AppendResult(Set.of(), closed);
+    }
+
+    private static void awaitGate(CountDownLatch gate) {
+      try {
+        gate.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    private List<WalletJournalEntry> entries() {
+      return batches.stream().flatMap(List::stream).toList();
+    }
+  }
+}
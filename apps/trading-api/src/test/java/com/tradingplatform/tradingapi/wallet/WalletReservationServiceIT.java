@@ -2,6 +2,7 @@ package com.tradingplatform.tradingapi.wallet;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.tradingplatform.domain.wallet.InsufficientBalanceException;
 import com.tradingplatform.domain.wallet.WalletDomainException;
@@ -98,9 +99,7 @@ class WalletReservationServiceIT {
 
     String reservationStatus =
         jdbcTemplate.queryForObject(
-            "SELECT status FROM wallet_reservations WHERE order_id = ?",
-            String.class,
-            orderId);
+            "SELECT status FROM wallet_reservations WHERE order_id = ?", String.class, orderId);
     assertEquals("CANCELLED", reservationStatus);
   }
 
@@ -117,9 +116,7 @@ class WalletReservationServiceIT {
 
     String reservationStatus =
         jdbcTemplate.queryForObject(
-            "SELECT status FROM wallet_reservations WHERE order_id = ?",
-            String.class,
-            orderId);
+            "SELECT status FROM wallet_reservations WHERE order_id = ?", String.class, orderId);
     assertEquals("CONSUMED", reservationStatus);
   }
 
@@ -144,6 +141,71 @@ class WalletReservationServiceIT {
     assertEquals(0, BigDecimal.ZERO.compareTo((BigDecimal) balance.get("reserved")));
   }
 
+  @Test
+  void shouldReserveFromStripeAndReleaseBackToSameStripe() {
+    new JdbcWalletStripeRepository(jdbcTemplate).rebalance(accountId, "USDT", 3);
+    UUID orderId = UUID.randomUUID();
+
+    service.reserve(accountId, "USDT", new BigDecimal("200.00"), orderId);
+
+    Integer stripe =
+        jdbcTemplate.queryForObject(
+            "SELECT stripe FROM wallet_reservations WHERE order_id = ?", Integer.class, orderId);
+    assertTrue(stripe > 0);
+    Map<String, Object> consolidated = getConsolidatedBalance(accountId, "USDT");
+    assertEquals(0, new BigDecimal("800.00").compareTo((BigDecimal) consolidated.get("available")));
+    assertEquals(0, new BigDecimal("200.00").compareTo((BigDecimal) consolidated.get("reserved")));
+
+    service.release(orderId);
+
+    Map<String, Object> stripeRow =
+        jdbcTemplate.queryForMap(
+            """
+            SELECT available, reserved FROM wallet_balance_stripes
+            WHERE account_id = ? AND asset = ? AND stripe = ?
+            """,
+            accountId,
+            "USDT",
+            stripe);
+    assertEquals(0, new BigDecimal("250.00").compareTo((BigDecimal) stripeRow.get("available")));
+    assertEquals(0, BigDecimal.ZERO.compareTo((BigDecimal) stripeRow.get("reserved")));
+  }
+
+  @Test
+  void shouldDrainStripesWhenNoSingleStripeCoversReservation() {
+    new JdbcWalletStripeRepository(jdbcTemplate).rebalance(accountId, "USDT", 3);
+
+    service.reserve(accountId, "USDT", new BigDecimal("900.00"), UUID.randomUUID());
+
+    Map<String, Object> balance = getBalance(accountId, "USDT");
+    assertEquals(0, new BigDecimal("100.00").compareTo((BigDecimal) balance.get("available")));
+    assertEquals(0, new BigDecimal("900.00").compareTo((BigDecimal) balance.get("reserved")));
+    Map<String, Object> consolidated = getConsolidatedBalance(accountId, "USDT");
+    assertEquals(0, new BigDecimal("100.00").compareTo((BigDecimal) consolidated.get("available")));
+  }
+
+  @Test
+  void shouldFoldStripesBackIntoMainRow() {
+    JdbcWalletStripeRepository stripes = new JdbcWalletStripeRepository(jdbcTemplate);
+    stripes.rebalance(accountId, "USDT", 3);
+
+    stripes.rebalance(accountId, "USDT", 0);
+
+    Map<String, Object> balance = getBalance(accountId, "USDT");
+    assertEquals(0, new BigDecimal("1000.00").compareTo((BigDecimal) balance.get("available")));
+    assertTrue(stripes.findStripedWallets().isEmpty());
+  }
+
+  private Map<String, Object> getConsolidatedBalance(UUID balanceAccountId, String asset) {
+    return jdbcTemplate.queryForMap(
+        """
+        SELECT available, reserved FROM wallet_balances_consolidated
+        WHERE account_id = ? AND asset = ?
+        """,
+        balanceAccountId,
+        asset);
+  }
+
   private UUID createAccountWithBalance(String asset, BigDecimal available) {
     UUID userId = UUID.randomUUID();
     UUID createdAccountId = UUID.randomUUID();
@@ -0,0 +1,69 @@
+package com.tradingplatform.tradingapi.wallet;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.tradingplatform.tradingapi.wallet.WalletStripeRepository.WalletKey;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class WalletStripeCompactorTest {
+  private static final UUID HOT_ACCOUNT = UUID.fromString("5b7d0d4e-8d56-4a55-a8d6-3f7f2d7f9c01");
+  private static final UUID COLD_ACCOUNT = UUID.fromString("0c1b2f0e-3e5c-4b7e-9f0a-6f1d2c3b4a50");
+
+  private final WalletStripeRepository repository = mock(WalletStripeRepository.class);
+
+  @Test
+  void shouldStripeHotWalletsAndFoldTheRest() {
+    when(repository.findStripedWallets())
+        .thenReturn(
+            List.of(new WalletKey(HOT_ACCOUNT, "USDT"), new WalletKey(COLD_ACCOUNT, "USDT")));
+    WalletStripeCompactor compactor = compactor(List.of(HOT_ACCOUNT + ": usdt"));
+
+    compactor.compact();
+
+    verify(repository).rebalance(HOT_ACCOUNT, "USDT", 4);
+    verify(repository).rebalance(COLD_ACCOUNT, "USDT", 0);
+    verify(repository, never()).rebalance(HOT_ACCOUNT, "USDT", 0);
+  }
+
+  @Test
+  void shouldKeepCompactingWhenOneWalletFails() {
+    when(repository.findStripedWallets()).thenReturn(List.of(new WalletKey(COLD_ACCOUNT, "BTC")));
+    doThrow(new IllegalStateException("lock timeout"))
+        .when(repository)
+        .rebalance(HOT_ACCOUNT, "USDT", 4);
+    WalletStripeCompactor compactor = compactor(List.of(HOT_ACCOUNT + ":USDT"));
+
+    compactor.compact();
+
+    verify(repository).rebalance(COLD_ACCOUNT, "BTC", 0);
+  }
+
+  @Test
+  void shouldRejectMalformedHotWallet() {
+    assertThrows(IllegalArgumentException.class, () -> compactor(List.of("USDT")));
+  }
+
+  @Test
+  void shouldRefuseToRunAlongsideBalanceEngine() {
+    WalletEngineProperties engineProperties = new WalletEngineProperties();
+    engineProperties.setEnabled(true);
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new WalletStripeCompactor(repository, new WalletStripeProperties(), engineProperties));
+  }
+
+  private WalletStripeCompactor compactor(List<String> hotWallets) {
+    WalletStripeProperties properties = new WalletStripeProperties();
+    properties.setHotWallets(hotWallets);
+    return new WalletStripeCompactor(repository, properties, new WalletEngineProperties());
+  }
+}
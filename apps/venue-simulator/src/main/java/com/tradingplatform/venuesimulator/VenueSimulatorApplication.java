@@ -0,0 +1,11 @@
+package com.tradingplatform.venuesimulator;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class VenueSimulatorApplication {
+  public static void main(String[] args) {
+    SpringApplication.run(VenueSimulatorApplication.class, args);
+  }
+}
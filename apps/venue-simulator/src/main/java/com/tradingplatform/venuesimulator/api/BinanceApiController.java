@@ -0,0 +1,197 @@
+package com.tradingplatform.venuesimulator.api;
+
+import com.tradingplatform.venuesimulator.venue.SimulatedOrder;
+import com.tradingplatform.venuesimulator.venue.SimulatedTrade;
+import com.tradingplatform.venuesimulator.venue.SimulatedVenue;
+import com.tradingplatform.venuesimulator.venue.SimulatorProperties;
+import com.tradingplatform.venuesimulator.venue.VenueRejectedException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Binance spot REST surface used by the connector. Signatures are accepted as-is; only the API key
+ * header is required, so any key/secret pair works against the simulator.
+ */
+@RestController
+@RequestMapping("/api/v3")
+public class BinanceApiController {
+  private static final String API_KEY_HEADER = "X-MBX-APIKEY";
+
+  private final SimulatedVenue venue;
+  private final UserStreamRegistry userStreamRegistry;
+  private final SimulatorProperties properties;
+
+  public BinanceApiController(
+      SimulatedVenue venue, UserStreamRegistry userStreamRegistry, SimulatorProperties properties) {
+    this.venue = venue;
+    this.userStreamRegistry = userStreamRegistry;
+    this.properties = properties;
+  }
+
+  @GetMapping("/time")
+  public Map<String, Object> serverTime() {
+    return Map.of("serverTime", Instant.now().toEpochMilli());
+  }
+
+  @PostMapping("/order")
+  public Map<String, Object> newOrder(
+      @RequestHeader(value = API_KEY_HEADER, required = false) String apiKey,
+      @RequestParam("symbol") String symbol,
+      @RequestParam("side") String side,
+      @RequestParam("type") String type,
+      @RequestParam("quantity") BigDecimal quantity,
+      @RequestParam(value = "price", required = false) BigDecimal price,
+      @RequestParam(value = "newClientOrderId", required = false) String newClientOrderId) {
+    requireApiKey(apiKey);
+    simulateLatency();
+    SimulatedOrder order = venue.submit(symbol, side, type, quantity, price, newClientOrderId);
+    return toOrderResponse(order);
+  }
+
+  @GetMapping("/order")
+  public Map<String, Object> queryOrder(
+      @RequestHeader(value = API_KEY_HEADER, required = false) String apiKey,
+      @RequestParam("symbol") String symbol,
+      @RequestParam(value = "orderId", required = false) Long orderId,
+      @RequestParam(value = "origClientOrderId", required = false) String origClientOrderId) {
+    requireApiKey(apiKey);
+    simulateLatency();
+    return toOrderResponse(venue.find(symbol, orderId, origClientOrderId));
+  }
+
+  @DeleteMapping("/order")
+  public Map<String, Object> cancelOrder(
+      @RequestHeader(value = API_KEY_HEADER, required = false) String apiKey,
+      @RequestParam("symbol") String symbol,
+      @RequestParam(value = "orderId", required = false) Long orderId,
+      @RequestParam(value = "origClientOrderId", required = false) String origClientOrderId) {
+    requireApiKey(apiKey);
+    simulateLatency();
+    return toOrderResponse(venue.cancel(symbol, orderId, origClientOrderId));
+  }
+
+  @GetMapping("/openOrders")
+  public List<Map<String, Object>> openOrders(
+      @RequestHeader(value = API_KEY_HEADER, required = false) String apiKey,
+      @RequestParam(value = "symbol", required = false) String symbol) {
+    requireApiKey(apiKey);
+    simulateLatency();
+    return venue.openOrders(symbol).stream().map(BinanceApiController::toOrderResponse).toList();
+  }
+
+  @GetMapping("/myTrades")
+  public List<Map<String, Object>> myTrades(
+      @RequestHeader(value = API_KEY_HEADER, required = false) String apiKey,
+      @RequestParam("symbol") String symbol,
+      @RequestParam(value = "startTime", required = false) Long startTime) {
+    requireApiKey(apiKey);
+    simulateLatency();
+    Instant from = startTime == null ? null : Instant.ofEpochMilli(startTime);
+    return venue.trades(symbol, from).stream().map(BinanceApiController::toTradeResponse).toList();
+  }
+
+  @PostMapping("/userDataStream")
+  public Map<String, Object> createListenKey(
+      @RequestHeader(value = API_KEY_HEADER, required = false) String apiKey) {
+    requireApiKey(apiKey);
+    simulateLatency();
+    return Map.of("listenKey", userStreamRegistry.createListenKey());
+  }
+
+  @PutMapping("/userDataStream")
+  public Map<String, Object> keepAliveListenKey(
+      @RequestHeader(value = API_KEY_HEADER, required = false) String apiKey,
+      @RequestParam("listenKey") String listenKey) {
+    requireApiKey(apiKey);
+    simulateLatency();
+    userStreamRegistry.keepAlive(listenKey);
+    return Map.of();
+  }
+
+  @DeleteMapping("/userDataStream")
+  public Map<String, Object> closeListenKey(
+      @RequestHeader(value = API_KEY_HEADER, required = false) String apiKey,
+      @RequestParam("listenKey") String listenKey) {
+    requireApiKey(apiKey);
+    simulateLatency();
+    userStreamRegistry.closeListenKey(listenKey);
+    return Map.of();
+  }
+
+  @ExceptionHandler(VenueRejectedException.class)
+  public ResponseEntity<Map<String, Object>> handleRejected(VenueRejectedException ex) {
+    ResponseEntity.BodyBuilder response = ResponseEntity.status(ex.httpStatus());
+    if (ex.httpStatus() == 429) {
+      response.header(
+          HttpHeaders.RETRY_AFTER, Long.toString(properties.getRateLimit().getRetryAfterSeconds()));
+    }
+    return response.body(Map.of("code", ex.code(), "msg", ex.getMessage()));
+  }
+
+  private void simulateLatency() {
+    long latencyMs = venue.nextLatencyMs();
+    if (latencyMs <= 0L) {
+      return;
+    }
+    try {
+      Thread.sleep(latencyMs);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void requireApiKey(String apiKey) {
+    if (apiKey == null || apiKey.isBlank()) {
+      throw new VenueRejectedException(401, -2014, "API-key format invalid.");
+    }
+  }
+
+  private static Map<String, Object> toOrderResponse(SimulatedOrder order) {
+    Map<String, Object> response = new LinkedHashMap<>();
+    response.put("symbol", order.symbol());
+    response.put("orderId", order.orderId());
+    response.put("orderListId", -1);
+    response.put("clientOrderId", order.clientOrderId());
+    response.put("transactTime", order.transactTime().toEpochMilli());
+    response.put("price", order.price() == null ? "0" : order.price().toPlainString());
+    response.put("origQty", order.origQty().toPlainString());
+    response.put("executedQty", order.executedQty().toPlainString());
+    response.put("status", order.status());
+    response.put("timeInForce", "GTC");
+    response.put("type", order.type());
+    response.put("side", order.side());
+    response.put("updateTime", order.updateTime().toEpochMilli());
+    return response;
+  }
+
+  private static Map<String, Object> toTradeResponse(SimulatedTrade trade) {
+    Map<String, Object> response = new LinkedHashMap<>();
+    response.put("symbol", trade.symbol());
+    response.put("id", trade.id());
+    response.put("orderId", trade.orderId());
+    response.put("price", trade.price().toPlainString());
+    response.put("qty", trade.qty().toPlainString());
+    response.put("quoteQty", trade.price().multiply(trade.qty()).toPlainString());
+    response.put("commission", trade.commission().toPlainString());
+    response.put("commissionAsset", trade.commissionAsset());
+    response.put("time", trade.time().toEpochMilli());
+    response.put("isBuyer", "BUY".equals(trade.side()));
+    response.put("isMaker", false);
+    response.put("isBestMatch", true);
+    return response;
+  }
+}
@@ -0,0 +1,158 @@
+package com.tradingplatform.venuesimulator.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tradingplatform.venuesimulator.venue.ExecutionReport;
+import com.tradingplatform.venuesimulator.venue.ExecutionReportListener;
+import com.tradingplatform.venuesimulator.venue.SimulatorProperties;
+import com.tradingplatform.venuesimulator.venue.VenueRejectedException;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+/** Listen keys and live user data stream sessions; fans execution reports out to every session. */
+@Component
+public class UserStreamRegistry implements ExecutionReportListener {
+  private static final Logger log = LoggerFactory.getLogger(UserStreamRegistry.class);
+
+  private final ObjectMapper objectMapper;
+  private final Set<String> listenKeys = ConcurrentHashMap.newKeySet();
+  private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+  private final ScheduledExecutorService disconnector;
+
+  public UserStreamRegistry(ObjectMapper objectMapper, SimulatorProperties properties) {
+    this.objectMapper = objectMapper;
+    long disconnectIntervalMs = properties.getUserStream().getDisconnectIntervalMs();
+    if (disconnectIntervalMs > 0L) {
+      disconnector = Executors.newSingleThreadScheduledExecutor();
+      disconnector.scheduleAtFixedRate(
+          this::disconnectAll, disconnectIntervalMs, disconnectIntervalMs, TimeUnit.MILLISECONDS);
+    } else {
+      disconnector = null;
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (disconnector != null) {
+      disconnector.shutdownNow();
+    }
+  }
+
+  public String createListenKey() {
+    String listenKey = UUID.randomUUID().toString().replace("-", "");
+    listenKeys.add(listenKey);
+    return listenKey;
+  }
+
+  public void keepAlive(String listenKey) {
+    requireListenKey(listenKey);
+  }
+
+  public void closeListenKey(String listenKey) {
+    requireListenKey(listenKey);
+    listenKeys.remove(listenKey);
+    sessions.values().stream()
+        .filter(session -> listenKey.equals(session.getAttributes().get("listenKey")))
+        .forEach(session -> close(session, CloseStatus.NORMAL));
+  }
+
+  public boolean isKnown(String listenKey) {
+    return listenKey != null && listenKeys.contains(listenKey);
+  }
+
+  void register(WebSocketSession session) {
+    sessions.put(session.getId(), session);
+  }
+
+  void unregister(WebSocketSession session) {
+    sessions.remove(session.getId());
+  }
+
+  @Override
+  public void onExecutionReport(ExecutionReport report) {
+    if (sessions.isEmpty()) {
+      return;
+    }
+    TextMessage message = new TextMessage(toJson(report));
+    for (WebSocketSession session : sessions.values()) {
+      try {
+        synchronized (session) {
+          session.sendMessage(message);
+        }
+      } catch (IOException | IllegalStateException ex) {
+        log.debug("Dropping user stream session={} after send failure", session.getId(), ex);
+        unregister(session);
+      }
+    }
+  }
+
+  private void disconnectAll() {
+    int closed = sessions.size();
+    sessions.values().forEach(session -> close(session, CloseStatus.SERVICE_RESTARTED));
+    if (closed > 0) {
+      log.info("Simulated user stream disconnect sessions={}", closed);
+    }
+  }
+
+  private void close(WebSocketSession session, CloseStatus status) {
+    unregister(session);
+    try {
+      session.close(status);
+    } catch (IOException ex) {
+      log.debug("Failed to close user stream session={}", session.getId(), ex);
+    }
+  }
+
+  private void requireListenKey(String listenKey) {
+    if (!isKnown(listenKey)) {
+      throw new VenueRejectedException(400, -1125, "This listenKey does not exist.");
+    }
+  }
+
+  private String toJson(ExecutionReport report) {
+    Map<String, Object> payload = new LinkedHashMap<>();
+    payload.put("e", "executionReport");
+    payload.put("E", report.eventTime().toEpochMilli());
+    payload.put("s", report.symbol());
+    payload.put("c", report.clientOrderId());
+    payload.put("S", report.side());
+    payload.put("o", report.type());
+    payload.put("f", "GTC");
+    payload.put("q", decimal(report.qty()));
+    payload.put("p", decimal(report.price()));
+    payload.put("x", report.executionType());
+    payload.put("X", report.status());
+    payload.put("i", report.orderId());
+    payload.put("l", decimal(report.lastQty()));
+    payload.put("z", decimal(report.cumulativeQty()));
+    payload.put("L", decimal(report.lastPrice()));
+    payload.put("n", decimal(report.commission()));
+    payload.put("N", report.commissionAsset());
+    payload.put("T", report.transactTime().toEpochMilli());
+    payload.put("t", report.tradeId());
+    try {
+      return objectMapper.writeValueAsString(payload);
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("Failed to serialize execution report", ex);
+    }
+  }
+
+  private static String decimal(BigDecimal value) {
+    return value.toPlainString();
+  }
+}
@@ -0,0 +1,32 @@
+package com.tradingplatform.venuesimulator.api;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+@Component
+public class UserStreamWebSocketHandler extends TextWebSocketHandler {
+  private final UserStreamRegistry registry;
+
+  public UserStreamWebSocketHandler(UserStreamRegistry registry) {
+    this.registry = registry;
+  }
+
+  @Override
+  public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+    String path = session.getUri() == null ? "" : session.getUri().getPath();
+    String listenKey = path.substring(path.lastIndexOf('/') + 1);
+    if (!registry.isKnown(listenKey)) {
+      session.close(CloseStatus.POLICY_VIOLATION.withReason("unknown listenKey"));
+      return;
+    }
+    session.getAttributes().put("listenKey", listenKey);
+    registry.register(session);
+  }
+
+  @Override
+  public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+    registry.unregister(session);
+  }
+}
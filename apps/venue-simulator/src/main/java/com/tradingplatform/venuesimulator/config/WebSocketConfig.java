@@ -0,0 +1,22 @@
+package com.tradingplatform.venuesimulator.config;
+
+import com.tradingplatform.venuesimulator.api.UserStreamWebSocketHandler;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+@Configuration
+@EnableWebSocket
+public class WebSocketConfig implements WebSocketConfigurer {
+  private final UserStreamWebSocketHandler userStreamWebSocketHandler;
+
+  public WebSocketConfig(UserStreamWebSocketHandler userStreamWebSocketHandler) {
+    this.userStreamWebSocketHandler = userStreamWebSocketHandler;
+  }
+
+  @Override
+  public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+    registry.addHandler(userStreamWebSocketHandler, "/ws/*").setAllowedOriginPatterns("*");
+  }
+}
@@ -0,0 +1,23 @@
+package com.tradingplatform.venuesimulator.venue;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public record ExecutionReport(
+    Instant eventTime,
+    String symbol,
+    String clientOrderId,
+    String side,
+    String type,
+    BigDecimal qty,
+    BigDecimal price,
+    String executionType,
+    String status,
+    long orderId,
+    BigDecimal lastQty,
+    BigDecimal lastPrice,
+    BigDecimal cumulativeQty,
+    BigDecimal commission,
+    String commissionAsset,
+    Instant transactTime,
+    long tradeId) {}
@@ -0,0 +1,5 @@
+package com.tradingplatform.venuesimulator.venue;
+
+public interface ExecutionReportListener {
+  void onExecutionReport(ExecutionReport report);
+}
@@ -0,0 +1,59 @@
+package com.tradingplatform.venuesimulator.venue;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Derives each order's fill schedule from the simulator seed and the venue order id only, so a
+ * replayed run produces the same fills regardless of thread interleaving.
+ */
+final class FillPlanner {
+  private final long seed;
+  private final SimulatorProperties.Fills fills;
+
+  FillPlanner(long seed, SimulatorProperties.Fills fills) {
+    this.seed = seed;
+    this.fills = fills;
+  }
+
+  List<FillStep> plan(long orderId, BigDecimal qty) {
+    SplittableRandom random = new SplittableRandom(seed * 31L + orderId);
+    if (random.nextDouble() < fills.getUnfilledProbability()) {
+      return List.of();
+    }
+    int maxFills = Math.max(1, fills.getMaxPartialFills());
+    int count =
+        maxFills > 1 && random.nextDouble() < fills.getPartialFillProbability()
+            ? 2 + random.nextInt(maxFills - 1)
+            : 1;
+
+    double[] weights = new double[count];
+    double totalWeight = 0d;
+    for (int i = 0; i < count; i++) {
+      weights[i] = 0.1d + random.nextDouble();
+      totalWeight += weights[i];
+    }
+
+    List<FillStep> steps = new ArrayList<>(count);
+    BigDecimal remaining = qty;
+    for (int i = 0; i < count && remaining.signum() > 0; i++) {
+      BigDecimal chunk =
+          i == count - 1
+              ? remaining
+              : qty.multiply(BigDecimal.valueOf(weights[i] / totalWeight))
+                  .setScale(qty.scale(), RoundingMode.DOWN);
+      if (chunk.signum() <= 0) {
+        continue;
+      }
+      remaining = remaining.subtract(chunk);
+      steps.add(
+          new FillStep(fills.getFirstFillDelayMs() + (long) i * fills.getIntervalMs(), chunk));
+    }
+    return steps;
+  }
+
+  record FillStep(long delayMs, BigDecimal qty) {}
+}
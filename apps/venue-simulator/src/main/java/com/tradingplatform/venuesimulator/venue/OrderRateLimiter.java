@@ -0,0 +1,28 @@
+package com.tradingplatform.venuesimulator.venue;
+
+/** Fixed one-second window, mirroring Binance's per-second order count limit. */
+final class OrderRateLimiter {
+  private final int ordersPerSecond;
+  private long windowStartMs = Long.MIN_VALUE;
+  private int count;
+
+  OrderRateLimiter(int ordersPerSecond) {
+    this.ordersPerSecond = ordersPerSecond;
+  }
+
+  synchronized boolean tryAcquire(long nowMs) {
+    if (ordersPerSecond <= 0) {
+      return true;
+    }
+    long window = nowMs - Math.floorMod(nowMs, 1_000L);
+    if (window != windowStartMs) {
+      windowStartMs = window;
+      count = 0;
+    }
+    if (count >= ordersPerSecond) {
+      return false;
+    }
+    count++;
+    return true;
+  }
+}
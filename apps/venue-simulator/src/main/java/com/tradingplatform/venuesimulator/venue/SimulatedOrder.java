@@ -0,0 +1,105 @@
+package com.tradingplatform.venuesimulator.venue;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public class SimulatedOrder {
+  private final long orderId;
+  private final String symbol;
+  private final String clientOrderId;
+  private final String side;
+  private final String type;
+  private final BigDecimal origQty;
+  private final BigDecimal price;
+  private final Instant transactTime;
+  private BigDecimal executedQty = BigDecimal.ZERO;
+  private String status = "NEW";
+  private Instant updateTime;
+
+  SimulatedOrder(
+      long orderId,
+      String symbol,
+      String clientOrderId,
+      String side,
+      String type,
+      BigDecimal origQty,
+      BigDecimal price,
+      Instant transactTime) {
+    this.orderId = orderId;
+    this.symbol = symbol;
+    this.clientOrderId = clientOrderId;
+    this.side = side;
+    this.type = type;
+    this.origQty = origQty;
+    this.price = price;
+    this.transactTime = transactTime;
+    this.updateTime = transactTime;
+  }
+
+  public long orderId() {
+    return orderId;
+  }
+
+  public String symbol() {
+    return symbol;
+  }
+
+  public String clientOrderId() {
+    return clientOrderId;
+  }
+
+  public String side() {
+    return side;
+  }
+
+  public String type() {
+    return type;
+  }
+
+  public BigDecimal origQty() {
+    return origQty;
+  }
+
+  public BigDecimal price() {
+    return price;
+  }
+
+  public Instant transactTime() {
+    return transactTime;
+  }
+
+  public synchronized BigDecimal executedQty() {
+    return executedQty;
+  }
+
+  public synchronized String status() {
+    return status;
+  }
+
+  public synchronized Instant updateTime() {
+    return updateTime;
+  }
+
+  public synchronized boolean isOpen() {
+    return "NEW".equals(status) || "PARTIALLY_FILLED".equals(status);
+  }
+
+  synchronized boolean applyFill(BigDecimal qty, Instant at) {
+    if (!isOpen()) {
+      return false;
+    }
+    executedQty = executedQty.add(qty);
+    status = executedQty.compareTo(origQty) >= 0 ? "FILLED" : "PARTIALLY_FILLED";
+    updateTime = at;
+    return true;
+  }
+
+  synchronized boolean cancel(Instant at) {
+    if (!isOpen()) {
+      return false;
+    }
+    status = "CANCELED";
+    updateTime = at;
+    return true;
+  }
+}
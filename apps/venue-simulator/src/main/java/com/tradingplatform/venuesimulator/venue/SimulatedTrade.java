@@ -0,0 +1,15 @@
+package com.tradingplatform.venuesimulator.venue;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public record SimulatedTrade(
+    long id,
+    long orderId,
+    String symbol,
+    String side,
+    BigDecimal price,
+    BigDecimal qty,
+    BigDecimal commission,
+    String commissionAsset,
+    Instant time) {}
@@ -0,0 +1,275 @@
+package com.tradingplatform.venuesimulator.venue;
+
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory spot venue. Every accepted order is filled on a schedule derived from the configured
+ * seed, and each state change is pushed to the registered execution report listeners.
+ */
+@Component
+public class SimulatedVenue {
+  private static final Set<String> SIDES = Set.of("BUY", "SELL");
+  private static final Set<String> TYPES = Set.of("LIMIT", "MARKET");
+  private static final List<String> KNOWN_QUOTE_ASSETS =
+      List.of("USDT", "USDC", "BUSD", "FDUSD", "BTC", "ETH", "BNB", "EUR", "TRY");
+
+  private final SimulatorProperties properties;
+  private final List<ExecutionReportListener> listeners;
+  private final Clock clock;
+  private final ScheduledExecutorService scheduler;
+  private final FillPlanner fillPlanner;
+  private final OrderRateLimiter rateLimiter;
+  private final AtomicLong orderIds = new AtomicLong();
+  private final AtomicLong tradeIds = new AtomicLong();
+  private final AtomicLong requestSequence = new AtomicLong();
+  private final Map<Long, SimulatedOrder> orders = new ConcurrentHashMap<>();
+  private final Map<String, SimulatedOrder> ordersByClientId = new ConcurrentHashMap<>();
+  private final ConcurrentLinkedQueue<SimulatedTrade> trades = new ConcurrentLinkedQueue<>();
+
+  @Autowired
+  public SimulatedVenue(SimulatorProperties properties, List<ExecutionReportListener> listeners) {
+    this(
+        properties,
+        listeners,
+        Clock.systemUTC(),
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "venue-fills");
+              thread.setDaemon(true);
+              return thread;
+            }));
+  }
+
+  SimulatedVenue(
+      SimulatorProperties properties,
+      List<ExecutionReportListener> listeners,
+      Clock clock,
+      ScheduledExecutorService scheduler) {
+    this.properties = properties;
+    this.listeners = List.copyOf(listeners);
+    this.clock = clock;
+    this.scheduler = scheduler;
+    this.fillPlanner = new FillPlanner(properties.getSeed(), properties.getFills());
+    this.rateLimiter = new OrderRateLimiter(properties.getRateLimit().getOrdersPerSecond());
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    scheduler.shutdownNow();
+  }
+
+  /** Response delay for the next REST call, drawn from the seeded latency range. */
+  public long nextLatencyMs() {
+    SimulatorProperties.Latency latency = properties.getLatency();
+    long min = Math.max(0L, latency.getMinMs());
+    long max = Math.max(min, latency.getMaxMs());
+    if (max == min) {
+      return min;
+    }
+    long sequence = requestSequence.incrementAndGet();
+    return new SplittableRandom(properties.getSeed() ^ (sequence * 0x9E3779B97F4A7C15L))
+        .nextLong(min, max + 1);
+  }
+
+  public SimulatedOrder submit(
+      String symbol,
+      String side,
+      String type,
+      BigDecimal quantity,
+      BigDecimal price,
+      String newClientOrderId) {
+    Instant now = clock.instant();
+    if (!rateLimiter.tryAcquire(now.toEpochMilli())) {
+      throw new VenueRejectedException(
+          429,
+          -1015,
+          "Too many new orders; current limit is "
+              + properties.getRateLimit().getOrdersPerSecond()
+              + " orders per SECOND.");
+    }
+    requireText(symbol, "symbol");
+    if (!SIDES.contains(side)) {
+      throw new VenueRejectedException(400, -1102, "Invalid side.");
+    }
+    if (!TYPES.contains(type)) {
+      throw new VenueRejectedException(400, -1116, "Invalid orderType.");
+    }
+    if (quantity == null || quantity.signum() <= 0) {
+      throw new VenueRejectedException(400, -1013, "Invalid quantity.");
+    }
+    if ("LIMIT".equals(type) && (price == null || price.signum() <= 0)) {
+      throw new VenueRejectedException(400, -1013, "Invalid price.");
+    }
+
+    long orderId = orderIds.incrementAndGet();
+    String clientOrderId =
+        newClientOrderId == null || newClientOrderId.isBlank()
+            ? "sim-" + orderId
+            : newClientOrderId;
+    SimulatedOrder order =
+        new SimulatedOrder(
+            orderId,
+            symbol,
+            clientOrderId,
+            side,
+            type,
+            quantity,
+            "LIMIT".equals(type) ? price : null,
+            now);
+    SimulatedOrder existing = ordersByClientId.putIfAbsent(clientOrderId, order);
+    if (existing != null && existing.isOpen()) {
+      throw new VenueRejectedException(400, -2010, "Duplicate order sent.");
+    }
+    if (existing != null) {
+      ordersByClientId.put(clientOrderId, order);
+    }
+    orders.put(orderId, order);
+    publish(order, "NEW", null, null, null, now, -1L);
+
+    BigDecimal fillPrice = order.price() != null ? order.price() : marketPrice(symbol);
+    for (FillPlanner.FillStep step : fillPlanner.plan(orderId, quantity)) {
+      scheduler.schedule(
+          () -> fill(order, step.qty(), fillPrice), step.delayMs(), TimeUnit.MILLISECONDS);
+    }
+    return order;
+  }
+
+  public SimulatedOrder find(String symbol, Long orderId, String clientOrderId) {
+    SimulatedOrder order =
+        orderId != null
+            ? orders.get(orderId)
+            : clientOrderId == null ? null : ordersByClientId.get(clientOrderId);
+    if (order == null || !order.symbol().equals(symbol)) {
+      throw new VenueRejectedException(400, -2013, "Order does not exist.");
+    }
+    return order;
+  }
+
+  public SimulatedOrder cancel(String symbol, Long orderId, String clientOrderId) {
+    SimulatedOrder order;
+    try {
+      order = find(symbol, orderId, clientOrderId);
+    } catch (VenueRejectedException ex) {
+      throw new VenueRejectedException(400, -2011, "Unknown order sent.");
+    }
+    Instant now = clock.instant();
+    if (!order.cancel(now)) {
+      throw new VenueRejectedException(400, -2011, "Unknown order sent.");
+    }
+    publish(order, "CANCELED", null, null, null, now, -1L);
+    return order;
+  }
+
+  public List<SimulatedOrder> openOrders(String symbol) {
+    return orders.values().stream()
+        .filter(SimulatedOrder::isOpen)
+        .filter(order -> symbol == null || symbol.equals(order.symbol()))
+        .sorted(Comparator.comparingLong(SimulatedOrder::orderId))
+        .toList();
+  }
+
+  public List<SimulatedTrade> trades(String symbol, Instant fromInclusive) {
+    requireText(symbol, "symbol");
+    return trades.stream()
+        .filter(trade -> trade.symbol().equals(symbol))
+        .filter(trade -> fromInclusive == null || !trade.time().isBefore(fromInclusive))
+        .sorted(Comparator.comparingLong(SimulatedTrade::id))
+        .toList();
+  }
+
+  private void fill(SimulatedOrder order, BigDecimal qty, BigDecimal price) {
+    Instant now = clock.instant();
+    if (!order.applyFill(qty, now)) {
+      return;
+    }
+    String commissionAsset = quoteAsset(order.symbol());
+    BigDecimal commission =
+        qty.multiply(price)
+            .multiply(properties.getFills().getFeeRate())
+            .setScale(8, RoundingMode.HALF_UP);
+    long tradeId = tradeIds.incrementAndGet();
+    trades.add(
+        new SimulatedTrade(
+            tradeId,
+            order.orderId(),
+            order.symbol(),
+            order.side(),
+            price,
+            qty,
+            commission,
+            commissionAsset,
+            now));
+    publish(order, "TRADE", qty, price, commission, now, tradeId);
+  }
+
+  private void publish(
+      SimulatedOrder order,
+      String executionType,
+      BigDecimal lastQty,
+      BigDecimal lastPrice,
+      BigDecimal commission,
+      Instant at,
+      long tradeId) {
+    ExecutionReport report =
+        new ExecutionReport(
+            at,
+            order.symbol(),
+            order.clientOrderId(),
+            order.side(),
+            order.type(),
+            order.origQty(),
+            order.price() == null ? BigDecimal.ZERO : order.price(),
+            executionType,
+            order.status(),
+            order.orderId(),
+            lastQty == null ? BigDecimal.ZERO : lastQty,
+            lastPrice == null ? BigDecimal.ZERO : lastPrice,
+            order.executedQty(),
+            commission == null ? BigDecimal.ZERO : commission,
+            commission == null ? null : quoteAsset(order.symbol()),
+            at,
+            tradeId);
+    for (ExecutionReportListener listener : listeners) {
+      listener.onExecutionReport(report);
+    }
+  }
+
+  private BigDecimal marketPrice(String symbol) {
+    return properties.getMarketPrices().getOrDefault(symbol, properties.getDefaultMarketPrice());
+  }
+
+  private static String quoteAsset(String symbol) {
+    for (String quote : KNOWN_QUOTE_ASSETS) {
+      if (symbol.endsWith(quote) && symbol.length() > quote.length()) {
+        return quote;
+      }
+    }
+    return "USDT";
+  }
+
+  private static void requireText(String value, String fieldName) {
+    if (value == null || value.isBlank()) {
+      throw new VenueRejectedException(
+          400,
+          -1102,
+          "Mandatory parameter '" + fieldName + "' was not sent, was empty/null, or malformed.");
+    }
+  }
+}
@@ -0,0 +1,186 @@
+package com.tradingplatform.venuesimulator.venue;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "simulator")
+public class SimulatorProperties {
+  private long seed = 42L;
+  private Latency latency = new Latency();
+  private Fills fills = new Fills();
+  private RateLimit rateLimit = new RateLimit();
+  private UserStream userStream = new UserStream();
+  private BigDecimal defaultMarketPrice = new BigDecimal("100");
+  private Map<String, BigDecimal> marketPrices = new LinkedHashMap<>();
+
+  public long getSeed() {
+    return seed;
+  }
+
+  public void setSeed(long seed) {
+    this.seed = seed;
+  }
+
+  public Latency getLatency() {
+    return latency;
+  }
+
+  public void setLatency(Latency latency) {
+    this.latency = latency;
+  }
+
+  public Fills getFills() {
+    return fills;
+  }
+
+  public void setFills(Fills fills) {
+    this.fills = fills;
+  }
+
+  public RateLimit getRateLimit() {
+    return rateLimit;
+  }
+
+  public void setRateLimit(RateLimit rateLimit) {
+    this.rateLimit = rateLimit;
+  }
+
+  public UserStream getUserStream() {
+    return userStream;
+  }
+
+  public void setUserStream(UserStream userStream) {
+    this.userStream = userStream;
+  }
+
+  public BigDecimal getDefaultMarketPrice() {
+    return defaultMarketPrice;
+  }
+
+  public void setDefaultMarketPrice(BigDecimal defaultMarketPrice) {
+    this.defaultMarketPrice = defaultMarketPrice;
+  }
+
+  public Map<String, BigDecimal> getMarketPrices() {
+    return marketPrices;
+  }
+
+  public void setMarketPrices(Map<String, BigDecimal> marketPrices) {
+    this.marketPrices = marketPrices;
+  }
+
+  public static class Latency {
+    private long minMs = 0L;
+    private long maxMs = 0L;
+
+    public long getMinMs() {
+      return minMs;
+    }
+
+    public void setMinMs(long minMs) {
+      this.minMs = minMs;
+    }
+
+    public long getMaxMs() {
+      return maxMs;
+    }
+
+    public void setMaxMs(long maxMs) {
+      this.maxMs = maxMs;
+    }
+  }
+
+  public static class Fills {
+    private long firstFillDelayMs = 20L;
+    private long intervalMs = 10L;
+    private double partialFillProbability = 0.3d;
+    private int maxPartialFills = 4;
+    private double unfilledProbability = 0.0d;
+    private BigDecimal feeRate = new BigDecimal("0.001");
+
+    public long getFirstFillDelayMs() {
+      return firstFillDelayMs;
+    }
+
+    public void setFirstFillDelayMs(long firstFillDelayMs) {
+      this.firstFillDelayMs = firstFillDelayMs;
+    }
+
+    public long getIntervalMs() {
+      return intervalMs;
+    }
+
+    public void setIntervalMs(long intervalMs) {
+      this.intervalMs = intervalMs;
+    }
+
+    public double getPartialFillProbability() {
+      return partialFillProbability;
+    }
+
+    public void setPartialFillProbability(double partialFillProbability) {
+      this.partialFillProbability = partialFillProbability;
+    }
+
+    public int getMaxPartialFills() {
+      return maxPartialFills;
+    }
+
+    public void setMaxPartialFills(int maxPartialFills) {
+      this.maxPartialFills = maxPartialFills;
+    }
+
+    public double getUnfilledProbability() {
+      return unfilledProbability;
+    }
+
+    public void setUnfilledProbability(double unfilledProbability) {
+      this.unfilledProbability = unfilledProbability;
+    }
+
+    public BigDecimal getFeeRate() {
+      return feeRate;
+    }
+
+    public void setFeeRate(BigDecimal feeRate) {
+      this.feeRate = feeRate;
+    }
+  }
+
+  public static class RateLimit {
+    private int ordersPerSecond = 0;
+    private long retryAfterSeconds = 1L;
+
+    public int getOrdersPerSecond() {
+      return ordersPerSecond;
+    }
+
+    public void setOrdersPerSecond(int ordersPerSecond) {
+      this.ordersPerSecond = ordersPerSecond;
+    }
+
+    public long getRetryAfterSeconds() {
+      return retryAfterSeconds;
+    }
+
+    public void setRetryAfterSeconds(long retryAfterSeconds) {
+      this.retryAfterSeconds = retryAfterSeconds;
+    }
+  }
+
+  public static class UserStream {
+    private long disconnectIntervalMs = 0L;
+
+    public long getDisconnectIntervalMs() {
+      return disconnectIntervalMs;
+    }
+
+    public void setDisconnectIntervalMs(long disconnectIntervalMs) {
+      this.disconnectIntervalMs = disconnectIntervalMs;
+    }
+  }
+}
@@ -0,0 +1,21 @@
+package com.tradingplatform.venuesimulator.venue;
+
+/** Error surfaced to clients with Binance's {@code {"code":..,"msg":..}} body. */
+public class VenueRejectedException extends RuntimeException {
+  private final int httpStatus;
+  private final int code;
+
+  public VenueRejectedException(int httpStatus, int code, String message) {
+    super(message);
+    this.httpStatus = httpStatus;
+    this.code = code;
+  }
+
+  public int httpStatus() {
+    return httpStatus;
+  }
+
+  public int code() {
+    return code;
+  }
+}
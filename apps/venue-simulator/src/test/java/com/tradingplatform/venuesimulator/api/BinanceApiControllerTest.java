@@ -0,0 +1,103 @@
+package com.tradingplatform.venuesimulator.api;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tradingplatform.venuesimulator.venue.SimulatedVenue;
+import com.tradingplatform.venuesimulator.venue.SimulatorProperties;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class BinanceApiControllerTest {
+  private SimulatedVenue venue;
+  private UserStreamRegistry registry;
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  void setUp() {
+    SimulatorProperties properties = new SimulatorProperties();
+    properties.getFills().setFirstFillDelayMs(60_000L);
+    properties.getRateLimit().setOrdersPerSecond(1);
+    registry = new UserStreamRegistry(new ObjectMapper(), properties);
+    venue = new SimulatedVenue(properties, List.of(registry));
+    mockMvc =
+        MockMvcBuilders.standaloneSetup(new BinanceApiController(venue, registry, properties))
+            .build();
+  }
+
+  @AfterEach
+  void tearDown() {
+    venue.shutdown();
+    registry.shutdown();
+  }
+
+  @Test
+  void shouldAcceptSignedFormOrderAndListItAsOpen() throws Exception {
+    mockMvc
+        .perform(
+            post("/api/v3/order")
+                .header("X-MBX-APIKEY", "sim-key")
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .content(
+                    "symbol=BTCUSDT&side=BUY&type=LIMIT&quantity=0.01&price=30000"
+                        + "&newClientOrderId=client-1&timestamp=1&signature=abc"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.orderId").value(1))
+        .andExpect(jsonPath("$.clientOrderId").value("client-1"))
+        .andExpect(jsonPath("$.status").value("NEW"));
+
+    mockMvc
+        .perform(get("/api/v3/openOrders").header("X-MBX-APIKEY", "sim-key"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].symbol").value("BTCUSDT"))
+        .andExpect(jsonPath("$[0].status").value("NEW"));
+  }
+
+  @Test
+  void shouldReturnRateLimitErrorWithRetryAfter() throws Exception {
+    String order = "symbol=BTCUSDT&side=SELL&type=MARKET&quantity=1";
+    mockMvc
+        .perform(
+            post("/api/v3/order")
+                .header("X-MBX-APIKEY", "sim-key")
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .content(order))
+        .andExpect(status().isOk());
+
+    mockMvc
+        .perform(
+            post("/api/v3/order")
+                .header("X-MBX-APIKEY", "sim-key")
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .content(order))
+        .andExpect(status().isTooManyRequests())
+        .andExpect(header().string("Retry-After", "1"))
+        .andExpect(jsonPath("$.code").value(-1015));
+  }
+
+  @Test
+  void shouldIssueListenKeysAndRejectUnknownOnes() throws Exception {
+    mockMvc
+        .perform(post("/api/v3/userDataStream").header("X-MBX-APIKEY", "sim-key"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.listenKey").isNotEmpty());
+
+    mockMvc
+        .perform(
+            put("/api/v3/userDataStream")
+                .header("X-MBX-APIKEY", "sim-key")
+                .param("listenKey", "missing"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.code").value(-1125));
+  }
+}
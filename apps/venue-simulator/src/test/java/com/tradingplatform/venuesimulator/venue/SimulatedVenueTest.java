@@ -0,0 +1,118 @@
+package com.tradingplatform.venuesimulator.venue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SimulatedVenueTest {
+  private static final Clock CLOCK =
+      Clock.fixed(Instant.parse("2026-10-19T09:00:00Z"), ZoneOffset.UTC);
+
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+  @AfterEach
+  void tearDown() {
+    scheduler.shutdownNow();
+  }
+
+  @Test
+  void shouldProduceSameFillScheduleForSameSeed() {
+    SimulatorProperties properties = properties(7L);
+    FillPlanner first = new FillPlanner(properties.getSeed(), properties.getFills());
+    FillPlanner second = new FillPlanner(properties.getSeed(), properties.getFills());
+
+    for (long orderId = 1; orderId <= 50; orderId++) {
+      assertEquals(
+          first.plan(orderId, new BigDecimal("1.23456")),
+          second.plan(orderId, new BigDecimal("1.23456")));
+    }
+  }
+
+  @Test
+  void shouldFillOrderCompletelyAcrossPartialFills() throws Exception {
+    SimulatorProperties properties = properties(11L);
+    properties.getFills().setPartialFillProbability(1.0d);
+    List<ExecutionReport> reports = new CopyOnWriteArrayList<>();
+    SimulatedVenue venue = new SimulatedVenue(properties, List.of(reports::add), CLOCK, scheduler);
+
+    SimulatedOrder order =
+        venue.submit(
+            "BTCUSDT", "BUY", "LIMIT", new BigDecimal("0.75"), new BigDecimal("30000"), "c-1");
+    awaitStatus(order, "FILLED");
+
+    List<SimulatedTrade> trades = venue.trades("BTCUSDT", null);
+    assertTrue(trades.size() >= 2);
+    assertEquals(
+        0,
+        new BigDecimal("0.75")
+            .compareTo(
+                trades.stream().map(SimulatedTrade::qty).reduce(BigDecimal.ZERO, BigDecimal::add)));
+    assertEquals("NEW", reports.getFirst().executionType());
+    assertEquals("FILLED", reports.getLast().status());
+    assertEquals("USDT", reports.getLast().commissionAsset());
+  }
+
+  @Test
+  void shouldStopFillingCanceledOrders() {
+    SimulatorProperties properties = properties(3L);
+    properties.getFills().setFirstFillDelayMs(60_000L);
+    SimulatedVenue venue = new SimulatedVenue(properties, List.of(), CLOCK, scheduler);
+
+    SimulatedOrder order =
+        venue.submit("ETHUSDT", "SELL", "MARKET", new BigDecimal("2"), null, "c-2");
+    venue.cancel("ETHUSDT", order.orderId(), null);
+
+    assertEquals("CANCELED", order.status());
+    assertTrue(venue.openOrders(null).isEmpty());
+    VenueRejectedException ex =
+        assertThrows(
+            VenueRejectedException.class, () -> venue.cancel("ETHUSDT", order.orderId(), null));
+    assertEquals(-2011, ex.code());
+  }
+
+  @Test
+  void shouldRejectOrdersOverRateLimit() {
+    SimulatorProperties properties = properties(5L);
+    properties.getFills().setFirstFillDelayMs(60_000L);
+    properties.getRateLimit().setOrdersPerSecond(2);
+    SimulatedVenue venue = new SimulatedVenue(properties, List.of(), CLOCK, scheduler);
+
+    venue.submit("BTCUSDT", "BUY", "MARKET", BigDecimal.ONE, null, null);
+    venue.submit("BTCUSDT", "BUY", "MARKET", BigDecimal.ONE, null, null);
+    VenueRejectedException ex =
+        assertThrows(
+            VenueRejectedException.class,
+            () -> venue.submit("BTCUSDT", "BUY", "MARKET", BigDecimal.ONE, null, null));
+
+    assertEquals(429, ex.httpStatus());
+    assertEquals(-1015, ex.code());
+  }
+
+  private static SimulatorProperties properties(long seed) {
+    SimulatorProperties properties = new SimulatorProperties();
+    properties.setSeed(seed);
+    properties.getFills().setFirstFillDelayMs(0L);
+    properties.getFills().setIntervalMs(0L);
+    return properties;
+  }
+
+  private static void awaitStatus(SimulatedOrder order, String status) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!status.equals(order.status()) && System.nanoTime() < deadline) {
+      Thread.sleep(5L);
+    }
+    assertEquals(status, order.status());
+  }
+}
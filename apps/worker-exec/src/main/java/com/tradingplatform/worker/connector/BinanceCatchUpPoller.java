@@ -1,10 +1,12 @@
 package com.tradingplatform.worker.connector;
 
+import com.tradingplatform.infra.kafka.observability.MeterCache;
 import com.tradingplatform.integration.binance.BinanceConnectorException;
 import com.tradingplatform.integration.binance.BinanceOpenOrderSnapshot;
 import com.tradingplatform.integration.binance.BinancePollingClient;
 import com.tradingplatform.integration.binance.BinanceTradeSnapshot;
 import com.tradingplatform.worker.execution.BinanceConnectorProperties;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
@@ -53,10 +55,16 @@ public class BinanceCatchUpPoller {
   private final ConnectorReplayRequestRepository replayRequestRepository;
   private final BinanceFillProcessor fillProcessor;
   private final BinanceConnectorProperties properties;
-  private final MeterRegistry meterRegistry;
   private final Clock clock;
   private final AtomicBoolean catchUpInProgress = new AtomicBoolean(false);
   private final AtomicInteger pendingReplayGauge;
+  private final MeterCache<Counter> pollTotalCounters;
+  private final MeterCache<Counter> errorCounters;
+  private final MeterCache<Counter> executionsProcessedCounters;
+  private final MeterCache<Counter> replayTotalCounters;
+  private final MeterCache<Timer> pollDurationTimers;
+  private final MeterCache<Timer> replayDurationTimers;
+  private final Timer executionsProcessDurationTimer;
 
   @Autowired
   public BinanceCatchUpPoller(
@@ -93,11 +101,73 @@ public class BinanceCatchUpPoller {
     this.replayRequestRepository = replayRequestRepository;
     this.fillProcessor = fillProcessor;
     this.properties = properties;
-    this.meterRegistry = meterRegistry;
     this.clock = clock;
     this.pendingReplayGauge =
         meterRegistry.gauge(
             REPLAY_QUEUE_DEPTH_METRIC, Tags.of("connector", CONNECTOR_NAME), new AtomicInteger(0));
+    this.pollTotalCounters =
+        new MeterCache<>(
+            (operation, outcome) ->
+                meterRegistry.counter(
+                    POLL_TOTAL_METRIC,
+                    "connector",
+                    CONNECTOR_NAME,
+                    "operation",
+                    operation,
+                    "outcome",
+                    outcome));
+    this.errorCounters =
+        new MeterCache<>(
+            (operation, error) ->
+                meterRegistry.counter(
+                    POLL_ERROR_METRIC,
+                    "connector",
+                    CONNECTOR_NAME,
+                    "operation",
+                    operation,
+                    "error",
+                    error));
+    this.executionsProcessedCounters =
+        new MeterCache<>(
+            (outcome, ignored) ->
+                meterRegistry.counter(
+                    EXECUTIONS_PROCESSED_TOTAL_METRIC,
+                    "connector",
+                    CONNECTOR_NAME,
+                    "outcome",
+                    outcome));
+    this.replayTotalCounters =
+        new MeterCache<>(
+            (triggerType, outcome) ->
+                meterRegistry.counter(
+                    REPLAY_TOTAL_METRIC,
+                    "connector",
+                    CONNECTOR_NAME,
+                    "trigger_type",
+                    triggerType,
+                    "outcome",
+                    outcome));
+    this.pollDurationTimers =
+        new MeterCache<>(
+            (operation, ignored) ->
+                Timer.builder(POLL_DURATION_METRIC)
+                    .description("Connector polling latency")
+                    .tag("connector", CONNECTOR_NAME)
+                    .tag("operation", operation)
+                    .register(meterRegistry));
+    this.replayDurationTimers =
+        new MeterCache<>(
+            (triggerType, ignored) ->
+                Timer.builder(REPLAY_DURATION_METRIC)
+                    .description("Connector replay request processing latency")
+                    .tag("connector", CONNECTOR_NAME)
+                    .tag("trigger_type", triggerType)
+                    .register(meterRegistry));
+    this.executionsProcessDurationTimer =
+        Timer.builder(EXECUTIONS_PROCESS_DURATION_METRIC)
+            .description("Connector trade processing latency")
+            .tag("connector", CONNECTOR_NAME)
+            .register(meterRegistry);
   }
 
   @EventListener(ApplicationReadyEvent.class)
@@ -284,16 +354,7 @@ public class BinanceCatchUpPoller {
               previous.wsReconnectAttempts(),
               completedAt));
       incrementTotal("catchup_run", "failure");
-      meterRegistry
-          .counter(
-              POLL_ERROR_METRIC,
-              "connector",
-              CONNECTOR_NAME,
-              "operation",
-              "catchup_run",
-              "error",
-              errorCode)
-          .increment();
+      errorCounters.get("catchup_run", errorCode).increment();
       recordDuration("catchup_run", startedAt, completedAt);
       log.warn(
           "Connector catch-up failed connector={} trigger={} replayRequestId={} error={}",
@@ -316,16 +377,7 @@ public class BinanceCatchUpPoller {
     } catch (RuntimeException ex) {
       String errorCode = errorCode(ex);
       incrementTotal(operation, "failure");
-      meterRegistry
-          .counter(
-              POLL_ERROR_METRIC,
-              "connector",
-              CONNECTOR_NAME,
-              "operation",
-              operation,
-              "error",
-              errorCode)
-          .increment();
+      errorCounters.get(operation, errorCode).increment();
       recordDuration(operation, startedAt, clock.instant());
       throw ex;
     }
@@ -335,34 +387,11 @@ public class BinanceCatchUpPoller {
     Instant startedAt = clock.instant();
     try {
       FillProcessingOutcome outcome = fillProcessor.processTrade(trade);
-      meterRegistry
-          .counter(
-              EXECUTIONS_PROCESSED_TOTAL_METRIC,
-              "connector",
-              CONNECTOR_NAME,
-              "outcome",
-              outcome.metricTag())
-          .increment();
+      executionsProcessedCounters.get(outcome.metricTag()).increment();
     } catch (RuntimeException ex) {
       String errorCode = errorCode(ex);
-      meterRegistry
-          .counter(
-              EXECUTIONS_PROCESSED_TOTAL_METRIC,
-              "connector",
-              CONNECTOR_NAME,
-              "outcome",
-              "failed")
-          .increment();
-      meterRegistry
-          .counter(
-              POLL_ERROR_METRIC,
-              "connector",
-              CONNECTOR_NAME,
-              "operation",
-              "trade_processing",
-              "error",
-              errorCode)
-          .increment();
+      executionsProcessedCounters.get("failed").increment();
+      errorCounters.get("trade_processing", errorCode).increment();
       log.warn(
           "Connector trade processing failed connector={} symbol={} tradeId={} error={}",
           CONNECTOR_NAME,
@@ -371,56 +400,26 @@ public class BinanceCatchUpPoller {
           errorCode,
           ex);
     } finally {
-      Timer.builder(EXECUTIONS_PROCESS_DURATION_METRIC)
-          .description("Connector trade processing latency")
-          .tag("connector", CONNECTOR_NAME)
-          .register(meterRegistry)
-          .record(Duration.between(startedAt, clock.instant()).abs());
+      executionsProcessDurationTimer.record(Duration.between(startedAt, clock.instant()).abs());
     }
   }
 
   private void incrementTotal(String operation, String outcome) {
-    meterRegistry
-        .counter(
-            POLL_TOTAL_METRIC,
-            "connector",
-            CONNECTOR_NAME,
-            "operation",
-            operation,
-            "outcome",
-            outcome)
-        .increment();
+    pollTotalCounters.get(operation, outcome).increment();
   }
 
   private void incrementReplayTotal(ConnectorReplayTriggerType triggerType, String outcome) {
-    meterRegistry
-        .counter(
-            REPLAY_TOTAL_METRIC,
-            "connector",
-            CONNECTOR_NAME,
-            "trigger_type",
-            triggerType.name().toLowerCase(),
-            "outcome",
-            outcome)
-        .increment();
+    replayTotalCounters.get(triggerType.name().toLowerCase(), outcome).increment();
   }
 
   private void recordDuration(String operation, Instant startedAt, Instant completedAt) {
-    Timer.builder(POLL_DURATION_METRIC)
-        .description("Connector polling latency")
-        .tag("connector", CONNECTOR_NAME)
-        .tag("operation", operation)
-        .register(meterRegistry)
-        .record(Duration.between(startedAt, completedAt).abs());
+    pollDurationTimers.get(operation).record(Duration.between(startedAt, completedAt).abs());
   }
 
   private void recordReplayDuration(
       ConnectorReplayTriggerType triggerType, Instant startedAt, Instant completedAt) {
-    Timer.builder(REPLAY_DURATION_METRIC)
-        .description("Connector replay request processing latency")
-        .tag("connector", CONNECTOR_NAME)
-        .tag("trigger_type", triggerType.name().toLowerCase())
-        .register(meterRegistry)
+    replayDurationTimers
+        .get(triggerType.name().toLowerCase())
         .record(Duration.between(startedAt, completedAt).abs());
   }
 
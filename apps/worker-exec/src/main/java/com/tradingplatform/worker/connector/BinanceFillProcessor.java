@@ -7,8 +7,11 @@ import com.tradingplatform.infra.kafka.contract.payload.BalanceUpdatedV1;
 import com.tradingplatform.infra.kafka.contract.payload.ExecutionRecordedV1;
 import com.tradingplatform.infra.kafka.contract.payload.OrderUpdatedV1;
 import com.tradingplatform.infra.kafka.contract.payload.OrderUpdatedV2;
+import com.tradingplatform.infra.kafka.observability.MeterCache;
 import com.tradingplatform.infra.kafka.topics.TopicNames;
 import com.tradingplatform.integration.binance.BinanceTradeSnapshot;
+import com.tradingplatform.worker.position.PositionProjectionRepository;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -42,25 +45,51 @@ public class BinanceFillProcessor {
 
   private final JdbcTemplate jdbcTemplate;
   private final ObjectMapper objectMapper;
-  private final MeterRegistry meterRegistry;
+  private final PositionProjectionRepository positionProjectionRepository;
+  private final MeterCache<Counter> orderFillUpdateCounters;
+  private final MeterCache<Counter> balanceUpdateCounters;
+  private final MeterCache<Counter> outboxAppendCounters;
 
   public BinanceFillProcessor(
-      JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+      JdbcTemplate jdbcTemplate,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      PositionProjectionRepository positionProjectionRepository) {
     this.jdbcTemplate = jdbcTemplate;
     this.objectMapper = objectMapper;
-    this.meterRegistry = meterRegistry;
+    this.positionProjectionRepository = positionProjectionRepository;
+    this.orderFillUpdateCounters =
+        new MeterCache<>(
+            (status, ignored) ->
+                meterRegistry.counter(ORDER_FILL_UPDATES_TOTAL_METRIC, "status", status));
+    this.balanceUpdateCounters =
+        new MeterCache<>(
+            (asset, outcome) ->
+                meterRegistry.counter(
+                    BALANCE_UPDATES_TOTAL_METRIC, "asset", asset, "outcome", outcome));
+    this.outboxAppendCounters =
+        new MeterCache<>(
+            (eventType, outcome) ->
+                meterRegistry.counter(
+                    OUTBOX_APPEND_TOTAL_METRIC, "event_type", eventType, "outcome", outcome));
   }
 
   @Transactional
   public FillProcessingOutcome processTrade(BinanceTradeSnapshot trade) {
+    return processTrade(EXCHANGE_NAME, trade);
+  }
+
+  @Transactional
+  public FillProcessingOutcome processTrade(String exchangeName, BinanceTradeSnapshot trade) {
+    requireNonBlank(exchangeName, "exchangeName");
     Objects.requireNonNull(trade, "trade must not be null");
     String exchangeOrderId = requireNonBlank(trade.exchangeOrderId(), "exchangeOrderId");
     String tradeId = requireNonBlank(trade.tradeId(), "tradeId");
     BigDecimal qty = requirePositive(trade.qty(), "qty");
     BigDecimal price = requirePositive(trade.price(), "price");
-    Instant executedAt = trade.tradeTime() == null ? Instant.now() : trade.tradeTime();
+    Instant executedAt = Objects.requireNonNull(trade.tradeTime(), "tradeTime must not be null");
 
-    OrderSnapshot order = loadOrderForUpdate(exchangeOrderId);
+    OrderSnapshot order = loadOrderForUpdate(exchangeName, exchangeOrderId);
     if (order == null) {
       return FillProcessingOutcome.UNMAPPED;
     }
@@ -82,6 +111,8 @@ public class BinanceFillProcessor {
     postLedgerEntries(executionId, order, assets, qty, price, normalizedFeeAsset, feeAmount);
     applyBalanceMutations(order, assets, qty, price, normalizedFeeAsset, feeAmount, reservation, executedAt);
     OrderMutation mutation = applyOrderFill(order, qty, executedAt);
+    positionProjectionRepository.applyFill(
+        order.accountId(), order.instrument(), order.side(), qty, price, executedAt);
     if ("FILLED".equals(mutation.updatedStatus())) {
       releaseRemainingReservation(order.accountId(), reservation, executedAt);
     }
@@ -91,9 +122,7 @@ public class BinanceFillProcessor {
     appendExecutionRecordedOutbox(
         executionId, order, tradeId, qty, price, normalizedFeeAsset, feeAmount, executedAt);
 
-    meterRegistry
-        .counter(ORDER_FILL_UPDATES_TOTAL_METRIC, "status", mutation.updatedStatus())
-        .increment();
+    orderFillUpdateCounters.get(mutation.updatedStatus()).increment();
     return FillProcessingOutcome.INSERTED;
   }
 
@@ -221,7 +250,7 @@ public class BinanceFillProcessor {
     return "DEBIT".equals(direction) ? "CREDIT" : "DEBIT";
   }
 
-  private OrderSnapshot loadOrderForUpdate(String exchangeOrderId) {
+  private OrderSnapshot loadOrderForUpdate(String exchangeName, String exchangeOrderId) {
     String sql =
         """
         SELECT id,
@@ -256,7 +285,7 @@ public class BinanceFillProcessor {
                     rs.getString("exchange_name"),
                     rs.getString("exchange_order_id"),
                     rs.getString("exchange_client_order_id")),
-            EXCHANGE_NAME,
+            exchangeName,
             exchangeOrderId);
     return rows.isEmpty() ? null : rows.getFirst();
   }
@@ -306,6 +335,20 @@ public class BinanceFillProcessor {
       String feeAsset,
       BigDecimal feeAmount,
       Instant executedAt) {
+    int claimed =
+        jdbcTemplate.update(
+            """
+            INSERT INTO execution_trade_keys (exchange_name, instrument, trade_id, execution_id)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT DO NOTHING
+            """,
+            order.exchangeName(),
+            order.instrument(),
+            tradeId,
+            executionId);
+    if (claimed == 0) {
+      return false;
+    }
     String sql =
         """
         INSERT INTO executions (
@@ -324,17 +367,15 @@ public class BinanceFillProcessor {
             executed_at,
             created_at
         ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NOW())
-        ON CONFLICT (exchange_name, instrument, trade_id) DO NOTHING
         """;
-    int inserted =
-        jdbcTemplate.update(
+    jdbcTemplate.update(
             sql,
             executionId,
             order.id(),
             order.accountId(),
             order.instrument(),
             tradeId,
-            EXCHANGE_NAME,
+            order.exchangeName(),
             order.exchangeOrderId(),
             order.side(),
             qty,
@@ -342,7 +383,7 @@ public class BinanceFillProcessor {
             feeAsset,
             feeAmount,
             executedAt);
-    return inserted == 1;
+    return true;
   }
 
   private void applyBalanceMutations(
@@ -384,14 +425,37 @@ public class BinanceFillProcessor {
     }
   }
 
+  /**
+   * Settles a fill delta on the wallet's stripes when they can take it, so fills on a hot wallet do
+   * not serialize on its wallet_balances row: credits go to the reservation's stripe or any unlocked
+   * one, and a debit is settled on the reservation's stripe when that stripe covers it. Everything
+   * else locks the main row, which pulls stripe balances in when it runs short.
+   */
   private UpdatedBalance applyBalanceDelta(
       UUID accountId, String asset, BigDecimal delta, ReservationState reservation) {
+    int preferredStripe = asset.equals(reservation.asset()) ? reservation.stripe() : 0;
+    BigDecimal consumeReserved = BigDecimal.ZERO;
+    BigDecimal remainingDebit = BigDecimal.ZERO;
+    if (delta.compareTo(BigDecimal.ZERO) > 0) {
+      if (creditStripe(accountId, asset, preferredStripe, delta)) {
+        balanceUpdateCounters.get(asset, OUTCOME_SUCCESS).increment();
+        return findConsolidatedBalance(accountId, asset);
+      }
+    } else {
+      BigDecimal debit = delta.negate();
+      consumeReserved = reservation.consume(asset, debit);
+      remainingDebit = debit.subtract(consumeReserved);
+      if (preferredStripe > 0
+          && debitStripe(accountId, asset, preferredStripe, consumeReserved, remainingDebit)) {
+        balanceUpdateCounters.get(asset, OUTCOME_SUCCESS).increment();
+        return findConsolidatedBalance(accountId, asset);
+      }
+    }
+
     WalletBalanceRow current = findBalanceForUpdate(accountId, asset);
     if (current == null) {
       if (delta.compareTo(BigDecimal.ZERO) < 0) {
-        meterRegistry
-            .counter(BALANCE_UPDATES_TOTAL_METRIC, "asset", asset, "outcome", OUTCOME_FAILED)
-            .increment();
+        balanceUpdateCounters.get(asset, OUTCOME_FAILED).increment();
         throw new IllegalStateException(
             "Insufficient balance: no wallet row for account="
                 + accountId
@@ -401,9 +465,7 @@ public class BinanceFillProcessor {
                 + delta);
       }
       insertBalance(accountId, asset, delta, BigDecimal.ZERO);
-      meterRegistry
-          .counter(BALANCE_UPDATES_TOTAL_METRIC, "asset", asset, "outcome", OUTCOME_SUCCESS)
-          .increment();
+      balanceUpdateCounters.get(asset, OUTCOME_SUCCESS).increment();
       return new UpdatedBalance(delta, BigDecimal.ZERO);
     }
 
@@ -416,13 +478,11 @@ public class BinanceFillProcessor {
       newAvailable = available.add(delta);
       newReserved = reserved;
     } else {
-      BigDecimal debit = delta.negate();
-      BigDecimal consumeReserved = reservation.consume(asset, debit);
-      BigDecimal remainingDebit = debit.subtract(consumeReserved);
       if (available.compareTo(remainingDebit) < 0) {
-        meterRegistry
-            .counter(BALANCE_UPDATES_TOTAL_METRIC, "asset", asset, "outcome", OUTCOME_FAILED)
-            .increment();
+        available = available.add(drainStripes(accountId, asset));
+      }
+      if (available.compareTo(remainingDebit) < 0) {
+        balanceUpdateCounters.get(asset, OUTCOME_FAILED).increment();
         throw new IllegalStateException(
             "Insufficient available balance for account="
                 + accountId
@@ -434,14 +494,133 @@ public class BinanceFillProcessor {
                 + available);
       }
       newAvailable = available.subtract(remainingDebit);
-      newReserved = reserved.subtract(consumeReserved);
+      if (reservation.stripe() > 0 && consumeReserved.compareTo(BigDecimal.ZERO) > 0) {
+        adjustStripe(accountId, asset, reservation.stripe(), BigDecimal.ZERO, consumeReserved);
+        newReserved = reserved;
+      } else {
+        newReserved = reserved.subtract(consumeReserved);
+      }
     }
 
     updateBalance(accountId, asset, newAvailable, newReserved);
-    meterRegistry
-        .counter(BALANCE_UPDATES_TOTAL_METRIC, "asset", asset, "outcome", OUTCOME_SUCCESS)
-        .increment();
-    return new UpdatedBalance(newAvailable, newReserved);
+    balanceUpdateCounters.get(asset, OUTCOME_SUCCESS).increment();
+    return findConsolidatedBalance(accountId, asset);
+  }
+
+  // Skips stripes other fills or reservations hold; returns false when the wallet has none free.
+  private boolean creditStripe(UUID accountId, String asset, int preferredStripe, BigDecimal amount) {
+    String sql =
+        """
+        WITH target AS (
+            SELECT stripe
+            FROM wallet_balance_stripes
+            WHERE account_id = ?
+              AND asset = ?
+            ORDER BY stripe = ? DESC, stripe
+            LIMIT 1
+            FOR UPDATE SKIP LOCKED
+        )
+        UPDATE wallet_balance_stripes s
+        SET available = s.available + ?, updated_at = NOW()
+        FROM target
+        WHERE s.account_id = ?
+          AND s.asset = ?
+          AND s.stripe = target.stripe
+        """;
+    return jdbcTemplate.update(sql, accountId, asset, preferredStripe, amount, accountId, asset) == 1;
+  }
+
+  // Rows that fail the guard are not locked, so falling back to the main row keeps its lock order.
+  private boolean debitStripe(
+      UUID accountId, String asset, int stripe, BigDecimal fromReserved, BigDecimal fromAvailable) {
+    String sql =
+        """
+        UPDATE wallet_balance_stripes
+        SET available = available - ?,
+            reserved = reserved - ?,
+            updated_at = NOW()
+        WHERE account_id = ?
+          AND asset = ?
+          AND stripe = ?
+          AND reserved >= ?
+          AND available >= ?
+        """;
+    return jdbcTemplate.update(
+            sql, fromAvailable, fromReserved, accountId, asset, stripe, fromReserved, fromAvailable)
+        == 1;
+  }
+
+  /**
+   * Moves available funds parked on stripes back into the locked wallet_balances row. Returns the
+   * amount moved; the caller adds it to the row's available balance.
+   */
+  private BigDecimal drainStripes(UUID accountId, String asset) {
+    String sql =
+        """
+        WITH locked AS (
+            SELECT stripe, available
+            FROM wallet_balance_stripes
+            WHERE account_id = ?
+              AND asset = ?
+              AND available > 0
+            ORDER BY stripe
+            FOR UPDATE
+        ),
+        drained AS (
+            UPDATE wallet_balance_stripes s
+            SET available = 0, updated_at = NOW()
+            FROM locked
+            WHERE s.account_id = ?
+              AND s.asset = ?
+              AND s.stripe = locked.stripe
+            RETURNING locked.available
+        )
+        SELECT COALESCE(SUM(available), 0) FROM drained
+        """;
+    return jdbcTemplate.queryForObject(sql, BigDecimal.class, accountId, asset, accountId, asset);
+  }
+
+  private void adjustStripe(
+      UUID accountId, String asset, int stripe, BigDecimal release, BigDecimal fromReserved) {
+    String sql =
+        """
+        UPDATE wallet_balance_stripes
+        SET available = available + ?,
+            reserved = reserved - ?,
+            updated_at = NOW()
+        WHERE account_id = ?
+          AND asset = ?
+          AND stripe = ?
+          AND reserved >= ?
+        """;
+    int updated =
+        jdbcTemplate.update(sql, release, fromReserved, accountId, asset, stripe, fromReserved);
+    if (updated != 1) {
+      throw new IllegalStateException(
+          "Insufficient reserved balance on stripe account="
+              + accountId
+              + " asset="
+              + asset
+              + " stripe="
+              + stripe
+              + " required="
+              + fromReserved);
+    }
+  }
+
+  private UpdatedBalance findConsolidatedBalance(UUID accountId, String asset) {
+    String sql =
+        """
+        SELECT available, reserved
+        FROM wallet_balances_consolidated
+        WHERE account_id = ?
+          AND asset = ?
+        """;
+    return jdbcTemplate.queryForObject(
+        sql,
+        (rs, rowNum) -> new UpdatedBalance(rs.getBigDecimal("available"), rs.getBigDecimal("reserved")),
+        accountId,
+        asset);
   }
 
   private WalletBalanceRow findBalanceForUpdate(UUID accountId, String asset) {
@@ -490,7 +669,7 @@ public class BinanceFillProcessor {
   private ReservationState loadActiveReservationForUpdate(UUID orderId) {
     String sql =
         """
-        SELECT id, asset, amount
+        SELECT id, asset, amount, stripe
         FROM wallet_reservations
         WHERE order_id = ?
           AND status = 'ACTIVE'
@@ -503,7 +682,8 @@ public class BinanceFillProcessor {
                 new ReservationState(
                     rs.getObject("id", UUID.class),
                     normalizeAsset(rs.getString("asset")),
-                    rs.getBigDecimal("amount")),
+                    rs.getBigDecimal("amount"),
+                    rs.getInt("stripe")),
             orderId);
     return rows.isEmpty() ? ReservationState.none() : rows.getFirst();
   }
@@ -553,6 +733,15 @@ public class BinanceFillProcessor {
     if (releaseAmount.compareTo(BigDecimal.ZERO) <= 0) {
       return;
     }
+    if (reservation.stripe() > 0) {
+      adjustStripe(accountId, reservation.asset(), reservation.stripe(), releaseAmount, releaseAmount);
+      reservation.markReleased();
+      balanceUpdateCounters.get(reservation.asset(), OUTCOME_SUCCESS).increment();
+      UpdatedBalance consolidated = findConsolidatedBalance(accountId, reservation.asset());
+      appendBalanceUpdatedOutbox(
+          accountId, reservation.asset(), consolidated.available(), consolidated.reserved(), occurredAt);
+      return;
+    }
     WalletBalanceRow current = findBalanceForUpdate(accountId, reservation.asset());
     if (current == null) {
       throw new IllegalStateException(
@@ -577,10 +766,10 @@ public class BinanceFillProcessor {
     BigDecimal newReserved = current.reserved().subtract(releaseAmount);
     updateBalance(accountId, reservation.asset(), newAvailable, newReserved);
     reservation.markReleased();
-    meterRegistry
-        .counter(BALANCE_UPDATES_TOTAL_METRIC, "asset", reservation.asset(), "outcome", OUTCOME_SUCCESS)
-        .increment();
-    appendBalanceUpdatedOutbox(accountId, reservation.asset(), newAvailable, newReserved, occurredAt);
+    balanceUpdateCounters.get(reservation.asset(), OUTCOME_SUCCESS).increment();
+    UpdatedBalance consolidated = findConsolidatedBalance(accountId, reservation.asset());
+    appendBalanceUpdatedOutbox(
+        accountId, reservation.asset(), consolidated.available(), consolidated.reserved(), occurredAt);
   }
 
   private OrderMutation applyOrderFill(OrderSnapshot order, BigDecimal fillQty, Instant occurredAt) {
@@ -765,13 +954,9 @@ public class BinanceFillProcessor {
     try {
       jdbcTemplate.update(
           sql, UUID.randomUUID(), aggregateType, aggregateId, eventType, toJson(payload), topic, eventKey);
-      meterRegistry
-          .counter(OUTBOX_APPEND_TOTAL_METRIC, "event_type", eventType, "outcome", OUTCOME_SUCCESS)
-          .increment();
+      outboxAppendCounters.get(eventType, OUTCOME_SUCCESS).increment();
     } catch (RuntimeException ex) {
-      meterRegistry
-          .counter(OUTBOX_APPEND_TOTAL_METRIC, "event_type", eventType, "outcome", OUTCOME_FAILED)
-          .increment();
+      outboxAppendCounters.get(eventType, OUTCOME_FAILED).increment();
       throw ex;
     }
   }
@@ -855,14 +1040,16 @@ public class BinanceFillProcessor {
   private static final class ReservationState {
     private final UUID id;
     private final String asset;
+    private final int stripe;
     private BigDecimal remainingAmount;
     private boolean touched;
     private boolean fullyConsumed;
     private boolean released;
 
-    private ReservationState(UUID id, String asset, BigDecimal remainingAmount) {
+    private ReservationState(UUID id, String asset, BigDecimal remainingAmount, int stripe) {
       this.id = id;
       this.asset = asset;
+      this.stripe = stripe;
       this.remainingAmount = remainingAmount == null ? BigDecimal.ZERO : remainingAmount;
       this.touched = false;
       this.fullyConsumed = false;
@@ -870,7 +1057,7 @@ public class BinanceFillProcessor {
     }
 
     static ReservationState none() {
-      return new ReservationState(null, null, BigDecimal.ZERO);
+      return new ReservationState(null, null, BigDecimal.ZERO, 0);
     }
 
     BigDecimal consume(String targetAsset, BigDecimal requested) {
@@ -922,6 +1109,10 @@ public class BinanceFillProcessor {
       return id != null;
     }
 
+    int stripe() {
+      return stripe;
+    }
+
     UUID id() {
       return id;
     }
@@ -3,17 +3,25 @@ package com.tradingplatform.worker.consumer;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tradingplatform.infra.kafka.contract.EventTypes;
+import com.tradingplatform.infra.kafka.contract.OrderStages;
 import com.tradingplatform.infra.kafka.contract.payload.OrderUpdatedV1;
 import com.tradingplatform.infra.kafka.contract.payload.OrderUpdatedV2;
+import com.tradingplatform.infra.kafka.dedupe.ConsumedEventPosition;
+import com.tradingplatform.infra.kafka.dedupe.ConsumerDedupeStore;
+import com.tradingplatform.infra.kafka.dedupe.JdbcOffsetWatermarkDedupeStore;
+import com.tradingplatform.infra.kafka.observability.StageTrace;
 import com.tradingplatform.infra.kafka.topics.TopicNames;
 import com.tradingplatform.worker.execution.ExecutionAckResult;
 import com.tradingplatform.worker.execution.ExecutionOrderAdapter;
 import com.tradingplatform.worker.execution.SubmitOrderCommand;
+import com.tradingplatform.worker.matching.InternalCrossingService;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,24 +33,59 @@ public class OrderSubmissionProcessor {
   private final JdbcTemplate jdbcTemplate;
   private final ObjectMapper objectMapper;
   private final ExecutionOrderAdapter executionOrderAdapter;
+  private final InternalCrossingService internalCrossingService;
+  private final ConsumerDedupeStore consumerDedupeStore;
+
+  @Autowired
+  public OrderSubmissionProcessor(
+      JdbcTemplate jdbcTemplate,
+      ObjectMapper objectMapper,
+      ExecutionOrderAdapter executionOrderAdapter,
+      ObjectProvider<InternalCrossingService> internalCrossingService,
+      ConsumerDedupeStore consumerDedupeStore) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.objectMapper = objectMapper;
+    this.executionOrderAdapter = executionOrderAdapter;
+    this.internalCrossingService = internalCrossingService.getIfAvailable();
+    this.consumerDedupeStore = consumerDedupeStore;
+  }
 
   public OrderSubmissionProcessor(
       JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, ExecutionOrderAdapter executionOrderAdapter) {
     this.jdbcTemplate = jdbcTemplate;
     this.objectMapper = objectMapper;
     this.executionOrderAdapter = executionOrderAdapter;
+    this.internalCrossingService = null;
+    this.consumerDedupeStore = new JdbcOffsetWatermarkDedupeStore(jdbcTemplate);
   }
 
+  /**
+   * Applies the submission unless {@code position} was already consumed. The position is required:
+   * it is the only guard that keeps a redelivered event from reaching the exchange twice.
+   */
   @Transactional
-  public void process(SubmitOrderCommand command) {
+  public void process(
+      SubmitOrderCommand command, StageTrace stageTrace, ConsumedEventPosition position) {
     UUID orderId = parseUuid(command.orderId(), "orderId");
-    UUID eventId = Objects.requireNonNull(command.eventId(), "eventId must not be null");
+    Objects.requireNonNull(command.eventId(), "eventId must not be null");
+    Objects.requireNonNull(position, "position must not be null");
 
-    if (!tryRecordProcessedEvent(eventId, orderId)) {
+    if (!consumerDedupeStore.tryAdvance(position)) {
       return;
     }
 
-    ExecutionAckResult ackResult = executionOrderAdapter.placeOrder(command);
+    boolean crossInternally =
+        internalCrossingService != null && internalCrossingService.accepts(command);
+    if (stageTrace != null) {
+      stageTrace.mark(OrderStages.EXCHANGE_REQUEST_SENT);
+    }
+    ExecutionAckResult ackResult =
+        crossInternally
+            ? internalCrossingService.acknowledge(command)
+            : executionOrderAdapter.placeOrder(command);
+    if (stageTrace != null) {
+      stageTrace.mark(OrderStages.EXCHANGE_ACKED);
+    }
     Instant now = Instant.now();
     String exchangeName = requireNonBlank(ackResult.exchangeName(), "exchangeName");
     String exchangeOrderId = requireNonBlank(ackResult.exchangeOrderId(), "exchangeOrderId");
@@ -72,17 +115,9 @@ public class OrderSubmissionProcessor {
     updateToAck(orderId, exchangeName, exchangeOrderId, exchangeClientOrderId, now);
     appendOrderEvent(snapshot, exchangeName, exchangeOrderId, exchangeClientOrderId, now);
     appendOutboxEvents(snapshot, exchangeName, exchangeOrderId, exchangeClientOrderId, now);
-  }
-
-  private boolean tryRecordProcessedEvent(UUID eventId, UUID orderId) {
-    String sql =
-        """
-        INSERT INTO processed_kafka_events (event_id, topic, order_id, processed_at)
-        VALUES (?, ?, ?, NOW())
-        ON CONFLICT (event_id) DO NOTHING
-        """;
-    int inserted = jdbcTemplate.update(sql, eventId, TopicNames.ORDERS_SUBMITTED_V2, orderId);
-    return inserted == 1;
+    if (crossInternally) {
+      internalCrossingService.cross(command);
+    }
   }
 
   private OrderSnapshot loadOrderForUpdate(UUID orderId) {
@@ -1,54 +1,95 @@
 package com.tradingplatform.worker.consumer;
 
 import com.tradingplatform.infra.kafka.consumer.EventConsumerAdapter;
+import com.tradingplatform.infra.kafka.consumer.RecordAwareEventHandler;
+import com.tradingplatform.infra.kafka.contract.EventHeaders;
 import com.tradingplatform.infra.kafka.contract.EventTypes;
+import com.tradingplatform.infra.kafka.contract.OrderStages;
 import com.tradingplatform.infra.kafka.contract.payload.OrderSubmittedV2;
+import com.tradingplatform.infra.kafka.dedupe.ConsumedEventPosition;
 import com.tradingplatform.infra.kafka.errors.DeadLetterPublisher;
 import com.tradingplatform.infra.kafka.errors.RetryPolicy;
 import com.tradingplatform.infra.kafka.observability.KafkaTelemetry;
-import com.tradingplatform.infra.kafka.serde.EventEnvelopeJsonCodec;
+import com.tradingplatform.infra.kafka.observability.StageTrace;
+import com.tradingplatform.infra.kafka.serde.EventEnvelopeCodecs;
 import com.tradingplatform.infra.kafka.topics.TopicNames;
 import com.tradingplatform.worker.execution.SubmitOrderCommand;
+import com.tradingplatform.worker.latency.OrderLatencyTracker;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
 @Component
 public class OrderSubmittedConsumer {
+  static final String DEFAULT_CONSUMER_GROUP = "cg-exec-adapter";
+
   private final EventConsumerAdapter<OrderSubmittedV2> adapter;
   private final OrderSubmissionProcessor orderSubmissionProcessor;
+  private final OrderLatencyTracker orderLatencyTracker;
+  private final String consumerGroup;
 
+  @Autowired
   public OrderSubmittedConsumer(
-      EventEnvelopeJsonCodec codec,
+      EventEnvelopeCodecs codecs,
       DeadLetterPublisher deadLetterPublisher,
       RetryPolicy retryPolicy,
       KafkaTelemetry telemetry,
-      OrderSubmissionProcessor orderSubmissionProcessor) {
+      OrderSubmissionProcessor orderSubmissionProcessor,
+      OrderLatencyTracker orderLatencyTracker,
+      @Value("${infra.kafka.consumer.group-id:${infra.kafka.consumer-group-id:cg-exec-adapter}}")
+          String consumerGroup) {
     this.orderSubmissionProcessor = orderSubmissionProcessor;
+    this.orderLatencyTracker = orderLatencyTracker;
+    this.consumerGroup = consumerGroup;
     this.adapter =
         new EventConsumerAdapter<>(
             OrderSubmittedV2.class,
             EventTypes.ORDER_SUBMITTED,
             2,
-            codec,
-            this::handleEvent,
+            codecs,
+            (RecordAwareEventHandler<OrderSubmittedV2>) this::handleEvent,
             deadLetterPublisher,
             retryPolicy,
             telemetry);
   }
 
+  public OrderSubmittedConsumer(
+      EventEnvelopeCodecs codecs,
+      DeadLetterPublisher deadLetterPublisher,
+      RetryPolicy retryPolicy,
+      KafkaTelemetry telemetry,
+      OrderSubmissionProcessor orderSubmissionProcessor,
+      OrderLatencyTracker orderLatencyTracker) {
+    this(
+        codecs,
+        deadLetterPublisher,
+        retryPolicy,
+        telemetry,
+        orderSubmissionProcessor,
+        orderLatencyTracker,
+        DEFAULT_CONSUMER_GROUP);
+  }
+
   @KafkaListener(
       topics = TopicNames.ORDERS_SUBMITTED_V2,
       groupId = "${infra.kafka.consumer.group-id:${infra.kafka.consumer-group-id:cg-exec-adapter}}",
       containerFactory = "infraKafkaListenerContainerFactory")
-  public void onMessage(ConsumerRecord<String, String> record, Acknowledgment ack) {
+  public void onMessage(ConsumerRecord<String, byte[]> record, Acknowledgment ack) {
     adapter.process(record, 1);
     ack.acknowledge();
   }
 
   private void handleEvent(
-      com.tradingplatform.infra.kafka.contract.EventEnvelope<OrderSubmittedV2> envelope) {
+      com.tradingplatform.infra.kafka.contract.EventEnvelope<OrderSubmittedV2> envelope,
+      ConsumerRecord<String, byte[]> record) {
+    StageTrace stageTrace = stageTraceFrom(record.headers());
     OrderSubmittedV2 payload = envelope.payload();
     SubmitOrderCommand command =
         new SubmitOrderCommand(
@@ -63,6 +104,19 @@ public class OrderSubmittedConsumer {
             payload.submittedAt(),
             envelope.correlationId(),
             envelope.eventId());
-    orderSubmissionProcessor.process(command);
+    orderSubmissionProcessor.process(
+        command, stageTrace, ConsumedEventPosition.of(consumerGroup, record, envelope.eventId()));
+    if (stageTrace != null) {
+      orderLatencyTracker.onAckCommitted(UUID.fromString(command.orderId()), stageTrace);
+    }
+  }
+
+  private static StageTrace stageTraceFrom(Headers headers) {
+    Header header = headers.lastHeader(EventHeaders.X_STAGE_TRACE);
+    if (header == null || header.value() == null) {
+      return null;
+    }
+    StageTrace stageTrace = StageTrace.parse(new String(header.value(), StandardCharsets.UTF_8));
+    return stageTrace.isEmpty() ? null : stageTrace.mark(OrderStages.CONSUMER_RECEIVED);
   }
 }
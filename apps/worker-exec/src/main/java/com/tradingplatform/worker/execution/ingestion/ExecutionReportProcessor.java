@@ -12,6 +12,7 @@ import com.tradingplatform.infra.kafka.topics.TopicNames;
 import com.tradingplatform.integration.binance.BinanceExecutionReport;
 import com.tradingplatform.integration.binance.BinanceVenue;
 import com.tradingplatform.integration.binance.ExchangeOrderStatusMapper;
+import com.tradingplatform.worker.position.PositionProjectionRepository;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
@@ -31,16 +32,19 @@ public class ExecutionReportProcessor {
   private final ObjectMapper objectMapper;
   private final ExchangeOrderStatusMapper exchangeOrderStatusMapper;
   private final ExecutionRepository executionRepository;
+  private final PositionProjectionRepository positionProjectionRepository;
 
   public ExecutionReportProcessor(
       JdbcTemplate jdbcTemplate,
       ObjectMapper objectMapper,
       ExchangeOrderStatusMapper exchangeOrderStatusMapper,
-      ExecutionRepository executionRepository) {
+      ExecutionRepository executionRepository,
+      PositionProjectionRepository positionProjectionRepository) {
     this.jdbcTemplate = jdbcTemplate;
     this.objectMapper = objectMapper;
     this.exchangeOrderStatusMapper = exchangeOrderStatusMapper;
     this.executionRepository = executionRepository;
+    this.positionProjectionRepository = positionProjectionRepository;
   }
 
   @Transactional
@@ -86,6 +90,13 @@ public class ExecutionReportProcessor {
     Instant occurredAt = report.tradeTime();
 
     updateOrder(order.id(), nextStatus, nextFilledQty, report.exchangeOrderId(), report.exchangeClientOrderId(), occurredAt);
+    positionProjectionRepository.applyFill(
+        order.accountId(),
+        order.instrument(),
+        order.side(),
+        report.lastExecutedQty(),
+        report.lastExecutedPrice(),
+        report.tradeTime());
     appendOrderEvent(order, nextStatus, nextFilledQty, report, occurredAt);
     appendOrderUpdatedOutbox(order, nextStatus, nextFilledQty, report, occurredAt);
     appendExecutionRecordedOutbox(executionId, order, report);
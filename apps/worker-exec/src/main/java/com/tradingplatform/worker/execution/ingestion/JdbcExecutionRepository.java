@@ -1,7 +1,5 @@
 package com.tradingplatform.worker.execution.ingestion;
 
-import java.util.List;
-import java.util.UUID;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
@@ -15,6 +13,20 @@ public class JdbcExecutionRepository implements ExecutionRepository {
 
   @Override
   public boolean insertIfAbsent(ExecutionInsert execution) {
+    int claimed =
+        jdbcTemplate.update(
+            """
+            INSERT INTO execution_trade_keys (exchange_name, instrument, trade_id, execution_id)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT DO NOTHING
+            """,
+            execution.exchangeName(),
+            execution.instrument(),
+            execution.tradeId(),
+            execution.id());
+    if (claimed == 0) {
+      return false;
+    }
     String sql =
         """
         INSERT INTO executions (
@@ -33,26 +45,22 @@ public class JdbcExecutionRepository implements ExecutionRepository {
             executed_at,
             created_at
         ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NOW())
-        ON CONFLICT (exchange_name, instrument, trade_id) DO NOTHING
-        RETURNING id
         """;
-    List<UUID> inserted =
-        jdbcTemplate.query(
-            sql,
-            (rs, rowNum) -> rs.getObject("id", UUID.class),
-            execution.id(),
-            execution.orderId(),
-            execution.accountId(),
-            execution.instrument(),
-            execution.tradeId(),
-            execution.exchangeName(),
-            execution.exchangeOrderId(),
-            execution.side(),
-            execution.qty(),
-            execution.price(),
-            execution.feeAsset(),
-            execution.feeAmount(),
-            execution.executedAt());
-    return !inserted.isEmpty();
+    jdbcTemplate.update(
+        sql,
+        execution.id(),
+        execution.orderId(),
+        execution.accountId(),
+        execution.instrument(),
+        execution.tradeId(),
+        execution.exchangeName(),
+        execution.exchangeOrderId(),
+        execution.side(),
+        execution.qty(),
+        execution.price(),
+        execution.feeAsset(),
+        execution.feeAmount(),
+        execution.executedAt());
+    return true;
   }
 }
@@ -0,0 +1,33 @@
+package com.tradingplatform.worker.latency;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class JdbcOrderLatencyTraceRepository implements OrderLatencyTraceRepository {
+  private final JdbcTemplate jdbcTemplate;
+
+  public JdbcOrderLatencyTraceRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  public void save(UUID orderId, long totalMicros, String stageTrace) {
+    String sql =
+        """
+        INSERT INTO order_latency_traces (order_id, total_micros, stage_trace, recorded_at)
+        VALUES (?, ?, ?, NOW())
+        ON CONFLICT (order_id) DO NOTHING
+        """;
+    jdbcTemplate.update(sql, orderId, totalMicros, stageTrace);
+  }
+
+  @Override
+  public int deleteRecordedBefore(Instant cutoff) {
+    return jdbcTemplate.update(
+        "DELETE FROM order_latency_traces WHERE recorded_at < ?", Timestamp.from(cutoff));
+  }
+}
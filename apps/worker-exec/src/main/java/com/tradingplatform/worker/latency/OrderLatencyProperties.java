@@ -0,0 +1,36 @@
+package com.tradingplatform.worker.latency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "worker.latency")
+public class OrderLatencyProperties {
+  private long slowOrderThresholdMs = 250L;
+  private long retentionHours = 24L;
+  private long purgeIntervalMs = 3_600_000L;
+
+  public long getSlowOrderThresholdMs() {
+    return slowOrderThresholdMs;
+  }
+
+  public void setSlowOrderThresholdMs(long slowOrderThresholdMs) {
+    this.slowOrderThresholdMs = slowOrderThresholdMs;
+  }
+
+  public long getRetentionHours() {
+    return retentionHours;
+  }
+
+  public void setRetentionHours(long retentionHours) {
+    this.retentionHours = retentionHours;
+  }
+
+  public long getPurgeIntervalMs() {
+    return purgeIntervalMs;
+  }
+
+  public void setPurgeIntervalMs(long purgeIntervalMs) {
+    this.purgeIntervalMs = purgeIntervalMs;
+  }
+}
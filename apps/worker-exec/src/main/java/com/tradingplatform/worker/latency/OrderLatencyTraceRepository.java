@@ -0,0 +1,10 @@
+package com.tradingplatform.worker.latency;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface OrderLatencyTraceRepository {
+  void save(UUID orderId, long totalMicros, String stageTrace);
+
+  int deleteRecordedBefore(Instant cutoff);
+}
@@ -0,0 +1,74 @@
+package com.tradingplatform.worker.latency;
+
+import com.tradingplatform.infra.kafka.contract.OrderStages;
+import com.tradingplatform.infra.kafka.observability.StageLatencyRecorder;
+import com.tradingplatform.infra.kafka.observability.StageTrace;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Closes an order's stage trace once its exchange ACK has committed: records the worker-side hops
+ * and the end-to-end total, and keeps traces over the slow-order threshold for the admin view.
+ */
+@Component
+public class OrderLatencyTracker {
+  private static final Logger log = LoggerFactory.getLogger(OrderLatencyTracker.class);
+
+  private final StageLatencyRecorder stageLatencyRecorder;
+  private final OrderLatencyTraceRepository orderLatencyTraceRepository;
+  private final OrderLatencyProperties properties;
+
+  public OrderLatencyTracker(
+      StageLatencyRecorder stageLatencyRecorder,
+      OrderLatencyTraceRepository orderLatencyTraceRepository,
+      OrderLatencyProperties properties) {
+    this.stageLatencyRecorder = stageLatencyRecorder;
+    this.orderLatencyTraceRepository = orderLatencyTraceRepository;
+    this.properties = properties;
+  }
+
+  public void onAckCommitted(UUID orderId, StageTrace stageTrace) {
+    // No exchange stages means the submission was a duplicate and nothing was sent.
+    if (stageTrace == null || !stageTrace.has(OrderStages.EXCHANGE_ACKED)) {
+      return;
+    }
+    stageTrace.mark(OrderStages.ACK_COMMITTED);
+    stageLatencyRecorder.recordHops(
+        stageTrace,
+        OrderStages.CONSUMER_RECEIVED,
+        OrderStages.EXCHANGE_REQUEST_SENT,
+        OrderStages.EXCHANGE_ACKED,
+        OrderStages.ACK_COMMITTED);
+    stageLatencyRecorder.recordTotal(
+        stageTrace, OrderStages.API_RECEIVED, OrderStages.ACK_COMMITTED);
+
+    long totalMicros = stageTrace.spanMicros(OrderStages.API_RECEIVED, OrderStages.ACK_COMMITTED);
+    if (totalMicros < properties.getSlowOrderThresholdMs() * 1_000L) {
+      return;
+    }
+    try {
+      orderLatencyTraceRepository.save(orderId, totalMicros, stageTrace.encode());
+    } catch (RuntimeException ex) {
+      log.warn(
+          "Failed to store slow order trace order_id={} total_micros={} error={}",
+          orderId,
+          totalMicros,
+          ex.getMessage());
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${worker.latency.purge-interval-ms:3600000}")
+  public void purgeExpiredTraces() {
+    Instant cutoff =
+        Instant.now().minus(Duration.ofHours(Math.max(1L, properties.getRetentionHours())));
+    int deleted = orderLatencyTraceRepository.deleteRecordedBefore(cutoff);
+    if (deleted > 0) {
+      log.info("Purged slow order traces deleted={} cutoff={}", deleted, cutoff);
+    }
+  }
+}
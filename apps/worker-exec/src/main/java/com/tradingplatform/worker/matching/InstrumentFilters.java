@@ -0,0 +1,5 @@
+package com.tradingplatform.worker.matching;
+
+import java.math.BigDecimal;
+
+public record InstrumentFilters(String symbol, BigDecimal tickSize, BigDecimal stepSize) {}
@@ -0,0 +1,403 @@
+package com.tradingplatform.worker.matching;
+
+import com.tradingplatform.integration.binance.BinanceTradeSnapshot;
+import com.tradingplatform.matching.Fill;
+import com.tradingplatform.matching.MatchResult;
+import com.tradingplatform.matching.MatchingEngine;
+import com.tradingplatform.matching.RemovedOrder;
+import com.tradingplatform.matching.Side;
+import com.tradingplatform.worker.connector.BinanceFillProcessor;
+import com.tradingplatform.worker.connector.FillProcessingOutcome;
+import com.tradingplatform.worker.execution.ExecutionAckResult;
+import com.tradingplatform.worker.execution.ExecutionOrderAdapter;
+import com.tradingplatform.worker.execution.SubmitOrderCommand;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Crosses eligible LIMIT orders against other clients' resting orders before they reach the
+ * exchange. The engine's per-symbol lock is held from the cross until the submitting transaction
+ * completes, so the book never runs ahead of committed fills. A rolled back cross rebuilds the
+ * symbol's book from the orders table.
+ */
+@Service
+@ConditionalOnProperty(prefix = "worker.matching", name = "enabled", havingValue = "true")
+public class InternalCrossingService {
+  public static final String EXCHANGE_NAME = "INTERNAL";
+  public static final String ROUTING_EXCHANGE_NAME = "INTERNAL_ROUTING";
+  private static final Logger log = LoggerFactory.getLogger(InternalCrossingService.class);
+  private static final String EXCHANGE_ORDER_ID_PREFIX = "INT-";
+  private static final String LIMIT = "LIMIT";
+  private static final String CROSSED_ORDERS_TOTAL_METRIC = "worker.matching.orders.total";
+  private static final String INTERNAL_FILLS_TOTAL_METRIC = "worker.matching.fills.total";
+  private static final String ROUTED_ORDERS_TOTAL_METRIC = "worker.matching.routed.total";
+  private static final String BOOK_REBUILDS_TOTAL_METRIC = "worker.matching.rebuilds.total";
+
+  private final MatchingProperties properties;
+  private final InternalOrderRepository internalOrderRepository;
+  private final BinanceFillProcessor fillProcessor;
+  private final ExecutionOrderAdapter executionOrderAdapter;
+  private final MeterRegistry meterRegistry;
+  private final MatchingEngine engine = new MatchingEngine();
+  private final Map<UUID, SubmitOrderCommand> restingCommands = new ConcurrentHashMap<>();
+  private final Queue<PendingRoute> selfTradeRemainders = new ConcurrentLinkedQueue<>();
+
+  public InternalCrossingService(
+      MatchingProperties properties,
+      InternalOrderRepository internalOrderRepository,
+      BinanceFillProcessor fillProcessor,
+      ExecutionOrderAdapter executionOrderAdapter,
+      MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.internalOrderRepository = internalOrderRepository;
+    this.fillProcessor = fillProcessor;
+    this.executionOrderAdapter = executionOrderAdapter;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    for (String symbol : properties.getSymbols()) {
+      InstrumentFilters filters = internalOrderRepository.findFilters(symbol).orElse(null);
+      if (filters == null) {
+        log.warn(
+            "Skipping internal matching for symbol={} without active tick/step filters", symbol);
+        continue;
+      }
+      engine.register(filters.symbol(), filters.tickSize(), filters.stepSize());
+      withSymbolLock(filters.symbol(), () -> rebuild(filters.symbol()));
+      warnPendingRoutes(filters.symbol());
+    }
+    log.info("Internal matching enabled for symbols={}", engine.symbols());
+  }
+
+  public boolean accepts(SubmitOrderCommand command) {
+    if (!LIMIT.equals(command.type())
+        || command.price() == null
+        || !engine.handles(command.instrument())) {
+      return false;
+    }
+    return engine.execute(
+        command.instrument(), book -> book.accepts(command.price(), command.qty()));
+  }
+
+  public ExecutionAckResult acknowledge(SubmitOrderCommand command) {
+    return new ExecutionAckResult(
+        EXCHANGE_NAME,
+        exchangeOrderId(UUID.fromString(command.orderId())),
+        command.clientOrderId());
+  }
+
+  /**
+   * Matches an already ACKed order against the internal book and posts both legs of every fill in
+   * the caller's transaction. Any remainder rests until the sweeper routes it to the exchange; a
+   * remainder stopped by self-trade prevention is routed on the next sweep without resting.
+   */
+  public MatchResult cross(SubmitOrderCommand command) {
+    if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+      throw new IllegalStateException("Internal crossing requires an active transaction");
+    }
+    String symbol = command.instrument();
+    ReentrantLock lock = engine.lock(symbol);
+    lock.lock();
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCompletion(int status) {
+            try {
+              if (status != STATUS_COMMITTED) {
+                rebuild(symbol);
+              }
+            } finally {
+              lock.unlock();
+            }
+          }
+        });
+
+    UUID orderId = UUID.fromString(command.orderId());
+    UUID accountId = UUID.fromString(command.accountId());
+    Side side = Side.valueOf(command.side());
+    evictClosedMakers(symbol, accountId, side, command.price(), command.qty());
+    MatchResult result =
+        engine.execute(
+            symbol,
+            book ->
+                book.submitLimit(
+                    orderId, accountId, side, command.price(), command.qty(), System.nanoTime()));
+    if (result.rested()) {
+      restingCommands.put(orderId, command);
+    }
+    if (result.selfTradePrevented()) {
+      RemovedOrder remainder =
+          new RemovedOrder(orderId, side, command.price(), result.selfTradeQty());
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+              if (status == STATUS_COMMITTED) {
+                restingCommands.put(orderId, command);
+                selfTradeRemainders.add(new PendingRoute(symbol, remainder));
+              }
+            }
+          });
+    }
+
+    Instant executedAt = Instant.now();
+    Set<UUID> makers = new TreeSet<>();
+    for (Fill fill : result.fills()) {
+      String tradeId = EXCHANGE_ORDER_ID_PREFIX + UUID.randomUUID();
+      postLeg(symbol, fill.makerOrderId(), side.opposite(), tradeId + "-M", fill, executedAt);
+      postLeg(symbol, orderId, side, tradeId + "-T", fill, executedAt);
+      makers.add(fill.makerOrderId());
+    }
+    if (!makers.isEmpty()) {
+      List<UUID> stillResting =
+          engine.execute(symbol, book -> makers.stream().filter(book::contains).toList());
+      makers.removeAll(stillResting);
+      makers.forEach(restingCommands::remove);
+      meterRegistry.counter(INTERNAL_FILLS_TOTAL_METRIC).increment(result.fills().size());
+    }
+    meterRegistry.counter(CROSSED_ORDERS_TOTAL_METRIC, "outcome", crossOutcome(result)).increment();
+    return result;
+  }
+
+  @Scheduled(fixedDelayString = "${worker.matching.sweep-interval-ms:100}")
+  public void routeExpiredOrders() {
+    for (PendingRoute pending = selfTradeRemainders.poll();
+        pending != null;
+        pending = selfTradeRemainders.poll()) {
+      route(pending.symbol(), pending.order());
+    }
+    long cutoff = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(properties.getRestWindowMs());
+    for (String symbol : engine.symbols()) {
+      List<RemovedOrder> expired = new ArrayList<>();
+      withSymbolLock(
+          symbol,
+          () -> expired.addAll(engine.execute(symbol, book -> book.removeRestedBefore(cutoff))));
+      for (RemovedOrder removed : expired) {
+        route(symbol, removed);
+      }
+    }
+  }
+
+  private void evictClosedMakers(
+      String symbol, UUID accountId, Side side, BigDecimal price, BigDecimal qty) {
+    List<UUID> makers =
+        engine.execute(symbol, book -> book.matchableMakers(accountId, side, price, qty));
+    while (!makers.isEmpty()) {
+      List<UUID> closed = new ArrayList<>();
+      for (UUID makerId : new TreeSet<>(makers)) {
+        if (!internalOrderRepository.lockOpenInternalOrder(makerId)) {
+          closed.add(makerId);
+        }
+      }
+      if (closed.isEmpty()) {
+        return;
+      }
+      engine.execute(
+          symbol,
+          book -> {
+            closed.forEach(book::cancel);
+            return null;
+          });
+      closed.forEach(restingCommands::remove);
+      makers = engine.execute(symbol, book -> book.matchableMakers(accountId, side, price, qty));
+    }
+  }
+
+  private void postLeg(
+      String symbol, UUID orderId, Side side, String tradeId, Fill fill, Instant executedAt) {
+    FillProcessingOutcome outcome =
+        fillProcessor.processTrade(
+            EXCHANGE_NAME,
+            new BinanceTradeSnapshot(
+                symbol,
+                tradeId,
+                exchangeOrderId(orderId),
+                side.name(),
+                fill.qty(),
+                fill.price(),
+                null,
+                BigDecimal.ZERO,
+                executedAt));
+    if (outcome != FillProcessingOutcome.INSERTED) {
+      throw new IllegalStateException(
+          "Internal fill " + tradeId + " for order " + orderId + " was not applied: " + outcome);
+    }
+  }
+
+  // The order is claimed and its venue recorded in separate statements so no row lock or
+  // transaction is held across the exchange call.
+  private void route(String symbol, RemovedOrder removed) {
+    SubmitOrderCommand original = restingCommands.remove(removed.orderId());
+    if (original == null) {
+      return;
+    }
+    boolean claimed;
+    try {
+      claimed = internalOrderRepository.claimForRouting(removed.orderId());
+    } catch (RuntimeException ex) {
+      meterRegistry.counter(ROUTED_ORDERS_TOTAL_METRIC, "outcome", "failed").increment();
+      log.warn(
+          "Failed to claim orderId={} for routing; re-resting internally", removed.orderId(), ex);
+      restore(symbol, removed, original);
+      return;
+    }
+    if (!claimed) {
+      meterRegistry.counter(ROUTED_ORDERS_TOTAL_METRIC, "outcome", "closed").increment();
+      return;
+    }
+    placeClaimed(symbol, removed, original);
+  }
+
+  private void placeClaimed(String symbol, RemovedOrder removed, SubmitOrderCommand original) {
+    SubmitOrderCommand command =
+        new SubmitOrderCommand(
+            original.orderId(),
+            original.accountId(),
+            original.instrument(),
+            original.side(),
+            original.type(),
+            removed.remainingQty(),
+            original.price(),
+            original.clientOrderId(),
+            original.submittedAt(),
+            original.correlationId(),
+            original.eventId());
+    ExecutionAckResult ackResult;
+    try {
+      ackResult = executionOrderAdapter.placeOrder(command);
+    } catch (RuntimeException ex) {
+      meterRegistry.counter(ROUTED_ORDERS_TOTAL_METRIC, "outcome", "failed").increment();
+      log.warn(
+          "Failed to route orderId={} to exchange; re-resting internally", removed.orderId(), ex);
+      if (internalOrderRepository.releaseRoutingClaim(removed.orderId())) {
+        restore(symbol, removed, original);
+      }
+      return;
+    }
+    try {
+      internalOrderRepository.reassignVenue(removed.orderId(), ackResult, Instant.now());
+      meterRegistry.counter(ROUTED_ORDERS_TOTAL_METRIC, "outcome", "routed").increment();
+    } catch (RuntimeException ex) {
+      meterRegistry.counter(ROUTED_ORDERS_TOTAL_METRIC, "outcome", "failed").increment();
+      log.error(
+          "Routed orderId={} to exchange as {} but failed to record venue; order left pending route",
+          removed.orderId(),
+          ackResult.exchangeOrderId(),
+          ex);
+    }
+  }
+
+  private void restore(String symbol, RemovedOrder removed, SubmitOrderCommand original) {
+    withSymbolLock(
+        symbol,
+        () -> {
+          engine.execute(
+              symbol,
+              book -> {
+                book.restore(
+                    removed.orderId(),
+                    UUID.fromString(original.accountId()),
+                    removed.side(),
+                    removed.price(),
+                    removed.remainingQty(),
+                    System.nanoTime());
+                return null;
+              });
+          restingCommands.put(removed.orderId(), original);
+        });
+  }
+
+  // A crash between the claim and recording the venue leaves the order pending; whether the
+  // exchange accepted it is unknown, so it is reported rather than sent again.
+  private void warnPendingRoutes(String symbol) {
+    for (InternalRestingOrder order : internalOrderRepository.findOrdersPendingRoute(symbol)) {
+      log.warn(
+          "Order orderId={} symbol={} was left pending route; check the exchange by clientOrderId={}",
+          order.id(),
+          symbol,
+          order.clientOrderId());
+    }
+  }
+
+  private void rebuild(String symbol) {
+    List<InternalRestingOrder> open = internalOrderRepository.findOpenInternalOrders(symbol);
+    long now = System.nanoTime();
+    List<InternalRestingOrder> restored =
+        engine.execute(
+            symbol,
+            book -> {
+              book.clear();
+              List<InternalRestingOrder> accepted = new ArrayList<>();
+              for (InternalRestingOrder order : open) {
+                if (order.price() == null || !book.accepts(order.price(), order.remainingQty())) {
+                  log.warn(
+                      "Cannot restore orderId={} on internal book for symbol={}",
+                      order.id(),
+                      symbol);
+                  continue;
+                }
+                book.restore(
+                    order.id(),
+                    order.accountId(),
+                    Side.valueOf(order.side()),
+                    order.price(),
+                    order.remainingQty(),
+                    now);
+                accepted.add(order);
+              }
+              return accepted;
+            });
+    restingCommands.values().removeIf(command -> symbol.equals(command.instrument()));
+    restored.forEach(order -> restingCommands.put(order.id(), order.toCommand()));
+    meterRegistry.counter(BOOK_REBUILDS_TOTAL_METRIC, "symbol", symbol).increment();
+  }
+
+  private void withSymbolLock(String symbol, Runnable action) {
+    ReentrantLock lock = engine.lock(symbol);
+    lock.lock();
+    try {
+      action.run();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static String crossOutcome(MatchResult result) {
+    if (result.selfTradePrevented()) {
+      return "self_trade_prevented";
+    }
+    if (result.fills().isEmpty()) {
+      return "rested";
+    }
+    return result.rested() ? "partially_crossed" : "crossed";
+  }
+
+  private static String exchangeOrderId(UUID orderId) {
+    return EXCHANGE_ORDER_ID_PREFIX + orderId;
+  }
+
+  private record PendingRoute(String symbol, RemovedOrder order) {}
+}
@@ -0,0 +1,26 @@
+package com.tradingplatform.worker.matching;
+
+import com.tradingplatform.worker.execution.ExecutionAckResult;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface InternalOrderRepository {
+  Optional<InstrumentFilters> findFilters(String symbol);
+
+  List<InternalRestingOrder> findOpenInternalOrders(String symbol);
+
+  /** Locks the order row and reports whether it is still resting on the internal book. */
+  boolean lockOpenInternalOrder(UUID orderId);
+
+  List<InternalRestingOrder> findOrdersPendingRoute(String symbol);
+
+  /** Takes a resting internal order off the internal venue ahead of routing it to the exchange. */
+  boolean claimForRouting(UUID orderId);
+
+  /** Puts a claimed order back on the internal venue after the exchange refused it. */
+  boolean releaseRoutingClaim(UUID orderId);
+
+  boolean reassignVenue(UUID orderId, ExecutionAckResult ackResult, Instant updatedAt);
+}
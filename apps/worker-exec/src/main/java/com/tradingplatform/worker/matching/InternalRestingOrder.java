@@ -0,0 +1,38 @@
+package com.tradingplatform.worker.matching;
+
+import com.tradingplatform.worker.execution.SubmitOrderCommand;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+public record InternalRestingOrder(
+    UUID id,
+    UUID accountId,
+    String instrument,
+    String side,
+    String type,
+    BigDecimal qty,
+    BigDecimal filledQty,
+    BigDecimal price,
+    String clientOrderId,
+    Instant createdAt) {
+
+  public BigDecimal remainingQty() {
+    return qty.subtract(filledQty);
+  }
+
+  public SubmitOrderCommand toCommand() {
+    return new SubmitOrderCommand(
+        id.toString(),
+        accountId.toString(),
+        instrument,
+        side,
+        type,
+        qty,
+        price,
+        clientOrderId,
+        createdAt,
+        null,
+        null);
+  }
+}
@@ -0,0 +1,164 @@
+package com.tradingplatform.worker.matching;
+
+import com.tradingplatform.worker.execution.ExecutionAckResult;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class JdbcInternalOrderRepository implements InternalOrderRepository {
+  private final JdbcTemplate jdbcTemplate;
+
+  public JdbcInternalOrderRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  public Optional<InstrumentFilters> findFilters(String symbol) {
+    String sql =
+        """
+        SELECT symbol, tick_size, step_size
+        FROM instruments
+        WHERE symbol = ?
+          AND status = 'ACTIVE'
+          AND tick_size IS NOT NULL
+          AND step_size IS NOT NULL
+        """;
+    return jdbcTemplate
+        .query(
+            sql,
+            (rs, rowNum) ->
+                new InstrumentFilters(
+                    rs.getString("symbol"),
+                    rs.getBigDecimal("tick_size"),
+                    rs.getBigDecimal("step_size")),
+            symbol)
+        .stream()
+        .findFirst();
+  }
+
+  @Override
+  public List<InternalRestingOrder> findOpenInternalOrders(String symbol) {
+    return findOpenOrders(InternalCrossingService.EXCHANGE_NAME, symbol);
+  }
+
+  @Override
+  public List<InternalRestingOrder> findOrdersPendingRoute(String symbol) {
+    return findOpenOrders(InternalCrossingService.ROUTING_EXCHANGE_NAME, symbol);
+  }
+
+  private List<InternalRestingOrder> findOpenOrders(String exchangeName, String symbol) {
+    String sql =
+        """
+        SELECT id,
+               account_id,
+               instrument,
+               side,
+               type,
+               qty,
+               filled_qty,
+               price,
+               client_order_id,
+               created_at
+        FROM orders
+        WHERE exchange_name = ?
+          AND instrument = ?
+          AND status IN ('ACK', 'PARTIALLY_FILLED')
+        ORDER BY created_at ASC, id ASC
+        """;
+    return jdbcTemplate.query(
+        sql,
+        (rs, rowNum) -> {
+          Timestamp createdAt = rs.getTimestamp("created_at");
+          return new InternalRestingOrder(
+              rs.getObject("id", UUID.class),
+              rs.getObject("account_id", UUID.class),
+              rs.getString("instrument"),
+              rs.getString("side"),
+              rs.getString("type"),
+              rs.getBigDecimal("qty"),
+              rs.getBigDecimal("filled_qty"),
+              rs.getBigDecimal("price"),
+              rs.getString("client_order_id"),
+              createdAt == null ? null : createdAt.toInstant());
+        },
+        exchangeName,
+        symbol);
+  }
+
+  @Override
+  public boolean lockOpenInternalOrder(UUID orderId) {
+    String sql =
+        """
+        SELECT status, exchange_name
+        FROM orders
+        WHERE id = ?
+        FOR UPDATE
+        """;
+    List<Boolean> rows =
+        jdbcTemplate.query(
+            sql,
+            (rs, rowNum) ->
+                InternalCrossingService.EXCHANGE_NAME.equals(rs.getString("exchange_name"))
+                    && ("ACK".equals(rs.getString("status"))
+                        || "PARTIALLY_FILLED".equals(rs.getString("status"))),
+            orderId);
+    return !rows.isEmpty() && rows.getFirst();
+  }
+
+  @Override
+  public boolean claimForRouting(UUID orderId) {
+    return moveVenue(
+        orderId,
+        InternalCrossingService.EXCHANGE_NAME,
+        InternalCrossingService.ROUTING_EXCHANGE_NAME);
+  }
+
+  @Override
+  public boolean releaseRoutingClaim(UUID orderId) {
+    return moveVenue(
+        orderId,
+        InternalCrossingService.ROUTING_EXCHANGE_NAME,
+        InternalCrossingService.EXCHANGE_NAME);
+  }
+
+  @Override
+  public boolean reassignVenue(UUID orderId, ExecutionAckResult ackResult, Instant updatedAt) {
+    String sql =
+        """
+        UPDATE orders
+        SET exchange_name = ?,
+            exchange_order_id = ?,
+            exchange_client_order_id = ?,
+            updated_at = ?
+        WHERE id = ?
+          AND exchange_name = ?
+        """;
+    return jdbcTemplate.update(
+            sql,
+            ackResult.exchangeName(),
+            ackResult.exchangeOrderId(),
+            ackResult.exchangeClientOrderId(),
+            Timestamp.from(updatedAt),
+            orderId,
+            InternalCrossingService.ROUTING_EXCHANGE_NAME)
+        == 1;
+  }
+
+  private boolean moveVenue(UUID orderId, String fromExchangeName, String toExchangeName) {
+    String sql =
+        """
+        UPDATE orders
+        SET exchange_name = ?,
+            updated_at = NOW()
+        WHERE id = ?
+          AND exchange_name = ?
+          AND status IN ('ACK', 'PARTIALLY_FILLED')
+        """;
+    return jdbcTemplate.update(sql, toExchangeName, orderId, fromExchangeName) == 1;
+  }
+}
@@ -0,0 +1,47 @@
+package com.tradingplatform.worker.matching;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "worker.matching")
+public class MatchingProperties {
+  private boolean enabled;
+  private List<String> symbols = new ArrayList<>();
+  private long restWindowMs = 250L;
+  private long sweepIntervalMs = 100L;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public List<String> getSymbols() {
+    return symbols;
+  }
+
+  public void setSymbols(List<String> symbols) {
+    this.symbols = symbols;
+  }
+
+  public long getRestWindowMs() {
+    return restWindowMs;
+  }
+
+  public void setRestWindowMs(long restWindowMs) {
+    this.restWindowMs = restWindowMs;
+  }
+
+  public long getSweepIntervalMs() {
+    return sweepIntervalMs;
+  }
+
+  public void setSweepIntervalMs(long sweepIntervalMs) {
+    this.sweepIntervalMs = sweepIntervalMs;
+  }
+}
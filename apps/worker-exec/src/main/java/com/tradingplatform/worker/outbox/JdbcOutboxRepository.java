@@ -2,6 +2,7 @@ package com.tradingplatform.worker.outbox;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
@@ -59,7 +60,8 @@ public class JdbcOutboxRepository implements OutboxRepository {
                           outbox.event_key,
                           outbox.status,
                           outbox.attempt_count,
-                          outbox.created_at
+                          outbox.created_at,
+                          outbox.stage_trace
                 """;
     return jdbcTemplate.query(sql, this::mapRecord, safeLimit);
   }
@@ -99,6 +101,16 @@ public class JdbcOutboxRepository implements OutboxRepository {
     jdbcTemplate.update(sql, MAX_ATTEMPTS, errorMessage, MAX_ATTEMPTS, id);
   }
 
+  @Override
+  public int deleteCreatedBefore(Instant cutoff) {
+    String sql =
+        """
+                DELETE FROM outbox_events
+                WHERE created_at < ?
+                """;
+    return jdbcTemplate.update(sql, Timestamp.from(cutoff));
+  }
+
   private OutboxEventRecord mapRecord(ResultSet rs, int rowNum) throws SQLException {
     return new OutboxEventRecord(
         rs.getObject("id", UUID.class),
@@ -110,6 +122,7 @@ public class JdbcOutboxRepository implements OutboxRepository {
         rs.getString("event_key"),
         rs.getString("status"),
         rs.getInt("attempt_count"),
-        rs.getTimestamp("created_at").toInstant());
+        rs.getTimestamp("created_at").toInstant(),
+        rs.getString("stage_trace"));
   }
 }
@@ -13,4 +13,30 @@ public record OutboxEventRecord(
     String eventKey,
     String status,
     int attemptCount,
-    Instant createdAt) {}
+    Instant createdAt,
+    String stageTrace) {
+  public OutboxEventRecord(
+      UUID id,
+      String aggregateType,
+      String aggregateId,
+      String eventType,
+      String eventPayload,
+      String topic,
+      String eventKey,
+      String status,
+      int attemptCount,
+      Instant createdAt) {
+    this(
+        id,
+        aggregateType,
+        aggregateId,
+        eventType,
+        eventPayload,
+        topic,
+        eventKey,
+        status,
+        attemptCount,
+        createdAt,
+        null);
+  }
+}
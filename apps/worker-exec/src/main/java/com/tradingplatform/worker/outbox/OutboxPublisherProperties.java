@@ -10,6 +10,8 @@ public class OutboxPublisherProperties {
   private int batchSize = 100;
   private long fixedDelayMs = 1_000L;
   private String producerName = "worker-exec-outbox-publisher";
+  private String mode = "polling";
+  private final LogicalReplication logicalReplication = new LogicalReplication();
 
   public boolean isEnabled() {
     return enabled;
@@ -42,4 +44,73 @@ public class OutboxPublisherProperties {
   public void setProducerName(String producerName) {
     this.producerName = producerName;
   }
+
+  public String getMode() {
+    return mode;
+  }
+
+  public void setMode(String mode) {
+    this.mode = mode;
+  }
+
+  public LogicalReplication getLogicalReplication() {
+    return logicalReplication;
+  }
+
+  public static class LogicalReplication {
+    private String slotName = "worker_exec_outbox";
+    private String publicationName = "outbox_events_pub";
+    private long statusIntervalMs = 10_000L;
+    private long reconnectBackoffMs = 5_000L;
+    private long retentionHours = 24L;
+    private long purgeIntervalMs = 3_600_000L;
+
+    public String getSlotName() {
+      return slotName;
+    }
+
+    public void setSlotName(String slotName) {
+      this.slotName = slotName;
+    }
+
+    public String getPublicationName() {
+      return publicationName;
+    }
+
+    public void setPublicationName(String publicationName) {
+      this.publicationName = publicationName;
+    }
+
+    public long getStatusIntervalMs() {
+      return statusIntervalMs;
+    }
+
+    public void setStatusIntervalMs(long statusIntervalMs) {
+      this.statusIntervalMs = statusIntervalMs;
+    }
+
+    public long getReconnectBackoffMs() {
+      return reconnectBackoffMs;
+    }
+
+    public void setReconnectBackoffMs(long reconnectBackoffMs) {
+      this.reconnectBackoffMs = reconnectBackoffMs;
+    }
+
+    public long getRetentionHours() {
+      return retentionHours;
+    }
+
+    public void setRetentionHours(long retentionHours) {
+      this.retentionHours = retentionHours;
+    }
+
+    public long getPurgeIntervalMs() {
+      return purgeIntervalMs;
+    }
+
+    public void setPurgeIntervalMs(long purgeIntervalMs) {
+      this.purgeIntervalMs = purgeIntervalMs;
+    }
+  }
 }
@@ -1,10 +1,5 @@
 package com.tradingplatform.worker.outbox;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.tradingplatform.infra.kafka.contract.EventEnvelope;
-import com.tradingplatform.infra.kafka.producer.EventPublisher;
-import java.io.IOException;
 import java.time.Instant;
 import java.util.List;
 import org.slf4j.Logger;
@@ -19,23 +14,25 @@ import org.springframework.stereotype.Service;
     name = "enabled",
     havingValue = "true",
     matchIfMissing = true)
+@ConditionalOnProperty(
+    prefix = "outbox.publisher",
+    name = "mode",
+    havingValue = "polling",
+    matchIfMissing = true)
 public class OutboxPublisherService {
   private static final Logger log = LoggerFactory.getLogger(OutboxPublisherService.class);
 
   private final OutboxRepository outboxRepository;
-  private final EventPublisher eventPublisher;
+  private final OutboxRecordPublisher recordPublisher;
   private final OutboxPublisherProperties properties;
-  private final ObjectMapper objectMapper;
 
   public OutboxPublisherService(
       OutboxRepository outboxRepository,
-      EventPublisher eventPublisher,
-      OutboxPublisherProperties properties,
-      ObjectMapper objectMapper) {
+      OutboxRecordPublisher recordPublisher,
+      OutboxPublisherProperties properties) {
     this.outboxRepository = outboxRepository;
-    this.eventPublisher = eventPublisher;
+    this.recordPublisher = recordPublisher;
     this.properties = properties;
-    this.objectMapper = objectMapper;
   }
 
   @Scheduled(fixedDelayString = "${outbox.publisher.fixed-delay-ms:1000}")
@@ -45,25 +42,15 @@ public class OutboxPublisherService {
       return;
     }
 
+    Instant claimedAt = Instant.now();
     for (OutboxEventRecord record : pending) {
-      publishSingle(record);
+      publishSingle(record, claimedAt);
     }
   }
 
-  private void publishSingle(OutboxEventRecord record) {
+  private void publishSingle(OutboxEventRecord record, Instant claimedAt) {
     try {
-      JsonNode payload = parsePayload(record.eventPayload());
-      int eventVersion = eventVersionFor(record.topic());
-      EventEnvelope<JsonNode> envelope =
-          EventEnvelope.of(
-              record.eventType(),
-              eventVersion,
-              properties.getProducerName(),
-              correlationIdFor(record),
-              messageKeyFor(record),
-              payload);
-
-      eventPublisher.publish(record.topic(), messageKeyFor(record), envelope).join();
+      recordPublisher.publish(record, claimedAt).join();
       outboxRepository.markPublished(record.id(), Instant.now());
 
       log.info(
@@ -84,30 +71,6 @@ public class OutboxPublisherService {
     }
   }
 
-  private JsonNode parsePayload(String payloadJson) throws IOException {
-    if (payloadJson == null || payloadJson.isBlank()) {
-      return objectMapper.createObjectNode();
-    }
-    return objectMapper.readTree(payloadJson);
-  }
-
-  private static String correlationIdFor(OutboxEventRecord record) {
-    if (record.aggregateId() != null && !record.aggregateId().isBlank()) {
-      return record.aggregateId();
-    }
-    return record.id().toString();
-  }
-
-  private static String messageKeyFor(OutboxEventRecord record) {
-    if (record.eventKey() != null && !record.eventKey().isBlank()) {
-      return record.eventKey();
-    }
-    if (record.aggregateId() != null && !record.aggregateId().isBlank()) {
-      return record.aggregateId();
-    }
-    return record.id().toString();
-  }
-
   private static String errorMessage(Exception ex) {
     String message = ex.getMessage();
     if (message == null || message.isBlank()) {
@@ -115,21 +78,4 @@ public class OutboxPublisherService {
     }
     return message;
   }
-
-  private static int eventVersionFor(String topic) {
-    if (topic == null || topic.isBlank()) {
-      return 1;
-    }
-    int marker = topic.lastIndexOf(".v");
-    if (marker < 0 || marker + 2 >= topic.length()) {
-      return 1;
-    }
-    String suffix = topic.substring(marker + 2);
-    try {
-      int parsed = Integer.parseInt(suffix);
-      return parsed >= 1 ? parsed : 1;
-    } catch (NumberFormatException ignored) {
-      return 1;
-    }
-  }
 }
@@ -0,0 +1,101 @@
+package com.tradingplatform.worker.outbox;
+
+import com.tradingplatform.infra.kafka.contract.EventEnvelope;
+import com.tradingplatform.infra.kafka.contract.EventHeaders;
+import com.tradingplatform.infra.kafka.contract.OrderStages;
+import com.tradingplatform.infra.kafka.observability.StageLatencyRecorder;
+import com.tradingplatform.infra.kafka.observability.StageTrace;
+import com.tradingplatform.infra.kafka.producer.EventPublisher;
+import com.tradingplatform.infra.kafka.serde.RawJsonPayload;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.stereotype.Component;
+
+/**
+ * Turns an outbox row into an event envelope and hands it to Kafka. Shared by the polling publisher
+ * and the logical-replication relay so both emit identical records.
+ */
+@Component
+public class OutboxRecordPublisher {
+  private final EventPublisher eventPublisher;
+  private final OutboxPublisherProperties properties;
+  private final StageLatencyRecorder stageLatencyRecorder;
+
+  public OutboxRecordPublisher(
+      EventPublisher eventPublisher,
+      OutboxPublisherProperties properties,
+      StageLatencyRecorder stageLatencyRecorder) {
+    this.eventPublisher = eventPublisher;
+    this.properties = properties;
+    this.stageLatencyRecorder = stageLatencyRecorder;
+  }
+
+  /** Completes once the broker acknowledged the record. */
+  public CompletableFuture<Void> publish(OutboxEventRecord record, Instant claimedAt) {
+    RawJsonPayload payload = new RawJsonPayload(record.eventPayload());
+    EventEnvelope<RawJsonPayload> envelope =
+        EventEnvelope.of(
+            record.eventType(),
+            eventVersionFor(record.topic()),
+            properties.getProducerName(),
+            correlationIdFor(record),
+            messageKeyFor(record),
+            payload);
+
+    if (record.stageTrace() == null) {
+      return eventPublisher
+          .publish(record.topic(), messageKeyFor(record), envelope)
+          .thenApply(ignored -> null);
+    }
+    StageTrace stageTrace =
+        StageTrace.parse(record.stageTrace()).mark(OrderStages.OUTBOX_CLAIMED, claimedAt);
+    return eventPublisher
+        .publish(
+            record.topic(),
+            messageKeyFor(record),
+            envelope,
+            Map.of(EventHeaders.X_STAGE_TRACE, stageTrace.encode()))
+        .thenApply(
+            ignored -> {
+              stageTrace.mark(OrderStages.KAFKA_PUBLISHED);
+              stageLatencyRecorder.recordHops(
+                  stageTrace, OrderStages.OUTBOX_CLAIMED, OrderStages.KAFKA_PUBLISHED);
+              return null;
+            });
+  }
+
+  private static String correlationIdFor(OutboxEventRecord record) {
+    if (record.aggregateId() != null && !record.aggregateId().isBlank()) {
+      return record.aggregateId();
+    }
+    return record.id().toString();
+  }
+
+  private static String messageKeyFor(OutboxEventRecord record) {
+    if (record.eventKey() != null && !record.eventKey().isBlank()) {
+      return record.eventKey();
+    }
+    if (record.aggregateId() != null && !record.aggregateId().isBlank()) {
+      return record.aggregateId();
+    }
+    return record.id().toString();
+  }
+
+  private static int eventVersionFor(String topic) {
+    if (topic == null || topic.isBlank()) {
+      return 1;
+    }
+    int marker = topic.lastIndexOf(".v");
+    if (marker < 0 || marker + 2 >= topic.length()) {
+      return 1;
+    }
+    String suffix = topic.substring(marker + 2);
+    try {
+      int parsed = Integer.parseInt(suffix);
+      return parsed >= 1 ? parsed : 1;
+    } catch (NumberFormatException ignored) {
+      return 1;
+    }
+  }
+}
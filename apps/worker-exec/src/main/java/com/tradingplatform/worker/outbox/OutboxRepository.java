@@ -10,4 +10,6 @@ public interface OutboxRepository {
   void markPublished(UUID id, Instant publishedAt);
 
   void markFailed(UUID id, String errorMessage);
+
+  int deleteCreatedBefore(Instant cutoff);
 }
@@ -0,0 +1,215 @@
+package com.tradingplatform.worker.outbox.cdc;
+
+import com.tradingplatform.worker.outbox.OutboxEventRecord;
+import com.tradingplatform.worker.outbox.OutboxPublisherProperties;
+import com.tradingplatform.worker.outbox.OutboxRecordPublisher;
+import com.tradingplatform.worker.outbox.OutboxRepository;
+import jakarta.annotation.PreDestroy;
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.postgresql.PGConnection;
+import org.postgresql.PGProperty;
+import org.postgresql.replication.LogSequenceNumber;
+import org.postgresql.replication.PGReplicationStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Streams committed {@code outbox_events} inserts from a pgoutput logical replication slot and
+ * publishes them in commit order. The slot's flushed LSN only advances once Kafka acknowledged
+ * every record of a transaction, so a crash replays from the last acknowledged commit and rows
+ * never need a status update.
+ */
+@Component
+@ConditionalOnProperty(
+    prefix = "outbox.publisher",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+@ConditionalOnProperty(
+    prefix = "outbox.publisher",
+    name = "mode",
+    havingValue = "logical-replication")
+public class LogicalReplicationOutboxRelay {
+  private static final Logger log = LoggerFactory.getLogger(LogicalReplicationOutboxRelay.class);
+  private static final long IDLE_POLL_MS = 10L;
+
+  private final DataSourceProperties dataSourceProperties;
+  private final OutboxRecordPublisher recordPublisher;
+  private final OutboxRepository outboxRepository;
+  private final OutboxPublisherProperties.LogicalReplication properties;
+  private final OutboxTransactionAssembler assembler = new OutboxTransactionAssembler();
+  private final AtomicBoolean running = new AtomicBoolean(false);
+  private final ExecutorService executor =
+      Executors.newSingleThreadExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "outbox-cdc-relay");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  public LogicalReplicationOutboxRelay(
+      DataSourceProperties dataSourceProperties,
+      OutboxRecordPublisher recordPublisher,
+      OutboxRepository outboxRepository,
+      OutboxPublisherProperties properties) {
+    this.dataSourceProperties = dataSourceProperties;
+    this.recordPublisher = recordPublisher;
+    this.outboxRepository = outboxRepository;
+    this.properties = properties.getLogicalReplication();
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    if (running.compareAndSet(false, true)) {
+      executor.execute(this::run);
+    }
+  }
+
+  @PreDestroy
+  public void stop() throws InterruptedException {
+    running.set(false);
+    executor.shutdown();
+    executor.awaitTermination(5, TimeUnit.SECONDS);
+  }
+
+  @Scheduled(fixedDelayString = "${outbox.publisher.logical-replication.purge-interval-ms:3600000}")
+  public void purgeRelayedEvents() {
+    if (properties.getRetentionHours() <= 0) {
+      return;
+    }
+    Instant cutoff = Instant.now().minus(Duration.ofHours(properties.getRetentionHours()));
+    int deleted = outboxRepository.deleteCreatedBefore(cutoff);
+    if (deleted > 0) {
+      log.info("Outbox retention purge deleted={} cutoff={}", deleted, cutoff);
+    }
+  }
+
+  private void run() {
+    while (running.get()) {
+      try (Connection connection = openReplicationConnection()) {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        ensureSlot(connection, pgConnection);
+        try (PGReplicationStream stream = startStream(pgConnection)) {
+          log.info(
+              "Outbox CDC relay streaming slot={} publication={}",
+              properties.getSlotName(),
+              properties.getPublicationName());
+          stream(stream);
+        }
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (Exception ex) {
+        assembler.reset();
+        log.warn(
+            "Outbox CDC relay failed slot={} error={}", properties.getSlotName(), ex.getMessage());
+        if (!backoff()) {
+          return;
+        }
+      }
+    }
+  }
+
+  private void stream(PGReplicationStream stream) throws SQLException, InterruptedException {
+    while (running.get()) {
+      ByteBuffer message = stream.readPending();
+      if (message == null) {
+        TimeUnit.MILLISECONDS.sleep(IDLE_POLL_MS);
+        continue;
+      }
+      var committed = assembler.accept(PgOutputDecoder.decode(message));
+      if (committed.isPresent()) {
+        publish(committed.get().records());
+        LogSequenceNumber lsn = LogSequenceNumber.valueOf(committed.get().endLsn());
+        stream.setAppliedLSN(lsn);
+        stream.setFlushedLSN(lsn);
+      }
+    }
+  }
+
+  private void publish(List<OutboxEventRecord> records) {
+    if (records.isEmpty()) {
+      return;
+    }
+    Instant claimedAt = Instant.now();
+    List<CompletableFuture<Void>> acks = new ArrayList<>(records.size());
+    for (OutboxEventRecord record : records) {
+      acks.add(recordPublisher.publish(record, claimedAt));
+    }
+    CompletableFuture.allOf(acks.toArray(CompletableFuture[]::new)).join();
+    log.debug("Outbox CDC relay published count={}", records.size());
+  }
+
+  private Connection openReplicationConnection() throws SQLException {
+    Properties connectionProperties = new Properties();
+    PGProperty.USER.set(connectionProperties, dataSourceProperties.determineUsername());
+    PGProperty.PASSWORD.set(connectionProperties, dataSourceProperties.determinePassword());
+    PGProperty.REPLICATION.set(connectionProperties, "database");
+    PGProperty.ASSUME_MIN_SERVER_VERSION.set(connectionProperties, "10");
+    PGProperty.PREFER_QUERY_MODE.set(connectionProperties, "simple");
+    return DriverManager.getConnection(dataSourceProperties.determineUrl(), connectionProperties);
+  }
+
+  private void ensureSlot(Connection connection, PGConnection pgConnection) throws SQLException {
+    try (PreparedStatement statement =
+        connection.prepareStatement("SELECT 1 FROM pg_replication_slots WHERE slot_name = ?")) {
+      statement.setString(1, properties.getSlotName());
+      try (ResultSet rs = statement.executeQuery()) {
+        if (rs.next()) {
+          return;
+        }
+      }
+    }
+    pgConnection
+        .getReplicationAPI()
+        .createReplicationSlot()
+        .logical()
+        .withSlotName(properties.getSlotName())
+        .withOutputPlugin("pgoutput")
+        .make();
+    log.info("Created logical replication slot slot={}", properties.getSlotName());
+  }
+
+  private PGReplicationStream startStream(PGConnection pgConnection) throws SQLException {
+    return pgConnection
+        .getReplicationAPI()
+        .replicationStream()
+        .logical()
+        .withSlotName(properties.getSlotName())
+        .withSlotOption("proto_version", 1)
+        .withSlotOption("publication_names", properties.getPublicationName())
+        .withStatusInterval((int) properties.getStatusIntervalMs(), TimeUnit.MILLISECONDS)
+        .start();
+  }
+
+  private boolean backoff() {
+    try {
+      TimeUnit.MILLISECONDS.sleep(properties.getReconnectBackoffMs());
+      return true;
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
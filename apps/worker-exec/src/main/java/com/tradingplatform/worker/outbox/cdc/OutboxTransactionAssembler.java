@@ -0,0 +1,100 @@
+package com.tradingplatform.worker.outbox.cdc;
+
+import com.tradingplatform.worker.outbox.OutboxEventRecord;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Collects outbox inserts between begin and commit so they can be published as one unit, in the
+ * order the transaction wrote them.
+ */
+public class OutboxTransactionAssembler {
+  static final String OUTBOX_TABLE = "outbox_events";
+
+  private static final DateTimeFormatter POSTGRES_TIMESTAMPTZ =
+      new DateTimeFormatterBuilder()
+          .append(DateTimeFormatter.ISO_LOCAL_DATE)
+          .appendLiteral(' ')
+          .append(DateTimeFormatter.ISO_LOCAL_TIME)
+          .appendOffset("+HH:mm", "+00")
+          .toFormatter();
+
+  private final Map<Integer, PgOutputMessage.Relation> relations = new HashMap<>();
+  private final List<OutboxEventRecord> pending = new ArrayList<>();
+
+  public Optional<CommittedOutboxTransaction> accept(PgOutputMessage message) {
+    switch (message) {
+      case PgOutputMessage.Begin ignored -> pending.clear();
+      case PgOutputMessage.Relation relation -> relations.put(relation.relationId(), relation);
+      case PgOutputMessage.Insert insert -> {
+        PgOutputMessage.Relation relation = relations.get(insert.relationId());
+        if (relation == null) {
+          throw new IllegalStateException("Insert for unknown relation id " + insert.relationId());
+        }
+        if (OUTBOX_TABLE.equals(relation.name())) {
+          pending.add(toRecord(relation, insert));
+        }
+      }
+      case PgOutputMessage.Commit commit -> {
+        CommittedOutboxTransaction transaction =
+            new CommittedOutboxTransaction(commit.endLsn(), List.copyOf(pending));
+        pending.clear();
+        return Optional.of(transaction);
+      }
+      case PgOutputMessage.Ignored ignored -> {}
+    }
+    return Optional.empty();
+  }
+
+  /** Drops a partially received transaction; the slot replays it after reconnecting. */
+  public void reset() {
+    pending.clear();
+  }
+
+  private static OutboxEventRecord toRecord(
+      PgOutputMessage.Relation relation, PgOutputMessage.Insert insert) {
+    Map<String, String> row = new HashMap<>();
+    List<String> columns = relation.columns();
+    for (int i = 0; i < columns.size() && i < insert.values().size(); i++) {
+      row.put(columns.get(i), insert.values().get(i));
+    }
+    String attemptCount = row.get("attempt_count");
+    return new OutboxEventRecord(
+        UUID.fromString(required(row, "id")),
+        row.get("aggregate_type"),
+        row.get("aggregate_id"),
+        required(row, "event_type"),
+        row.get("event_payload"),
+        required(row, "topic"),
+        row.get("event_key"),
+        row.get("status"),
+        attemptCount == null ? 0 : Integer.parseInt(attemptCount),
+        parseTimestamp(row.get("created_at")),
+        row.get("stage_trace"));
+  }
+
+  private static String required(Map<String, String> row, String column) {
+    String value = row.get(column);
+    if (value == null) {
+      throw new IllegalStateException("Outbox insert is missing column " + column);
+    }
+    return value;
+  }
+
+  static Instant parseTimestamp(String value) {
+    if (value == null) {
+      return null;
+    }
+    return OffsetDateTime.parse(value, POSTGRES_TIMESTAMPTZ).toInstant();
+  }
+
+  public record CommittedOutboxTransaction(long endLsn, List<OutboxEventRecord> records) {}
+}
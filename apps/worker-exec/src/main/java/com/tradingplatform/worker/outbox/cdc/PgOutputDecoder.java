@@ -0,0 +1,103 @@
+package com.tradingplatform.worker.outbox.cdc;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Decodes pgoutput logical replication messages as delivered by {@code PGReplicationStream}.
+ *
+ * <p>Only begin, relation, insert and commit carry information the relay needs; every other message
+ * type is reported as {@link PgOutputMessage.Ignored}.
+ */
+public final class PgOutputDecoder {
+  private PgOutputDecoder() {}
+
+  public static PgOutputMessage decode(ByteBuffer buffer) {
+    char type = (char) buffer.get();
+    return switch (type) {
+      case 'B' -> decodeBegin(buffer);
+      case 'R' -> decodeRelation(buffer);
+      case 'I' -> decodeInsert(buffer);
+      case 'C' -> decodeCommit(buffer);
+      default -> new PgOutputMessage.Ignored(type);
+    };
+  }
+
+  private static PgOutputMessage.Begin decodeBegin(ByteBuffer buffer) {
+    long finalLsn = buffer.getLong();
+    buffer.getLong(); // commit timestamp
+    int xid = buffer.getInt();
+    return new PgOutputMessage.Begin(finalLsn, xid);
+  }
+
+  private static PgOutputMessage.Relation decodeRelation(ByteBuffer buffer) {
+    int relationId = buffer.getInt();
+    String namespace = readCString(buffer);
+    String name = readCString(buffer);
+    buffer.get(); // replica identity
+    int columnCount = Short.toUnsignedInt(buffer.getShort());
+    List<String> columns = new ArrayList<>(columnCount);
+    for (int i = 0; i < columnCount; i++) {
+      buffer.get(); // flags
+      columns.add(readCString(buffer));
+      buffer.getInt(); // type oid
+      buffer.getInt(); // type modifier
+    }
+    return new PgOutputMessage.Relation(
+        relationId, namespace, name, Collections.unmodifiableList(columns));
+  }
+
+  private static PgOutputMessage.Insert decodeInsert(ByteBuffer buffer) {
+    int relationId = buffer.getInt();
+    char marker = (char) buffer.get();
+    if (marker != 'N') {
+      throw new IllegalStateException("Unexpected insert tuple marker: " + marker);
+    }
+    return new PgOutputMessage.Insert(relationId, readTupleData(buffer));
+  }
+
+  private static PgOutputMessage.Commit decodeCommit(ByteBuffer buffer) {
+    buffer.get(); // flags
+    long commitLsn = buffer.getLong();
+    long endLsn = buffer.getLong();
+    buffer.getLong(); // commit timestamp
+    return new PgOutputMessage.Commit(commitLsn, endLsn);
+  }
+
+  private static List<String> readTupleData(ByteBuffer buffer) {
+    int columnCount = Short.toUnsignedInt(buffer.getShort());
+    List<String> values = new ArrayList<>(columnCount);
+    for (int i = 0; i < columnCount; i++) {
+      char kind = (char) buffer.get();
+      switch (kind) {
+        case 'n', 'u' -> values.add(null);
+        case 't' -> {
+          int length = buffer.getInt();
+          values.add(readString(buffer, length));
+        }
+        default -> throw new IllegalStateException("Unsupported tuple value kind: " + kind);
+      }
+    }
+    return Collections.unmodifiableList(values);
+  }
+
+  private static String readCString(ByteBuffer buffer) {
+    int start = buffer.position();
+    int end = start;
+    while (buffer.get(end) != 0) {
+      end++;
+    }
+    String value = readString(buffer, end - start);
+    buffer.get(); // terminator
+    return value;
+  }
+
+  private static String readString(ByteBuffer buffer, int length) {
+    byte[] bytes = new byte[length];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,18 @@
+package com.tradingplatform.worker.outbox.cdc;
+
+import java.util.List;
+
+/** The subset of pgoutput protocol (version 1) messages the outbox relay acts on. */
+public sealed interface PgOutputMessage {
+  record Begin(long finalLsn, int xid) implements PgOutputMessage {}
+
+  record Relation(int relationId, String namespace, String name, List<String> columns)
+      implements PgOutputMessage {}
+
+  /** Column values in text form; {@code null} for SQL NULL and unchanged TOAST values. */
+  record Insert(int relationId, List<String> values) implements PgOutputMessage {}
+
+  record Commit(long commitLsn, long endLsn) implements PgOutputMessage {}
+
+  record Ignored(char type) implements PgOutputMessage {}
+}
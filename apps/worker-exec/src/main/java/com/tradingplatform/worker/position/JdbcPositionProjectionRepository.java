@@ -0,0 +1,178 @@
+package com.tradingplatform.worker.position;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class JdbcPositionProjectionRepository implements PositionProjectionRepository {
+  private static final String REPLAY_SQL =
+      """
+      SELECT instrument, side, qty, price, executed_at
+      FROM executions
+      WHERE account_id = ?
+      """;
+  private static final String REPLAY_ORDER_BY = " ORDER BY executed_at ASC, created_at ASC, id ASC";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public JdbcPositionProjectionRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  public void applyFill(
+      UUID accountId,
+      String instrument,
+      String side,
+      BigDecimal qty,
+      BigDecimal price,
+      Instant executedAt) {
+    // Shared account lock: fills proceed concurrently, rebuilds (FOR UPDATE) wait for them.
+    jdbcTemplate.query(
+        "SELECT id FROM accounts WHERE id = ? FOR SHARE", (rs, rowNum) -> null, accountId);
+    int created =
+        jdbcTemplate.update(
+            """
+            INSERT INTO account_positions (account_id, instrument, updated_at)
+            VALUES (?, ?, NOW())
+            ON CONFLICT (account_id, instrument) DO NOTHING
+            """,
+            accountId,
+            instrument);
+    if (created == 1) {
+      // First touch of this position: fold the full execution history (which already contains
+      // the current fill) so positions opened before the projection existed start out correct.
+      ReplayedPosition replayed =
+          replay(accountId, REPLAY_SQL + " AND instrument = ?", instrument).get(instrument);
+      if (replayed != null) {
+        updatePosition(accountId, instrument, replayed.state(), replayed.lastExecutedAt());
+        return;
+      }
+    }
+
+    PositionState current =
+        jdbcTemplate.queryForObject(
+            """
+            SELECT net_qty, avg_entry_price, realized_pnl
+            FROM account_positions
+            WHERE account_id = ?
+              AND instrument = ?
+            FOR UPDATE
+            """,
+            (rs, rowNum) ->
+                new PositionState(
+                    rs.getBigDecimal("net_qty"),
+                    rs.getBigDecimal("avg_entry_price"),
+                    rs.getBigDecimal("realized_pnl")),
+            accountId,
+            instrument);
+    updatePosition(
+        accountId, instrument, current.apply(side, qty, price), Timestamp.from(executedAt));
+  }
+
+  @Override
+  @Transactional
+  public void rebuildAccount(UUID accountId) {
+    jdbcTemplate.query(
+        "SELECT id FROM accounts WHERE id = ? FOR UPDATE", (rs, rowNum) -> null, accountId);
+    Map<String, ReplayedPosition> positions = replay(accountId, REPLAY_SQL);
+
+    jdbcTemplate.update("DELETE FROM account_positions WHERE account_id = ?", accountId);
+    String sql =
+        """
+        INSERT INTO account_positions (
+            account_id,
+            instrument,
+            net_qty,
+            avg_entry_price,
+            realized_pnl,
+            last_executed_at,
+            updated_at
+        ) VALUES (?, ?, ?, ?, ?, ?, NOW())
+        """;
+    for (Map.Entry<String, ReplayedPosition> entry : positions.entrySet()) {
+      PositionState state = entry.getValue().state();
+      jdbcTemplate.update(
+          sql,
+          accountId,
+          entry.getKey(),
+          state.netQty(),
+          state.avgEntryPrice(),
+          state.realizedPnl(),
+          entry.getValue().lastExecutedAt());
+    }
+  }
+
+  @Override
+  public List<UUID> findAccountsMissingPositions(int limit) {
+    String sql =
+        """
+        SELECT DISTINCT e.account_id
+        FROM executions e
+        WHERE NOT EXISTS (
+            SELECT 1
+            FROM account_positions p
+            WHERE p.account_id = e.account_id
+        )
+        LIMIT ?
+        """;
+    return jdbcTemplate.query(sql, (rs, rowNum) -> rs.getObject("account_id", UUID.class), limit);
+  }
+
+  private Map<String, ReplayedPosition> replay(UUID accountId, String sql, Object... filters) {
+    Object[] args = new Object[filters.length + 1];
+    args[0] = accountId;
+    System.arraycopy(filters, 0, args, 1, filters.length);
+
+    Map<String, ReplayedPosition> positions = new LinkedHashMap<>();
+    jdbcTemplate.query(
+        sql + REPLAY_ORDER_BY,
+        rs -> {
+          String instrument = rs.getString("instrument");
+          ReplayedPosition previous = positions.get(instrument);
+          PositionState state = previous == null ? PositionState.FLAT : previous.state();
+          positions.put(
+              instrument,
+              new ReplayedPosition(
+                  state.apply(
+                      rs.getString("side"), rs.getBigDecimal("qty"), rs.getBigDecimal("price")),
+                  rs.getTimestamp("executed_at")));
+        },
+        args);
+    return positions;
+  }
+
+  private void updatePosition(
+      UUID accountId, String instrument, PositionState state, Timestamp executedAt) {
+    String sql =
+        """
+        UPDATE account_positions
+        SET net_qty = ?,
+            avg_entry_price = ?,
+            realized_pnl = ?,
+            last_executed_at = GREATEST(COALESCE(last_executed_at, ?), ?),
+            updated_at = NOW()
+        WHERE account_id = ?
+          AND instrument = ?
+        """;
+    jdbcTemplate.update(
+        sql,
+        state.netQty(),
+        state.avgEntryPrice(),
+        state.realizedPnl(),
+        executedAt,
+        executedAt,
+        accountId,
+        instrument);
+  }
+
+  private record ReplayedPosition(PositionState state, Timestamp lastExecutedAt) {}
+}
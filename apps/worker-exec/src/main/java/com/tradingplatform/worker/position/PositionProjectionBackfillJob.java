@@ -0,0 +1,52 @@
+package com.tradingplatform.worker.position;
+
+import java.util.List;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(
+    prefix = "worker.positions.backfill",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class PositionProjectionBackfillJob {
+  private static final Logger log = LoggerFactory.getLogger(PositionProjectionBackfillJob.class);
+
+  private final PositionProjectionRepository positionProjectionRepository;
+  private final int batchSize;
+
+  public PositionProjectionBackfillJob(
+      PositionProjectionRepository positionProjectionRepository,
+      @Value("${worker.positions.backfill.batch-size:200}") int batchSize) {
+    this.positionProjectionRepository = positionProjectionRepository;
+    this.batchSize = Math.max(batchSize, 1);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfillOnStartup() {
+    int rebuilt = backfill();
+    if (rebuilt > 0) {
+      log.info("Backfilled account_positions for accounts={}", rebuilt);
+    }
+  }
+
+  public int backfill() {
+    int rebuilt = 0;
+    List<UUID> accountIds = positionProjectionRepository.findAccountsMissingPositions(batchSize);
+    while (!accountIds.isEmpty()) {
+      for (UUID accountId : accountIds) {
+        positionProjectionRepository.rebuildAccount(accountId);
+        rebuilt++;
+      }
+      accountIds = positionProjectionRepository.findAccountsMissingPositions(batchSize);
+    }
+    return rebuilt;
+  }
+}
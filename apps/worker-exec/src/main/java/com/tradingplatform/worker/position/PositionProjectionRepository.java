@@ -0,0 +1,20 @@
+package com.tradingplatform.worker.position;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public interface PositionProjectionRepository {
+  void applyFill(
+      UUID accountId,
+      String instrument,
+      String side,
+      BigDecimal qty,
+      BigDecimal price,
+      Instant executedAt);
+
+  void rebuildAccount(UUID accountId);
+
+  List<UUID> findAccountsMissingPositions(int limit);
+}
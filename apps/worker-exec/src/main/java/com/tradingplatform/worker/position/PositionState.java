@@ -0,0 +1,44 @@
+package com.tradingplatform.worker.position;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public record PositionState(BigDecimal netQty, BigDecimal avgEntryPrice, BigDecimal realizedPnl) {
+  private static final int PRICE_SCALE = 18;
+
+  public static final PositionState FLAT =
+      new PositionState(BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+
+  public PositionState apply(String side, BigDecimal qty, BigDecimal price) {
+    BigDecimal signedQty;
+    if ("BUY".equals(side)) {
+      signedQty = qty;
+    } else if ("SELL".equals(side)) {
+      signedQty = qty.negate();
+    } else {
+      throw new IllegalArgumentException("Unsupported side for position update: " + side);
+    }
+
+    BigDecimal nextQty = netQty.add(signedQty);
+    if (netQty.signum() == 0 || netQty.signum() == signedQty.signum()) {
+      BigDecimal cost = netQty.abs().multiply(avgEntryPrice).add(qty.multiply(price));
+      BigDecimal nextAvg = cost.divide(nextQty.abs(), PRICE_SCALE, RoundingMode.HALF_UP);
+      return new PositionState(nextQty, nextAvg, realizedPnl);
+    }
+
+    BigDecimal closedQty = netQty.abs().min(qty);
+    BigDecimal pnl =
+        price
+            .subtract(avgEntryPrice)
+            .multiply(closedQty)
+            .multiply(BigDecimal.valueOf(netQty.signum()));
+    BigDecimal nextRealized = realizedPnl.add(pnl);
+    if (nextQty.signum() == 0) {
+      return new PositionState(BigDecimal.ZERO, BigDecimal.ZERO, nextRealized);
+    }
+    if (nextQty.signum() != netQty.signum()) {
+      return new PositionState(nextQty, price, nextRealized);
+    }
+    return new PositionState(nextQty, avgEntryPrice, nextRealized);
+  }
+}
@@ -1,10 +1,17 @@
 package com.tradingplatform.worker.connector;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tradingplatform.domain.wallet.InsufficientBalanceException;
 import com.tradingplatform.integration.binance.BinanceTradeSnapshot;
+import com.tradingplatform.tradingapi.wallet.JdbcWalletJournalRepository;
+import com.tradingplatform.tradingapi.wallet.JdbcWalletRepository;
+import com.tradingplatform.tradingapi.wallet.WalletBalanceEngine;
+import com.tradingplatform.tradingapi.wallet.WalletEngineProperties;
+import com.tradingplatform.worker.position.JdbcPositionProjectionRepository;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -52,7 +59,10 @@ class BinanceFillProcessorIntegrationTest {
     jdbcTemplate = new JdbcTemplate(dataSource);
     fillProcessor =
         new BinanceFillProcessor(
-            jdbcTemplate, new ObjectMapper().registerModule(new JavaTimeModule()), new SimpleMeterRegistry());
+            jdbcTemplate,
+            new ObjectMapper().registerModule(new JavaTimeModule()),
+            new SimpleMeterRegistry(),
+            new JdbcPositionProjectionRepository(jdbcTemplate));
   }
 
   @Test
@@ -109,6 +119,17 @@ class BinanceFillProcessorIntegrationTest {
         "RELEASED",
         queryString("SELECT status FROM wallet_reservations WHERE order_id = ?", orderId));
 
+    assertDecimalEquals(
+        new BigDecimal("0.01000000"),
+        queryDecimal(
+            "SELECT net_qty FROM account_positions WHERE account_id = ? AND instrument = 'BTCUSDT'",
+            accountId));
+    assertDecimalEquals(
+        new BigDecimal("50000.00"),
+        queryDecimal(
+            "SELECT avg_entry_price FROM account_positions WHERE account_id = ? AND instrument = 'BTCUSDT'",
+            accountId));
+
     assertEquals(1, queryCount("SELECT COUNT(*) FROM executions"));
     assertEquals(1, queryCount("SELECT COUNT(*) FROM ledger_transactions"));
     assertEquals(1, queryCount("SELECT COUNT(*) FROM order_events WHERE order_id = ?", orderId));
@@ -154,6 +175,129 @@ class BinanceFillProcessorIntegrationTest {
             accountId.toString()));
   }
 
+  @Test
+  void shouldSettleFillOnStripesWithoutTouchingMainRow() {
+    UUID accountId = createAccount("fills-stripes-it@example.com");
+    UUID orderId = UUID.randomUUID();
+
+    insertInstrument("BTCUSDT", "BTC", "USDT");
+    insertOrder(
+        orderId,
+        accountId,
+        "BTCUSDT",
+        "BUY",
+        new BigDecimal("0.01000000"),
+        BigDecimal.ZERO,
+        "ACK",
+        "binance-ord-2",
+        "cli-2");
+    upsertBalance(accountId, "BTC", BigDecimal.ZERO, BigDecimal.ZERO);
+    upsertBalance(accountId, "USDT", new BigDecimal("1000.00"), BigDecimal.ZERO);
+    insertStripe(accountId, "BTC", 1, BigDecimal.ZERO, BigDecimal.ZERO);
+    insertStripe(accountId, "USDT", 1, new BigDecimal("100.00"), new BigDecimal("510.00"));
+    insertActiveReservation(accountId, orderId, "USDT", new BigDecimal("510.00"));
+    jdbcTemplate.update("UPDATE wallet_reservations SET stripe = 1 WHERE order_id = ?", orderId);
+
+    FillProcessingOutcome outcome =
+        fillProcessor.processTrade(
+            new BinanceTradeSnapshot(
+                "BTCUSDT",
+                "trade-9002",
+                "binance-ord-2",
+                "BUY",
+                new BigDecimal("0.01000000"),
+                new BigDecimal("50000.00"),
+                "USDT",
+                new BigDecimal("1.00"),
+                Instant.parse("2026-02-25T12:00:00Z")));
+
+    assertEquals(FillProcessingOutcome.INSERTED, outcome);
+    assertDecimalEquals(
+        BigDecimal.ZERO,
+        queryDecimal(
+            "SELECT available FROM wallet_balances WHERE account_id = ? AND asset = 'BTC'", accountId));
+    assertDecimalEquals(
+        new BigDecimal("1000.00"),
+        queryDecimal(
+            "SELECT available FROM wallet_balances WHERE account_id = ? AND asset = 'USDT'", accountId));
+    assertDecimalEquals(
+        new BigDecimal("0.01000000"),
+        queryDecimal(
+            "SELECT available FROM wallet_balance_stripes WHERE account_id = ? AND asset = 'BTC'",
+            accountId));
+    assertDecimalEquals(
+        new BigDecimal("109.00"),
+        queryDecimal(
+            "SELECT available FROM wallet_balance_stripes WHERE account_id = ? AND asset = 'USDT'",
+            accountId));
+    assertDecimalEquals(
+        BigDecimal.ZERO,
+        queryDecimal(
+            "SELECT reserved FROM wallet_balances_consolidated WHERE account_id = ? AND asset = 'USDT'",
+            accountId));
+  }
+
+  @Test
+  void shouldReleaseOnlyTheUnfilledRemainderThroughTheWalletEngine() {
+    UUID accountId = createAccount("fills-engine-it@example.com");
+    UUID orderId = UUID.randomUUID();
+
+    insertInstrument("BTCUSDT", "BTC", "USDT");
+    upsertBalance(accountId, "BTC", BigDecimal.ZERO, BigDecimal.ZERO);
+    upsertBalance(accountId, "USDT", new BigDecimal("2000.00"), BigDecimal.ZERO);
+    WalletEngineProperties properties = new WalletEngineProperties();
+    properties.setShards(1);
+    properties.setMaxStalenessMs(60_000L);
+    try (WalletBalanceEngine engine =
+        new WalletBalanceEngine(
+            new JdbcWalletRepository(jdbcTemplate),
+            new JdbcWalletJournalRepository(jdbcTemplate),
+            properties)) {
+      engine.reserve(accountId, "USDT", new BigDecimal("1001.00"), orderId);
+      insertOrder(
+          orderId,
+          accountId,
+          "BTCUSDT",
+          "BUY",
+          new BigDecimal("0.02000000"),
+          BigDecimal.ZERO,
+          "ACK",
+          "binance-ord-3",
+          "cli-3");
+
+      FillProcessingOutcome outcome =
+          fillProcessor.processTrade(
+              new BinanceTradeSnapshot(
+                  "BTCUSDT",
+                  "trade-9003",
+                  "binance-ord-3",
+                  "BUY",
+                  new BigDecimal("0.01000000"),
+                  new BigDecimal("50000.00"),
+                  "USDT",
+                  new BigDecimal("1.00"),
+                  Instant.parse("2026-02-25T12:00:00Z")));
+      // The engine still caches the full reservation; the cancel must settle what is left of it.
+      engine.release(orderId);
+
+      assertEquals(FillProcessingOutcome.INSERTED, outcome);
+      assertEquals(
+          "CANCELLED",
+          queryString("SELECT status FROM wallet_reservations WHERE order_id = ?", orderId));
+      assertDecimalEquals(
+          new BigDecimal("1499.00"),
+          queryDecimal(
+              "SELECT available FROM wallet_balances WHERE account_id = ? AND asset = 'USDT'", accountId));
+      assertDecimalEquals(
+          BigDecimal.ZERO,
+          queryDecimal(
+              "SELECT reserved FROM wallet_balances WHERE account_id = ? AND asset = 'USDT'", accountId));
+      assertThrows(
+          InsufficientBalanceException.class,
+          () -> engine.reserve(accountId, "USDT", new BigDecimal("1500.00"), UUID.randomUUID()));
+    }
+  }
+
   @Test
   void shouldTreatDuplicateTradeAsIdempotent() {
     UUID accountId = createAccount("fills-dup-it@example.com");
@@ -186,11 +330,26 @@ class BinanceFillProcessorIntegrationTest {
             new BigDecimal("2.20"),
             Instant.parse("2026-02-25T13:00:00Z"));
 
+    // A redelivery stamped in another month lands in another partition; the key must still hit.
+    BinanceTradeSnapshot redelivered =
+        new BinanceTradeSnapshot(
+            trade.symbol(),
+            trade.tradeId(),
+            trade.exchangeOrderId(),
+            trade.side(),
+            trade.qty(),
+            trade.price(),
+            trade.feeAsset(),
+            trade.feeAmount(),
+            Instant.parse("2026-03-02T09:00:00Z"));
+
     FillProcessingOutcome first = fillProcessor.processTrade(trade);
     FillProcessingOutcome second = fillProcessor.processTrade(trade);
+    FillProcessingOutcome third = fillProcessor.processTrade(redelivered);
 
     assertEquals(FillProcessingOutcome.INSERTED, first);
     assertEquals(FillProcessingOutcome.DUPLICATE, second);
+    assertEquals(FillProcessingOutcome.DUPLICATE, third);
     assertEquals(1, queryCount("SELECT COUNT(*) FROM executions"));
     assertEquals(1, queryCount("SELECT COUNT(*) FROM ledger_transactions"));
     assertEquals(6, queryCount("SELECT COUNT(*) FROM ledger_entries"));
@@ -298,6 +457,20 @@ class BinanceFillProcessorIntegrationTest {
         reserved);
   }
 
+  private void insertStripe(
+      UUID accountId, String asset, int stripe, BigDecimal available, BigDecimal reserved) {
+    jdbcTemplate.update(
+        """
+        INSERT INTO wallet_balance_stripes (account_id, asset, stripe, available, reserved, updated_at)
+        VALUES (?, ?, ?, ?, ?, NOW())
+        """,
+        accountId,
+        asset,
+        stripe,
+        available,
+        reserved);
+  }
+
   private void insertActiveReservation(UUID accountId, UUID orderId, String asset, BigDecimal amount) {
     jdbcTemplate.update(
         """
@@ -0,0 +1,137 @@
+package com.tradingplatform.worker.consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tradingplatform.infra.kafka.dedupe.ConsumedEventPosition;
+import com.tradingplatform.infra.kafka.dedupe.JdbcOffsetWatermarkDedupeStore;
+import com.tradingplatform.infra.kafka.topics.TopicNames;
+import java.util.UUID;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers(disabledWithoutDocker = true)
+class JdbcOffsetWatermarkDedupeStoreIntegrationTest {
+  private static final String GROUP = "cg-exec-adapter";
+  private static final String TOPIC = TopicNames.ORDERS_SUBMITTED_V2;
+
+  @Container
+  static final PostgreSQLContainer<?> POSTGRES =
+      new PostgreSQLContainer<>("postgres:16-alpine")
+          .withDatabaseName("trading")
+          .withUsername("trading")
+          .withPassword("trading");
+
+  private JdbcTemplate jdbcTemplate;
+  private TransactionTemplate transactionTemplate;
+  private JdbcOffsetWatermarkDedupeStore store;
+
+  @BeforeEach
+  void setUp() {
+    DriverManagerDataSource dataSource = new DriverManagerDataSource();
+    dataSource.setDriverClassName(POSTGRES.getDriverClassName());
+    dataSource.setUrl(POSTGRES.getJdbcUrl());
+    dataSource.setUsername(POSTGRES.getUsername());
+    dataSource.setPassword(POSTGRES.getPassword());
+
+    Flyway flyway =
+        Flyway.configure()
+            .dataSource(dataSource)
+            .locations("classpath:db/migration")
+            .cleanDisabled(false)
+            .load();
+    flyway.clean();
+    flyway.migrate();
+
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    store = new JdbcOffsetWatermarkDedupeStore(jdbcTemplate, 2);
+  }
+
+  @Test
+  void shouldAdvanceWatermarkAndSkipRedeliveredOffsets() {
+    assertTrue(tryAdvance(0, 7L, UUID.randomUUID()));
+    assertFalse(tryAdvance(0, 7L, UUID.randomUUID()));
+    assertFalse(tryAdvance(0, 5L, UUID.randomUUID()));
+    assertTrue(tryAdvance(0, 8L, UUID.randomUUID()));
+    assertTrue(tryAdvance(1, 3L, UUID.randomUUID()));
+
+    assertEquals(8L, committedOffset(0));
+    assertEquals(3L, committedOffset(1));
+  }
+
+  @Test
+  void shouldSkipResentEventOnSameOrAnotherPartition() {
+    UUID eventId = UUID.randomUUID();
+
+    assertTrue(tryAdvance(0, 7L, eventId));
+    assertFalse(tryAdvance(0, 9L, eventId));
+    assertFalse(tryAdvance(1, 4L, eventId));
+
+    assertEquals(7L, committedOffset(0));
+    assertEquals(
+        0,
+        jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM kafka_consumer_offsets WHERE partition_id = 1", Integer.class));
+  }
+
+  @Test
+  void shouldKeepEventIdWindowPerGroup() {
+    UUID eventId = UUID.randomUUID();
+
+    assertTrue(tryAdvance(0, 7L, eventId));
+    assertTrue(tryAdvance("cg-exposure", 1, 7L, eventId));
+  }
+
+  @Test
+  void shouldTrimEventIdWindowToConfiguredSize() {
+    UUID first = UUID.randomUUID();
+    UUID third = UUID.randomUUID();
+
+    assertTrue(tryAdvance(0, 1L, first));
+    assertTrue(tryAdvance(0, 2L, UUID.randomUUID()));
+    assertTrue(tryAdvance(0, 3L, third));
+
+    assertEquals(
+        2,
+        jdbcTemplate.queryForObject(
+            "SELECT cardinality(recent_event_ids) FROM kafka_consumer_offsets WHERE partition_id = 0",
+            Integer.class));
+    assertFalse(tryAdvance(1, 1L, third));
+    assertTrue(tryAdvance(0, 4L, first));
+  }
+
+  private boolean tryAdvance(int partition, long offset, UUID eventId) {
+    return tryAdvance(GROUP, partition, offset, eventId);
+  }
+
+  private boolean tryAdvance(String group, int partition, long offset, UUID eventId) {
+    return Boolean.TRUE.equals(
+        transactionTemplate.execute(
+            status ->
+                store.tryAdvance(
+                    new ConsumedEventPosition(group, TOPIC, partition, offset, eventId))));
+  }
+
+  private long committedOffset(int partition) {
+    return jdbcTemplate.queryForObject(
+        """
+        SELECT committed_offset
+        FROM kafka_consumer_offsets
+        WHERE consumer_group = ? AND topic = ? AND partition_id = ?
+        """,
+        Long.class,
+        GROUP,
+        TOPIC,
+        partition);
+  }
+}
@@ -4,11 +4,14 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tradingplatform.infra.kafka.dedupe.ConsumedEventPosition;
+import com.tradingplatform.infra.kafka.topics.TopicNames;
 import com.tradingplatform.worker.execution.ExecutionAckResult;
 import com.tradingplatform.worker.execution.SubmitOrderCommand;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.flywaydb.core.Flyway;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,6 +32,7 @@ class OrderSubmissionProcessorIntegrationTest {
 
   private JdbcTemplate jdbcTemplate;
   private OrderSubmissionProcessor processor;
+  private final AtomicInteger placedOrders = new AtomicInteger();
 
   @BeforeEach
   void setUp() {
@@ -53,7 +57,10 @@ class OrderSubmissionProcessorIntegrationTest {
         new OrderSubmissionProcessor(
             jdbcTemplate,
             objectMapper,
-            command -> new ExecutionAckResult("BINANCE", "binance-9001", command.orderId()));
+            command -> {
+              placedOrders.incrementAndGet();
+              return new ExecutionAckResult("BINANCE", "binance-9001", command.orderId());
+            });
   }
 
   @Test
@@ -75,8 +82,17 @@ class OrderSubmissionProcessorIntegrationTest {
             "corr-9001",
             eventId);
 
-    processor.process(command);
-    processor.process(command);
+    ConsumedEventPosition position =
+        new ConsumedEventPosition("cg-exec-adapter", TopicNames.ORDERS_SUBMITTED_V2, 0, 7L, eventId);
+
+    processor.process(command, null, position);
+    processor.process(command, null, position);
+    // Producer resend of the same event at a later offset.
+    processor.process(
+        command,
+        null,
+        new ConsumedEventPosition(
+            "cg-exec-adapter", TopicNames.ORDERS_SUBMITTED_V2, 0, 9L, eventId));
 
     assertEquals(
         "ACK", jdbcTemplate.queryForObject("SELECT status FROM orders WHERE id = ?", String.class, orderId));
@@ -91,7 +107,19 @@ class OrderSubmissionProcessorIntegrationTest {
         orderId.toString(),
         jdbcTemplate.queryForObject(
             "SELECT exchange_client_order_id FROM orders WHERE id = ?", String.class, orderId));
-    assertEquals(1, queryCount("SELECT COUNT(*) FROM processed_kafka_events WHERE event_id = '" + eventId + "'"));
+    // The same event delivered on another partition after a repartition or a resend.
+    processor.process(
+        command,
+        null,
+        new ConsumedEventPosition(
+            "cg-exec-adapter", TopicNames.ORDERS_SUBMITTED_V2, 1, 2L, eventId));
+
+    assertEquals(1, placedOrders.get());
+    assertEquals(
+        7L,
+        jdbcTemplate.queryForObject(
+            "SELECT committed_offset FROM kafka_consumer_offsets WHERE consumer_group = 'cg-exec-adapter'",
+            Long.class));
     assertEquals(1, queryCount("SELECT COUNT(*) FROM order_events WHERE order_id = '" + orderId + "'"));
     assertEquals(
         2,
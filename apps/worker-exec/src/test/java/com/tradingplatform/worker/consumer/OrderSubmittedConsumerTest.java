@@ -1,8 +1,11 @@
 package com.tradingplatform.worker.consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
@@ -10,17 +13,22 @@ import com.tradingplatform.infra.kafka.contract.EventEnvelope;
 import com.tradingplatform.infra.kafka.contract.EventHeaders;
 import com.tradingplatform.infra.kafka.contract.EventTypes;
 import com.tradingplatform.infra.kafka.contract.payload.OrderSubmittedV2;
+import com.tradingplatform.infra.kafka.dedupe.ConsumedEventPosition;
 import com.tradingplatform.infra.kafka.errors.DeadLetterPublisher;
 import com.tradingplatform.infra.kafka.errors.FixedBackoffRetryPolicy;
 import com.tradingplatform.infra.kafka.observability.NoOpKafkaTelemetry;
+import com.tradingplatform.infra.kafka.observability.StageTrace;
+import com.tradingplatform.infra.kafka.serde.EventEnvelopeCodecs;
 import com.tradingplatform.infra.kafka.serde.EventEnvelopeJsonCodec;
 import com.tradingplatform.infra.kafka.serde.EventObjectMapperFactory;
 import com.tradingplatform.infra.kafka.topics.TopicNames;
 import com.tradingplatform.worker.execution.SubmitOrderCommand;
+import com.tradingplatform.worker.latency.OrderLatencyTracker;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.UUID;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -34,20 +42,31 @@ class OrderSubmittedConsumerTest {
     EventEnvelopeJsonCodec codec = new EventEnvelopeJsonCodec(EventObjectMapperFactory.create());
     OrderSubmittedConsumer consumer =
         new OrderSubmittedConsumer(
-            codec,
+            EventEnvelopeCodecs.jsonOnly(codec),
             deadLetterPublisher,
             new FixedBackoffRetryPolicy(1, Duration.ZERO),
             new NoOpKafkaTelemetry(),
-            orderSubmissionProcessor);
+            orderSubmissionProcessor,
+            mock(OrderLatencyTracker.class));
 
     EventEnvelope<OrderSubmittedV2> envelope = sampleEnvelope();
-    ConsumerRecord<String, String> record = sampleRecord(codec.encode(envelope), envelope);
+    ConsumerRecord<String, byte[]> record = sampleRecord(codec.toBytes(envelope), envelope);
     Acknowledgment ack = mock(Acknowledgment.class);
 
     consumer.onMessage(record, ack);
 
     ArgumentCaptor<SubmitOrderCommand> commandCaptor = ArgumentCaptor.forClass(SubmitOrderCommand.class);
-    verify(orderSubmissionProcessor).process(commandCaptor.capture());
+    verify(orderSubmissionProcessor)
+        .process(
+            commandCaptor.capture(),
+            isNull(),
+            eq(
+                new ConsumedEventPosition(
+                    "cg-exec-adapter",
+                    TopicNames.ORDERS_SUBMITTED_V2,
+                    0,
+                    12L,
+                    envelope.eventId())));
     SubmitOrderCommand command = commandCaptor.getValue();
     assertEquals("6b8b4567-1234-4bba-a57c-f945f2999d01", command.orderId());
     assertEquals("6b8b4567-1234-4bba-a57c-f945f2999d02", command.accountId());
@@ -62,6 +81,42 @@ class OrderSubmittedConsumerTest {
     verify(ack).acknowledge();
   }
 
+  @Test
+  void shouldCarryStageTraceThroughProcessorAndCloseItAfterCommit() {
+    OrderSubmissionProcessor orderSubmissionProcessor = mock(OrderSubmissionProcessor.class);
+    OrderLatencyTracker orderLatencyTracker = mock(OrderLatencyTracker.class);
+    EventEnvelopeJsonCodec codec = new EventEnvelopeJsonCodec(EventObjectMapperFactory.create());
+    OrderSubmittedConsumer consumer =
+        new OrderSubmittedConsumer(
+            EventEnvelopeCodecs.jsonOnly(codec),
+            mock(DeadLetterPublisher.class),
+            new FixedBackoffRetryPolicy(1, Duration.ZERO),
+            new NoOpKafkaTelemetry(),
+            orderSubmissionProcessor,
+            orderLatencyTracker);
+
+    EventEnvelope<OrderSubmittedV2> envelope = sampleEnvelope();
+    ConsumerRecord<String, byte[]> record = sampleRecord(codec.toBytes(envelope), envelope);
+    record
+        .headers()
+        .add(
+            EventHeaders.X_STAGE_TRACE,
+            "api_received=1771934400000000,outbox_claimed=1771934400005000"
+                .getBytes(StandardCharsets.UTF_8));
+
+    consumer.onMessage(record, mock(Acknowledgment.class));
+
+    ArgumentCaptor<StageTrace> traceCaptor = ArgumentCaptor.forClass(StageTrace.class);
+    verify(orderSubmissionProcessor)
+        .process(
+            any(SubmitOrderCommand.class), traceCaptor.capture(), any(ConsumedEventPosition.class));
+    StageTrace trace = traceCaptor.getValue();
+    assertTrue(trace.has("outbox_claimed"));
+    assertTrue(trace.has("consumer_received"));
+    verify(orderLatencyTracker)
+        .onAckCommitted(eq(UUID.fromString("6b8b4567-1234-4bba-a57c-f945f2999d01")), eq(trace));
+  }
+
   @Test
   void shouldDeadLetterWhenProcessorThrows() {
     DeadLetterPublisher deadLetterPublisher = mock(DeadLetterPublisher.class);
@@ -71,14 +126,15 @@ class OrderSubmittedConsumerTest {
     EventEnvelopeJsonCodec codec = new EventEnvelopeJsonCodec(EventObjectMapperFactory.create());
     OrderSubmittedConsumer consumer =
         new OrderSubmittedConsumer(
-            codec,
+            EventEnvelopeCodecs.jsonOnly(codec),
             deadLetterPublisher,
             new FixedBackoffRetryPolicy(1, Duration.ZERO),
             new NoOpKafkaTelemetry(),
-            orderSubmissionProcessor);
+            orderSubmissionProcessor,
+            mock(OrderLatencyTracker.class));
 
     EventEnvelope<OrderSubmittedV2> envelope = sampleEnvelope();
-    ConsumerRecord<String, String> record = sampleRecord(codec.encode(envelope), envelope);
+    ConsumerRecord<String, byte[]> record = sampleRecord(codec.toBytes(envelope), envelope);
     Acknowledgment ack = mock(Acknowledgment.class);
 
     consumer.onMessage(record, ack);
@@ -97,7 +153,10 @@ class OrderSubmittedConsumerTest {
   private static void whenThrowing(OrderSubmissionProcessor orderSubmissionProcessor) {
     org.mockito.Mockito.doThrow(new RuntimeException("processor failure"))
         .when(orderSubmissionProcessor)
-        .process(org.mockito.ArgumentMatchers.any(SubmitOrderCommand.class));
+        .process(
+            org.mockito.ArgumentMatchers.any(SubmitOrderCommand.class),
+            org.mockito.ArgumentMatchers.any(),
+            org.mockito.ArgumentMatchers.any(ConsumedEventPosition.class));
   }
 
   private static EventEnvelope<OrderSubmittedV2> sampleEnvelope() {
@@ -119,9 +178,9 @@ class OrderSubmittedConsumerTest {
             Instant.parse("2026-02-24T12:00:00Z")));
   }
 
-  private static ConsumerRecord<String, String> sampleRecord(
-      String body, EventEnvelope<OrderSubmittedV2> envelope) {
-    ConsumerRecord<String, String> record =
+  private static ConsumerRecord<String, byte[]> sampleRecord(
+      byte[] body, EventEnvelope<OrderSubmittedV2> envelope) {
+    ConsumerRecord<String, byte[]> record =
         new ConsumerRecord<>(
             TopicNames.ORDERS_SUBMITTED_V2,
             0,
@@ -11,8 +11,10 @@ import com.tradingplatform.domain.orders.OrderType;
 import com.tradingplatform.infra.kafka.errors.FixedBackoffRetryPolicy;
 import com.tradingplatform.infra.kafka.errors.LoggingDeadLetterPublisher;
 import com.tradingplatform.infra.kafka.observability.NoOpKafkaTelemetry;
+import com.tradingplatform.infra.kafka.observability.StageLatencyRecorder;
 import com.tradingplatform.infra.kafka.producer.EventPublisher;
 import com.tradingplatform.infra.kafka.producer.KafkaEventPublisher;
+import com.tradingplatform.infra.kafka.serde.EventEnvelopeCodecs;
 import com.tradingplatform.infra.kafka.serde.EventEnvelopeJsonCodec;
 import com.tradingplatform.infra.kafka.serde.EventObjectMapperFactory;
 import com.tradingplatform.infra.kafka.topics.TopicNames;
@@ -28,9 +30,14 @@ import com.tradingplatform.tradingapi.wallet.WalletReservationService;
 import com.tradingplatform.worker.consumer.OrderSubmissionProcessor;
 import com.tradingplatform.worker.consumer.OrderSubmittedConsumer;
 import com.tradingplatform.worker.execution.ExecutionAckResult;
+import com.tradingplatform.worker.latency.JdbcOrderLatencyTraceRepository;
+import com.tradingplatform.worker.latency.OrderLatencyProperties;
+import com.tradingplatform.worker.latency.OrderLatencyTracker;
 import com.tradingplatform.worker.outbox.JdbcOutboxRepository;
 import com.tradingplatform.worker.outbox.OutboxPublisherProperties;
 import com.tradingplatform.worker.outbox.OutboxPublisherService;
+import com.tradingplatform.worker.outbox.OutboxRecordPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.Instant;
@@ -44,6 +51,8 @@ import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.flywaydb.core.Flyway;
@@ -78,8 +87,8 @@ class ApiKafkaWorkerDbUpdateIT {
   private OrderApplicationService orderApplicationService;
   private OutboxPublisherService outboxPublisherService;
   private OrderSubmittedConsumer orderSubmittedConsumer;
-  private DefaultKafkaProducerFactory<String, String> producerFactory;
-  private KafkaConsumer<String, String> submittedTopicConsumer;
+  private DefaultKafkaProducerFactory<String, byte[]> producerFactory;
+  private KafkaConsumer<String, byte[]> submittedTopicConsumer;
 
   @BeforeEach
   void setUp() throws Exception {
@@ -120,19 +129,23 @@ class ApiKafkaWorkerDbUpdateIT {
             ProducerConfig.ACKS_CONFIG, "all",
             ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true,
             ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
-            ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+            ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
     producerFactory = new DefaultKafkaProducerFactory<>(producerConfig);
-    KafkaTemplate<String, String> kafkaTemplate = new KafkaTemplate<>(producerFactory);
+    KafkaTemplate<String, byte[]> kafkaTemplate = new KafkaTemplate<>(producerFactory);
     EventEnvelopeJsonCodec codec = new EventEnvelopeJsonCodec(EventObjectMapperFactory.create());
     EventPublisher eventPublisher =
         new KafkaEventPublisher(kafkaTemplate, codec, new NoOpKafkaTelemetry(), Duration.ofSeconds(5));
 
+    StageLatencyRecorder stageLatencyRecorder =
+        new StageLatencyRecorder(new SimpleMeterRegistry(), "order.latency");
     OutboxPublisherProperties outboxProperties = new OutboxPublisherProperties();
     outboxProperties.setBatchSize(100);
     outboxProperties.setProducerName("api-kafka-worker-db-e2e-outbox");
     outboxPublisherService =
         new OutboxPublisherService(
-            new JdbcOutboxRepository(jdbcTemplate), eventPublisher, outboxProperties, objectMapper);
+            new JdbcOutboxRepository(jdbcTemplate),
+            new OutboxRecordPublisher(eventPublisher, outboxProperties, stageLatencyRecorder),
+            outboxProperties);
 
     OrderSubmissionProcessor processor =
         new OrderSubmissionProcessor(
@@ -143,11 +156,15 @@ class ApiKafkaWorkerDbUpdateIT {
                     "BINANCE", "binance-" + command.orderId(), command.orderId()));
     orderSubmittedConsumer =
         new OrderSubmittedConsumer(
-            codec,
+            EventEnvelopeCodecs.jsonOnly(codec),
             new LoggingDeadLetterPublisher(),
             new FixedBackoffRetryPolicy(1, Duration.ZERO),
             new NoOpKafkaTelemetry(),
-            processor);
+            processor,
+            new OrderLatencyTracker(
+                stageLatencyRecorder,
+                new JdbcOrderLatencyTraceRepository(jdbcTemplate),
+                new OrderLatencyProperties()));
 
     Map<String, Object> consumerConfig =
         Map.of(
@@ -156,7 +173,7 @@ class ApiKafkaWorkerDbUpdateIT {
             ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest",
             ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false,
             ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
-            ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+            ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
     submittedTopicConsumer = new KafkaConsumer<>(consumerConfig);
     submittedTopicConsumer.subscribe(List.of(TopicNames.ORDERS_SUBMITTED_V2));
   }
@@ -197,7 +214,7 @@ class ApiKafkaWorkerDbUpdateIT {
 
     outboxPublisherService.publishPendingEvents();
 
-    ConsumerRecord<String, String> submittedRecord = pollSubmittedRecord(Duration.ofSeconds(15));
+    ConsumerRecord<String, byte[]> submittedRecord = pollSubmittedRecord(Duration.ofSeconds(15));
     assertNotNull(submittedRecord);
 
     Acknowledgment acknowledgment = mock(Acknowledgment.class);
@@ -213,7 +230,12 @@ class ApiKafkaWorkerDbUpdateIT {
         jdbcTemplate.queryForObject(
             "SELECT exchange_client_order_id FROM orders WHERE id = ?", String.class, orderId));
     assertEquals(
-        1, queryCount("SELECT COUNT(*) FROM processed_kafka_events WHERE order_id = ?", orderId));
+        submittedRecord.offset(),
+        jdbcTemplate.queryForObject(
+            "SELECT committed_offset FROM kafka_consumer_offsets WHERE topic = ? AND partition_id = ?",
+            Long.class,
+            TopicNames.ORDERS_SUBMITTED_V2,
+            submittedRecord.partition()));
     assertEquals(
         1,
         queryCount(
@@ -237,11 +259,11 @@ class ApiKafkaWorkerDbUpdateIT {
     }
   }
 
-  private ConsumerRecord<String, String> pollSubmittedRecord(Duration timeout) {
+  private ConsumerRecord<String, byte[]> pollSubmittedRecord(Duration timeout) {
     Instant deadline = Instant.now().plus(timeout);
     while (Instant.now().isBefore(deadline)) {
       var records = submittedTopicConsumer.poll(Duration.ofMillis(250));
-      for (ConsumerRecord<String, String> record : records) {
+      for (ConsumerRecord<String, byte[]> record : records) {
         if (TopicNames.ORDERS_SUBMITTED_V2.equals(record.topic())) {
           return record;
         }
@@ -10,6 +10,7 @@ import com.tradingplatform.integration.binance.ExchangeOrderStatusMapping;
 import com.tradingplatform.integration.binance.ExchangeOrderStatusMappingRepository;
 import com.tradingplatform.integration.binance.BinanceExecutionReport;
 import com.tradingplatform.integration.binance.BinanceVenue;
+import com.tradingplatform.worker.position.JdbcPositionProjectionRepository;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -71,7 +72,13 @@ class ExecutionReportProcessorIntegrationTest {
     DatabaseBackedExchangeOrderStatusMapper mapper =
         new DatabaseBackedExchangeOrderStatusMapper(mappingRepository, new SimpleMeterRegistry());
     ExecutionRepository executionRepository = new JdbcExecutionRepository(jdbcTemplate);
-    processor = new ExecutionReportProcessor(jdbcTemplate, objectMapper, mapper, executionRepository);
+    processor =
+        new ExecutionReportProcessor(
+            jdbcTemplate,
+            objectMapper,
+            mapper,
+            executionRepository,
+            new JdbcPositionProjectionRepository(jdbcTemplate));
   }
 
   @Test
@@ -0,0 +1,207 @@
+package com.tradingplatform.worker.matching;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.tradingplatform.integration.binance.BinanceTradeSnapshot;
+import com.tradingplatform.matching.MatchResult;
+import com.tradingplatform.worker.connector.BinanceFillProcessor;
+import com.tradingplatform.worker.connector.FillProcessingOutcome;
+import com.tradingplatform.worker.execution.ExecutionAckResult;
+import com.tradingplatform.worker.execution.ExecutionOrderAdapter;
+import com.tradingplatform.worker.execution.SubmitOrderCommand;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class InternalCrossingServiceTest {
+  private InternalOrderRepository repository;
+  private BinanceFillProcessor fillProcessor;
+  private ExecutionOrderAdapter executionOrderAdapter;
+  private MatchingProperties properties;
+  private InternalCrossingService service;
+
+  @BeforeEach
+  void setUp() {
+    repository = mock(InternalOrderRepository.class);
+    fillProcessor = mock(BinanceFillProcessor.class);
+    executionOrderAdapter = mock(ExecutionOrderAdapter.class);
+    properties = new MatchingProperties();
+    properties.setEnabled(true);
+    properties.setSymbols(List.of("BTCUSDT"));
+    when(repository.findFilters("BTCUSDT"))
+        .thenReturn(
+            Optional.of(
+                new InstrumentFilters("BTCUSDT", new BigDecimal("0.01"), new BigDecimal("0.001"))));
+    when(repository.findOpenInternalOrders("BTCUSDT")).thenReturn(List.of());
+    when(repository.lockOpenInternalOrder(any())).thenReturn(true);
+    when(fillProcessor.processTrade(eq(InternalCrossingService.EXCHANGE_NAME), any()))
+        .thenReturn(FillProcessingOutcome.INSERTED);
+    service =
+        new InternalCrossingService(
+            properties,
+            repository,
+            fillProcessor,
+            executionOrderAdapter,
+            new SimpleMeterRegistry());
+    service.start();
+  }
+
+  @Test
+  void shouldPostBothLegsWhenOrdersCrossInternally() {
+    SubmitOrderCommand maker = limit("SELL", "30000.00", "1.000");
+    SubmitOrderCommand taker = limit("BUY", "30010.00", "0.400");
+
+    assertTrue(service.accepts(maker));
+    assertTrue(crossCommitted(maker).rested());
+    MatchResult result = crossCommitted(taker);
+
+    assertEquals(1, result.fills().size());
+    ArgumentCaptor<BinanceTradeSnapshot> trades =
+        ArgumentCaptor.forClass(BinanceTradeSnapshot.class);
+    verify(fillProcessor, times(2))
+        .processTrade(eq(InternalCrossingService.EXCHANGE_NAME), trades.capture());
+    BinanceTradeSnapshot makerLeg = trades.getAllValues().get(0);
+    BinanceTradeSnapshot takerLeg = trades.getAllValues().get(1);
+    assertEquals("INT-" + maker.orderId(), makerLeg.exchangeOrderId());
+    assertEquals("SELL", makerLeg.side());
+    assertEquals("INT-" + taker.orderId(), takerLeg.exchangeOrderId());
+    assertEquals(0, new BigDecimal("30000.00").compareTo(takerLeg.price()));
+    assertEquals(0, new BigDecimal("0.400").compareTo(takerLeg.qty()));
+    assertEquals(0, BigDecimal.ZERO.compareTo(takerLeg.feeAmount()));
+  }
+
+  @Test
+  void shouldSkipMakersThatAreNoLongerOpen() {
+    SubmitOrderCommand canceledMaker = limit("SELL", "30000.00", "1.000");
+    crossCommitted(canceledMaker);
+    when(repository.lockOpenInternalOrder(UUID.fromString(canceledMaker.orderId())))
+        .thenReturn(false);
+
+    MatchResult result = crossCommitted(limit("BUY", "30000.00", "1.000"));
+
+    assertTrue(result.fills().isEmpty());
+    assertTrue(result.rested());
+    verify(fillProcessor, never()).processTrade(eq(InternalCrossingService.EXCHANGE_NAME), any());
+  }
+
+  @Test
+  void shouldRouteRemainderToExchangeAfterRestWindow() {
+    properties.setRestWindowMs(0L);
+    SubmitOrderCommand resting = limit("BUY", "29990.00", "2.000");
+    crossCommitted(resting);
+    ExecutionAckResult venueAck = new ExecutionAckResult("BINANCE", "12345", resting.orderId());
+    when(repository.claimForRouting(UUID.fromString(resting.orderId()))).thenReturn(true);
+    when(executionOrderAdapter.placeOrder(any()))
+        .thenAnswer(
+            invocation -> {
+              assertFalse(TransactionSynchronizationManager.isActualTransactionActive());
+              return venueAck;
+            });
+    when(repository.reassignVenue(eq(UUID.fromString(resting.orderId())), eq(venueAck), any()))
+        .thenReturn(true);
+
+    service.routeExpiredOrders();
+
+    ArgumentCaptor<SubmitOrderCommand> routed = ArgumentCaptor.forClass(SubmitOrderCommand.class);
+    verify(executionOrderAdapter).placeOrder(routed.capture());
+    assertEquals(resting.orderId(), routed.getValue().orderId());
+    assertEquals(0, new BigDecimal("2.000").compareTo(routed.getValue().qty()));
+    verify(repository).reassignVenue(eq(UUID.fromString(resting.orderId())), eq(venueAck), any());
+  }
+
+  @Test
+  void shouldReleaseClaimAndRestAgainWhenExchangeRejectsRoute() {
+    properties.setRestWindowMs(0L);
+    SubmitOrderCommand resting = limit("BUY", "29990.00", "2.000");
+    UUID restingId = UUID.fromString(resting.orderId());
+    crossCommitted(resting);
+    when(repository.claimForRouting(restingId)).thenReturn(true);
+    when(repository.releaseRoutingClaim(restingId)).thenReturn(true);
+    when(executionOrderAdapter.placeOrder(any())).thenThrow(new IllegalStateException("down"));
+
+    service.routeExpiredOrders();
+    properties.setRestWindowMs(60_000L);
+    MatchResult result = crossCommitted(limit("SELL", "29990.00", "2.000"));
+
+    verify(repository).releaseRoutingClaim(restingId);
+    verify(repository, never()).reassignVenue(any(), any(), any());
+    assertEquals(1, result.fills().size());
+    assertEquals(restingId, result.fills().getFirst().makerOrderId());
+  }
+
+  @Test
+  void shouldRouteSameAccountRemainderInsteadOfCrossing() {
+    UUID accountId = UUID.randomUUID();
+    SubmitOrderCommand maker = limit(accountId, "SELL", "30000.00", "1.000");
+    SubmitOrderCommand taker = limit(accountId, "BUY", "30000.00", "0.500");
+    crossCommitted(maker);
+    when(repository.claimForRouting(UUID.fromString(taker.orderId()))).thenReturn(true);
+    when(executionOrderAdapter.placeOrder(any()))
+        .thenReturn(new ExecutionAckResult("BINANCE", "777", taker.clientOrderId()));
+
+    MatchResult result = crossCommitted(taker);
+    service.routeExpiredOrders();
+
+    assertTrue(result.fills().isEmpty());
+    assertTrue(result.selfTradePrevented());
+    verify(fillProcessor, never()).processTrade(eq(InternalCrossingService.EXCHANGE_NAME), any());
+    ArgumentCaptor<SubmitOrderCommand> routed = ArgumentCaptor.forClass(SubmitOrderCommand.class);
+    verify(executionOrderAdapter).placeOrder(routed.capture());
+    assertEquals(taker.orderId(), routed.getValue().orderId());
+    assertEquals(0, new BigDecimal("0.500").compareTo(routed.getValue().qty()));
+    verify(repository, never()).claimForRouting(UUID.fromString(maker.orderId()));
+  }
+
+  private MatchResult crossCommitted(SubmitOrderCommand command) {
+    TransactionSynchronizationManager.initSynchronization();
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+    try {
+      return service.cross(command);
+    } finally {
+      List<TransactionSynchronization> synchronizations =
+          TransactionSynchronizationManager.getSynchronizations();
+      TransactionSynchronizationManager.clearSynchronization();
+      TransactionSynchronizationManager.setActualTransactionActive(false);
+      synchronizations.forEach(
+          synchronization ->
+              synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+  }
+
+  private static SubmitOrderCommand limit(String side, String price, String qty) {
+    return limit(UUID.randomUUID(), side, price, qty);
+  }
+
+  private static SubmitOrderCommand limit(UUID accountId, String side, String price, String qty) {
+    UUID orderId = UUID.randomUUID();
+    return new SubmitOrderCommand(
+        orderId.toString(),
+        accountId.toString(),
+        "BTCUSDT",
+        side,
+        "LIMIT",
+        new BigDecimal(qty),
+        new BigDecimal(price),
+        "client-" + orderId,
+        Instant.parse("2026-10-19T10:00:00Z"),
+        "corr-" + orderId,
+        UUID.randomUUID());
+  }
+}
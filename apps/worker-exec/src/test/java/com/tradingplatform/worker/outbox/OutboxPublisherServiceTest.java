@@ -1,19 +1,23 @@
 package com.tradingplatform.worker.outbox;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tradingplatform.infra.kafka.contract.EventEnvelope;
+import com.tradingplatform.infra.kafka.contract.EventHeaders;
+import com.tradingplatform.infra.kafka.observability.StageLatencyRecorder;
 import com.tradingplatform.infra.kafka.producer.EventPublisher;
+import com.tradingplatform.infra.kafka.serde.RawJsonPayload;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
@@ -30,6 +34,7 @@ class OutboxPublisherServiceTest {
 
   @Mock private EventPublisher eventPublisher;
 
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
   private OutboxPublisherProperties properties;
   private OutboxPublisherService service;
 
@@ -40,7 +45,10 @@ class OutboxPublisherServiceTest {
     properties.setProducerName("worker-exec-outbox-publisher");
     service =
         new OutboxPublisherService(
-            outboxRepository, eventPublisher, properties, new ObjectMapper());
+            outboxRepository,
+            new OutboxRecordPublisher(
+                eventPublisher, properties, new StageLatencyRecorder(registry, "order.latency")),
+            properties);
   }
 
   @Test
@@ -60,7 +68,7 @@ class OutboxPublisherServiceTest {
             Instant.parse("2026-02-24T12:00:00Z"));
 
     when(outboxRepository.findPendingBatch(50)).thenReturn(List.of(record));
-    CompletableFuture<SendResult<String, String>> successFuture =
+    CompletableFuture<SendResult<String, byte[]>> successFuture =
         CompletableFuture.completedFuture(null);
     when(eventPublisher.publish(
             eq("orders.submitted.v1"), eq("ord-1001"), any(EventEnvelope.class)))
@@ -77,7 +85,7 @@ class OutboxPublisherServiceTest {
     assertEquals(1, envelope.eventVersion());
     assertEquals("ord-1001", envelope.correlationId());
     assertEquals("ord-1001", envelope.key());
-    assertNotNull(envelope.payload());
+    assertEquals(new RawJsonPayload("{\"orderId\":\"ord-1001\"}"), envelope.payload());
 
     verify(outboxRepository).markPublished(eq(outboxId), any(Instant.class));
     verify(outboxRepository, never()).markFailed(eq(outboxId), any());
@@ -100,7 +108,7 @@ class OutboxPublisherServiceTest {
             Instant.parse("2026-02-24T12:01:00Z"));
 
     when(outboxRepository.findPendingBatch(50)).thenReturn(List.of(record));
-    CompletableFuture<SendResult<String, String>> failedFuture = new CompletableFuture<>();
+    CompletableFuture<SendResult<String, byte[]>> failedFuture = new CompletableFuture<>();
     failedFuture.completeExceptionally(new IllegalStateException("kafka unavailable"));
     when(eventPublisher.publish(
             eq("orders.submitted.v1"), eq("ord-1002"), any(EventEnvelope.class)))
@@ -131,7 +139,7 @@ class OutboxPublisherServiceTest {
             Instant.parse("2026-02-24T12:02:00Z"));
 
     when(outboxRepository.findPendingBatch(50)).thenReturn(List.of(record));
-    CompletableFuture<SendResult<String, String>> successFuture =
+    CompletableFuture<SendResult<String, byte[]>> successFuture =
         CompletableFuture.completedFuture(null);
     when(eventPublisher.publish(eq("orders.updated.v3"), eq("ord-1003"), any(EventEnvelope.class)))
         .thenReturn(successFuture);
@@ -144,4 +152,49 @@ class OutboxPublisherServiceTest {
         .publish(eq("orders.updated.v3"), eq("ord-1003"), envelopeCaptor.capture());
     assertEquals(3, envelopeCaptor.getValue().eventVersion());
   }
+
+  @Test
+  void shouldForwardStageTraceHeaderAndRecordOutboxHops() {
+    UUID outboxId = UUID.randomUUID();
+    OutboxEventRecord record =
+        new OutboxEventRecord(
+            outboxId,
+            "ORDER",
+            "ord-1004",
+            "OrderSubmitted",
+            "{\"orderId\":\"ord-1004\"}",
+            "orders.submitted.v2",
+            "ord-1004",
+            "NEW",
+            0,
+            Instant.parse("2026-02-24T12:03:00Z"),
+            "api_received=1771934580000000,order_persisted=1771934580002000");
+
+    when(outboxRepository.findPendingBatch(50)).thenReturn(List.of(record));
+    CompletableFuture<SendResult<String, byte[]>> successFuture =
+        CompletableFuture.completedFuture(null);
+    when(eventPublisher.publish(
+            eq("orders.submitted.v2"), eq("ord-1004"), any(EventEnvelope.class), anyMap()))
+        .thenReturn(successFuture);
+
+    service.publishPendingEvents();
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<Map<String, String>> headersCaptor = ArgumentCaptor.forClass(Map.class);
+    verify(eventPublisher)
+        .publish(
+            eq("orders.submitted.v2"),
+            eq("ord-1004"),
+            any(EventEnvelope.class),
+            headersCaptor.capture());
+    String trace = headersCaptor.getValue().get(EventHeaders.X_STAGE_TRACE);
+    assertTrue(
+        trace.startsWith(
+            "api_received=1771934580000000,order_persisted=1771934580002000,outbox_claimed="));
+    verify(outboxRepository).markPublished(eq(outboxId), any(Instant.class));
+    assertEquals(
+        1L, registry.get("order.latency.stage").tag("stage", "outbox_claimed").timer().count());
+    assertEquals(
+        1L, registry.get("order.latency.stage").tag("stage", "kafka_published").timer().count());
+  }
 }
@@ -0,0 +1,216 @@
+package com.tradingplatform.worker.outbox.cdc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tradingplatform.worker.outbox.OutboxEventRecord;
+import com.tradingplatform.worker.outbox.cdc.OutboxTransactionAssembler.CommittedOutboxTransaction;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class OutboxTransactionAssemblerTest {
+  private static final List<String> OUTBOX_COLUMNS =
+      List.of(
+          "id",
+          "aggregate_type",
+          "aggregate_id",
+          "event_type",
+          "event_payload",
+          "topic",
+          "event_key",
+          "status",
+          "attempt_count",
+          "created_at",
+          "published_at",
+          "last_error",
+          "next_attempt_at",
+          "processing_started_at",
+          "stage_trace");
+
+  private final OutboxTransactionAssembler assembler = new OutboxTransactionAssembler();
+
+  @Test
+  void shouldEmitOutboxInsertsInWriteOrderOnCommit() throws IOException {
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+
+    assertTrue(accept(begin(0x2000L, 731)).isEmpty());
+    assertTrue(accept(relation(16384, "outbox_events", OUTBOX_COLUMNS)).isEmpty());
+    assertTrue(
+        accept(insert(16384, outboxRow(first, "ord-1", "2026-02-24 12:00:00.123456+00")))
+            .isEmpty());
+    assertTrue(
+        accept(insert(16384, outboxRow(second, "ord-2", "2026-02-24 17:30:00+05:30"))).isEmpty());
+    Optional<CommittedOutboxTransaction> committed = accept(commit(0x2000L, 0x2048L));
+
+    assertTrue(committed.isPresent());
+    assertEquals(0x2048L, committed.get().endLsn());
+    List<OutboxEventRecord> records = committed.get().records();
+    assertEquals(2, records.size());
+    OutboxEventRecord record = records.get(0);
+    assertEquals(first, record.id());
+    assertEquals("ORDER", record.aggregateType());
+    assertEquals("ord-1", record.aggregateId());
+    assertEquals("OrderSubmitted", record.eventType());
+    assertEquals("{\"orderId\": \"ord-1\"}", record.eventPayload());
+    assertEquals("orders.submitted.v1", record.topic());
+    assertEquals("ord-1", record.eventKey());
+    assertEquals(0, record.attemptCount());
+    assertEquals(Instant.parse("2026-02-24T12:00:00.123456Z"), record.createdAt());
+    assertNull(record.stageTrace());
+    assertEquals(second, records.get(1).id());
+    assertEquals(Instant.parse("2026-02-24T12:00:00Z"), records.get(1).createdAt());
+  }
+
+  @Test
+  void shouldSkipOtherRelationsAndAckEmptyTransactions() throws IOException {
+    accept(begin(0x3000L, 732));
+    accept(relation(16390, "orders", List.of("id", "status")));
+    accept(insert(16390, Arrays.asList("o-1", "NEW")));
+    assertInstanceOf(PgOutputMessage.Ignored.class, PgOutputDecoder.decode(typeOnly('O')));
+    Optional<CommittedOutboxTransaction> committed = accept(commit(0x3000L, 0x3010L));
+
+    assertTrue(committed.isPresent());
+    assertEquals(0x3010L, committed.get().endLsn());
+    assertTrue(committed.get().records().isEmpty());
+  }
+
+  @Test
+  void shouldDropPartialTransactionOnReset() throws IOException {
+    accept(begin(0x4000L, 733));
+    accept(relation(16384, "outbox_events", OUTBOX_COLUMNS));
+    accept(insert(16384, outboxRow(UUID.randomUUID(), "ord-3", "2026-02-24 12:00:00+00")));
+    assembler.reset();
+
+    Optional<CommittedOutboxTransaction> committed = accept(commit(0x4000L, 0x4020L));
+
+    assertTrue(committed.get().records().isEmpty());
+  }
+
+  @Test
+  void shouldRejectInsertForUnknownRelation() throws IOException {
+    accept(begin(0x5000L, 734));
+
+    assertThrows(IllegalStateException.class, () -> accept(insert(99999, Arrays.asList("x", "y"))));
+  }
+
+  private Optional<CommittedOutboxTransaction> accept(ByteBuffer message) {
+    return assembler.accept(PgOutputDecoder.decode(message));
+  }
+
+  private static List<String> outboxRow(UUID id, String orderId, String createdAt) {
+    return Arrays.asList(
+        id.toString(),
+        "ORDER",
+        orderId,
+        "OrderSubmitted",
+        "{\"orderId\": \"" + orderId + "\"}",
+        "orders.submitted.v1",
+        orderId,
+        "NEW",
+        "0",
+        createdAt,
+        null,
+        null,
+        "2026-02-24 12:00:00+00",
+        null,
+        null);
+  }
+
+  private static ByteBuffer begin(long finalLsn, int xid) throws IOException {
+    return message(
+        out -> {
+          out.writeByte('B');
+          out.writeLong(finalLsn);
+          out.writeLong(0L);
+          out.writeInt(xid);
+        });
+  }
+
+  private static ByteBuffer relation(int relationId, String name, List<String> columns)
+      throws IOException {
+    return message(
+        out -> {
+          out.writeByte('R');
+          out.writeInt(relationId);
+          writeCString(out, "public");
+          writeCString(out, name);
+          out.writeByte('d');
+          out.writeShort(columns.size());
+          for (String column : columns) {
+            out.writeByte(0);
+            writeCString(out, column);
+            out.writeInt(25);
+            out.writeInt(-1);
+          }
+        });
+  }
+
+  private static ByteBuffer insert(int relationId, List<String> values) throws IOException {
+    return message(
+        out -> {
+          out.writeByte('I');
+          out.writeInt(relationId);
+          out.writeByte('N');
+          out.writeShort(values.size());
+          for (String value : values) {
+            if (value == null) {
+              out.writeByte('n');
+            } else {
+              byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+              out.writeByte('t');
+              out.writeInt(bytes.length);
+              out.write(bytes);
+            }
+          }
+        });
+  }
+
+  private static ByteBuffer commit(long commitLsn, long endLsn) throws IOException {
+    return message(
+        out -> {
+          out.writeByte('C');
+          out.writeByte(0);
+          out.writeLong(commitLsn);
+          out.writeLong(endLsn);
+          out.writeLong(0L);
+        });
+  }
+
+  private static ByteBuffer typeOnly(char type) throws IOException {
+    return message(out -> out.writeByte(type));
+  }
+
+  private static void writeCString(DataOutputStream out, String value) throws IOException {
+    out.write(value.getBytes(StandardCharsets.UTF_8));
+    out.writeByte(0);
+  }
+
+  private static ByteBuffer message(MessageWriter writer) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    // Leading padding mirrors how the driver hands out a slice of a larger receive buffer.
+    bytes.write(new byte[] {7, 7, 7});
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      writer.write(out);
+    }
+    byte[] array = bytes.toByteArray();
+    return ByteBuffer.wrap(array, 3, array.length - 3);
+  }
+
+  @FunctionalInterface
+  private interface MessageWriter {
+    void write(DataOutputStream out) throws IOException;
+  }
+}
@@ -0,0 +1,29 @@
+package com.tradingplatform.worker.position;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class PositionProjectionBackfillJobTest {
+  @Test
+  void shouldRebuildAccountsInBatchesUntilNoneMissing() {
+    PositionProjectionRepository repository = mock(PositionProjectionRepository.class);
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    UUID third = UUID.randomUUID();
+    when(repository.findAccountsMissingPositions(2))
+        .thenReturn(List.of(first, second), List.of(third), List.of());
+
+    int rebuilt = new PositionProjectionBackfillJob(repository, 2).backfill();
+
+    assertEquals(3, rebuilt);
+    verify(repository).rebuildAccount(first);
+    verify(repository).rebuildAccount(second);
+    verify(repository).rebuildAccount(third);
+  }
+}
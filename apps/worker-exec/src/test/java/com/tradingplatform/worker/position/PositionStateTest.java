@@ -0,0 +1,62 @@
+package com.tradingplatform.worker.position;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+class PositionStateTest {
+  @Test
+  void shouldAverageEntryPriceWhenIncreasingPosition() {
+    PositionState state =
+        PositionState.FLAT
+            .apply("BUY", new BigDecimal("1"), new BigDecimal("100"))
+            .apply("BUY", new BigDecimal("3"), new BigDecimal("200"));
+
+    assertDecimalEquals(new BigDecimal("4"), state.netQty());
+    assertDecimalEquals(new BigDecimal("175"), state.avgEntryPrice());
+    assertDecimalEquals(BigDecimal.ZERO, state.realizedPnl());
+  }
+
+  @Test
+  void shouldRealizePnlWhenReducingAndResetWhenFlat() {
+    PositionState state =
+        PositionState.FLAT
+            .apply("BUY", new BigDecimal("2"), new BigDecimal("100"))
+            .apply("SELL", new BigDecimal("1"), new BigDecimal("130"));
+
+    assertDecimalEquals(new BigDecimal("1"), state.netQty());
+    assertDecimalEquals(new BigDecimal("100"), state.avgEntryPrice());
+    assertDecimalEquals(new BigDecimal("30"), state.realizedPnl());
+
+    PositionState flat = state.apply("SELL", new BigDecimal("1"), new BigDecimal("90"));
+    assertDecimalEquals(BigDecimal.ZERO, flat.netQty());
+    assertDecimalEquals(BigDecimal.ZERO, flat.avgEntryPrice());
+    assertDecimalEquals(new BigDecimal("20"), flat.realizedPnl());
+  }
+
+  @Test
+  void shouldOpenOppositePositionAtFillPriceWhenFlipping() {
+    PositionState state =
+        PositionState.FLAT
+            .apply("SELL", new BigDecimal("1"), new BigDecimal("100"))
+            .apply("BUY", new BigDecimal("3"), new BigDecimal("80"));
+
+    assertDecimalEquals(new BigDecimal("2"), state.netQty());
+    assertDecimalEquals(new BigDecimal("80"), state.avgEntryPrice());
+    assertDecimalEquals(new BigDecimal("20"), state.realizedPnl());
+  }
+
+  @Test
+  void shouldRejectUnknownSide() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> PositionState.FLAT.apply("HOLD", BigDecimal.ONE, BigDecimal.ONE));
+  }
+
+  private static void assertDecimalEquals(BigDecimal expected, BigDecimal actual) {
+    assertEquals(
+        0, expected.compareTo(actual), () -> "expected " + expected + " but was " + actual);
+  }
+}
@@ -0,0 +1,119 @@
+package com.tradingplatform.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares two JMH JSON result files ({@code -rf json}) and reports every benchmark whose score
+ * moved in the wrong direction by more than the allowed percentage. Exits with status 1 when any
+ * regression is found so CI can gate on it.
+ */
+public final class BenchmarkResultComparator {
+  private static final double DEFAULT_THRESHOLD_PERCENT = 10.0;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final double thresholdPercent;
+
+  public BenchmarkResultComparator(double thresholdPercent) {
+    if (thresholdPercent <= 0) {
+      throw new IllegalArgumentException("thresholdPercent must be > 0");
+    }
+    this.thresholdPercent = thresholdPercent;
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 2) {
+      System.err.println(
+          "Usage: BenchmarkResultComparator <baseline.json> <current.json> [thresholdPercent]");
+      System.exit(2);
+    }
+    double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+    BenchmarkResultComparator comparator = new BenchmarkResultComparator(threshold);
+    List<Comparison> comparisons = comparator.compare(Path.of(args[0]), Path.of(args[1]));
+    boolean regressed = false;
+    for (Comparison comparison : comparisons) {
+      System.out.println(comparison.describe());
+      regressed |= comparison.regressed();
+    }
+    System.exit(regressed ? 1 : 0);
+  }
+
+  public List<Comparison> compare(Path baseline, Path current) throws IOException {
+    return compare(
+        objectMapper.readTree(baseline.toFile()), objectMapper.readTree(current.toFile()));
+  }
+
+  List<Comparison> compare(JsonNode baseline, JsonNode current) {
+    Map<String, JsonNode> baselineByKey = index(baseline);
+    List<Comparison> comparisons = new ArrayList<>();
+    for (Map.Entry<String, JsonNode> entry : index(current).entrySet()) {
+      JsonNode before = baselineByKey.get(entry.getKey());
+      if (before == null) {
+        continue;
+      }
+      JsonNode after = entry.getValue();
+      String mode = after.path("mode").asText();
+      double baselineScore = before.path("primaryMetric").path("score").asDouble();
+      double currentScore = after.path("primaryMetric").path("score").asDouble();
+      double changePercent =
+          baselineScore == 0 ? 0 : (currentScore - baselineScore) * 100.0 / baselineScore;
+      // Throughput regresses when it drops; every time-based mode regresses when it grows.
+      double worsePercent = "thrpt".equals(mode) ? -changePercent : changePercent;
+      comparisons.add(
+          new Comparison(
+              entry.getKey(),
+              after.path("primaryMetric").path("scoreUnit").asText(),
+              baselineScore,
+              currentScore,
+              changePercent,
+              worsePercent > thresholdPercent));
+    }
+    return comparisons;
+  }
+
+  private static Map<String, JsonNode> index(JsonNode results) {
+    Map<String, JsonNode> byKey = new LinkedHashMap<>();
+    for (JsonNode result : results) {
+      byKey.put(key(result), result);
+    }
+    return byKey;
+  }
+
+  private static String key(JsonNode result) {
+    StringBuilder key = new StringBuilder(result.path("benchmark").asText());
+    key.append(" [").append(result.path("mode").asText()).append(']');
+    JsonNode params = result.path("params");
+    Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+    while (fields.hasNext()) {
+      Map.Entry<String, JsonNode> field = fields.next();
+      key.append(' ').append(field.getKey()).append('=').append(field.getValue().asText());
+    }
+    return key.toString();
+  }
+
+  public record Comparison(
+      String benchmark,
+      String unit,
+      double baselineScore,
+      double currentScore,
+      double changePercent,
+      boolean regressed) {
+    public String describe() {
+      return String.format(
+          "%s %s: %.3f -> %.3f %s (%+.1f%%)",
+          regressed ? "REGRESSION" : "ok        ",
+          benchmark,
+          baselineScore,
+          currentScore,
+          unit,
+          changePercent);
+    }
+  }
+}
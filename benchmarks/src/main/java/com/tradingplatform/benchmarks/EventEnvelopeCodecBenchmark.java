@@ -0,0 +1,119 @@
+package com.tradingplatform.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tradingplatform.infra.kafka.contract.EventEnvelope;
+import com.tradingplatform.infra.kafka.contract.EventTypes;
+import com.tradingplatform.infra.kafka.contract.payload.OrderUpdatedV2;
+import com.tradingplatform.infra.kafka.serde.EventEnvelopeJsonCodec;
+import com.tradingplatform.infra.kafka.serde.EventEnvelopeSmileCodec;
+import com.tradingplatform.infra.kafka.serde.EventObjectMapperFactory;
+import com.tradingplatform.infra.kafka.serde.RawJsonPayload;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventEnvelopeCodecBenchmark {
+  private EventEnvelopeJsonCodec codec;
+  private EventEnvelopeSmileCodec smileCodec;
+  private EventEnvelope<OrderUpdatedV2> envelope;
+  private String json;
+  private byte[] jsonBytes;
+  private byte[] smileBytes;
+  private ObjectMapper objectMapper;
+  private String storedPayload;
+
+  @Setup
+  public void setUp() throws IOException {
+    codec = new EventEnvelopeJsonCodec(EventObjectMapperFactory.create());
+    smileCodec = new EventEnvelopeSmileCodec(EventObjectMapperFactory.createSmile());
+    String orderId = UUID.randomUUID().toString();
+    envelope =
+        EventEnvelope.of(
+            EventTypes.ORDER_UPDATED,
+            2,
+            "worker-exec",
+            "corr-" + orderId,
+            orderId,
+            new OrderUpdatedV2(
+                orderId,
+                UUID.randomUUID().toString(),
+                "PARTIALLY_FILLED",
+                new BigDecimal("0.25000000"),
+                new BigDecimal("0.75000000"),
+                "BINANCE",
+                "9001001",
+                "ord-1001",
+                Instant.parse("2026-02-26T00:00:00Z")));
+    json = codec.encode(envelope);
+    jsonBytes = codec.toBytes(envelope);
+    smileBytes = smileCodec.toBytes(envelope);
+    objectMapper = EventObjectMapperFactory.create();
+    storedPayload = objectMapper.writeValueAsString(envelope.payload());
+  }
+
+  @Benchmark
+  public String encode() {
+    return codec.encode(envelope);
+  }
+
+  @Benchmark
+  public EventEnvelope<OrderUpdatedV2> decode() {
+    return codec.decode(json, OrderUpdatedV2.class);
+  }
+
+  @Benchmark
+  public byte[] jsonToBytes() {
+    return codec.toBytes(envelope);
+  }
+
+  @Benchmark
+  public EventEnvelope<OrderUpdatedV2> jsonFromBytes() {
+    return codec.fromBytes(jsonBytes, OrderUpdatedV2.class);
+  }
+
+  @Benchmark
+  public byte[] smileToBytes() {
+    return smileCodec.toBytes(envelope);
+  }
+
+  @Benchmark
+  public EventEnvelope<OrderUpdatedV2> smileFromBytes() {
+    return smileCodec.fromBytes(smileBytes, OrderUpdatedV2.class);
+  }
+
+  /** Outbox publish path that parses the stored payload into a tree and re-serializes it. */
+  @Benchmark
+  public byte[] outboxPayloadViaTree() throws IOException {
+    JsonNode payload = objectMapper.readTree(storedPayload);
+    return codec.toBytes(outboxEnvelope(payload));
+  }
+
+  @Benchmark
+  public byte[] outboxPayloadRaw() {
+    return codec.toBytes(outboxEnvelope(new RawJsonPayload(storedPayload)));
+  }
+
+  private static <T> EventEnvelope<T> outboxEnvelope(T payload) {
+    return EventEnvelope.of(
+        EventTypes.ORDER_UPDATED, 2, "worker-exec", "ord-1001", "ord-1001", payload);
+  }
+}
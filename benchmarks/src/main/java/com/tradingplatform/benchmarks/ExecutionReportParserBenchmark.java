@@ -0,0 +1,51 @@
+package com.tradingplatform.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tradingplatform.integration.binance.BinanceExecutionReport;
+import com.tradingplatform.integration.binance.JacksonBinanceExecutionReportParser;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExecutionReportParserBenchmark {
+  private static final String TRADE_REPORT =
+      """
+      {"e":"executionReport","E":1772064000001,"s":"BTCUSDT","c":"ord-1001","S":"BUY",\
+      "o":"LIMIT","q":"1.00000000","p":"43000.10","x":"TRADE","X":"PARTIALLY_FILLED",\
+      "i":9001001,"l":"0.25000000","z":"0.75000000","L":"43000.10","n":"0.0005","N":"USDT",\
+      "T":1772064000000,"t":7001001}""";
+
+  private static final String NEW_REPORT =
+      """
+      {"e":"executionReport","E":1772064000001,"s":"BTCUSDT","c":"ord-1001","S":"BUY",\
+      "o":"LIMIT","q":"1.00000000","p":"43000.10","x":"NEW","X":"NEW","i":9001001,\
+      "l":"0.00000000","z":"0.00000000","L":"0.00000000","n":"0","N":null,\
+      "T":1772064000000,"t":-1}""";
+
+  private final JacksonBinanceExecutionReportParser parser =
+      new JacksonBinanceExecutionReportParser(new ObjectMapper());
+
+  @Benchmark
+  public Optional<BinanceExecutionReport> parseTrade() {
+    return parser.parse(TRADE_REPORT);
+  }
+
+  @Benchmark
+  public Optional<BinanceExecutionReport> parseNonTrade() {
+    return parser.parse(NEW_REPORT);
+  }
+}
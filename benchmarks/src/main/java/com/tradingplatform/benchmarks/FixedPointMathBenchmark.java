@@ -0,0 +1,109 @@
+package com.tradingplatform.benchmarks;
+
+import com.tradingplatform.domain.instruments.fixedpoint.InstrumentScale;
+import com.tradingplatform.domain.instruments.fixedpoint.Notional;
+import com.tradingplatform.domain.instruments.fixedpoint.Price;
+import com.tradingplatform.domain.instruments.fixedpoint.Quantity;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The arithmetic behind one risk validation, once on {@link BigDecimal} as before and once on the
+ * fixed-point types, with inputs already at the instrument scale in the fixed-point case.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FixedPointMathBenchmark {
+  private static final BigDecimal ONE_BPS = new BigDecimal("10000");
+  private static final int BAND_BPS = 500;
+
+  private BigDecimal qty;
+  private BigDecimal price;
+  private BigDecimal referencePrice;
+  private BigDecimal tickSize;
+  private BigDecimal stepSize;
+  private BigDecimal maxNotional;
+  private BigDecimal minNotional;
+
+  private Quantity fixedQty;
+  private Price fixedPrice;
+  private Price fixedReferencePrice;
+  private Price fixedTickSize;
+  private Quantity fixedStepSize;
+  private Notional fixedMaxNotional;
+  private Notional fixedMinNotional;
+
+  @Setup
+  public void setUp() {
+    qty = new BigDecimal("0.25");
+    price = new BigDecimal("50010.10");
+    referencePrice = new BigDecimal("50000");
+    tickSize = new BigDecimal("0.10");
+    stepSize = new BigDecimal("0.01");
+    maxNotional = new BigDecimal("1000000");
+    minNotional = new BigDecimal("10");
+
+    InstrumentScale scale = InstrumentScale.of(tickSize, stepSize);
+    fixedQty = scale.quantity(qty);
+    fixedPrice = scale.price(price);
+    fixedReferencePrice = scale.price(referencePrice);
+    fixedTickSize = scale.price(tickSize);
+    fixedStepSize = scale.quantity(stepSize);
+    fixedMaxNotional = Notional.of(maxNotional);
+    fixedMinNotional = Notional.of(minNotional);
+  }
+
+  @Benchmark
+  public boolean bigDecimal() {
+    BigDecimal notional = qty.multiply(price);
+    boolean withinNotional =
+        notional.compareTo(maxNotional) <= 0 && notional.compareTo(minNotional) >= 0;
+    boolean aligned =
+        qty.remainder(stepSize).compareTo(BigDecimal.ZERO) == 0
+            && price.remainder(tickSize).compareTo(BigDecimal.ZERO) == 0;
+    BigDecimal deviationBps =
+        price
+            .subtract(referencePrice)
+            .abs()
+            .multiply(ONE_BPS)
+            .divide(referencePrice, 8, RoundingMode.HALF_UP);
+    return withinNotional && aligned && deviationBps.compareTo(BigDecimal.valueOf(BAND_BPS)) <= 0;
+  }
+
+  @Benchmark
+  public boolean fixedPoint() {
+    Notional notional = fixedPrice.times(fixedQty);
+    boolean withinNotional =
+        notional.compareTo(fixedMaxNotional) <= 0 && notional.compareTo(fixedMinNotional) >= 0;
+    boolean aligned =
+        fixedQty.isMultipleOf(fixedStepSize) && fixedPrice.isMultipleOf(fixedTickSize);
+    return withinNotional && aligned && !fixedPrice.deviatesMoreThan(fixedReferencePrice, BAND_BPS);
+  }
+
+  @Benchmark
+  public boolean fixedPointFromDecimal() {
+    Quantity orderQty = Quantity.of(qty);
+    Price orderPrice = Price.of(price);
+    Notional notional = orderPrice.times(orderQty);
+    boolean withinNotional =
+        notional.compareTo(fixedMaxNotional) <= 0 && notional.compareTo(fixedMinNotional) >= 0;
+    boolean aligned =
+        orderQty.isMultipleOf(fixedStepSize) && orderPrice.isMultipleOf(fixedTickSize);
+    return withinNotional && aligned && !orderPrice.deviatesMoreThan(fixedReferencePrice, BAND_BPS);
+  }
+}
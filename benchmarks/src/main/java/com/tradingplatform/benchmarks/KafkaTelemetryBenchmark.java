@@ -0,0 +1,68 @@
+package com.tradingplatform.benchmarks;
+
+import com.tradingplatform.infra.kafka.contract.EventTypes;
+import com.tradingplatform.infra.kafka.observability.MicrometerKafkaTelemetry;
+import com.tradingplatform.infra.kafka.topics.TopicNames;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KafkaTelemetryBenchmark {
+  private static final String KEY = "6f1c1f8e-8d1b-4f8e-9b0e-3c6c7f8a1b2c";
+
+  private MeterRegistry registry;
+  private MicrometerKafkaTelemetry telemetry;
+  private long offset;
+
+  @Setup
+  public void setUp() {
+    registry = new SimpleMeterRegistry();
+    telemetry = new MicrometerKafkaTelemetry(registry);
+  }
+
+  @Benchmark
+  public void publishSuccess() {
+    telemetry.onPublishSuccess(
+        TopicNames.ORDERS_UPDATED_V2, KEY, EventTypes.ORDER_UPDATED, 125_000L);
+  }
+
+  @Benchmark
+  public void consumeSuccess() {
+    telemetry.onConsumeSuccess(
+        TopicNames.ORDERS_UPDATED_V2, KEY, EventTypes.ORDER_UPDATED, 3, offset++, 80_000L);
+  }
+
+  /** Per-message builder registration, the pattern the telemetry used before caching handles. */
+  @Benchmark
+  public void publishSuccessRegistryLookup() {
+    Counter.builder("infra.kafka.publish.total")
+        .tag("topic", TopicNames.ORDERS_UPDATED_V2)
+        .tag("event_type", EventTypes.ORDER_UPDATED)
+        .tag("outcome", "success")
+        .register(registry)
+        .increment();
+    Timer.builder("infra.kafka.publish.duration")
+        .tag("topic", TopicNames.ORDERS_UPDATED_V2)
+        .tag("event_type", EventTypes.ORDER_UPDATED)
+        .register(registry)
+        .record(125_000L, TimeUnit.NANOSECONDS);
+  }
+}
@@ -0,0 +1,63 @@
+package com.tradingplatform.benchmarks;
+
+import com.tradingplatform.domain.orders.Order;
+import com.tradingplatform.domain.orders.OrderSide;
+import com.tradingplatform.domain.orders.OrderStateMachine;
+import com.tradingplatform.domain.orders.OrderStatus;
+import com.tradingplatform.domain.orders.OrderType;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderStateMachineBenchmark {
+  private static final Instant NOW = Instant.parse("2026-02-26T00:00:00Z");
+  private static final BigDecimal QTY = new BigDecimal("1.00000000");
+  private static final BigDecimal HALF = new BigDecimal("0.50000000");
+  private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+  private final Order newOrder =
+      Order.createNew(
+          UUID.randomUUID(),
+          UUID.randomUUID(),
+          "BTCUSDT",
+          OrderSide.BUY,
+          OrderType.LIMIT,
+          QTY,
+          new BigDecimal("43000.10"),
+          "ord-1001",
+          NOW);
+
+  @Benchmark
+  public Order fillLifecycle() {
+    return newOrder
+        .transitionTo(OrderStatus.ACK, null, "9001001", NOW)
+        .transitionTo(OrderStatus.PARTIALLY_FILLED, HALF, "9001001", NOW)
+        .transitionTo(OrderStatus.FILLED, QTY, "9001001", NOW);
+  }
+
+  @Benchmark
+  public void transitionMatrix(Blackhole blackhole) {
+    for (OrderStatus from : STATUSES) {
+      for (OrderStatus to : STATUSES) {
+        blackhole.consume(OrderStateMachine.canTransition(from, to));
+      }
+    }
+  }
+}
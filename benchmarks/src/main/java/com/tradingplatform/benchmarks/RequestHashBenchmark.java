@@ -0,0 +1,45 @@
+package com.tradingplatform.benchmarks;
+
+import com.tradingplatform.infra.web.idempotency.RequestHashCalculator;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestHashBenchmark {
+  private final RequestHashCalculator calculator = new RequestHashCalculator();
+  private MockHttpServletRequest request;
+  private byte[] body;
+
+  @Setup
+  public void setUp() {
+    request = new MockHttpServletRequest("POST", "/v1/orders");
+    request.setContentType("application/json");
+    request.addParameter("dryRun", "false");
+    body =
+        """
+        {"accountId":"6f1c1f8e-8d1b-4f8e-9b0e-3c6c7f8a1b2c","instrument":"BTCUSDT","side":"BUY",\
+        "type":"LIMIT","qty":"0.25","price":"43000.10","clientOrderId":"ord-1001"}"""
+            .getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public String computeOrderHash() {
+    return calculator.compute(request, body);
+  }
+}
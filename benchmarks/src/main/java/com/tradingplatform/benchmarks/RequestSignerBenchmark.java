@@ -0,0 +1,52 @@
+package com.tradingplatform.benchmarks;
+
+import com.tradingplatform.integration.binance.BinanceRequestSigner;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestSignerBenchmark {
+  private BinanceRequestSigner signer;
+  private Map<String, String> orderParams;
+
+  @Setup
+  public void setUp() {
+    signer =
+        new BinanceRequestSigner(
+            "NhqPtmdSJYdKjVHjA7PZj4Mge3R5YNiP1e3UZjInClVN65XAbvqqM6A7H5fATj0j",
+            5000L,
+            Clock.fixed(Instant.parse("2026-02-26T00:00:00Z"), ZoneOffset.UTC));
+    orderParams = new LinkedHashMap<>();
+    orderParams.put("symbol", "BTCUSDT");
+    orderParams.put("side", "BUY");
+    orderParams.put("type", "LIMIT");
+    orderParams.put("timeInForce", "GTC");
+    orderParams.put("quantity", "0.25000000");
+    orderParams.put("price", "43000.10");
+    orderParams.put("newClientOrderId", "ord-1001");
+  }
+
+  @Benchmark
+  public BinanceRequestSigner.SignedRequest signNewOrder() {
+    return signer.sign(orderParams);
+  }
+}
@@ -0,0 +1,109 @@
+package com.tradingplatform.benchmarks;
+
+import com.tradingplatform.domain.instruments.marketdata.TopOfBookCache;
+import com.tradingplatform.domain.orders.OrderSide;
+import com.tradingplatform.domain.orders.OrderType;
+import com.tradingplatform.domain.risk.AccountExposure;
+import com.tradingplatform.domain.risk.AccountRiskLimits;
+import com.tradingplatform.domain.risk.ExposureTracker;
+import com.tradingplatform.domain.risk.InstrumentRiskLimits;
+import com.tradingplatform.domain.risk.RiskOrder;
+import com.tradingplatform.domain.risk.RiskRejection;
+import com.tradingplatform.domain.risk.RiskRuleSet;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// The validate benchmarks run the steps JdbcRiskCheckService takes once the cached rule set is
+// loaded: reference price, tracked exposure, order conversion and rule evaluation.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RiskCheckBenchmark {
+  private static final String SYMBOL = "BTCUSDT";
+  private static final String QUOTE_ASSET = "USDT";
+  private static final BigDecimal QTY = new BigDecimal("0.25");
+  private static final BigDecimal LIMIT_PRICE = new BigDecimal("50010.10");
+  private static final BigDecimal REFERENCE_PRICE = new BigDecimal("50000");
+  private static final Duration MAX_PRICE_AGE = Duration.ofMillis(5_000L);
+
+  private final TopOfBookCache topOfBookCache = new TopOfBookCache();
+  private RiskRuleSet compiledRules;
+  private RiskOrder compiledLimitOrder;
+  private ExposureTracker exposureTracker;
+  private UUID accountId;
+
+  @Setup
+  public void setUp() {
+    accountId = UUID.randomUUID();
+    compiledRules =
+        RiskRuleSet.compile(
+            new InstrumentRiskLimits(
+                SYMBOL,
+                new BigDecimal("0.10"),
+                new BigDecimal("0.01"),
+                new BigDecimal("0.01"),
+                new BigDecimal("100"),
+                new BigDecimal("10")),
+            AccountRiskLimits.of(new BigDecimal("1000000"), 500));
+    compiledLimitOrder =
+        compiledRules.order(OrderSide.BUY, OrderType.LIMIT, QTY, LIMIT_PRICE, REFERENCE_PRICE);
+    exposureTracker = new ExposureTracker();
+    for (int i = 0; i < 1_000; i++) {
+      exposureTracker.onOrderOpened(
+          new ExposureTracker.OpenOrder(
+              UUID.randomUUID(),
+              accountId,
+              SYMBOL,
+              QUOTE_ASSET,
+              OrderSide.BUY,
+              QTY,
+              BigDecimal.ZERO,
+              LIMIT_PRICE,
+              Instant.now()));
+    }
+  }
+
+  @Benchmark
+  public RiskRejection validateLimitOrder() {
+    return validate(OrderType.LIMIT, LIMIT_PRICE);
+  }
+
+  @Benchmark
+  public RiskRejection validateMarketOrder() {
+    return validate(OrderType.MARKET, null);
+  }
+
+  @Benchmark
+  public RiskRejection evaluateCompiledRules() {
+    return compiledRules.evaluate(compiledLimitOrder, AccountExposure.NONE);
+  }
+
+  @Benchmark
+  public ExposureTracker.Exposure readTrackedExposure() {
+    return exposureTracker.exposure(accountId, SYMBOL, QUOTE_ASSET);
+  }
+
+  private RiskRejection validate(OrderType type, BigDecimal price) {
+    BigDecimal referencePrice =
+        topOfBookCache.referencePrice(SYMBOL, MAX_PRICE_AGE).orElse(REFERENCE_PRICE);
+    ExposureTracker.Exposure exposure = exposureTracker.exposure(accountId, SYMBOL, QUOTE_ASSET);
+    RiskOrder order = compiledRules.order(OrderSide.BUY, type, QTY, price, referencePrice);
+    return compiledRules.evaluate(order, compiledRules.exposure(exposure));
+  }
+}
@@ -0,0 +1,70 @@
+package com.tradingplatform.benchmarks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class BenchmarkResultComparatorTest {
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final BenchmarkResultComparator comparator = new BenchmarkResultComparator(10.0);
+
+  @Test
+  void shouldFlagAverageTimeIncreaseAboveThreshold() throws Exception {
+    List<BenchmarkResultComparator.Comparison> comparisons =
+        comparator.compare(
+            results(
+                result("a.Codec.encode", "avgt", 100.0), result("a.Codec.decode", "avgt", 200.0)),
+            results(
+                result("a.Codec.encode", "avgt", 125.0), result("a.Codec.decode", "avgt", 205.0)));
+
+    assertEquals(2, comparisons.size());
+    assertTrue(comparisons.get(0).regressed());
+    assertEquals(25.0, comparisons.get(0).changePercent(), 1e-9);
+    assertFalse(comparisons.get(1).regressed());
+  }
+
+  @Test
+  void shouldTreatThroughputDropAsRegression() throws Exception {
+    List<BenchmarkResultComparator.Comparison> comparisons =
+        comparator.compare(
+            results(
+                result("a.Signer.sign", "thrpt", 1000.0), result("a.Hash.compute", "thrpt", 50.0)),
+            results(
+                result("a.Signer.sign", "thrpt", 800.0), result("a.Hash.compute", "thrpt", 90.0)));
+
+    assertTrue(comparisons.get(0).regressed());
+    assertFalse(comparisons.get(1).regressed());
+  }
+
+  @Test
+  void shouldSkipBenchmarksMissingFromBaseline() throws Exception {
+    List<BenchmarkResultComparator.Comparison> comparisons =
+        comparator.compare(
+            results(result("a.Codec.encode", "avgt", 100.0)),
+            results(result("a.Codec.encode", "avgt", 100.0), result("a.New.bench", "avgt", 1.0)));
+
+    assertEquals(1, comparisons.size());
+    assertEquals("a.Codec.encode [avgt]", comparisons.get(0).benchmark());
+  }
+
+  @Test
+  void shouldRejectNonPositiveThreshold() {
+    assertThrows(IllegalArgumentException.class, () -> new BenchmarkResultComparator(0));
+  }
+
+  private JsonNode results(String... entries) throws Exception {
+    return objectMapper.readTree("[" + String.join(",", entries) + "]");
+  }
+
+  private static String result(String benchmark, String mode, double score) {
+    return """
+        {"benchmark":"%s","mode":"%s","primaryMetric":{"score":%s,"scoreUnit":"ns/op"}}"""
+        .formatted(benchmark, mode, score);
+  }
+}
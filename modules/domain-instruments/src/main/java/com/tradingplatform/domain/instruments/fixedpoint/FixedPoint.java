@@ -0,0 +1,123 @@
+package com.tradingplatform.domain.instruments.fixedpoint;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/**
+ * Decimal arithmetic on a {@code long} count of {@code 10^-scale} units.
+ *
+ * <p>Every operation is exact: results that would need rounding or do not fit in a {@code long}
+ * throw {@link ArithmeticException} instead of losing precision.
+ */
+public final class FixedPoint {
+  /** Largest scale a quantity or price may use; a product may carry up to twice this. */
+  public static final int MAX_SCALE = 18;
+
+  private static final long[] POWERS_OF_TEN = new long[MAX_SCALE + 1];
+
+  static {
+    long power = 1L;
+    for (int i = 0; i <= MAX_SCALE; i++) {
+      POWERS_OF_TEN[i] = power;
+      power *= 10L;
+    }
+  }
+
+  private FixedPoint() {}
+
+  /** Number of decimals an increment such as {@code tick_size} or {@code step_size} needs. */
+  public static int scaleOf(BigDecimal increment) {
+    return Math.max(0, increment.stripTrailingZeros().scale());
+  }
+
+  public static boolean fitsScale(BigDecimal value, int scale) {
+    return value.scale() <= scale || value.stripTrailingZeros().scale() <= scale;
+  }
+
+  public static long toUnits(BigDecimal value, int scale) {
+    requireScale(scale, MAX_SCALE * 2);
+    return value.setScale(scale, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+  }
+
+  /**
+   * Units of the largest value at {@code scale} not above {@code value}, saturating at the long
+   * range. Comparing integer units against it gives the same answer as comparing against {@code
+   * value}, which makes it the right way to pre-scale an upper limit.
+   */
+  public static long floorUnits(BigDecimal value, int scale) {
+    return saturatedUnits(value.setScale(requireScale(scale, MAX_SCALE * 2), RoundingMode.FLOOR));
+  }
+
+  /** Lower-limit counterpart of {@link #floorUnits(BigDecimal, int)}. */
+  public static long ceilingUnits(BigDecimal value, int scale) {
+    return saturatedUnits(value.setScale(requireScale(scale, MAX_SCALE * 2), RoundingMode.CEILING));
+  }
+
+  public static BigDecimal toBigDecimal(long units, int scale) {
+    return BigDecimal.valueOf(units, scale);
+  }
+
+  public static long rescale(long units, int fromScale, int toScale) {
+    if (toScale == fromScale) {
+      return units;
+    }
+    if (toScale > fromScale) {
+      return Math.multiplyExact(units, powerOfTen(toScale - fromScale));
+    }
+    long divisor = powerOfTen(fromScale - toScale);
+    if (units % divisor != 0) {
+      throw new ArithmeticException("Rescaling " + units + " would drop non-zero digits");
+    }
+    return units / divisor;
+  }
+
+  public static int compare(long left, int leftScale, long right, int rightScale) {
+    int scale = Math.max(leftScale, rightScale);
+    return Long.compare(rescale(left, leftScale, scale), rescale(right, rightScale, scale));
+  }
+
+  public static boolean isMultipleOf(long units, long incrementUnits) {
+    return incrementUnits > 0 && units % incrementUnits == 0;
+  }
+
+  public static long powerOfTen(int exponent) {
+    if (exponent < 0) {
+      throw new ArithmeticException("Negative power of ten: " + exponent);
+    }
+    if (exponent > MAX_SCALE) {
+      throw new ArithmeticException("10^" + exponent + " does not fit in a long");
+    }
+    return POWERS_OF_TEN[exponent];
+  }
+
+  private static long saturatedUnits(BigDecimal scaled) {
+    BigInteger units = scaled.unscaledValue();
+    if (units.bitLength() < Long.SIZE) {
+      return units.longValue();
+    }
+    return units.signum() > 0 ? Long.MAX_VALUE : Long.MIN_VALUE;
+  }
+
+  static int requireScale(int scale, int maxScale) {
+    if (scale < 0 || scale > maxScale) {
+      throw new IllegalArgumentException("scale must be between 0 and " + maxScale + ": " + scale);
+    }
+    return scale;
+  }
+
+  static int naturalScale(BigDecimal value, int maxScale) {
+    int scale = value.scale();
+    if (scale <= 0) {
+      return 0;
+    }
+    if (scale <= maxScale) {
+      return scale;
+    }
+    int stripped = Math.max(0, value.stripTrailingZeros().scale());
+    if (stripped > maxScale) {
+      throw new ArithmeticException(value + " needs more than " + maxScale + " decimals");
+    }
+    return stripped;
+  }
+}
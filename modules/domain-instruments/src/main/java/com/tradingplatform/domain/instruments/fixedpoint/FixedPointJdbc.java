@@ -0,0 +1,30 @@
+package com.tradingplatform.domain.instruments.fixedpoint;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/** Reads and binds fixed-point values through {@code NUMERIC} columns. */
+public final class FixedPointJdbc {
+  private FixedPointJdbc() {}
+
+  public static Quantity getQuantity(ResultSet rs, String column, int scale) throws SQLException {
+    BigDecimal value = rs.getBigDecimal(column);
+    return value == null ? null : Quantity.of(value, scale);
+  }
+
+  public static Price getPrice(ResultSet rs, String column, int scale) throws SQLException {
+    BigDecimal value = rs.getBigDecimal(column);
+    return value == null ? null : Price.of(value, scale);
+  }
+
+  public static void setQuantity(PreparedStatement ps, int index, Quantity value)
+      throws SQLException {
+    ps.setBigDecimal(index, value == null ? null : value.toBigDecimal());
+  }
+
+  public static void setPrice(PreparedStatement ps, int index, Price value) throws SQLException {
+    ps.setBigDecimal(index, value == null ? null : value.toBigDecimal());
+  }
+}
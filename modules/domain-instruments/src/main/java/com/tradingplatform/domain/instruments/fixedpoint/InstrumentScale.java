@@ -0,0 +1,32 @@
+package com.tradingplatform.domain.instruments.fixedpoint;
+
+import java.math.BigDecimal;
+
+/**
+ * Decimal places an instrument trades at, taken from its {@code tick_size} and {@code step_size}. A
+ * missing filter falls back to {@link FixedPoint#MAX_SCALE}.
+ */
+public record InstrumentScale(int priceScale, int quantityScale) {
+  public InstrumentScale {
+    FixedPoint.requireScale(priceScale, FixedPoint.MAX_SCALE);
+    FixedPoint.requireScale(quantityScale, FixedPoint.MAX_SCALE);
+  }
+
+  public static InstrumentScale of(BigDecimal tickSize, BigDecimal stepSize) {
+    return new InstrumentScale(scaleOrMax(tickSize), scaleOrMax(stepSize));
+  }
+
+  public Price price(BigDecimal value) {
+    return Price.of(value, priceScale);
+  }
+
+  public Quantity quantity(BigDecimal value) {
+    return Quantity.of(value, quantityScale);
+  }
+
+  private static int scaleOrMax(BigDecimal increment) {
+    return increment == null
+        ? FixedPoint.MAX_SCALE
+        : Math.min(FixedPoint.MAX_SCALE, FixedPoint.scaleOf(increment));
+  }
+}
@@ -0,0 +1,29 @@
+package com.tradingplatform.domain.instruments.fixedpoint;
+
+import java.math.BigDecimal;
+
+/** Quote-currency value of a quantity at a price; its scale is the sum of both scales. */
+public record Notional(long units, int scale) implements Comparable<Notional> {
+  public Notional {
+    FixedPoint.requireScale(scale, FixedPoint.MAX_SCALE * 2);
+  }
+
+  public static Notional of(BigDecimal value) {
+    int scale = FixedPoint.naturalScale(value, FixedPoint.MAX_SCALE * 2);
+    return new Notional(FixedPoint.toUnits(value, scale), scale);
+  }
+
+  public BigDecimal toBigDecimal() {
+    return FixedPoint.toBigDecimal(units, scale);
+  }
+
+  @Override
+  public int compareTo(Notional other) {
+    return FixedPoint.compare(units, scale, other.units, other.scale);
+  }
+
+  @Override
+  public String toString() {
+    return toBigDecimal().toPlainString();
+  }
+}
@@ -0,0 +1,67 @@
+package com.tradingplatform.domain.instruments.fixedpoint;
+
+import java.math.BigDecimal;
+
+/** A limit or reference price held as {@code units * 10^-scale}. */
+public record Price(long units, int scale) implements Comparable<Price> {
+  private static final long BPS_PER_UNIT = 10_000L;
+
+  public Price {
+    FixedPoint.requireScale(scale, FixedPoint.MAX_SCALE);
+  }
+
+  public static Price of(BigDecimal value) {
+    return of(value, FixedPoint.naturalScale(value, FixedPoint.MAX_SCALE));
+  }
+
+  public static Price of(BigDecimal value, int scale) {
+    return new Price(FixedPoint.toUnits(value, scale), scale);
+  }
+
+  public Price withScale(int newScale) {
+    return newScale == scale
+        ? this
+        : new Price(FixedPoint.rescale(units, scale, newScale), newScale);
+  }
+
+  public Notional times(Quantity qty) {
+    return new Notional(Math.multiplyExact(units, qty.units()), scale + qty.scale());
+  }
+
+  public boolean isMultipleOf(Price tick) {
+    int common = Math.max(scale, tick.scale);
+    return FixedPoint.isMultipleOf(
+        FixedPoint.rescale(units, scale, common),
+        FixedPoint.rescale(tick.units, tick.scale, common));
+  }
+
+  /**
+   * Whether this price is more than {@code bandBps} basis points away from {@code reference},
+   * compared as {@code |p - r| * 10000 > bandBps * r} so no division or rounding is involved.
+   */
+  public boolean deviatesMoreThan(Price reference, long bandBps) {
+    int common = Math.max(scale, reference.scale);
+    long price = FixedPoint.rescale(units, scale, common);
+    long ref = FixedPoint.rescale(reference.units, reference.scale, common);
+    long deviation = Math.abs(Math.subtractExact(price, ref));
+    return Math.multiplyExact(deviation, BPS_PER_UNIT) > Math.multiplyExact(ref, bandBps);
+  }
+
+  public int signum() {
+    return Long.signum(units);
+  }
+
+  public BigDecimal toBigDecimal() {
+    return FixedPoint.toBigDecimal(units, scale);
+  }
+
+  @Override
+  public int compareTo(Price other) {
+    return FixedPoint.compare(units, scale, other.units, other.scale);
+  }
+
+  @Override
+  public String toString() {
+    return toBigDecimal().toPlainString();
+  }
+}
@@ -0,0 +1,67 @@
+package com.tradingplatform.domain.instruments.fixedpoint;
+
+import java.math.BigDecimal;
+
+/** An order or fill quantity held as {@code units * 10^-scale}. */
+public record Quantity(long units, int scale) implements Comparable<Quantity> {
+  public Quantity {
+    FixedPoint.requireScale(scale, FixedPoint.MAX_SCALE);
+  }
+
+  public static Quantity of(BigDecimal value) {
+    return of(value, FixedPoint.naturalScale(value, FixedPoint.MAX_SCALE));
+  }
+
+  public static Quantity of(BigDecimal value, int scale) {
+    return new Quantity(FixedPoint.toUnits(value, scale), scale);
+  }
+
+  public Quantity withScale(int newScale) {
+    return newScale == scale
+        ? this
+        : new Quantity(FixedPoint.rescale(units, scale, newScale), newScale);
+  }
+
+  public Quantity plus(Quantity other) {
+    int common = Math.max(scale, other.scale);
+    return new Quantity(
+        Math.addExact(
+            FixedPoint.rescale(units, scale, common),
+            FixedPoint.rescale(other.units, other.scale, common)),
+        common);
+  }
+
+  public Quantity minus(Quantity other) {
+    int common = Math.max(scale, other.scale);
+    return new Quantity(
+        Math.subtractExact(
+            FixedPoint.rescale(units, scale, common),
+            FixedPoint.rescale(other.units, other.scale, common)),
+        common);
+  }
+
+  public boolean isMultipleOf(Quantity step) {
+    int common = Math.max(scale, step.scale);
+    return FixedPoint.isMultipleOf(
+        FixedPoint.rescale(units, scale, common),
+        FixedPoint.rescale(step.units, step.scale, common));
+  }
+
+  public int signum() {
+    return Long.signum(units);
+  }
+
+  public BigDecimal toBigDecimal() {
+    return FixedPoint.toBigDecimal(units, scale);
+  }
+
+  @Override
+  public int compareTo(Quantity other) {
+    return FixedPoint.compare(units, scale, other.units, other.scale);
+  }
+
+  @Override
+  public String toString() {
+    return toBigDecimal().toPlainString();
+  }
+}
@@ -0,0 +1,16 @@
+package com.tradingplatform.domain.instruments.marketdata;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public interface MarketDataListener {
+  void onQuote(
+      String symbol,
+      BigDecimal bidPrice,
+      BigDecimal bidQty,
+      BigDecimal askPrice,
+      BigDecimal askQty,
+      Instant receivedAt);
+
+  void onTrade(String symbol, BigDecimal price, Instant tradedAt);
+}
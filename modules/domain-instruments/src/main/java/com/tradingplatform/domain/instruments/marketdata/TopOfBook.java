@@ -0,0 +1,55 @@
+package com.tradingplatform.domain.instruments.marketdata;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.Objects;
+
+public record TopOfBook(
+    String symbol,
+    BigDecimal bidPrice,
+    BigDecimal bidQty,
+    BigDecimal askPrice,
+    BigDecimal askQty,
+    Instant quoteUpdatedAt,
+    BigDecimal lastPrice,
+    Instant lastTradeAt) {
+  private static final BigDecimal TWO = BigDecimal.valueOf(2);
+
+  public TopOfBook {
+    Objects.requireNonNull(symbol, "symbol must not be null");
+  }
+
+  public static TopOfBook empty(String symbol) {
+    return new TopOfBook(symbol, null, null, null, null, null, null, null);
+  }
+
+  public TopOfBook withQuote(
+      BigDecimal bidPrice,
+      BigDecimal bidQty,
+      BigDecimal askPrice,
+      BigDecimal askQty,
+      Instant updatedAt) {
+    return new TopOfBook(
+        symbol, bidPrice, bidQty, askPrice, askQty, updatedAt, lastPrice, lastTradeAt);
+  }
+
+  public TopOfBook withTrade(BigDecimal price, Instant tradedAt) {
+    return new TopOfBook(
+        symbol, bidPrice, bidQty, askPrice, askQty, quoteUpdatedAt, price, tradedAt);
+  }
+
+  public boolean hasTwoSidedQuote() {
+    return bidPrice != null
+        && askPrice != null
+        && bidPrice.signum() > 0
+        && askPrice.compareTo(bidPrice) >= 0;
+  }
+
+  public BigDecimal midPrice() {
+    if (!hasTwoSidedQuote()) {
+      return null;
+    }
+    return bidPrice.add(askPrice).divide(TWO, bidPrice.scale() + 1, RoundingMode.HALF_UP);
+  }
+}
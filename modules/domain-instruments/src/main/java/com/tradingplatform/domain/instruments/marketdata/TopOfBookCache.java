@@ -0,0 +1,96 @@
+package com.tradingplatform.domain.instruments.marketdata;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Latest best bid/ask and last trade per symbol.
+ *
+ * <p>Each symbol owns an {@link AtomicReference} to an immutable {@link TopOfBook}; writers replace
+ * it with a CAS and readers never block, so the feed thread and request threads do not contend on a
+ * lock.
+ */
+public class TopOfBookCache implements MarketDataListener {
+  private final Map<String, AtomicReference<TopOfBook>> books = new ConcurrentHashMap<>();
+  private final Clock clock;
+
+  public TopOfBookCache() {
+    this(Clock.systemUTC());
+  }
+
+  public TopOfBookCache(Clock clock) {
+    this.clock = Objects.requireNonNull(clock, "clock must not be null");
+  }
+
+  @Override
+  public void onQuote(
+      String symbol,
+      BigDecimal bidPrice,
+      BigDecimal bidQty,
+      BigDecimal askPrice,
+      BigDecimal askQty,
+      Instant receivedAt) {
+    book(symbol)
+        .updateAndGet(current -> current.withQuote(bidPrice, bidQty, askPrice, askQty, receivedAt));
+  }
+
+  @Override
+  public void onTrade(String symbol, BigDecimal price, Instant tradedAt) {
+    book(symbol).updateAndGet(current -> current.withTrade(price, tradedAt));
+  }
+
+  public Optional<TopOfBook> find(String symbol) {
+    AtomicReference<TopOfBook> ref = books.get(normalize(symbol));
+    return ref == null ? Optional.empty() : Optional.of(ref.get());
+  }
+
+  /**
+   * Mid of a fresh two-sided quote, falling back to a fresh last trade price. Empty when neither
+   * was observed within {@code maxAge}, so callers can fall back to a static reference.
+   */
+  public Optional<BigDecimal> referencePrice(String symbol, Duration maxAge) {
+    Optional<TopOfBook> book = find(symbol);
+    if (book.isEmpty()) {
+      return Optional.empty();
+    }
+    TopOfBook snapshot = book.get();
+    Instant cutoff = clock.instant().minus(maxAge);
+    if (snapshot.hasTwoSidedQuote() && isFresh(snapshot.quoteUpdatedAt(), cutoff)) {
+      return Optional.of(snapshot.midPrice());
+    }
+    if (snapshot.lastPrice() != null
+        && snapshot.lastPrice().signum() > 0
+        && isFresh(snapshot.lastTradeAt(), cutoff)) {
+      return Optional.of(snapshot.lastPrice());
+    }
+    return Optional.empty();
+  }
+
+  public int size() {
+    return books.size();
+  }
+
+  private AtomicReference<TopOfBook> book(String symbol) {
+    String key = normalize(symbol);
+    return books.computeIfAbsent(key, s -> new AtomicReference<>(TopOfBook.empty(s)));
+  }
+
+  private static boolean isFresh(Instant observedAt, Instant cutoff) {
+    return observedAt != null && !observedAt.isBefore(cutoff);
+  }
+
+  private static String normalize(String symbol) {
+    if (symbol == null || symbol.isBlank()) {
+      throw new IllegalArgumentException("symbol must not be blank");
+    }
+    return symbol.trim().toUpperCase(Locale.ROOT);
+  }
+}
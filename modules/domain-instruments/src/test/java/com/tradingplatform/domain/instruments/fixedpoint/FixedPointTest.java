@@ -0,0 +1,97 @@
+package com.tradingplatform.domain.instruments.fixedpoint;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+class FixedPointTest {
+
+  @Test
+  void shouldDeriveInstrumentScaleFromFilters() {
+    InstrumentScale scale = InstrumentScale.of(new BigDecimal("0.10"), new BigDecimal("0.00100"));
+
+    assertEquals(1, scale.priceScale());
+    assertEquals(3, scale.quantityScale());
+    assertEquals(new Price(500001, 1), scale.price(new BigDecimal("50000.10")));
+    assertEquals(new Quantity(250, 3), scale.quantity(new BigDecimal("0.25")));
+    assertEquals(FixedPoint.MAX_SCALE, InstrumentScale.of(null, BigDecimal.ONE).priceScale());
+    assertEquals(0, InstrumentScale.of(BigDecimal.TEN, BigDecimal.ONE).quantityScale());
+  }
+
+  @Test
+  void shouldRejectValuesFinerThanScale() {
+    InstrumentScale scale = InstrumentScale.of(new BigDecimal("0.10"), new BigDecimal("0.01"));
+
+    assertThrows(ArithmeticException.class, () -> scale.quantity(new BigDecimal("1.005")));
+    assertFalse(FixedPoint.fitsScale(new BigDecimal("1.005"), 2));
+    assertTrue(FixedPoint.fitsScale(new BigDecimal("1.0100"), 2));
+  }
+
+  @Test
+  void shouldCheckIncrementsAcrossScales() {
+    Quantity step = Quantity.of(new BigDecimal("0.01"));
+
+    assertTrue(Quantity.of(new BigDecimal("1.25")).isMultipleOf(step));
+    assertTrue(Quantity.of(new BigDecimal("3")).isMultipleOf(step));
+    assertFalse(Quantity.of(new BigDecimal("1.005")).isMultipleOf(step));
+    assertTrue(Price.of(new BigDecimal("50000.20")).isMultipleOf(Price.of(new BigDecimal("0.1"))));
+    assertFalse(
+        Price.of(new BigDecimal("50000.05")).isMultipleOf(Price.of(new BigDecimal("0.10"))));
+  }
+
+  @Test
+  void shouldMultiplyAndCompareExactly() {
+    Notional notional =
+        Price.of(new BigDecimal("50010.10")).times(Quantity.of(new BigDecimal("0.25")));
+
+    assertEquals(new BigDecimal("12502.5250"), notional.toBigDecimal());
+    assertTrue(notional.compareTo(Notional.of(new BigDecimal("12502.525"))) == 0);
+    assertTrue(notional.compareTo(Notional.of(new BigDecimal("1000000"))) < 0);
+    assertEquals(
+        new Quantity(35, 2),
+        Quantity.of(new BigDecimal("0.25")).plus(Quantity.of(new BigDecimal("0.1"))));
+    assertEquals(
+        new Quantity(-5, 2),
+        Quantity.of(new BigDecimal("0.1")).minus(Quantity.of(new BigDecimal("0.15"))));
+  }
+
+  @Test
+  void shouldCompareBandWithoutDivision() {
+    Price reference = Price.of(new BigDecimal("50000"));
+
+    assertFalse(Price.of(new BigDecimal("52500")).deviatesMoreThan(reference, 500));
+    assertTrue(Price.of(new BigDecimal("52500.1")).deviatesMoreThan(reference, 500));
+    assertTrue(Price.of(new BigDecimal("47499.9")).deviatesMoreThan(reference, 500));
+  }
+
+  @Test
+  void shouldThrowInsteadOfOverflowing() {
+    Price price = Price.of(new BigDecimal("92233720368.54775807"));
+    Quantity qty = Quantity.of(new BigDecimal("1000"));
+
+    assertThrows(ArithmeticException.class, () -> price.times(qty));
+    assertThrows(ArithmeticException.class, () -> qty.withScale(17));
+    assertThrows(ArithmeticException.class, () -> qty.plus(new Quantity(Long.MAX_VALUE, 0)));
+    assertThrows(
+        ArithmeticException.class, () -> Quantity.of(new BigDecimal("0.0000000000000000001")));
+    assertThrows(ArithmeticException.class, () -> new Quantity(15, 1).withScale(0));
+  }
+
+  @Test
+  void shouldPreScaleLimitsConservatively() {
+    assertEquals(100050, FixedPoint.floorUnits(new BigDecimal("10.00509"), 4));
+    assertEquals(100051, FixedPoint.ceilingUnits(new BigDecimal("10.00501"), 4));
+    assertEquals(Long.MAX_VALUE, FixedPoint.floorUnits(new BigDecimal("1E+30"), 3));
+    assertEquals(Long.MIN_VALUE, FixedPoint.ceilingUnits(new BigDecimal("-1E+30"), 3));
+  }
+
+  @Test
+  void shouldRenderPlainDecimal() {
+    assertEquals("0.00001000", Quantity.of(new BigDecimal("0.00001000")).toString());
+    assertEquals("1000", Price.of(new BigDecimal("1E+3")).toString());
+  }
+}
@@ -0,0 +1,69 @@
+package com.tradingplatform.domain.instruments.marketdata;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class TopOfBookCacheTest {
+  private static final Instant NOW = Instant.parse("2026-03-01T12:00:00Z");
+  private static final Duration MAX_AGE = Duration.ofSeconds(5);
+
+  private final TopOfBookCache cache = new TopOfBookCache(Clock.fixed(NOW, ZoneOffset.UTC));
+
+  @Test
+  void shouldPreferMidOfFreshQuote() {
+    cache.onTrade("btcusdt", new BigDecimal("50010"), NOW.minusSeconds(1));
+    cache.onQuote(
+        "BTCUSDT",
+        new BigDecimal("49990.0"),
+        BigDecimal.ONE,
+        new BigDecimal("50000.0"),
+        BigDecimal.ONE,
+        NOW.minusSeconds(1));
+
+    assertEquals(Optional.of(new BigDecimal("49995.00")), cache.referencePrice("BTCUSDT", MAX_AGE));
+    assertEquals(new BigDecimal("50010"), cache.find("BTCUSDT").orElseThrow().lastPrice());
+  }
+
+  @Test
+  void shouldFallBackToLastTradeWhenQuoteIsStale() {
+    cache.onQuote(
+        "ETHUSDT",
+        new BigDecimal("2999"),
+        BigDecimal.ONE,
+        new BigDecimal("3001"),
+        BigDecimal.ONE,
+        NOW.minusSeconds(30));
+    cache.onTrade("ETHUSDT", new BigDecimal("3002"), NOW.minusSeconds(2));
+
+    assertEquals(Optional.of(new BigDecimal("3002")), cache.referencePrice("ETHUSDT", MAX_AGE));
+  }
+
+  @Test
+  void shouldReturnEmptyWhenNothingFresh() {
+    cache.onTrade("SOLUSDT", new BigDecimal("100"), NOW.minusSeconds(60));
+
+    assertTrue(cache.referencePrice("SOLUSDT", MAX_AGE).isEmpty());
+    assertTrue(cache.referencePrice("UNKNOWN", MAX_AGE).isEmpty());
+  }
+
+  @Test
+  void shouldIgnoreCrossedQuote() {
+    cache.onQuote(
+        "BTCUSDT",
+        new BigDecimal("50001"),
+        BigDecimal.ONE,
+        new BigDecimal("50000"),
+        BigDecimal.ONE,
+        NOW);
+
+    assertTrue(cache.referencePrice("BTCUSDT", MAX_AGE).isEmpty());
+  }
+}
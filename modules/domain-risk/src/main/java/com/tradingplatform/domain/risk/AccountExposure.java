@@ -0,0 +1,15 @@
+package com.tradingplatform.domain.risk;
+
+/**
+ * Live state of an account that stateful rules read, already on the rule set's scales.
+ *
+ * @param openOrders open orders of the account across all instruments
+ * @param openNotionalUnits remaining notional of those orders in the order's quote asset, in units
+ *     of the notional scale
+ * @param netPositionUnits signed position in the order's instrument, in units of the quantity scale
+ * @param ordersInLastSecond orders the account submitted in the current one-second window
+ */
+public record AccountExposure(
+    int openOrders, long openNotionalUnits, long netPositionUnits, int ordersInLastSecond) {
+  public static final AccountExposure NONE = new AccountExposure(0, 0L, 0L, 0);
+}
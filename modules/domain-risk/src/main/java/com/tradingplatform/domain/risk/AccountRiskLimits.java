@@ -0,0 +1,25 @@
+package com.tradingplatform.domain.risk;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Per-account limits. The exposure limits ({@code maxOpenOrders}, {@code maxPosition}, {@code
+ * maxOpenNotional} and {@code maxOrdersPerSecond}) are optional and their rules are left out of the
+ * compiled set when {@code null}.
+ */
+public record AccountRiskLimits(
+    BigDecimal maxOrderNotional,
+    int priceBandBps,
+    Integer maxOpenOrders,
+    BigDecimal maxPosition,
+    BigDecimal maxOpenNotional,
+    Integer maxOrdersPerSecond) {
+  public AccountRiskLimits {
+    Objects.requireNonNull(maxOrderNotional, "maxOrderNotional must not be null");
+  }
+
+  public static AccountRiskLimits of(BigDecimal maxOrderNotional, int priceBandBps) {
+    return new AccountRiskLimits(maxOrderNotional, priceBandBps, null, null, null, null);
+  }
+}
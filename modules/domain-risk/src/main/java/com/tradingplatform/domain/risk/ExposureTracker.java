@@ -0,0 +1,408 @@
+package com.tradingplatform.domain.risk;
+
+import com.tradingplatform.domain.orders.OrderSide;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Open order notional, net position and order rate per account, maintained incrementally from order
+ * events so a pre-trade check reads an account's exposure with a few map lookups instead of
+ * aggregating its orders.
+ *
+ * <p>An open order counts the remaining quantity at its notional price: the limit price, or the
+ * reference price at submission for a market order. Notional is summed per notional asset (the
+ * instrument's quote asset), since amounts in different quote assets cannot be added. Opens are
+ * idempotent by order id and fills carry the cumulative filled quantity, so replayed events do not
+ * double count. Updates for an order the tracker never saw opened are ignored; {@link #reset}
+ * rebuilds the state from the source of truth and repairs any such drift. The rate is a fixed
+ * one-second window keyed by the order's submission time.
+ *
+ * <p>The ids of the most recently closed orders are kept as tombstones, up to a fixed capacity, so
+ * a late or replayed open for an order that already reached a final status is ignored instead of
+ * counting as open until the next reset. Tombstones survive {@link #reset}.
+ *
+ * <p>Events that arrive between {@link #beginReset} and {@link #reset} are applied as usual and
+ * also buffered, then replayed onto the rebuilt state, so an order opened or filled while the
+ * caller was reading the source of truth is not lost when its state is swapped in.
+ */
+public final class ExposureTracker {
+  public static final int DEFAULT_CLOSED_ORDER_CAPACITY = 100_000;
+
+  private final Clock clock;
+  private final ClosedOrders closedOrders;
+  private final Object resetLock = new Object();
+  private volatile State state = new State();
+  // Non-null between beginReset and reset; guarded by resetLock.
+  private volatile List<Consumer<State>> pendingEvents;
+
+  public record OpenOrder(
+      UUID orderId,
+      UUID accountId,
+      String instrument,
+      String notionalAsset,
+      OrderSide side,
+      BigDecimal qty,
+      BigDecimal filledQty,
+      BigDecimal notionalPrice,
+      Instant submittedAt) {
+    public OpenOrder {
+      Objects.requireNonNull(orderId, "orderId must not be null");
+      Objects.requireNonNull(accountId, "accountId must not be null");
+      Objects.requireNonNull(instrument, "instrument must not be null");
+      notionalAsset = notionalAsset == null ? instrument : notionalAsset;
+      Objects.requireNonNull(side, "side must not be null");
+      Objects.requireNonNull(qty, "qty must not be null");
+      filledQty = filledQty == null ? BigDecimal.ZERO : filledQty;
+      notionalPrice = notionalPrice == null ? BigDecimal.ZERO : notionalPrice;
+    }
+  }
+
+  public record Position(UUID accountId, String instrument, BigDecimal netQty) {}
+
+  /**
+   * The account-wide open orders and rate, the open notional in one notional asset and the position
+   * in one instrument.
+   */
+  public record Exposure(
+      int openOrders, BigDecimal openNotional, BigDecimal netPosition, int ordersInLastSecond) {
+    public static final Exposure NONE = new Exposure(0, BigDecimal.ZERO, BigDecimal.ZERO, 0);
+  }
+
+  public record Row(
+      UUID accountId,
+      String instrument,
+      int openOrders,
+      BigDecimal openNotional,
+      BigDecimal netQty) {}
+
+  public ExposureTracker() {
+    this(Clock.systemUTC());
+  }
+
+  public ExposureTracker(Clock clock) {
+    this(clock, DEFAULT_CLOSED_ORDER_CAPACITY);
+  }
+
+  public ExposureTracker(Clock clock, int closedOrderCapacity) {
+    if (closedOrderCapacity < 1) {
+      throw new IllegalArgumentException("closedOrderCapacity must be >= 1");
+    }
+    this.clock = Objects.requireNonNull(clock, "clock must not be null");
+    this.closedOrders = new ClosedOrders(closedOrderCapacity);
+  }
+
+  /** Returns {@code false} if the order is already tracked or was closed. */
+  public boolean onOrderOpened(OpenOrder order) {
+    // Replayed opens do not count towards the rate again.
+    buffer(current -> open(current, order, null));
+    return open(state, order, order.submittedAt());
+  }
+
+  /**
+   * Applies a fill or a final status. {@code filledQty} is cumulative and may be {@code null} when
+   * the event carries no fill; a terminal update releases whatever notional is still open.
+   */
+  public void onOrderUpdated(UUID orderId, BigDecimal filledQty, boolean terminal) {
+    buffer(current -> update(current, orderId, filledQty, terminal));
+    update(state, orderId, filledQty, terminal);
+  }
+
+  private boolean open(State current, OpenOrder order, Instant submittedAt) {
+    if (closedOrders.contains(order.orderId())) {
+      return false;
+    }
+    TrackedOrder tracked = new TrackedOrder(order);
+    if (current.orders.putIfAbsent(order.orderId(), tracked) != null) {
+      return false;
+    }
+    // A terminal update that missed the map above has tombstoned the id by now.
+    if (closedOrders.contains(order.orderId())) {
+      current.orders.remove(order.orderId(), tracked);
+      return false;
+    }
+    current.account(order.accountId()).open(tracked, submittedAt);
+    return true;
+  }
+
+  private void update(State current, UUID orderId, BigDecimal filledQty, boolean terminal) {
+    TrackedOrder tracked = current.orders.get(orderId);
+    if (terminal) {
+      closedOrders.add(orderId);
+      if (tracked == null) {
+        // The open may have been tracked between the lookup and the tombstone.
+        tracked = current.orders.get(orderId);
+      }
+    }
+    if (tracked == null) {
+      return;
+    }
+    AccountState account = current.account(tracked.accountId);
+    if (account.update(tracked, filledQty, terminal)) {
+      current.orders.remove(orderId, tracked);
+    }
+  }
+
+  public Exposure exposure(UUID accountId, String instrument, String notionalAsset) {
+    AccountState account = state.accounts.get(accountId);
+    if (account == null) {
+      return Exposure.NONE;
+    }
+    return account.exposure(
+        instrument,
+        notionalAsset == null ? instrument : notionalAsset,
+        clock.instant().getEpochSecond());
+  }
+
+  public int trackedOrders() {
+    return state.orders.size();
+  }
+
+  /** One row per account and instrument with open orders or a position. */
+  public List<Row> snapshot() {
+    List<Row> rows = new ArrayList<>();
+    state.accounts.forEach((accountId, account) -> account.appendRows(accountId, rows));
+    return rows;
+  }
+
+  /**
+   * Starts buffering events for the next {@link #reset}. Call it before reading the source of
+   * truth; a read that fails must be followed by {@link #cancelReset}.
+   */
+  public void beginReset() {
+    synchronized (resetLock) {
+      if (pendingEvents == null) {
+        pendingEvents = new ArrayList<>();
+      }
+    }
+  }
+
+  /** Stops buffering without replacing the state. */
+  public void cancelReset() {
+    synchronized (resetLock) {
+      pendingEvents = null;
+    }
+  }
+
+  /**
+   * Replaces the tracked state with the given open orders and positions. Rate windows carry over,
+   * and open orders already tombstoned as closed are skipped. Events buffered since {@link
+   * #beginReset} are replayed onto the new state; opens are idempotent and fills cumulative, so
+   * events the read already reflects change nothing. Without a preceding {@code beginReset}, events
+   * applied while the caller was reading are lost until the next reset.
+   */
+  public void reset(Collection<OpenOrder> openOrders, Collection<Position> positions) {
+    State previous = state;
+    State next = new State();
+    previous.accounts.forEach(
+        (accountId, account) -> next.account(accountId).copyRateWindow(account));
+    for (Position position : positions) {
+      next.account(position.accountId()).seedPosition(position.instrument(), position.netQty());
+    }
+    for (OpenOrder order : openOrders) {
+      if (closedOrders.contains(order.orderId())) {
+        continue;
+      }
+      TrackedOrder tracked = new TrackedOrder(order);
+      if (next.orders.putIfAbsent(order.orderId(), tracked) == null) {
+        next.account(order.accountId()).open(tracked, null);
+      }
+    }
+    state = next;
+    // Events that miss the buffer from here on read the new state.
+    List<Consumer<State>> replay;
+    synchronized (resetLock) {
+      replay = pendingEvents;
+      pendingEvents = null;
+    }
+    if (replay != null) {
+      replay.forEach(event -> event.accept(next));
+    }
+  }
+
+  // Recorded before the event reads the state, so an event applied to a state that reset is about
+  // to replace is still replayed onto its successor.
+  private void buffer(Consumer<State> event) {
+    if (pendingEvents == null) {
+      return;
+    }
+    synchronized (resetLock) {
+      if (pendingEvents != null) {
+        pendingEvents.add(event);
+      }
+    }
+  }
+
+  private static final class State {
+    private final ConcurrentHashMap<UUID, AccountState> accounts = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, TrackedOrder> orders = new ConcurrentHashMap<>();
+
+    private AccountState account(UUID accountId) {
+      AccountState account = accounts.get(accountId);
+      if (account == null) {
+        account = accounts.computeIfAbsent(accountId, ignored -> new AccountState());
+      }
+      return account;
+    }
+  }
+
+  // Insertion-ordered so the oldest tombstone is evicted first.
+  private static final class ClosedOrders {
+    private final LinkedHashMap<UUID, Boolean> ids;
+
+    private ClosedOrders(int capacity) {
+      this.ids =
+          new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Boolean> eldest) {
+              return size() > capacity;
+            }
+          };
+    }
+
+    private synchronized void add(UUID orderId) {
+      ids.put(orderId, Boolean.TRUE);
+    }
+
+    private synchronized boolean contains(UUID orderId) {
+      return ids.containsKey(orderId);
+    }
+  }
+
+  private static final class TrackedOrder {
+    private final UUID accountId;
+    private final String instrument;
+    private final String notionalAsset;
+    private final OrderSide side;
+    private final BigDecimal qty;
+    private final BigDecimal notionalPrice;
+    private BigDecimal filledQty;
+    private boolean closed;
+
+    private TrackedOrder(OpenOrder order) {
+      this.accountId = order.accountId();
+      this.instrument = order.instrument();
+      this.notionalAsset = order.notionalAsset();
+      this.side = order.side();
+      this.qty = order.qty();
+      this.notionalPrice = order.notionalPrice();
+      this.filledQty = order.filledQty().min(order.qty());
+    }
+
+    private BigDecimal remainingNotional() {
+      return qty.subtract(filledQty).multiply(notionalPrice);
+    }
+  }
+
+  private static final class InstrumentState {
+    private int openOrders;
+    private BigDecimal openNotional = BigDecimal.ZERO;
+    private BigDecimal netQty = BigDecimal.ZERO;
+  }
+
+  private static final class AccountState {
+    private final Map<String, InstrumentState> instruments = new HashMap<>();
+    private final Map<String, BigDecimal> openNotionalByAsset = new HashMap<>();
+    private int openOrders;
+    private long rateWindowSecond = Long.MIN_VALUE;
+    private int rateWindowOrders;
+
+    private synchronized void open(TrackedOrder order, Instant submittedAt) {
+      BigDecimal notional = order.remainingNotional();
+      InstrumentState instrument = instrument(order.instrument);
+      instrument.openOrders++;
+      instrument.openNotional = instrument.openNotional.add(notional);
+      openOrders++;
+      openNotionalByAsset.merge(order.notionalAsset, notional, BigDecimal::add);
+      if (submittedAt != null) {
+        countSubmission(submittedAt.getEpochSecond());
+      }
+    }
+
+    // Returns true when this call closed the order.
+    private synchronized boolean update(
+        TrackedOrder order, BigDecimal filledQty, boolean terminal) {
+      if (order.closed) {
+        return false;
+      }
+      InstrumentState instrument = instrument(order.instrument);
+      BigDecimal before = order.remainingNotional();
+      if (filledQty != null && filledQty.compareTo(order.filledQty) > 0) {
+        BigDecimal filled = filledQty.min(order.qty);
+        BigDecimal delta = filled.subtract(order.filledQty);
+        instrument.netQty =
+            order.side == OrderSide.BUY
+                ? instrument.netQty.add(delta)
+                : instrument.netQty.subtract(delta);
+        order.filledQty = filled;
+      }
+      BigDecimal released = terminal ? before : before.subtract(order.remainingNotional());
+      instrument.openNotional = instrument.openNotional.subtract(released);
+      openNotionalByAsset.merge(order.notionalAsset, released.negate(), BigDecimal::add);
+      if (terminal) {
+        instrument.openOrders--;
+        openOrders--;
+        order.closed = true;
+      }
+      return terminal;
+    }
+
+    private synchronized Exposure exposure(String symbol, String notionalAsset, long nowSecond) {
+      InstrumentState instrument = instruments.get(symbol);
+      return new Exposure(
+          openOrders,
+          openNotionalByAsset.getOrDefault(notionalAsset, BigDecimal.ZERO),
+          instrument == null ? BigDecimal.ZERO : instrument.netQty,
+          rateWindowSecond == nowSecond ? rateWindowOrders : 0);
+    }
+
+    private synchronized void seedPosition(String symbol, BigDecimal netQty) {
+      instrument(symbol).netQty = netQty == null ? BigDecimal.ZERO : netQty;
+    }
+
+    private synchronized void copyRateWindow(AccountState other) {
+      synchronized (other) {
+        rateWindowSecond = other.rateWindowSecond;
+        rateWindowOrders = other.rateWindowOrders;
+      }
+    }
+
+    private synchronized void appendRows(UUID accountId, List<Row> rows) {
+      instruments.forEach(
+          (symbol, instrument) -> {
+            if (instrument.openOrders > 0 || instrument.netQty.signum() != 0) {
+              rows.add(
+                  new Row(
+                      accountId,
+                      symbol,
+                      instrument.openOrders,
+                      instrument.openNotional,
+                      instrument.netQty));
+            }
+          });
+    }
+
+    private void countSubmission(long second) {
+      if (second == rateWindowSecond) {
+        rateWindowOrders++;
+      } else if (second > rateWindowSecond) {
+        rateWindowSecond = second;
+        rateWindowOrders = 1;
+      }
+    }
+
+    private InstrumentState instrument(String symbol) {
+      return instruments.computeIfAbsent(symbol, ignored -> new InstrumentState());
+    }
+  }
+}
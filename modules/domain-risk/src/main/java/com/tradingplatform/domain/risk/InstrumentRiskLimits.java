@@ -0,0 +1,17 @@
+package com.tradingplatform.domain.risk;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/** Exchange filters of one instrument; any filter may be {@code null} when it is not configured. */
+public record InstrumentRiskLimits(
+    String symbol,
+    BigDecimal tickSize,
+    BigDecimal stepSize,
+    BigDecimal minQty,
+    BigDecimal maxQty,
+    BigDecimal minNotional) {
+  public InstrumentRiskLimits {
+    Objects.requireNonNull(symbol, "symbol must not be null");
+  }
+}
@@ -0,0 +1,16 @@
+package com.tradingplatform.domain.risk;
+
+import com.tradingplatform.domain.orders.OrderSide;
+import com.tradingplatform.domain.orders.OrderType;
+
+/**
+ * An order already converted onto a {@link RiskRuleSet}'s scales. {@code priceUnits} is zero for
+ * market orders, whose notional is taken at the reference price.
+ */
+public record RiskOrder(
+    OrderSide side,
+    OrderType type,
+    long qtyUnits,
+    long priceUnits,
+    long referencePriceUnits,
+    long notionalUnits) {}
@@ -0,0 +1,3 @@
+package com.tradingplatform.domain.risk;
+
+public record RiskRejection(String code, String message) {}
@@ -0,0 +1,7 @@
+package com.tradingplatform.domain.risk;
+
+@FunctionalInterface
+public interface RiskRule {
+  /** Returns {@code null} when the order passes; the rejection is only built when it fails. */
+  RiskRejection check(RiskOrder order, AccountExposure exposure);
+}
@@ -0,0 +1,11 @@
+package com.tradingplatform.domain.risk;
+
+import com.tradingplatform.domain.instruments.fixedpoint.InstrumentScale;
+
+/** Builds one rule with its thresholds pre-scaled to {@code scale}. */
+@FunctionalInterface
+public interface RiskRuleFactory {
+  /** Returns {@code null} when the limits leave this rule unconfigured. */
+  RiskRule create(
+      InstrumentRiskLimits instrument, AccountRiskLimits account, InstrumentScale scale);
+}
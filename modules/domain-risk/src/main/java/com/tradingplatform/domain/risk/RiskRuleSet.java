@@ -0,0 +1,113 @@
+package com.tradingplatform.domain.risk;
+
+import com.tradingplatform.domain.instruments.fixedpoint.FixedPoint;
+import com.tradingplatform.domain.instruments.fixedpoint.InstrumentScale;
+import com.tradingplatform.domain.orders.OrderSide;
+import com.tradingplatform.domain.orders.OrderType;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The rules for one instrument/account pair, compiled once with every threshold already in integer
+ * units. Evaluation is a single pass over the rules in order and stops at the first rejection.
+ *
+ * <p>The price scale is one decimal finer than the tick so a top-of-book mid, which carries an
+ * extra digit, can still be represented. An instrument without a filter trades at {@link
+ * #UNFILTERED_SCALE}.
+ */
+public final class RiskRuleSet {
+  public static final int UNFILTERED_SCALE = 8;
+
+  private final InstrumentScale scale;
+  private final RiskRule[] rules;
+
+  private RiskRuleSet(InstrumentScale scale, RiskRule[] rules) {
+    this.scale = scale;
+    this.rules = rules;
+  }
+
+  public static RiskRuleSet compile(InstrumentRiskLimits instrument, AccountRiskLimits account) {
+    return compile(instrument, account, StandardRiskRules.ALL);
+  }
+
+  public static RiskRuleSet compile(
+      InstrumentRiskLimits instrument, AccountRiskLimits account, List<RiskRuleFactory> factories) {
+    InstrumentScale scale = scaleFor(instrument);
+    List<RiskRule> rules = new ArrayList<>(factories.size());
+    for (RiskRuleFactory factory : factories) {
+      RiskRule rule = factory.create(instrument, account, scale);
+      if (rule != null) {
+        rules.add(rule);
+      }
+    }
+    return new RiskRuleSet(scale, rules.toArray(RiskRule[]::new));
+  }
+
+  static InstrumentScale scaleFor(InstrumentRiskLimits instrument) {
+    int priceScale =
+        instrument.tickSize() == null
+            ? UNFILTERED_SCALE
+            : Math.min(FixedPoint.MAX_SCALE, FixedPoint.scaleOf(instrument.tickSize()) + 1);
+    int quantityScale =
+        instrument.stepSize() == null
+            ? UNFILTERED_SCALE
+            : Math.min(FixedPoint.MAX_SCALE, FixedPoint.scaleOf(instrument.stepSize()));
+    return new InstrumentScale(priceScale, quantityScale);
+  }
+
+  public InstrumentScale scale() {
+    return scale;
+  }
+
+  public int notionalScale() {
+    return scale.priceScale() + scale.quantityScale();
+  }
+
+  public int size() {
+    return rules.length;
+  }
+
+  /**
+   * Converts an order onto this set's scales.
+   *
+   * @throws ArithmeticException if a value needs more decimals than its scale or the notional does
+   *     not fit in a long; callers fall back to exact decimal checks in that case
+   */
+  public RiskOrder order(
+      OrderSide side, OrderType type, BigDecimal qty, BigDecimal price, BigDecimal referencePrice) {
+    long qtyUnits = FixedPoint.toUnits(qty, scale.quantityScale());
+    long referencePriceUnits = FixedPoint.toUnits(referencePrice, scale.priceScale());
+    long priceUnits = type == OrderType.MARKET ? 0L : FixedPoint.toUnits(price, scale.priceScale());
+    long notionalUnits =
+        Math.multiplyExact(type == OrderType.MARKET ? referencePriceUnits : priceUnits, qtyUnits);
+    return new RiskOrder(side, type, qtyUnits, priceUnits, referencePriceUnits, notionalUnits);
+  }
+
+  /**
+   * Converts tracked exposure to this rule set's scales. Open notional rounds up so the limit is
+   * never passed on rounding; a position finer than the quantity scale throws {@link
+   * ArithmeticException}.
+   */
+  public AccountExposure exposure(ExposureTracker.Exposure exposure) {
+    if (exposure == ExposureTracker.Exposure.NONE) {
+      return AccountExposure.NONE;
+    }
+    return new AccountExposure(
+        exposure.openOrders(),
+        FixedPoint.ceilingUnits(exposure.openNotional(), notionalScale()),
+        FixedPoint.toUnits(exposure.netPosition(), scale.quantityScale()),
+        exposure.ordersInLastSecond());
+  }
+
+  /** Returns {@code null} when every rule passes, otherwise the first rejection. */
+  public RiskRejection evaluate(RiskOrder order, AccountExposure exposure) {
+    for (RiskRule rule : rules) {
+      RiskRejection rejection = rule.check(order, exposure);
+      if (rejection != null) {
+        return rejection;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,321 @@
+package com.tradingplatform.domain.risk;
+
+import com.tradingplatform.domain.instruments.fixedpoint.FixedPoint;
+import com.tradingplatform.domain.instruments.fixedpoint.InstrumentScale;
+import com.tradingplatform.domain.orders.OrderSide;
+import com.tradingplatform.domain.orders.OrderType;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+/** The built-in rules, listed in {@link #ALL} in the order they are evaluated. */
+public final class StandardRiskRules {
+  private static final long BPS_PER_UNIT = 10_000L;
+
+  public static final RiskRuleFactory MAX_ORDER_NOTIONAL =
+      (instrument, account, scale) ->
+          new MaxOrderNotional(
+              FixedPoint.floorUnits(account.maxOrderNotional(), notionalScale(scale)),
+              notionalScale(scale),
+              account.maxOrderNotional());
+
+  public static final RiskRuleFactory QTY_STEP =
+      (instrument, account, scale) ->
+          instrument.stepSize() == null
+              ? null
+              : new QtyStep(
+                  FixedPoint.toUnits(instrument.stepSize(), scale.quantityScale()),
+                  scale.quantityScale(),
+                  instrument);
+
+  public static final RiskRuleFactory PRICE_TICK =
+      (instrument, account, scale) ->
+          instrument.tickSize() == null
+              ? null
+              : new PriceTick(
+                  FixedPoint.toUnits(instrument.tickSize(), scale.priceScale()),
+                  scale.priceScale(),
+                  instrument);
+
+  public static final RiskRuleFactory MIN_QTY =
+      (instrument, account, scale) ->
+          instrument.minQty() == null
+              ? null
+              : new MinQty(
+                  FixedPoint.ceilingUnits(instrument.minQty(), scale.quantityScale()),
+                  scale.quantityScale(),
+                  instrument);
+
+  public static final RiskRuleFactory MAX_QTY =
+      (instrument, account, scale) ->
+          instrument.maxQty() == null
+              ? null
+              : new MaxQty(
+                  FixedPoint.floorUnits(instrument.maxQty(), scale.quantityScale()),
+                  scale.quantityScale(),
+                  instrument);
+
+  public static final RiskRuleFactory MIN_NOTIONAL =
+      (instrument, account, scale) ->
+          instrument.minNotional() == null
+              ? null
+              : new MinNotional(
+                  FixedPoint.ceilingUnits(instrument.minNotional(), notionalScale(scale)),
+                  notionalScale(scale),
+                  instrument);
+
+  public static final RiskRuleFactory PRICE_BAND =
+      (instrument, account, scale) -> new PriceBand(account.priceBandBps(), scale.priceScale());
+
+  public static final RiskRuleFactory MAX_OPEN_ORDERS =
+      (instrument, account, scale) ->
+          account.maxOpenOrders() == null ? null : new MaxOpenOrders(account.maxOpenOrders());
+
+  public static final RiskRuleFactory MAX_POSITION =
+      (instrument, account, scale) ->
+          account.maxPosition() == null
+              ? null
+              : new MaxPosition(
+                  FixedPoint.floorUnits(account.maxPosition(), scale.quantityScale()),
+                  scale.quantityScale(),
+                  account.maxPosition(),
+                  instrument.symbol());
+
+  public static final RiskRuleFactory MAX_OPEN_NOTIONAL =
+      (instrument, account, scale) ->
+          account.maxOpenNotional() == null
+              ? null
+              : new MaxOpenNotional(
+                  FixedPoint.floorUnits(account.maxOpenNotional(), notionalScale(scale)),
+                  notionalScale(scale),
+                  account.maxOpenNotional());
+
+  public static final RiskRuleFactory MAX_ORDER_RATE =
+      (instrument, account, scale) ->
+          account.maxOrdersPerSecond() == null
+              ? null
+              : new MaxOrderRate(account.maxOrdersPerSecond());
+
+  public static final List<RiskRuleFactory> ALL =
+      List.of(
+          MAX_ORDER_NOTIONAL,
+          QTY_STEP,
+          PRICE_TICK,
+          MIN_QTY,
+          MAX_QTY,
+          MIN_NOTIONAL,
+          PRICE_BAND,
+          MAX_OPEN_ORDERS,
+          MAX_POSITION,
+          MAX_OPEN_NOTIONAL,
+          MAX_ORDER_RATE);
+
+  private StandardRiskRules() {}
+
+  private static int notionalScale(InstrumentScale scale) {
+    return scale.priceScale() + scale.quantityScale();
+  }
+
+  private static String decimal(long units, int scale) {
+    return FixedPoint.toBigDecimal(units, scale).stripTrailingZeros().toPlainString();
+  }
+
+  private record MaxOrderNotional(long maxUnits, int scale, BigDecimal limit) implements RiskRule {
+    @Override
+    public RiskRejection check(RiskOrder order, AccountExposure exposure) {
+      if (order.notionalUnits() <= maxUnits) {
+        return null;
+      }
+      return new RiskRejection(
+          "MAX_NOTIONAL_EXCEEDED",
+          "Order notional "
+              + decimal(order.notionalUnits(), scale)
+              + " exceeds max_order_notional "
+              + limit);
+    }
+  }
+
+  private record QtyStep(long stepUnits, int scale, InstrumentRiskLimits instrument)
+      implements RiskRule {
+    @Override
+    public RiskRejection check(RiskOrder order, AccountExposure exposure) {
+      if (FixedPoint.isMultipleOf(order.qtyUnits(), stepUnits)) {
+        return null;
+      }
+      return new RiskRejection(
+          "QTY_STEP_MISMATCH",
+          "Quantity "
+              + decimal(order.qtyUnits(), scale)
+              + " is not aligned to step_size "
+              + instrument.stepSize()
+              + " for instrument "
+              + instrument.symbol());
+    }
+  }
+
+  private record PriceTick(long tickUnits, int scale, InstrumentRiskLimits instrument)
+      implements RiskRule {
+    @Override
+    public RiskRejection check(RiskOrder order, AccountExposure exposure) {
+      if (order.type() != OrderType.LIMIT
+          || FixedPoint.isMultipleOf(order.priceUnits(), tickUnits)) {
+        return null;
+      }
+      return new RiskRejection(
+          "PRICE_TICK_MISMATCH",
+          "Price "
+              + decimal(order.priceUnits(), scale)
+              + " is not aligned to tick_size "
+              + instrument.tickSize()
+              + " for instrument "
+              + instrument.symbol());
+    }
+  }
+
+  private record MinQty(long minUnits, int scale, InstrumentRiskLimits instrument)
+      implements RiskRule {
+    @Override
+    public RiskRejection check(RiskOrder order, AccountExposure exposure) {
+      if (order.qtyUnits() >= minUnits) {
+        return null;
+      }
+      return new RiskRejection(
+          "QTY_OUT_OF_RANGE",
+          "Quantity "
+              + decimal(order.qtyUnits(), scale)
+              + " is below min_qty "
+              + instrument.minQty()
+              + " for instrument "
+              + instrument.symbol());
+    }
+  }
+
+  private record MaxQty(long maxUnits, int scale, InstrumentRiskLimits instrument)
+      implements RiskRule {
+    @Override
+    public RiskRejection check(RiskOrder order, AccountExposure exposure) {
+      if (order.qtyUnits() <= maxUnits) {
+        return null;
+      }
+      return new RiskRejection(
+          "QTY_OUT_OF_RANGE",
+          "Quantity "
+              + decimal(order.qtyUnits(), scale)
+              + " exceeds max_qty "
+              + instrument.maxQty()
+              + " for instrument "
+              + instrument.symbol());
+    }
+  }
+
+  private record MinNotional(long minUnits, int scale, InstrumentRiskLimits instrument)
+      implements RiskRule {
+    @Override
+    public RiskRejection check(RiskOrder order, AccountExposure exposure) {
+      if (order.notionalUnits() >= minUnits) {
+        return null;
+      }
+      return new RiskRejection(
+          "MIN_NOTIONAL_NOT_MET",
+          "Order notional "
+              + decimal(order.notionalUnits(), scale)
+              + " is below min_notional "
+              + instrument.minNotional()
+              + " for instrument "
+              + instrument.symbol());
+    }
+  }
+
+  // |p - r| * 10000 > bps * r, so the accept path never divides.
+  private record PriceBand(long bandBps, int scale) implements RiskRule {
+    @Override
+    public RiskRejection check(RiskOrder order, AccountExposure exposure) {
+      if (order.type() != OrderType.LIMIT) {
+        return null;
+      }
+      long deviation =
+          Math.abs(Math.subtractExact(order.priceUnits(), order.referencePriceUnits()));
+      if (Math.multiplyExact(deviation, BPS_PER_UNIT)
+          <= Math.multiplyExact(order.referencePriceUnits(), bandBps)) {
+        return null;
+      }
+      BigDecimal deviationBps =
+          BigDecimal.valueOf(deviation)
+              .multiply(BigDecimal.valueOf(BPS_PER_UNIT))
+              .divide(BigDecimal.valueOf(order.referencePriceUnits()), 8, RoundingMode.HALF_UP);
+      return new RiskRejection(
+          "PRICE_BAND_EXCEEDED",
+          "Price deviation " + deviationBps + " bps exceeds allowed " + bandBps + " bps");
+    }
+  }
+
+  private record MaxOpenOrders(int maxOpenOrders) implements RiskRule {
+    @Override
+    public RiskRejection check(RiskOrder order, AccountExposure exposure) {
+      int openOrders = exposure.openOrders();
+      if (openOrders < maxOpenOrders) {
+        return null;
+      }
+      return new RiskRejection(
+          "MAX_OPEN_ORDERS_EXCEEDED",
+          "Account has " + openOrders + " open orders, max_open_orders is " + maxOpenOrders);
+    }
+  }
+
+  // Orders that shrink the absolute position always pass so a breached limit can be worked down.
+  private record MaxPosition(long maxUnits, int scale, BigDecimal limit, String symbol)
+      implements RiskRule {
+    @Override
+    public RiskRejection check(RiskOrder order, AccountExposure exposure) {
+      long current = exposure.netPositionUnits();
+      long projected =
+          order.side() == OrderSide.BUY
+              ? Math.addExact(current, order.qtyUnits())
+              : Math.subtractExact(current, order.qtyUnits());
+      long projectedAbs = Math.abs(projected);
+      if (projectedAbs <= maxUnits || projectedAbs <= Math.abs(current)) {
+        return null;
+      }
+      return new RiskRejection(
+          "MAX_POSITION_EXCEEDED",
+          "Projected position "
+              + decimal(projected, scale)
+              + " exceeds max_position "
+              + limit
+              + " for instrument "
+              + symbol);
+    }
+  }
+
+  private record MaxOpenNotional(long maxUnits, int scale, BigDecimal limit) implements RiskRule {
+    @Override
+    public RiskRejection check(RiskOrder order, AccountExposure exposure) {
+      long projected = Math.addExact(exposure.openNotionalUnits(), order.notionalUnits());
+      if (projected <= maxUnits) {
+        return null;
+      }
+      return new RiskRejection(
+          "MAX_OPEN_NOTIONAL_EXCEEDED",
+          "Open notional including this order "
+              + decimal(projected, scale)
+              + " exceeds max_open_notional "
+              + limit);
+    }
+  }
+
+  private record MaxOrderRate(int maxOrdersPerSecond) implements RiskRule {
+    @Override
+    public RiskRejection check(RiskOrder order, AccountExposure exposure) {
+      int ordersInLastSecond = exposure.ordersInLastSecond();
+      if (ordersInLastSecond < maxOrdersPerSecond) {
+        return null;
+      }
+      return new RiskRejection(
+          "ORDER_RATE_EXCEEDED",
+          "Account submitted "
+              + ordersInLastSecond
+              + " orders in the last second, max_orders_per_second is "
+              + maxOrdersPerSecond);
+    }
+  }
+}
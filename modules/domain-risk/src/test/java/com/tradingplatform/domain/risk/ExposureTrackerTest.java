@@ -0,0 +1,183 @@
+package com.tradingplatform.domain.risk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tradingplatform.domain.orders.OrderSide;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class ExposureTrackerTest {
+  private static final Instant NOW = Instant.parse("2026-03-01T12:00:00.500Z");
+
+  private final ExposureTracker tracker = new ExposureTracker(Clock.fixed(NOW, ZoneOffset.UTC));
+  private final UUID accountId = UUID.randomUUID();
+
+  @Test
+  void shouldTrackOpenNotionalAndRateIdempotently() {
+    UUID orderId = UUID.randomUUID();
+
+    assertTrue(tracker.onOrderOpened(open(orderId, "BTCUSDT", OrderSide.BUY, "2", "100", NOW)));
+    assertFalse(tracker.onOrderOpened(open(orderId, "BTCUSDT", OrderSide.BUY, "2", "100", NOW)));
+    tracker.onOrderOpened(open(UUID.randomUUID(), "ETHUSDT", OrderSide.SELL, "1", "50", NOW));
+    tracker.onOrderOpened(
+        open(UUID.randomUUID(), "ETHUSDT", OrderSide.SELL, "1", "50", NOW.minusSeconds(1)));
+
+    ExposureTracker.Exposure exposure = tracker.exposure(accountId, "BTCUSDT", "USDT");
+    assertEquals(3, exposure.openOrders());
+    assertEquals(0, new BigDecimal("300").compareTo(exposure.openNotional()));
+    assertEquals(2, exposure.ordersInLastSecond());
+    assertEquals(
+        ExposureTracker.Exposure.NONE, tracker.exposure(UUID.randomUUID(), "BTCUSDT", "USDT"));
+  }
+
+  @Test
+  void shouldMoveFilledQuantityFromOpenNotionalToPosition() {
+    UUID buyId = UUID.randomUUID();
+    UUID sellId = UUID.randomUUID();
+    tracker.onOrderOpened(open(buyId, "BTCUSDT", OrderSide.BUY, "2", "100", NOW));
+    tracker.onOrderOpened(open(sellId, "BTCUSDT", OrderSide.SELL, "1", "110", NOW));
+
+    tracker.onOrderUpdated(buyId, new BigDecimal("0.5"), false);
+    tracker.onOrderUpdated(buyId, new BigDecimal("0.5"), false);
+    tracker.onOrderUpdated(sellId, new BigDecimal("0.25"), false);
+
+    ExposureTracker.Exposure partial = tracker.exposure(accountId, "BTCUSDT", "USDT");
+    assertEquals(2, partial.openOrders());
+    assertEquals(0, new BigDecimal("232.5").compareTo(partial.openNotional()));
+    assertEquals(0, new BigDecimal("0.25").compareTo(partial.netPosition()));
+
+    tracker.onOrderUpdated(buyId, new BigDecimal("2"), true);
+    tracker.onOrderUpdated(sellId, null, true);
+    tracker.onOrderUpdated(sellId, new BigDecimal("1"), true);
+
+    ExposureTracker.Exposure closed = tracker.exposure(accountId, "BTCUSDT", "USDT");
+    assertEquals(0, closed.openOrders());
+    assertEquals(0, BigDecimal.ZERO.compareTo(closed.openNotional()));
+    assertEquals(0, new BigDecimal("1.75").compareTo(closed.netPosition()));
+    assertEquals(0, tracker.trackedOrders());
+  }
+
+  @Test
+  void shouldRebuildFromSourceOfTruthOnReset() {
+    UUID staleId = UUID.randomUUID();
+    tracker.onOrderOpened(open(staleId, "BTCUSDT", OrderSide.BUY, "1", "100", NOW));
+
+    tracker.reset(
+        List.of(
+            new ExposureTracker.OpenOrder(
+                UUID.randomUUID(),
+                accountId,
+                "ETHUSDT",
+                "USDT",
+                OrderSide.BUY,
+                new BigDecimal("3"),
+                BigDecimal.ONE,
+                new BigDecimal("10"),
+                NOW.minusSeconds(60))),
+        List.of(new ExposureTracker.Position(accountId, "BTCUSDT", new BigDecimal("-0.5"))));
+    tracker.onOrderUpdated(staleId, BigDecimal.ONE, true);
+
+    ExposureTracker.Exposure exposure = tracker.exposure(accountId, "BTCUSDT", "USDT");
+    assertEquals(1, exposure.openOrders());
+    assertEquals(0, new BigDecimal("20").compareTo(exposure.openNotional()));
+    assertEquals(0, new BigDecimal("-0.5").compareTo(exposure.netPosition()));
+    assertEquals(1, exposure.ordersInLastSecond());
+    assertEquals(2, tracker.snapshot().size());
+  }
+
+  @Test
+  void shouldReplayEventsThatArriveWhileResetReads() {
+    UUID openedDuringReadId = UUID.randomUUID();
+    UUID filledDuringReadId = UUID.randomUUID();
+
+    tracker.beginReset();
+    tracker.onOrderOpened(open(openedDuringReadId, "BTCUSDT", OrderSide.BUY, "1", "100", NOW));
+    tracker.onOrderUpdated(filledDuringReadId, BigDecimal.ONE, false);
+    tracker.reset(
+        List.of(open(filledDuringReadId, "BTCUSDT", OrderSide.BUY, "2", "100", NOW)), List.of());
+
+    ExposureTracker.Exposure exposure = tracker.exposure(accountId, "BTCUSDT", "USDT");
+    assertEquals(2, exposure.openOrders());
+    assertEquals(0, new BigDecimal("200").compareTo(exposure.openNotional()));
+    assertEquals(0, BigDecimal.ONE.compareTo(exposure.netPosition()));
+    assertEquals(1, exposure.ordersInLastSecond());
+  }
+
+  @Test
+  void shouldIgnoreLateOpensForClosedOrders() {
+    UUID closedId = UUID.randomUUID();
+    UUID cancelledBeforeOpenId = UUID.randomUUID();
+    tracker.onOrderOpened(open(closedId, "BTCUSDT", OrderSide.BUY, "1", "100", NOW));
+    tracker.onOrderUpdated(closedId, BigDecimal.ONE, true);
+    tracker.onOrderUpdated(cancelledBeforeOpenId, null, true);
+
+    assertFalse(tracker.onOrderOpened(open(closedId, "BTCUSDT", OrderSide.BUY, "1", "100", NOW)));
+    assertFalse(
+        tracker.onOrderOpened(
+            open(cancelledBeforeOpenId, "BTCUSDT", OrderSide.SELL, "1", "100", NOW)));
+    tracker.reset(List.of(open(closedId, "BTCUSDT", OrderSide.BUY, "1", "100", NOW)), List.of());
+
+    assertEquals(0, tracker.exposure(accountId, "BTCUSDT", "USDT").openOrders());
+    assertEquals(0, tracker.trackedOrders());
+  }
+
+  @Test
+  void shouldEvictOldestTombstonesBeyondCapacity() {
+    ExposureTracker bounded = new ExposureTracker(Clock.fixed(NOW, ZoneOffset.UTC), 1);
+    UUID firstId = UUID.randomUUID();
+    bounded.onOrderUpdated(firstId, null, true);
+    bounded.onOrderUpdated(UUID.randomUUID(), null, true);
+
+    assertTrue(bounded.onOrderOpened(open(firstId, "BTCUSDT", OrderSide.BUY, "1", "100", NOW)));
+  }
+
+  @Test
+  void shouldKeepOpenNotionalPerNotionalAsset() {
+    tracker.onOrderOpened(open(UUID.randomUUID(), "BTCUSDT", OrderSide.BUY, "1", "100", NOW));
+    tracker.onOrderOpened(
+        open(UUID.randomUUID(), "ETHBTC", "BTC", OrderSide.BUY, "10", "0.05", NOW));
+    tracker.onOrderOpened(
+        open(UUID.randomUUID(), "XYZUNKNOWN", null, OrderSide.BUY, "1", "7", NOW));
+
+    ExposureTracker.Exposure usdt = tracker.exposure(accountId, "BTCUSDT", "USDT");
+    ExposureTracker.Exposure btc = tracker.exposure(accountId, "ETHBTC", "BTC");
+    ExposureTracker.Exposure unknown = tracker.exposure(accountId, "XYZUNKNOWN", null);
+
+    assertEquals(3, usdt.openOrders());
+    assertEquals(0, new BigDecimal("100").compareTo(usdt.openNotional()));
+    assertEquals(0, new BigDecimal("0.5").compareTo(btc.openNotional()));
+    assertEquals(0, new BigDecimal("7").compareTo(unknown.openNotional()));
+  }
+
+  private ExposureTracker.OpenOrder open(
+      UUID orderId, String instrument, OrderSide side, String qty, String price, Instant at) {
+    return open(orderId, instrument, "USDT", side, qty, price, at);
+  }
+
+  private ExposureTracker.OpenOrder open(
+      UUID orderId,
+      String instrument,
+      String notionalAsset,
+      OrderSide side,
+      String qty,
+      String price,
+      Instant at) {
+    return new ExposureTracker.OpenOrder(
+        orderId,
+        accountId,
+        instrument,
+        notionalAsset,
+        side,
+        new BigDecimal(qty),
+        BigDecimal.ZERO,
+        new BigDecimal(price),
+        at);
+  }
+}
@@ -0,0 +1,176 @@
+package com.tradingplatform.domain.risk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.tradingplatform.domain.instruments.fixedpoint.FixedPoint;
+import com.tradingplatform.domain.orders.OrderSide;
+import com.tradingplatform.domain.orders.OrderType;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RiskRuleSetTest {
+  private static final BigDecimal REFERENCE = new BigDecimal("50000");
+
+  private final InstrumentRiskLimits btc =
+      new InstrumentRiskLimits(
+          "BTCUSDT",
+          new BigDecimal("0.10"),
+          new BigDecimal("0.01"),
+          new BigDecimal("0.01"),
+          new BigDecimal("100"),
+          new BigDecimal("10"));
+
+  @Test
+  void shouldAcceptOrderWithinAllLimits() {
+    RiskRuleSet rules =
+        RiskRuleSet.compile(btc, AccountRiskLimits.of(new BigDecimal("100000"), 500));
+
+    assertEquals(2, rules.scale().priceScale());
+    assertEquals(2, rules.scale().quantityScale());
+    assertNull(evaluate(rules, OrderType.LIMIT, "1", "51000.10"));
+    assertNull(evaluate(rules, OrderType.MARKET, "0.25", null));
+  }
+
+  @Test
+  void shouldRejectInDeclaredOrder() {
+    RiskRuleSet rules =
+        RiskRuleSet.compile(btc, AccountRiskLimits.of(new BigDecimal("10000"), 100));
+
+    RiskRejection rejection = evaluate(rules, OrderType.LIMIT, "1", "56000.05");
+
+    assertEquals("MAX_NOTIONAL_EXCEEDED", rejection.code());
+    assertEquals("Order notional 56000.05 exceeds max_order_notional 10000", rejection.message());
+  }
+
+  @Test
+  void shouldRejectEachInstrumentFilter() {
+    RiskRuleSet rules =
+        RiskRuleSet.compile(btc, AccountRiskLimits.of(new BigDecimal("1000000"), 100));
+
+    assertEquals("PRICE_TICK_MISMATCH", evaluate(rules, OrderType.LIMIT, "1", "50000.05").code());
+    assertEquals("QTY_OUT_OF_RANGE", evaluate(rules, OrderType.LIMIT, "101", "5000").code());
+    assertEquals("MIN_NOTIONAL_NOT_MET", evaluate(rules, OrderType.LIMIT, "0.01", "500").code());
+    assertEquals("PRICE_BAND_EXCEEDED", evaluate(rules, OrderType.LIMIT, "1", "50500.1").code());
+    assertNull(evaluate(rules, OrderType.LIMIT, "1", "50500"));
+  }
+
+  @Test
+  void shouldPreScaleThresholdsFinerThanInstrumentScale() {
+    InstrumentRiskLimits instrument =
+        new InstrumentRiskLimits(
+            "ETHUSDT", new BigDecimal("0.1"), new BigDecimal("0.1"), null, null, null);
+    RiskRuleSet rules =
+        RiskRuleSet.compile(instrument, AccountRiskLimits.of(new BigDecimal("100.0009"), 10_000));
+
+    assertNull(evaluate(rules, OrderType.LIMIT, "1", "100.0"));
+    assertEquals("MAX_NOTIONAL_EXCEEDED", evaluate(rules, OrderType.LIMIT, "1", "100.1").code());
+  }
+
+  @Test
+  void shouldRefuseValuesFinerThanScale() {
+    RiskRuleSet rules =
+        RiskRuleSet.compile(btc, AccountRiskLimits.of(new BigDecimal("1000000"), 500));
+
+    assertThrows(
+        ArithmeticException.class,
+        () ->
+            rules.order(
+                OrderSide.BUY, OrderType.LIMIT, new BigDecimal("1.005"), REFERENCE, REFERENCE));
+  }
+
+  @Test
+  void shouldApplyStatefulRulesOnlyWhenConfigured() {
+    RiskRuleSet unlimited =
+        RiskRuleSet.compile(btc, AccountRiskLimits.of(new BigDecimal("1000000"), 500));
+    RiskRuleSet limited =
+        RiskRuleSet.compile(
+            btc,
+            new AccountRiskLimits(
+                new BigDecimal("1000000"), 500, 2, new BigDecimal("1.5"), null, null));
+    RiskOrder buyOne =
+        limited.order(OrderSide.BUY, OrderType.LIMIT, BigDecimal.ONE, REFERENCE, REFERENCE);
+    RiskOrder sellOne =
+        limited.order(OrderSide.SELL, OrderType.LIMIT, BigDecimal.ONE, REFERENCE, REFERENCE);
+
+    assertEquals(unlimited.size() + 2, limited.size());
+    assertEquals("MAX_OPEN_ORDERS_EXCEEDED", limited.evaluate(buyOne, exposure(2, 0)).code());
+    assertEquals("MAX_POSITION_EXCEEDED", limited.evaluate(buyOne, exposure(0, 100)).code());
+    assertNull(limited.evaluate(sellOne, exposure(0, 300)));
+    assertNull(limited.evaluate(buyOne, exposure(0, 50)));
+  }
+
+  @Test
+  void shouldCheckOpenNotionalAndOrderRateAgainstExposure() {
+    RiskRuleSet rules =
+        RiskRuleSet.compile(
+            btc,
+            new AccountRiskLimits(
+                new BigDecimal("1000000"), 500, null, null, new BigDecimal("120000"), 5));
+    RiskOrder order =
+        rules.order(OrderSide.BUY, OrderType.LIMIT, BigDecimal.ONE, REFERENCE, REFERENCE);
+    long openNotional = FixedPoint.toUnits(new BigDecimal("70000"), rules.notionalScale());
+
+    assertNull(rules.evaluate(order, new AccountExposure(3, openNotional, 0L, 4)));
+    assertEquals(
+        "MAX_OPEN_NOTIONAL_EXCEEDED",
+        rules.evaluate(order, new AccountExposure(3, openNotional + 1, 0L, 0)).code());
+    assertEquals(
+        "ORDER_RATE_EXCEEDED", rules.evaluate(order, new AccountExposure(0, 0L, 0L, 5)).code());
+  }
+
+  @Test
+  void shouldEvaluatePluggedRulesAfterCompilation() {
+    RiskRuleFactory noMarketOrders =
+        (instrument, account, scale) ->
+            (order, exposure) ->
+                order.type() == OrderType.MARKET
+                    ? new RiskRejection("MARKET_ORDERS_DISABLED", instrument.symbol())
+                    : null;
+    RiskRuleSet rules =
+        RiskRuleSet.compile(
+            btc,
+            AccountRiskLimits.of(new BigDecimal("1000000"), 500),
+            List.of(StandardRiskRules.MAX_ORDER_NOTIONAL, noMarketOrders));
+
+    assertEquals("MARKET_ORDERS_DISABLED", evaluate(rules, OrderType.MARKET, "1", null).code());
+    assertNull(evaluate(rules, OrderType.LIMIT, "1", "50000"));
+  }
+
+  @Test
+  void shouldConvertTrackedExposureToRuleScales() {
+    RiskRuleSet rules =
+        RiskRuleSet.compile(btc, AccountRiskLimits.of(new BigDecimal("100000"), 500));
+
+    AccountExposure exposure =
+        rules.exposure(
+            new ExposureTracker.Exposure(
+                3, new BigDecimal("100.00001"), new BigDecimal("-0.25"), 2));
+
+    assertEquals(AccountExposure.NONE, rules.exposure(ExposureTracker.Exposure.NONE));
+    assertEquals(new AccountExposure(3, 1_000_001L, -25L, 2), exposure);
+    assertThrows(
+        ArithmeticException.class,
+        () ->
+            rules.exposure(
+                new ExposureTracker.Exposure(1, BigDecimal.ZERO, new BigDecimal("0.001"), 0)));
+  }
+
+  private static RiskRejection evaluate(
+      RiskRuleSet rules, OrderType type, String qty, String price) {
+    RiskOrder order =
+        rules.order(
+            OrderSide.BUY,
+            type,
+            new BigDecimal(qty),
+            price == null ? null : new BigDecimal(price),
+            REFERENCE);
+    return rules.evaluate(order, AccountExposure.NONE);
+  }
+
+  private static AccountExposure exposure(int openOrders, long netPositionUnits) {
+    return new AccountExposure(openOrders, 0L, netPositionUnits, 0);
+  }
+}
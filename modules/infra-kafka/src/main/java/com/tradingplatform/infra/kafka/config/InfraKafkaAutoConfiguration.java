@@ -1,6 +1,8 @@
 package com.tradingplatform.infra.kafka.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tradingplatform.infra.kafka.dedupe.ConsumerDedupeStore;
+import com.tradingplatform.infra.kafka.dedupe.JdbcOffsetWatermarkDedupeStore;
 import com.tradingplatform.infra.kafka.errors.DeadLetterPublisher;
 import com.tradingplatform.infra.kafka.errors.KafkaDeadLetterPublisher;
 import com.tradingplatform.infra.kafka.errors.LoggingDeadLetterPublisher;
@@ -8,20 +10,27 @@ import com.tradingplatform.infra.kafka.errors.RetryPolicy;
 import com.tradingplatform.infra.kafka.observability.KafkaTelemetry;
 import com.tradingplatform.infra.kafka.observability.MicrometerKafkaTelemetry;
 import com.tradingplatform.infra.kafka.observability.NoOpKafkaTelemetry;
+import com.tradingplatform.infra.kafka.observability.StageLatencyRecorder;
 import com.tradingplatform.infra.kafka.producer.BalanceEventProducer;
 import com.tradingplatform.infra.kafka.producer.EventPublisher;
 import com.tradingplatform.infra.kafka.producer.ExecutionEventProducer;
 import com.tradingplatform.infra.kafka.producer.KafkaEventPublisher;
 import com.tradingplatform.infra.kafka.producer.OrderEventProducer;
+import com.tradingplatform.infra.kafka.serde.EventEnvelopeCodec;
+import com.tradingplatform.infra.kafka.serde.EventEnvelopeCodecs;
 import com.tradingplatform.infra.kafka.serde.EventEnvelopeJsonCodec;
+import com.tradingplatform.infra.kafka.serde.EventEnvelopeSmileCodec;
 import com.tradingplatform.infra.kafka.serde.EventObjectMapperFactory;
 import com.tradingplatform.infra.kafka.topics.KafkaTopicDefinitions;
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -32,6 +41,8 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
@@ -41,10 +52,14 @@ import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.kafka.listener.ContainerProperties;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
-@AutoConfiguration
+@AutoConfiguration(
+    afterName = "org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration")
 @EnableConfigurationProperties(InfraKafkaProperties.class)
 public class InfraKafkaAutoConfiguration {
+  private static final String ORDER_LATENCY_METRIC_PREFIX = "order.latency";
+
   @Bean
   @ConditionalOnMissingBean(name = "kafkaEventObjectMapper")
   public ObjectMapper kafkaEventObjectMapper() {
@@ -58,6 +73,22 @@ public class InfraKafkaAutoConfiguration {
     return new EventEnvelopeJsonCodec(kafkaEventObjectMapper);
   }
 
+  @Bean
+  @ConditionalOnMissingBean
+  public EventEnvelopeSmileCodec eventEnvelopeSmileCodec() {
+    return new EventEnvelopeSmileCodec(EventObjectMapperFactory.createSmile());
+  }
+
+  @Bean
+  @ConditionalOnMissingBean
+  public EventEnvelopeCodecs eventEnvelopeCodecs(
+      EventEnvelopeJsonCodec eventEnvelopeJsonCodec,
+      List<EventEnvelopeCodec> eventEnvelopeCodecs,
+      InfraKafkaProperties properties) {
+    return new EventEnvelopeCodecs(
+        eventEnvelopeJsonCodec, eventEnvelopeCodecs, properties.getProducer().getContentType());
+  }
+
   @Bean
   @ConditionalOnClass(MeterRegistry.class)
   @ConditionalOnBean(MeterRegistry.class)
@@ -72,6 +103,20 @@ public class InfraKafkaAutoConfiguration {
     return new NoOpKafkaTelemetry();
   }
 
+  @Bean
+  @ConditionalOnClass(MeterRegistry.class)
+  @ConditionalOnBean(MeterRegistry.class)
+  @ConditionalOnMissingBean(StageLatencyRecorder.class)
+  public StageLatencyRecorder orderStageLatencyRecorder(MeterRegistry meterRegistry) {
+    return new StageLatencyRecorder(meterRegistry, ORDER_LATENCY_METRIC_PREFIX);
+  }
+
+  @Bean
+  @ConditionalOnMissingBean(StageLatencyRecorder.class)
+  public StageLatencyRecorder detachedOrderStageLatencyRecorder() {
+    return new StageLatencyRecorder(new SimpleMeterRegistry(), ORDER_LATENCY_METRIC_PREFIX);
+  }
+
   @Bean
   @ConditionalOnMissingBean
   public RetryPolicy retryPolicy(InfraKafkaProperties properties) {
@@ -81,7 +126,7 @@ public class InfraKafkaAutoConfiguration {
   @Bean
   @ConditionalOnMissingBean
   public DeadLetterPublisher deadLetterPublisher(
-      KafkaTemplate<String, String> infraKafkaTemplate, InfraKafkaProperties properties) {
+      KafkaTemplate<String, byte[]> infraKafkaTemplate, InfraKafkaProperties properties) {
     InfraKafkaProperties.DeadLetter deadLetter = properties.getDeadLetter();
     if (deadLetter != null
         && deadLetter.isEnabled()
@@ -93,7 +138,7 @@ public class InfraKafkaAutoConfiguration {
 
   @Bean
   @ConditionalOnMissingBean(name = "infraKafkaProducerFactory")
-  public ProducerFactory<String, String> infraKafkaProducerFactory(
+  public ProducerFactory<String, byte[]> infraKafkaProducerFactory(
       InfraKafkaProperties properties) {
     InfraKafkaProperties.Producer producer = properties.getProducer();
 
@@ -112,28 +157,28 @@ public class InfraKafkaAutoConfiguration {
         ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION,
         resolveMaxInFlightRequests(properties));
     config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-    config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+    config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
     return new DefaultKafkaProducerFactory<>(config);
   }
 
   @Bean
   @ConditionalOnMissingBean(name = "infraKafkaTemplate")
-  public KafkaTemplate<String, String> infraKafkaTemplate(
-      ProducerFactory<String, String> infraKafkaProducerFactory) {
+  public KafkaTemplate<String, byte[]> infraKafkaTemplate(
+      ProducerFactory<String, byte[]> infraKafkaProducerFactory) {
     return new KafkaTemplate<>(infraKafkaProducerFactory);
   }
 
   @Bean
   @ConditionalOnMissingBean
   public EventPublisher eventPublisher(
-      KafkaTemplate<String, String> infraKafkaTemplate,
-      EventEnvelopeJsonCodec eventEnvelopeJsonCodec,
+      KafkaTemplate<String, byte[]> infraKafkaTemplate,
+      EventEnvelopeCodecs eventEnvelopeCodecs,
       KafkaTelemetry kafkaTelemetry,
       InfraKafkaProperties properties) {
     long sendTimeoutMs = Math.max(0L, properties.getProducer().getSendTimeoutMs());
     return new KafkaEventPublisher(
         infraKafkaTemplate,
-        eventEnvelopeJsonCodec,
+        eventEnvelopeCodecs.publishing(),
         kafkaTelemetry,
         Duration.ofMillis(sendTimeoutMs));
   }
@@ -178,7 +223,7 @@ public class InfraKafkaAutoConfiguration {
 
   @Bean
   @ConditionalOnMissingBean(name = "infraKafkaConsumerFactory")
-  public ConsumerFactory<String, String> infraKafkaConsumerFactory(
+  public ConsumerFactory<String, byte[]> infraKafkaConsumerFactory(
       InfraKafkaProperties properties) {
     InfraKafkaProperties.Consumer consumer = properties.getConsumer();
 
@@ -194,15 +239,15 @@ public class InfraKafkaAutoConfiguration {
     config.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, consumer.getFetchMinBytes());
     config.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, consumer.getFetchMaxWaitMs());
     config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-    config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+    config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
     return new DefaultKafkaConsumerFactory<>(config);
   }
 
   @Bean(name = "infraKafkaListenerContainerFactory")
   @ConditionalOnMissingBean(name = "infraKafkaListenerContainerFactory")
-  public ConcurrentKafkaListenerContainerFactory<String, String> infraKafkaListenerContainerFactory(
-      ConsumerFactory<String, String> infraKafkaConsumerFactory, InfraKafkaProperties properties) {
-    ConcurrentKafkaListenerContainerFactory<String, String> factory =
+  public ConcurrentKafkaListenerContainerFactory<String, byte[]> infraKafkaListenerContainerFactory(
+      ConsumerFactory<String, byte[]> infraKafkaConsumerFactory, InfraKafkaProperties properties) {
+    ConcurrentKafkaListenerContainerFactory<String, byte[]> factory =
         new ConcurrentKafkaListenerContainerFactory<>();
     factory.setConsumerFactory(infraKafkaConsumerFactory);
     factory.setConcurrency(Math.max(1, properties.getConsumer().getConcurrency()));
@@ -210,6 +255,19 @@ public class InfraKafkaAutoConfiguration {
     return factory;
   }
 
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(JdbcTemplate.class)
+  static class ConsumerDedupeConfiguration {
+    @Bean
+    @ConditionalOnBean(JdbcTemplate.class)
+    @ConditionalOnMissingBean(ConsumerDedupeStore.class)
+    public ConsumerDedupeStore consumerDedupeStore(
+        JdbcTemplate jdbcTemplate, InfraKafkaProperties properties) {
+      return new JdbcOffsetWatermarkDedupeStore(
+          jdbcTemplate, Math.max(1, properties.getDedupe().getEventIdWindow()));
+    }
+  }
+
   private int resolveMaxInFlightRequests(InfraKafkaProperties properties) {
     int configuredMax = Math.max(1, properties.getProducer().getMaxInFlightRequestsPerConnection());
     if (properties.effectiveProducerIdempotenceEnabled()) {
@@ -12,6 +12,7 @@ public class InfraKafkaProperties {
   private Retry retry = new Retry();
   private DeadLetter deadLetter = new DeadLetter();
   private Topics topics = new Topics();
+  private Dedupe dedupe = new Dedupe();
 
   // Legacy fallback keys kept for compatibility.
   private String producerClientId;
@@ -68,6 +69,14 @@ public class InfraKafkaProperties {
     this.topics = topics;
   }
 
+  public Dedupe getDedupe() {
+    return dedupe;
+  }
+
+  public void setDedupe(Dedupe dedupe) {
+    this.dedupe = dedupe;
+  }
+
   public String getProducerClientId() {
     return producerClientId;
   }
@@ -163,6 +172,7 @@ public class InfraKafkaProperties {
     private int requestTimeoutMs = 30000;
     private int maxInFlightRequestsPerConnection = 5;
     private long sendTimeoutMs = 0L;
+    private String contentType = "application/json";
 
     public String getClientId() {
       return clientId;
@@ -251,6 +261,14 @@ public class InfraKafkaProperties {
     public void setSendTimeoutMs(long sendTimeoutMs) {
       this.sendTimeoutMs = sendTimeoutMs;
     }
+
+    public String getContentType() {
+      return contentType;
+    }
+
+    public void setContentType(String contentType) {
+      this.contentType = contentType;
+    }
   }
 
   public static class Consumer {
@@ -480,4 +498,17 @@ public class InfraKafkaProperties {
       this.replicationFactor = replicationFactor;
     }
   }
+
+  public static class Dedupe {
+    /** Event ids remembered per partition to catch producer-side duplicates at new offsets. */
+    private int eventIdWindow = 256;
+
+    public int getEventIdWindow() {
+      return eventIdWindow;
+    }
+
+    public void setEventIdWindow(int eventIdWindow) {
+      this.eventIdWindow = eventIdWindow;
+    }
+  }
 }
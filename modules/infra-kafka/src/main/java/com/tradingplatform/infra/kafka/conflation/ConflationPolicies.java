@@ -0,0 +1,19 @@
+package com.tradingplatform.infra.kafka.conflation;
+
+import com.tradingplatform.infra.kafka.contract.payload.BalanceUpdatedV1;
+import com.tradingplatform.infra.kafka.contract.payload.OrderUpdatedV2;
+import java.util.List;
+
+public final class ConflationPolicies {
+  private ConflationPolicies() {}
+
+  public static ConflationPolicy<OrderUpdatedV2> orderUpdatedV2() {
+    return ConflationPolicy.of(
+        OrderUpdatedV2::orderId, update -> ConflationPolicy.isTerminalOrderStatus(update.status()));
+  }
+
+  public static ConflationPolicy<BalanceUpdatedV1> balanceUpdatedV1() {
+    return ConflationPolicy.of(
+        update -> List.of(update.accountId(), update.asset()), update -> false);
+  }
+}
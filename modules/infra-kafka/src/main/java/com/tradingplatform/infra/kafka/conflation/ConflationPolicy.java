@@ -0,0 +1,38 @@
+package com.tradingplatform.infra.kafka.conflation;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Tells a {@link ConflationQueue} which updates describe the same entity and which of them must
+ * never be collapsed into a later one.
+ */
+public interface ConflationPolicy<T> {
+  Set<String> TERMINAL_ORDER_STATUSES = Set.of("FILLED", "CANCELED", "REJECTED", "EXPIRED");
+
+  Object key(T update);
+
+  boolean isTerminal(T update);
+
+  static <T> ConflationPolicy<T> of(Function<? super T, ?> key, Predicate<? super T> terminal) {
+    Objects.requireNonNull(key, "key must not be null");
+    Objects.requireNonNull(terminal, "terminal must not be null");
+    return new ConflationPolicy<>() {
+      @Override
+      public Object key(T update) {
+        return key.apply(update);
+      }
+
+      @Override
+      public boolean isTerminal(T update) {
+        return terminal.test(update);
+      }
+    };
+  }
+
+  static boolean isTerminalOrderStatus(String status) {
+    return status != null && TERMINAL_ORDER_STATUSES.contains(status);
+  }
+}
@@ -0,0 +1,151 @@
+package com.tradingplatform.infra.kafka.conflation;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Bounded FIFO that keeps only the latest pending update per key.
+ *
+ * <p>An update replaces a queued update with the same key in place, so the entity keeps its
+ * original position and the consumer only ever sees its newest state. Conflation therefore only
+ * happens while updates are waiting, i.e. when the consumer lags or while it paces itself over a
+ * window. Terminal updates are never replaced and are admitted even when the queue is full; a later
+ * update for the same key is queued behind them.
+ */
+public final class ConflationQueue<T> {
+  private final ConflationPolicy<? super T> policy;
+  private final int capacity;
+  private final ArrayDeque<Slot<T>> slots = new ArrayDeque<>();
+  private final Map<Object, Slot<T>> replaceableByKey = new HashMap<>();
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition notEmpty = lock.newCondition();
+  private long conflatedCount;
+
+  public ConflationQueue(ConflationPolicy<? super T> policy, int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity must be positive");
+    }
+    this.policy = Objects.requireNonNull(policy, "policy must not be null");
+    this.capacity = capacity;
+  }
+
+  public OfferResult offer(T update) {
+    Objects.requireNonNull(update, "update must not be null");
+    Object key = policy.key(update);
+    boolean terminal = policy.isTerminal(update);
+    lock.lock();
+    try {
+      Slot<T> pending = key == null ? null : replaceableByKey.get(key);
+      if (pending != null) {
+        pending.value = update;
+        if (terminal) {
+          replaceableByKey.remove(key);
+        }
+        conflatedCount++;
+        return OfferResult.CONFLATED;
+      }
+      if (slots.size() >= capacity && !terminal) {
+        return OfferResult.REJECTED;
+      }
+      Slot<T> slot = new Slot<>(key, update);
+      slots.addLast(slot);
+      if (key != null && !terminal) {
+        replaceableByKey.put(key, slot);
+      }
+      notEmpty.signal();
+      return OfferResult.ENQUEUED;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public T poll() {
+    lock.lock();
+    try {
+      return pollLocked();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+    long remainingNanos = unit.toNanos(timeout);
+    lock.lockInterruptibly();
+    try {
+      while (slots.isEmpty()) {
+        if (remainingNanos <= 0L) {
+          return null;
+        }
+        remainingNanos = notEmpty.awaitNanos(remainingNanos);
+      }
+      return pollLocked();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public int drainTo(Consumer<? super T> sink) {
+    int drained = 0;
+    T next;
+    while ((next = poll()) != null) {
+      sink.accept(next);
+      drained++;
+    }
+    return drained;
+  }
+
+  public int size() {
+    lock.lock();
+    try {
+      return slots.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public long conflatedCount() {
+    lock.lock();
+    try {
+      return conflatedCount;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public void clear() {
+    lock.lock();
+    try {
+      slots.clear();
+      replaceableByKey.clear();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private T pollLocked() {
+    Slot<T> slot = slots.pollFirst();
+    if (slot == null) {
+      return null;
+    }
+    if (slot.key != null) {
+      replaceableByKey.remove(slot.key, slot);
+    }
+    return slot.value;
+  }
+
+  private static final class Slot<T> {
+    private final Object key;
+    private T value;
+
+    private Slot(Object key, T value) {
+      this.key = key;
+      this.value = value;
+    }
+  }
+}
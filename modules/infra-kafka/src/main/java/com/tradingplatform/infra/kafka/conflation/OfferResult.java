@@ -0,0 +1,7 @@
+package com.tradingplatform.infra.kafka.conflation;
+
+public enum OfferResult {
+  ENQUEUED,
+  CONFLATED,
+  REJECTED
+}
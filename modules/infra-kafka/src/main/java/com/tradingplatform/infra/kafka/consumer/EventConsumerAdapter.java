@@ -6,7 +6,7 @@ import com.tradingplatform.infra.kafka.errors.DeadLetterPublisher;
 import com.tradingplatform.infra.kafka.errors.InvalidEventMetadataException;
 import com.tradingplatform.infra.kafka.errors.RetryPolicy;
 import com.tradingplatform.infra.kafka.observability.KafkaTelemetry;
-import com.tradingplatform.infra.kafka.serde.EventEnvelopeJsonCodec;
+import com.tradingplatform.infra.kafka.serde.EventEnvelopeCodecs;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
@@ -17,8 +17,8 @@ public class EventConsumerAdapter<T> {
   private final Class<T> payloadType;
   private final String expectedEventType;
   private final int expectedEventVersion;
-  private final EventEnvelopeJsonCodec codec;
-  private final EventHandler<T> handler;
+  private final EventEnvelopeCodecs codecs;
+  private final RecordAwareEventHandler<T> handler;
   private final DeadLetterPublisher deadLetterPublisher;
   private final RetryPolicy retryPolicy;
   private final KafkaTelemetry telemetry;
@@ -27,26 +27,46 @@ public class EventConsumerAdapter<T> {
       Class<T> payloadType,
       String expectedEventType,
       int expectedEventVersion,
-      EventEnvelopeJsonCodec codec,
+      EventEnvelopeCodecs codecs,
       EventHandler<T> handler,
       DeadLetterPublisher deadLetterPublisher,
       RetryPolicy retryPolicy,
       KafkaTelemetry telemetry) {
+    this(
+        payloadType,
+        expectedEventType,
+        expectedEventVersion,
+        codecs,
+        RecordAwareEventHandler.of(handler),
+        deadLetterPublisher,
+        retryPolicy,
+        telemetry);
+  }
+
+  public EventConsumerAdapter(
+      Class<T> payloadType,
+      String expectedEventType,
+      int expectedEventVersion,
+      EventEnvelopeCodecs codecs,
+      RecordAwareEventHandler<T> handler,
+      DeadLetterPublisher deadLetterPublisher,
+      RetryPolicy retryPolicy,
+      KafkaTelemetry telemetry) {
     this.payloadType = payloadType;
     this.expectedEventType = expectedEventType;
     this.expectedEventVersion = expectedEventVersion;
-    this.codec = codec;
+    this.codecs = codecs;
     this.handler = handler;
     this.deadLetterPublisher = deadLetterPublisher;
     this.retryPolicy = retryPolicy;
     this.telemetry = telemetry;
   }
 
-  public void process(ConsumerRecord<String, String> record) {
+  public void process(ConsumerRecord<String, byte[]> record) {
     process(record, 1);
   }
 
-  public void process(ConsumerRecord<String, String> record, int initialAttempt) {
+  public void process(ConsumerRecord<String, byte[]> record, int initialAttempt) {
     long started = System.nanoTime();
     String eventTypeFromHeader = headerValue(record.headers(), EventHeaders.X_EVENT_TYPE);
     int attempt = Math.max(1, initialAttempt);
@@ -54,7 +74,10 @@ public class EventConsumerAdapter<T> {
     EventEnvelope<T> envelope;
     try {
       validateMetadataHeaders(record.headers());
-      envelope = codec.decode(record.value(), payloadType);
+      envelope =
+          codecs
+              .forContentType(headerValue(record.headers(), EventHeaders.CONTENT_TYPE))
+              .fromBytes(record.value(), payloadType);
       validateEnvelopeIdentity(envelope);
     } catch (Exception ex) {
       handleTerminalFailure(record, eventTypeFromHeader, ex);
@@ -63,7 +86,7 @@ public class EventConsumerAdapter<T> {
 
     while (true) {
       try {
-        handler.handle(envelope);
+        handler.handle(envelope, record);
         telemetry.onConsumeSuccess(
             record.topic(),
             record.key(),
@@ -95,7 +118,7 @@ public class EventConsumerAdapter<T> {
   }
 
   private void handleTerminalFailure(
-      ConsumerRecord<String, String> record, String eventTypeFromHeader, Exception ex) {
+      ConsumerRecord<String, byte[]> record, String eventTypeFromHeader, Exception ex) {
     telemetry.onConsumeFailure(record.topic(), record.key(), eventTypeFromHeader, ex);
     deadLetterPublisher.publish(record.topic(), record, ex);
     telemetry.onDeadLetter(record.topic(), record.key(), ex);
@@ -0,0 +1,18 @@
+package com.tradingplatform.infra.kafka.consumer;
+
+import com.tradingplatform.infra.kafka.contract.EventEnvelope;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+/**
+ * Handles an envelope together with the Kafka record it arrived in, for handlers that need its
+ * headers, partition or offset. {@link EventConsumerAdapter} runs every handler through this
+ * signature; an {@link EventHandler} is adapted by ignoring the record.
+ */
+@FunctionalInterface
+public interface RecordAwareEventHandler<T> {
+  void handle(EventEnvelope<T> envelope, ConsumerRecord<String, byte[]> record) throws Exception;
+
+  static <T> RecordAwareEventHandler<T> of(EventHandler<T> handler) {
+    return (envelope, record) -> handler.handle(envelope);
+  }
+}
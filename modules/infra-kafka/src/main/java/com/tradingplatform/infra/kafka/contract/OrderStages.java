@@ -0,0 +1,22 @@
+package com.tradingplatform.infra.kafka.contract;
+
+/**
+ * Stage names stamped on an order's {@code x-stage-trace} between API receipt and the committed
+ * exchange ACK, in flow order. {@link #ORDER_PERSISTED} is taken at the outbox insert inside the
+ * order transaction; {@link #DB_COMMITTED} and {@link #KAFKA_PUBLISHED} happen after the trace has
+ * been handed on, so they are recorded only by the process that observes them.
+ */
+public final class OrderStages {
+  public static final String API_RECEIVED = "api_received";
+  public static final String RISK_CHECKED = "risk_checked";
+  public static final String ORDER_PERSISTED = "order_persisted";
+  public static final String DB_COMMITTED = "db_committed";
+  public static final String OUTBOX_CLAIMED = "outbox_claimed";
+  public static final String KAFKA_PUBLISHED = "kafka_published";
+  public static final String CONSUMER_RECEIVED = "consumer_received";
+  public static final String EXCHANGE_REQUEST_SENT = "exchange_request_sent";
+  public static final String EXCHANGE_ACKED = "exchange_acked";
+  public static final String ACK_COMMITTED = "ack_committed";
+
+  private OrderStages() {}
+}
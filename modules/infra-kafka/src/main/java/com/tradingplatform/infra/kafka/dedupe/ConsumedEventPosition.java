@@ -0,0 +1,31 @@
+package com.tradingplatform.infra.kafka.dedupe;
+
+import java.util.Objects;
+import java.util.UUID;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+/** Where a consumer group read an event: the record coordinates plus the envelope event id. */
+public record ConsumedEventPosition(
+    String consumerGroup, String topic, int partition, long offset, UUID eventId) {
+  public ConsumedEventPosition {
+    if (consumerGroup == null || consumerGroup.isBlank()) {
+      throw new IllegalArgumentException("consumerGroup must not be blank");
+    }
+    if (topic == null || topic.isBlank()) {
+      throw new IllegalArgumentException("topic must not be blank");
+    }
+    if (partition < 0) {
+      throw new IllegalArgumentException("partition must be >= 0");
+    }
+    if (offset < 0) {
+      throw new IllegalArgumentException("offset must be >= 0");
+    }
+    Objects.requireNonNull(eventId, "eventId must not be null");
+  }
+
+  public static ConsumedEventPosition of(
+      String consumerGroup, ConsumerRecord<?, ?> record, UUID eventId) {
+    return new ConsumedEventPosition(
+        consumerGroup, record.topic(), record.partition(), record.offset(), eventId);
+  }
+}
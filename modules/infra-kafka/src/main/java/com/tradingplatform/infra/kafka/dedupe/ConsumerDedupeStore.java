@@ -0,0 +1,16 @@
+package com.tradingplatform.infra.kafka.dedupe;
+
+/**
+ * Records consumed positions so redelivered events can be skipped.
+ *
+ * <p>Call {@link #tryAdvance} inside the transaction that applies the event: the position is then
+ * committed or rolled back together with the business write, which is what makes processing
+ * effectively once.
+ */
+public interface ConsumerDedupeStore {
+  /**
+   * Moves the partition watermark to {@code position}; returns {@code false} when the offset was
+   * already consumed or the event id was seen recently on any partition of the topic.
+   */
+  boolean tryAdvance(ConsumedEventPosition position);
+}
@@ -0,0 +1,85 @@
+package com.tradingplatform.infra.kafka.dedupe;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+/**
+ * Keeps one row per consumer group and partition in {@code kafka_consumer_offsets}: the highest
+ * consumed offset and the most recent event ids, newest first.
+ *
+ * <p>A single upsert both checks and advances the row, and its row lock serializes a redelivery
+ * racing the original after a rebalance. Kafka offsets only grow within a partition, so anything at
+ * or below the watermark has been applied; the event id window covers the producer resending an
+ * event that lands at a new offset.
+ */
+public class JdbcOffsetWatermarkDedupeStore implements ConsumerDedupeStore {
+  public static final int DEFAULT_EVENT_ID_WINDOW = 256;
+
+  private static final String EVENT_LOCK_SQL =
+      "SELECT pg_advisory_xact_lock(hashtextextended(?, 0))";
+
+  private static final String ADVANCE_SQL =
+      """
+      INSERT INTO kafka_consumer_offsets (
+          consumer_group,
+          topic,
+          partition_id,
+          committed_offset,
+          recent_event_ids,
+          updated_at
+      )
+      SELECT ?, ?, ?, ?, ARRAY[CAST(? AS UUID)], NOW()
+      WHERE NOT EXISTS (
+          SELECT 1
+          FROM kafka_consumer_offsets seen
+          WHERE seen.consumer_group = ?
+            AND seen.topic = ?
+            AND seen.partition_id <> ?
+            AND CAST(? AS UUID) = ANY (seen.recent_event_ids)
+      )
+      ON CONFLICT (consumer_group, topic, partition_id) DO UPDATE
+      SET committed_offset = EXCLUDED.committed_offset,
+          recent_event_ids =
+              (EXCLUDED.recent_event_ids || kafka_consumer_offsets.recent_event_ids)[1:?],
+          updated_at = EXCLUDED.updated_at
+      WHERE kafka_consumer_offsets.committed_offset < EXCLUDED.committed_offset
+        AND NOT (EXCLUDED.recent_event_ids[1] = ANY (kafka_consumer_offsets.recent_event_ids))
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final int eventIdWindow;
+
+  public JdbcOffsetWatermarkDedupeStore(JdbcTemplate jdbcTemplate) {
+    this(jdbcTemplate, DEFAULT_EVENT_ID_WINDOW);
+  }
+
+  public JdbcOffsetWatermarkDedupeStore(JdbcTemplate jdbcTemplate, int eventIdWindow) {
+    if (eventIdWindow < 1) {
+      throw new IllegalArgumentException("eventIdWindow must be >= 1");
+    }
+    this.jdbcTemplate = jdbcTemplate;
+    this.eventIdWindow = eventIdWindow;
+  }
+
+  @Override
+  public boolean tryAdvance(ConsumedEventPosition position) {
+    jdbcTemplate.query(
+        EVENT_LOCK_SQL,
+        (RowCallbackHandler) rs -> {},
+        position.consumerGroup() + "/" + position.topic() + "/" + position.eventId());
+    int updated =
+        jdbcTemplate.update(
+            ADVANCE_SQL,
+            position.consumerGroup(),
+            position.topic(),
+            position.partition(),
+            position.offset(),
+            position.eventId(),
+            position.consumerGroup(),
+            position.topic(),
+            position.partition(),
+            position.eventId(),
+            eventIdWindow);
+    return updated == 1;
+  }
+}
@@ -4,5 +4,5 @@ import org.apache.kafka.clients.consumer.ConsumerRecord;
 
 public interface DeadLetterPublisher {
   void publish(
-      String sourceTopic, ConsumerRecord<String, String> failedRecord, Exception exception);
+      String sourceTopic, ConsumerRecord<String, byte[]> failedRecord, Exception exception);
 }
@@ -1,12 +1,14 @@
 package com.tradingplatform.infra.kafka.errors;
 
 import com.tradingplatform.infra.kafka.config.InfraKafkaProperties;
+import com.tradingplatform.infra.kafka.contract.EventHeaders;
 import com.tradingplatform.infra.kafka.topics.TopicNameValidator;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Objects;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -21,22 +23,22 @@ public class KafkaDeadLetterPublisher implements DeadLetterPublisher {
   private static final String HEADER_EXCEPTION_MESSAGE = "x-dlq-exception-message";
   private static final String HEADER_FAILED_AT = "x-dlq-failed-at";
 
-  private final KafkaTemplate<String, String> kafkaTemplate;
+  private final KafkaTemplate<String, byte[]> kafkaTemplate;
   private final InfraKafkaProperties.DeadLetter properties;
 
   public KafkaDeadLetterPublisher(
-      KafkaTemplate<String, String> kafkaTemplate, InfraKafkaProperties.DeadLetter properties) {
+      KafkaTemplate<String, byte[]> kafkaTemplate, InfraKafkaProperties.DeadLetter properties) {
     this.kafkaTemplate = Objects.requireNonNull(kafkaTemplate, "kafkaTemplate must not be null");
     this.properties = Objects.requireNonNull(properties, "properties must not be null");
   }
 
   @Override
   public void publish(
-      String sourceTopic, ConsumerRecord<String, String> failedRecord, Exception exception) {
+      String sourceTopic, ConsumerRecord<String, byte[]> failedRecord, Exception exception) {
     String targetTopic = resolveDeadLetterTopic(sourceTopic);
-    String payload = properties.isIncludePayload() ? failedRecord.value() : null;
+    byte[] payload = properties.isIncludePayload() ? failedRecord.value() : null;
 
-    ProducerRecord<String, String> deadLetterRecord =
+    ProducerRecord<String, byte[]> deadLetterRecord =
         new ProducerRecord<>(targetTopic, failedRecord.key(), payload);
     deadLetterRecord
         .headers()
@@ -64,6 +66,10 @@ public class KafkaDeadLetterPublisher implements DeadLetterPublisher {
     deadLetterRecord
         .headers()
         .add(HEADER_FAILED_AT, Instant.now().toString().getBytes(StandardCharsets.UTF_8));
+    Header contentType = failedRecord.headers().lastHeader(EventHeaders.CONTENT_TYPE);
+    if (payload != null && contentType != null) {
+      deadLetterRecord.headers().add(EventHeaders.CONTENT_TYPE, contentType.value());
+    }
 
     kafkaTemplate
         .send(deadLetterRecord)
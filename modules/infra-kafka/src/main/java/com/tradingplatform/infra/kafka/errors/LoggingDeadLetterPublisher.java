@@ -9,7 +9,7 @@ public class LoggingDeadLetterPublisher implements DeadLetterPublisher {
 
   @Override
   public void publish(
-      String sourceTopic, ConsumerRecord<String, String> failedRecord, Exception exception) {
+      String sourceTopic, ConsumerRecord<String, byte[]> failedRecord, Exception exception) {
     log.warn(
         "Dead-lettering event from topic={} partition={} offset={} key={} error={}",
         sourceTopic,
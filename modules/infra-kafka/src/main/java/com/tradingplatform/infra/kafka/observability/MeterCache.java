@@ -0,0 +1,39 @@
+package com.tradingplatform.infra.kafka.observability;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * Resolves meters once per tag combination and hands back the registered handle afterwards.
+ *
+ * <p>Lookups walk two nested maps keyed by the tag values themselves, so a hit allocates nothing
+ * and never touches the registry; the factory only runs the first time a combination is seen.
+ */
+public final class MeterCache<M> {
+  private static final String NO_KEY = "";
+
+  private final ConcurrentHashMap<String, ConcurrentHashMap<String, M>> meters =
+      new ConcurrentHashMap<>();
+  private final BiFunction<String, String, M> factory;
+
+  public MeterCache(BiFunction<String, String, M> factory) {
+    this.factory = Objects.requireNonNull(factory, "factory must not be null");
+  }
+
+  public M get(String key) {
+    return get(key, NO_KEY);
+  }
+
+  public M get(String first, String second) {
+    ConcurrentHashMap<String, M> byFirst = meters.get(first);
+    if (byFirst == null) {
+      byFirst = meters.computeIfAbsent(first, ignored -> new ConcurrentHashMap<>());
+    }
+    M meter = byFirst.get(second);
+    if (meter == null) {
+      meter = byFirst.computeIfAbsent(second, key -> factory.apply(first, key));
+    }
+    return meter;
+  }
+}
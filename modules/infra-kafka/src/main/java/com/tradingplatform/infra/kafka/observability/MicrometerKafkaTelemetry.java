@@ -3,85 +3,60 @@ package com.tradingplatform.infra.kafka.observability;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 public class MicrometerKafkaTelemetry implements KafkaTelemetry {
+  private static final String PUBLISH_TOTAL = "infra.kafka.publish.total";
+  private static final String CONSUME_TOTAL = "infra.kafka.consume.total";
+
   private final MeterRegistry meterRegistry;
+  private final MeterCache<PublishMeters> publishMeters;
+  private final MeterCache<ConsumeMeters> consumeMeters;
+  private final MeterCache<Counter> deadLetterCounters;
 
   public MicrometerKafkaTelemetry(MeterRegistry meterRegistry) {
     this.meterRegistry = meterRegistry;
+    this.publishMeters = new MeterCache<>(PublishMeters::new);
+    this.consumeMeters = new MeterCache<>(ConsumeMeters::new);
+    this.deadLetterCounters =
+        new MeterCache<>(
+            (topic, error) ->
+                Counter.builder("infra.kafka.deadletter.total")
+                    .description("Total dead-letter events published")
+                    .tag("topic", topic)
+                    .tag("error", error)
+                    .register(meterRegistry));
   }
 
   @Override
   public void onPublishSuccess(String topic, String key, String eventType, long durationNanos) {
-    Counter.builder("infra.kafka.publish.total")
-        .description("Total Kafka publish attempts by outcome")
-        .tag("topic", safeValue(topic))
-        .tag("event_type", safeValue(eventType))
-        .tag("outcome", "success")
-        .register(meterRegistry)
-        .increment();
-
-    Timer.builder("infra.kafka.publish.duration")
-        .description("Kafka publish latency")
-        .tag("topic", safeValue(topic))
-        .tag("event_type", safeValue(eventType))
-        .register(meterRegistry)
-        .record(Math.max(0L, durationNanos), TimeUnit.NANOSECONDS);
+    PublishMeters meters = publishMeters.get(safeValue(topic), safeValue(eventType));
+    meters.success.increment();
+    meters.duration.record(Math.max(0L, durationNanos), TimeUnit.NANOSECONDS);
   }
 
   @Override
   public void onPublishFailure(String topic, String key, String eventType, Throwable error) {
-    Counter.builder("infra.kafka.publish.total")
-        .description("Total Kafka publish attempts by outcome")
-        .tag("topic", safeValue(topic))
-        .tag("event_type", safeValue(eventType))
-        .tag("outcome", "failure")
-        .tag("error", safeError(error))
-        .register(meterRegistry)
-        .increment();
+    publishMeters.get(safeValue(topic), safeValue(eventType)).failure(safeError(error)).increment();
   }
 
   @Override
   public void onConsumeSuccess(
       String topic, String key, String eventType, int partition, long offset, long durationNanos) {
-    Counter.builder("infra.kafka.consume.total")
-        .description("Total Kafka consume attempts by outcome")
-        .tag("topic", safeValue(topic))
-        .tag("event_type", safeValue(eventType))
-        .tag("outcome", "success")
-        .tag("partition", Integer.toString(Math.max(0, partition)))
-        .register(meterRegistry)
-        .increment();
-
-    Timer.builder("infra.kafka.consume.duration")
-        .description("Kafka consume processing latency")
-        .tag("topic", safeValue(topic))
-        .tag("event_type", safeValue(eventType))
-        .register(meterRegistry)
-        .record(Math.max(0L, durationNanos), TimeUnit.NANOSECONDS);
+    ConsumeMeters meters = consumeMeters.get(safeValue(topic), safeValue(eventType));
+    meters.success(Math.max(0, partition)).increment();
+    meters.duration.record(Math.max(0L, durationNanos), TimeUnit.NANOSECONDS);
   }
 
   @Override
   public void onConsumeFailure(String topic, String key, String eventType, Throwable error) {
-    Counter.builder("infra.kafka.consume.total")
-        .description("Total Kafka consume attempts by outcome")
-        .tag("topic", safeValue(topic))
-        .tag("event_type", safeValue(eventType))
-        .tag("outcome", "failure")
-        .tag("error", safeError(error))
-        .register(meterRegistry)
-        .increment();
+    consumeMeters.get(safeValue(topic), safeValue(eventType)).failure(safeError(error)).increment();
   }
 
   @Override
   public void onDeadLetter(String topic, String key, Throwable error) {
-    Counter.builder("infra.kafka.deadletter.total")
-        .description("Total dead-letter events published")
-        .tag("topic", safeValue(topic))
-        .tag("error", safeError(error))
-        .register(meterRegistry)
-        .increment();
+    deadLetterCounters.get(safeValue(topic), safeError(error)).increment();
   }
 
   private static String safeValue(String value) {
@@ -97,4 +72,100 @@ public class MicrometerKafkaTelemetry implements KafkaTelemetry {
     }
     return error.getClass().getSimpleName();
   }
+
+  private final class PublishMeters {
+    private final String topic;
+    private final String eventType;
+    private final Counter success;
+    private final Timer duration;
+    private final ConcurrentHashMap<String, Counter> failures = new ConcurrentHashMap<>();
+
+    private PublishMeters(String topic, String eventType) {
+      this.topic = topic;
+      this.eventType = eventType;
+      this.success =
+          Counter.builder(PUBLISH_TOTAL)
+              .description("Total Kafka publish attempts by outcome")
+              .tag("topic", topic)
+              .tag("event_type", eventType)
+              .tag("outcome", "success")
+              .register(meterRegistry);
+      this.duration =
+          Timer.builder("infra.kafka.publish.duration")
+              .description("Kafka publish latency")
+              .tag("topic", topic)
+              .tag("event_type", eventType)
+              .register(meterRegistry);
+    }
+
+    private Counter failure(String error) {
+      Counter counter = failures.get(error);
+      if (counter != null) {
+        return counter;
+      }
+      return failures.computeIfAbsent(
+          error,
+          key ->
+              Counter.builder(PUBLISH_TOTAL)
+                  .description("Total Kafka publish attempts by outcome")
+                  .tag("topic", topic)
+                  .tag("event_type", eventType)
+                  .tag("outcome", "failure")
+                  .tag("error", key)
+                  .register(meterRegistry));
+    }
+  }
+
+  private final class ConsumeMeters {
+    private final String topic;
+    private final String eventType;
+    private final Timer duration;
+    private final ConcurrentHashMap<Integer, Counter> successes = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> failures = new ConcurrentHashMap<>();
+
+    private ConsumeMeters(String topic, String eventType) {
+      this.topic = topic;
+      this.eventType = eventType;
+      this.duration =
+          Timer.builder("infra.kafka.consume.duration")
+              .description("Kafka consume processing latency")
+              .tag("topic", topic)
+              .tag("event_type", eventType)
+              .register(meterRegistry);
+    }
+
+    private Counter success(int partition) {
+      Counter counter = successes.get(partition);
+      if (counter != null) {
+        return counter;
+      }
+      return successes.computeIfAbsent(
+          partition,
+          key ->
+              Counter.builder(CONSUME_TOTAL)
+                  .description("Total Kafka consume attempts by outcome")
+                  .tag("topic", topic)
+                  .tag("event_type", eventType)
+                  .tag("outcome", "success")
+                  .tag("partition", Integer.toString(key))
+                  .register(meterRegistry));
+    }
+
+    private Counter failure(String error) {
+      Counter counter = failures.get(error);
+      if (counter != null) {
+        return counter;
+      }
+      return failures.computeIfAbsent(
+          error,
+          key ->
+              Counter.builder(CONSUME_TOTAL)
+                  .description("Total Kafka consume attempts by outcome")
+                  .tag("topic", topic)
+                  .tag("event_type", eventType)
+                  .tag("outcome", "failure")
+                  .tag("error", key)
+                  .register(meterRegistry));
+    }
+  }
 }
@@ -0,0 +1,81 @@
+package com.tradingplatform.infra.kafka.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records {@link StageTrace} hops as Micrometer timers with fixed SLO buckets: {@code
+ * <prefix>.stage} tagged with the stage a hop ends at, and {@code <prefix>.total} for a whole
+ * trace.
+ */
+public class StageLatencyRecorder {
+  private static final Duration[] SLO_BUCKETS = {
+    Duration.ofMillis(1),
+    Duration.ofMillis(5),
+    Duration.ofMillis(10),
+    Duration.ofMillis(25),
+    Duration.ofMillis(50),
+    Duration.ofMillis(100),
+    Duration.ofMillis(250),
+    Duration.ofMillis(500),
+    Duration.ofSeconds(1),
+    Duration.ofMillis(2500),
+    Duration.ofSeconds(5)
+  };
+
+  private final MeterRegistry meterRegistry;
+  private final String metricPrefix;
+  private final ConcurrentMap<String, Timer> stageTimers = new ConcurrentHashMap<>();
+  private final Timer totalTimer;
+
+  public StageLatencyRecorder(MeterRegistry meterRegistry, String metricPrefix) {
+    if (metricPrefix == null || metricPrefix.isBlank()) {
+      throw new IllegalArgumentException("metricPrefix must not be blank");
+    }
+    this.meterRegistry = meterRegistry;
+    this.metricPrefix = metricPrefix;
+    this.totalTimer =
+        Timer.builder(metricPrefix + ".total")
+            .description("End-to-end latency across all traced stages")
+            .serviceLevelObjectives(SLO_BUCKETS)
+            .register(meterRegistry);
+  }
+
+  /** Records the hop ending at each of {@code stages} that is present in the trace. */
+  public void recordHops(StageTrace trace, String... stages) {
+    if (trace == null || trace.isEmpty()) {
+      return;
+    }
+    for (String stage : stages) {
+      long hopMicros = trace.hopMicros(stage);
+      if (hopMicros >= 0) {
+        stageTimer(stage).record(hopMicros, TimeUnit.MICROSECONDS);
+      }
+    }
+  }
+
+  public void recordTotal(StageTrace trace, String fromStage, String toStage) {
+    if (trace == null) {
+      return;
+    }
+    long spanMicros = trace.spanMicros(fromStage, toStage);
+    if (spanMicros >= 0) {
+      totalTimer.record(spanMicros, TimeUnit.MICROSECONDS);
+    }
+  }
+
+  private Timer stageTimer(String stage) {
+    return stageTimers.computeIfAbsent(
+        stage,
+        key ->
+            Timer.builder(metricPrefix + ".stage")
+                .description("Latency of the hop ending at a traced stage")
+                .tag("stage", key)
+                .serviceLevelObjectives(SLO_BUCKETS)
+                .register(meterRegistry));
+  }
+}
@@ -0,0 +1,124 @@
+package com.tradingplatform.infra.kafka.observability;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Wall-clock timestamps, in epoch microseconds, of the stages one message has passed through, in
+ * the order they were marked. Encoded as {@code stage=micros,stage=micros} so a trace can ride in a
+ * Kafka header or a text column without a JSON round trip. Not thread-safe: a trace is owned by a
+ * single hop at a time.
+ */
+public final class StageTrace {
+  private final LinkedHashMap<String, Long> stages;
+
+  private StageTrace(LinkedHashMap<String, Long> stages) {
+    this.stages = stages;
+  }
+
+  public static StageTrace empty() {
+    return new StageTrace(new LinkedHashMap<>());
+  }
+
+  public static StageTrace start(String stage, Instant at) {
+    return empty().mark(stage, at);
+  }
+
+  /** Malformed entries are dropped rather than failing the message that carried them. */
+  public static StageTrace parse(String encoded) {
+    StageTrace trace = empty();
+    if (encoded == null || encoded.isBlank()) {
+      return trace;
+    }
+    for (String entry : encoded.split(",")) {
+      int separator = entry.indexOf('=');
+      if (separator <= 0 || separator == entry.length() - 1) {
+        continue;
+      }
+      try {
+        trace.stages.put(
+            entry.substring(0, separator).trim(),
+            Long.parseLong(entry.substring(separator + 1).trim()));
+      } catch (NumberFormatException ignored) {
+        // skip
+      }
+    }
+    return trace;
+  }
+
+  public StageTrace mark(String stage) {
+    return mark(stage, Instant.now());
+  }
+
+  public StageTrace mark(String stage, Instant at) {
+    if (stage == null || stage.isBlank() || stage.indexOf(',') >= 0 || stage.indexOf('=') >= 0) {
+      throw new IllegalArgumentException("Invalid stage name: " + stage);
+    }
+    stages.put(stage, toEpochMicros(at));
+    return this;
+  }
+
+  public boolean isEmpty() {
+    return stages.isEmpty();
+  }
+
+  public boolean has(String stage) {
+    return stages.containsKey(stage);
+  }
+
+  public Map<String, Long> stages() {
+    return Collections.unmodifiableMap(stages);
+  }
+
+  /** Micros from the stage marked just before {@code stage}; -1 when there is no such pair. */
+  public long hopMicros(String stage) {
+    Long at = stages.get(stage);
+    if (at == null) {
+      return -1L;
+    }
+    Long previous = null;
+    for (Map.Entry<String, Long> entry : stages.entrySet()) {
+      if (entry.getKey().equals(stage)) {
+        break;
+      }
+      previous = entry.getValue();
+    }
+    return previous == null ? -1L : Math.max(0L, at - previous);
+  }
+
+  public long spanMicros(String fromStage, String toStage) {
+    Long from = stages.get(fromStage);
+    Long to = stages.get(toStage);
+    if (from == null || to == null) {
+      return -1L;
+    }
+    return Math.max(0L, to - from);
+  }
+
+  public String encode() {
+    StringBuilder builder = new StringBuilder(stages.size() * 32);
+    for (Map.Entry<String, Long> entry : stages.entrySet()) {
+      if (!builder.isEmpty()) {
+        builder.append(',');
+      }
+      builder.append(entry.getKey()).append('=').append(entry.getValue());
+    }
+    return builder.toString();
+  }
+
+  public static long toEpochMicros(Instant instant) {
+    return instant.getEpochSecond() * 1_000_000L + instant.getNano() / 1_000L;
+  }
+
+  public static Instant fromEpochMicros(long epochMicros) {
+    return Instant.ofEpochSecond(
+        Math.floorDiv(epochMicros, 1_000_000L), Math.floorMod(epochMicros, 1_000_000L) * 1_000L);
+  }
+
+  @Override
+  public String toString() {
+    return encode();
+  }
+}
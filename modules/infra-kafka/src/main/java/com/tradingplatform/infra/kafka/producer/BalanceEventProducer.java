@@ -18,7 +18,7 @@ public class BalanceEventProducer {
     this.producerName = producerName;
   }
 
-  public CompletableFuture<SendResult<String, String>> publishBalanceUpdated(BalanceUpdatedV1 payload) {
+  public CompletableFuture<SendResult<String, byte[]>> publishBalanceUpdated(BalanceUpdatedV1 payload) {
     String key = requireKey(payload.accountId(), "payload.accountId");
     EventEnvelope<BalanceUpdatedV1> envelope =
         EventEnvelope.of(
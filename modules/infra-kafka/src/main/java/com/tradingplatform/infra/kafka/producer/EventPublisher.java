@@ -1,10 +1,17 @@
 package com.tradingplatform.infra.kafka.producer;
 
 import com.tradingplatform.infra.kafka.contract.EventEnvelope;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import org.springframework.kafka.support.SendResult;
 
 public interface EventPublisher {
-  <T> CompletableFuture<SendResult<String, String>> publish(
+  <T> CompletableFuture<SendResult<String, byte[]>> publish(
       String topic, String key, EventEnvelope<T> envelope);
+
+  /** Publishes with extra record headers; publishers without header support drop them. */
+  default <T> CompletableFuture<SendResult<String, byte[]>> publish(
+      String topic, String key, EventEnvelope<T> envelope, Map<String, String> extraHeaders) {
+    return publish(topic, key, envelope);
+  }
 }
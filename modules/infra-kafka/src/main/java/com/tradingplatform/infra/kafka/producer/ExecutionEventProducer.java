@@ -20,7 +20,7 @@ public class ExecutionEventProducer {
     this.producerName = producerName;
   }
 
-  public CompletableFuture<SendResult<String, String>> publishExecutionRecorded(
+  public CompletableFuture<SendResult<String, byte[]>> publishExecutionRecorded(
       ExecutionRecordedV1 payload) {
     String key = requireKey(payload.orderId(), "payload.orderId");
     EventEnvelope<ExecutionRecordedV1> envelope =
@@ -29,7 +29,7 @@ public class ExecutionEventProducer {
     return eventPublisher.publish(TopicNames.EXECUTIONS_RECORDED_V1, key, envelope);
   }
 
-  public CompletableFuture<SendResult<String, String>> publishExecutionRecordedV2(
+  public CompletableFuture<SendResult<String, byte[]>> publishExecutionRecordedV2(
       ExecutionRecordedV2 payload) {
     String key = requireKey(payload.orderId(), "payload.orderId");
     EventEnvelope<ExecutionRecordedV2> envelope =
@@ -3,10 +3,11 @@ package com.tradingplatform.infra.kafka.producer;
 import com.tradingplatform.infra.kafka.contract.EventEnvelope;
 import com.tradingplatform.infra.kafka.contract.EventHeaders;
 import com.tradingplatform.infra.kafka.observability.KafkaTelemetry;
-import com.tradingplatform.infra.kafka.serde.EventEnvelopeJsonCodec;
+import com.tradingplatform.infra.kafka.serde.EventEnvelopeCodec;
 import com.tradingplatform.infra.kafka.topics.TopicNameValidator;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
@@ -16,21 +17,21 @@ import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 
 public class KafkaEventPublisher implements EventPublisher {
-  private final KafkaTemplate<String, String> kafkaTemplate;
-  private final EventEnvelopeJsonCodec codec;
+  private final KafkaTemplate<String, byte[]> kafkaTemplate;
+  private final EventEnvelopeCodec codec;
   private final KafkaTelemetry telemetry;
   private final Duration sendTimeout;
 
   public KafkaEventPublisher(
-      KafkaTemplate<String, String> kafkaTemplate,
-      EventEnvelopeJsonCodec codec,
+      KafkaTemplate<String, byte[]> kafkaTemplate,
+      EventEnvelopeCodec codec,
       KafkaTelemetry telemetry) {
     this(kafkaTemplate, codec, telemetry, Duration.ZERO);
   }
 
   public KafkaEventPublisher(
-      KafkaTemplate<String, String> kafkaTemplate,
-      EventEnvelopeJsonCodec codec,
+      KafkaTemplate<String, byte[]> kafkaTemplate,
+      EventEnvelopeCodec codec,
       KafkaTelemetry telemetry,
       Duration sendTimeout) {
     this.kafkaTemplate = kafkaTemplate;
@@ -40,22 +41,36 @@ public class KafkaEventPublisher implements EventPublisher {
   }
 
   @Override
-  public <T> CompletableFuture<SendResult<String, String>> publish(
+  public <T> CompletableFuture<SendResult<String, byte[]>> publish(
       String topic, String key, EventEnvelope<T> envelope) {
+    return publish(topic, key, envelope, Map.of());
+  }
+
+  @Override
+  public <T> CompletableFuture<SendResult<String, byte[]>> publish(
+      String topic, String key, EventEnvelope<T> envelope, Map<String, String> extraHeaders) {
     TopicNameValidator.assertValid(topic);
     if (key == null || key.isBlank()) {
       throw new IllegalArgumentException("Kafka key must not be blank");
     }
 
     long started = System.nanoTime();
-    ProducerRecord<String, String> record =
-        new ProducerRecord<>(topic, key, codec.encode(envelope));
-    addHeaders(record, envelope);
+    ProducerRecord<String, byte[]> record =
+        new ProducerRecord<>(topic, key, codec.toBytes(envelope));
+    addHeaders(record, envelope, codec.contentType());
+    if (extraHeaders != null) {
+      extraHeaders.forEach(
+          (name, value) -> {
+            if (value != null) {
+              record.headers().add(name, value.getBytes(StandardCharsets.UTF_8));
+            }
+          });
+    }
 
-    CompletableFuture<SendResult<String, String>> sendFuture = kafkaTemplate.send(record);
-    CompletableFuture<SendResult<String, String>> effectiveFuture = applyTimeout(sendFuture);
+    CompletableFuture<SendResult<String, byte[]>> sendFuture = kafkaTemplate.send(record);
+    CompletableFuture<SendResult<String, byte[]>> effectiveFuture = applyTimeout(sendFuture);
 
-    CompletableFuture<SendResult<String, String>> result = new CompletableFuture<>();
+    CompletableFuture<SendResult<String, byte[]>> result = new CompletableFuture<>();
     effectiveFuture.whenComplete(
         (sendResult, throwable) -> {
           if (throwable == null) {
@@ -73,8 +88,8 @@ public class KafkaEventPublisher implements EventPublisher {
     return result;
   }
 
-  private CompletableFuture<SendResult<String, String>> applyTimeout(
-      CompletableFuture<SendResult<String, String>> sendFuture) {
+  private CompletableFuture<SendResult<String, byte[]>> applyTimeout(
+      CompletableFuture<SendResult<String, byte[]>> sendFuture) {
     if (sendTimeout.isZero() || sendTimeout.isNegative()) {
       return sendFuture;
     }
@@ -117,7 +132,8 @@ public class KafkaEventPublisher implements EventPublisher {
     return throwable;
   }
 
-  private static void addHeaders(ProducerRecord<String, String> record, EventEnvelope<?> envelope) {
+  private static void addHeaders(
+      ProducerRecord<String, byte[]> record, EventEnvelope<?> envelope, String contentType) {
     record
         .headers()
         .add(EventHeaders.X_EVENT_TYPE, envelope.eventType().getBytes(StandardCharsets.UTF_8));
@@ -131,10 +147,6 @@ public class KafkaEventPublisher implements EventPublisher {
         .add(
             EventHeaders.X_CORRELATION_ID,
             envelope.correlationId().getBytes(StandardCharsets.UTF_8));
-    record
-        .headers()
-        .add(
-            EventHeaders.CONTENT_TYPE,
-            EventHeaders.APPLICATION_JSON.getBytes(StandardCharsets.UTF_8));
+    record.headers().add(EventHeaders.CONTENT_TYPE, contentType.getBytes(StandardCharsets.UTF_8));
   }
 }
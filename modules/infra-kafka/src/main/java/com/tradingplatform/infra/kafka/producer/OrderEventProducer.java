@@ -21,7 +21,7 @@ public class OrderEventProducer {
     this.producerName = producerName;
   }
 
-  public CompletableFuture<SendResult<String, String>> publishOrderSubmitted(OrderSubmittedV1 payload) {
+  public CompletableFuture<SendResult<String, byte[]>> publishOrderSubmitted(OrderSubmittedV1 payload) {
     String key = requireKey(payload.orderId(), "payload.orderId");
     EventEnvelope<OrderSubmittedV1> envelope =
         EventEnvelope.of(
@@ -29,14 +29,14 @@ public class OrderEventProducer {
     return eventPublisher.publish(TopicNames.ORDERS_SUBMITTED_V1, key, envelope);
   }
 
-  public CompletableFuture<SendResult<String, String>> publishOrderUpdated(OrderUpdatedV1 payload) {
+  public CompletableFuture<SendResult<String, byte[]>> publishOrderUpdated(OrderUpdatedV1 payload) {
     String key = requireKey(payload.orderId(), "payload.orderId");
     EventEnvelope<OrderUpdatedV1> envelope =
         EventEnvelope.of(EventTypes.ORDER_UPDATED, EVENT_VERSION_V1, producerName, key, key, payload);
     return eventPublisher.publish(TopicNames.ORDERS_UPDATED_V1, key, envelope);
   }
 
-  public CompletableFuture<SendResult<String, String>> publishOrderUpdatedV3(OrderUpdatedV3 payload) {
+  public CompletableFuture<SendResult<String, byte[]>> publishOrderUpdatedV3(OrderUpdatedV3 payload) {
     String key = requireKey(payload.orderId(), "payload.orderId");
     EventEnvelope<OrderUpdatedV3> envelope =
         EventEnvelope.of(EventTypes.ORDER_UPDATED, EVENT_VERSION_V3, producerName, key, key, payload);
@@ -0,0 +1,11 @@
+package com.tradingplatform.infra.kafka.serde;
+
+import com.tradingplatform.infra.kafka.contract.EventEnvelope;
+
+public interface EventEnvelopeCodec {
+  String contentType();
+
+  byte[] toBytes(EventEnvelope<?> envelope);
+
+  <T> EventEnvelope<T> fromBytes(byte[] data, Class<T> payloadType);
+}
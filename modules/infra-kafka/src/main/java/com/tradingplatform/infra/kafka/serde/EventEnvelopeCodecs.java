@@ -0,0 +1,78 @@
+package com.tradingplatform.infra.kafka.serde;
+
+import com.tradingplatform.infra.kafka.errors.InvalidEventMetadataException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Codecs known to this process, keyed by the {@code content-type} header value they produce.
+ *
+ * <p>Producers encode with the configured publishing codec. Consumers pick the decoder from the
+ * record header and fall back to JSON when the header is absent, which covers records written
+ * before the header was introduced.
+ */
+public class EventEnvelopeCodecs {
+  private final EventEnvelopeCodec publishing;
+  private final EventEnvelopeCodec fallback;
+  private final Map<String, EventEnvelopeCodec> byContentType = new LinkedHashMap<>();
+
+  public EventEnvelopeCodecs(
+      EventEnvelopeJsonCodec jsonCodec,
+      List<EventEnvelopeCodec> codecs,
+      String publishContentType) {
+    this.fallback = Objects.requireNonNull(jsonCodec, "jsonCodec must not be null");
+    register(jsonCodec);
+    if (codecs != null) {
+      codecs.forEach(this::register);
+    }
+    String requested =
+        publishContentType == null || publishContentType.isBlank()
+            ? jsonCodec.contentType()
+            : publishContentType;
+    EventEnvelopeCodec selected = byContentType.get(normalize(requested));
+    if (selected == null) {
+      throw new IllegalArgumentException(
+          "Unsupported publish content type: "
+              + publishContentType
+              + " (supported: "
+              + byContentType.keySet()
+              + ")");
+    }
+    this.publishing = selected;
+  }
+
+  public static EventEnvelopeCodecs jsonOnly(EventEnvelopeJsonCodec jsonCodec) {
+    return new EventEnvelopeCodecs(jsonCodec, List.of(), null);
+  }
+
+  public EventEnvelopeCodec publishing() {
+    return publishing;
+  }
+
+  public EventEnvelopeCodec forContentType(String contentType) {
+    if (contentType == null || contentType.isBlank()) {
+      return fallback;
+    }
+    EventEnvelopeCodec codec = byContentType.get(contentType);
+    if (codec == null) {
+      codec = byContentType.get(normalize(contentType));
+    }
+    if (codec == null) {
+      throw new InvalidEventMetadataException("Unsupported content type: " + contentType);
+    }
+    return codec;
+  }
+
+  private void register(EventEnvelopeCodec codec) {
+    byContentType.putIfAbsent(normalize(codec.contentType()), codec);
+  }
+
+  private static String normalize(String contentType) {
+    int parameters = contentType.indexOf(';');
+    String mediaType = parameters >= 0 ? contentType.substring(0, parameters) : contentType;
+    return mediaType.trim().toLowerCase(Locale.ROOT);
+  }
+}
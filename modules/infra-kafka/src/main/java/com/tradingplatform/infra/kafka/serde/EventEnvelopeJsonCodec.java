@@ -4,14 +4,21 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tradingplatform.infra.kafka.contract.EventEnvelope;
+import com.tradingplatform.infra.kafka.contract.EventHeaders;
+import java.io.IOException;
 
-public class EventEnvelopeJsonCodec {
+public class EventEnvelopeJsonCodec implements EventEnvelopeCodec {
   private final ObjectMapper objectMapper;
 
   public EventEnvelopeJsonCodec(ObjectMapper objectMapper) {
     this.objectMapper = objectMapper;
   }
 
+  @Override
+  public String contentType() {
+    return EventHeaders.APPLICATION_JSON;
+  }
+
   public String encode(EventEnvelope<?> envelope) {
     try {
       return objectMapper.writeValueAsString(envelope);
@@ -22,11 +29,31 @@ public class EventEnvelopeJsonCodec {
 
   public <T> EventEnvelope<T> decode(String json, Class<T> payloadType) {
     try {
-      JavaType envelopeType =
-          objectMapper.getTypeFactory().constructParametricType(EventEnvelope.class, payloadType);
-      return objectMapper.readValue(json, envelopeType);
+      return objectMapper.readValue(json, envelopeType(payloadType));
     } catch (JsonProcessingException ex) {
       throw new IllegalStateException("Failed to decode event envelope", ex);
     }
   }
+
+  @Override
+  public byte[] toBytes(EventEnvelope<?> envelope) {
+    try {
+      return objectMapper.writeValueAsBytes(envelope);
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("Failed to encode event envelope", ex);
+    }
+  }
+
+  @Override
+  public <T> EventEnvelope<T> fromBytes(byte[] data, Class<T> payloadType) {
+    try {
+      return objectMapper.readValue(data, envelopeType(payloadType));
+    } catch (IOException ex) {
+      throw new IllegalStateException("Failed to decode event envelope", ex);
+    }
+  }
+
+  private JavaType envelopeType(Class<?> payloadType) {
+    return objectMapper.getTypeFactory().constructParametricType(EventEnvelope.class, payloadType);
+  }
 }
@@ -0,0 +1,48 @@
+package com.tradingplatform.infra.kafka.serde;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tradingplatform.infra.kafka.contract.EventEnvelope;
+import com.tradingplatform.infra.kafka.contract.EventHeaders;
+import java.io.IOException;
+
+/**
+ * Binary envelope encoding using Jackson Smile.
+ *
+ * <p>Smile keeps the JSON data model, so the envelope and payload records need no schema of their
+ * own: field names are back-referenced after first use, decimals are written as scaled binary
+ * integers and, with the mapper from {@link EventObjectMapperFactory#createSmile()}, instants as
+ * numeric epoch timestamps.
+ */
+public class EventEnvelopeSmileCodec implements EventEnvelopeCodec {
+  private final ObjectMapper smileMapper;
+
+  public EventEnvelopeSmileCodec(ObjectMapper smileMapper) {
+    this.smileMapper = smileMapper;
+  }
+
+  @Override
+  public String contentType() {
+    return EventHeaders.APPLICATION_SMILE;
+  }
+
+  @Override
+  public byte[] toBytes(EventEnvelope<?> envelope) {
+    try {
+      return smileMapper.writeValueAsBytes(envelope);
+    } catch (IOException ex) {
+      throw new IllegalStateException("Failed to encode event envelope", ex);
+    }
+  }
+
+  @Override
+  public <T> EventEnvelope<T> fromBytes(byte[] data, Class<T> payloadType) {
+    try {
+      JavaType envelopeType =
+          smileMapper.getTypeFactory().constructParametricType(EventEnvelope.class, payloadType);
+      return smileMapper.readValue(data, envelopeType);
+    } catch (IOException ex) {
+      throw new IllegalStateException("Failed to decode event envelope", ex);
+    }
+  }
+}
@@ -2,6 +2,7 @@ package com.tradingplatform.infra.kafka.serde;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 public final class EventObjectMapperFactory {
@@ -13,4 +14,11 @@ public final class EventObjectMapperFactory {
     mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
     return mapper;
   }
+
+  public static ObjectMapper createSmile() {
+    ObjectMapper mapper = new SmileMapper();
+    mapper.registerModule(new JavaTimeModule());
+    mapper.enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    return mapper;
+  }
 }
@@ -0,0 +1,60 @@
+package com.tradingplatform.infra.kafka.serde;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import java.io.IOException;
+
+/**
+ * A payload that is already serialized JSON, such as an outbox row.
+ *
+ * <p>JSON generators splice the text in verbatim. Other formats (Smile) copy it token by token,
+ * keeping decimals exact, which still avoids building a tree. The text is not validated here;
+ * callers pass JSON that was validated when it was stored.
+ */
+public record RawJsonPayload(String json) implements JsonSerializable {
+  private static final String EMPTY_OBJECT = "{}";
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  public RawJsonPayload {
+    if (json == null || json.isBlank()) {
+      json = EMPTY_OBJECT;
+    }
+  }
+
+  @Override
+  public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+    if (gen instanceof JsonGeneratorImpl) {
+      gen.writeRawValue(json);
+      return;
+    }
+    try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+      int depth = 0;
+      JsonToken token = parser.nextToken();
+      while (token != null) {
+        gen.copyCurrentEventExact(parser);
+        if (token.isStructStart()) {
+          depth++;
+        } else if (token.isStructEnd()) {
+          depth--;
+        }
+        if (depth == 0) {
+          return;
+        }
+        token = parser.nextToken();
+      }
+    }
+  }
+
+  @Override
+  public void serializeWithType(
+      JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+      throws IOException {
+    serialize(gen, serializers);
+  }
+}
@@ -0,0 +1,98 @@
+package com.tradingplatform.infra.kafka.conflation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.tradingplatform.infra.kafka.contract.payload.BalanceUpdatedV1;
+import com.tradingplatform.infra.kafka.contract.payload.OrderUpdatedV2;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ConflationQueueTest {
+
+  @Test
+  void shouldKeepLatestStatePerKeyInFirstArrivalOrder() {
+    ConflationQueue<OrderUpdatedV2> queue =
+        new ConflationQueue<>(ConflationPolicies.orderUpdatedV2(), 8);
+
+    assertEquals(OfferResult.ENQUEUED, queue.offer(order("o-1", "PARTIALLY_FILLED", "1")));
+    assertEquals(OfferResult.ENQUEUED, queue.offer(order("o-2", "ACK", "0")));
+    assertEquals(OfferResult.CONFLATED, queue.offer(order("o-1", "PARTIALLY_FILLED", "2")));
+    assertEquals(OfferResult.CONFLATED, queue.offer(order("o-1", "PARTIALLY_FILLED", "3")));
+
+    List<OrderUpdatedV2> drained = new ArrayList<>();
+    queue.drainTo(drained::add);
+
+    assertEquals(List.of("o-1", "o-2"), drained.stream().map(OrderUpdatedV2::orderId).toList());
+    assertEquals(new BigDecimal("3"), drained.get(0).filledQty());
+    assertEquals(2L, queue.conflatedCount());
+  }
+
+  @Test
+  void shouldNeverCollapseTerminalUpdates() {
+    ConflationQueue<OrderUpdatedV2> queue =
+        new ConflationQueue<>(ConflationPolicies.orderUpdatedV2(), 8);
+
+    queue.offer(order("o-1", "PARTIALLY_FILLED", "1"));
+    assertEquals(OfferResult.CONFLATED, queue.offer(order("o-1", "FILLED", "5")));
+    assertEquals(OfferResult.ENQUEUED, queue.offer(order("o-1", "CANCELED", "5")));
+
+    assertEquals("FILLED", queue.poll().status());
+    assertEquals("CANCELED", queue.poll().status());
+    assertNull(queue.poll());
+  }
+
+  @Test
+  void shouldRejectNewKeysWhenFullButStillAdmitTerminalUpdates() {
+    ConflationQueue<OrderUpdatedV2> queue =
+        new ConflationQueue<>(ConflationPolicies.orderUpdatedV2(), 1);
+
+    queue.offer(order("o-1", "ACK", "0"));
+
+    assertEquals(OfferResult.CONFLATED, queue.offer(order("o-1", "PARTIALLY_FILLED", "1")));
+    assertEquals(OfferResult.REJECTED, queue.offer(order("o-2", "ACK", "0")));
+    assertEquals(OfferResult.ENQUEUED, queue.offer(order("o-3", "REJECTED", "0")));
+    assertEquals(2, queue.size());
+  }
+
+  @Test
+  void shouldConflateBalancesPerAccountAndAsset() throws Exception {
+    ConflationQueue<BalanceUpdatedV1> queue =
+        new ConflationQueue<>(ConflationPolicies.balanceUpdatedV1(), 8);
+
+    queue.offer(balance("acc-1", "USDT", "10"));
+    queue.offer(balance("acc-1", "BTC", "1"));
+    queue.offer(balance("acc-1", "USDT", "7"));
+
+    assertEquals(new BigDecimal("7"), queue.poll(10, TimeUnit.MILLISECONDS).available());
+    assertEquals("BTC", queue.poll(10, TimeUnit.MILLISECONDS).asset());
+    assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+  }
+
+  private static OrderUpdatedV2 order(String orderId, String status, String filledQty) {
+    return new OrderUpdatedV2(
+        orderId,
+        "acc-1",
+        status,
+        new BigDecimal(filledQty),
+        BigDecimal.ZERO,
+        "BINANCE",
+        null,
+        null,
+        Instant.parse("2026-03-01T00:00:00Z"));
+  }
+
+  private static BalanceUpdatedV1 balance(String accountId, String asset, String available) {
+    return new BalanceUpdatedV1(
+        accountId,
+        asset,
+        new BigDecimal(available),
+        BigDecimal.ZERO,
+        "FILL",
+        Instant.parse("2026-03-01T00:00:00Z"));
+  }
+}
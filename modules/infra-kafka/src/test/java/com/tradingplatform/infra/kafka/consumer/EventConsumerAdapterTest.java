@@ -1,5 +1,7 @@
 package com.tradingplatform.infra.kafka.consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
@@ -17,19 +19,28 @@ import com.tradingplatform.infra.kafka.errors.FixedBackoffRetryPolicy;
 import com.tradingplatform.infra.kafka.errors.InvalidEventMetadataException;
 import com.tradingplatform.infra.kafka.errors.RetryPolicy;
 import com.tradingplatform.infra.kafka.observability.NoOpKafkaTelemetry;
+import com.tradingplatform.infra.kafka.serde.EventEnvelopeCodec;
+import com.tradingplatform.infra.kafka.serde.EventEnvelopeCodecs;
 import com.tradingplatform.infra.kafka.serde.EventEnvelopeJsonCodec;
+import com.tradingplatform.infra.kafka.serde.EventEnvelopeSmileCodec;
 import com.tradingplatform.infra.kafka.serde.EventObjectMapperFactory;
 import com.tradingplatform.infra.kafka.topics.TopicNames;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.junit.jupiter.api.Test;
 
 class EventConsumerAdapterTest {
   private final EventEnvelopeJsonCodec codec =
       new EventEnvelopeJsonCodec(EventObjectMapperFactory.create());
+  private final EventEnvelopeSmileCodec smileCodec =
+      new EventEnvelopeSmileCodec(EventObjectMapperFactory.createSmile());
+  private final EventEnvelopeCodecs codecs =
+      new EventEnvelopeCodecs(codec, List.of(smileCodec), EventHeaders.APPLICATION_JSON);
 
   @Test
   void shouldRouteValidMessageToHandler() throws Exception {
@@ -42,19 +53,121 @@ class EventConsumerAdapterTest {
             OrderSubmittedV1.class,
             EventTypes.ORDER_SUBMITTED,
             1,
-            codec,
+            codecs,
             handler,
             deadLetterPublisher,
             retryPolicy,
             new NoOpKafkaTelemetry());
 
-    ConsumerRecord<String, String> record = createRecord(true);
+    ConsumerRecord<String, byte[]> record = createRecord(true);
     adapter.process(record);
 
     verify(handler, times(1)).handle(any());
     verify(deadLetterPublisher, never()).publish(any(), any(), any());
   }
 
+  @Test
+  void shouldPassRecordHeadersToRecordAwareHandler() {
+    AtomicReference<String> seenTrace = new AtomicReference<>();
+    RecordAwareEventHandler<OrderSubmittedV1> handler =
+        (envelope, record) ->
+            seenTrace.set(
+                new String(
+                    record.headers().lastHeader(EventHeaders.X_STAGE_TRACE).value(),
+                    StandardCharsets.UTF_8));
+    EventConsumerAdapter<OrderSubmittedV1> adapter =
+        new EventConsumerAdapter<>(
+            OrderSubmittedV1.class,
+            EventTypes.ORDER_SUBMITTED,
+            1,
+            codecs,
+            handler,
+            mock(DeadLetterPublisher.class),
+            new FixedBackoffRetryPolicy(1, Duration.ZERO),
+            new NoOpKafkaTelemetry());
+
+    ConsumerRecord<String, byte[]> record = createRecord(true);
+    record
+        .headers()
+        .add(
+            EventHeaders.X_STAGE_TRACE,
+            "api_received=1,risk_checked=2".getBytes(StandardCharsets.UTF_8));
+    adapter.process(record);
+
+    assertEquals("api_received=1,risk_checked=2", seenTrace.get());
+  }
+
+  @Test
+  void shouldPassConsumerRecordToRecordAwareHandler() {
+    AtomicReference<ConsumerRecord<String, byte[]>> seenRecord = new AtomicReference<>();
+    RecordAwareEventHandler<OrderSubmittedV1> handler =
+        (envelope, record) -> seenRecord.set(record);
+    EventConsumerAdapter<OrderSubmittedV1> adapter =
+        new EventConsumerAdapter<>(
+            OrderSubmittedV1.class,
+            EventTypes.ORDER_SUBMITTED,
+            1,
+            codecs,
+            handler,
+            mock(DeadLetterPublisher.class),
+            new FixedBackoffRetryPolicy(1, Duration.ZERO),
+            new NoOpKafkaTelemetry());
+
+    ConsumerRecord<String, byte[]> record = createRecord(true);
+    adapter.process(record);
+
+    assertSame(record, seenRecord.get());
+  }
+
+  @Test
+  void shouldDecodeWithCodecNamedByContentTypeHeader() {
+    AtomicReference<OrderSubmittedV1> seen = new AtomicReference<>();
+    EventConsumerAdapter<OrderSubmittedV1> adapter =
+        new EventConsumerAdapter<>(
+            OrderSubmittedV1.class,
+            EventTypes.ORDER_SUBMITTED,
+            1,
+            codecs,
+            envelope -> seen.set(envelope.payload()),
+            mock(DeadLetterPublisher.class),
+            new FixedBackoffRetryPolicy(1, Duration.ZERO),
+            new NoOpKafkaTelemetry());
+
+    adapter.process(createRecord(true, smileCodec));
+
+    assertEquals(new BigDecimal("40000.00"), seen.get().price());
+    assertEquals(Instant.parse("2026-02-24T12:00:00Z"), seen.get().submittedAt());
+  }
+
+  @Test
+  void shouldDeadLetterUnsupportedContentType() throws Exception {
+    @SuppressWarnings("unchecked")
+    EventHandler<OrderSubmittedV1> handler = mock(EventHandler.class);
+    DeadLetterPublisher deadLetterPublisher = mock(DeadLetterPublisher.class);
+    EventConsumerAdapter<OrderSubmittedV1> adapter =
+        new EventConsumerAdapter<>(
+            OrderSubmittedV1.class,
+            EventTypes.ORDER_SUBMITTED,
+            1,
+            codecs,
+            handler,
+            deadLetterPublisher,
+            new FixedBackoffRetryPolicy(3, Duration.ZERO),
+            new NoOpKafkaTelemetry());
+
+    ConsumerRecord<String, byte[]> record = createRecord(true);
+    record.headers().remove(EventHeaders.CONTENT_TYPE);
+    record.headers().add(EventHeaders.CONTENT_TYPE, "avro/binary".getBytes(StandardCharsets.UTF_8));
+    adapter.process(record);
+
+    verify(handler, never()).handle(any());
+    verify(deadLetterPublisher, times(1))
+        .publish(
+            eq(TopicNames.ORDERS_SUBMITTED_V1),
+            eq(record),
+            any(InvalidEventMetadataException.class));
+  }
+
   @Test
   void shouldDeadLetterWhenMetadataIsMissing() throws Exception {
     @SuppressWarnings("unchecked")
@@ -65,13 +178,13 @@ class EventConsumerAdapterTest {
             OrderSubmittedV1.class,
             EventTypes.ORDER_SUBMITTED,
             1,
-            codec,
+            codecs,
             handler,
             deadLetterPublisher,
             new FixedBackoffRetryPolicy(3, Duration.ZERO),
             new NoOpKafkaTelemetry());
 
-    ConsumerRecord<String, String> record = createRecord(false);
+    ConsumerRecord<String, byte[]> record = createRecord(false);
     adapter.process(record);
 
     verify(handler, never()).handle(any());
@@ -92,12 +205,12 @@ class EventConsumerAdapterTest {
             OrderSubmittedV1.class,
             EventTypes.ORDER_SUBMITTED,
             1,
-            codec,
+            codecs,
             handler,
             deadLetterPublisher,
             new FixedBackoffRetryPolicy(2, Duration.ZERO),
             new NoOpKafkaTelemetry());
-    ConsumerRecord<String, String> record = createRecord(true);
+    ConsumerRecord<String, byte[]> record = createRecord(true);
 
     doThrow(new IllegalStateException("transient")).doNothing().when(handler).handle(any());
     adapter.process(record);
@@ -116,12 +229,12 @@ class EventConsumerAdapterTest {
             OrderSubmittedV1.class,
             EventTypes.ORDER_SUBMITTED,
             1,
-            codec,
+            codecs,
             handler,
             deadLetterPublisher,
             new FixedBackoffRetryPolicy(2, Duration.ZERO),
             new NoOpKafkaTelemetry());
-    ConsumerRecord<String, String> record = createRecord(true);
+    ConsumerRecord<String, byte[]> record = createRecord(true);
 
     doThrow(new IllegalStateException("boom")).when(handler).handle(any());
     adapter.process(record);
@@ -141,12 +254,12 @@ class EventConsumerAdapterTest {
             OrderSubmittedV1.class,
             EventTypes.ORDER_SUBMITTED,
             1,
-            codec,
+            codecs,
             handler,
             deadLetterPublisher,
             new FixedBackoffRetryPolicy(3, Duration.ZERO),
             new NoOpKafkaTelemetry());
-    ConsumerRecord<String, String> record = createRecord(true);
+    ConsumerRecord<String, byte[]> record = createRecord(true);
 
     doThrow(new InvalidEventMetadataException("non retryable")).when(handler).handle(any());
     adapter.process(record);
@@ -159,7 +272,12 @@ class EventConsumerAdapterTest {
             any(InvalidEventMetadataException.class));
   }
 
-  private ConsumerRecord<String, String> createRecord(boolean includeVersionHeader) {
+  private ConsumerRecord<String, byte[]> createRecord(boolean includeVersionHeader) {
+    return createRecord(includeVersionHeader, codec);
+  }
+
+  private ConsumerRecord<String, byte[]> createRecord(
+      boolean includeVersionHeader, EventEnvelopeCodec encoder) {
     EventEnvelope<OrderSubmittedV1> envelope =
         EventEnvelope.of(
             EventTypes.ORDER_SUBMITTED,
@@ -176,16 +294,14 @@ class EventConsumerAdapterTest {
                 new BigDecimal("0.01"),
                 new BigDecimal("40000.00"),
                 Instant.parse("2026-02-24T12:00:00Z")));
-    String json = codec.encode(envelope);
-
-    ConsumerRecord<String, String> record =
-        new ConsumerRecord<>(TopicNames.ORDERS_SUBMITTED_V1, 0, 0L, "ord-1001", json);
+    ConsumerRecord<String, byte[]> record =
+        new ConsumerRecord<>(
+            TopicNames.ORDERS_SUBMITTED_V1, 0, 0L, "ord-1001", encoder.toBytes(envelope));
     var headers = record.headers();
     headers.add(
         EventHeaders.X_EVENT_TYPE, EventTypes.ORDER_SUBMITTED.getBytes(StandardCharsets.UTF_8));
     headers.add(EventHeaders.X_CORRELATION_ID, "ord-1001".getBytes(StandardCharsets.UTF_8));
-    headers.add(
-        EventHeaders.CONTENT_TYPE, EventHeaders.APPLICATION_JSON.getBytes(StandardCharsets.UTF_8));
+    headers.add(EventHeaders.CONTENT_TYPE, encoder.contentType().getBytes(StandardCharsets.UTF_8));
     if (includeVersionHeader) {
       headers.add(EventHeaders.X_EVENT_VERSION, "1".getBytes(StandardCharsets.UTF_8));
     }
@@ -0,0 +1,82 @@
+package com.tradingplatform.infra.kafka.dedupe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+class JdbcOffsetWatermarkDedupeStoreTest {
+  private static final UUID EVENT_ID = UUID.fromString("6b8b4567-1234-4bba-a57c-f945f2999d01");
+
+  private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+  private final JdbcOffsetWatermarkDedupeStore store =
+      new JdbcOffsetWatermarkDedupeStore(jdbcTemplate, 64);
+
+  @Test
+  void shouldAcceptWhenWatermarkAdvances() {
+    ConsumedEventPosition position =
+        new ConsumedEventPosition("cg-exec-adapter", "orders.submitted.v2", 2, 41L, EVENT_ID);
+    when(jdbcTemplate.update(
+            anyString(),
+            eq("cg-exec-adapter"),
+            eq("orders.submitted.v2"),
+            eq(2),
+            eq(41L),
+            eq(EVENT_ID),
+            eq("cg-exec-adapter"),
+            eq("orders.submitted.v2"),
+            eq(2),
+            eq(EVENT_ID),
+            eq(64)))
+        .thenReturn(1);
+
+    assertTrue(store.tryAdvance(position));
+    verify(jdbcTemplate)
+        .query(
+            startsWith("SELECT pg_advisory_xact_lock"),
+            any(RowCallbackHandler.class),
+            eq("cg-exec-adapter/orders.submitted.v2/" + EVENT_ID));
+  }
+
+  @Test
+  void shouldReportDuplicateWhenUpsertIsFilteredOut() {
+    ConsumedEventPosition position =
+        new ConsumedEventPosition("cg-exec-adapter", "orders.submitted.v2", 2, 41L, EVENT_ID);
+
+    assertFalse(store.tryAdvance(position));
+  }
+
+  @Test
+  void shouldTakeCoordinatesFromConsumerRecord() {
+    ConsumerRecord<String, byte[]> record =
+        new ConsumerRecord<>("orders.submitted.v2", 1, 12L, "key", new byte[0]);
+
+    ConsumedEventPosition position = ConsumedEventPosition.of("cg-exec-adapter", record, EVENT_ID);
+
+    assertEquals(
+        new ConsumedEventPosition("cg-exec-adapter", "orders.submitted.v2", 1, 12L, EVENT_ID),
+        position);
+  }
+
+  @Test
+  void shouldRejectInvalidConfiguration() {
+    assertThrows(
+        IllegalArgumentException.class, () -> new JdbcOffsetWatermarkDedupeStore(jdbcTemplate, 0));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new ConsumedEventPosition(" ", "orders.submitted.v2", 0, 0L, EVENT_ID));
+  }
+}
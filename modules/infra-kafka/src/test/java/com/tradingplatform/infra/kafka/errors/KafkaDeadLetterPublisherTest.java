@@ -8,6 +8,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.tradingplatform.infra.kafka.config.InfraKafkaProperties;
+import com.tradingplatform.infra.kafka.contract.EventHeaders;
 import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletableFuture;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
@@ -22,7 +23,7 @@ class KafkaDeadLetterPublisherTest {
   @Test
   void shouldPublishToDerivedDlqTopicWithMetadataHeaders() {
     @SuppressWarnings("unchecked")
-    KafkaTemplate<String, String> kafkaTemplate = mock(KafkaTemplate.class);
+    KafkaTemplate<String, byte[]> kafkaTemplate = mock(KafkaTemplate.class);
     when(kafkaTemplate.send(any(ProducerRecord.class)))
         .thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
 
@@ -33,20 +34,31 @@ class KafkaDeadLetterPublisherTest {
     properties.setIncludePayload(true);
 
     KafkaDeadLetterPublisher publisher = new KafkaDeadLetterPublisher(kafkaTemplate, properties);
-    ConsumerRecord<String, String> failedRecord =
-        new ConsumerRecord<>("orders.submitted.v1", 2, 12L, "ord-1", "{\"foo\":\"bar\"}");
+    ConsumerRecord<String, byte[]> failedRecord =
+        new ConsumerRecord<>(
+            "orders.submitted.v1",
+            2,
+            12L,
+            "ord-1",
+            "{\"foo\":\"bar\"}".getBytes(StandardCharsets.UTF_8));
+    failedRecord
+        .headers()
+        .add(
+            EventHeaders.CONTENT_TYPE,
+            EventHeaders.APPLICATION_JSON.getBytes(StandardCharsets.UTF_8));
 
     publisher.publish("orders.submitted.v1", failedRecord, new IllegalStateException("boom"));
 
     @SuppressWarnings("unchecked")
-    ArgumentCaptor<ProducerRecord<String, String>> captor =
+    ArgumentCaptor<ProducerRecord<String, byte[]>> captor =
         ArgumentCaptor.forClass(ProducerRecord.class);
     verify(kafkaTemplate).send(captor.capture());
-    ProducerRecord<String, String> dlqRecord = captor.getValue();
+    ProducerRecord<String, byte[]> dlqRecord = captor.getValue();
 
     assertEquals("orders.submitted.dlq.v1", dlqRecord.topic());
     assertEquals("ord-1", dlqRecord.key());
-    assertEquals("{\"foo\":\"bar\"}", dlqRecord.value());
+    assertEquals("{\"foo\":\"bar\"}", new String(dlqRecord.value(), StandardCharsets.UTF_8));
+    assertEquals(EventHeaders.APPLICATION_JSON, headerValue(dlqRecord, EventHeaders.CONTENT_TYPE));
     assertEquals("orders.submitted.v1", headerValue(dlqRecord, "x-dlq-source-topic"));
     assertEquals("2", headerValue(dlqRecord, "x-dlq-source-partition"));
     assertEquals("12", headerValue(dlqRecord, "x-dlq-source-offset"));
@@ -59,7 +71,7 @@ class KafkaDeadLetterPublisherTest {
   @Test
   void shouldDropPayloadWhenConfigured() {
     @SuppressWarnings("unchecked")
-    KafkaTemplate<String, String> kafkaTemplate = mock(KafkaTemplate.class);
+    KafkaTemplate<String, byte[]> kafkaTemplate = mock(KafkaTemplate.class);
     when(kafkaTemplate.send(any(ProducerRecord.class)))
         .thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
 
@@ -67,19 +79,24 @@ class KafkaDeadLetterPublisherTest {
     properties.setIncludePayload(false);
 
     KafkaDeadLetterPublisher publisher = new KafkaDeadLetterPublisher(kafkaTemplate, properties);
-    ConsumerRecord<String, String> failedRecord =
-        new ConsumerRecord<>("orders.updated.v1", 0, 1L, "ord-2", "{\"updated\":true}");
+    ConsumerRecord<String, byte[]> failedRecord =
+        new ConsumerRecord<>(
+            "orders.updated.v1",
+            0,
+            1L,
+            "ord-2",
+            "{\"updated\":true}".getBytes(StandardCharsets.UTF_8));
 
     publisher.publish("orders.updated.v1", failedRecord, new RuntimeException("failed"));
 
     @SuppressWarnings("unchecked")
-    ArgumentCaptor<ProducerRecord<String, String>> captor =
+    ArgumentCaptor<ProducerRecord<String, byte[]>> captor =
         ArgumentCaptor.forClass(ProducerRecord.class);
     verify(kafkaTemplate).send(captor.capture());
     assertEquals(null, captor.getValue().value());
   }
 
-  private static String headerValue(ProducerRecord<String, String> record, String headerName) {
+  private static String headerValue(ProducerRecord<String, byte[]> record, String headerName) {
     Header header = record.headers().lastHeader(headerName);
     assertNotNull(header, "Expected header " + headerName + " to exist");
     return new String(header.value(), StandardCharsets.UTF_8);
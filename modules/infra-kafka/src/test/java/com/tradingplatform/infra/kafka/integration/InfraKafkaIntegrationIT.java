@@ -11,7 +11,7 @@ import com.tradingplatform.infra.kafka.errors.DeadLetterPublisher;
 import com.tradingplatform.infra.kafka.errors.RetryPolicy;
 import com.tradingplatform.infra.kafka.observability.KafkaTelemetry;
 import com.tradingplatform.infra.kafka.producer.EventPublisher;
-import com.tradingplatform.infra.kafka.serde.EventEnvelopeJsonCodec;
+import com.tradingplatform.infra.kafka.serde.EventEnvelopeCodecs;
 import com.tradingplatform.infra.kafka.topics.TopicNames;
 import com.tradingplatform.testsupport.containers.KafkaContainerBaseIT;
 import java.math.BigDecimal;
@@ -99,7 +99,7 @@ class InfraKafkaIntegrationIT extends KafkaContainerBaseIT {
 
     @Bean
     EventConsumerAdapter<OrderSubmittedV1> orderSubmittedAdapter(
-        EventEnvelopeJsonCodec codec,
+        EventEnvelopeCodecs codecs,
         DeadLetterPublisher deadLetterPublisher,
         RetryPolicy retryPolicy,
         KafkaTelemetry telemetry,
@@ -108,7 +108,7 @@ class InfraKafkaIntegrationIT extends KafkaContainerBaseIT {
           OrderSubmittedV1.class,
           EventTypes.ORDER_SUBMITTED,
           1,
-          codec,
+          codecs,
           sink::accept,
           deadLetterPublisher,
           retryPolicy,
@@ -133,7 +133,7 @@ class InfraKafkaIntegrationIT extends KafkaContainerBaseIT {
         topics = TopicNames.ORDERS_SUBMITTED_V1,
         groupId = "infra-kafka-it-listener",
         containerFactory = "infraKafkaListenerContainerFactory")
-    void onMessage(ConsumerRecord<String, String> record, Acknowledgment ack) {
+    void onMessage(ConsumerRecord<String, byte[]> record, Acknowledgment ack) {
       adapter.process(record);
       ack.acknowledge();
     }
@@ -84,4 +84,61 @@ class MicrometerKafkaTelemetryTest {
     assertEquals(1L, publishTimer.count());
     assertEquals(1L, consumeTimer.count());
   }
+
+  @Test
+  void shouldKeepSeparateSeriesWhileReusingHandles() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    MicrometerKafkaTelemetry telemetry = new MicrometerKafkaTelemetry(registry);
+
+    for (int i = 0; i < 3; i++) {
+      telemetry.onConsumeSuccess("orders.submitted.v1", "ord-1", "OrderSubmitted", 0, i, 1_000L);
+    }
+    telemetry.onConsumeSuccess("orders.submitted.v1", "ord-1", "OrderSubmitted", 2, 9L, 1_000L);
+    telemetry.onPublishFailure(
+        "orders.submitted.v1", "ord-1", "OrderSubmitted", new IllegalStateException("a"));
+    telemetry.onPublishFailure(
+        "orders.submitted.v1", "ord-1", "OrderSubmitted", new IllegalArgumentException("b"));
+    telemetry.onPublishFailure(null, "ord-1", null, null);
+
+    assertEquals(
+        3.0d,
+        registry
+            .get("infra.kafka.consume.total")
+            .tag("outcome", "success")
+            .tag("partition", "0")
+            .counter()
+            .count());
+    assertEquals(
+        1.0d,
+        registry
+            .get("infra.kafka.consume.total")
+            .tag("outcome", "success")
+            .tag("partition", "2")
+            .counter()
+            .count());
+    assertEquals(
+        4L,
+        registry
+            .get("infra.kafka.consume.duration")
+            .tag("topic", "orders.submitted.v1")
+            .timer()
+            .count());
+    assertEquals(
+        1.0d,
+        registry
+            .get("infra.kafka.publish.total")
+            .tag("outcome", "failure")
+            .tag("error", "IllegalArgumentException")
+            .counter()
+            .count());
+    assertEquals(
+        1.0d,
+        registry
+            .get("infra.kafka.publish.total")
+            .tag("topic", "unknown")
+            .tag("event_type", "unknown")
+            .tag("error", "none")
+            .counter()
+            .count());
+  }
 }
@@ -0,0 +1,76 @@
+package com.tradingplatform.infra.kafka.observability;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class StageTraceTest {
+  private static final Instant T0 = Instant.parse("2026-03-01T10:00:00Z");
+
+  @Test
+  void shouldRoundTripThroughEncodedForm() {
+    StageTrace trace =
+        StageTrace.start("api_received", T0)
+            .mark("risk_checked", T0.plusNanos(350_000))
+            .mark("order_persisted", T0.plusMillis(2));
+
+    StageTrace parsed = StageTrace.parse(trace.encode());
+
+    assertEquals(
+        List.of("api_received", "risk_checked", "order_persisted"),
+        List.copyOf(parsed.stages().keySet()));
+    assertEquals(350L, parsed.hopMicros("risk_checked"));
+    assertEquals(1_650L, parsed.hopMicros("order_persisted"));
+    assertEquals(2_000L, parsed.spanMicros("api_received", "order_persisted"));
+    assertEquals(
+        T0.plusMillis(2), StageTrace.fromEpochMicros(parsed.stages().get("order_persisted")));
+  }
+
+  @Test
+  void shouldDropMalformedEntriesWhenParsing() {
+    StageTrace parsed =
+        StageTrace.parse("api_received=10,broken,risk_checked=abc,=5,outbox_claimed=40");
+
+    assertEquals(List.of("api_received", "outbox_claimed"), List.copyOf(parsed.stages().keySet()));
+    assertEquals(30L, parsed.hopMicros("outbox_claimed"));
+    assertEquals(-1L, parsed.hopMicros("api_received"));
+    assertEquals(-1L, parsed.hopMicros("risk_checked"));
+    assertTrue(StageTrace.parse(null).isEmpty());
+  }
+
+  @Test
+  void shouldRejectStageNamesThatBreakEncoding() {
+    assertThrows(IllegalArgumentException.class, () -> StageTrace.empty().mark("a=b", T0));
+    assertThrows(IllegalArgumentException.class, () -> StageTrace.empty().mark("a,b", T0));
+  }
+
+  @Test
+  void shouldRecordHopAndTotalTimers() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    StageLatencyRecorder recorder = new StageLatencyRecorder(registry, "order.latency");
+    StageTrace trace =
+        StageTrace.start("api_received", T0)
+            .mark("risk_checked", T0.plusMillis(1))
+            .mark("order_persisted", T0.plusMillis(4));
+
+    recorder.recordHops(trace, "risk_checked", "order_persisted", "outbox_claimed");
+    recorder.recordTotal(trace, "api_received", "order_persisted");
+
+    assertEquals(
+        1L, registry.get("order.latency.stage").tag("stage", "risk_checked").timer().count());
+    assertEquals(
+        3.0d,
+        registry
+            .get("order.latency.stage")
+            .tag("stage", "order_persisted")
+            .timer()
+            .totalTime(java.util.concurrent.TimeUnit.MILLISECONDS));
+    assertTrue(registry.find("order.latency.stage").tag("stage", "outbox_claimed").timer() == null);
+    assertEquals(1L, registry.get("order.latency.total").timer().count());
+  }
+}
@@ -14,6 +14,7 @@ import com.tradingplatform.infra.kafka.contract.EventTypes;
 import com.tradingplatform.infra.kafka.contract.payload.OrderSubmittedV1;
 import com.tradingplatform.infra.kafka.observability.NoOpKafkaTelemetry;
 import com.tradingplatform.infra.kafka.serde.EventEnvelopeJsonCodec;
+import com.tradingplatform.infra.kafka.serde.EventEnvelopeSmileCodec;
 import com.tradingplatform.infra.kafka.serde.EventObjectMapperFactory;
 import com.tradingplatform.infra.kafka.topics.TopicNames;
 import java.math.BigDecimal;
@@ -33,14 +34,14 @@ class KafkaEventPublisherTest {
   @Test
   void shouldPublishWithRequiredHeadersAndKey() throws Exception {
     @SuppressWarnings("unchecked")
-    KafkaTemplate<String, String> kafkaTemplate = mock(KafkaTemplate.class);
+    KafkaTemplate<String, byte[]> kafkaTemplate = mock(KafkaTemplate.class);
     EventEnvelopeJsonCodec codec = new EventEnvelopeJsonCodec(EventObjectMapperFactory.create());
     KafkaEventPublisher publisher =
         new KafkaEventPublisher(kafkaTemplate, codec, new NoOpKafkaTelemetry());
 
-    ProducerRecord<String, String> mockedResultRecord =
-        new ProducerRecord<>(TopicNames.ORDERS_SUBMITTED_V1, "ord-1001", "{}");
-    CompletableFuture<SendResult<String, String>> sendFuture =
+    ProducerRecord<String, byte[]> mockedResultRecord =
+        new ProducerRecord<>(TopicNames.ORDERS_SUBMITTED_V1, "ord-1001", new byte[0]);
+    CompletableFuture<SendResult<String, byte[]>> sendFuture =
         CompletableFuture.completedFuture(new SendResult<>(mockedResultRecord, null));
     when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(sendFuture);
 
@@ -64,10 +65,10 @@ class KafkaEventPublisherTest {
     publisher.publish(TopicNames.ORDERS_SUBMITTED_V1, "ord-1001", envelope).get();
 
     @SuppressWarnings("unchecked")
-    ArgumentCaptor<ProducerRecord<String, String>> captor =
+    ArgumentCaptor<ProducerRecord<String, byte[]>> captor =
         ArgumentCaptor.forClass(ProducerRecord.class);
     verify(kafkaTemplate).send(captor.capture());
-    ProducerRecord<String, String> actualRecord = captor.getValue();
+    ProducerRecord<String, byte[]> actualRecord = captor.getValue();
 
     assertEquals(TopicNames.ORDERS_SUBMITTED_V1, actualRecord.topic());
     assertEquals("ord-1001", actualRecord.key());
@@ -79,7 +80,50 @@ class KafkaEventPublisherTest {
         EventHeaders.APPLICATION_JSON, headerValue(actualRecord, EventHeaders.CONTENT_TYPE));
   }
 
-  private static String headerValue(ProducerRecord<String, String> record, String headerName) {
+  @Test
+  void shouldEncodeWithPublishingCodecAndAdvertiseItsContentType() throws Exception {
+    @SuppressWarnings("unchecked")
+    KafkaTemplate<String, byte[]> kafkaTemplate = mock(KafkaTemplate.class);
+    EventEnvelopeSmileCodec codec =
+        new EventEnvelopeSmileCodec(EventObjectMapperFactory.createSmile());
+    KafkaEventPublisher publisher =
+        new KafkaEventPublisher(kafkaTemplate, codec, new NoOpKafkaTelemetry());
+    when(kafkaTemplate.send(any(ProducerRecord.class)))
+        .thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+
+    EventEnvelope<OrderSubmittedV1> envelope =
+        EventEnvelope.of(
+            EventTypes.ORDER_SUBMITTED,
+            1,
+            "trading-api",
+            "ord-1001",
+            "ord-1001",
+            new OrderSubmittedV1(
+                "ord-1001",
+                "acc-2001",
+                "BTCUSDT",
+                "BUY",
+                "LIMIT",
+                new BigDecimal("0.01"),
+                new BigDecimal("40000.00"),
+                Instant.parse("2026-02-24T12:00:00Z")));
+
+    publisher.publish(TopicNames.ORDERS_SUBMITTED_V1, "ord-1001", envelope).get();
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<ProducerRecord<String, byte[]>> captor =
+        ArgumentCaptor.forClass(ProducerRecord.class);
+    verify(kafkaTemplate).send(captor.capture());
+    ProducerRecord<String, byte[]> actualRecord = captor.getValue();
+
+    assertEquals(
+        EventHeaders.APPLICATION_SMILE, headerValue(actualRecord, EventHeaders.CONTENT_TYPE));
+    assertEquals(
+        envelope.payload(),
+        codec.fromBytes(actualRecord.value(), OrderSubmittedV1.class).payload());
+  }
+
+  private static String headerValue(ProducerRecord<String, byte[]> record, String headerName) {
     Header header = record.headers().lastHeader(headerName);
     assertNotNull(header, "Expected header " + headerName + " to exist");
     return new String(header.value(), StandardCharsets.UTF_8);
@@ -88,12 +132,12 @@ class KafkaEventPublisherTest {
   @Test
   void shouldWrapPublishFailureWithKafkaPublishException() {
     @SuppressWarnings("unchecked")
-    KafkaTemplate<String, String> kafkaTemplate = mock(KafkaTemplate.class);
+    KafkaTemplate<String, byte[]> kafkaTemplate = mock(KafkaTemplate.class);
     EventEnvelopeJsonCodec codec = new EventEnvelopeJsonCodec(EventObjectMapperFactory.create());
     KafkaEventPublisher publisher =
         new KafkaEventPublisher(kafkaTemplate, codec, new NoOpKafkaTelemetry(), Duration.ZERO);
 
-    CompletableFuture<SendResult<String, String>> failedFuture = new CompletableFuture<>();
+    CompletableFuture<SendResult<String, byte[]>> failedFuture = new CompletableFuture<>();
     failedFuture.completeExceptionally(new IllegalStateException("broker unavailable"));
     when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(failedFuture);
 
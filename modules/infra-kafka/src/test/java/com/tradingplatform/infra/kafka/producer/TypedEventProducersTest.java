@@ -29,7 +29,7 @@ class TypedEventProducersTest {
   @Test
   void shouldPublishOrderSubmittedUsingStandardTopicAndEnvelope() {
     EventPublisher eventPublisher = mock(EventPublisher.class);
-    CompletableFuture<SendResult<String, String>> sendFuture = CompletableFuture.completedFuture(null);
+    CompletableFuture<SendResult<String, byte[]>> sendFuture = CompletableFuture.completedFuture(null);
     when(eventPublisher.publish(anyString(), anyString(), any())).thenReturn(sendFuture);
 
     OrderEventProducer producer = new OrderEventProducer(eventPublisher, "worker-exec");
@@ -62,7 +62,7 @@ class TypedEventProducersTest {
   @Test
   void shouldPublishOrderUpdatedUsingOrdersUpdatedTopic() {
     EventPublisher eventPublisher = mock(EventPublisher.class);
-    CompletableFuture<SendResult<String, String>> sendFuture = CompletableFuture.completedFuture(null);
+    CompletableFuture<SendResult<String, byte[]>> sendFuture = CompletableFuture.completedFuture(null);
     when(eventPublisher.publish(anyString(), anyString(), any())).thenReturn(sendFuture);
 
     OrderEventProducer producer = new OrderEventProducer(eventPublisher, "worker-exec");
@@ -84,7 +84,7 @@ class TypedEventProducersTest {
   @Test
   void shouldPublishExecutionAndBalanceUsingStandardTopics() {
     EventPublisher eventPublisher = mock(EventPublisher.class);
-    CompletableFuture<SendResult<String, String>> sendFuture = CompletableFuture.completedFuture(null);
+    CompletableFuture<SendResult<String, byte[]>> sendFuture = CompletableFuture.completedFuture(null);
     when(eventPublisher.publish(anyString(), anyString(), any())).thenReturn(sendFuture);
 
     ExecutionEventProducer executionProducer = new ExecutionEventProducer(eventPublisher, "worker-exec");
@@ -133,7 +133,7 @@ class TypedEventProducersTest {
   @Test
   void shouldPublishOrderUpdatedV3OnV3Topic() {
     EventPublisher eventPublisher = mock(EventPublisher.class);
-    CompletableFuture<SendResult<String, String>> sendFuture = CompletableFuture.completedFuture(null);
+    CompletableFuture<SendResult<String, byte[]>> sendFuture = CompletableFuture.completedFuture(null);
     when(eventPublisher.publish(anyString(), anyString(), any())).thenReturn(sendFuture);
 
     OrderEventProducer producer = new OrderEventProducer(eventPublisher, "worker-exec");
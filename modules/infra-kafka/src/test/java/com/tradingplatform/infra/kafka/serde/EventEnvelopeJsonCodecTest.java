@@ -2,6 +2,7 @@ package com.tradingplatform.infra.kafka.serde;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.tradingplatform.infra.kafka.contract.EventEnvelope;
 import com.tradingplatform.infra.kafka.contract.EventTypes;
@@ -41,4 +42,27 @@ class EventEnvelopeJsonCodecTest {
     assertEquals(source.key(), decoded.key());
     assertEquals(source.payload(), decoded.payload());
   }
+
+  @Test
+  void shouldSpliceRawJsonPayloadVerbatim() {
+    String stored =
+        "{\"orderId\": \"ord-1001\", \"accountId\": \"acc-2001\", \"instrument\": \"BTCUSDT\","
+            + " \"side\": \"BUY\", \"type\": \"LIMIT\", \"qty\": 0.015,"
+            + " \"price\": 42000.00, \"submittedAt\": \"2026-02-24T12:00:00Z\"}";
+    EventEnvelope<RawJsonPayload> source =
+        EventEnvelope.of(
+            EventTypes.ORDER_SUBMITTED,
+            1,
+            "worker-exec",
+            "ord-1001",
+            "ord-1001",
+            new RawJsonPayload(stored));
+
+    String json = codec.encode(source);
+    EventEnvelope<OrderSubmittedV1> decoded = codec.decode(json, OrderSubmittedV1.class);
+
+    assertTrue(json.contains("\"payload\":" + stored));
+    assertEquals(new BigDecimal("42000.00"), decoded.payload().price());
+    assertEquals("ord-1001", decoded.payload().orderId());
+  }
 }
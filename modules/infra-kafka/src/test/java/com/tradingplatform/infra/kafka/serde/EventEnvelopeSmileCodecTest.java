@@ -0,0 +1,87 @@
+package com.tradingplatform.infra.kafka.serde;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tradingplatform.infra.kafka.contract.EventEnvelope;
+import com.tradingplatform.infra.kafka.contract.EventHeaders;
+import com.tradingplatform.infra.kafka.contract.EventTypes;
+import com.tradingplatform.infra.kafka.contract.payload.OrderSubmittedV1;
+import com.tradingplatform.infra.kafka.errors.InvalidEventMetadataException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class EventEnvelopeSmileCodecTest {
+  private final EventEnvelopeJsonCodec jsonCodec =
+      new EventEnvelopeJsonCodec(EventObjectMapperFactory.create());
+  private final EventEnvelopeSmileCodec smileCodec =
+      new EventEnvelopeSmileCodec(EventObjectMapperFactory.createSmile());
+
+  @Test
+  void shouldRoundTripEnvelopeInFewerBytesThanJson() {
+    EventEnvelope<OrderSubmittedV1> source =
+        EventEnvelope.of(
+            EventTypes.ORDER_SUBMITTED,
+            1,
+            "trading-api",
+            "ord-1001",
+            "ord-1001",
+            new OrderSubmittedV1(
+                "ord-1001",
+                "acc-2001",
+                "BTCUSDT",
+                "BUY",
+                "LIMIT",
+                new BigDecimal("0.015"),
+                new BigDecimal("42000.00"),
+                Instant.parse("2026-02-24T12:00:00.123456Z")));
+
+    byte[] smile = smileCodec.toBytes(source);
+    EventEnvelope<OrderSubmittedV1> decoded = smileCodec.fromBytes(smile, OrderSubmittedV1.class);
+
+    assertEquals(source.eventId(), decoded.eventId());
+    assertEquals(source.occurredAt(), decoded.occurredAt());
+    assertEquals(source.payload(), decoded.payload());
+    assertTrue(smile.length < jsonCodec.toBytes(source).length);
+  }
+
+  @Test
+  void shouldStreamRawJsonPayloadIntoSmile() {
+    EventEnvelope<RawJsonPayload> source =
+        EventEnvelope.of(
+            EventTypes.ORDER_SUBMITTED,
+            1,
+            "worker-exec",
+            "ord-1001",
+            "ord-1001",
+            new RawJsonPayload(
+                "{\"orderId\":\"ord-1001\",\"accountId\":\"acc-2001\",\"instrument\":\"BTCUSDT\","
+                    + "\"side\":\"BUY\",\"type\":\"LIMIT\",\"qty\":0.015,"
+                    + "\"price\":42000.00,\"submittedAt\":\"2026-02-24T12:00:00Z\"}"));
+
+    EventEnvelope<OrderSubmittedV1> decoded =
+        smileCodec.fromBytes(smileCodec.toBytes(source), OrderSubmittedV1.class);
+
+    assertEquals(new BigDecimal("0.015"), decoded.payload().qty());
+    assertEquals(Instant.parse("2026-02-24T12:00:00Z"), decoded.payload().submittedAt());
+  }
+
+  @Test
+  void shouldResolveCodecsByContentTypeAndFallBackToJson() {
+    EventEnvelopeCodecs codecs =
+        new EventEnvelopeCodecs(jsonCodec, List.of(smileCodec), EventHeaders.APPLICATION_SMILE);
+
+    assertSame(smileCodec, codecs.publishing());
+    assertSame(smileCodec, codecs.forContentType("Application/X-Jackson-Smile; v=1"));
+    assertSame(jsonCodec, codecs.forContentType(EventHeaders.APPLICATION_JSON));
+    assertSame(jsonCodec, codecs.forContentType(null));
+    assertThrows(InvalidEventMetadataException.class, () -> codecs.forContentType("avro/binary"));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new EventEnvelopeCodecs(jsonCodec, List.of(), EventHeaders.APPLICATION_SMILE));
+  }
+}
@@ -1,4 +1,4 @@
-package com.tradingplatform.tradingapi.idempotency.hash;
+package com.tradingplatform.infra.web.idempotency;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.nio.charset.StandardCharsets;
@@ -8,9 +8,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import org.springframework.stereotype.Component;
 
-@Component
+/**
+ * SHA-256 over the method, path, canonical query string and body of a request, so a retried request
+ * can be matched to the original regardless of query parameter order.
+ */
 public class RequestHashCalculator {
   public String compute(HttpServletRequest request, byte[] requestBodyBytes) {
     MessageDigest digest = sha256Digest();
@@ -1,4 +1,4 @@
-package com.tradingplatform.tradingapi.idempotency.hash;
+package com.tradingplatform.infra.web.idempotency;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -0,0 +1,14 @@
+CREATE TABLE IF NOT EXISTS account_positions (
+    account_id UUID NOT NULL,
+    instrument VARCHAR(32) NOT NULL,
+    net_qty NUMERIC(36,18) NOT NULL DEFAULT 0,
+    avg_entry_price NUMERIC(36,18) NOT NULL DEFAULT 0,
+    realized_pnl NUMERIC(36,18) NOT NULL DEFAULT 0,
+    last_executed_at TIMESTAMPTZ NULL,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (account_id, instrument),
+    CONSTRAINT fk_account_positions_account_id
+        FOREIGN KEY (account_id) REFERENCES accounts (id),
+    CONSTRAINT ck_account_positions_avg_entry_price_non_negative
+        CHECK (avg_entry_price >= 0)
+);
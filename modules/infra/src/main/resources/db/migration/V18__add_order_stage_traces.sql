@@ -0,0 +1,14 @@
+ALTER TABLE outbox_events
+    ADD COLUMN IF NOT EXISTS stage_trace TEXT NULL;
+
+CREATE TABLE IF NOT EXISTS order_latency_traces (
+    order_id UUID PRIMARY KEY,
+    total_micros BIGINT NOT NULL,
+    stage_trace TEXT NOT NULL,
+    recorded_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    CONSTRAINT ck_order_latency_traces_total_micros_non_negative
+        CHECK (total_micros >= 0)
+);
+
+CREATE INDEX IF NOT EXISTS idx_order_latency_traces_recorded_at
+    ON order_latency_traces (recorded_at);
@@ -0,0 +1,7 @@
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_publication WHERE pubname = 'outbox_events_pub') THEN
+        CREATE PUBLICATION outbox_events_pub FOR TABLE outbox_events WITH (publish = 'insert');
+    END IF;
+END
+$$;
@@ -0,0 +1,38 @@
+CREATE TABLE IF NOT EXISTS wallet_balance_stripes (
+    account_id UUID NOT NULL,
+    asset VARCHAR(20) NOT NULL,
+    stripe SMALLINT NOT NULL,
+    available NUMERIC(36,18) NOT NULL DEFAULT 0,
+    reserved NUMERIC(36,18) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (account_id, asset, stripe),
+    CONSTRAINT fk_wallet_balance_stripes_balance
+        FOREIGN KEY (account_id, asset) REFERENCES wallet_balances (account_id, asset),
+    CONSTRAINT ck_wallet_balance_stripes_stripe_positive
+        CHECK (stripe >= 1),
+    CONSTRAINT ck_wallet_balance_stripes_available_non_negative
+        CHECK (available >= 0),
+    CONSTRAINT ck_wallet_balance_stripes_reserved_non_negative
+        CHECK (reserved >= 0)
+);
+
+ALTER TABLE wallet_reservations
+    ADD COLUMN IF NOT EXISTS stripe SMALLINT NOT NULL DEFAULT 0;
+
+-- Stripe 0 is the wallet_balances row itself; readers see the sum over all stripes.
+CREATE OR REPLACE VIEW wallet_balances_consolidated AS
+SELECT b.account_id,
+       b.asset,
+       b.available + COALESCE(s.available, 0) AS available,
+       b.reserved + COALESCE(s.reserved, 0) AS reserved,
+       GREATEST(b.updated_at, s.updated_at) AS updated_at
+FROM wallet_balances b
+LEFT JOIN (
+    SELECT account_id,
+           asset,
+           SUM(available) AS available,
+           SUM(reserved) AS reserved,
+           MAX(updated_at) AS updated_at
+    FROM wallet_balance_stripes
+    GROUP BY account_id, asset
+) s ON s.account_id = b.account_id AND s.asset = b.asset;
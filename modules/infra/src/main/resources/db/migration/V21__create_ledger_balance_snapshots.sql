@@ -0,0 +1,24 @@
+ALTER TABLE ledger_entries
+    ADD COLUMN IF NOT EXISTS ledger_seq BIGINT GENERATED ALWAYS AS IDENTITY;
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_ledger_entries_ledger_seq
+    ON ledger_entries (ledger_seq);
+
+CREATE INDEX IF NOT EXISTS idx_ledger_entries_account_asset_ledger_seq
+    ON ledger_entries (account_id, asset, ledger_seq);
+
+-- Each row is the running balance of one account/asset up to and including ledger_seq.
+CREATE TABLE IF NOT EXISTS ledger_balance_snapshots (
+    account_id UUID NOT NULL,
+    asset VARCHAR(20) NOT NULL,
+    ledger_seq BIGINT NOT NULL,
+    balance NUMERIC(36,18) NOT NULL,
+    entry_count BIGINT NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (account_id, asset, ledger_seq),
+    CONSTRAINT fk_ledger_balance_snapshots_account_id
+        FOREIGN KEY (account_id) REFERENCES accounts (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_ledger_balance_snapshots_ledger_seq
+    ON ledger_balance_snapshots (ledger_seq);
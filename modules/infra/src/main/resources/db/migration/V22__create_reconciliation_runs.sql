@@ -0,0 +1,37 @@
+CREATE TABLE IF NOT EXISTS reconciliation_runs (
+    id UUID PRIMARY KEY,
+    status VARCHAR(32) NOT NULL,
+    started_at TIMESTAMPTZ NOT NULL,
+    finished_at TIMESTAMPTZ NOT NULL,
+    totals_ms BIGINT NOT NULL,
+    drilldown_ms BIGINT NOT NULL,
+    drift_assets INT NOT NULL,
+    mismatched_accounts INT NOT NULL,
+    notes TEXT
+);
+
+CREATE INDEX IF NOT EXISTS idx_reconciliation_runs_started_at
+    ON reconciliation_runs (started_at);
+
+CREATE TABLE IF NOT EXISTS reconciliation_run_drifts (
+    run_id UUID NOT NULL,
+    asset VARCHAR(20) NOT NULL,
+    source VARCHAR(16) NOT NULL,
+    drift NUMERIC(36,18) NOT NULL,
+    PRIMARY KEY (run_id, source, asset),
+    CONSTRAINT fk_reconciliation_run_drifts_run_id
+        FOREIGN KEY (run_id) REFERENCES reconciliation_runs (id) ON DELETE CASCADE,
+    CONSTRAINT ck_reconciliation_run_drifts_source
+        CHECK (source IN ('EXTERNAL', 'LEDGER'))
+);
+
+CREATE TABLE IF NOT EXISTS reconciliation_run_mismatches (
+    run_id UUID NOT NULL,
+    account_id UUID NOT NULL,
+    asset VARCHAR(20) NOT NULL,
+    wallet_total NUMERIC(36,18) NOT NULL,
+    ledger_balance NUMERIC(36,18) NOT NULL,
+    PRIMARY KEY (run_id, account_id, asset),
+    CONSTRAINT fk_reconciliation_run_mismatches_run_id
+        FOREIGN KEY (run_id) REFERENCES reconciliation_runs (id) ON DELETE CASCADE
+);
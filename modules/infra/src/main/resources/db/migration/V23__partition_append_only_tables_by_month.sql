@@ -0,0 +1,284 @@
+-- Monthly range partitions for the append-only tables. Partitions are named <parent>_pYYYYMM and
+-- bounded on UTC month starts; a DEFAULT partition catches rows outside the precreated range.
+CREATE OR REPLACE FUNCTION ensure_monthly_partition(parent_table TEXT, month_start DATE)
+RETURNS TEXT
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    from_month DATE := date_trunc('month', month_start)::DATE;
+    partition_name TEXT := parent_table || '_p' || to_char(from_month, 'YYYYMM');
+BEGIN
+    IF to_regclass(partition_name) IS NULL THEN
+        EXECUTE format(
+            'CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+            partition_name,
+            parent_table,
+            from_month::TIMESTAMP AT TIME ZONE 'UTC',
+            (from_month + INTERVAL '1 month')::TIMESTAMP AT TIME ZONE 'UTC');
+    END IF;
+    RETURN partition_name;
+END;
+$$;
+
+CREATE OR REPLACE FUNCTION ensure_monthly_partitions(
+    parent_table TEXT, first_month DATE, last_month DATE)
+RETURNS VOID
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    month_cursor DATE := date_trunc('month', first_month)::DATE;
+BEGIN
+    WHILE month_cursor <= last_month LOOP
+        PERFORM ensure_monthly_partition(parent_table, month_cursor);
+        month_cursor := (month_cursor + INTERVAL '1 month')::DATE;
+    END LOOP;
+END;
+$$;
+
+-- order_events -------------------------------------------------------------------------------
+
+ALTER TABLE order_events RENAME TO order_events_unpartitioned;
+ALTER INDEX order_events_pkey RENAME TO order_events_unpartitioned_pkey;
+ALTER INDEX idx_order_events_order_id_created_at
+    RENAME TO idx_order_events_unpartitioned_order_id_created_at;
+ALTER INDEX idx_order_events_event_type_created_at
+    RENAME TO idx_order_events_unpartitioned_event_type_created_at;
+
+CREATE TABLE order_events (
+    id UUID NOT NULL,
+    order_id UUID NOT NULL,
+    event_type VARCHAR(64) NOT NULL,
+    from_status VARCHAR(24) NULL,
+    to_status VARCHAR(24) NOT NULL,
+    payload_json JSONB NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    CONSTRAINT order_events_pkey PRIMARY KEY (id, created_at),
+    CONSTRAINT fk_order_events_order_id
+        FOREIGN KEY (order_id) REFERENCES orders (id) ON DELETE CASCADE
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE order_events_default PARTITION OF order_events DEFAULT;
+
+SELECT ensure_monthly_partitions(
+    'order_events',
+    COALESCE((SELECT MIN(created_at) AT TIME ZONE 'UTC' FROM order_events_unpartitioned)::DATE,
+             CURRENT_DATE),
+    (date_trunc('month', NOW() AT TIME ZONE 'UTC') + INTERVAL '2 months')::DATE);
+
+INSERT INTO order_events (
+    id, order_id, event_type, from_status, to_status, payload_json, created_at
+)
+SELECT id, order_id, event_type, from_status, to_status, payload_json, created_at
+FROM order_events_unpartitioned;
+
+DROP TABLE order_events_unpartitioned;
+
+CREATE INDEX idx_order_events_order_id_created_at
+    ON order_events (order_id, created_at);
+
+CREATE INDEX idx_order_events_event_type_created_at
+    ON order_events (event_type, created_at);
+
+-- executions ---------------------------------------------------------------------------------
+
+ALTER TABLE executions RENAME TO executions_unpartitioned;
+ALTER INDEX executions_pkey RENAME TO executions_unpartitioned_pkey;
+ALTER INDEX uq_executions_exchange_trade RENAME TO uq_executions_unpartitioned_exchange_trade;
+ALTER INDEX idx_executions_account_executed_at_desc
+    RENAME TO idx_executions_unpartitioned_account_executed_at_desc;
+ALTER INDEX idx_executions_account_order_executed_at_desc
+    RENAME TO idx_executions_unpartitioned_account_order_executed_at_desc;
+ALTER INDEX idx_executions_account_instrument_executed_at_desc
+    RENAME TO idx_executions_unpartitioned_account_instrument_executed_at_desc;
+
+CREATE TABLE executions (
+    id UUID NOT NULL,
+    order_id UUID NOT NULL,
+    account_id UUID NOT NULL,
+    instrument VARCHAR(32) NOT NULL,
+    trade_id VARCHAR(64) NOT NULL,
+    exchange_name VARCHAR(32) NOT NULL,
+    exchange_order_id VARCHAR(64) NOT NULL,
+    side VARCHAR(8) NOT NULL,
+    qty NUMERIC(36,18) NOT NULL,
+    price NUMERIC(36,18) NOT NULL,
+    fee_asset VARCHAR(20) NULL,
+    fee_amount NUMERIC(36,18) NULL,
+    executed_at TIMESTAMPTZ NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    CONSTRAINT executions_pkey PRIMARY KEY (id, executed_at),
+    CONSTRAINT fk_executions_order_id
+        FOREIGN KEY (order_id) REFERENCES orders (id) ON DELETE CASCADE,
+    CONSTRAINT fk_executions_account_id
+        FOREIGN KEY (account_id) REFERENCES accounts (id),
+    CONSTRAINT ck_executions_side
+        CHECK (side IN ('BUY', 'SELL')),
+    CONSTRAINT ck_executions_qty_positive
+        CHECK (qty > 0),
+    CONSTRAINT ck_executions_price_positive
+        CHECK (price > 0),
+    CONSTRAINT ck_executions_fee_amount_non_negative
+        CHECK (fee_amount IS NULL OR fee_amount >= 0)
+) PARTITION BY RANGE (executed_at);
+
+CREATE TABLE executions_default PARTITION OF executions DEFAULT;
+
+SELECT ensure_monthly_partitions(
+    'executions',
+    COALESCE((SELECT MIN(executed_at) AT TIME ZONE 'UTC' FROM executions_unpartitioned)::DATE,
+             CURRENT_DATE),
+    (date_trunc('month', NOW() AT TIME ZONE 'UTC') + INTERVAL '2 months')::DATE);
+
+INSERT INTO executions (
+    id, order_id, account_id, instrument, trade_id, exchange_name, exchange_order_id, side, qty,
+    price, fee_asset, fee_amount, executed_at, created_at
+)
+SELECT id, order_id, account_id, instrument, trade_id, exchange_name, exchange_order_id, side,
+       qty, price, fee_asset, fee_amount, executed_at, created_at
+FROM executions_unpartitioned;
+
+DROP TABLE executions_unpartitioned;
+
+-- A trade keeps its exchange timestamp across redeliveries, so the dedupe key can carry the
+-- partition column.
+CREATE UNIQUE INDEX uq_executions_exchange_trade
+    ON executions (exchange_name, instrument, trade_id, executed_at);
+
+CREATE INDEX idx_executions_account_executed_at_desc
+    ON executions (account_id, executed_at DESC);
+
+CREATE INDEX idx_executions_account_order_executed_at_desc
+    ON executions (account_id, order_id, executed_at DESC);
+
+CREATE INDEX idx_executions_account_instrument_executed_at_desc
+    ON executions (account_id, instrument, executed_at DESC);
+
+-- ledger_entries -----------------------------------------------------------------------------
+
+ALTER TABLE ledger_entries RENAME TO ledger_entries_unpartitioned;
+ALTER INDEX ledger_entries_pkey RENAME TO ledger_entries_unpartitioned_pkey;
+ALTER INDEX idx_ledger_entries_tx_id RENAME TO idx_ledger_entries_unpartitioned_tx_id;
+ALTER INDEX idx_ledger_entries_account_asset_created_at
+    RENAME TO idx_ledger_entries_unpartitioned_account_asset_created_at;
+ALTER INDEX idx_ledger_entries_ref_type_ref_id
+    RENAME TO idx_ledger_entries_unpartitioned_ref_type_ref_id;
+ALTER INDEX ux_ledger_entries_ledger_seq RENAME TO ux_ledger_entries_unpartitioned_ledger_seq;
+ALTER INDEX idx_ledger_entries_account_asset_ledger_seq
+    RENAME TO idx_ledger_entries_unpartitioned_account_asset_ledger_seq;
+
+-- Identity columns cannot live on a partitioned table before PostgreSQL 17.
+CREATE SEQUENCE ledger_entry_seq AS BIGINT;
+
+CREATE TABLE ledger_entries (
+    id UUID NOT NULL,
+    tx_id UUID NOT NULL,
+    account_id UUID NOT NULL,
+    asset VARCHAR(20) NOT NULL,
+    direction VARCHAR(10) NOT NULL,
+    amount NUMERIC(36,18) NOT NULL,
+    ref_type VARCHAR(50) NOT NULL,
+    ref_id VARCHAR(128) NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    ledger_seq BIGINT NOT NULL DEFAULT nextval('ledger_entry_seq'),
+    CONSTRAINT ledger_entries_pkey PRIMARY KEY (id, created_at),
+    CONSTRAINT fk_ledger_entries_tx_id
+        FOREIGN KEY (tx_id) REFERENCES ledger_transactions (id) ON DELETE CASCADE,
+    CONSTRAINT fk_ledger_entries_account_id
+        FOREIGN KEY (account_id) REFERENCES accounts (id),
+    CONSTRAINT ck_ledger_entries_direction
+        CHECK (direction IN ('DEBIT', 'CREDIT')),
+    CONSTRAINT ck_ledger_entries_amount_positive
+        CHECK (amount > 0)
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE ledger_entry_seq OWNED BY ledger_entries.ledger_seq;
+
+CREATE TABLE ledger_entries_default PARTITION OF ledger_entries DEFAULT;
+
+SELECT ensure_monthly_partitions(
+    'ledger_entries',
+    COALESCE((SELECT MIN(created_at) AT TIME ZONE 'UTC' FROM ledger_entries_unpartitioned)::DATE,
+             CURRENT_DATE),
+    (date_trunc('month', NOW() AT TIME ZONE 'UTC') + INTERVAL '2 months')::DATE);
+
+INSERT INTO ledger_entries (
+    id, tx_id, account_id, asset, direction, amount, ref_type, ref_id, created_at, ledger_seq
+)
+SELECT id, tx_id, account_id, asset, direction, amount, ref_type, ref_id, created_at, ledger_seq
+FROM ledger_entries_unpartitioned;
+
+SELECT setval(
+    'ledger_entry_seq',
+    COALESCE((SELECT MAX(ledger_seq) FROM ledger_entries_unpartitioned), 0) + 1,
+    false);
+
+DROP TABLE ledger_entries_unpartitioned;
+
+CREATE INDEX idx_ledger_entries_tx_id
+    ON ledger_entries (tx_id);
+
+CREATE INDEX idx_ledger_entries_account_asset_created_at
+    ON ledger_entries (account_id, asset, created_at);
+
+CREATE INDEX idx_ledger_entries_ref_type_ref_id
+    ON ledger_entries (ref_type, ref_id);
+
+-- ledger_seq stays unique through its sequence; a unique index would have to include created_at.
+CREATE INDEX idx_ledger_entries_ledger_seq
+    ON ledger_entries (ledger_seq);
+
+CREATE INDEX idx_ledger_entries_account_asset_ledger_seq
+    ON ledger_entries (account_id, asset, ledger_seq);
+
+-- audit_log ----------------------------------------------------------------------------------
+
+ALTER TABLE audit_log RENAME TO audit_log_unpartitioned;
+ALTER INDEX audit_log_pkey RENAME TO audit_log_unpartitioned_pkey;
+ALTER INDEX idx_audit_log_entity_created_at RENAME TO idx_audit_log_unpartitioned_entity_created_at;
+ALTER INDEX idx_audit_log_action_created_at RENAME TO idx_audit_log_unpartitioned_action_created_at;
+ALTER INDEX idx_audit_log_actor_created_at RENAME TO idx_audit_log_unpartitioned_actor_created_at;
+
+CREATE TABLE audit_log (
+    id UUID NOT NULL,
+    actor_user_id VARCHAR(128) NULL,
+    action VARCHAR(100) NOT NULL,
+    entity_type VARCHAR(100) NOT NULL,
+    entity_id VARCHAR(128) NOT NULL,
+    before_json JSONB NULL,
+    after_json JSONB NULL,
+    result VARCHAR(20) NOT NULL,
+    error_code VARCHAR(100) NULL,
+    error_message TEXT NULL,
+    metadata_json JSONB NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    CONSTRAINT audit_log_pkey PRIMARY KEY (id, created_at),
+    CONSTRAINT ck_audit_log_result
+        CHECK (result IN ('SUCCESS', 'REJECTED', 'FAILED'))
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE audit_log_default PARTITION OF audit_log DEFAULT;
+
+SELECT ensure_monthly_partitions(
+    'audit_log',
+    COALESCE((SELECT MIN(created_at) AT TIME ZONE 'UTC' FROM audit_log_unpartitioned)::DATE,
+             CURRENT_DATE),
+    (date_trunc('month', NOW() AT TIME ZONE 'UTC') + INTERVAL '2 months')::DATE);
+
+INSERT INTO audit_log (
+    id, actor_user_id, action, entity_type, entity_id, before_json, after_json, result, error_code,
+    error_message, metadata_json, created_at
+)
+SELECT id, actor_user_id, action, entity_type, entity_id, before_json, after_json, result,
+       error_code, error_message, metadata_json, created_at
+FROM audit_log_unpartitioned;
+
+DROP TABLE audit_log_unpartitioned;
+
+CREATE INDEX idx_audit_log_entity_created_at
+    ON audit_log (entity_type, entity_id, created_at);
+
+CREATE INDEX idx_audit_log_action_created_at
+    ON audit_log (action, created_at);
+
+CREATE INDEX idx_audit_log_actor_created_at
+    ON audit_log (actor_user_id, created_at);
@@ -0,0 +1,17 @@
+-- One row per consumer group and partition: the highest offset applied and a short window of recent
+-- event ids (newest first) for producer-side duplicates that arrive at a new offset.
+CREATE TABLE IF NOT EXISTS kafka_consumer_offsets (
+    consumer_group VARCHAR(128) NOT NULL,
+    topic VARCHAR(128) NOT NULL,
+    partition_id INTEGER NOT NULL,
+    committed_offset BIGINT NOT NULL,
+    recent_event_ids UUID[] NOT NULL DEFAULT '{}',
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (consumer_group, topic, partition_id),
+    CONSTRAINT ck_kafka_consumer_offsets_partition_non_negative
+        CHECK (partition_id >= 0),
+    CONSTRAINT ck_kafka_consumer_offsets_offset_non_negative
+        CHECK (committed_offset >= 0)
+);
+
+DROP TABLE IF EXISTS processed_kafka_events;
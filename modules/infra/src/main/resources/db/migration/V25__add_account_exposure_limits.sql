@@ -0,0 +1,32 @@
+ALTER TABLE account_limits
+    ADD COLUMN IF NOT EXISTS max_open_orders INT NULL,
+    ADD COLUMN IF NOT EXISTS max_position NUMERIC(36,18) NULL,
+    ADD COLUMN IF NOT EXISTS max_open_notional NUMERIC(36,18) NULL,
+    ADD COLUMN IF NOT EXISTS max_orders_per_second INT NULL;
+
+ALTER TABLE account_limits
+    ADD CONSTRAINT ck_account_limits_max_open_orders_positive
+        CHECK (max_open_orders IS NULL OR max_open_orders > 0),
+    ADD CONSTRAINT ck_account_limits_max_position_positive
+        CHECK (max_position IS NULL OR max_position > 0),
+    ADD CONSTRAINT ck_account_limits_max_open_notional_positive
+        CHECK (max_open_notional IS NULL OR max_open_notional > 0),
+    ADD CONSTRAINT ck_account_limits_max_orders_per_second_positive
+        CHECK (max_orders_per_second IS NULL OR max_orders_per_second > 0);
+
+-- Periodic copy of the in-memory exposure each trading-api instance tracks. Read-only for
+-- operators; instances rebuild their state from orders and account_positions, not from here.
+CREATE TABLE IF NOT EXISTS account_exposure_snapshots (
+    account_id UUID NOT NULL,
+    instrument VARCHAR(32) NOT NULL,
+    open_orders INT NOT NULL,
+    open_notional NUMERIC(36,18) NOT NULL,
+    net_qty NUMERIC(36,18) NOT NULL,
+    snapshot_at TIMESTAMPTZ NOT NULL,
+    PRIMARY KEY (account_id, instrument),
+    CONSTRAINT ck_account_exposure_snapshots_open_orders_non_negative
+        CHECK (open_orders >= 0)
+);
+
+CREATE INDEX IF NOT EXISTS idx_account_exposure_snapshots_snapshot_at
+    ON account_exposure_snapshots (snapshot_at);
@@ -0,0 +1,23 @@
+-- Every unique index on the partitioned executions table has to carry executed_at, so a trade
+-- redelivered with a different timestamp would slip past it. The dedupe key lives in its own
+-- unpartitioned table instead; rows are tiny and outlive the archived execution partitions.
+CREATE TABLE IF NOT EXISTS execution_trade_keys (
+    exchange_name VARCHAR(32) NOT NULL,
+    instrument VARCHAR(32) NOT NULL,
+    trade_id VARCHAR(64) NOT NULL,
+    execution_id UUID NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (exchange_name, instrument, trade_id)
+);
+
+INSERT INTO execution_trade_keys (exchange_name, instrument, trade_id, execution_id, created_at)
+SELECT DISTINCT ON (exchange_name, instrument, trade_id)
+       exchange_name, instrument, trade_id, id, created_at
+FROM executions
+ORDER BY exchange_name, instrument, trade_id, executed_at
+ON CONFLICT DO NOTHING;
+
+DROP INDEX IF EXISTS uq_executions_exchange_trade;
+
+CREATE INDEX IF NOT EXISTS idx_executions_exchange_trade
+    ON executions (exchange_name, instrument, trade_id);
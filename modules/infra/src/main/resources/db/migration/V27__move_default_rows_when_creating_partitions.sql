@@ -0,0 +1,54 @@
+-- Rows outside the precreated range land in <parent>_default, and PostgreSQL refuses to create a
+-- partition whose range already has rows there. When that happens the month is built as a plain
+-- table, the matching default rows are moved into it and it is attached, all in one statement.
+CREATE OR REPLACE FUNCTION ensure_monthly_partition(parent_table TEXT, month_start DATE)
+RETURNS TEXT
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    from_month DATE := date_trunc('month', month_start)::DATE;
+    partition_name TEXT := parent_table || '_p' || to_char(from_month, 'YYYYMM');
+    default_name TEXT := parent_table || '_default';
+    from_ts TIMESTAMPTZ := from_month::TIMESTAMP AT TIME ZONE 'UTC';
+    to_ts TIMESTAMPTZ := (from_month + INTERVAL '1 month')::TIMESTAMP AT TIME ZONE 'UTC';
+    key_column TEXT;
+    has_default_rows BOOLEAN := FALSE;
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN partition_name;
+    END IF;
+
+    SELECT a.attname INTO key_column
+    FROM pg_partitioned_table p
+    JOIN pg_attribute a ON a.attrelid = p.partrelid AND a.attnum = p.partattrs[0]
+    WHERE p.partrelid = parent_table::regclass;
+
+    IF to_regclass(default_name) IS NOT NULL THEN
+        EXECUTE format(
+            'SELECT EXISTS (SELECT 1 FROM %I WHERE %I >= $1 AND %I < $2)',
+            default_name, key_column, key_column)
+        INTO has_default_rows
+        USING from_ts, to_ts;
+    END IF;
+
+    IF NOT has_default_rows THEN
+        EXECUTE format(
+            'CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+            partition_name, parent_table, from_ts, to_ts);
+        RETURN partition_name;
+    END IF;
+
+    EXECUTE format(
+        'CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS)',
+        partition_name, parent_table);
+    EXECUTE format(
+        'WITH moved AS (DELETE FROM %I WHERE %I >= $1 AND %I < $2 RETURNING *) '
+            || 'INSERT INTO %I SELECT * FROM moved',
+        default_name, key_column, key_column, partition_name)
+    USING from_ts, to_ts;
+    EXECUTE format(
+        'ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+        parent_table, partition_name, from_ts, to_ts);
+    RETURN partition_name;
+END;
+$$;
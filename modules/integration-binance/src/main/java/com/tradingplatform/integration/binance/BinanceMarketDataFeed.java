@@ -0,0 +1,11 @@
+package com.tradingplatform.integration.binance;
+
+import com.tradingplatform.domain.instruments.marketdata.MarketDataListener;
+
+public interface BinanceMarketDataFeed {
+  void start(MarketDataListener listener);
+
+  void stop();
+
+  boolean isConnected();
+}
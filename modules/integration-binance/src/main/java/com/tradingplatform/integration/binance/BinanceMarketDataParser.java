@@ -0,0 +1,65 @@
+package com.tradingplatform.integration.binance;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tradingplatform.domain.instruments.marketdata.MarketDataListener;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+
+public final class BinanceMarketDataParser {
+  public enum FrameType {
+    BOOK_TICKER,
+    TRADE,
+    IGNORED
+  }
+
+  private final ObjectMapper objectMapper;
+  private final Clock clock;
+
+  public BinanceMarketDataParser(ObjectMapper objectMapper, Clock clock) {
+    this.objectMapper = objectMapper;
+    this.clock = clock;
+  }
+
+  /** Accepts raw stream frames as well as combined-stream {@code {"stream":..,"data":..}}. */
+  public FrameType dispatch(String frame, MarketDataListener listener) {
+    JsonNode root;
+    try {
+      root = objectMapper.readTree(frame);
+    } catch (IOException ex) {
+      throw new IllegalArgumentException("Invalid market data frame", ex);
+    }
+    JsonNode data = root.has("data") ? root.get("data") : root;
+    String eventType = data.path("e").asText("");
+    String symbol = data.path("s").asText("");
+    if (symbol.isBlank()) {
+      return FrameType.IGNORED;
+    }
+    if ("trade".equals(eventType)) {
+      long tradeTime = data.path("T").asLong(0L);
+      listener.onTrade(
+          symbol,
+          decimal(data, "p"),
+          tradeTime > 0L ? Instant.ofEpochMilli(tradeTime) : clock.instant());
+      return FrameType.TRADE;
+    }
+    if ("bookTicker".equals(eventType) || (eventType.isEmpty() && data.has("b") && data.has("a"))) {
+      listener.onQuote(
+          symbol,
+          decimal(data, "b"),
+          decimal(data, "B"),
+          decimal(data, "a"),
+          decimal(data, "A"),
+          clock.instant());
+      return FrameType.BOOK_TICKER;
+    }
+    return FrameType.IGNORED;
+  }
+
+  private static BigDecimal decimal(JsonNode node, String field) {
+    String value = node.path(field).asText("");
+    return value.isBlank() ? null : new BigDecimal(value);
+  }
+}
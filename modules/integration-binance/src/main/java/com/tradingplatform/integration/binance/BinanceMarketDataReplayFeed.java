@@ -0,0 +1,62 @@
+package com.tradingplatform.integration.binance;
+
+import com.tradingplatform.domain.instruments.marketdata.MarketDataListener;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Feeds a recording of raw stream frames, one per line, through the same parser as the live client.
+ * Blank lines and lines starting with {@code #} are skipped.
+ */
+public class BinanceMarketDataReplayFeed implements BinanceMarketDataFeed {
+  private static final Logger log = LoggerFactory.getLogger(BinanceMarketDataReplayFeed.class);
+
+  private final Path recording;
+  private final BinanceMarketDataParser parser;
+  private volatile boolean replayed;
+
+  public BinanceMarketDataReplayFeed(Path recording, BinanceMarketDataParser parser) {
+    this.recording = Objects.requireNonNull(recording, "recording is required");
+    this.parser = Objects.requireNonNull(parser, "parser is required");
+  }
+
+  @Override
+  public void start(MarketDataListener listener) {
+    long frames = 0L;
+    long rejected = 0L;
+    try (BufferedReader reader = Files.newBufferedReader(recording, StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.isBlank() || line.startsWith("#")) {
+          continue;
+        }
+        try {
+          parser.dispatch(line, listener);
+          frames++;
+        } catch (RuntimeException ex) {
+          rejected++;
+        }
+      }
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Failed to replay market data from " + recording, ex);
+    }
+    replayed = true;
+    log.info(
+        "Replayed market data recording={} frames={} rejected={}", recording, frames, rejected);
+  }
+
+  @Override
+  public void stop() {}
+
+  @Override
+  public boolean isConnected() {
+    return replayed;
+  }
+}
@@ -0,0 +1,50 @@
+package com.tradingplatform.integration.binance;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+public record BinanceMarketDataStreamConfig(
+    URI wsBaseUri,
+    List<String> symbols,
+    Duration connectTimeout,
+    Duration reconnectBaseBackoff,
+    Duration reconnectMaxBackoff) {
+  public BinanceMarketDataStreamConfig {
+    if (wsBaseUri == null) {
+      throw new IllegalArgumentException("wsBaseUri is required");
+    }
+    if (symbols == null || symbols.isEmpty()) {
+      throw new IllegalArgumentException("symbols must not be empty");
+    }
+    symbols = List.copyOf(symbols);
+    if (connectTimeout == null || connectTimeout.isNegative() || connectTimeout.isZero()) {
+      throw new IllegalArgumentException("connectTimeout must be > 0");
+    }
+    if (reconnectBaseBackoff == null
+        || reconnectBaseBackoff.isNegative()
+        || reconnectBaseBackoff.isZero()) {
+      throw new IllegalArgumentException("reconnectBaseBackoff must be > 0");
+    }
+    if (reconnectMaxBackoff == null || reconnectMaxBackoff.compareTo(reconnectBaseBackoff) < 0) {
+      throw new IllegalArgumentException("reconnectMaxBackoff must be >= reconnectBaseBackoff");
+    }
+  }
+
+  public URI combinedStreamUri() {
+    String base = wsBaseUri.toString();
+    if (base.endsWith("/")) {
+      base = base.substring(0, base.length() - 1);
+    }
+    StringBuilder streams = new StringBuilder();
+    for (String symbol : symbols) {
+      String lower = symbol.trim().toLowerCase(Locale.ROOT);
+      if (!streams.isEmpty()) {
+        streams.append('/');
+      }
+      streams.append(lower).append("@bookTicker/").append(lower).append("@trade");
+    }
+    return URI.create(base + "/stream?streams=" + streams);
+  }
+}
@@ -0,0 +1,188 @@
+package com.tradingplatform.integration.binance;
+
+import com.tradingplatform.domain.instruments.marketdata.MarketDataListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class HttpBinanceMarketDataStreamClient implements BinanceMarketDataFeed {
+  private static final Logger log =
+      LoggerFactory.getLogger(HttpBinanceMarketDataStreamClient.class);
+
+  private static final String CONNECTOR_TAG_VALUE = "binance-spot";
+
+  private final HttpClient httpClient;
+  private final BinanceMarketDataParser parser;
+  private final BinanceMarketDataStreamConfig config;
+  private final MeterRegistry meterRegistry;
+  private final ScheduledExecutorService scheduler;
+  private final AtomicBoolean running = new AtomicBoolean(false);
+  private final AtomicBoolean connected = new AtomicBoolean(false);
+  private final AtomicInteger consecutiveFailures = new AtomicInteger(0);
+  private final AtomicReference<MarketDataListener> listenerRef = new AtomicReference<>();
+  private final AtomicReference<WebSocket> webSocketRef = new AtomicReference<>();
+  private final AtomicReference<ScheduledFuture<?>> reconnectTaskRef = new AtomicReference<>();
+
+  public HttpBinanceMarketDataStreamClient(
+      HttpClient httpClient,
+      BinanceMarketDataParser parser,
+      BinanceMarketDataStreamConfig config,
+      MeterRegistry meterRegistry) {
+    this.httpClient = Objects.requireNonNull(httpClient, "httpClient is required");
+    this.parser = Objects.requireNonNull(parser, "parser is required");
+    this.config = Objects.requireNonNull(config, "config is required");
+    this.meterRegistry = Objects.requireNonNull(meterRegistry, "meterRegistry is required");
+    this.scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "binance-market-data");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  @Override
+  public void start(MarketDataListener listener) {
+    listenerRef.set(Objects.requireNonNull(listener, "listener is required"));
+    if (running.compareAndSet(false, true)) {
+      scheduleReconnect(Duration.ZERO);
+    }
+  }
+
+  @Override
+  public void stop() {
+    if (!running.compareAndSet(true, false)) {
+      return;
+    }
+    ScheduledFuture<?> reconnect = reconnectTaskRef.getAndSet(null);
+    if (reconnect != null) {
+      reconnect.cancel(true);
+    }
+    WebSocket webSocket = webSocketRef.getAndSet(null);
+    if (webSocket != null) {
+      webSocket.abort();
+    }
+    connected.set(false);
+    scheduler.shutdownNow();
+  }
+
+  @Override
+  public boolean isConnected() {
+    return connected.get();
+  }
+
+  private void connect() {
+    if (!running.get()) {
+      return;
+    }
+    try {
+      httpClient
+          .newWebSocketBuilder()
+          .connectTimeout(config.connectTimeout())
+          .buildAsync(config.combinedStreamUri(), new Listener())
+          .join();
+    } catch (Exception ex) {
+      log.warn("Binance market data connect failed uri={}", config.combinedStreamUri(), ex);
+      onDisconnected();
+    }
+  }
+
+  private void onDisconnected() {
+    connected.set(false);
+    webSocketRef.set(null);
+    if (!running.get()) {
+      return;
+    }
+    meterRegistry
+        .counter("marketdata.ws.reconnect.total", "connector", CONNECTOR_TAG_VALUE)
+        .increment();
+    scheduleReconnect(nextBackoff(consecutiveFailures.incrementAndGet()));
+  }
+
+  private void scheduleReconnect(Duration delay) {
+    if (!running.get()) {
+      return;
+    }
+    reconnectTaskRef.set(
+        scheduler.schedule(this::connect, Math.max(0L, delay.toMillis()), TimeUnit.MILLISECONDS));
+  }
+
+  private Duration nextBackoff(int attempt) {
+    long base = config.reconnectBaseBackoff().toMillis();
+    long max = config.reconnectMaxBackoff().toMillis();
+    long value = base;
+    for (int i = 1; i < attempt && value < max; i++) {
+      value = Math.min(max, value * 2);
+    }
+    return Duration.ofMillis(value);
+  }
+
+  private final class Listener implements WebSocket.Listener {
+    private final AtomicBoolean terminated = new AtomicBoolean(false);
+    private final StringBuilder frameBuffer = new StringBuilder();
+
+    @Override
+    public void onOpen(WebSocket webSocket) {
+      webSocketRef.set(webSocket);
+      connected.set(true);
+      consecutiveFailures.set(0);
+      log.info("Connected Binance market data stream symbols={}", config.symbols());
+      webSocket.request(1);
+    }
+
+    @Override
+    public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+      frameBuffer.append(data);
+      if (last) {
+        handleFrame(frameBuffer.toString());
+        frameBuffer.setLength(0);
+      }
+      webSocket.request(1);
+      return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+      terminate();
+      return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public void onError(WebSocket webSocket, Throwable error) {
+      log.warn("Binance market data stream error", error);
+      terminate();
+    }
+
+    private void handleFrame(String frame) {
+      String type;
+      try {
+        type = parser.dispatch(frame, listenerRef.get()).name().toLowerCase(Locale.ROOT);
+      } catch (RuntimeException ex) {
+        type = "parse_error";
+      }
+      meterRegistry
+          .counter("marketdata.ws.messages.total", "connector", CONNECTOR_TAG_VALUE, "type", type)
+          .increment();
+    }
+
+    private void terminate() {
+      if (terminated.compareAndSet(false, true)) {
+        onDisconnected();
+      }
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package com.tradingplatform.integration.binance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tradingplatform.domain.instruments.marketdata.TopOfBook;
+import com.tradingplatform.domain.instruments.marketdata.TopOfBookCache;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class BinanceMarketDataReplayFeedTest {
+  private static final Instant NOW = Instant.parse("2026-03-01T12:00:00Z");
+
+  @Test
+  void shouldReplayRecordedFramesIntoTopOfBook() throws Exception {
+    Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+    TopOfBookCache cache = new TopOfBookCache(clock);
+    Path recording =
+        Path.of(getClass().getResource("/fixtures/binance/market-data-recording.jsonl").toURI());
+    BinanceMarketDataReplayFeed feed =
+        new BinanceMarketDataReplayFeed(
+            recording, new BinanceMarketDataParser(new ObjectMapper(), clock));
+
+    feed.start(cache);
+
+    assertTrue(feed.isConnected());
+    TopOfBook btc = cache.find("BTCUSDT").orElseThrow();
+    assertEquals(new BigDecimal("49990.00"), btc.bidPrice());
+    assertEquals(new BigDecimal("50010.00"), btc.askPrice());
+    assertEquals(new BigDecimal("50005.00"), btc.lastPrice());
+    assertEquals(
+        new BigDecimal("3000.00"),
+        cache.referencePrice("ETHUSDT", Duration.ofSeconds(5)).orElseThrow());
+  }
+
+  @Test
+  void shouldBuildCombinedStreamUri() {
+    BinanceMarketDataStreamConfig config =
+        new BinanceMarketDataStreamConfig(
+            URI.create("wss://stream.binance.com:9443/"),
+            List.of("BTCUSDT", "ethusdt"),
+            Duration.ofSeconds(5),
+            Duration.ofMillis(250),
+            Duration.ofSeconds(30));
+
+    assertEquals(
+        "wss://stream.binance.com:9443/stream?streams="
+            + "btcusdt@bookTicker/btcusdt@trade/ethusdt@bookTicker/ethusdt@trade",
+        config.combinedStreamUri().toString());
+  }
+}
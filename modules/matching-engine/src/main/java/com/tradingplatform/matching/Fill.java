@@ -0,0 +1,12 @@
+package com.tradingplatform.matching;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record Fill(
+    long matchId,
+    UUID makerOrderId,
+    UUID takerOrderId,
+    Side takerSide,
+    BigDecimal price,
+    BigDecimal qty) {}
@@ -0,0 +1,18 @@
+package com.tradingplatform.matching;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * {@code selfTradeQty} is the remainder withheld from the book because the next maker belonged to
+ * the taker's own account; it is zero whenever {@code restingQty} is not.
+ */
+public record MatchResult(List<Fill> fills, BigDecimal restingQty, BigDecimal selfTradeQty) {
+  public boolean rested() {
+    return restingQty.signum() > 0;
+  }
+
+  public boolean selfTradePrevented() {
+    return selfTradeQty.signum() > 0;
+  }
+}
@@ -0,0 +1,57 @@
+package com.tradingplatform.matching;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Holds one book per symbol, each guarded by its own lock. Commands run on the caller's thread; a
+ * caller that must keep a book unchanged across several commands holds {@link #lock(String)} around
+ * them.
+ */
+public final class MatchingEngine {
+  private final Map<String, SymbolBook> books = new ConcurrentHashMap<>();
+
+  public void register(String symbol, BigDecimal tickSize, BigDecimal lotSize) {
+    OrderBook book = new OrderBook(symbol, tickSize, lotSize);
+    if (books.putIfAbsent(book.symbol(), new SymbolBook(book, new ReentrantLock())) != null) {
+      throw new IllegalStateException("Symbol already registered: " + symbol);
+    }
+  }
+
+  public boolean handles(String symbol) {
+    return symbol != null && books.containsKey(symbol);
+  }
+
+  public Set<String> symbols() {
+    return Set.copyOf(books.keySet());
+  }
+
+  public ReentrantLock lock(String symbol) {
+    return book(symbol).lock();
+  }
+
+  /** Runs {@code command} against the symbol's book while holding its lock. */
+  public <T> T execute(String symbol, Function<OrderBook, T> command) {
+    SymbolBook entry = book(symbol);
+    entry.lock().lock();
+    try {
+      return command.apply(entry.book());
+    } finally {
+      entry.lock().unlock();
+    }
+  }
+
+  private SymbolBook book(String symbol) {
+    SymbolBook entry = symbol == null ? null : books.get(symbol);
+    if (entry == null) {
+      throw new IllegalArgumentException("Symbol not handled by matching engine: " + symbol);
+    }
+    return entry;
+  }
+
+  private record SymbolBook(OrderBook book, ReentrantLock lock) {}
+}
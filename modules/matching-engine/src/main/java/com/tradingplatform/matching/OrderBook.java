@@ -0,0 +1,260 @@
+package com.tradingplatform.matching;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Price-time priority limit order book for one instrument. Prices are held as tick counts and
+ * quantities as lot counts, so matching never touches {@link BigDecimal} arithmetic. Not thread
+ * safe: {@link MatchingEngine} guards each book with its symbol's lock.
+ *
+ * <p>A taker never trades with its own account: matching stops at the first maker from the same
+ * account and the remainder is returned as {@link MatchResult#selfTradeQty()} instead of resting,
+ * which would leave the account's orders crossed on the book.
+ */
+public final class OrderBook {
+  private final String symbol;
+  private final BigDecimal tickSize;
+  private final BigDecimal lotSize;
+  private final PriceLevelIndex bids = new PriceLevelIndex();
+  private final PriceLevelIndex asks = new PriceLevelIndex();
+  private final Map<UUID, RestingOrder> orders = new HashMap<>();
+  private long nextMatchId = 1L;
+
+  public OrderBook(String symbol, BigDecimal tickSize, BigDecimal lotSize) {
+    this.symbol = requireNonBlank(symbol, "symbol");
+    this.tickSize = requirePositive(tickSize, "tickSize");
+    this.lotSize = requirePositive(lotSize, "lotSize");
+  }
+
+  public String symbol() {
+    return symbol;
+  }
+
+  public boolean accepts(BigDecimal price, BigDecimal qty) {
+    return isPositiveMultiple(price, tickSize) && isPositiveMultiple(qty, lotSize);
+  }
+
+  public MatchResult submitLimit(
+      UUID orderId, UUID accountId, Side side, BigDecimal price, BigDecimal qty, long nowNanos) {
+    Objects.requireNonNull(orderId, "orderId must not be null");
+    Objects.requireNonNull(accountId, "accountId must not be null");
+    Objects.requireNonNull(side, "side must not be null");
+    if (orders.containsKey(orderId)) {
+      throw new IllegalStateException("Order " + orderId + " is already resting in " + symbol);
+    }
+    long limitTicks = toUnits(price, tickSize, "price");
+    long remainingLots = toUnits(qty, lotSize, "qty");
+
+    List<Fill> fills = new ArrayList<>();
+    PriceLevelIndex opposite = side == Side.BUY ? asks : bids;
+    PriceLevel level = bestLevel(opposite, side.opposite());
+    boolean selfTrade = false;
+    while (remainingLots > 0 && level != null && crosses(side, limitTicks, level.priceTicks)) {
+      RestingOrder maker = level.head;
+      while (remainingLots > 0 && maker != null) {
+        if (maker.accountId.equals(accountId)) {
+          selfTrade = true;
+          break;
+        }
+        long matchedLots = Math.min(remainingLots, maker.remainingLots);
+        fills.add(
+            new Fill(
+                nextMatchId++,
+                maker.orderId,
+                orderId,
+                side,
+                fromUnits(level.priceTicks, tickSize),
+                fromUnits(matchedLots, lotSize)));
+        remainingLots -= matchedLots;
+        RestingOrder next = maker.next;
+        if (matchedLots == maker.remainingLots) {
+          level.unlink(maker);
+          orders.remove(maker.orderId);
+        } else {
+          level.reduce(maker, matchedLots);
+        }
+        maker = next;
+      }
+      if (level.isEmpty()) {
+        opposite.remove(level.priceTicks);
+      }
+      if (selfTrade) {
+        return new MatchResult(
+            List.copyOf(fills), BigDecimal.ZERO, fromUnits(remainingLots, lotSize));
+      }
+      level = bestLevel(opposite, side.opposite());
+    }
+
+    if (remainingLots > 0) {
+      rest(new RestingOrder(orderId, accountId, side, limitTicks, remainingLots, nowNanos));
+    }
+    return new MatchResult(List.copyOf(fills), fromUnits(remainingLots, lotSize), BigDecimal.ZERO);
+  }
+
+  /** Re-inserts an order that already rested before, without matching it. */
+  public void restore(
+      UUID orderId,
+      UUID accountId,
+      Side side,
+      BigDecimal price,
+      BigDecimal remainingQty,
+      long restedAtNanos) {
+    Objects.requireNonNull(orderId, "orderId must not be null");
+    Objects.requireNonNull(accountId, "accountId must not be null");
+    Objects.requireNonNull(side, "side must not be null");
+    if (orders.containsKey(orderId)) {
+      throw new IllegalStateException("Order " + orderId + " is already resting in " + symbol);
+    }
+    rest(
+        new RestingOrder(
+            orderId,
+            accountId,
+            side,
+            toUnits(price, tickSize, "price"),
+            toUnits(remainingQty, lotSize, "remainingQty"),
+            restedAtNanos));
+  }
+
+  /** Resting orders a taker with these terms would hit, in the order they would be filled. */
+  public List<UUID> matchableMakers(UUID accountId, Side side, BigDecimal price, BigDecimal qty) {
+    long limitTicks = toUnits(price, tickSize, "price");
+    long remainingLots = toUnits(qty, lotSize, "qty");
+    PriceLevelIndex opposite = side == Side.BUY ? asks : bids;
+    List<UUID> makers = new ArrayList<>();
+    int size = opposite.size();
+    for (int i = 0; i < size && remainingLots > 0; i++) {
+      PriceLevel level = opposite.at(side == Side.BUY ? i : size - 1 - i);
+      if (!crosses(side, limitTicks, level.priceTicks)) {
+        break;
+      }
+      for (RestingOrder maker = level.head;
+          maker != null && remainingLots > 0;
+          maker = maker.next) {
+        if (maker.accountId.equals(accountId)) {
+          return makers;
+        }
+        makers.add(maker.orderId);
+        remainingLots -= Math.min(remainingLots, maker.remainingLots);
+      }
+    }
+    return makers;
+  }
+
+  public Optional<RemovedOrder> cancel(UUID orderId) {
+    RestingOrder order = orders.remove(orderId);
+    if (order == null) {
+      return Optional.empty();
+    }
+    return Optional.of(unlink(order));
+  }
+
+  /** Removes every order that has been resting since before {@code cutoffNanos}. */
+  public List<RemovedOrder> removeRestedBefore(long cutoffNanos) {
+    List<RestingOrder> expired = new ArrayList<>();
+    for (RestingOrder order : orders.values()) {
+      if (order.restedAtNanos - cutoffNanos < 0) {
+        expired.add(order);
+      }
+    }
+    List<RemovedOrder> removed = new ArrayList<>(expired.size());
+    for (RestingOrder order : expired) {
+      orders.remove(order.orderId);
+      removed.add(unlink(order));
+    }
+    return removed;
+  }
+
+  public Optional<BigDecimal> bestBid() {
+    PriceLevel level = bids.highest();
+    return level == null ? Optional.empty() : Optional.of(fromUnits(level.priceTicks, tickSize));
+  }
+
+  public Optional<BigDecimal> bestAsk() {
+    PriceLevel level = asks.lowest();
+    return level == null ? Optional.empty() : Optional.of(fromUnits(level.priceTicks, tickSize));
+  }
+
+  public BigDecimal depthAt(Side side, BigDecimal price) {
+    PriceLevel level = (side == Side.BUY ? bids : asks).get(toUnits(price, tickSize, "price"));
+    return fromUnits(level == null ? 0L : level.totalLots, lotSize);
+  }
+
+  public boolean contains(UUID orderId) {
+    return orders.containsKey(orderId);
+  }
+
+  public int size() {
+    return orders.size();
+  }
+
+  public void clear() {
+    orders.clear();
+    bids.clear();
+    asks.clear();
+  }
+
+  private void rest(RestingOrder order) {
+    PriceLevelIndex sideLevels = order.side == Side.BUY ? bids : asks;
+    sideLevels.getOrCreate(order.priceTicks).append(order);
+    orders.put(order.orderId, order);
+  }
+
+  private RemovedOrder unlink(RestingOrder order) {
+    PriceLevel level = order.level;
+    long remainingLots = order.remainingLots;
+    level.unlink(order);
+    if (level.isEmpty()) {
+      (order.side == Side.BUY ? bids : asks).remove(level.priceTicks);
+    }
+    return new RemovedOrder(
+        order.orderId,
+        order.side,
+        fromUnits(order.priceTicks, tickSize),
+        fromUnits(remainingLots, lotSize));
+  }
+
+  private static PriceLevel bestLevel(PriceLevelIndex levels, Side restingSide) {
+    return restingSide == Side.BUY ? levels.highest() : levels.lowest();
+  }
+
+  private static boolean crosses(Side takerSide, long limitTicks, long makerTicks) {
+    return takerSide == Side.BUY ? makerTicks <= limitTicks : makerTicks >= limitTicks;
+  }
+
+  private static boolean isPositiveMultiple(BigDecimal value, BigDecimal unit) {
+    return value != null && value.signum() > 0 && value.remainder(unit).signum() == 0;
+  }
+
+  private static long toUnits(BigDecimal value, BigDecimal unit, String fieldName) {
+    if (!isPositiveMultiple(value, unit)) {
+      throw new IllegalArgumentException(
+          fieldName + " must be a positive multiple of " + unit.toPlainString() + ": " + value);
+    }
+    return value.divideToIntegralValue(unit).longValueExact();
+  }
+
+  private static BigDecimal fromUnits(long units, BigDecimal unit) {
+    return unit.multiply(BigDecimal.valueOf(units));
+  }
+
+  private static BigDecimal requirePositive(BigDecimal value, String fieldName) {
+    if (value == null || value.signum() <= 0) {
+      throw new IllegalArgumentException(fieldName + " must be > 0");
+    }
+    return value;
+  }
+
+  private static String requireNonBlank(String value, String fieldName) {
+    if (value == null || value.isBlank()) {
+      throw new IllegalArgumentException(fieldName + " must not be blank");
+    }
+    return value;
+  }
+}
@@ -0,0 +1,54 @@
+package com.tradingplatform.matching;
+
+final class PriceLevel {
+  final long priceTicks;
+  RestingOrder head;
+  RestingOrder tail;
+  long totalLots;
+  int orderCount;
+
+  PriceLevel(long priceTicks) {
+    this.priceTicks = priceTicks;
+  }
+
+  void append(RestingOrder order) {
+    order.level = this;
+    order.prev = tail;
+    order.next = null;
+    if (tail == null) {
+      head = order;
+    } else {
+      tail.next = order;
+    }
+    tail = order;
+    totalLots += order.remainingLots;
+    orderCount++;
+  }
+
+  void unlink(RestingOrder order) {
+    if (order.prev == null) {
+      head = order.next;
+    } else {
+      order.prev.next = order.next;
+    }
+    if (order.next == null) {
+      tail = order.prev;
+    } else {
+      order.next.prev = order.prev;
+    }
+    totalLots -= order.remainingLots;
+    orderCount--;
+    order.prev = null;
+    order.next = null;
+    order.level = null;
+  }
+
+  void reduce(RestingOrder order, long lots) {
+    order.remainingLots -= lots;
+    totalLots -= lots;
+  }
+
+  boolean isEmpty() {
+    return head == null;
+  }
+}
@@ -0,0 +1,73 @@
+package com.tradingplatform.matching;
+
+import java.util.Arrays;
+
+/**
+ * Price levels kept in ascending tick order in parallel primitive arrays. Books hold a few hundred
+ * live levels at most, so binary search plus an array shift beats a boxed tree map on both lookup
+ * and allocation.
+ */
+final class PriceLevelIndex {
+  private static final int INITIAL_CAPACITY = 64;
+
+  private long[] ticks = new long[INITIAL_CAPACITY];
+  private PriceLevel[] levels = new PriceLevel[INITIAL_CAPACITY];
+  private int size;
+
+  PriceLevel get(long priceTicks) {
+    int index = Arrays.binarySearch(ticks, 0, size, priceTicks);
+    return index >= 0 ? levels[index] : null;
+  }
+
+  PriceLevel getOrCreate(long priceTicks) {
+    int index = Arrays.binarySearch(ticks, 0, size, priceTicks);
+    if (index >= 0) {
+      return levels[index];
+    }
+    int insertAt = -index - 1;
+    if (size == ticks.length) {
+      ticks = Arrays.copyOf(ticks, size * 2);
+      levels = Arrays.copyOf(levels, size * 2);
+    }
+    System.arraycopy(ticks, insertAt, ticks, insertAt + 1, size - insertAt);
+    System.arraycopy(levels, insertAt, levels, insertAt + 1, size - insertAt);
+    PriceLevel level = new PriceLevel(priceTicks);
+    ticks[insertAt] = priceTicks;
+    levels[insertAt] = level;
+    size++;
+    return level;
+  }
+
+  void remove(long priceTicks) {
+    int index = Arrays.binarySearch(ticks, 0, size, priceTicks);
+    if (index < 0) {
+      return;
+    }
+    System.arraycopy(ticks, index + 1, ticks, index, size - index - 1);
+    System.arraycopy(levels, index + 1, levels, index, size - index - 1);
+    size--;
+    levels[size] = null;
+  }
+
+  PriceLevel lowest() {
+    return size == 0 ? null : levels[0];
+  }
+
+  PriceLevel highest() {
+    return size == 0 ? null : levels[size - 1];
+  }
+
+  /** Level at {@code position} counting from the lowest price; callers iterate {@code 0..size}. */
+  PriceLevel at(int position) {
+    return levels[position];
+  }
+
+  int size() {
+    return size;
+  }
+
+  void clear() {
+    Arrays.fill(levels, 0, size, null);
+    size = 0;
+  }
+}
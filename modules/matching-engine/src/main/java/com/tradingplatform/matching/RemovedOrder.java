@@ -0,0 +1,6 @@
+package com.tradingplatform.matching;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record RemovedOrder(UUID orderId, Side side, BigDecimal price, BigDecimal remainingQty) {}
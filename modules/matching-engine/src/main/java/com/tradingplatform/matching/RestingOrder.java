@@ -0,0 +1,31 @@
+package com.tradingplatform.matching;
+
+import java.util.UUID;
+
+/** Book entry linked directly into its price level queue, so cancels unlink in O(1). */
+final class RestingOrder {
+  final UUID orderId;
+  final UUID accountId;
+  final Side side;
+  final long priceTicks;
+  final long restedAtNanos;
+  long remainingLots;
+  PriceLevel level;
+  RestingOrder prev;
+  RestingOrder next;
+
+  RestingOrder(
+      UUID orderId,
+      UUID accountId,
+      Side side,
+      long priceTicks,
+      long remainingLots,
+      long restedAtNanos) {
+    this.orderId = orderId;
+    this.accountId = accountId;
+    this.side = side;
+    this.priceTicks = priceTicks;
+    this.remainingLots = remainingLots;
+    this.restedAtNanos = restedAtNanos;
+  }
+}
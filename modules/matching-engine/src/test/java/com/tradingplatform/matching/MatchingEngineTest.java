@@ -0,0 +1,70 @@
+package com.tradingplatform.matching;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class MatchingEngineTest {
+  @Test
+  void shouldSerializeConcurrentSubmissionsPerSymbol() throws Exception {
+    MatchingEngine engine = new MatchingEngine();
+    try (ExecutorService callers = Executors.newFixedThreadPool(8)) {
+      engine.register("ETHUSDT", new BigDecimal("0.01"), new BigDecimal("0.001"));
+      List<Future<MatchResult>> results = new ArrayList<>();
+      for (int i = 0; i < 200; i++) {
+        Side side = i % 2 == 0 ? Side.BUY : Side.SELL;
+        results.add(
+            callers.submit(
+                () ->
+                    engine.execute(
+                        "ETHUSDT",
+                        book ->
+                            book.submitLimit(
+                                UUID.randomUUID(),
+                                UUID.randomUUID(),
+                                side,
+                                new BigDecimal("2000.00"),
+                                new BigDecimal("1.000"),
+                                System.nanoTime()))));
+      }
+      int fills = 0;
+      for (Future<MatchResult> result : results) {
+        fills += result.get().fills().size();
+      }
+
+      assertEquals(100, fills);
+      assertEquals(0, engine.execute("ETHUSDT", OrderBook::size));
+    }
+  }
+
+  @Test
+  void shouldRejectUnknownSymbolAndPropagateBookErrors() {
+    MatchingEngine engine = new MatchingEngine();
+    engine.register("BTCUSDT", new BigDecimal("0.01"), new BigDecimal("0.001"));
+
+    assertThrows(IllegalArgumentException.class, () -> engine.execute("XRPUSDT", OrderBook::size));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            engine.execute(
+                "BTCUSDT",
+                book ->
+                    book.submitLimit(
+                        UUID.randomUUID(),
+                        UUID.randomUUID(),
+                        Side.BUY,
+                        new BigDecimal("1.001"),
+                        new BigDecimal("1"),
+                        0L)));
+    assertFalse(engine.lock("BTCUSDT").isLocked());
+  }
+}
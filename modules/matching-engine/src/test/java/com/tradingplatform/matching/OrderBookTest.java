@@ -0,0 +1,164 @@
+package com.tradingplatform.matching;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OrderBookTest {
+  private OrderBook book;
+
+  @BeforeEach
+  void setUp() {
+    book = new OrderBook("BTCUSDT", new BigDecimal("0.01"), new BigDecimal("0.001"));
+  }
+
+  @Test
+  void shouldRestNonCrossingOrdersOnBothSides() {
+    book.submitLimit(UUID.randomUUID(), UUID.randomUUID(), Side.BUY, bd("100.00"), bd("1.000"), 1L);
+    book.submitLimit(
+        UUID.randomUUID(), UUID.randomUUID(), Side.SELL, bd("101.00"), bd("2.000"), 2L);
+
+    assertEquals(0, bd("100.00").compareTo(book.bestBid().orElseThrow()));
+    assertEquals(0, bd("101.00").compareTo(book.bestAsk().orElseThrow()));
+    assertEquals(2, book.size());
+  }
+
+  @Test
+  void shouldFillAtMakerPriceInPriceThenTimePriority() {
+    UUID firstAt101 = UUID.randomUUID();
+    UUID secondAt101 = UUID.randomUUID();
+    UUID at100 = UUID.randomUUID();
+    book.submitLimit(firstAt101, UUID.randomUUID(), Side.SELL, bd("101.00"), bd("1.000"), 1L);
+    book.submitLimit(secondAt101, UUID.randomUUID(), Side.SELL, bd("101.00"), bd("1.000"), 2L);
+    book.submitLimit(at100, UUID.randomUUID(), Side.SELL, bd("100.00"), bd("0.500"), 3L);
+
+    UUID taker = UUID.randomUUID();
+    MatchResult result =
+        book.submitLimit(taker, UUID.randomUUID(), Side.BUY, bd("101.00"), bd("2.000"), 4L);
+
+    List<Fill> fills = result.fills();
+    assertEquals(3, fills.size());
+    assertEquals(at100, fills.get(0).makerOrderId());
+    assertEquals(0, bd("100.00").compareTo(fills.get(0).price()));
+    assertEquals(firstAt101, fills.get(1).makerOrderId());
+    assertEquals(0, bd("1.000").compareTo(fills.get(1).qty()));
+    assertEquals(secondAt101, fills.get(2).makerOrderId());
+    assertEquals(0, bd("0.500").compareTo(fills.get(2).qty()));
+    assertFalse(result.rested());
+    assertEquals(0, bd("0.500").compareTo(book.depthAt(Side.SELL, bd("101.00"))));
+    assertTrue(book.contains(secondAt101));
+  }
+
+  @Test
+  void shouldRestRemainderAfterSweepingCrossableLiquidity() {
+    book.submitLimit(UUID.randomUUID(), UUID.randomUUID(), Side.BUY, bd("99.00"), bd("1.000"), 1L);
+
+    UUID taker = UUID.randomUUID();
+    MatchResult result =
+        book.submitLimit(taker, UUID.randomUUID(), Side.SELL, bd("98.50"), bd("1.500"), 2L);
+
+    assertEquals(1, result.fills().size());
+    assertEquals(0, bd("0.500").compareTo(result.restingQty()));
+    assertTrue(book.bestBid().isEmpty());
+    assertEquals(0, bd("98.50").compareTo(book.bestAsk().orElseThrow()));
+  }
+
+  @Test
+  void shouldCancelFromMiddleOfQueue() {
+    UUID first = UUID.randomUUID();
+    UUID middle = UUID.randomUUID();
+    UUID last = UUID.randomUUID();
+    book.submitLimit(first, UUID.randomUUID(), Side.BUY, bd("100.00"), bd("1.000"), 1L);
+    book.submitLimit(middle, UUID.randomUUID(), Side.BUY, bd("100.00"), bd("2.000"), 2L);
+    book.submitLimit(last, UUID.randomUUID(), Side.BUY, bd("100.00"), bd("3.000"), 3L);
+
+    RemovedOrder removed = book.cancel(middle).orElseThrow();
+
+    assertEquals(0, bd("2.000").compareTo(removed.remainingQty()));
+    assertEquals(0, bd("4.000").compareTo(book.depthAt(Side.BUY, bd("100.00"))));
+    assertTrue(book.cancel(middle).isEmpty());
+    MatchResult result =
+        book.submitLimit(
+            UUID.randomUUID(), UUID.randomUUID(), Side.SELL, bd("100.00"), bd("4.000"), 4L);
+    assertEquals(List.of(first, last), result.fills().stream().map(Fill::makerOrderId).toList());
+    assertTrue(book.bestBid().isEmpty());
+  }
+
+  @Test
+  void shouldListMatchableMakersWithoutMutatingBook() {
+    UUID near = UUID.randomUUID();
+    UUID far = UUID.randomUUID();
+    book.submitLimit(near, UUID.randomUUID(), Side.BUY, bd("100.00"), bd("1.000"), 1L);
+    book.submitLimit(far, UUID.randomUUID(), Side.BUY, bd("99.00"), bd("1.000"), 2L);
+    book.submitLimit(UUID.randomUUID(), UUID.randomUUID(), Side.BUY, bd("98.00"), bd("1.000"), 3L);
+
+    assertEquals(
+        List.of(near, far),
+        book.matchableMakers(UUID.randomUUID(), Side.SELL, bd("98.50"), bd("1.500")));
+    assertEquals(3, book.size());
+  }
+
+  @Test
+  void shouldStopBeforeOwnAccountMakerWithoutResting() {
+    UUID account = UUID.randomUUID();
+    UUID other = UUID.randomUUID();
+    UUID own = UUID.randomUUID();
+    UUID behindOwn = UUID.randomUUID();
+    book.submitLimit(other, UUID.randomUUID(), Side.SELL, bd("100.00"), bd("1.000"), 1L);
+    book.submitLimit(own, account, Side.SELL, bd("100.00"), bd("1.000"), 2L);
+    book.submitLimit(behindOwn, UUID.randomUUID(), Side.SELL, bd("100.00"), bd("1.000"), 3L);
+
+    assertEquals(
+        List.of(other), book.matchableMakers(account, Side.BUY, bd("100.00"), bd("3.000")));
+    MatchResult result =
+        book.submitLimit(UUID.randomUUID(), account, Side.BUY, bd("101.00"), bd("3.000"), 4L);
+
+    assertEquals(List.of(other), result.fills().stream().map(Fill::makerOrderId).toList());
+    assertTrue(result.selfTradePrevented());
+    assertFalse(result.rested());
+    assertEquals(0, bd("2.000").compareTo(result.selfTradeQty()));
+    assertTrue(book.bestBid().isEmpty());
+    assertTrue(book.contains(own));
+    assertTrue(book.contains(behindOwn));
+  }
+
+  @Test
+  void shouldRemoveOrdersRestedBeforeCutoff() {
+    UUID old = UUID.randomUUID();
+    UUID fresh = UUID.randomUUID();
+    book.submitLimit(old, UUID.randomUUID(), Side.SELL, bd("105.00"), bd("1.000"), 10L);
+    book.submitLimit(fresh, UUID.randomUUID(), Side.SELL, bd("105.00"), bd("1.000"), 50L);
+
+    List<RemovedOrder> removed = book.removeRestedBefore(20L);
+
+    assertEquals(1, removed.size());
+    assertEquals(old, removed.getFirst().orderId());
+    assertTrue(book.contains(fresh));
+  }
+
+  @Test
+  void shouldRejectPricesOffTheTickGrid() {
+    assertFalse(book.accepts(bd("100.005"), bd("1.000")));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            book.submitLimit(
+                UUID.randomUUID(), UUID.randomUUID(), Side.BUY, bd("100.005"), bd("1.000"), 1L));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            book.submitLimit(
+                UUID.randomUUID(), UUID.randomUUID(), Side.BUY, bd("100.00"), bd("0.0005"), 1L));
+  }
+
+  private static BigDecimal bd(String value) {
+    return new BigDecimal(value);
+  }
+}
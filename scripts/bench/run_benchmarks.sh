@@ -0,0 +1,21 @@
+#!/usr/bin/env bash
+set -euo pipefail
+
+# Usage: scripts/bench/run_benchmarks.sh [jmh-args...]
+# RESULTS defaults to benchmarks/target/jmh-result.json. When BASELINE points at an earlier
+# result file the run is compared against it and the script fails on a regression.
+RESULTS="${RESULTS:-benchmarks/target/jmh-result.json}"
+BASELINE="${BASELINE:-}"
+THRESHOLD_PERCENT="${THRESHOLD_PERCENT:-10}"
+
+mvn -B -q -pl benchmarks -am package -DskipTests
+
+mkdir -p "$(dirname "${RESULTS}")"
+java -jar benchmarks/target/benchmarks.jar -rf json -rff "${RESULTS}" "$@"
+echo "JMH results written to ${RESULTS}"
+
+if [[ -n "${BASELINE}" ]]; then
+  java -cp benchmarks/target/benchmarks.jar \
+    com.tradingplatform.benchmarks.BenchmarkResultComparator \
+    "${BASELINE}" "${RESULTS}" "${THRESHOLD_PERCENT}"
+fi